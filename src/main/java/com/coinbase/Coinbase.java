@@ -7,6 +7,7 @@ import android.util.Log;
 import android.util.Pair;
 import au.com.bytecode.opencsv.CSVReader;
 import com.coinbase.api.internal.ApiConstants;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.auth.AccessToken;
 import com.coinbase.cache.OkHttpInMemoryLruCache;
 import com.coinbase.coinbase_java.BuildConfig;
@@ -77,36 +78,35 @@ import com.coinbase.v2.models.transactions.Transactions;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.io.StringReader;
 import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.net.URLConnection;
 import java.net.URLEncoder;
-import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocketFactory;
+import java.util.Set;
+import java.util.WeakHashMap;
+import okhttp3.ConnectionPool;
 import okhttp3.Interceptor;
 import okhttp3.Interceptor.Chain;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
 import okhttp3.OkHttpClient.Builder;
 import okhttp3.Protocol;
-import okio.Buffer;
-import org.apache.commons.codec.binary.Hex;
-import org.apache.commons.io.IOUtils;
+import okhttp3.RequestBody;
+import okhttp3.internal.http.HttpMethod;
 import org.joda.money.CurrencyUnit;
 import org.joda.money.IllegalCurrencyException;
 import org.joda.money.Money;
@@ -116,14 +116,16 @@ import retrofit2.CallAdapter.Factory;
 import retrofit2.Callback;
 import retrofit2.Retrofit;
 import retrofit2.adapter.rxjava.RxJavaCallAdapterFactory;
-import retrofit2.converter.gson.GsonConverterFactory;
 import rx.Observable;
 import rx.Scheduler;
 import rx.schedulers.Schedulers;
 
 public class Coinbase {
     private static final int DEFAULT_CACHE_SIZE = 524288;
-    protected static final ObjectMapper objectMapper = ObjectMapperProvider.createDefaultMapper();
+    private static final MediaType JSON = MediaType.parse("application/json");
+    private static final String PREWARM_PATH = "time";
+    private static final String TAG = "Coinbase";
+    protected static final ObjectMapper objectMapper = Serializers.getObjectMapper();
     protected String _accessToken;
     protected String _accountId;
     protected String _apiKey;
@@ -140,6 +142,14 @@ public class Coinbase {
     protected SSLContext _sslContext;
     protected final HashMap<String, Pair<ApiInterface, Retrofit>> mInitializedServices = new HashMap();
     protected final HashMap<String, Pair<ApiInterfaceRx, Retrofit>> mInitializedServicesRx = new HashMap();
+    private final ConnectionStats mConnectionStats = new ConnectionStats();
+    private final Set<OkHttpClient> mDerivedClients = Collections.newSetFromMap(new WeakHashMap());
+    private boolean mHttp2Enabled = true;
+    private final MutationInterceptor mMutationInterceptor = new MutationInterceptor();
+    private HmacSigner mHmacSigner;
+    private OkHttpClient mRootClient;
+    private OkHttpClient mThirdPartyClient;
+    protected final SingleFlightInterceptor mSingleFlight = new SingleFlightInterceptor();
 
     public Coinbase() {
         try {
@@ -162,12 +172,144 @@ public class Coinbase {
         if (sslContext != null) {
             clientBuilder.sslSocketFactory(sslContext.getSocketFactory());
         }
-        clientBuilder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
+        if (this.mHttp2Enabled) {
+            clientBuilder.protocols(Arrays.asList(new Protocol[]{Protocol.HTTP_2, Protocol.HTTP_1_1}));
+        } else {
+            clientBuilder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
+        }
+        clientBuilder.addInterceptor(this.mMutationInterceptor);
+        clientBuilder.addNetworkInterceptor(this.mConnectionStats);
         clientBuilder.readTimeout(30, TimeUnit.SECONDS);
         clientBuilder.connectTimeout(30, TimeUnit.SECONDS);
         return clientBuilder;
     }
 
+    protected synchronized OkHttpClient getRootClient() {
+        if (this.mRootClient == null) {
+            this.mRootClient = buildClient(generateClientBuilder(this._sslContext));
+        }
+        return this.mRootClient;
+    }
+
+    /**
+     * The client for hosts other than Coinbase's, which the pinned CAs of the root client don't
+     * cover. It trusts the platform's CAs but shares the root client's connection pool and
+     * dispatcher.
+     */
+    protected synchronized OkHttpClient getThirdPartyClient() {
+        if (this.mThirdPartyClient == null) {
+            OkHttpClient rootClient = getRootClient();
+            Builder clientBuilder = new Builder().connectionPool(rootClient.connectionPool()).dispatcher(rootClient.dispatcher());
+            clientBuilder.readTimeout(30, TimeUnit.SECONDS);
+            clientBuilder.connectTimeout(30, TimeUnit.SECONDS);
+            this.mThirdPartyClient = buildClient(clientBuilder);
+        }
+        return this.mThirdPartyClient;
+    }
+
+    protected Builder newClientBuilder() {
+        return getRootClient().newBuilder();
+    }
+
+    protected OkHttpClient buildClient(Builder clientBuilder) {
+        OkHttpClient client = clientBuilder.build();
+        synchronized (this.mDerivedClients) {
+            this.mDerivedClients.add(client);
+        }
+        return client;
+    }
+
+    public Set<OkHttpClient> getLiveOkHttpClients() {
+        Set<OkHttpClient> hashSet;
+        synchronized (this.mDerivedClients) {
+            hashSet = new HashSet(this.mDerivedClients);
+        }
+        return hashSet;
+    }
+
+    public int getLiveClientCount() {
+        return getLiveOkHttpClients().size();
+    }
+
+    public int getConnectionPoolCount() {
+        Set<ConnectionPool> pools = Collections.newSetFromMap(new IdentityHashMap());
+        for (OkHttpClient client : getLiveOkHttpClients()) {
+            pools.add(client.connectionPool());
+        }
+        return pools.size();
+    }
+
+    public int getPooledConnectionCount() {
+        return getRootClient().connectionPool().connectionCount();
+    }
+
+    protected synchronized HmacSigner getHmacSigner() {
+        if (this.mHmacSigner == null) {
+            this.mHmacSigner = new HmacSigner(this._apiSecret.getBytes());
+        }
+        return this.mHmacSigner;
+    }
+
+    public ConnectionStats getConnectionStats() {
+        return this.mConnectionStats;
+    }
+
+    public SingleFlightInterceptor getSingleFlight() {
+        return this.mSingleFlight;
+    }
+
+    /**
+     * Listens to every request, on any client of this instance, that may have changed server
+     * state.
+     */
+    public void addMutationListener(MutationInterceptor.Listener listener) {
+        this.mMutationInterceptor.addListener(listener);
+    }
+
+    public void removeMutationListener(MutationInterceptor.Listener listener) {
+        this.mMutationInterceptor.removeListener(listener);
+    }
+
+    /**
+     * HTTP/2 is negotiated by default, multiplexing parallel requests to a host on one connection.
+     * Changing it drops the root client and every service built on it; calls already in flight
+     * finish on the old client.
+     */
+    public synchronized void setHttp2Enabled(boolean http2Enabled) {
+        if (this.mHttp2Enabled != http2Enabled) {
+            this.mHttp2Enabled = http2Enabled;
+            this.mRootClient = null;
+            this.mThirdPartyClient = null;
+            clearServices();
+        }
+    }
+
+    /**
+     * Drops the cached services, so each is built again on the current root client when next used.
+     */
+    protected synchronized void clearServices() {
+        this.mInitializedServices.clear();
+        this.mInitializedServicesRx.clear();
+    }
+
+    /**
+     * Opens a connection to the API host in the background, so the first API requests don't pay
+     * for the TLS handshake. The connection stays in the shared pool until it has been idle for
+     * the pool's keep alive.
+     */
+    public void prewarmConnection() {
+        okhttp3.Request request = new okhttp3.Request.Builder().url(this._baseV2ApiUrl.toString() + PREWARM_PATH).build();
+        getRootClient().newCall(request).enqueue(new okhttp3.Callback() {
+            public void onFailure(okhttp3.Call call, IOException e) {
+                Log.w(Coinbase.TAG, "Couldn't prewarm the API connection", e);
+            }
+
+            public void onResponse(okhttp3.Call call, okhttp3.Response response) {
+                response.close();
+            }
+        });
+    }
+
     public void setBaseUrl(String url) {
         try {
             setBaseUrl(url, SSLContext.getDefault());
@@ -219,6 +361,7 @@ public class Coinbase {
         this._sslContext = builder.ssl_context;
         this._callbackVerifier = builder.callback_verifier;
         this._backgroundScheduler = builder.scheduler;
+        this.mHttp2Enabled = builder.http2Enabled;
         this._cache = new OkHttpInMemoryLruCache(builder.cacheSize > 0 ? builder.cacheSize : DEFAULT_CACHE_SIZE);
         try {
             if (this._baseV1ApiUrl == null) {
@@ -293,7 +436,7 @@ public class Coinbase {
 
     public Money getBalance(String accountId) throws IOException, CoinbaseException {
         try {
-            return (Money) deserialize(doHttp(new URL(this._baseV1ApiUrl, "accounts/" + accountId + "/balance"), "GET", null), Money.class);
+            return (Money) doHttp(new URL(this._baseV1ApiUrl, "accounts/" + accountId + "/balance"), "GET", null, null, Money.class);
         } catch (MalformedURLException e) {
             throw new CoinbaseException("Invalid account id");
         }
@@ -363,7 +506,7 @@ public class Coinbase {
 
     public Money getSpotPrice(CurrencyUnit currency) throws IOException, CoinbaseException {
         try {
-            return (Money) deserialize(doHttp(new URL(this._baseV1ApiUrl, "prices/spot_rate?currency=" + URLEncoder.encode(currency.getCurrencyCode(), "UTF-8")), "GET", null), Money.class);
+            return (Money) doHttp(new URL(this._baseV1ApiUrl, "prices/spot_rate?currency=" + URLEncoder.encode(currency.getCurrencyCode(), "UTF-8")), "GET", null, null, Money.class);
         } catch (MalformedURLException ex) {
             throw new AssertionError(ex);
         }
@@ -381,7 +524,7 @@ public class Coinbase {
             qtyParam = "native_qty";
         }
         try {
-            return (Quote) deserialize(doHttp(new URL(this._baseV1ApiUrl, "prices/buy?" + qtyParam + "=" + URLEncoder.encode(amount.getAmount().toPlainString(), "UTF-8") + (this._accountId != null ? "&account_id=" + this._accountId : "") + (paymentMethodId != null ? "&payment_method_id=" + paymentMethodId : "")), "GET", null), Quote.class);
+            return (Quote) doHttp(new URL(this._baseV1ApiUrl, "prices/buy?" + qtyParam + "=" + URLEncoder.encode(amount.getAmount().toPlainString(), "UTF-8") + (this._accountId != null ? "&account_id=" + this._accountId : "") + (paymentMethodId != null ? "&payment_method_id=" + paymentMethodId : "")), "GET", null, null, Quote.class);
         } catch (MalformedURLException ex) {
             throw new AssertionError(ex);
         }
@@ -399,7 +542,7 @@ public class Coinbase {
             qtyParam = "native_qty";
         }
         try {
-            return (Quote) deserialize(doHttp(new URL(this._baseV1ApiUrl, "prices/sell?" + qtyParam + "=" + URLEncoder.encode(amount.getAmount().toPlainString(), "UTF-8") + (this._accountId != null ? "&account_id=" + this._accountId : "") + (paymentMethodId != null ? "&payment_method_id=" + paymentMethodId : "")), "GET", null), Quote.class);
+            return (Quote) doHttp(new URL(this._baseV1ApiUrl, "prices/sell?" + qtyParam + "=" + URLEncoder.encode(amount.getAmount().toPlainString(), "UTF-8") + (this._accountId != null ? "&account_id=" + this._accountId : "") + (paymentMethodId != null ? "&payment_method_id=" + paymentMethodId : "")), "GET", null, null, Quote.class);
         } catch (MalformedURLException ex) {
             throw new AssertionError(ex);
         }
@@ -616,7 +759,7 @@ public class Coinbase {
 
     public Map<String, BigDecimal> getExchangeRates() throws IOException, CoinbaseException {
         try {
-            return (Map) deserialize(doHttp(new URL(this._baseV1ApiUrl, "currencies/exchange_rates"), "GET", null), new TypeReference<HashMap<String, BigDecimal>>() {
+            return (Map) doHttp(new URL(this._baseV1ApiUrl, "currencies/exchange_rates"), "GET", null, null, new TypeReference<HashMap<String, BigDecimal>>() {
             });
         } catch (MalformedURLException ex) {
             throw new AssertionError(ex);
@@ -625,7 +768,7 @@ public class Coinbase {
 
     public List<CurrencyUnit> getSupportedCurrencies() throws IOException, CoinbaseException {
         try {
-            List<List<String>> rawResponse = (List) deserialize(doHttp(new URL(this._baseV1ApiUrl, ApiConstants.CURRENCIES), "GET", null), new TypeReference<List<List<String>>>() {
+            List<List<String>> rawResponse = (List) doHttp(new URL(this._baseV1ApiUrl, ApiConstants.CURRENCIES), "GET", null, null, new TypeReference<List<List<String>>>() {
             });
             List<CurrencyUnit> result = new ArrayList();
             for (List<String> currency : rawResponse) {
@@ -1035,27 +1178,15 @@ public class Coinbase {
         return this._callbackVerifier.verifyCallback(body, signature);
     }
 
-    protected void doHmacAuthentication(URL url, String body, HttpsURLConnection conn) throws IOException {
+    protected void doHmacAuthentication(URL url, String body, okhttp3.Request.Builder request) throws IOException {
         String nonce = String.valueOf(System.currentTimeMillis());
-        StringBuilder append = new StringBuilder().append(nonce).append(url.toString());
-        if (body == null) {
-            body = "";
-        }
-        String message = append.append(body).toString();
-        try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(this._apiSecret.getBytes(), "HmacSHA256"));
-            String signature = new String(Hex.encodeHex(mac.doFinal(message.getBytes())));
-            conn.setRequestProperty("ACCESS_KEY", this._apiKey);
-            conn.setRequestProperty("ACCESS_SIGNATURE", signature);
-            conn.setRequestProperty("ACCESS_NONCE", nonce);
-        } catch (Throwable t) {
-            IOException iOException = new IOException(t);
-        }
+        request.header("ACCESS_KEY", this._apiKey);
+        request.header("ACCESS_SIGNATURE", getHmacSigner().sign(nonce, url.toString(), body));
+        request.header("ACCESS_NONCE", nonce);
     }
 
-    protected void doAccessTokenAuthentication(HttpsURLConnection conn) {
-        conn.setRequestProperty("Authorization", "Bearer " + this._accessToken);
+    protected void doAccessTokenAuthentication(okhttp3.Request.Builder request) {
+        request.header("Authorization", "Bearer " + this._accessToken);
     }
 
     protected String doHttp(URL url, String method, Object requestBody) throws IOException, CoinbaseException {
@@ -1063,82 +1194,82 @@ public class Coinbase {
     }
 
     protected String doHttp(URL url, String method, Object requestBody, HashMap<String, String> headers) throws IOException, CoinbaseException {
-        String errorBody;
-        URLConnection urlConnection = url.openConnection();
-        if (urlConnection instanceof HttpsURLConnection) {
-            HttpsURLConnection conn = (HttpsURLConnection) urlConnection;
-            conn.setSSLSocketFactory(this._socketFactory);
-            conn.setRequestMethod(method);
-            String body = null;
-            if (requestBody != null) {
-                body = objectMapper.writeValueAsString(requestBody);
-                conn.setRequestProperty("Content-Type", "application/json");
-            }
-            if (this._accessToken != null) {
-                doAccessTokenAuthentication(conn);
-            } else if (!(this._apiKey == null || this._apiSecret == null)) {
-                doHmacAuthentication(url, body, conn);
+        okhttp3.Response response = execute(url, method, requestBody, headers);
+        try {
+            return response.body().string();
+        } finally {
+            response.close();
+        }
+    }
+
+    /**
+     * Like {@link #doHttp(URL, String, Object, HashMap)}, but parses the response while it is
+     * read instead of buffering it into a String first.
+     */
+    protected <T> T doHttp(URL url, String method, Object requestBody, HashMap<String, String> headers, Class<T> clazz) throws IOException, CoinbaseException {
+        okhttp3.Response response = execute(url, method, requestBody, headers);
+        try {
+            return objectMapper.readValue(response.body().charStream(), (Class) clazz);
+        } finally {
+            response.close();
+        }
+    }
+
+    protected <T> T doHttp(URL url, String method, Object requestBody, HashMap<String, String> headers, TypeReference<T> typeReference) throws IOException, CoinbaseException {
+        okhttp3.Response response = execute(url, method, requestBody, headers);
+        try {
+            return objectMapper.readValue(response.body().charStream(), (TypeReference) typeReference);
+        } finally {
+            response.close();
+        }
+    }
+
+    /**
+     * Runs a v1 request on the shared client and returns the successful response, whose body the
+     * caller has to close. Errors are translated like {@link #handleErrors(Response)} does.
+     */
+    private okhttp3.Response execute(URL url, String method, Object requestBody, HashMap<String, String> headers) throws IOException, CoinbaseException {
+        okhttp3.Request.Builder request = new okhttp3.Request.Builder().url(url);
+        String body = null;
+        if (requestBody != null) {
+            body = objectMapper.writeValueAsString(requestBody);
+        }
+        if (this._accessToken != null) {
+            doAccessTokenAuthentication(request);
+        } else if (!(this._apiKey == null || this._apiSecret == null)) {
+            doHmacAuthentication(url, body, request);
+        }
+        if (headers != null) {
+            for (String key : headers.keySet()) {
+                request.header(key, (String) headers.get(key));
             }
-            if (headers != null) {
-                for (String key : headers.keySet()) {
-                    conn.setRequestProperty(key, (String) headers.get(key));
-                }
+        }
+        request.method(method, body != null ? RequestBody.create(JSON, body) : HttpMethod.requiresRequestBody(method) ? RequestBody.create(null, new byte[0]) : null);
+        okhttp3.Response response = getRootClient().newCall(request.build()).execute();
+        if (response.isSuccessful()) {
+            return response;
+        }
+        try {
+            if (402 == response.code()) {
+                throw new TwoFactorRequiredException();
             }
-            if (body != null) {
-                conn.setDoOutput(true);
-                OutputStream outputStream = conn.getOutputStream();
+            String errorBody = response.body().string();
+            MediaType contentType = response.body().contentType();
+            if (contentType != null && contentType.subtype().toLowerCase().contains("json")) {
+                Response coinbaseResponse;
                 try {
-                    outputStream.write(body.getBytes(Charset.forName("UTF-8")));
-                } finally {
-                    outputStream.close();
+                    coinbaseResponse = (Response) deserialize(errorBody, ResponseV1.class);
+                } catch (Exception e) {
+                    coinbaseResponse = (Response) deserialize(errorBody, ResponseV2.class);
                 }
+                handleErrors(coinbaseResponse);
             }
-            InputStream is = null;
-            InputStream es = null;
-            try {
-                is = conn.getInputStream();
-                String str = IOUtils.toString(is, "UTF-8");
-                if (is != null) {
-                    is.close();
-                }
-                if (es != null) {
-                    es.close();
-                }
-                return str;
-            } catch (Exception e) {
-                throw new CoinbaseException(errorBody);
-            } catch (IOException e2) {
-                if (402 == conn.getResponseCode()) {
-                    throw new TwoFactorRequiredException();
-                }
-                es = conn.getErrorStream();
-                errorBody = null;
-                if (es != null) {
-                    errorBody = IOUtils.toString(es, "UTF-8");
-                    if (errorBody != null && conn.getContentType().toLowerCase().contains("json")) {
-                        Response coinbaseResponse;
-                        try {
-                            coinbaseResponse = (Response) deserialize(errorBody, ResponseV1.class);
-                        } catch (Exception e3) {
-                            coinbaseResponse = (Response) deserialize(errorBody, ResponseV2.class);
-                        }
-                        handleErrors(coinbaseResponse);
-                    }
-                }
-                if (401 == conn.getResponseCode()) {
-                    throw new UnauthorizedException(errorBody);
-                }
-                throw e2;
-            } catch (Throwable th) {
-                if (is != null) {
-                    is.close();
-                }
-                if (es != null) {
-                    es.close();
-                }
+            if (401 == response.code()) {
+                throw new UnauthorizedException(errorBody);
             }
-        } else {
-            throw new RuntimeException("Custom Base URL must return javax.net.ssl.HttpsURLConnection on openConnection.");
+            throw new IOException("Unexpected response " + response.code() + " for " + method + " " + url);
+        } finally {
+            response.close();
         }
     }
 
@@ -1155,19 +1286,19 @@ public class Coinbase {
     }
 
     protected <T extends Response> T get(URL url, HashMap<String, String> headers, Class<T> responseClass) throws IOException, CoinbaseException {
-        return handleErrors((Response) deserialize(doHttp(url, "GET", null, headers), (Class) responseClass));
+        return handleErrors((Response) doHttp(url, "GET", null, headers, (Class) responseClass));
     }
 
     protected <T extends Response> T post(URL url, Object entity, Class<T> responseClass) throws CoinbaseException, IOException {
-        return handleErrors((Response) deserialize(doHttp(url, "POST", entity), (Class) responseClass));
+        return handleErrors((Response) doHttp(url, "POST", entity, null, (Class) responseClass));
     }
 
     protected <T extends Response> T put(URL url, Object entity, Class<T> responseClass) throws CoinbaseException, IOException {
-        return handleErrors((Response) deserialize(doHttp(url, "PUT", entity), (Class) responseClass));
+        return handleErrors((Response) doHttp(url, "PUT", entity, null, (Class) responseClass));
     }
 
     protected <T extends Response> T delete(URL url, Class<T> responseClass) throws CoinbaseException, IOException {
-        return handleErrors((Response) deserialize(doHttp(url, "DELETE", null), (Class) responseClass));
+        return handleErrors((Response) doHttp(url, "DELETE", null, null, (Class) responseClass));
     }
 
     protected static <T extends Response> T handleErrors(T response) throws CoinbaseException {
@@ -1221,21 +1352,7 @@ public class Coinbase {
                 String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
                 String method = request.method().toUpperCase();
                 String path = request.url().url().getFile();
-                String body = "";
-                if (request.body() != null) {
-                    okhttp3.Request requestCopy = request.newBuilder().build();
-                    Buffer buffer = new Buffer();
-                    requestCopy.body().writeTo(buffer);
-                    body = buffer.readUtf8();
-                }
-                String message = timestamp + method + path + body;
-                try {
-                    Mac mac = Mac.getInstance("HmacSHA256");
-                    mac.init(new SecretKeySpec(Coinbase.this._apiSecret.getBytes(), "HmacSHA256"));
-                    return chain.proceed(request.newBuilder().addHeader("CB-ACCESS-KEY", Coinbase.this._apiKey).addHeader("CB-ACCESS_SIGN", new String(Hex.encodeHex(mac.doFinal(message.getBytes())))).addHeader("CB-ACCESS-TIMESTAMP", timestamp).build());
-                } catch (Throwable t) {
-                    IOException iOException = new IOException(t);
-                }
+                return chain.proceed(request.newBuilder().addHeader("CB-ACCESS-KEY", Coinbase.this._apiKey).addHeader("CB-ACCESS_SIGN", Coinbase.this.getHmacSigner().sign(timestamp, method, path, request.body())).addHeader("CB-ACCESS-TIMESTAMP", timestamp).build());
             }
         };
     }
@@ -1306,7 +1423,7 @@ public class Coinbase {
         if (this.mInitializedServices.containsKey(url)) {
             pair = (Pair) this.mInitializedServices.get(url);
         } else {
-            Builder clientBuilder = generateClientBuilder(this._sslContext);
+            Builder clientBuilder = newClientBuilder();
             if (this._accessToken != null) {
                 clientBuilder.addInterceptor(buildOAuthInterceptor());
             }
@@ -1314,9 +1431,10 @@ public class Coinbase {
             clientBuilder.addInterceptor(languageInterceptor());
             clientBuilder.addInterceptor(deviceInfoInterceptor());
             clientBuilder.addInterceptor(this._cache.createInterceptor());
+            clientBuilder.addInterceptor(this.mSingleFlight);
             clientBuilder.addInterceptor(loggingInterceptor());
             clientBuilder.addNetworkInterceptor(networkSniffingInterceptor());
-            Retrofit retrofit = new Retrofit.Builder().baseUrl(url).client(clientBuilder.build()).addConverterFactory(GsonConverterFactory.create()).build();
+            Retrofit retrofit = new Retrofit.Builder().baseUrl(url).client(buildClient(clientBuilder)).addConverterFactory(Serializers.getGsonConverterFactory()).build();
             Pair<ApiInterface, Retrofit> servicePair = new Pair((ApiInterface) retrofit.create(ApiInterface.class), retrofit);
             this.mInitializedServices.put(url, servicePair);
             pair = servicePair;
@@ -1338,7 +1456,7 @@ public class Coinbase {
             pair = (Pair) this.mInitializedServicesRx.get(url);
         } else {
             Factory create;
-            Builder clientBuilder = generateClientBuilder(this._sslContext);
+            Builder clientBuilder = newClientBuilder();
             if (this._accessToken != null) {
                 clientBuilder.addInterceptor(buildOAuthInterceptor());
             }
@@ -1346,15 +1464,16 @@ public class Coinbase {
             clientBuilder.addInterceptor(languageInterceptor());
             clientBuilder.addInterceptor(deviceInfoInterceptor());
             clientBuilder.addInterceptor(this._cache.createInterceptor());
+            clientBuilder.addInterceptor(this.mSingleFlight);
             clientBuilder.addInterceptor(loggingInterceptor());
             clientBuilder.addNetworkInterceptor(networkSniffingInterceptor());
-            Retrofit.Builder client = new Retrofit.Builder().baseUrl(url).client(clientBuilder.build());
+            Retrofit.Builder client = new Retrofit.Builder().baseUrl(url).client(buildClient(clientBuilder));
             if (this._backgroundScheduler == null) {
                 create = RxJavaCallAdapterFactory.create();
             } else {
                 create = RxJavaCallAdapterFactory.createWithScheduler(this._backgroundScheduler);
             }
-            Retrofit retrofit = client.addCallAdapterFactory(create).addConverterFactory(GsonConverterFactory.create()).build();
+            Retrofit retrofit = client.addCallAdapterFactory(create).addConverterFactory(Serializers.getGsonConverterFactory()).build();
             Pair<ApiInterfaceRx, Retrofit> servicePair = new Pair((ApiInterfaceRx) retrofit.create(ApiInterfaceRx.class), retrofit);
             this.mInitializedServicesRx.put(url, servicePair);
             pair = servicePair;
@@ -1389,6 +1508,14 @@ public class Coinbase {
         return call;
     }
 
+    /**
+     * Refreshes the tokens on the calling thread. Unlike {@link #refreshTokens}, this leaves the
+     * client's access token alone; callers init the client with the new one.
+     */
+    public retrofit2.Response<AccessToken> executeRefreshTokens(String clientId, String clientSecret, String refreshToken) throws IOException {
+        return ((ApiInterface) getOAuthApiService().first).refreshTokens(getRefreshTokensParams(clientId, clientSecret, refreshToken)).execute();
+    }
+
     public Observable<Pair<retrofit2.Response<AccessToken>, Retrofit>> refreshTokensRx(String clientId, String clientSecret, String refreshToken) {
         HashMap<String, Object> params = getRefreshTokensParams(clientId, clientSecret, refreshToken);
         Pair<ApiInterfaceRx, Retrofit> apiRetrofitPair = getOAuthApiServiceRx();
@@ -13,6 +13,7 @@ public class CoinbaseBuilder {
     URL base_oauth_url;
     int cacheSize;
     CallbackVerifier callback_verifier;
+    boolean http2Enabled = true;
     Scheduler scheduler;
     SSLContext ssl_context;
 
@@ -61,6 +62,11 @@ public class CoinbaseBuilder {
         return this;
     }
 
+    public CoinbaseBuilder withHttp2(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+        return this;
+    }
+
     public CoinbaseBuilder cacheSize(int cacheSize) {
         this.cacheSize = cacheSize;
         return this;
@@ -0,0 +1,104 @@
+package com.coinbase;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import okhttp3.Connection;
+import okhttp3.Interceptor;
+import okhttp3.Interceptor.Chain;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Network interceptor counting, per request that reaches the network, whether it went out on a
+ * connection an earlier request already used and which protocol that connection speaks. With
+ * HTTP/2 a burst of parallel requests to one host should show a single new connection.
+ */
+public final class ConnectionStats implements Interceptor {
+    private final Set<Connection> mConnections = Collections.newSetFromMap(new WeakHashMap());
+    private int mHttp2Requests;
+    private final Logger mLogger = LoggerFactory.getLogger(ConnectionStats.class);
+    private int mNewConnections;
+    private int mRequests;
+    private int mReusedRequests;
+
+    public static final class Snapshot {
+        private final int mHttp2Requests;
+        private final int mNewConnections;
+        private final int mRequests;
+        private final int mReusedRequests;
+
+        Snapshot(int requests, int reusedRequests, int newConnections, int http2Requests) {
+            this.mRequests = requests;
+            this.mReusedRequests = reusedRequests;
+            this.mNewConnections = newConnections;
+            this.mHttp2Requests = http2Requests;
+        }
+
+        public int getRequests() {
+            return this.mRequests;
+        }
+
+        /**
+         * Requests sent on a connection an earlier request had used, including requests
+         * multiplexed on a connection shared with requests still in flight.
+         */
+        public int getReusedRequests() {
+            return this.mReusedRequests;
+        }
+
+        public int getNewConnections() {
+            return this.mNewConnections;
+        }
+
+        public int getHttp2Requests() {
+            return this.mHttp2Requests;
+        }
+
+        public float getReuseRatio() {
+            return this.mRequests == 0 ? 0.0f : ((float) this.mReusedRequests) / ((float) this.mRequests);
+        }
+
+        public String toString() {
+            return "requests=" + this.mRequests + ", reused=" + this.mReusedRequests + ", newConnections=" + this.mNewConnections + ", http2=" + this.mHttp2Requests;
+        }
+    }
+
+    public Response intercept(Chain chain) throws IOException {
+        Connection connection = chain.connection();
+        if (connection != null) {
+            boolean reused;
+            synchronized (this) {
+                reused = !this.mConnections.add(connection);
+                this.mRequests++;
+                if (reused) {
+                    this.mReusedRequests++;
+                } else {
+                    this.mNewConnections++;
+                }
+                if (connection.protocol() == Protocol.HTTP_2) {
+                    this.mHttp2Requests++;
+                }
+            }
+            if (this.mLogger.isDebugEnabled()) {
+                this.mLogger.debug("{} {} on {} connection {}", chain.request().method(), chain.request().url().encodedPath(), reused ? "reused" : "new", connection);
+            }
+        }
+        return chain.proceed(chain.request());
+    }
+
+    public synchronized Snapshot getSnapshot() {
+        return new Snapshot(this.mRequests, this.mReusedRequests, this.mNewConnections, this.mHttp2Requests);
+    }
+
+    public synchronized void reset() {
+        this.mConnections.clear();
+        this.mRequests = 0;
+        this.mReusedRequests = 0;
+        this.mNewConnections = 0;
+        this.mHttp2Requests = 0;
+    }
+}
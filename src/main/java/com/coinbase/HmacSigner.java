@@ -0,0 +1,98 @@
+package com.coinbase;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.security.GeneralSecurityException;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Signs API key requests with HMAC-SHA256 of one secret. Every thread keeps its own initialized
+ * {@link Mac}, so a signature costs neither a provider lookup nor a key schedule, and the parts of
+ * the message are fed to it one after the other instead of being concatenated first. Request
+ * bodies are streamed into it as they are written.
+ */
+public final class HmacSigner {
+    static final String ALGORITHM = "HmacSHA256";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private final SecretKeySpec mKey;
+    private final ThreadLocal<Mac> mMacs = new ThreadLocal();
+
+    static final class MacOutputStream extends OutputStream {
+        private final Mac mMac;
+
+        MacOutputStream(Mac mac) {
+            this.mMac = mac;
+        }
+
+        public void write(int b) {
+            this.mMac.update((byte) b);
+        }
+
+        public void write(byte[] b, int offset, int length) {
+            this.mMac.update(b, offset, length);
+        }
+    }
+
+    public HmacSigner(byte[] secret) {
+        this.mKey = new SecretKeySpec(secret, ALGORITHM);
+    }
+
+    /**
+     * The hex encoded signature of the concatenation of the parts, each encoded as UTF-8.
+     */
+    public String sign(String... parts) throws IOException {
+        Mac mac = getMac();
+        for (String part : parts) {
+            update(mac, part);
+        }
+        return new String(Hex.encodeHex(mac.doFinal()));
+    }
+
+    /**
+     * The hex encoded signature of timestamp, method and path followed by the bytes the body
+     * writes, if there is one.
+     */
+    public String sign(String timestamp, String method, String path, RequestBody body) throws IOException {
+        Mac mac = getMac();
+        update(mac, timestamp);
+        update(mac, method);
+        update(mac, path);
+        if (body != null) {
+            BufferedSink sink = Okio.buffer(Okio.sink(new MacOutputStream(mac)));
+            body.writeTo(sink);
+            sink.flush();
+        }
+        return new String(Hex.encodeHex(mac.doFinal()));
+    }
+
+    private static void update(Mac mac, String part) {
+        if (part != null) {
+            mac.update(part.getBytes(UTF_8));
+        }
+    }
+
+    /**
+     * This thread's Mac, reset in case the last signature on this thread was abandoned halfway.
+     */
+    private Mac getMac() throws IOException {
+        Mac mac = (Mac) this.mMacs.get();
+        if (mac == null) {
+            try {
+                mac = Mac.getInstance(ALGORITHM);
+                mac.init(this.mKey);
+            } catch (GeneralSecurityException e) {
+                throw new IOException(e);
+            }
+            this.mMacs.set(mac);
+        } else {
+            mac.reset();
+        }
+        return mac;
+    }
+}
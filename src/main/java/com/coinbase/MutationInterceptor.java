@@ -0,0 +1,52 @@
+package com.coinbase;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import okhttp3.Interceptor;
+import okhttp3.Interceptor.Chain;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Tells listeners about every request that may have changed server state, i.e. anything but GET
+ * and HEAD, once it completed. Requests that failed without a response are reported too, since
+ * the server may still have applied them.
+ */
+public final class MutationInterceptor implements Interceptor {
+    private static final String GET = "GET";
+    private static final String HEAD = "HEAD";
+    private final List<Listener> mListeners = new CopyOnWriteArrayList();
+
+    public interface Listener {
+        /**
+         * Called on the thread that executed the request. The code is 0 when no response arrived.
+         */
+        void onMutation(String method, String encodedPath, int code);
+    }
+
+    public void addListener(Listener listener) {
+        this.mListeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        this.mListeners.remove(listener);
+    }
+
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (GET.equals(request.method()) || HEAD.equals(request.method())) {
+            return chain.proceed(request);
+        }
+        int code = 0;
+        try {
+            Response response = chain.proceed(request);
+            code = response.code();
+            return response;
+        } finally {
+            for (Listener listener : this.mListeners) {
+                listener.onMutation(request.method(), request.url().encodedPath(), code);
+            }
+        }
+    }
+}
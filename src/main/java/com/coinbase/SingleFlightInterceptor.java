@@ -0,0 +1,224 @@
+package com.coinbase;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CountDownLatch;
+import okhttp3.Interceptor;
+import okhttp3.Interceptor.Chain;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Collapses identical GETs (same URL, Authorization and conditional headers) that are in flight at
+ * the same time into one network call. A conditional call may come back 304 with no body, so it is
+ * never shared with a caller that did not send the same condition. The response is only buffered when another caller joined the call or the
+ * endpoint has a freshness window, during which a successful response is also handed to later
+ * callers; otherwise it is passed through as is. Any other method goes straight through and drops
+ * the responses kept for freshness, since it may have changed them.
+ *
+ * <p>This is the only layer sharing calls in flight; the in-memory cache in front of it relies on
+ * it. Must come after the interceptors that set the Authorization header.
+ */
+public final class SingleFlightInterceptor implements Interceptor {
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String GET = "GET";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private int mCollapsedCalls;
+    private final Map<String, Flight> mFlights = new HashMap();
+    private final Map<String, Flight> mFreshFlights = new HashMap();
+    private final Map<String, Long> mFreshnessWindows = new HashMap();
+    private int mFreshResponses;
+    private long mGeneration;
+    private int mNetworkCalls;
+
+    static final class Flight {
+        private byte[] mBody;
+        private MediaType mContentType;
+        private final CountDownLatch mDone = new CountDownLatch(1);
+        private IOException mError;
+        private long mFreshUntil;
+        private final long mGeneration;
+        private Response mResponse;
+        private int mWaiters;
+
+        Flight(long generation) {
+            this.mGeneration = generation;
+        }
+
+        Response newResponse(Request request) {
+            return this.mResponse.newBuilder().request(request).body(ResponseBody.create(this.mContentType, this.mBody)).build();
+        }
+    }
+
+    /**
+     * Keeps successful responses of GETs whose encoded path starts with the prefix for the given
+     * time after they arrive. The longest matching prefix wins.
+     */
+    public synchronized void setFreshnessWindow(String pathPrefix, long millis) {
+        if (millis > 0) {
+            this.mFreshnessWindows.put(pathPrefix, Long.valueOf(millis));
+        } else {
+            this.mFreshnessWindows.remove(pathPrefix);
+        }
+    }
+
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!GET.equals(request.method())) {
+            invalidate();
+            return chain.proceed(request);
+        }
+        String key = request.url() + " " + request.header(AUTHORIZATION) + " " + request.header(IF_NONE_MATCH) + " " + request.header(IF_MODIFIED_SINCE);
+        boolean retried = false;
+        while (true) {
+            Flight flight;
+            Flight fresh;
+            boolean leader = false;
+            synchronized (this) {
+                pruneFreshFlights(System.currentTimeMillis());
+                fresh = (Flight) this.mFreshFlights.get(key);
+                flight = (Flight) this.mFlights.get(key);
+                if (fresh != null) {
+                    this.mFreshResponses++;
+                } else if (flight == null) {
+                    flight = new Flight(this.mGeneration);
+                    this.mFlights.put(key, flight);
+                    leader = true;
+                    this.mNetworkCalls++;
+                } else {
+                    flight.mWaiters++;
+                    this.mCollapsedCalls++;
+                }
+            }
+            if (fresh != null) {
+                return fresh.newResponse(request);
+            }
+            if (leader) {
+                return execute(chain, request, key, flight);
+            }
+            try {
+                flight.mDone.await();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("Interrupted waiting for " + request.url());
+            }
+            if (flight.mError == null) {
+                return flight.newResponse(request);
+            }
+            if (retried) {
+                throw new IOException(flight.mError.getMessage(), flight.mError);
+            }
+            // The call we waited for failed, possibly only because its caller went away: try once
+            // more, again sharing a single call with the other waiters.
+            retried = true;
+        }
+    }
+
+    private Response execute(Chain chain, Request request, String key, Flight flight) throws IOException {
+        try {
+            Response response = chain.proceed(request);
+            long window;
+            synchronized (this) {
+                // Only a full 2xx response is kept fresh; a 304 has no body for later callers.
+                window = response.isSuccessful() ? getFreshnessWindow(request.url().encodedPath()) : 0;
+                if (flight.mWaiters == 0 && window == 0) {
+                    // Nobody to share the response with: stop taking waiters and pass it through
+                    // without buffering the body.
+                    removeFlight(key, flight);
+                    return response;
+                }
+            }
+            ResponseBody body = response.body();
+            try {
+                flight.mContentType = body.contentType();
+                flight.mBody = body.bytes();
+            } finally {
+                body.close();
+            }
+            flight.mResponse = response.newBuilder().body(null).build();
+            if (window > 0) {
+                flight.mFreshUntil = System.currentTimeMillis() + window;
+            }
+            return flight.newResponse(request);
+        } catch (IOException e) {
+            flight.mError = e;
+            throw e;
+        } catch (RuntimeException e) {
+            flight.mError = new IOException(e);
+            throw e;
+        } finally {
+            if (flight.mError == null && flight.mResponse == null) {
+                flight.mError = new IOException("Call for " + request.url() + " failed");
+            }
+            synchronized (this) {
+                removeFlight(key, flight);
+                if (flight.mError == null && flight.mFreshUntil > 0 && flight.mGeneration == this.mGeneration) {
+                    this.mFreshFlights.put(key, flight);
+                }
+            }
+            flight.mDone.countDown();
+        }
+    }
+
+    private void removeFlight(String key, Flight flight) {
+        if (this.mFlights.get(key) == flight) {
+            this.mFlights.remove(key);
+        }
+    }
+
+    private void pruneFreshFlights(long now) {
+        Iterator<Flight> iterator = this.mFreshFlights.values().iterator();
+        while (iterator.hasNext()) {
+            if (now >= ((Flight) iterator.next()).mFreshUntil) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private long getFreshnessWindow(String path) {
+        long window = 0;
+        int longest = -1;
+        for (Entry<String, Long> entry : this.mFreshnessWindows.entrySet()) {
+            String prefix = (String) entry.getKey();
+            if (prefix.length() > longest && path.startsWith(prefix)) {
+                longest = prefix.length();
+                window = ((Long) entry.getValue()).longValue();
+            }
+        }
+        return window;
+    }
+
+    /**
+     * Drops every response kept for freshness, including those of calls still in flight. Calls in
+     * flight are still shared with the callers waiting for them.
+     */
+    public synchronized void invalidate() {
+        this.mGeneration++;
+        this.mFreshFlights.clear();
+    }
+
+    public synchronized int getNetworkCalls() {
+        return this.mNetworkCalls;
+    }
+
+    /**
+     * Calls that waited for an identical call in flight instead of going to the network.
+     */
+    public synchronized int getCollapsedCalls() {
+        return this.mCollapsedCalls;
+    }
+
+    public synchronized int getFreshResponses() {
+        return this.mFreshResponses;
+    }
+
+    public synchronized String toString() {
+        return "networkCalls=" + this.mNetworkCalls + ", collapsed=" + this.mCollapsedCalls + ", fresh=" + this.mFreshResponses;
+    }
+}
@@ -0,0 +1,17 @@
+package com.coinbase.android;
+
+final /* synthetic */ class CoinbaseApplication$$Lambda$1 implements Runnable {
+    private final CoinbaseApplication arg$1;
+
+    private CoinbaseApplication$$Lambda$1(CoinbaseApplication coinbaseApplication) {
+        this.arg$1 = coinbaseApplication;
+    }
+
+    public static Runnable lambdaFactory$(CoinbaseApplication coinbaseApplication) {
+        return new CoinbaseApplication$$Lambda$1(coinbaseApplication);
+    }
+
+    public void run() {
+        CoinbaseApplication.lambda$new$0(this.arg$1);
+    }
+}
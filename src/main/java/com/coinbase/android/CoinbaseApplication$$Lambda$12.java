@@ -0,0 +1,18 @@
+package com.coinbase.android;
+
+import com.coinbase.api.internal.Serializers;
+
+final /* synthetic */ class CoinbaseApplication$$Lambda$12 implements ApplicationOnCreateListener {
+    private static final CoinbaseApplication$$Lambda$12 instance = new CoinbaseApplication$$Lambda$12();
+
+    private CoinbaseApplication$$Lambda$12() {
+    }
+
+    public static ApplicationOnCreateListener lambdaFactory$() {
+        return instance;
+    }
+
+    public void onCreate() {
+        Serializers.warm();
+    }
+}
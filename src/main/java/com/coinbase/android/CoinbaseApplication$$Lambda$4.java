@@ -0,0 +1,17 @@
+package com.coinbase.android;
+
+final /* synthetic */ class CoinbaseApplication$$Lambda$4 implements ApplicationOnCreateListener {
+    private final CoinbaseApplication arg$1;
+
+    private CoinbaseApplication$$Lambda$4(CoinbaseApplication coinbaseApplication) {
+        this.arg$1 = coinbaseApplication;
+    }
+
+    public static ApplicationOnCreateListener lambdaFactory$(CoinbaseApplication coinbaseApplication) {
+        return new CoinbaseApplication$$Lambda$4(coinbaseApplication);
+    }
+
+    public void onCreate() {
+        CoinbaseApplication.lambda$getStartupInitializers$3(this.arg$1);
+    }
+}
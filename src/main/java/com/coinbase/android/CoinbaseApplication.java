@@ -7,6 +7,8 @@ import android.content.ComponentCallbacks2;
 import android.content.Intent;
 import android.content.res.Configuration;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.preference.PreferenceManager;
 import android.support.multidex.MultiDexApplication;
 import com.coinbase.android.pin.PINManager;
@@ -15,6 +17,9 @@ import com.coinbase.android.pin.PINPromptActivity;
 import com.coinbase.android.settings.PreferenceUpgrade;
 import com.coinbase.android.signin.IntroActivity;
 import com.coinbase.android.signin.LaunchMessageActivity;
+import com.coinbase.android.startup.StartupInitializer;
+import com.coinbase.android.startup.StartupOrchestrator;
+import com.coinbase.android.startup.StartupTrace;
 import com.coinbase.android.utils.PreferenceUtils;
 import com.coinbase.android.utils.RefWatcherWrapper;
 import com.coinbase.android.utils.Utils;
@@ -27,22 +32,37 @@ import com.tenjin.android.TenjinSDK;
 import io.fabric.sdk.android.Fabric;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import javax.inject.Inject;
 import rx_activity_result.RxActivityResult;
 
 @ApplicationScope
 public class CoinbaseApplication extends MultiDexApplication implements ComponentProvider {
+    public static final String INIT_ANALYTICS = "analytics";
+    public static final String INIT_API_CONNECTION = "api_connection";
+    public static final String INIT_APPLICATION_CALLBACKS = "application_callbacks";
+    public static final String INIT_BUGLIFE = "buglife";
+    public static final String INIT_COINBASE_INTERNAL = "coinbase_internal";
+    public static final String INIT_COMPONENTS = "components";
+    public static final String INIT_CRASH_REPORTING = "crash_reporting";
+    public static final String INIT_FIREBASE = "firebase";
+    public static final String INIT_PREFERENCES = "preferences";
+    public static final String INIT_SERIALIZERS = "serializers";
+    public static final String INIT_TENJIN = "tenjin";
+    private static final long FIRST_FRAME_TIMEOUT_MILLIS = 5000;
     private static int started;
     private static int stopped;
-    @Inject
-    protected Set<ApplicationOnCreateListener> mApplicationOnCreateListeners;
     protected CoinbaseApplicationComponent mComponent;
+    private boolean mFirstActivityResumed;
     private List<MainActivity> mMainActivities = new ArrayList();
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    private final Runnable mOnFirstFrame = CoinbaseApplication$$Lambda$1.lambdaFactory$(this);
     @Inject
     protected PINManager mPINManager;
     @Inject
     protected RefWatcherWrapper mRefWatcherWrapper;
+    @Inject
+    protected List<StartupInitializer> mStartupInitializers;
+    protected StartupOrchestrator mStartupOrchestrator;
 
     public class MyLifecycleHandler implements ActivityLifecycleCallbacks, ComponentCallbacks2 {
         private final Application mApplication;
@@ -58,6 +78,7 @@ public class CoinbaseApplication extends MultiDexApplication implements Componen
         }
 
         public void onActivityResumed(Activity activity) {
+            CoinbaseApplication.this.awaitFirstFrame(activity);
             if (CoinbaseApplication.this.mPINManager.isProtected(this.mApplication, AccessType.APP_OPEN) && !CoinbaseApplication.this.mPINManager.shouldGrantAccess(this.mApplication) && !(activity instanceof IntroActivity) && !(activity instanceof PINPromptActivity) && !(activity instanceof LaunchMessageActivity)) {
                 Utils.showJumioFlow(activity, true);
                 Intent intent = new Intent(activity, PINPromptActivity.class);
@@ -122,22 +143,72 @@ public class CoinbaseApplication extends MultiDexApplication implements Componen
     }
 
     public void onCreate() {
-        startOnCreate();
+        this.mStartupOrchestrator = StartupOrchestrator.create();
         super.onCreate();
-        initializeThirdPartyLibraries();
-        initializeComponents();
-        finishOnCreate();
+        this.mStartupOrchestrator.run(getStartupInitializers());
+        this.mStartupOrchestrator.run(this.mStartupInitializers);
+        this.mMainHandler.postDelayed(this.mOnFirstFrame, FIRST_FRAME_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * What has to run before the injected initializers, i.e. up to the Dagger component and the
+     * application callbacks, and the SDKs that can wait for the first frame.
+     */
+    protected List<StartupInitializer> getStartupInitializers() {
+        List<StartupInitializer> initializers = new ArrayList();
+        initializers.add(StartupInitializer.builder(INIT_CRASH_REPORTING, CoinbaseApplication$$Lambda$2.lambdaFactory$(this)).build());
+        initializers.add(StartupInitializer.builder(INIT_COINBASE_INTERNAL, CoinbaseApplication$$Lambda$3.lambdaFactory$(this)).build());
+        initializers.add(StartupInitializer.builder(INIT_ANALYTICS, CoinbaseApplication$$Lambda$4.lambdaFactory$(this)).onBackgroundThread().build());
+        initializers.add(StartupInitializer.builder(INIT_FIREBASE, CoinbaseApplication$$Lambda$5.lambdaFactory$(this)).onBackgroundThread().build());
+        initializers.add(StartupInitializer.builder(INIT_COMPONENTS, CoinbaseApplication$$Lambda$6.lambdaFactory$(this)).dependsOn(INIT_COINBASE_INTERNAL).build());
+        initializers.add(StartupInitializer.builder(INIT_PREFERENCES, CoinbaseApplication$$Lambda$7.lambdaFactory$(this)).dependsOn(INIT_COMPONENTS).build());
+        initializers.add(StartupInitializer.builder(INIT_APPLICATION_CALLBACKS, CoinbaseApplication$$Lambda$8.lambdaFactory$(this)).dependsOn(INIT_COMPONENTS, INIT_PREFERENCES).build());
+        initializers.add(StartupInitializer.builder(INIT_TENJIN, CoinbaseApplication$$Lambda$9.lambdaFactory$(this)).onBackgroundThread().afterFirstFrame().build());
+        initializers.add(StartupInitializer.builder(INIT_BUGLIFE, CoinbaseApplication$$Lambda$10.lambdaFactory$(this)).afterFirstFrame().build());
+        initializers.add(StartupInitializer.builder(INIT_API_CONNECTION, CoinbaseApplication$$Lambda$11.lambdaFactory$(this)).onBackgroundThread().dependsOn(INIT_COINBASE_INTERNAL).build());
+        initializers.add(StartupInitializer.builder(INIT_SERIALIZERS, CoinbaseApplication$$Lambda$12.lambdaFactory$()).onBackgroundThread().build());
+        return initializers;
+    }
+
+    static /* synthetic */ void lambda$getStartupInitializers$1(CoinbaseApplication this_) {
+        Fabric.with(this_, new Crashlytics(), new Answers());
+    }
+
+    static /* synthetic */ void lambda$getStartupInitializers$2(CoinbaseApplication this_) {
+        CoinbaseInternal.getInstance().init(this_, Constants.CLIENT_ID, Constants.CLIENT_SECRET);
+    }
+
+    static /* synthetic */ void lambda$getStartupInitializers$3(CoinbaseApplication this_) {
+        MixpanelTracking.getInstance().initializeMixpanel(this_);
+    }
+
+    static /* synthetic */ void lambda$getStartupInitializers$4(CoinbaseApplication this_) {
+        FirebaseApp.initializeApp(this_);
     }
 
-    protected void startOnCreate() {
-        CoinbaseInternal.getInstance().init(this, Constants.CLIENT_ID, Constants.CLIENT_SECRET);
-        MixpanelTracking.getInstance().initializeMixpanel(this);
+    static /* synthetic */ void lambda$getStartupInitializers$5(CoinbaseApplication this_) {
+        this_.initializeComponents();
     }
 
-    protected void initializeThirdPartyLibraries() {
-        Fabric.with(this, new Crashlytics(), new Answers());
-        FirebaseApp.initializeApp(this);
-        TenjinSDK.getInstance(this, Constants.TENJIN_API_KEY).connect();
+    static /* synthetic */ void lambda$getStartupInitializers$6(CoinbaseApplication this_) {
+        PreferenceUpgrade.perform(this_);
+        PreferenceUtils.incrementPrefsInt(this_, Constants.KEY_ACCOUNT_APP_USAGE);
+    }
+
+    static /* synthetic */ void lambda$getStartupInitializers$7(CoinbaseApplication this_) {
+        this_.registerApplicationCallbacks();
+    }
+
+    static /* synthetic */ void lambda$getStartupInitializers$8(CoinbaseApplication this_) {
+        TenjinSDK.getInstance(this_, Constants.TENJIN_API_KEY).connect();
+    }
+
+    static /* synthetic */ void lambda$getStartupInitializers$9(CoinbaseApplication this_) {
+        new BuglifeWrapper(this_).onApplicationCreate();
+    }
+
+    static /* synthetic */ void lambda$getStartupInitializers$10(CoinbaseApplication this_) {
+        CoinbaseInternal.getInstance().prewarmConnection();
     }
 
     protected void initializeComponents() {
@@ -145,25 +216,35 @@ public class CoinbaseApplication extends MultiDexApplication implements Componen
         this.mComponent.inject(this);
     }
 
-    protected void finishOnCreate() {
-        new BuglifeWrapper(this).onApplicationCreate();
+    protected void registerApplicationCallbacks() {
         this.mRefWatcherWrapper.install();
-        PreferenceUpgrade.perform(this);
-        PreferenceUtils.incrementPrefsInt(this, Constants.KEY_ACCOUNT_APP_USAGE);
         this.mPINManager.setPinEntered(this, false);
         MyLifecycleHandler handler = new MyLifecycleHandler(this);
         registerActivityLifecycleCallbacks(handler);
         registerComponentCallbacks(handler);
         RxActivityResult.register(this);
-        callApplicationOnCreateListeners();
     }
 
-    protected void callApplicationOnCreateListeners() {
-        for (ApplicationOnCreateListener listener : this.mApplicationOnCreateListeners) {
-            listener.onCreate();
+    /**
+     * Releases the deferred startup initializers once the first activity drew its first frame: a
+     * runnable posted to the decor view when it resumes runs after its first traversal.
+     */
+    void awaitFirstFrame(Activity activity) {
+        if (!this.mFirstActivityResumed) {
+            this.mFirstActivityResumed = true;
+            activity.getWindow().getDecorView().post(this.mOnFirstFrame);
         }
     }
 
+    static /* synthetic */ void lambda$new$0(CoinbaseApplication this_) {
+        this_.mMainHandler.removeCallbacks(this_.mOnFirstFrame);
+        this_.mStartupOrchestrator.onFirstFrame();
+    }
+
+    public StartupTrace getStartupTrace() {
+        return this.mStartupOrchestrator.getTrace();
+    }
+
     public void removeMainActivity(MainActivity mainActivity) {
         this.mMainActivities.remove(mainActivity);
     }
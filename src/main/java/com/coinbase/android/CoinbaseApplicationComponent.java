@@ -2,6 +2,7 @@ package com.coinbase.android;
 
 import com.coinbase.android.featureflag.FeatureFlags;
 import com.coinbase.android.pin.PINManager;
+import com.coinbase.android.polling.StatusPoller;
 import com.coinbase.android.splittesting.SplitTesting;
 import com.coinbase.android.ui.AnimationUtilsWrapper;
 import com.coinbase.android.ui.BaseViewModule;
@@ -36,5 +37,7 @@ public interface CoinbaseApplicationComponent {
 
     SplitTesting splitTesting();
 
+    StatusPoller statusPoller();
+
     TasksSubcomponent tasksSubcomponent();
 }
@@ -11,7 +11,7 @@ import com.coinbase.android.currencies.FetchCurrenciesOnCreateListener;
 import com.coinbase.android.dashboard.DashboardAlertsConnector;
 import com.coinbase.android.dashboard.DashboardBalanceUpdatedConnector;
 import com.coinbase.android.dashboard.DashboardVerificationConnector;
-import com.coinbase.android.dashboard.SpotPriceUpdatedConnector;
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.db.AccountORM;
 import com.coinbase.android.db.DatabaseManager;
 import com.coinbase.android.featureflag.FeatureFlags;
@@ -19,13 +19,19 @@ import com.coinbase.android.gdpr.GdprInitializer;
 import com.coinbase.android.gdpr.OnboardingUpdatedConnector;
 import com.coinbase.android.idology.IdologySignOutListener;
 import com.coinbase.android.idology.IdologyUtils;
+import com.coinbase.android.notifications.priceAlerts.PriceAlertMonitor;
+import com.coinbase.android.notifications.priceAlerts.PriceAlertsSignOutListener;
 import com.coinbase.android.paymentmethods.BankAccountsUpdatedConnector;
 import com.coinbase.android.paymentmethods.GetPaymentMethodsTaskRx;
 import com.coinbase.android.paymentmethods.PaymentMethodsFetchedConnector;
+import com.coinbase.android.paymentmethods.PaymentMethodsRepository;
 import com.coinbase.android.pin.PINManager;
+import com.coinbase.android.pricechart.PriceChartCache;
 import com.coinbase.android.settings.LocalUserDataUpdatedConnector;
 import com.coinbase.android.signin.AuthManager;
 import com.coinbase.android.splittesting.SplitTesting;
+import com.coinbase.android.startup.StartupInitializer;
+import com.coinbase.android.transfers.ContactsCache;
 import com.coinbase.android.ui.BottomNavigationConnector;
 import com.coinbase.android.ui.CurrenciesUpdatedConnector;
 import com.coinbase.android.ui.MainScheduler;
@@ -35,15 +41,26 @@ import com.coinbase.android.utils.RefWatcherWrapper;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.api.LoginManager;
 import com.coinbase.api.internal.CacheFeatureFlagInitializer;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import rx.Scheduler;
 import rx.android.schedulers.AndroidSchedulers;
 import rx.schedulers.Schedulers;
 
 public class CoinbaseApplicationModule {
+    static final String INIT_ADVERTISING_ID = "advertising_id";
+    static final String INIT_APP_RATE = "app_rate";
+    static final String INIT_CACHE_FEATURE_FLAG = "cache_feature_flag";
+    static final String INIT_CURRENCIES = "currencies";
+    static final String INIT_FEATURE_FLAGS = "feature_flags";
+    static final String INIT_GDPR = "gdpr";
+    static final String INIT_IDOLOGY = "idology";
+    static final String INIT_PRICE_ALERTS = "price_alerts";
+    static final String INIT_SIGN_OUT = "sign_out";
+    static final String INIT_SPLIT_TESTING = "split_testing";
     private final Application mApplication;
 
     public CoinbaseApplicationModule(Application application) {
@@ -92,8 +109,8 @@ public class CoinbaseApplicationModule {
     }
 
     @ApplicationScope
-    GetPaymentMethodsTaskRx providesGetPaymentMethodsRx(LoginManager loginManager) {
-        return new GetPaymentMethodsTaskRx(loginManager);
+    GetPaymentMethodsTaskRx providesGetPaymentMethodsRx(PaymentMethodsRepository paymentMethodsRepository) {
+        return new GetPaymentMethodsTaskRx(paymentMethodsRepository);
     }
 
     @ApplicationScope
@@ -113,23 +130,29 @@ public class CoinbaseApplicationModule {
     }
 
     @ApplicationScope
-    Set<ApplicationSignOutListener> providesApplicationSignOutListeners(DashboardBalanceUpdatedConnector dashboardBalanceUpdatedConnector, DashboardVerificationConnector dashboardVerificationConnector, BottomNavigationConnector bottomNavigationConnector, AccountListConnector accountListConnector, SpotPriceUpdatedConnector spotPriceUpdatedConnector, AlertsSignOutListener alertsSignOutListener, DashboardAlertsConnector dashboardAlertsConnector, BankAccountsUpdatedConnector bankAccountsUpdatedConnector, SplitTesting splitTesting, AppRateOnCreateListener appRateOnCreateListener, IdologySignOutListener idologySignOutListener, PaymentMethodsFetchedConnector paymentMethodsFetchedConnector, OnboardingUpdatedConnector onboardingUpdatedConnector, FeatureFlags featureFlags, CacheFeatureFlagInitializer cacheFeatureFlagInitializer) {
-        return new LinkedHashSet(Arrays.asList(new ApplicationSignOutListener[]{bottomNavigationConnector, dashboardBalanceUpdatedConnector, dashboardVerificationConnector, accountListConnector, spotPriceUpdatedConnector, alertsSignOutListener, dashboardAlertsConnector, bankAccountsUpdatedConnector, splitTesting, appRateOnCreateListener, idologySignOutListener, paymentMethodsFetchedConnector, onboardingUpdatedConnector, featureFlags, cacheFeatureFlagInitializer}));
+    Set<ApplicationSignOutListener> providesApplicationSignOutListeners(DashboardBalanceUpdatedConnector dashboardBalanceUpdatedConnector, DashboardVerificationConnector dashboardVerificationConnector, BottomNavigationConnector bottomNavigationConnector, AccountListConnector accountListConnector, SpotPriceService spotPriceService, AlertsSignOutListener alertsSignOutListener, DashboardAlertsConnector dashboardAlertsConnector, BankAccountsUpdatedConnector bankAccountsUpdatedConnector, SplitTesting splitTesting, AppRateOnCreateListener appRateOnCreateListener, IdologySignOutListener idologySignOutListener, PaymentMethodsFetchedConnector paymentMethodsFetchedConnector, OnboardingUpdatedConnector onboardingUpdatedConnector, FeatureFlags featureFlags, CacheFeatureFlagInitializer cacheFeatureFlagInitializer, ContactsCache contactsCache, PriceChartCache priceChartCache, PaymentMethodsRepository paymentMethodsRepository, PriceAlertsSignOutListener priceAlertsSignOutListener) {
+        return new LinkedHashSet(Arrays.asList(new ApplicationSignOutListener[]{bottomNavigationConnector, dashboardBalanceUpdatedConnector, dashboardVerificationConnector, accountListConnector, spotPriceService, alertsSignOutListener, dashboardAlertsConnector, bankAccountsUpdatedConnector, splitTesting, appRateOnCreateListener, idologySignOutListener, paymentMethodsFetchedConnector, onboardingUpdatedConnector, featureFlags, cacheFeatureFlagInitializer, contactsCache, priceChartCache, paymentMethodsRepository, priceAlertsSignOutListener}));
     }
 
+    /**
+     * The initializers injected into the application, run once the Dagger component is built. A
+     * critical initializer runs before the first activity is created; the order matters only
+     * through the declared dependencies.
+     */
     @ApplicationScope
-    Set<ApplicationOnCreateListener> providesApplicationOnCreateListeners(LoginManager loginManager, CurrenciesUpdatedConnector currenciesUpdatedConnector, @BackgroundScheduler Scheduler backgroundScheduler, SignOutConnector signOutConnector, Set<ApplicationSignOutListener> applicationSignOutListeners, FetchAdvertisingIdOnCreateListener fetchAdvertisingIdOnCreateListener, SplitTesting splitTesting, FeatureFlags featureFlags, AppRateOnCreateListener appRateOnCreateListener, CacheFeatureFlagInitializer cacheFeatureFlagInitializer, IdologyUtils idologyUtils, GdprInitializer gdprInitializer) {
-        Set<ApplicationOnCreateListener> listenerSet = new HashSet();
-        listenerSet.add(new FetchCurrenciesOnCreateListener(this.mApplication, loginManager, currenciesUpdatedConnector, backgroundScheduler));
-        listenerSet.add(new SignOutOnCreateListener(signOutConnector, applicationSignOutListeners, backgroundScheduler));
-        listenerSet.add(appRateOnCreateListener);
-        listenerSet.add(fetchAdvertisingIdOnCreateListener);
-        listenerSet.add(splitTesting);
-        listenerSet.add(featureFlags);
-        listenerSet.add(cacheFeatureFlagInitializer);
-        listenerSet.add(idologyUtils);
-        listenerSet.add(gdprInitializer);
-        return listenerSet;
+    List<StartupInitializer> providesStartupInitializers(LoginManager loginManager, CurrenciesUpdatedConnector currenciesUpdatedConnector, @BackgroundScheduler Scheduler backgroundScheduler, SignOutConnector signOutConnector, Set<ApplicationSignOutListener> applicationSignOutListeners, FetchAdvertisingIdOnCreateListener fetchAdvertisingIdOnCreateListener, SplitTesting splitTesting, FeatureFlags featureFlags, AppRateOnCreateListener appRateOnCreateListener, CacheFeatureFlagInitializer cacheFeatureFlagInitializer, IdologyUtils idologyUtils, GdprInitializer gdprInitializer, PriceAlertMonitor priceAlertMonitor) {
+        List<StartupInitializer> initializers = new ArrayList();
+        initializers.add(StartupInitializer.builder(INIT_SIGN_OUT, new SignOutOnCreateListener(signOutConnector, applicationSignOutListeners, backgroundScheduler)).build());
+        initializers.add(StartupInitializer.builder(INIT_CURRENCIES, new FetchCurrenciesOnCreateListener(this.mApplication, loginManager, currenciesUpdatedConnector, backgroundScheduler)).onBackgroundThread().dependsOn(CoinbaseApplication.INIT_COINBASE_INTERNAL).build());
+        initializers.add(StartupInitializer.builder(INIT_SPLIT_TESTING, splitTesting).dependsOn(CoinbaseApplication.INIT_ANALYTICS).build());
+        initializers.add(StartupInitializer.builder(INIT_FEATURE_FLAGS, featureFlags).build());
+        initializers.add(StartupInitializer.builder(INIT_CACHE_FEATURE_FLAG, cacheFeatureFlagInitializer).dependsOn(INIT_FEATURE_FLAGS, INIT_CURRENCIES).build());
+        initializers.add(StartupInitializer.builder(INIT_IDOLOGY, idologyUtils).dependsOn(INIT_FEATURE_FLAGS).build());
+        initializers.add(StartupInitializer.builder(INIT_GDPR, gdprInitializer).dependsOn(INIT_FEATURE_FLAGS).build());
+        initializers.add(StartupInitializer.builder(INIT_PRICE_ALERTS, priceAlertMonitor).build());
+        initializers.add(StartupInitializer.builder(INIT_APP_RATE, appRateOnCreateListener).afterFirstFrame().build());
+        initializers.add(StartupInitializer.builder(INIT_ADVERTISING_ID, fetchAdvertisingIdOnCreateListener).onBackgroundThread().afterFirstFrame().dependsOn(CoinbaseApplication.INIT_ANALYTICS).build());
+        return initializers;
     }
 
     @ApplicationScope
@@ -1,33 +1,33 @@
 package com.coinbase.android;
 
 import com.coinbase.android.paymentmethods.GetPaymentMethodsTaskRx;
-import com.coinbase.api.LoginManager;
+import com.coinbase.android.paymentmethods.PaymentMethodsRepository;
 import dagger.internal.Factory;
 import dagger.internal.Preconditions;
 import javax.inject.Provider;
 
 public final class CoinbaseApplicationModule_ProvidesGetPaymentMethodsRxFactory implements Factory<GetPaymentMethodsTaskRx> {
-    private final Provider<LoginManager> loginManagerProvider;
     private final CoinbaseApplicationModule module;
+    private final Provider<PaymentMethodsRepository> paymentMethodsRepositoryProvider;
 
-    public CoinbaseApplicationModule_ProvidesGetPaymentMethodsRxFactory(CoinbaseApplicationModule module, Provider<LoginManager> loginManagerProvider) {
+    public CoinbaseApplicationModule_ProvidesGetPaymentMethodsRxFactory(CoinbaseApplicationModule module, Provider<PaymentMethodsRepository> paymentMethodsRepositoryProvider) {
         this.module = module;
-        this.loginManagerProvider = loginManagerProvider;
+        this.paymentMethodsRepositoryProvider = paymentMethodsRepositoryProvider;
     }
 
     public GetPaymentMethodsTaskRx get() {
-        return provideInstance(this.module, this.loginManagerProvider);
+        return provideInstance(this.module, this.paymentMethodsRepositoryProvider);
     }
 
-    public static GetPaymentMethodsTaskRx provideInstance(CoinbaseApplicationModule module, Provider<LoginManager> loginManagerProvider) {
-        return proxyProvidesGetPaymentMethodsRx(module, (LoginManager) loginManagerProvider.get());
+    public static GetPaymentMethodsTaskRx provideInstance(CoinbaseApplicationModule module, Provider<PaymentMethodsRepository> paymentMethodsRepositoryProvider) {
+        return proxyProvidesGetPaymentMethodsRx(module, (PaymentMethodsRepository) paymentMethodsRepositoryProvider.get());
     }
 
-    public static CoinbaseApplicationModule_ProvidesGetPaymentMethodsRxFactory create(CoinbaseApplicationModule module, Provider<LoginManager> loginManagerProvider) {
-        return new CoinbaseApplicationModule_ProvidesGetPaymentMethodsRxFactory(module, loginManagerProvider);
+    public static CoinbaseApplicationModule_ProvidesGetPaymentMethodsRxFactory create(CoinbaseApplicationModule module, Provider<PaymentMethodsRepository> paymentMethodsRepositoryProvider) {
+        return new CoinbaseApplicationModule_ProvidesGetPaymentMethodsRxFactory(module, paymentMethodsRepositoryProvider);
     }
 
-    public static GetPaymentMethodsTaskRx proxyProvidesGetPaymentMethodsRx(CoinbaseApplicationModule instance, LoginManager loginManager) {
-        return (GetPaymentMethodsTaskRx) Preconditions.checkNotNull(instance.providesGetPaymentMethodsRx(loginManager), "Cannot return null from a non-@Nullable @Provides method");
+    public static GetPaymentMethodsTaskRx proxyProvidesGetPaymentMethodsRx(CoinbaseApplicationModule instance, PaymentMethodsRepository paymentMethodsRepository) {
+        return (GetPaymentMethodsTaskRx) Preconditions.checkNotNull(instance.providesGetPaymentMethodsRx(paymentMethodsRepository), "Cannot return null from a non-@Nullable @Provides method");
     }
 }
@@ -1,30 +1,31 @@
 package com.coinbase.android;
 
 import com.coinbase.android.pin.PINManager;
+import com.coinbase.android.startup.StartupInitializer;
 import com.coinbase.android.utils.RefWatcherWrapper;
 import dagger.MembersInjector;
-import java.util.Set;
+import java.util.List;
 import javax.inject.Provider;
 
 public final class CoinbaseApplication_MembersInjector implements MembersInjector<CoinbaseApplication> {
-    private final Provider<Set<ApplicationOnCreateListener>> mApplicationOnCreateListenersProvider;
     private final Provider<PINManager> mPINManagerProvider;
     private final Provider<RefWatcherWrapper> mRefWatcherWrapperProvider;
+    private final Provider<List<StartupInitializer>> mStartupInitializersProvider;
 
-    public CoinbaseApplication_MembersInjector(Provider<PINManager> mPINManagerProvider, Provider<RefWatcherWrapper> mRefWatcherWrapperProvider, Provider<Set<ApplicationOnCreateListener>> mApplicationOnCreateListenersProvider) {
+    public CoinbaseApplication_MembersInjector(Provider<PINManager> mPINManagerProvider, Provider<RefWatcherWrapper> mRefWatcherWrapperProvider, Provider<List<StartupInitializer>> mStartupInitializersProvider) {
         this.mPINManagerProvider = mPINManagerProvider;
         this.mRefWatcherWrapperProvider = mRefWatcherWrapperProvider;
-        this.mApplicationOnCreateListenersProvider = mApplicationOnCreateListenersProvider;
+        this.mStartupInitializersProvider = mStartupInitializersProvider;
     }
 
-    public static MembersInjector<CoinbaseApplication> create(Provider<PINManager> mPINManagerProvider, Provider<RefWatcherWrapper> mRefWatcherWrapperProvider, Provider<Set<ApplicationOnCreateListener>> mApplicationOnCreateListenersProvider) {
-        return new CoinbaseApplication_MembersInjector(mPINManagerProvider, mRefWatcherWrapperProvider, mApplicationOnCreateListenersProvider);
+    public static MembersInjector<CoinbaseApplication> create(Provider<PINManager> mPINManagerProvider, Provider<RefWatcherWrapper> mRefWatcherWrapperProvider, Provider<List<StartupInitializer>> mStartupInitializersProvider) {
+        return new CoinbaseApplication_MembersInjector(mPINManagerProvider, mRefWatcherWrapperProvider, mStartupInitializersProvider);
     }
 
     public void injectMembers(CoinbaseApplication instance) {
         injectMPINManager(instance, (PINManager) this.mPINManagerProvider.get());
         injectMRefWatcherWrapper(instance, (RefWatcherWrapper) this.mRefWatcherWrapperProvider.get());
-        injectMApplicationOnCreateListeners(instance, (Set) this.mApplicationOnCreateListenersProvider.get());
+        injectMStartupInitializers(instance, (List) this.mStartupInitializersProvider.get());
     }
 
     public static void injectMPINManager(CoinbaseApplication instance, PINManager mPINManager) {
@@ -35,7 +36,7 @@ public final class CoinbaseApplication_MembersInjector implements MembersInjecto
         instance.mRefWatcherWrapper = mRefWatcherWrapper;
     }
 
-    public static void injectMApplicationOnCreateListeners(CoinbaseApplication instance, Set<ApplicationOnCreateListener> mApplicationOnCreateListeners) {
-        instance.mApplicationOnCreateListeners = mApplicationOnCreateListeners;
+    public static void injectMStartupInitializers(CoinbaseApplication instance, List<StartupInitializer> mStartupInitializers) {
+        instance.mStartupInitializers = mStartupInitializers;
     }
 }
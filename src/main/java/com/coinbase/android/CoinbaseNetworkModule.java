@@ -3,7 +3,7 @@ package com.coinbase.android;
 import android.app.Application;
 import android.content.SharedPreferences;
 import com.coinbase.android.db.DatabaseManager;
-import com.coinbase.android.paymentmethods.card.WorldPayPollingWrapper;
+import com.coinbase.android.polling.PollingPolicy;
 import com.coinbase.android.settings.UserUpdatedConnector;
 import com.coinbase.android.ui.MainScheduler;
 import com.coinbase.android.ui.SignOutConnector;
@@ -23,13 +23,18 @@ public class CoinbaseNetworkModule {
     }
 
     @ApplicationScope
-    WorldPayPollingWrapper providesWorldPayPollingWrapper() {
-        return new WorldPayPollingWrapper() {
-            private static final long POLL_DELAY = 5;
+    PollingPolicy providesPollingPolicy() {
+        return new PollingPolicy() {
+            private static final long INITIAL_POLL_DELAY = 1000;
+            private static final long MAX_POLL_DELAY = 8000;
             private static final long POLL_MAX_TIME = 60000;
 
-            public long getPollDelay() {
-                return POLL_DELAY;
+            public long getInitialPollDelay() {
+                return INITIAL_POLL_DELAY;
+            }
+
+            public long getMaxPollDelay() {
+                return MAX_POLL_DELAY;
             }
 
             public long getPollMaxTime() {
@@ -0,0 +1,29 @@
+package com.coinbase.android;
+
+import com.coinbase.android.polling.PollingPolicy;
+import dagger.internal.Factory;
+import dagger.internal.Preconditions;
+
+public final class CoinbaseNetworkModule_ProvidesPollingPolicyFactory implements Factory<PollingPolicy> {
+    private final CoinbaseNetworkModule module;
+
+    public CoinbaseNetworkModule_ProvidesPollingPolicyFactory(CoinbaseNetworkModule module) {
+        this.module = module;
+    }
+
+    public PollingPolicy get() {
+        return provideInstance(this.module);
+    }
+
+    public static PollingPolicy provideInstance(CoinbaseNetworkModule module) {
+        return proxyProvidesPollingPolicy(module);
+    }
+
+    public static CoinbaseNetworkModule_ProvidesPollingPolicyFactory create(CoinbaseNetworkModule module) {
+        return new CoinbaseNetworkModule_ProvidesPollingPolicyFactory(module);
+    }
+
+    public static PollingPolicy proxyProvidesPollingPolicy(CoinbaseNetworkModule instance) {
+        return (PollingPolicy) Preconditions.checkNotNull(instance.providesPollingPolicy(), "Cannot return null from a non-@Nullable @Provides method");
+    }
+}
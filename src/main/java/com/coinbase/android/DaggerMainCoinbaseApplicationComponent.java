@@ -195,8 +195,8 @@ import com.coinbase.android.dashboard.DashboardTabPeriodPresenter_Factory;
 import com.coinbase.android.dashboard.DashboardTabPeriodScreen;
 import com.coinbase.android.dashboard.DashboardTabPeriodSelectionConnector;
 import com.coinbase.android.dashboard.DashboardVerificationConnector;
-import com.coinbase.android.dashboard.SpotPriceUpdatedConnector;
-import com.coinbase.android.dashboard.SpotPriceUpdatedConnector_Factory;
+import com.coinbase.android.dashboard.SpotPriceService;
+import com.coinbase.android.dashboard.SpotPriceService_Factory;
 import com.coinbase.android.db.AccountORM;
 import com.coinbase.android.db.DatabaseManager;
 import com.coinbase.android.deposits.DepositWithdrawConfirmationDialogFragment;
@@ -491,6 +491,8 @@ import com.coinbase.android.modalAlerts.ModalRouterAggregator;
 import com.coinbase.android.modalAlerts.ModalRouterAggregator_Factory;
 import com.coinbase.android.notifications.fcm.InstanceIDService;
 import com.coinbase.android.notifications.fcm.InstanceIDService_MembersInjector;
+import com.coinbase.android.notifications.priceAlerts.PriceAlertMonitor;
+import com.coinbase.android.notifications.priceAlerts.PriceAlertMonitor_Factory;
 import com.coinbase.android.notifications.priceAlerts.PriceAlertsConnector;
 import com.coinbase.android.notifications.priceAlerts.PriceAlertsController;
 import com.coinbase.android.notifications.priceAlerts.PriceAlertsControllerSubcomponent;
@@ -501,6 +503,8 @@ import com.coinbase.android.notifications.priceAlerts.PriceAlertsPresenterModule
 import com.coinbase.android.notifications.priceAlerts.PriceAlertsPresenter_Factory;
 import com.coinbase.android.notifications.priceAlerts.PriceAlertsRouter;
 import com.coinbase.android.notifications.priceAlerts.PriceAlertsRouter_Factory;
+import com.coinbase.android.notifications.priceAlerts.PriceAlertsSignOutListener;
+import com.coinbase.android.notifications.priceAlerts.PriceAlertsSignOutListener_Factory;
 import com.coinbase.android.notifications.priceAlerts.create.CreatePriceAlertActivity;
 import com.coinbase.android.notifications.priceAlerts.create.CreatePriceAlertActivity_MembersInjector;
 import com.coinbase.android.paymentmethods.AddBankErrorController;
@@ -562,6 +566,8 @@ import com.coinbase.android.paymentmethods.PaymentMethodsPresenterModule;
 import com.coinbase.android.paymentmethods.PaymentMethodsPresenterModule_ProvidesActionBarControllerFactory;
 import com.coinbase.android.paymentmethods.PaymentMethodsPresenterModule_ProvidesPaymentMethodsScreenFactory;
 import com.coinbase.android.paymentmethods.PaymentMethodsPresenter_Factory;
+import com.coinbase.android.paymentmethods.PaymentMethodsRepository;
+import com.coinbase.android.paymentmethods.PaymentMethodsRepository_Factory;
 import com.coinbase.android.paymentmethods.PaymentMethodsRouter;
 import com.coinbase.android.paymentmethods.PaymentMethodsRouter_Factory;
 import com.coinbase.android.paymentmethods.PaymentMethodsScreen;
@@ -597,7 +603,6 @@ import com.coinbase.android.paymentmethods.card.CardFormViewModule_ProvidesCheck
 import com.coinbase.android.paymentmethods.card.CardFormViewModule_ProvidesPaymentProcessingErrorResFactory;
 import com.coinbase.android.paymentmethods.card.PaymentMethodVerificationController;
 import com.coinbase.android.paymentmethods.card.PaymentMethodVerificationController_MembersInjector;
-import com.coinbase.android.paymentmethods.card.WorldPayPollingWrapper;
 import com.coinbase.android.paymentmethods.card.WorldPayValidator;
 import com.coinbase.android.paymentmethods.card.WorldPayValidator_Factory;
 import com.coinbase.android.paymentmethods.linkedaccounts.LinkedAccountConnector;
@@ -633,6 +638,11 @@ import com.coinbase.android.pin.PINPromptActivity;
 import com.coinbase.android.pin.PINPromptActivity_MembersInjector;
 import com.coinbase.android.pin.PINSettingDialogFragment;
 import com.coinbase.android.pin.PINSettingDialogFragment_MembersInjector;
+import com.coinbase.android.polling.PollingPolicy;
+import com.coinbase.android.polling.StatusPoller;
+import com.coinbase.android.polling.StatusPoller_Factory;
+import com.coinbase.android.pricechart.PriceChartCache;
+import com.coinbase.android.pricechart.PriceChartCache_Factory;
 import com.coinbase.android.pricechart.PriceChartDataUpdatedConnector;
 import com.coinbase.android.pricechart.PriceChartLayout;
 import com.coinbase.android.pricechart.PriceChartLayoutSubcomponent;
@@ -1037,6 +1047,7 @@ import com.coinbase.android.signin.state.UpfrontKycTakeDocumentPhotoRouter_Facto
 import com.coinbase.android.signin.state.UpfrontKycTakeDocumentPhotoScreen;
 import com.coinbase.android.splittesting.SplitTesting;
 import com.coinbase.android.splittesting.SplitTesting_Factory;
+import com.coinbase.android.startup.StartupInitializer;
 import com.coinbase.android.task.FetchAccountTask;
 import com.coinbase.android.task.FetchAccountTask_MembersInjector;
 import com.coinbase.android.task.GetUserTask;
@@ -1056,6 +1067,8 @@ import com.coinbase.android.transactions.TransactionListPresenterModule;
 import com.coinbase.android.transactions.TransactionListPresenterModule_ProvidesTransactionListScreenFactory;
 import com.coinbase.android.transactions.TransactionListPresenter_Factory;
 import com.coinbase.android.transactions.TransactionListScreen;
+import com.coinbase.android.transactions.TransactionSyncEngine;
+import com.coinbase.android.transactions.TransactionSyncEngine_Factory;
 import com.coinbase.android.transfers.ConfirmSendTransferController;
 import com.coinbase.android.transfers.ConfirmSendTransferControllerSubcomponent;
 import com.coinbase.android.transfers.ConfirmSendTransferController_MembersInjector;
@@ -1066,6 +1079,8 @@ import com.coinbase.android.transfers.ConfirmSendTransferPresenter_Factory;
 import com.coinbase.android.transfers.ConfirmSendTransferScreen;
 import com.coinbase.android.transfers.ContactsAutoCompleteAdapter;
 import com.coinbase.android.transfers.ContactsAutoCompleteAdapter_MembersInjector;
+import com.coinbase.android.transfers.ContactsCache;
+import com.coinbase.android.transfers.ContactsCache_Factory;
 import com.coinbase.android.transfers.DelayedTransactionDialogController;
 import com.coinbase.android.transfers.DelayedTransactionDialogControllerSubcomponent;
 import com.coinbase.android.transfers.DelayedTransactionDialogController_MembersInjector;
@@ -1289,6 +1304,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
     private Provider<AuthIntentManager> authIntentManagerProvider;
     private Provider<CacheFeatureFlagInitializer> cacheFeatureFlagInitializerProvider;
     private Provider<ControllerLifeCycleFactory> controllerLifeCycleFactoryProvider;
+    private Provider<ContactsCache> contactsCacheProvider;
     private Provider<CryptoUriParser> cryptoUriParserProvider;
     private Provider<CurrencyUtils> currencyUtilsProvider;
     private Provider<FaceDetectionUtils> faceDetectionUtilsProvider;
@@ -1297,6 +1313,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
     private Provider<FiatTransactionsConnector> fiatTransactionsConnectorProvider;
     private Provider<GdprInitializer> gdprInitializerProvider;
     private Provider<IdologySignOutListener> idologySignOutListenerProvider;
+    private Provider<PriceAlertsSignOutListener> priceAlertsSignOutListenerProvider;
     private Provider<IdologyUtils> idologyUtilsProvider;
     private Provider<MoneyFormatterUtil> moneyFormatterUtilProvider;
     private Provider<PaymentMethodUtils> paymentMethodUtilsProvider;
@@ -1311,7 +1328,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
     private Provider<AddPaymentMethodConnector> providesAddPaymentMethodConnectorProvider;
     private Provider<Func0<List<PendingHold>>> providesAdditionalPendingHoldsProvider;
     private Provider<AnimationUtilsWrapper> providesAnimationUtilsWrapperProvider;
-    private Provider<Set<ApplicationOnCreateListener>> providesApplicationOnCreateListenersProvider;
+    private Provider<List<StartupInitializer>> providesStartupInitializersProvider;
     private Provider<Application> providesApplicationProvider;
     private Provider<Set<ApplicationSignOutListener>> providesApplicationSignOutListenersProvider;
     private Provider<AuthManager> providesAuthManagerProvider;
@@ -1363,8 +1380,12 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
     private Provider<PhoneNumbersUpdatedConnector> providesPhoneNumbersUpdatedConnectorProvider;
     private Provider<PhotoTakenConnector> providesPhotoTakenConnectorProvider;
     private Provider<PlaidOnExitConnector> providesPlaidOnExitConnectorProvider;
+    private Provider<PollingPolicy> providesPollingPolicyProvider;
+    private Provider<PriceAlertMonitor> priceAlertMonitorProvider;
     private Provider<PriceAlertsConnector> providesPriceAlertsConnectorProvider;
     private Provider<PriceChartDataUpdatedConnector> providesPriceChartDataUpdatedConnectorProvider;
+    private Provider<PriceChartCache> priceChartCacheProvider;
+    private Provider<PaymentMethodsRepository> paymentMethodsRepositoryProvider;
     private Provider<PriceChartPeriodUpdatedConnector> providesPriceChartPeriodUpdatedConnectorProvider;
     private Provider<SettingsPreferenceItemClickedConnector> providesPrivacyRightsSettingsClickedConnectorProvider;
     private Provider<ProgressConnector> providesProgressConnectorProvider;
@@ -1380,10 +1401,11 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
     private Provider<LocalUserDataUpdatedConnector> providesUserDataUpdatedConnectorProvider;
     private Provider<UserUpdatedConnector> providesUserUpdatedConnectorProvider;
     private Provider<VerifyPaymentMethodConnector> providesVerifyPaymentMethodConnectorProvider;
-    private Provider<WorldPayPollingWrapper> providesWorldPayPollingWrapperProvider;
     private Provider<Set<ApplicationSignOutListener>> setOfApplicationSignOutListenerProvider;
     private Provider<SplitTesting> splitTestingProvider;
-    private Provider<SpotPriceUpdatedConnector> spotPriceUpdatedConnectorProvider;
+    private Provider<SpotPriceService> spotPriceServiceProvider;
+    private Provider<StatusPoller> statusPollerProvider;
+    private Provider<TransactionSyncEngine> transactionSyncEngineProvider;
     private Provider<TransferUtils> transferUtilsProvider;
     private Provider<WorldPayValidator> worldPayValidatorProvider;
 
@@ -1413,7 +1435,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
         }
 
         private ContactsAutoCompleteAdapter injectContactsAutoCompleteAdapter(ContactsAutoCompleteAdapter instance) {
-            ContactsAutoCompleteAdapter_MembersInjector.injectMLoginManager(instance, (LoginManager) DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider.get());
+            ContactsAutoCompleteAdapter_MembersInjector.injectMContactsCache(instance, (ContactsCache) DaggerMainCoinbaseApplicationComponent.this.contactsCacheProvider.get());
             return instance;
         }
 
@@ -1749,12 +1771,14 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
         private UpdateWidgetPriceService injectUpdateWidgetPriceService(UpdateWidgetPriceService instance) {
             UpdateWidgetPriceService_MembersInjector.injectMLoginManager(instance, (LoginManager) DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider.get());
             UpdateWidgetPriceService_MembersInjector.injectMMixpanelTracking(instance, (MixpanelTracking) DaggerMainCoinbaseApplicationComponent.this.providesMixpanelTrackingProvider.get());
+            UpdateWidgetPriceService_MembersInjector.injectMSpotPriceService(instance, (SpotPriceService) DaggerMainCoinbaseApplicationComponent.this.spotPriceServiceProvider.get());
             return instance;
         }
 
         private PriceAppWidgetProvider injectPriceAppWidgetProvider(PriceAppWidgetProvider instance) {
             PriceAppWidgetProvider_MembersInjector.injectMLoginManager(instance, (LoginManager) DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider.get());
             PriceAppWidgetProvider_MembersInjector.injectMMixpanelTracking(instance, (MixpanelTracking) DaggerMainCoinbaseApplicationComponent.this.providesMixpanelTrackingProvider.get());
+            PriceAppWidgetProvider_MembersInjector.injectMSpotPriceService(instance, (SpotPriceService) DaggerMainCoinbaseApplicationComponent.this.spotPriceServiceProvider.get());
             return instance;
         }
     }
@@ -2399,7 +2423,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
                 this.availableBalancePresenterModule = (AvailableBalancePresenterModule) Preconditions.checkNotNull(module);
                 this.providesInvestmentTiersScreenProvider = DoubleCheck.provider(AvailableBalancePresenterModule_ProvidesInvestmentTiersScreenFactory.create(this.availableBalancePresenterModule));
                 this.providesSyncAccountsTaskProvider = DoubleCheck.provider(AvailableBalancePresenterModule_ProvidesSyncAccountsTaskFactory.create(this.availableBalancePresenterModule, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider));
-                this.availableBalanceCalculatorProvider = DoubleCheck.provider(AvailableBalanceCalculator_Factory.create(this.providesSyncAccountsTaskProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesAccountsUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.providesAdditionalPendingHoldsProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider));
+                this.availableBalanceCalculatorProvider = DoubleCheck.provider(AvailableBalanceCalculator_Factory.create(this.providesSyncAccountsTaskProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesAccountsUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.providesAdditionalPendingHoldsProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.spotPriceServiceProvider));
                 this.availableBalancePresenterProvider = DoubleCheck.provider(AvailableBalancePresenter_Factory.create(this.providesInvestmentTiersScreenProvider, MainActivitySubcomponentImpl.this.providesSnackBarWrapperProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.providesMixpanelTrackingProvider, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, this.availableBalanceCalculatorProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider));
             }
 
@@ -2439,7 +2463,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
                 this.provideBuySellConfirmationScreenProvider = DoubleCheck.provider(BuyConfirmationPresenterModule_ProvideBuySellConfirmationScreenFactory.create(this.buyConfirmationPresenterModule));
                 this.provideActionBarControllerProvider = DoubleCheck.provider(BuyConfirmationPresenterModule_ProvideActionBarControllerFactory.create(this.buyConfirmationPresenterModule));
                 this.buyRouterProvider = DoubleCheck.provider(BuyRouter_Factory.create(this.provideActionBarControllerProvider, DaggerMainCoinbaseApplicationComponent.this.splitTestingProvider, DaggerMainCoinbaseApplicationComponent.this.providesBuy3dsVerificationConnectorProvider));
-                this.buyConfirmationPresenterProvider = DoubleCheck.provider(BuyConfirmationPresenter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, this.provideBuyConfirmationScreenProvider, this.provideBuySellConfirmationScreenProvider, this.buyRouterProvider, DaggerMainCoinbaseApplicationComponent.this.providesBuySellMadeConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesBuy3dsVerificationConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesLinkedAccountConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.paymentMethodUtilsProvider, DaggerMainCoinbaseApplicationComponent.this.transferUtilsProvider, DaggerMainCoinbaseApplicationComponent.this.analyticsProvider, DaggerMainCoinbaseApplicationComponent.this.featureFlagsProvider, DaggerMainCoinbaseApplicationComponent.this.providesMixpanelTrackingProvider, MainActivitySubcomponentImpl.this.providesSnackBarWrapperProvider, DaggerMainCoinbaseApplicationComponent.this.splitTestingProvider, MainActivitySubcomponentImpl.this.providesGenericErrorTryAgainResProvider, DaggerMainCoinbaseApplicationComponent.this.providesWorldPayPollingWrapperProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider));
+                this.buyConfirmationPresenterProvider = DoubleCheck.provider(BuyConfirmationPresenter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, this.provideBuyConfirmationScreenProvider, this.provideBuySellConfirmationScreenProvider, this.buyRouterProvider, DaggerMainCoinbaseApplicationComponent.this.providesBuySellMadeConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesBuy3dsVerificationConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesLinkedAccountConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.paymentMethodUtilsProvider, DaggerMainCoinbaseApplicationComponent.this.transferUtilsProvider, DaggerMainCoinbaseApplicationComponent.this.analyticsProvider, DaggerMainCoinbaseApplicationComponent.this.featureFlagsProvider, DaggerMainCoinbaseApplicationComponent.this.providesMixpanelTrackingProvider, MainActivitySubcomponentImpl.this.providesSnackBarWrapperProvider, DaggerMainCoinbaseApplicationComponent.this.splitTestingProvider, MainActivitySubcomponentImpl.this.providesGenericErrorTryAgainResProvider, DaggerMainCoinbaseApplicationComponent.this.statusPollerProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider));
                 this.providesBuySellConfirmationPresenterProvider = DoubleCheck.provider(BuyConfirmationPresenterModule_ProvidesBuySellConfirmationPresenterFactory.create(this.buyConfirmationPresenterModule, this.buyConfirmationPresenterProvider));
             }
 
@@ -2565,7 +2589,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
                 this.providesCheckFieldsErrorResProvider = DoubleCheck.provider(CardFormViewModule_ProvidesCheckFieldsErrorResFactory.create(this.cardFormViewModule));
                 this.providesPaymentProcessingErrorResProvider = DoubleCheck.provider(CardFormViewModule_ProvidesPaymentProcessingErrorResFactory.create(this.cardFormViewModule));
                 this.providesCardValidatorProvider = DoubleCheck.provider(CardFormPresenterModule_ProvidesCardValidatorFactory.create(this.cardFormPresenterModule));
-                this.cardFormPresenterProvider = DoubleCheck.provider(CardFormPresenter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, this.providesCardFormScreenProvider, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, this.cardFormRouterProvider, DaggerMainCoinbaseApplicationComponent.this.providesDefaultSharedPreferencesProvider, MainActivitySubcomponentImpl.this.providesSnackBarWrapperProvider, this.providesCheckFieldsErrorResProvider, this.providesPaymentProcessingErrorResProvider, this.providesCardValidatorProvider, DaggerMainCoinbaseApplicationComponent.this.providesMystiqueListSelectorConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesMystiqueListButtonConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesBillingAddressDeletedConnectorProvider, this.successRouterProvider, MainActivitySubcomponentImpl.this.keyboardListenerProvider, DaggerMainCoinbaseApplicationComponent.this.worldPayValidatorProvider, DaggerMainCoinbaseApplicationComponent.this.providesWorldPayPollingWrapperProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider));
+                this.cardFormPresenterProvider = DoubleCheck.provider(CardFormPresenter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, this.providesCardFormScreenProvider, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, this.cardFormRouterProvider, DaggerMainCoinbaseApplicationComponent.this.providesDefaultSharedPreferencesProvider, MainActivitySubcomponentImpl.this.providesSnackBarWrapperProvider, this.providesCheckFieldsErrorResProvider, this.providesPaymentProcessingErrorResProvider, this.providesCardValidatorProvider, DaggerMainCoinbaseApplicationComponent.this.providesMystiqueListSelectorConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesMystiqueListButtonConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesBillingAddressDeletedConnectorProvider, this.successRouterProvider, MainActivitySubcomponentImpl.this.keyboardListenerProvider, DaggerMainCoinbaseApplicationComponent.this.worldPayValidatorProvider, DaggerMainCoinbaseApplicationComponent.this.statusPollerProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider));
             }
 
             public void inject(CardFormController controller) {
@@ -2740,7 +2764,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
                 this.withdrawalBasedLimitsExistingUserModalRouterProvider = DoubleCheck.provider(WithdrawalBasedLimitsExistingUserModalRouter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesDefaultSharedPreferencesProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, this.providesActionBarControllerProvider, DaggerMainCoinbaseApplicationComponent.this.splitTestingProvider));
                 this.providesModalRoutersProvider = DoubleCheck.provider(DashboardMainPresenterModule_ProvidesModalRoutersFactory.create(this.dashboardMainPresenterModule, MainActivitySubcomponentImpl.this.launchMessageModalRouterProvider, this.gdprModalRouterProvider, this.withdrawalBasedLimitsExistingUserModalRouterProvider));
                 this.modalRouterAggregatorProvider = DoubleCheck.provider(ModalRouterAggregator_Factory.create(this.providesModalRoutersProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider));
-                this.dashboardMainPresenterProvider = DoubleCheck.provider(DashboardMainPresenter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, this.provideDashboardPresenterModuleProvider, MainActivitySubcomponentImpl.this.providesSnackBarWrapperProvider, DaggerMainCoinbaseApplicationComponent.this.providesDashboardDataConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesDashboardBalanceUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesDashboardPriceChartItemClickedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesDashboardRefreshConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesDashboardAlertsConnectorProvider, this.buyRouterProvider, DaggerMainCoinbaseApplicationComponent.this.providesMixpanelTrackingProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.alertsUtilsProvider, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, MainActivitySubcomponentImpl.this.statusBarUpdaterProvider, this.modalRouterAggregatorProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider));
+                this.dashboardMainPresenterProvider = DoubleCheck.provider(DashboardMainPresenter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, this.provideDashboardPresenterModuleProvider, MainActivitySubcomponentImpl.this.providesSnackBarWrapperProvider, DaggerMainCoinbaseApplicationComponent.this.providesDashboardDataConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesDashboardBalanceUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesDashboardPriceChartItemClickedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesDashboardRefreshConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesDashboardAlertsConnectorProvider, this.buyRouterProvider, DaggerMainCoinbaseApplicationComponent.this.providesMixpanelTrackingProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.alertsUtilsProvider, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, MainActivitySubcomponentImpl.this.statusBarUpdaterProvider, this.modalRouterAggregatorProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.spotPriceServiceProvider));
             }
 
             public void inject(DashboardMainController fragment) {
@@ -4080,7 +4104,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
                 this.priceAlertsPresenterModule = (PriceAlertsPresenterModule) Preconditions.checkNotNull(module);
                 this.providesPriceAlertsScreenProvider = DoubleCheck.provider(PriceAlertsPresenterModule_ProvidesPriceAlertsScreenFactory.create(this.priceAlertsPresenterModule));
                 this.priceAlertsRouterProvider = DoubleCheck.provider(PriceAlertsRouter_Factory.create(MainActivitySubcomponentImpl.this.providesActivityProvider));
-                this.priceAlertsPresenterProvider = DoubleCheck.provider(PriceAlertsPresenter_Factory.create(this.providesPriceAlertsScreenProvider, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, DaggerMainCoinbaseApplicationComponent.this.providesCurrencyTabSelectorConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesPriceAlertsConnectorProvider, this.priceAlertsRouterProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesMixpanelTrackingProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.spotPriceUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider));
+                this.priceAlertsPresenterProvider = DoubleCheck.provider(PriceAlertsPresenter_Factory.create(this.providesPriceAlertsScreenProvider, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, DaggerMainCoinbaseApplicationComponent.this.providesCurrencyTabSelectorConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesPriceAlertsConnectorProvider, this.priceAlertsRouterProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesMixpanelTrackingProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.spotPriceServiceProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider));
             }
 
             public void inject(PriceAlertsController fragment) {
@@ -4113,7 +4137,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
             private void initialize(PriceChartPresenterModule module) {
                 this.priceChartPresenterModule = (PriceChartPresenterModule) Preconditions.checkNotNull(module);
                 this.providesPriceChartLayoutScreenProvider = DoubleCheck.provider(PriceChartPresenterModule_ProvidesPriceChartLayoutScreenFactory.create(this.priceChartPresenterModule));
-                this.priceChartPresenterProvider = DoubleCheck.provider(PriceChartPresenter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, this.providesPriceChartLayoutScreenProvider, DaggerMainCoinbaseApplicationComponent.this.providesPriceChartDataUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesPriceChartPeriodUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.spotPriceUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider));
+                this.priceChartPresenterProvider = DoubleCheck.provider(PriceChartPresenter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, this.providesPriceChartLayoutScreenProvider, DaggerMainCoinbaseApplicationComponent.this.providesPriceChartDataUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesPriceChartPeriodUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.spotPriceServiceProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.priceChartCacheProvider));
             }
 
             public void inject(PriceChartLayout layout) {
@@ -4250,7 +4274,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
                 this.providesActionBarControllerProvider = DoubleCheck.provider(SellPresenterModule_ProvidesActionBarControllerFactory.create(this.sellPresenterModule));
                 this.availableBalanceRouterProvider = DoubleCheck.provider(AvailableBalanceRouter_Factory.create(this.providesActionBarControllerProvider, DaggerMainCoinbaseApplicationComponent.this.providesMixpanelTrackingProvider));
                 this.providesSyncAccountsTaskProvider = DoubleCheck.provider(SellPresenterModule_ProvidesSyncAccountsTaskFactory.create(this.sellPresenterModule, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider));
-                this.availableBalanceCalculatorProvider = DoubleCheck.provider(AvailableBalanceCalculator_Factory.create(this.providesSyncAccountsTaskProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesAccountsUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.providesAdditionalPendingHoldsProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider));
+                this.availableBalanceCalculatorProvider = DoubleCheck.provider(AvailableBalanceCalculator_Factory.create(this.providesSyncAccountsTaskProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesAccountsUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.providesAdditionalPendingHoldsProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.spotPriceServiceProvider));
                 this.availableBalanceAppBarPresenterProvider = DoubleCheck.provider(AvailableBalanceAppBarPresenter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, this.providesAvailableBalanceAppBarScreenProvider, this.availableBalanceRouterProvider, this.availableBalanceCalculatorProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider));
                 this.quickstartModule = (QuickstartModule) Preconditions.checkNotNull(quickstartModule);
                 this.providesQuickStartManagerProvider = DoubleCheck.provider(QuickstartModule_ProvidesQuickStartManagerFactory.create(quickstartModule, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesPhoneNumbersUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesGetPaymentMethodsRxProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.splitTestingProvider));
@@ -4309,7 +4333,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
                 this.providesActionBarControllerProvider = DoubleCheck.provider(SendPresenterModule_ProvidesActionBarControllerFactory.create(this.sendPresenterModule));
                 this.availableBalanceRouterProvider = DoubleCheck.provider(AvailableBalanceRouter_Factory.create(this.providesActionBarControllerProvider, DaggerMainCoinbaseApplicationComponent.this.providesMixpanelTrackingProvider));
                 this.providesSyncAccountsTaskProvider = DoubleCheck.provider(SendPresenterModule_ProvidesSyncAccountsTaskFactory.create(this.sendPresenterModule, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider));
-                this.availableBalanceCalculatorProvider = DoubleCheck.provider(AvailableBalanceCalculator_Factory.create(this.providesSyncAccountsTaskProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesAccountsUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.providesAdditionalPendingHoldsProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider));
+                this.availableBalanceCalculatorProvider = DoubleCheck.provider(AvailableBalanceCalculator_Factory.create(this.providesSyncAccountsTaskProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesAccountsUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.providesAdditionalPendingHoldsProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.spotPriceServiceProvider));
                 this.availableBalanceAppBarPresenterProvider = DoubleCheck.provider(AvailableBalanceAppBarPresenter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, this.providesAvailableBalanceAppBarScreenProvider, this.availableBalanceRouterProvider, this.availableBalanceCalculatorProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider));
                 this.sendRouterProvider = DoubleCheck.provider(SendRouter_Factory.create(this.providesActionBarControllerProvider));
                 this.providesSendExceededTrackingContextProvider = DoubleCheck.provider(SendPresenterModule_ProvidesSendExceededTrackingContextFactory.create(this.sendPresenterModule));
@@ -4906,7 +4930,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
             private void initialize(TransactionListPresenterModule module) {
                 this.transactionListPresenterModule = (TransactionListPresenterModule) Preconditions.checkNotNull(module);
                 this.providesTransactionListScreenProvider = DoubleCheck.provider(TransactionListPresenterModule_ProvidesTransactionListScreenFactory.create(this.transactionListPresenterModule));
-                this.transactionListPresenterProvider = DoubleCheck.provider(TransactionListPresenter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesDatabaseManagerProvider, this.providesTransactionListScreenProvider, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, MainActivitySubcomponentImpl.this.providesSnackBarWrapperProvider, DaggerMainCoinbaseApplicationComponent.this.providesRefreshRequestedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesTransactionDetailButtonConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider));
+                this.transactionListPresenterProvider = DoubleCheck.provider(TransactionListPresenter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesDatabaseManagerProvider, this.providesTransactionListScreenProvider, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, MainActivitySubcomponentImpl.this.providesSnackBarWrapperProvider, DaggerMainCoinbaseApplicationComponent.this.providesRefreshRequestedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesTransactionDetailButtonConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.transactionSyncEngineProvider));
             }
 
             public void inject(TransactionListLayout layout) {
@@ -5155,7 +5179,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
                 this.authRouterProvider = DoubleCheck.provider(AuthRouter_Factory.create(this.providesControllerProvider, DaggerMainCoinbaseApplicationComponent.this.providesAuthManagerProvider, DaggerMainCoinbaseApplicationComponent.this.activityPermissionCheckUtilsProvider, MainActivitySubcomponentImpl.this.providesActivityProvider, this.authCompletionFactoryProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider));
                 this.signInRouterProvider = DoubleCheck.provider(SignInRouter_Factory.create(MainActivitySubcomponentImpl.this.providesActivityProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, this.providesControllerProvider));
                 this.upfrontKycIdentityProcessingRouterProvider = DoubleCheck.provider(UpfrontKycIdentityProcessingRouter_Factory.create(this.providesControllerProvider));
-                this.upfrontKycIdentityProcessingPresenterProvider = DoubleCheck.provider(UpfrontKycIdentityProcessingPresenter_Factory.create(this.providesScreenProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, this.authRouterProvider, this.signInRouterProvider, this.upfrontKycIdentityProcessingRouterProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider));
+                this.upfrontKycIdentityProcessingPresenterProvider = DoubleCheck.provider(UpfrontKycIdentityProcessingPresenter_Factory.create(this.providesScreenProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, this.authRouterProvider, this.signInRouterProvider, this.upfrontKycIdentityProcessingRouterProvider, DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.statusPollerProvider));
             }
 
             public void inject(UpfrontKycIdentityProcessingController controller) {
@@ -5316,7 +5340,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
                 this.providesActionBarControllerProvider = DoubleCheck.provider(WithdrawFiatPresenterModule_ProvidesActionBarControllerFactory.create(withdrawFiatPresenterModule));
                 this.availableBalanceRouterProvider = DoubleCheck.provider(AvailableBalanceRouter_Factory.create(this.providesActionBarControllerProvider, DaggerMainCoinbaseApplicationComponent.this.providesMixpanelTrackingProvider));
                 this.providesSyncAccountsTaskProvider = DoubleCheck.provider(WithdrawFiatPresenterModule_ProvidesSyncAccountsTaskFactory.create(withdrawFiatPresenterModule, DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider));
-                this.availableBalanceCalculatorProvider = DoubleCheck.provider(AvailableBalanceCalculator_Factory.create(this.providesSyncAccountsTaskProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesAccountsUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.providesAdditionalPendingHoldsProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider));
+                this.availableBalanceCalculatorProvider = DoubleCheck.provider(AvailableBalanceCalculator_Factory.create(this.providesSyncAccountsTaskProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.providesAccountsUpdatedConnectorProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider, DaggerMainCoinbaseApplicationComponent.this.providesAdditionalPendingHoldsProvider, DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider, DaggerMainCoinbaseApplicationComponent.this.spotPriceServiceProvider));
                 this.availableBalanceAppBarPresenterProvider = DoubleCheck.provider(AvailableBalanceAppBarPresenter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, this.providesAvailableBalanceAppBarScreenProvider, this.availableBalanceRouterProvider, this.availableBalanceCalculatorProvider, DaggerMainCoinbaseApplicationComponent.this.providesLoginManagerProvider, DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider));
                 this.keypadAmountFormatterProvider = DoubleCheck.provider(KeypadAmountFormatter_Factory.create(DaggerMainCoinbaseApplicationComponent.this.providesApplicationProvider, DaggerMainCoinbaseApplicationComponent.this.providesCurrenciesUpdatedConnectorProvider));
                 this.keypadAmountValidatorProvider = DoubleCheck.provider(KeypadAmountValidator_Factory.create());
@@ -6113,6 +6137,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
             SyncAccountsTask_MembersInjector.injectMMoneyFormatterUtil(instance, (MoneyFormatterUtil) DaggerMainCoinbaseApplicationComponent.this.moneyFormatterUtilProvider.get());
             SyncAccountsTask_MembersInjector.injectMMainScheduler(instance, (Scheduler) DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider.get());
             SyncAccountsTask_MembersInjector.injectMBackgroundScheduler(instance, (Scheduler) DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider.get());
+            SyncAccountsTask_MembersInjector.injectMSpotPriceService(instance, (SpotPriceService) DaggerMainCoinbaseApplicationComponent.this.spotPriceServiceProvider.get());
             return instance;
         }
 
@@ -6130,6 +6155,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
             FetchAccountTask_MembersInjector.injectMMainScheduler(instance, (Scheduler) DaggerMainCoinbaseApplicationComponent.this.providesMainSchedulerProvider.get());
             FetchAccountTask_MembersInjector.injectMBackgroundScheduler(instance, (Scheduler) DaggerMainCoinbaseApplicationComponent.this.providesBackgroundSchedulerProvider.get());
             FetchAccountTask_MembersInjector.injectMAccountUpdatedConnector(instance, (AccountUpdatedConnector) DaggerMainCoinbaseApplicationComponent.this.providesAccountUpdatedConnectorProvider.get());
+            FetchAccountTask_MembersInjector.injectMSpotPriceService(instance, (SpotPriceService) DaggerMainCoinbaseApplicationComponent.this.spotPriceServiceProvider.get());
             return instance;
         }
     }
@@ -6161,7 +6187,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
         this.providesDashboardDataConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesDashboardDataConnectorFactory.create(builder.coinbaseEventsModule));
         this.providesBottomNavigationConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesBottomNavigationConnectorFactory.create(builder.coinbaseEventsModule));
         this.providesAccountListConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesAccountListConnectorFactory.create(builder.coinbaseEventsModule));
-        this.spotPriceUpdatedConnectorProvider = DoubleCheck.provider(SpotPriceUpdatedConnector_Factory.create(this.providesLoginManagerProvider));
+        this.spotPriceServiceProvider = DoubleCheck.provider(SpotPriceService_Factory.create(this.providesApplicationProvider, this.providesLoginManagerProvider, this.providesBackgroundSchedulerProvider));
         this.alertsUtilsProvider = DoubleCheck.provider(AlertsUtils_Factory.create(this.providesDefaultSharedPreferencesProvider));
         this.alertsSignOutListenerProvider = DoubleCheck.provider(AlertsSignOutListener_Factory.create(this.alertsUtilsProvider));
         this.providesDashboardAlertsConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesDashboardAlertsConnectorFactory.create(builder.coinbaseEventsModule));
@@ -6170,17 +6196,25 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
         this.splitTestingProvider = DoubleCheck.provider(SplitTesting_Factory.create(this.providesDefaultSharedPreferencesProvider, this.providesUserUpdatedConnectorProvider, this.providesMixpanelTrackingProvider, this.providesBackgroundSchedulerProvider));
         this.appRateOnCreateListenerProvider = DoubleCheck.provider(AppRateOnCreateListener_Factory.create(this.providesApplicationProvider, this.providesMixpanelTrackingProvider, this.providesDefaultSharedPreferencesProvider));
         this.featureFlagsProvider = DoubleCheck.provider(FeatureFlags_Factory.create(this.providesDefaultSharedPreferencesProvider, this.providesUserUpdatedConnectorProvider, this.providesBackgroundSchedulerProvider));
+        this.transactionSyncEngineProvider = DoubleCheck.provider(TransactionSyncEngine_Factory.create(this.providesLoginManagerProvider, this.providesDatabaseManagerProvider, this.providesBackgroundSchedulerProvider));
         this.idologyUtilsProvider = DoubleCheck.provider(IdologyUtils_Factory.create(this.providesLoginManagerProvider, this.providesDefaultSharedPreferencesProvider, this.featureFlagsProvider, this.providesBackgroundSchedulerProvider));
         this.idologySignOutListenerProvider = DoubleCheck.provider(IdologySignOutListener_Factory.create(this.idologyUtilsProvider));
+        this.priceAlertsSignOutListenerProvider = DoubleCheck.provider(PriceAlertsSignOutListener_Factory.create(this.providesApplicationProvider));
         this.providesPaymentMethodsRefreshedConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesPaymentMethodsRefreshedConnectorFactory.create(builder.coinbaseEventsModule));
         this.providesOnboardingUpdatedConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesOnboardingUpdatedConnectorFactory.create(builder.coinbaseEventsModule));
         this.providesCoinbaseInternalProvider = DoubleCheck.provider(CoinbaseNetworkModule_ProvidesCoinbaseInternalFactory.create(builder.coinbaseNetworkModule));
         this.cacheFeatureFlagInitializerProvider = DoubleCheck.provider(CacheFeatureFlagInitializer_Factory.create(this.featureFlagsProvider, this.providesCoinbaseInternalProvider, this.providesBackgroundSchedulerProvider));
-        this.providesApplicationSignOutListenersProvider = DoubleCheck.provider(CoinbaseApplicationModule_ProvidesApplicationSignOutListenersFactory.create(builder.coinbaseApplicationModule, this.providesDashboardBalanceUpdatedConnectorProvider, this.providesDashboardDataConnectorProvider, this.providesBottomNavigationConnectorProvider, this.providesAccountListConnectorProvider, this.spotPriceUpdatedConnectorProvider, this.alertsSignOutListenerProvider, this.providesDashboardAlertsConnectorProvider, this.providesBankAccountsUpdatedConnectorProvider, this.splitTestingProvider, this.appRateOnCreateListenerProvider, this.idologySignOutListenerProvider, this.providesPaymentMethodsRefreshedConnectorProvider, this.providesOnboardingUpdatedConnectorProvider, this.featureFlagsProvider, this.cacheFeatureFlagInitializerProvider));
+        this.priceChartCacheProvider = DoubleCheck.provider(PriceChartCache_Factory.create(this.providesApplicationProvider, this.providesLoginManagerProvider, this.spotPriceServiceProvider, this.providesBackgroundSchedulerProvider));
+        this.providesPaymentMethodsUpdatedConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesPaymentMethodsUpdatedConnectorFactory.create(builder.coinbaseEventsModule));
+        this.paymentMethodsRepositoryProvider = DoubleCheck.provider(PaymentMethodsRepository_Factory.create(this.providesApplicationProvider, this.providesLoginManagerProvider, this.providesBackgroundSchedulerProvider, this.providesPaymentMethodsUpdatedConnectorProvider));
+        this.contactsCacheProvider = DoubleCheck.provider(ContactsCache_Factory.create(this.providesApplicationProvider, this.providesLoginManagerProvider, this.providesBackgroundSchedulerProvider));
+        this.providesApplicationSignOutListenersProvider = DoubleCheck.provider(CoinbaseApplicationModule_ProvidesApplicationSignOutListenersFactory.create(builder.coinbaseApplicationModule, this.providesDashboardBalanceUpdatedConnectorProvider, this.providesDashboardDataConnectorProvider, this.providesBottomNavigationConnectorProvider, this.providesAccountListConnectorProvider, this.spotPriceServiceProvider, this.alertsSignOutListenerProvider, this.providesDashboardAlertsConnectorProvider, this.providesBankAccountsUpdatedConnectorProvider, this.splitTestingProvider, this.appRateOnCreateListenerProvider, this.idologySignOutListenerProvider, this.providesPaymentMethodsRefreshedConnectorProvider, this.providesOnboardingUpdatedConnectorProvider, this.featureFlagsProvider, this.cacheFeatureFlagInitializerProvider, this.contactsCacheProvider, this.priceChartCacheProvider, this.paymentMethodsRepositoryProvider, this.priceAlertsSignOutListenerProvider));
         this.setOfApplicationSignOutListenerProvider = SetFactory.builder(0, 1).addCollectionProvider(this.providesApplicationSignOutListenersProvider).build();
         this.fetchAdvertisingIdOnCreateListenerProvider = DoubleCheck.provider(FetchAdvertisingIdOnCreateListener_Factory.create(this.providesApplicationProvider, this.providesBackgroundSchedulerProvider, this.providesCoinbaseInternalProvider));
         this.gdprInitializerProvider = DoubleCheck.provider(GdprInitializer_Factory.create(this.featureFlagsProvider, this.providesUserUpdatedConnectorProvider, this.providesOnboardingUpdatedConnectorProvider, this.providesBackgroundSchedulerProvider));
-        this.providesApplicationOnCreateListenersProvider = DoubleCheck.provider(CoinbaseApplicationModule_ProvidesApplicationOnCreateListenersFactory.create(builder.coinbaseApplicationModule, this.providesLoginManagerProvider, this.providesCurrenciesUpdatedConnectorProvider, this.providesBackgroundSchedulerProvider, this.providesSignOutConnectorProvider, this.setOfApplicationSignOutListenerProvider, this.fetchAdvertisingIdOnCreateListenerProvider, this.splitTestingProvider, this.featureFlagsProvider, this.appRateOnCreateListenerProvider, this.cacheFeatureFlagInitializerProvider, this.idologyUtilsProvider, this.gdprInitializerProvider));
+        this.providesPriceAlertsConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesPriceAlertsConnectorFactory.create(builder.coinbaseEventsModule));
+        this.priceAlertMonitorProvider = DoubleCheck.provider(PriceAlertMonitor_Factory.create(this.providesApplicationProvider, this.providesLoginManagerProvider, this.spotPriceServiceProvider, this.providesPriceAlertsConnectorProvider));
+        this.providesStartupInitializersProvider = DoubleCheck.provider(CoinbaseApplicationModule_ProvidesStartupInitializersFactory.create(builder.coinbaseApplicationModule, this.providesLoginManagerProvider, this.providesCurrenciesUpdatedConnectorProvider, this.providesBackgroundSchedulerProvider, this.providesSignOutConnectorProvider, this.setOfApplicationSignOutListenerProvider, this.fetchAdvertisingIdOnCreateListenerProvider, this.splitTestingProvider, this.featureFlagsProvider, this.appRateOnCreateListenerProvider, this.cacheFeatureFlagInitializerProvider, this.idologyUtilsProvider, this.gdprInitializerProvider, this.priceAlertMonitorProvider));
         this.providesAnimationUtilsWrapperProvider = DoubleCheck.provider(AnimationModule_ProvidesAnimationUtilsWrapperFactory.create(builder.animationModule, this.providesApplicationProvider));
         this.providesPriceChartPeriodUpdatedConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesPriceChartPeriodUpdatedConnectorFactory.create(builder.coinbaseEventsModule));
         this.moneyFormatterUtilProvider = DoubleCheck.provider(MoneyFormatterUtil_Factory.create(this.providesCurrenciesUpdatedConnectorProvider));
@@ -6199,9 +6233,8 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
         this.providesRetakeAndContinueConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesRetakeAndContinueConnectorFactory.create(builder.coinbaseEventsModule));
         this.providesBuySellSettingsConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesBuySellSettingsConnectorFactory.create(builder.coinbaseEventsModule));
         this.providesPhoneNumbersUpdatedConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesPhoneNumbersUpdatedConnectorFactory.create(builder.coinbaseEventsModule));
-        this.providesGetPaymentMethodsRxProvider = DoubleCheck.provider(CoinbaseApplicationModule_ProvidesGetPaymentMethodsRxFactory.create(builder.coinbaseApplicationModule, this.providesLoginManagerProvider));
+        this.providesGetPaymentMethodsRxProvider = DoubleCheck.provider(CoinbaseApplicationModule_ProvidesGetPaymentMethodsRxFactory.create(builder.coinbaseApplicationModule, this.paymentMethodsRepositoryProvider));
         this.providesBuySellMadeConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesBuySellMadeConnectorFactory.create(builder.coinbaseEventsModule));
-        this.providesPaymentMethodsUpdatedConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesPaymentMethodsUpdatedConnectorFactory.create(builder.coinbaseEventsModule));
         this.fiatTransactionsConnectorProvider = DoubleCheck.provider(FiatTransactionsConnector_Factory.create());
         this.transferUtilsProvider = DoubleCheck.provider(TransferUtils_Factory.create(this.moneyFormatterUtilProvider));
         this.providesAccountsUpdatedConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesAccountsUpdatedConnectorFactory.create(builder.coinbaseEventsModule));
@@ -6212,7 +6245,6 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
         this.providesTransferMadeConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesTransferMadeConnectorFactory.create(builder.coinbaseEventsModule));
         this.providesBuy3dsVerificationConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesBuy3dsVerificationConnectorFactory.create(builder.coinbaseEventsModule));
         this.providesCurrencyTabSelectorConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesCurrencyTabSelectorConnectorFactory.create(builder.coinbaseEventsModule, this.providesCurrenciesUpdatedConnectorProvider));
-        this.providesPriceAlertsConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesPriceAlertsConnectorFactory.create(builder.coinbaseEventsModule));
         this.providesAccountORMProvider = DoubleCheck.provider(CoinbaseApplicationModule_ProvidesAccountORMFactory.create(builder.coinbaseApplicationModule));
         this.providesAccountCryptoAddressUpdatedConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesAccountCryptoAddressUpdatedConnectorFactory.create(builder.coinbaseEventsModule));
         this.providesDashboardTabPeriodSelectionConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesDashboardTabPeriodSelectionConnectorFactory.create(builder.coinbaseEventsModule));
@@ -6231,7 +6263,8 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
         this.providesMystiqueListButtonConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesMystiqueListButtonConnectorFactory.create(builder.coinbaseEventsModule));
         this.providesBillingAddressDeletedConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesBillingAddressDeletedConnectorFactory.create(builder.coinbaseEventsModule));
         this.worldPayValidatorProvider = DoubleCheck.provider(WorldPayValidator_Factory.create());
-        this.providesWorldPayPollingWrapperProvider = DoubleCheck.provider(CoinbaseNetworkModule_ProvidesWorldPayPollingWrapperFactory.create(builder.coinbaseNetworkModule));
+        this.providesPollingPolicyProvider = DoubleCheck.provider(CoinbaseNetworkModule_ProvidesPollingPolicyFactory.create(builder.coinbaseNetworkModule));
+        this.statusPollerProvider = DoubleCheck.provider(StatusPoller_Factory.create(this.providesPollingPolicyProvider, this.providesBackgroundSchedulerProvider));
         this.providesIdologyOptionSelectedConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesIdologyOptionSelectedConnectorFactory.create(builder.coinbaseEventsModule));
         this.providesIdologyFormValidConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesIdologyFormValidConnectorFactory.create(builder.coinbaseEventsModule));
         this.providesIdologyRetryConnectorProvider = DoubleCheck.provider(CoinbaseEventsModule_ProvidesIdologyRetryConnectorFactory.create(builder.coinbaseEventsModule));
@@ -6278,6 +6311,10 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
         return (AnimationUtilsWrapper) this.providesAnimationUtilsWrapperProvider.get();
     }
 
+    public StatusPoller statusPoller() {
+        return (StatusPoller) this.statusPollerProvider.get();
+    }
+
     public CoinbaseActivitySubcomponent coinbaseActivitySubcomponent(BaseActivityModule module) {
         return new CoinbaseActivitySubcomponentImpl(module);
     }
@@ -6317,7 +6354,7 @@ public final class DaggerMainCoinbaseApplicationComponent implements MainCoinbas
     private CoinbaseApplication injectCoinbaseApplication(CoinbaseApplication instance) {
         CoinbaseApplication_MembersInjector.injectMPINManager(instance, (PINManager) this.providesPINManagerProvider.get());
         CoinbaseApplication_MembersInjector.injectMRefWatcherWrapper(instance, (RefWatcherWrapper) this.providesRefWatcherWrapperProvider.get());
-        CoinbaseApplication_MembersInjector.injectMApplicationOnCreateListeners(instance, (Set) this.providesApplicationOnCreateListenersProvider.get());
+        CoinbaseApplication_MembersInjector.injectMStartupInitializers(instance, (List) this.providesStartupInitializersProvider.get());
         return instance;
     }
 }
@@ -8,6 +8,7 @@ import android.content.Intent;
 import android.os.Build.VERSION;
 import android.preference.PreferenceManager;
 import android.widget.RemoteViews;
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.android.widgets.UpdateWidgetBalanceService;
 import com.coinbase.android.widgets.UpdateWidgetPriceService;
@@ -22,6 +23,8 @@ public class PriceAppWidgetProvider extends AppWidgetProvider {
     LoginManager mLoginManager;
     @Inject
     MixpanelTracking mMixpanelTracking;
+    @Inject
+    SpotPriceService mSpotPriceService;
 
     public static class PriceWidgetUpdater implements WidgetUpdater {
         public void updateWidget(Context context, AppWidgetManager manager, int appWidgetId, String price) {
@@ -55,7 +58,7 @@ public class PriceAppWidgetProvider extends AppWidgetProvider {
             if (appWidgetManager.getAppWidgetInfo(appWidgetId) == null || appWidgetManager.getAppWidgetInfo(appWidgetId).provider.getClassName().equals(getClass().getName())) {
                 new PriceWidgetUpdater().updateWidget(context, appWidgetManager, appWidgetId, null);
                 if (VERSION.SDK_INT >= 26) {
-                    new UpdateWidgetPriceTask(this.mLoginManager, this.mMixpanelTracking).run(appWidgetId, new PriceWidgetUpdater(), context, PriceAppWidgetProvider$$Lambda$1.lambdaFactory$());
+                    new UpdateWidgetPriceTask(this.mLoginManager, this.mMixpanelTracking, this.mSpotPriceService).run(appWidgetId, new PriceWidgetUpdater(), context, PriceAppWidgetProvider$$Lambda$1.lambdaFactory$());
                 } else {
                     Intent service = new Intent(context, UpdateWidgetPriceService.class);
                     service.putExtra(UpdateWidgetBalanceService.EXTRA_UPDATER_CLASS, PriceWidgetUpdater.class);
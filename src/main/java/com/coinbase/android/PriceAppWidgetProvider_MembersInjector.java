@@ -1,5 +1,6 @@
 package com.coinbase.android;
 
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.api.LoginManager;
 import dagger.MembersInjector;
@@ -8,19 +9,22 @@ import javax.inject.Provider;
 public final class PriceAppWidgetProvider_MembersInjector implements MembersInjector<PriceAppWidgetProvider> {
     private final Provider<LoginManager> mLoginManagerProvider;
     private final Provider<MixpanelTracking> mMixpanelTrackingProvider;
+    private final Provider<SpotPriceService> mSpotPriceServiceProvider;
 
-    public PriceAppWidgetProvider_MembersInjector(Provider<LoginManager> mLoginManagerProvider, Provider<MixpanelTracking> mMixpanelTrackingProvider) {
+    public PriceAppWidgetProvider_MembersInjector(Provider<LoginManager> mLoginManagerProvider, Provider<MixpanelTracking> mMixpanelTrackingProvider, Provider<SpotPriceService> mSpotPriceServiceProvider) {
         this.mLoginManagerProvider = mLoginManagerProvider;
         this.mMixpanelTrackingProvider = mMixpanelTrackingProvider;
+        this.mSpotPriceServiceProvider = mSpotPriceServiceProvider;
     }
 
-    public static MembersInjector<PriceAppWidgetProvider> create(Provider<LoginManager> mLoginManagerProvider, Provider<MixpanelTracking> mMixpanelTrackingProvider) {
-        return new PriceAppWidgetProvider_MembersInjector(mLoginManagerProvider, mMixpanelTrackingProvider);
+    public static MembersInjector<PriceAppWidgetProvider> create(Provider<LoginManager> mLoginManagerProvider, Provider<MixpanelTracking> mMixpanelTrackingProvider, Provider<SpotPriceService> mSpotPriceServiceProvider) {
+        return new PriceAppWidgetProvider_MembersInjector(mLoginManagerProvider, mMixpanelTrackingProvider, mSpotPriceServiceProvider);
     }
 
     public void injectMembers(PriceAppWidgetProvider instance) {
         injectMLoginManager(instance, (LoginManager) this.mLoginManagerProvider.get());
         injectMMixpanelTracking(instance, (MixpanelTracking) this.mMixpanelTrackingProvider.get());
+        injectMSpotPriceService(instance, (SpotPriceService) this.mSpotPriceServiceProvider.get());
     }
 
     public static void injectMLoginManager(PriceAppWidgetProvider instance, LoginManager mLoginManager) {
@@ -30,4 +34,8 @@ public final class PriceAppWidgetProvider_MembersInjector implements MembersInje
     public static void injectMMixpanelTracking(PriceAppWidgetProvider instance, MixpanelTracking mMixpanelTracking) {
         instance.mMixpanelTracking = mMixpanelTracking;
     }
+
+    public static void injectMSpotPriceService(PriceAppWidgetProvider instance, SpotPriceService mSpotPriceService) {
+        instance.mSpotPriceService = mSpotPriceService;
+    }
 }
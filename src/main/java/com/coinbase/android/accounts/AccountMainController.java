@@ -18,10 +18,9 @@ import com.coinbase.android.ui.BottomNavigationConnector;
 import com.coinbase.android.ui.BottomNavigationItem.Type;
 import com.coinbase.android.ui.PageControllerLifeCycle.PageDestination;
 import com.coinbase.api.internal.ApiConstants;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.v2.models.account.Data;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import javax.inject.Inject;
 import kotlin.TypeCastException;
 import kotlin.jvm.internal.Intrinsics;
@@ -154,7 +153,7 @@ public final class AccountMainController extends ActionBarController implements
         Bundle args = new Bundle();
         args.putString(AccountTransactionsPresenter.ACCOUNT_DATA, new Gson().toJson((Object) account));
         if (currency != null) {
-            args.putString(AccountTransactionsPresenter.CURRENCY_DATA, new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().toJson((Object) currency));
+            args.putString(AccountTransactionsPresenter.CURRENCY_DATA, Serializers.getGson().toJson((Object) currency));
         }
         BottomNavigationConnector bottomNavigationConnector = this.mBottomNavigationConnector;
         if (bottomNavigationConnector == null) {
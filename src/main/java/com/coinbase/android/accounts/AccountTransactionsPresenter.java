@@ -30,12 +30,11 @@ import com.coinbase.android.utils.MoneyFormatterUtil.Options;
 import com.coinbase.android.utils.Utils;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.api.LoginManager;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.policyRestrictions.PolicyRestrictions;
 import com.coinbase.api.internal.models.policyRestrictions.Restrictions;
 import com.coinbase.v2.models.account.Data;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Set;
@@ -114,7 +113,7 @@ public class AccountTransactionsPresenter {
             }
             String currencyJson = args.getString(CURRENCY_DATA);
             if (currencyJson != null) {
-                this.mSelectedCurrency = (com.coinbase.api.internal.models.currency.Data) new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().fromJson(currencyJson, com.coinbase.api.internal.models.currency.Data.class);
+                this.mSelectedCurrency = (com.coinbase.api.internal.models.currency.Data) Serializers.getGson().fromJson(currencyJson, com.coinbase.api.internal.models.currency.Data.class);
             }
         }
     }
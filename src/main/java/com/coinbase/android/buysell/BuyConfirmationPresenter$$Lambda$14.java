@@ -1,8 +1,8 @@
 package com.coinbase.android.buysell;
 
-import rx.functions.Action1;
+import rx.functions.Func0;
 
-final /* synthetic */ class BuyConfirmationPresenter$$Lambda$14 implements Action1 {
+final /* synthetic */ class BuyConfirmationPresenter$$Lambda$14 implements Func0 {
     private final BuyConfirmationPresenter arg$1;
     private final String arg$2;
     private final String arg$3;
@@ -13,11 +13,11 @@ final /* synthetic */ class BuyConfirmationPresenter$$Lambda$14 implements Actio
         this.arg$3 = str2;
     }
 
-    public static Action1 lambdaFactory$(BuyConfirmationPresenter buyConfirmationPresenter, String str, String str2) {
+    public static Func0 lambdaFactory$(BuyConfirmationPresenter buyConfirmationPresenter, String str, String str2) {
         return new BuyConfirmationPresenter$$Lambda$14(buyConfirmationPresenter, str, str2);
     }
 
-    public void call(Object obj) {
-        this.arg$1.pollForWorldpayStatus(this.arg$2, this.arg$3);
+    public Object call() {
+        return BuyConfirmationPresenter.lambda$pollForWorldpayStatus$7(this.arg$1, this.arg$2, this.arg$3);
     }
 }
@@ -11,8 +11,8 @@ import com.coinbase.android.ControllerScope;
 import com.coinbase.android.R;
 import com.coinbase.android.event.ClassConsumableEvent;
 import com.coinbase.android.featureflag.FeatureFlags;
-import com.coinbase.android.paymentmethods.card.WorldPayPollingWrapper;
 import com.coinbase.android.paymentmethods.linkedaccounts.LinkedAccountConnector;
+import com.coinbase.android.polling.StatusPoller;
 import com.coinbase.android.splittesting.SplitTesting;
 import com.coinbase.android.ui.CoinbaseResources.GenericErrorTryAgainMessage;
 import com.coinbase.android.ui.MainScheduler;
@@ -28,7 +28,7 @@ import com.coinbase.v2.models.transfers.Transfer;
 import com.google.gson.Gson;
 import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,9 +60,8 @@ public class BuyConfirmationPresenter extends AbstractBuySellConfirmationPresent
     private final Logger mLogger = LoggerFactory.getLogger(BuyConfirmationPresenter.class);
     private final LoginManager mLoginManager;
     private final Scheduler mMainScheduler;
-    private long mPollingStartTime = 0;
+    private final StatusPoller mStatusPoller;
     private CompositeSubscription mSubscription = new CompositeSubscription();
-    private final WorldPayPollingWrapper mWorldPayPollingWrapper;
 
     public /* bridge */ /* synthetic */ List getDetailList() {
         return super.getDetailList();
@@ -73,7 +72,7 @@ public class BuyConfirmationPresenter extends AbstractBuySellConfirmationPresent
     }
 
     @Inject
-    public BuyConfirmationPresenter(Application app, LoginManager loginManager, BuyConfirmationScreen screen, AbstractBuySellConfirmationScreen abstractBuySellConfirmationScreen, BuyRouter buyRouter, BuySellMadeConnector buySellMadeConnector, Buy3dsVerificationConnector buy3dsVerificationConnector, LinkedAccountConnector linkedAccountConnector, PaymentMethodUtils paymentMethodUtils, TransferUtils transferUtils, Analytics analytics, FeatureFlags featureFlags, MixpanelTracking mixpanelTracking, SnackBarWrapper snackBarWrapper, SplitTesting splitTesting, @GenericErrorTryAgainMessage int genericErrorTryAgainRes, WorldPayPollingWrapper worldPayPollingWrapper, @MainScheduler Scheduler mainScheduler) {
+    public BuyConfirmationPresenter(Application app, LoginManager loginManager, BuyConfirmationScreen screen, AbstractBuySellConfirmationScreen abstractBuySellConfirmationScreen, BuyRouter buyRouter, BuySellMadeConnector buySellMadeConnector, Buy3dsVerificationConnector buy3dsVerificationConnector, LinkedAccountConnector linkedAccountConnector, PaymentMethodUtils paymentMethodUtils, TransferUtils transferUtils, Analytics analytics, FeatureFlags featureFlags, MixpanelTracking mixpanelTracking, SnackBarWrapper snackBarWrapper, SplitTesting splitTesting, @GenericErrorTryAgainMessage int genericErrorTryAgainRes, StatusPoller statusPoller, @MainScheduler Scheduler mainScheduler) {
         super(app, abstractBuySellConfirmationScreen, paymentMethodUtils, transferUtils, mixpanelTracking, snackBarWrapper, splitTesting);
         this.mContext = app;
         this.mLoginManager = loginManager;
@@ -86,7 +85,7 @@ public class BuyConfirmationPresenter extends AbstractBuySellConfirmationPresent
         this.mAnalytics = analytics;
         this.mFeatureFlags = featureFlags;
         this.mGenericErrorRes = genericErrorTryAgainRes;
-        this.mWorldPayPollingWrapper = worldPayPollingWrapper;
+        this.mStatusPoller = statusPoller;
     }
 
     public String getTitle() {
@@ -181,7 +180,6 @@ public class BuyConfirmationPresenter extends AbstractBuySellConfirmationPresent
                     this_.mBuyConfirmationScreen.hideBuyButtonProgress();
                     return;
                 }
-                this_.mPollingStartTime = System.currentTimeMillis();
                 this_.pollForWorldpayStatus(accountId, buyId);
                 return;
             } else if (transferData.getRequiresCompletionStep().booleanValue()) {
@@ -203,7 +201,25 @@ public class BuyConfirmationPresenter extends AbstractBuySellConfirmationPresent
     }
 
     private void pollForWorldpayStatus(String accountId, String buyId) {
-        this.mBuySubscription.add(this.mLoginManager.getClient().getCommitBuyStatusRx(accountId, buyId).observeOn(this.mMainScheduler).subscribe(BuyConfirmationPresenter$$Lambda$8.lambdaFactory$(this, accountId, buyId), BuyConfirmationPresenter$$Lambda$9.lambdaFactory$(this)));
+        this.mBuySubscription.add(this.mStatusPoller.poll(StatusPoller.FLOW_WORLDPAY_BUY, accountId + "/" + buyId, BuyConfirmationPresenter$$Lambda$14.lambdaFactory$(this, accountId, buyId), BuyConfirmationPresenter$$Lambda$15.lambdaFactory$()).observeOn(this.mMainScheduler).subscribe(BuyConfirmationPresenter$$Lambda$8.lambdaFactory$(this, accountId, buyId), BuyConfirmationPresenter$$Lambda$9.lambdaFactory$(this)));
+    }
+
+    static /* synthetic */ Observable lambda$pollForWorldpayStatus$7(BuyConfirmationPresenter this_, String accountId, String buyId) {
+        return this_.mLoginManager.getClient().getCommitBuyStatusRx(accountId, buyId);
+    }
+
+    static /* synthetic */ Boolean lambda$pollForWorldpayStatus$8(Pair pair) {
+        Response<Transfer> response = pair.first;
+        if (!response.isSuccessful() || response.body() == null) {
+            return Boolean.valueOf(true);
+        }
+        Data transfer = ((Transfer) response.body()).getData();
+        if (transfer == null || TextUtils.isEmpty(transfer.getStatus())) {
+            return Boolean.valueOf(true);
+        }
+        boolean pending = STATUS_CREATED.equals(transfer.getStatus()) || STATUS_STARTED.equals(transfer.getStatus());
+        boolean requiresCompletion = transfer.getRequiresCompletionStep() != null && transfer.getRequiresCompletionStep().booleanValue();
+        return Boolean.valueOf(!pending || requiresCompletion);
     }
 
     /* JADX WARNING: inconsistent code. */
@@ -253,9 +269,6 @@ public class BuyConfirmationPresenter extends AbstractBuySellConfirmationPresent
                                 this_.mBuyConfirmationScreen.hideBuyButtonProgress();
                                 this_.mBuyRouter.routeSecure3D(transfer);
                                 return;
-                            } else if (System.currentTimeMillis() - this_.mPollingStartTime < this_.mWorldPayPollingWrapper.getPollMaxTime()) {
-                                this_.mBuySubscription.add(Observable.just(null).delay(this_.mWorldPayPollingWrapper.getPollDelay(), TimeUnit.SECONDS).subscribe(BuyConfirmationPresenter$$Lambda$14.lambdaFactory$(this_, accountId, buyId), BuyConfirmationPresenter$$Lambda$15.lambdaFactory$(this_, accountId, buyId)));
-                                return;
                             } else {
                                 this_.mBuyRouter.routeToError(null, this_.mContext.getString(this_.mGenericErrorRes));
                                 this_.mBuyConfirmationScreen.hideBuyButtonProgress();
@@ -282,7 +295,11 @@ public class BuyConfirmationPresenter extends AbstractBuySellConfirmationPresent
 
     static /* synthetic */ void lambda$pollForWorldpayStatus$10(BuyConfirmationPresenter this_, Throwable t) {
         this_.mBuyConfirmationScreen.hideProgressDialog();
-        this_.mBuyRouter.routeToError(null, Utils.getMessage(this_.mContext, t));
+        if (t instanceof TimeoutException) {
+            this_.mBuyRouter.routeToError(null, this_.mContext.getString(this_.mGenericErrorRes));
+        } else {
+            this_.mBuyRouter.routeToError(null, Utils.getMessage(this_.mContext, t));
+        }
         this_.mBuyConfirmationScreen.hideBuyButtonProgress();
     }
 
@@ -317,7 +334,6 @@ public class BuyConfirmationPresenter extends AbstractBuySellConfirmationPresent
                 this_.mBuyConfirmationScreen.hideBuyButtonProgress();
                 return;
             }
-            this_.mPollingStartTime = System.currentTimeMillis();
             this_.pollForWorldpayStatus(accountId, this_.mCommitTransfer.getId());
         } else {
             this_.trackEvent(MixpanelTracking.EVENT_3DS_BUY_COMPLETED, new String[0]);
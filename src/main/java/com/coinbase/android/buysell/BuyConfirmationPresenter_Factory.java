@@ -3,8 +3,8 @@ package com.coinbase.android.buysell;
 import android.app.Application;
 import com.coinbase.android.Analytics;
 import com.coinbase.android.featureflag.FeatureFlags;
-import com.coinbase.android.paymentmethods.card.WorldPayPollingWrapper;
 import com.coinbase.android.paymentmethods.linkedaccounts.LinkedAccountConnector;
+import com.coinbase.android.polling.StatusPoller;
 import com.coinbase.android.splittesting.SplitTesting;
 import com.coinbase.android.ui.SnackBarWrapper;
 import com.coinbase.android.utils.PaymentMethodUtils;
@@ -33,9 +33,9 @@ public final class BuyConfirmationPresenter_Factory implements Factory<BuyConfir
     private final Provider<SnackBarWrapper> snackBarWrapperProvider;
     private final Provider<SplitTesting> splitTestingProvider;
     private final Provider<TransferUtils> transferUtilsProvider;
-    private final Provider<WorldPayPollingWrapper> worldPayPollingWrapperProvider;
+    private final Provider<StatusPoller> statusPollerProvider;
 
-    public BuyConfirmationPresenter_Factory(Provider<Application> appProvider, Provider<LoginManager> loginManagerProvider, Provider<BuyConfirmationScreen> screenProvider, Provider<AbstractBuySellConfirmationScreen> abstractBuySellConfirmationScreenProvider, Provider<BuyRouter> buyRouterProvider, Provider<BuySellMadeConnector> buySellMadeConnectorProvider, Provider<Buy3dsVerificationConnector> buy3dsVerificationConnectorProvider, Provider<LinkedAccountConnector> linkedAccountConnectorProvider, Provider<PaymentMethodUtils> paymentMethodUtilsProvider, Provider<TransferUtils> transferUtilsProvider, Provider<Analytics> analyticsProvider, Provider<FeatureFlags> featureFlagsProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<SplitTesting> splitTestingProvider, Provider<Integer> genericErrorTryAgainResProvider, Provider<WorldPayPollingWrapper> worldPayPollingWrapperProvider, Provider<Scheduler> mainSchedulerProvider) {
+    public BuyConfirmationPresenter_Factory(Provider<Application> appProvider, Provider<LoginManager> loginManagerProvider, Provider<BuyConfirmationScreen> screenProvider, Provider<AbstractBuySellConfirmationScreen> abstractBuySellConfirmationScreenProvider, Provider<BuyRouter> buyRouterProvider, Provider<BuySellMadeConnector> buySellMadeConnectorProvider, Provider<Buy3dsVerificationConnector> buy3dsVerificationConnectorProvider, Provider<LinkedAccountConnector> linkedAccountConnectorProvider, Provider<PaymentMethodUtils> paymentMethodUtilsProvider, Provider<TransferUtils> transferUtilsProvider, Provider<Analytics> analyticsProvider, Provider<FeatureFlags> featureFlagsProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<SplitTesting> splitTestingProvider, Provider<Integer> genericErrorTryAgainResProvider, Provider<StatusPoller> statusPollerProvider, Provider<Scheduler> mainSchedulerProvider) {
         this.appProvider = appProvider;
         this.loginManagerProvider = loginManagerProvider;
         this.screenProvider = screenProvider;
@@ -52,23 +52,23 @@ public final class BuyConfirmationPresenter_Factory implements Factory<BuyConfir
         this.snackBarWrapperProvider = snackBarWrapperProvider;
         this.splitTestingProvider = splitTestingProvider;
         this.genericErrorTryAgainResProvider = genericErrorTryAgainResProvider;
-        this.worldPayPollingWrapperProvider = worldPayPollingWrapperProvider;
+        this.statusPollerProvider = statusPollerProvider;
         this.mainSchedulerProvider = mainSchedulerProvider;
     }
 
     public BuyConfirmationPresenter get() {
-        return provideInstance(this.appProvider, this.loginManagerProvider, this.screenProvider, this.abstractBuySellConfirmationScreenProvider, this.buyRouterProvider, this.buySellMadeConnectorProvider, this.buy3dsVerificationConnectorProvider, this.linkedAccountConnectorProvider, this.paymentMethodUtilsProvider, this.transferUtilsProvider, this.analyticsProvider, this.featureFlagsProvider, this.mixpanelTrackingProvider, this.snackBarWrapperProvider, this.splitTestingProvider, this.genericErrorTryAgainResProvider, this.worldPayPollingWrapperProvider, this.mainSchedulerProvider);
+        return provideInstance(this.appProvider, this.loginManagerProvider, this.screenProvider, this.abstractBuySellConfirmationScreenProvider, this.buyRouterProvider, this.buySellMadeConnectorProvider, this.buy3dsVerificationConnectorProvider, this.linkedAccountConnectorProvider, this.paymentMethodUtilsProvider, this.transferUtilsProvider, this.analyticsProvider, this.featureFlagsProvider, this.mixpanelTrackingProvider, this.snackBarWrapperProvider, this.splitTestingProvider, this.genericErrorTryAgainResProvider, this.statusPollerProvider, this.mainSchedulerProvider);
     }
 
-    public static BuyConfirmationPresenter provideInstance(Provider<Application> appProvider, Provider<LoginManager> loginManagerProvider, Provider<BuyConfirmationScreen> screenProvider, Provider<AbstractBuySellConfirmationScreen> abstractBuySellConfirmationScreenProvider, Provider<BuyRouter> buyRouterProvider, Provider<BuySellMadeConnector> buySellMadeConnectorProvider, Provider<Buy3dsVerificationConnector> buy3dsVerificationConnectorProvider, Provider<LinkedAccountConnector> linkedAccountConnectorProvider, Provider<PaymentMethodUtils> paymentMethodUtilsProvider, Provider<TransferUtils> transferUtilsProvider, Provider<Analytics> analyticsProvider, Provider<FeatureFlags> featureFlagsProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<SplitTesting> splitTestingProvider, Provider<Integer> genericErrorTryAgainResProvider, Provider<WorldPayPollingWrapper> worldPayPollingWrapperProvider, Provider<Scheduler> mainSchedulerProvider) {
-        return new BuyConfirmationPresenter((Application) appProvider.get(), (LoginManager) loginManagerProvider.get(), (BuyConfirmationScreen) screenProvider.get(), (AbstractBuySellConfirmationScreen) abstractBuySellConfirmationScreenProvider.get(), (BuyRouter) buyRouterProvider.get(), (BuySellMadeConnector) buySellMadeConnectorProvider.get(), (Buy3dsVerificationConnector) buy3dsVerificationConnectorProvider.get(), (LinkedAccountConnector) linkedAccountConnectorProvider.get(), (PaymentMethodUtils) paymentMethodUtilsProvider.get(), (TransferUtils) transferUtilsProvider.get(), (Analytics) analyticsProvider.get(), (FeatureFlags) featureFlagsProvider.get(), (MixpanelTracking) mixpanelTrackingProvider.get(), (SnackBarWrapper) snackBarWrapperProvider.get(), (SplitTesting) splitTestingProvider.get(), ((Integer) genericErrorTryAgainResProvider.get()).intValue(), (WorldPayPollingWrapper) worldPayPollingWrapperProvider.get(), (Scheduler) mainSchedulerProvider.get());
+    public static BuyConfirmationPresenter provideInstance(Provider<Application> appProvider, Provider<LoginManager> loginManagerProvider, Provider<BuyConfirmationScreen> screenProvider, Provider<AbstractBuySellConfirmationScreen> abstractBuySellConfirmationScreenProvider, Provider<BuyRouter> buyRouterProvider, Provider<BuySellMadeConnector> buySellMadeConnectorProvider, Provider<Buy3dsVerificationConnector> buy3dsVerificationConnectorProvider, Provider<LinkedAccountConnector> linkedAccountConnectorProvider, Provider<PaymentMethodUtils> paymentMethodUtilsProvider, Provider<TransferUtils> transferUtilsProvider, Provider<Analytics> analyticsProvider, Provider<FeatureFlags> featureFlagsProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<SplitTesting> splitTestingProvider, Provider<Integer> genericErrorTryAgainResProvider, Provider<StatusPoller> statusPollerProvider, Provider<Scheduler> mainSchedulerProvider) {
+        return new BuyConfirmationPresenter((Application) appProvider.get(), (LoginManager) loginManagerProvider.get(), (BuyConfirmationScreen) screenProvider.get(), (AbstractBuySellConfirmationScreen) abstractBuySellConfirmationScreenProvider.get(), (BuyRouter) buyRouterProvider.get(), (BuySellMadeConnector) buySellMadeConnectorProvider.get(), (Buy3dsVerificationConnector) buy3dsVerificationConnectorProvider.get(), (LinkedAccountConnector) linkedAccountConnectorProvider.get(), (PaymentMethodUtils) paymentMethodUtilsProvider.get(), (TransferUtils) transferUtilsProvider.get(), (Analytics) analyticsProvider.get(), (FeatureFlags) featureFlagsProvider.get(), (MixpanelTracking) mixpanelTrackingProvider.get(), (SnackBarWrapper) snackBarWrapperProvider.get(), (SplitTesting) splitTestingProvider.get(), ((Integer) genericErrorTryAgainResProvider.get()).intValue(), (StatusPoller) statusPollerProvider.get(), (Scheduler) mainSchedulerProvider.get());
     }
 
-    public static BuyConfirmationPresenter_Factory create(Provider<Application> appProvider, Provider<LoginManager> loginManagerProvider, Provider<BuyConfirmationScreen> screenProvider, Provider<AbstractBuySellConfirmationScreen> abstractBuySellConfirmationScreenProvider, Provider<BuyRouter> buyRouterProvider, Provider<BuySellMadeConnector> buySellMadeConnectorProvider, Provider<Buy3dsVerificationConnector> buy3dsVerificationConnectorProvider, Provider<LinkedAccountConnector> linkedAccountConnectorProvider, Provider<PaymentMethodUtils> paymentMethodUtilsProvider, Provider<TransferUtils> transferUtilsProvider, Provider<Analytics> analyticsProvider, Provider<FeatureFlags> featureFlagsProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<SplitTesting> splitTestingProvider, Provider<Integer> genericErrorTryAgainResProvider, Provider<WorldPayPollingWrapper> worldPayPollingWrapperProvider, Provider<Scheduler> mainSchedulerProvider) {
-        return new BuyConfirmationPresenter_Factory(appProvider, loginManagerProvider, screenProvider, abstractBuySellConfirmationScreenProvider, buyRouterProvider, buySellMadeConnectorProvider, buy3dsVerificationConnectorProvider, linkedAccountConnectorProvider, paymentMethodUtilsProvider, transferUtilsProvider, analyticsProvider, featureFlagsProvider, mixpanelTrackingProvider, snackBarWrapperProvider, splitTestingProvider, genericErrorTryAgainResProvider, worldPayPollingWrapperProvider, mainSchedulerProvider);
+    public static BuyConfirmationPresenter_Factory create(Provider<Application> appProvider, Provider<LoginManager> loginManagerProvider, Provider<BuyConfirmationScreen> screenProvider, Provider<AbstractBuySellConfirmationScreen> abstractBuySellConfirmationScreenProvider, Provider<BuyRouter> buyRouterProvider, Provider<BuySellMadeConnector> buySellMadeConnectorProvider, Provider<Buy3dsVerificationConnector> buy3dsVerificationConnectorProvider, Provider<LinkedAccountConnector> linkedAccountConnectorProvider, Provider<PaymentMethodUtils> paymentMethodUtilsProvider, Provider<TransferUtils> transferUtilsProvider, Provider<Analytics> analyticsProvider, Provider<FeatureFlags> featureFlagsProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<SplitTesting> splitTestingProvider, Provider<Integer> genericErrorTryAgainResProvider, Provider<StatusPoller> statusPollerProvider, Provider<Scheduler> mainSchedulerProvider) {
+        return new BuyConfirmationPresenter_Factory(appProvider, loginManagerProvider, screenProvider, abstractBuySellConfirmationScreenProvider, buyRouterProvider, buySellMadeConnectorProvider, buy3dsVerificationConnectorProvider, linkedAccountConnectorProvider, paymentMethodUtilsProvider, transferUtilsProvider, analyticsProvider, featureFlagsProvider, mixpanelTrackingProvider, snackBarWrapperProvider, splitTestingProvider, genericErrorTryAgainResProvider, statusPollerProvider, mainSchedulerProvider);
     }
 
-    public static BuyConfirmationPresenter newBuyConfirmationPresenter(Application app, LoginManager loginManager, Object screen, AbstractBuySellConfirmationScreen abstractBuySellConfirmationScreen, BuyRouter buyRouter, BuySellMadeConnector buySellMadeConnector, Buy3dsVerificationConnector buy3dsVerificationConnector, LinkedAccountConnector linkedAccountConnector, PaymentMethodUtils paymentMethodUtils, TransferUtils transferUtils, Analytics analytics, FeatureFlags featureFlags, MixpanelTracking mixpanelTracking, SnackBarWrapper snackBarWrapper, SplitTesting splitTesting, int genericErrorTryAgainRes, WorldPayPollingWrapper worldPayPollingWrapper, Scheduler mainScheduler) {
-        return new BuyConfirmationPresenter(app, loginManager, (BuyConfirmationScreen) screen, abstractBuySellConfirmationScreen, buyRouter, buySellMadeConnector, buy3dsVerificationConnector, linkedAccountConnector, paymentMethodUtils, transferUtils, analytics, featureFlags, mixpanelTracking, snackBarWrapper, splitTesting, genericErrorTryAgainRes, worldPayPollingWrapper, mainScheduler);
+    public static BuyConfirmationPresenter newBuyConfirmationPresenter(Application app, LoginManager loginManager, Object screen, AbstractBuySellConfirmationScreen abstractBuySellConfirmationScreen, BuyRouter buyRouter, BuySellMadeConnector buySellMadeConnector, Buy3dsVerificationConnector buy3dsVerificationConnector, LinkedAccountConnector linkedAccountConnector, PaymentMethodUtils paymentMethodUtils, TransferUtils transferUtils, Analytics analytics, FeatureFlags featureFlags, MixpanelTracking mixpanelTracking, SnackBarWrapper snackBarWrapper, SplitTesting splitTesting, int genericErrorTryAgainRes, StatusPoller statusPoller, Scheduler mainScheduler) {
+        return new BuyConfirmationPresenter(app, loginManager, (BuyConfirmationScreen) screen, abstractBuySellConfirmationScreen, buyRouter, buySellMadeConnector, buy3dsVerificationConnector, linkedAccountConnector, paymentMethodUtils, transferUtils, analytics, featureFlags, mixpanelTracking, snackBarWrapper, splitTesting, genericErrorTryAgainRes, statusPoller, mainScheduler);
     }
 }
@@ -0,0 +1,20 @@
+package com.coinbase.android.buysell;
+
+import com.coinbase.android.buysell.QuoteEngine.QuoteRequest;
+import rx.functions.Func1;
+
+final /* synthetic */ class BuyPresenter$$Lambda$32 implements Func1 {
+    private final BuyPresenter arg$1;
+
+    private BuyPresenter$$Lambda$32(BuyPresenter buyPresenter) {
+        this.arg$1 = buyPresenter;
+    }
+
+    public static Func1 lambdaFactory$(BuyPresenter buyPresenter) {
+        return new BuyPresenter$$Lambda$32(buyPresenter);
+    }
+
+    public Object call(Object obj) {
+        return BuyPresenter.lambda$new$31(this.arg$1, (QuoteRequest) obj);
+    }
+}
@@ -0,0 +1,20 @@
+package com.coinbase.android.buysell;
+
+import java.math.BigDecimal;
+import rx.functions.Action1;
+
+final /* synthetic */ class BuyPresenter$$Lambda$33 implements Action1 {
+    private final BuyPresenter arg$1;
+
+    private BuyPresenter$$Lambda$33(BuyPresenter buyPresenter) {
+        this.arg$1 = buyPresenter;
+    }
+
+    public static Action1 lambdaFactory$(BuyPresenter buyPresenter) {
+        return new BuyPresenter$$Lambda$33(buyPresenter);
+    }
+
+    public void call(Object obj) {
+        BuyPresenter.lambda$new$32(this.arg$1, (BigDecimal) obj);
+    }
+}
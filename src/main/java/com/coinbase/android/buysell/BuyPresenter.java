@@ -11,6 +11,8 @@ import com.coinbase.ApiConstants;
 import com.coinbase.android.Constants;
 import com.coinbase.android.ControllerScope;
 import com.coinbase.android.R;
+import com.coinbase.android.buysell.QuoteEngine.QuoteRequest;
+import com.coinbase.android.buysell.QuoteEngine.TransferPriceExtractor;
 import com.coinbase.android.event.ClassConsumableEvent;
 import com.coinbase.android.paymentmethods.GetPaymentMethodsTaskRx;
 import com.coinbase.android.paymentmethods.linkedaccounts.LinkedAccountConnector;
@@ -35,6 +37,7 @@ import com.coinbase.android.utils.TransferUtils;
 import com.coinbase.android.utils.Utils;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.api.LoginManager;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.v2.models.account.Data;
 import com.coinbase.v2.models.errors.ErrorBody;
 import com.coinbase.v2.models.paymentMethods.Data.Type;
@@ -46,6 +49,7 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -100,6 +104,7 @@ public class BuyPresenter {
     com.coinbase.v2.models.paymentMethods.Data mPrimaryPaymentMethod;
     private final QuickBuyConnector mQuickBuyConnector;
     private final CompositeSubscription mQuickStartSubscription = new CompositeSubscription();
+    private final QuoteEngine<Transfer> mQuoteEngine;
     private final QuickstartManager mQuickstartManager;
     private final BuyRouter mRouter;
     private final BuyScreen mScreen;
@@ -134,6 +139,15 @@ public class BuyPresenter {
         this.mMixpanelTracking = mixpanelTracking;
         this.mSnackBarWrapper = snackBarWrapper;
         this.mMainScheduler = mainScheduler;
+        this.mQuoteEngine = new QuoteEngine(mainScheduler, BuyPresenter$$Lambda$32.lambdaFactory$(this), new TransferPriceExtractor(true), BuyPresenter$$Lambda$33.lambdaFactory$(this), BuyPresenter$$Lambda$28.lambdaFactory$(this), BuyPresenter$$Lambda$29.lambdaFactory$(this));
+    }
+
+    static /* synthetic */ Observable lambda$new$31(BuyPresenter this_, QuoteRequest request) {
+        return this_.mLoginManager.getClient().buyBitcoinRx(request.getAccountId(), request.getParams());
+    }
+
+    static /* synthetic */ void lambda$new$32(BuyPresenter this_, BigDecimal estimate) {
+        this_.mSecondaryAmount = BigMoney.of(this_.mSecondaryCurrencyUnit, estimate.setScale(this_.mSecondaryCurrencyUnit.getDefaultFractionDigits(), RoundingMode.HALF_UP));
     }
 
     void onShow() {
@@ -206,6 +220,7 @@ public class BuyPresenter {
         cacheUserEntriesInBundle();
         this.mSubscription.clear();
         this.mBuySubscription.clear();
+        this.mQuoteEngine.cancel();
         this.mQuickStartSubscription.clear();
     }
 
@@ -233,7 +248,7 @@ public class BuyPresenter {
     }
 
     void onPreviewButtonClicked() {
-        trackEvent(MixpanelTracking.EVENT_BUY_TAPPED_PREVIEW, new String[0]);
+        trackEvent(MixpanelTracking.EVENT_BUY_TAPPED_PREVIEW, MixpanelTracking.PROPERTY_BUYSELL_QUOTE_CALLS, String.valueOf(this.mQuoteEngine.getQuoteCallCount()));
         previewBuy();
     }
 
@@ -275,7 +290,7 @@ public class BuyPresenter {
 
     private void setPrimaryAccount(Bundle args) {
         if (!(args == null || args.getString("selected_account") == null)) {
-            this.mPrimaryAccount = (Data) new Gson().fromJson(args.getString("selected_account"), Data.class);
+            this.mPrimaryAccount = (Data) Serializers.getGson().fromJson(args.getString("selected_account"), Data.class);
             if (this.mPrimaryAccount != null) {
                 setPageTitle();
                 return;
@@ -303,7 +318,7 @@ public class BuyPresenter {
                 break;
             }
         }
-        args.putString("selected_account", new Gson().toJson(this.mPrimaryAccount));
+        args.putString("selected_account", Serializers.getGson().toJson(this.mPrimaryAccount));
         setPageTitle();
     }
 
@@ -468,9 +483,7 @@ public class BuyPresenter {
     private void performQuote() {
         this.mErrorMessage = null;
         this.mSecondaryAmount = BigMoney.of(this.mSecondaryCurrencyUnit, 0.0d);
-        Observable<Pair<Response<Transfer>, Retrofit>> buyBitcoinObservable = this.mLoginManager.getClient().buyBitcoinRx(this.mPrimaryAccount.getId(), getBuyParams());
-        this.mBuySubscription.clear();
-        this.mBuySubscription.add(buyBitcoinObservable.observeOn(this.mMainScheduler).subscribe(BuyPresenter$$Lambda$28.lambdaFactory$(this), BuyPresenter$$Lambda$29.lambdaFactory$(this)));
+        this.mQuoteEngine.requestQuote(new QuoteRequest(this.mPrimaryAccount.getId(), this.mPrimaryPaymentMethod == null ? null : this.mPrimaryPaymentMethod.getId(), this.mPrimaryCurrencyUnit.getCode(), this.mPrimaryAmount.getAmount(), isPrimaryCurrencyCrypto(), getBuyParams()));
     }
 
     static /* synthetic */ void lambda$performQuote$27(BuyPresenter this_, Pair pair) {
@@ -498,7 +511,7 @@ public class BuyPresenter {
             return;
         }
         try {
-            TransferError transferError = (TransferError) new Gson().fromJson(Utils.getErrorBody(errorBody), TransferError.class);
+            TransferError transferError = (TransferError) Serializers.getGson().fromJson(Utils.getErrorBody(errorBody), TransferError.class);
             ErrorBody error = this.mTransferUtils.getFirstError(transferError);
             if (error == null) {
                 handleGenericError();
@@ -530,6 +543,7 @@ public class BuyPresenter {
             return;
         }
         this.mScreen.showProgressOverlay();
+        this.mQuoteEngine.cancel();
         Observable<Pair<Response<Transfer>, Retrofit>> buyBitcoinObservable = this.mLoginManager.getClient().buyBitcoinRx(this.mPrimaryAccount.getId(), getBuyParams());
         this.mBuySubscription.clear();
         this.mBuySubscription.add(buyBitcoinObservable.observeOn(this.mMainScheduler).subscribe(BuyPresenter$$Lambda$30.lambdaFactory$(this), BuyPresenter$$Lambda$31.lambdaFactory$(this)));
@@ -545,6 +559,7 @@ public class BuyPresenter {
                 this_.setApiSelectedPaymentMethod(transferData.getPaymentMethod());
             }
             this_.showTransferAmount(transfer.getData());
+            this_.mQuoteEngine.resetQuoteCallCount();
             this_.mRouter.routeToBuyConfirmation(transfer, this_.mPrimaryAccount, this_.mPrimaryPaymentMethod, this_.mValidPaymentMethods);
             return;
         }
@@ -651,7 +666,7 @@ public class BuyPresenter {
     private void cacheUserEntriesInBundle() {
         Bundle args = this.mScreen.getArgs();
         if (args != null) {
-            Gson gson = new Gson();
+            Gson gson = Serializers.getGson();
             args.putString(CACHED_ENTERED_VALUE, this.mEnteredAmountValue);
             args.putString(CACHED_PRIMARY_AMOUNT_CURRENCY_UNIT, gson.toJson(this.mPrimaryCurrencyUnit));
             args.putString(CACHED_SECONDARY_AMOUNT_CURRENCY_UNIT, gson.toJson(this.mSecondaryCurrencyUnit));
@@ -666,7 +681,7 @@ public class BuyPresenter {
         if (args == null) {
             return false;
         }
-        Gson gson = new Gson();
+        Gson gson = Serializers.getGson();
         String cachedAmountValue = args.getString(CACHED_ENTERED_VALUE);
         CurrencyUnit cachedPrimaryCurrency = (CurrencyUnit) gson.fromJson(args.getString(CACHED_PRIMARY_AMOUNT_CURRENCY_UNIT), CurrencyUnit.class);
         CurrencyUnit cachedSecondaryCurrency = (CurrencyUnit) gson.fromJson(args.getString(CACHED_SECONDARY_AMOUNT_CURRENCY_UNIT), CurrencyUnit.class);
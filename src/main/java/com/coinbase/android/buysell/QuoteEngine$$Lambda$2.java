@@ -0,0 +1,23 @@
+package com.coinbase.android.buysell;
+
+import android.util.Pair;
+import com.coinbase.android.buysell.QuoteEngine.QuoteRequest;
+import rx.functions.Action1;
+
+final /* synthetic */ class QuoteEngine$$Lambda$2 implements Action1 {
+    private final QuoteEngine arg$1;
+    private final QuoteRequest arg$2;
+
+    private QuoteEngine$$Lambda$2(QuoteEngine quoteEngine, QuoteRequest request) {
+        this.arg$1 = quoteEngine;
+        this.arg$2 = request;
+    }
+
+    public static Action1 lambdaFactory$(QuoteEngine quoteEngine, QuoteRequest request) {
+        return new QuoteEngine$$Lambda$2(quoteEngine, request);
+    }
+
+    public void call(Object obj) {
+        QuoteEngine.lambda$fetchQuote$1(this.arg$1, this.arg$2, (Pair) obj);
+    }
+}
@@ -0,0 +1,259 @@
+package com.coinbase.android.buysell;
+
+import android.os.SystemClock;
+import android.util.Pair;
+import com.coinbase.v2.models.transfers.Amount;
+import com.coinbase.v2.models.transfers.Data;
+import com.coinbase.v2.models.transfers.Transfer;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import rx.Observable;
+import rx.Scheduler;
+import rx.Subscription;
+import rx.functions.Action1;
+import rx.functions.Func1;
+import rx.subscriptions.SerialSubscription;
+import rx.subscriptions.Subscriptions;
+
+/**
+ * Coalesces amount keystrokes into server quotes. Every amount change gets an immediate local
+ * estimate from the last quote's unit price and fee structure; the server is only asked once typing
+ * settles, at most one request is in flight per (account, payment method, currency) and a recent
+ * quote for nearly the same amount is delivered again instead of being fetched again.
+ *
+ * All methods and callbacks run on the main scheduler.
+ */
+public class QuoteEngine<T> {
+    static final long DEBOUNCE_MILLIS = 300;
+    static final long QUOTE_REUSE_MILLIS = 30000;
+    static final BigDecimal QUOTE_REUSE_TOLERANCE = new BigDecimal("0.005");
+    private final SerialSubscription mDebounceSubscription = new SerialSubscription();
+    private final Map<String, Subscription> mInFlightQuotes = new HashMap();
+    private final Map<String, LastQuote<T>> mLastQuotes = new HashMap();
+    private QuoteRequest mLatestRequest;
+    private final Scheduler mMainScheduler;
+    private final Action1<BigDecimal> mOnEstimate;
+    private final Action1<Throwable> mOnQuoteError;
+    private final Action1<Pair<Response<T>, Retrofit>> mOnQuote;
+    private final Func1<T, Price> mPriceExtractor;
+    private int mQuoteCallCount;
+    private final Func1<QuoteRequest, Observable<Pair<Response<T>, Retrofit>>> mQuoteSource;
+
+    public static final class QuoteRequest {
+        private final String mAccountId;
+        private final BigDecimal mAmount;
+        private final String mCurrency;
+        private final HashMap<String, Object> mParams;
+        private final String mPaymentMethodId;
+        private final boolean mPrimaryCrypto;
+
+        public QuoteRequest(String accountId, String paymentMethodId, String currency, BigDecimal amount, boolean primaryCrypto, HashMap<String, Object> params) {
+            this.mAccountId = accountId;
+            this.mPaymentMethodId = paymentMethodId;
+            this.mCurrency = currency;
+            this.mAmount = amount;
+            this.mPrimaryCrypto = primaryCrypto;
+            this.mParams = params;
+        }
+
+        public String getAccountId() {
+            return this.mAccountId;
+        }
+
+        public BigDecimal getAmount() {
+            return this.mAmount;
+        }
+
+        public HashMap<String, Object> getParams() {
+            return this.mParams;
+        }
+
+        public boolean isPrimaryCrypto() {
+            return this.mPrimaryCrypto;
+        }
+
+        String getKey() {
+            return this.mAccountId + "|" + this.mPaymentMethodId + "|" + this.mCurrency;
+        }
+    }
+
+    /**
+     * Unit price and fee structure of a quote; enough to estimate the counter amount of a
+     * different amount of the same currency pair without asking the server.
+     */
+    public static final class Price {
+        private final boolean mFeeAdded;
+        private final BigDecimal mFeeRatio;
+        private final BigDecimal mUnitPrice;
+
+        public Price(BigDecimal unitPrice, BigDecimal feeRatio, boolean feeAdded) {
+            this.mUnitPrice = unitPrice;
+            this.mFeeRatio = feeRatio;
+            this.mFeeAdded = feeAdded;
+        }
+
+        BigDecimal estimate(BigDecimal amount, boolean primaryCrypto) {
+            BigDecimal feeMultiplier = this.mFeeAdded ? BigDecimal.ONE.add(this.mFeeRatio) : BigDecimal.ONE.subtract(this.mFeeRatio);
+            if (primaryCrypto) {
+                return amount.multiply(this.mUnitPrice).multiply(feeMultiplier);
+            }
+            if (feeMultiplier.signum() <= 0) {
+                return null;
+            }
+            return amount.divide(feeMultiplier, MathContext.DECIMAL64).divide(this.mUnitPrice, MathContext.DECIMAL64);
+        }
+    }
+
+    /**
+     * Reads the price out of a buy or sell quote. Buys add the fee on top of the subtotal, sells
+     * take it out of it.
+     */
+    public static final class TransferPriceExtractor implements Func1<Transfer, Price> {
+        private final boolean mFeeAdded;
+
+        public TransferPriceExtractor(boolean feeAdded) {
+            this.mFeeAdded = feeAdded;
+        }
+
+        public Price call(Transfer transfer) {
+            Data data = transfer.getData();
+            if (data == null) {
+                return null;
+            }
+            BigDecimal amount = parse(data.getAmount());
+            BigDecimal subtotal = parse(data.getSubtotal());
+            BigDecimal fee = parse(data.getFee());
+            if (amount == null || subtotal == null || amount.signum() <= 0 || subtotal.signum() <= 0) {
+                return null;
+            }
+            BigDecimal feeRatio = fee == null ? BigDecimal.ZERO : fee.divide(subtotal, MathContext.DECIMAL64);
+            return new Price(subtotal.divide(amount, MathContext.DECIMAL64), feeRatio, this.mFeeAdded);
+        }
+
+        private static BigDecimal parse(Amount amount) {
+            if (amount == null || amount.getAmount() == null) {
+                return null;
+            }
+            try {
+                return new BigDecimal(amount.getAmount());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final class LastQuote<T> {
+        private final BigDecimal mAmount;
+        private final Price mPrice;
+        private final Pair<Response<T>, Retrofit> mQuote;
+        private final long mQuotedAt;
+
+        LastQuote(BigDecimal amount, Price price, Pair<Response<T>, Retrofit> quote, long quotedAt) {
+            this.mAmount = amount;
+            this.mPrice = price;
+            this.mQuote = quote;
+            this.mQuotedAt = quotedAt;
+        }
+
+        boolean canBeReusedFor(BigDecimal amount) {
+            if (SystemClock.elapsedRealtime() - this.mQuotedAt > QuoteEngine.QUOTE_REUSE_MILLIS) {
+                return false;
+            }
+            return amount.subtract(this.mAmount).abs().compareTo(this.mAmount.multiply(QuoteEngine.QUOTE_REUSE_TOLERANCE)) <= 0;
+        }
+    }
+
+    public QuoteEngine(Scheduler mainScheduler, Func1<QuoteRequest, Observable<Pair<Response<T>, Retrofit>>> quoteSource, Func1<T, Price> priceExtractor, Action1<BigDecimal> onEstimate, Action1<Pair<Response<T>, Retrofit>> onQuote, Action1<Throwable> onQuoteError) {
+        this.mMainScheduler = mainScheduler;
+        this.mQuoteSource = quoteSource;
+        this.mPriceExtractor = priceExtractor;
+        this.mOnEstimate = onEstimate;
+        this.mOnQuote = onQuote;
+        this.mOnQuoteError = onQuoteError;
+    }
+
+    public void requestQuote(QuoteRequest request) {
+        this.mLatestRequest = request;
+        this.mDebounceSubscription.set(Subscriptions.unsubscribed());
+        String key = request.getKey();
+        if (request.getAmount().signum() <= 0) {
+            cancelInFlight(key);
+            this.mOnEstimate.call(BigDecimal.ZERO);
+            return;
+        }
+        LastQuote<T> lastQuote = (LastQuote) this.mLastQuotes.get(key);
+        if (lastQuote != null) {
+            BigDecimal estimate = lastQuote.mPrice.estimate(request.getAmount(), request.isPrimaryCrypto());
+            if (estimate != null) {
+                this.mOnEstimate.call(estimate);
+            }
+            if (lastQuote.canBeReusedFor(request.getAmount())) {
+                cancelInFlight(key);
+                this.mOnQuote.call(lastQuote.mQuote);
+                return;
+            }
+        }
+        this.mDebounceSubscription.set(Observable.timer(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS, this.mMainScheduler).subscribe(QuoteEngine$$Lambda$1.lambdaFactory$(this, request)));
+    }
+
+    static /* synthetic */ void lambda$requestQuote$0(QuoteEngine this_, QuoteRequest request, Long tick) {
+        this_.fetchQuote(request);
+    }
+
+    private void fetchQuote(QuoteRequest request) {
+        String key = request.getKey();
+        cancelInFlight(key);
+        this.mQuoteCallCount++;
+        this.mInFlightQuotes.put(key, ((Observable) this.mQuoteSource.call(request)).observeOn(this.mMainScheduler).subscribe(QuoteEngine$$Lambda$2.lambdaFactory$(this, request), QuoteEngine$$Lambda$3.lambdaFactory$(this, request)));
+    }
+
+    static /* synthetic */ void lambda$fetchQuote$1(QuoteEngine this_, QuoteRequest request, Pair pair) {
+        this_.mInFlightQuotes.remove(request.getKey());
+        Response response = (Response) pair.first;
+        if (response.isSuccessful() && response.body() != null) {
+            Price price = (Price) this_.mPriceExtractor.call(response.body());
+            if (price != null) {
+                this_.mLastQuotes.put(request.getKey(), new LastQuote(request.getAmount(), price, pair, SystemClock.elapsedRealtime()));
+            }
+        }
+        if (request == this_.mLatestRequest) {
+            this_.mOnQuote.call(pair);
+        }
+    }
+
+    static /* synthetic */ void lambda$fetchQuote$2(QuoteEngine this_, QuoteRequest request, Throwable t) {
+        this_.mInFlightQuotes.remove(request.getKey());
+        if (request == this_.mLatestRequest) {
+            this_.mOnQuoteError.call(t);
+        }
+    }
+
+    private void cancelInFlight(String key) {
+        Subscription inFlight = (Subscription) this.mInFlightQuotes.remove(key);
+        if (inFlight != null) {
+            inFlight.unsubscribe();
+        }
+    }
+
+    public void cancel() {
+        this.mLatestRequest = null;
+        this.mDebounceSubscription.set(Subscriptions.unsubscribed());
+        for (Subscription inFlight : this.mInFlightQuotes.values()) {
+            inFlight.unsubscribe();
+        }
+        this.mInFlightQuotes.clear();
+    }
+
+    public int getQuoteCallCount() {
+        return this.mQuoteCallCount;
+    }
+
+    public void resetQuoteCallCount() {
+        this.mQuoteCallCount = 0;
+    }
+}
@@ -0,0 +1,20 @@
+package com.coinbase.android.buysell;
+
+import com.coinbase.android.buysell.QuoteEngine.QuoteRequest;
+import rx.functions.Func1;
+
+final /* synthetic */ class SellPresenter$$Lambda$33 implements Func1 {
+    private final SellPresenter arg$1;
+
+    private SellPresenter$$Lambda$33(SellPresenter sellPresenter) {
+        this.arg$1 = sellPresenter;
+    }
+
+    public static Func1 lambdaFactory$(SellPresenter sellPresenter) {
+        return new SellPresenter$$Lambda$33(sellPresenter);
+    }
+
+    public Object call(Object obj) {
+        return SellPresenter.lambda$new$32(this.arg$1, (QuoteRequest) obj);
+    }
+}
@@ -0,0 +1,20 @@
+package com.coinbase.android.buysell;
+
+import java.math.BigDecimal;
+import rx.functions.Action1;
+
+final /* synthetic */ class SellPresenter$$Lambda$34 implements Action1 {
+    private final SellPresenter arg$1;
+
+    private SellPresenter$$Lambda$34(SellPresenter sellPresenter) {
+        this.arg$1 = sellPresenter;
+    }
+
+    public static Action1 lambdaFactory$(SellPresenter sellPresenter) {
+        return new SellPresenter$$Lambda$34(sellPresenter);
+    }
+
+    public void call(Object obj) {
+        SellPresenter.lambda$new$33(this.arg$1, (BigDecimal) obj);
+    }
+}
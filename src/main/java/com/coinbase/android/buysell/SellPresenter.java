@@ -10,6 +10,8 @@ import android.util.Pair;
 import com.coinbase.ApiConstants;
 import com.coinbase.android.ControllerScope;
 import com.coinbase.android.R;
+import com.coinbase.android.buysell.QuoteEngine.QuoteRequest;
+import com.coinbase.android.buysell.QuoteEngine.TransferPriceExtractor;
 import com.coinbase.android.event.ClassConsumableEvent;
 import com.coinbase.android.paymentmethods.GetPaymentMethodsTaskRx;
 import com.coinbase.android.paymentmethods.linkedaccounts.LinkedAccountConnector;
@@ -36,6 +38,7 @@ import com.coinbase.android.wbl.AvailableBalanceAppBarPresenter;
 import com.coinbase.android.wbl.AvailableBalanceAppBarScreen;
 import com.coinbase.android.wbl.WithdrawalBasedLimitsApiErrorHandler;
 import com.coinbase.api.LoginManager;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.v2.models.account.Data;
 import com.coinbase.v2.models.errors.ErrorBody;
 import com.coinbase.v2.models.paymentMethods.Data.Type;
@@ -47,6 +50,7 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -104,6 +108,7 @@ class SellPresenter {
     private CurrencyUnit mPrimaryCurrencyUnit;
     private com.coinbase.v2.models.paymentMethods.Data mPrimaryPaymentMethod;
     private final CompositeSubscription mQuickStartSubscription = new CompositeSubscription();
+    private final QuoteEngine<Transfer> mQuoteEngine;
     private final QuickstartManager mQuickstartManager;
     private final SellRouter mRouter;
     private final SellScreen mScreen;
@@ -140,6 +145,15 @@ class SellPresenter {
         this.mSnackBarWrapper = snackBarWrapper;
         this.mWithdrawalBasedLimitsApiErrorHandler = withdrawalBasedLimitsApiErrorHandler;
         this.mMainScheduler = mainScheduler;
+        this.mQuoteEngine = new QuoteEngine(mainScheduler, SellPresenter$$Lambda$33.lambdaFactory$(this), new TransferPriceExtractor(false), SellPresenter$$Lambda$34.lambdaFactory$(this), SellPresenter$$Lambda$29.lambdaFactory$(this), SellPresenter$$Lambda$30.lambdaFactory$(this));
+    }
+
+    static /* synthetic */ Observable lambda$new$32(SellPresenter this_, QuoteRequest request) {
+        return this_.mLoginManager.getClient().sellBitcoinRx(request.getAccountId(), request.getParams());
+    }
+
+    static /* synthetic */ void lambda$new$33(SellPresenter this_, BigDecimal estimate) {
+        this_.mSecondaryAmount = BigMoney.of(this_.mSecondaryCurrencyUnit, estimate.setScale(this_.mSecondaryCurrencyUnit.getDefaultFractionDigits(), RoundingMode.HALF_UP));
     }
 
     void onShow() {
@@ -206,6 +220,7 @@ class SellPresenter {
         cacheUserEntriesInBundle();
         this.mSubscription.clear();
         this.mSellSubscription.clear();
+        this.mQuoteEngine.cancel();
         this.mQuickStartSubscription.clear();
     }
 
@@ -234,7 +249,7 @@ class SellPresenter {
     }
 
     void onPreviewButtonClicked() {
-        trackEvent(MixpanelTracking.EVENT_SELL_TAPPED_PREVIEW, new String[0]);
+        trackEvent(MixpanelTracking.EVENT_SELL_TAPPED_PREVIEW, MixpanelTracking.PROPERTY_BUYSELL_QUOTE_CALLS, String.valueOf(this.mQuoteEngine.getQuoteCallCount()));
         previewSell();
     }
 
@@ -301,7 +316,7 @@ class SellPresenter {
     private void setPrimaryAccount(Bundle args) {
         Data primaryAccount;
         if (!(args == null || args.getString("selected_account") == null)) {
-            primaryAccount = (Data) new Gson().fromJson(args.getString("selected_account"), Data.class);
+            primaryAccount = (Data) Serializers.getGson().fromJson(args.getString("selected_account"), Data.class);
             if (primaryAccount != null) {
                 setPrimaryAccount(primaryAccount);
                 return;
@@ -339,7 +354,7 @@ class SellPresenter {
                 args = new Bundle();
             }
             this.mPrimaryAccount = primaryAccount;
-            args.putString("selected_account", new Gson().toJson(this.mPrimaryAccount));
+            args.putString("selected_account", Serializers.getGson().toJson(this.mPrimaryAccount));
             setPageTitle();
             this.mSubscription.add(this.mAvailableBalanceAppBarPresenter.onViewCreated(args, this.mPrimaryAccount).onBackpressureLatest().observeOn(this.mMainScheduler).subscribe(SellPresenter$$Lambda$23.lambdaFactory$(this), SellPresenter$$Lambda$24.lambdaFactory$(this)));
         }
@@ -506,9 +521,7 @@ class SellPresenter {
     private void performQuote() {
         this.mErrorMessage = null;
         this.mSecondaryAmount = BigMoney.of(this.mSecondaryCurrencyUnit, 0.0d);
-        Observable<Pair<Response<Transfer>, Retrofit>> sellBitcoinObservable = this.mLoginManager.getClient().sellBitcoinRx(this.mPrimaryAccount.getId(), getSellParams());
-        this.mSellSubscription.clear();
-        this.mSellSubscription.add(sellBitcoinObservable.observeOn(this.mMainScheduler).subscribe(SellPresenter$$Lambda$29.lambdaFactory$(this), SellPresenter$$Lambda$30.lambdaFactory$(this)));
+        this.mQuoteEngine.requestQuote(new QuoteRequest(this.mPrimaryAccount.getId(), this.mPrimaryPaymentMethod == null ? null : this.mPrimaryPaymentMethod.getId(), this.mPrimaryCurrencyUnit.getCode(), this.mPrimaryAmount.getAmount(), isPrimaryCurrencyCrypto(), getSellParams()));
     }
 
     static /* synthetic */ void lambda$performQuote$28(SellPresenter this_, Pair pair) {
@@ -553,7 +566,7 @@ class SellPresenter {
                 showTransferAmount(null);
                 return;
             }
-            TransferError transferError = (TransferError) new Gson().fromJson(errorBodyString, TransferError.class);
+            TransferError transferError = (TransferError) Serializers.getGson().fromJson(errorBodyString, TransferError.class);
             ErrorBody error = this.mTransferUtils.getFirstError(transferError);
             if (error == null) {
                 handleGenericError();
@@ -585,6 +598,7 @@ class SellPresenter {
             return;
         }
         this.mScreen.showProgressOverlay();
+        this.mQuoteEngine.cancel();
         Observable<Pair<Response<Transfer>, Retrofit>> sellBitcoinObservable = this.mLoginManager.getClient().sellBitcoinRx(this.mPrimaryAccount.getId(), getSellParams());
         this.mSellSubscription.clear();
         this.mSellSubscription.add(sellBitcoinObservable.observeOn(this.mMainScheduler).subscribe(SellPresenter$$Lambda$31.lambdaFactory$(this), SellPresenter$$Lambda$32.lambdaFactory$(this)));
@@ -600,6 +614,7 @@ class SellPresenter {
                 this_.setApiSelectedPaymentMethod(transferData.getPaymentMethod());
             }
             this_.showTransferAmount(transfer.getData());
+            this_.mQuoteEngine.resetQuoteCallCount();
             this_.mRouter.routeToSellConfirmation(transfer, this_.mPrimaryAccount, this_.mPrimaryPaymentMethod, this_.mValidPaymentMethods);
             return;
         }
@@ -744,7 +759,7 @@ class SellPresenter {
     private void cacheUserEntriesInBundle() {
         Bundle args = this.mScreen.getArgs();
         if (args != null) {
-            Gson gson = new Gson();
+            Gson gson = Serializers.getGson();
             args.putString(CACHED_ENTERED_VALUE, this.mEnteredAmountValue);
             args.putString(CACHED_PRIMARY_AMOUNT_CURRENCY_UNIT, gson.toJson(this.mPrimaryCurrencyUnit));
             args.putString(CACHED_SECONDARY_AMOUNT_CURRENCY_UNIT, gson.toJson(this.mSecondaryCurrencyUnit));
@@ -759,7 +774,7 @@ class SellPresenter {
         if (args == null) {
             return false;
         }
-        Gson gson = new Gson();
+        Gson gson = Serializers.getGson();
         String cachedAmountValue = args.getString(CACHED_ENTERED_VALUE);
         CurrencyUnit cachedPrimaryCurrency = (CurrencyUnit) gson.fromJson(args.getString(CACHED_PRIMARY_AMOUNT_CURRENCY_UNIT), CurrencyUnit.class);
         CurrencyUnit cachedSecondaryCurrency = (CurrencyUnit) gson.fromJson(args.getString(CACHED_SECONDARY_AMOUNT_CURRENCY_UNIT), CurrencyUnit.class);
@@ -22,10 +22,9 @@ import com.coinbase.android.ui.BottomNavigationItem.Type;
 import com.coinbase.android.ui.PageControllerLifeCycle.PageDestination;
 import com.coinbase.android.ui.ScreenshotAllowed;
 import com.coinbase.android.utils.Utils;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.currency.Data;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import javax.inject.Inject;
 import org.joda.money.CurrencyUnit;
 import rx.subjects.PublishSubject;
@@ -61,7 +60,7 @@ public class DashboardCurrencyController extends ActionBarController implements
         if (args == null) {
             return this.mBinding.getRoot();
         }
-        Data currency = (Data) new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().fromJson(args.getString("cryptocurrency_data"), Data.class);
+        Data currency = (Data) Serializers.getGson().fromJson(args.getString("cryptocurrency_data"), Data.class);
         if (currency != null) {
             this.mPresenter.setSelectedCurrency(currency);
             updateViewText(currency);
@@ -190,7 +189,7 @@ public class DashboardCurrencyController extends ActionBarController implements
             args.putString(AccountTransactionsPresenter.ACCOUNT_DATA, new Gson().toJson((Object) account));
         }
         if (selectedCurrency != null) {
-            args.putString(AccountTransactionsPresenter.CURRENCY_DATA, new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().toJson((Object) selectedCurrency));
+            args.putString(AccountTransactionsPresenter.CURRENCY_DATA, Serializers.getGson().toJson((Object) selectedCurrency));
         }
         this.mBottomNavigationConnector.get().onNext(PageDestination.builder().setSourceBottomNavigationItem(Type.DASHBOARD).setBottomNavigationItem(Type.ACCOUNTS).setPushPageController(new AccountTransactionsController(appendArgs(args))).build());
     }
@@ -21,9 +21,8 @@ import com.coinbase.android.ui.BottomNavigationItem.Type;
 import com.coinbase.android.ui.PageControllerLifeCycle.PageDestination;
 import com.coinbase.android.ui.ScreenshotAllowed;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.currency.Data;
-import com.google.gson.GsonBuilder;
 import java.util.List;
 import javax.inject.Inject;
 
@@ -77,7 +76,7 @@ public class DashboardMainController extends ActionBarController implements Dash
     public void gotoDashboardCurrency(Data currency) {
         Bundle args = new Bundle();
         if (currency != null) {
-            args.putString("cryptocurrency_data", new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().toJson((Object) currency));
+            args.putString("cryptocurrency_data", Serializers.getGson().toJson((Object) currency));
         }
         this.mBottomNavigationConnector.get().onNext(PageDestination.builder().setSourceBottomNavigationItem(Type.DASHBOARD).setBottomNavigationItem(Type.DASHBOARD).setPushPageController(new DashboardCurrencyController(appendArgs(args))).build());
     }
@@ -1,20 +1,19 @@
 package com.coinbase.android.dashboard;
 
-import java.util.List;
-import rx.functions.Func1;
+import rx.functions.Action1;
 
-final /* synthetic */ class DashboardMainPresenter$$Lambda$10 implements Func1 {
+final /* synthetic */ class DashboardMainPresenter$$Lambda$10 implements Action1 {
     private final DashboardMainPresenter arg$1;
 
     private DashboardMainPresenter$$Lambda$10(DashboardMainPresenter dashboardMainPresenter) {
         this.arg$1 = dashboardMainPresenter;
     }
 
-    public static Func1 lambdaFactory$(DashboardMainPresenter dashboardMainPresenter) {
+    public static Action1 lambdaFactory$(DashboardMainPresenter dashboardMainPresenter) {
         return new DashboardMainPresenter$$Lambda$10(dashboardMainPresenter);
     }
 
-    public Object call(Object obj) {
-        return DashboardMainPresenter.lambda$fetchDashboardData$11(this.arg$1, (List) obj);
+    public void call(Object obj) {
+        DashboardMainPresenter.lambda$fetchDashboard$11(this.arg$1, (Throwable) obj);
     }
 }
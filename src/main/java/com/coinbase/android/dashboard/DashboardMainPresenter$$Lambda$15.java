@@ -0,0 +1,20 @@
+package com.coinbase.android.dashboard;
+
+import android.util.Pair;
+import rx.functions.Action1;
+
+final /* synthetic */ class DashboardMainPresenter$$Lambda$15 implements Action1 {
+    private final DashboardMainPresenter arg$1;
+
+    private DashboardMainPresenter$$Lambda$15(DashboardMainPresenter dashboardMainPresenter) {
+        this.arg$1 = dashboardMainPresenter;
+    }
+
+    public static Action1 lambdaFactory$(DashboardMainPresenter dashboardMainPresenter) {
+        return new DashboardMainPresenter$$Lambda$15(dashboardMainPresenter);
+    }
+
+    public void call(Object obj) {
+        this.arg$1.handleAlertsResponse((Pair) obj);
+    }
+}
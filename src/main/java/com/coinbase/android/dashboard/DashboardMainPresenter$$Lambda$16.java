@@ -0,0 +1,19 @@
+package com.coinbase.android.dashboard;
+
+import rx.functions.Action1;
+
+final /* synthetic */ class DashboardMainPresenter$$Lambda$16 implements Action1 {
+    private final DashboardMainPresenter arg$1;
+
+    private DashboardMainPresenter$$Lambda$16(DashboardMainPresenter dashboardMainPresenter) {
+        this.arg$1 = dashboardMainPresenter;
+    }
+
+    public static Action1 lambdaFactory$(DashboardMainPresenter dashboardMainPresenter) {
+        return new DashboardMainPresenter$$Lambda$16(dashboardMainPresenter);
+    }
+
+    public void call(Object obj) {
+        DashboardMainPresenter.lambda$fetchDashboardData$14(this.arg$1, (Throwable) obj);
+    }
+}
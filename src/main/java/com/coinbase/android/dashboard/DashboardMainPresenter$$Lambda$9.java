@@ -1,20 +1,20 @@
 package com.coinbase.android.dashboard;
 
 import android.util.Pair;
-import java.util.Arrays;
-import rx.functions.Func3;
+import rx.functions.Action1;
 
-final /* synthetic */ class DashboardMainPresenter$$Lambda$9 implements Func3 {
-    private static final DashboardMainPresenter$$Lambda$9 instance = new DashboardMainPresenter$$Lambda$9();
+final /* synthetic */ class DashboardMainPresenter$$Lambda$9 implements Action1 {
+    private final DashboardMainPresenter arg$1;
 
-    private DashboardMainPresenter$$Lambda$9() {
+    private DashboardMainPresenter$$Lambda$9(DashboardMainPresenter dashboardMainPresenter) {
+        this.arg$1 = dashboardMainPresenter;
     }
 
-    public static Func3 lambdaFactory$() {
-        return instance;
+    public static Action1 lambdaFactory$(DashboardMainPresenter dashboardMainPresenter) {
+        return new DashboardMainPresenter$$Lambda$9(dashboardMainPresenter);
     }
 
-    public Object call(Object obj, Object obj2, Object obj3) {
-        return Arrays.asList(new Pair[]{(Pair) obj, (Pair) obj2, (Pair) obj3});
+    public void call(Object obj) {
+        DashboardMainPresenter.lambda$fetchDashboard$10(this.arg$1, (Pair) obj);
     }
 }
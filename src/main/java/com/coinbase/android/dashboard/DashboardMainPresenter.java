@@ -21,6 +21,7 @@ import com.coinbase.api.internal.models.alerts.Alerts;
 import com.coinbase.api.internal.models.currency.Data;
 import com.coinbase.api.internal.models.dashboard.Balance;
 import com.coinbase.api.internal.models.dashboard.Dashboard;
+import com.coinbase.cache.OkHttpInMemoryLruCache;
 import com.coinbase.v2.models.price.Prices;
 import java.math.RoundingMode;
 import java.util.ArrayList;
@@ -34,7 +35,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Response;
 import retrofit2.Retrofit;
-import rx.Observable;
 import rx.Scheduler;
 import rx.subscriptions.CompositeSubscription;
 
@@ -48,6 +48,7 @@ public class DashboardMainPresenter {
     private final DashboardAlertsConnector mDashboardAlertsConnector;
     private final DashboardBalanceUpdatedConnector mDashboardBalanceUpdatedConnector;
     private final DashboardRefreshConnector mDashboardRefreshConnector;
+    private Response<Dashboard> mDashboardResponse;
     private final CompositeSubscription mDashboardSubscription = new CompositeSubscription();
     private final DashboardVerificationConnector mDashboardVerificationConnector;
     private final Logger mLogger = LoggerFactory.getLogger(DashboardMainPresenter.class);
@@ -59,11 +60,13 @@ public class DashboardMainPresenter {
     private final DashboardPriceChartItemClickedConnector mPriceChartItemClickedConnector;
     private final DashboardMainScreen mScreen;
     private final SnackBarWrapper mSnackBarWrapper;
+    private final SpotPriceService mSpotPriceService;
+    private Response<Prices> mSpotPricesResponse;
     private final StatusBarUpdater mStatusBarUpdater;
     private final CompositeSubscription mSubscription = new CompositeSubscription();
 
     @Inject
-    public DashboardMainPresenter(LoginManager loginManager, DashboardMainScreen screen, SnackBarWrapper snackBarWrapper, DashboardVerificationConnector dashboardVerificationConnector, DashboardBalanceUpdatedConnector dashboardBalanceUpdatedConnector, DashboardPriceChartItemClickedConnector priceChartItemClickedConnector, DashboardRefreshConnector dashboardRefreshConnector, DashboardAlertsConnector dashboardAlertsConnector, BuyRouter buyRouter, MixpanelTracking mixpanelTracking, MoneyFormatterUtil moneyFormatterUtil, AlertsUtils alertsUtils, Application app, StatusBarUpdater statusBarUpdater, ModalRouterAggregator modalRouterAggregator, @MainScheduler Scheduler mainScheduler, @BackgroundScheduler Scheduler backgroundScheduler) {
+    public DashboardMainPresenter(LoginManager loginManager, DashboardMainScreen screen, SnackBarWrapper snackBarWrapper, DashboardVerificationConnector dashboardVerificationConnector, DashboardBalanceUpdatedConnector dashboardBalanceUpdatedConnector, DashboardPriceChartItemClickedConnector priceChartItemClickedConnector, DashboardRefreshConnector dashboardRefreshConnector, DashboardAlertsConnector dashboardAlertsConnector, BuyRouter buyRouter, MixpanelTracking mixpanelTracking, MoneyFormatterUtil moneyFormatterUtil, AlertsUtils alertsUtils, Application app, StatusBarUpdater statusBarUpdater, ModalRouterAggregator modalRouterAggregator, @MainScheduler Scheduler mainScheduler, @BackgroundScheduler Scheduler backgroundScheduler, SpotPriceService spotPriceService) {
         this.mLoginManager = loginManager;
         this.mScreen = screen;
         this.mSnackBarWrapper = snackBarWrapper;
@@ -81,6 +84,7 @@ public class DashboardMainPresenter {
         this.mModalRouterAggregator = modalRouterAggregator;
         this.mMainScheduler = mainScheduler;
         this.mBackgroundScheduler = backgroundScheduler;
+        this.mSpotPriceService = spotPriceService;
     }
 
     void onResume() {
@@ -143,38 +147,62 @@ public class DashboardMainPresenter {
         this.mDashboardSubscription.add(this.mDashboardBalanceUpdatedConnector.get().distinctUntilChanged().observeOn(this.mMainScheduler).subscribe(DashboardMainPresenter$$Lambda$7.lambdaFactory$(this), DashboardMainPresenter$$Lambda$8.lambdaFactory$(this)));
     }
 
+    /**
+     * Shows the dashboard as soon as its response arrives, which may be the copy from the disk
+     * tier; the balance header and the alerts fill in when spot prices and alerts arrive. A copy
+     * from the disk tier is then revalidated on its own.
+     */
     void fetchDashboardData() {
-        this.mSubscription.add(Observable.combineLatest(this.mLoginManager.getClient().getDashboardRx(), this.mLoginManager.getClient().getSpotPricesRx(this.mLoginManager.getCurrencyUnit().getCurrencyCode(), new HashMap()), this.mLoginManager.getClient().getAlertsRx(), DashboardMainPresenter$$Lambda$9.lambdaFactory$()).map(DashboardMainPresenter$$Lambda$10.lambdaFactory$(this)).subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).subscribe(DashboardMainPresenter$$Lambda$11.lambdaFactory$(this), DashboardMainPresenter$$Lambda$12.lambdaFactory$(this)));
+        fetchDashboard();
+        this.mSubscription.add(this.mSpotPriceService.getSpotPrices(this.mLoginManager.getCurrencyUnit().getCurrencyCode()).subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).subscribe(DashboardMainPresenter$$Lambda$11.lambdaFactory$(this), DashboardMainPresenter$$Lambda$12.lambdaFactory$(this)));
+        this.mSubscription.add(this.mLoginManager.getClient().getAlertsRx().subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).subscribe(DashboardMainPresenter$$Lambda$15.lambdaFactory$(this), DashboardMainPresenter$$Lambda$16.lambdaFactory$(this)));
     }
 
-    static /* synthetic */ Pair lambda$fetchDashboardData$11(DashboardMainPresenter this_, List response) {
-        Pair<Response<Dashboard>, Retrofit> dashboardResponsePair = (Pair) response.get(0);
+    private void fetchDashboard() {
+        this.mSubscription.add(this.mLoginManager.getClient().getDashboardRx().subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).subscribe(DashboardMainPresenter$$Lambda$9.lambdaFactory$(this), DashboardMainPresenter$$Lambda$10.lambdaFactory$(this)));
+    }
+
+    static /* synthetic */ void lambda$fetchDashboard$10(DashboardMainPresenter this_, Pair dashboardResponsePair) {
         Response<Dashboard> dashboardResponse = dashboardResponsePair.first;
         if (dashboardResponse.isSuccessful()) {
-            Response<Prices> spotPricesResponse = ((Pair) response.get(1)).first;
-            if (spotPricesResponse.isSuccessful()) {
-                this_.mDashboardVerificationConnector.get().onNext(((Dashboard) dashboardResponse.body()).getData().getFirstBuyStatus());
-                String portfolioBalance = this_.calculatePortfolioBalance(dashboardResponse, spotPricesResponse, this_.mLoginManager.getCurrencyUnit().getCurrencyCode());
-                if (portfolioBalance != null) {
-                    this_.mDashboardBalanceUpdatedConnector.get().onNext(portfolioBalance);
-                }
-                this_.handleAlertsResponse((Pair) response.get(2));
+            this_.mDashboardResponse = dashboardResponse;
+            this_.mDashboardVerificationConnector.get().onNext(((Dashboard) dashboardResponse.body()).getData().getFirstBuyStatus());
+            this_.updatePortfolioBalance();
+            if (OkHttpInMemoryLruCache.isFromDiskTier(dashboardResponse.raw())) {
+                this_.fetchDashboard();
             }
+            return;
         }
-        return dashboardResponsePair;
+        this_.showMessageOrGenericError(Utils.getErrorMessage(dashboardResponse, (Retrofit) dashboardResponsePair.second));
     }
 
-    static /* synthetic */ void lambda$fetchDashboardData$12(DashboardMainPresenter this_, Pair dashboardResponsePair) {
-        Response<Dashboard> dashboardResponse = dashboardResponsePair.first;
-        Retrofit retrofit = dashboardResponsePair.second;
-        if (!dashboardResponse.isSuccessful()) {
-            this_.showMessageOrGenericError(Utils.getErrorMessage(dashboardResponse, retrofit));
+    static /* synthetic */ void lambda$fetchDashboard$11(DashboardMainPresenter this_, Throwable t) {
+        this_.mLogger.error("Error from fetchDashboardData", t);
+        this_.showMessageOrGenericError(Utils.getMessage(this_.mContext, t));
+    }
+
+    static /* synthetic */ void lambda$fetchDashboardData$12(DashboardMainPresenter this_, Pair spotPricesResponsePair) {
+        Response<Prices> spotPricesResponse = spotPricesResponsePair.first;
+        if (spotPricesResponse.isSuccessful()) {
+            this_.mSpotPricesResponse = spotPricesResponse;
+            this_.updatePortfolioBalance();
         }
     }
 
     static /* synthetic */ void lambda$fetchDashboardData$13(DashboardMainPresenter this_, Throwable t) {
-        this_.mLogger.error("Error from fetchDashboardData", t);
-        this_.showMessageOrGenericError(Utils.getMessage(this_.mContext, t));
+        // The balance header keeps its placeholder until the next refresh.
+        this_.mLogger.error("Error fetching spot prices for the dashboard", t);
+    }
+
+    static /* synthetic */ void lambda$fetchDashboardData$14(DashboardMainPresenter this_, Throwable t) {
+        this_.mLogger.error("Error fetching alerts for the dashboard", t);
+    }
+
+    private void updatePortfolioBalance() {
+        String portfolioBalance = calculatePortfolioBalance(this.mDashboardResponse, this.mSpotPricesResponse, this.mLoginManager.getCurrencyUnit().getCurrencyCode());
+        if (portfolioBalance != null) {
+            this.mDashboardBalanceUpdatedConnector.get().onNext(portfolioBalance);
+        }
     }
 
     private void showMessageOrGenericError(String errorMessage) {
@@ -30,9 +30,10 @@ public final class DashboardMainPresenter_Factory implements Factory<DashboardMa
     private final Provider<DashboardPriceChartItemClickedConnector> priceChartItemClickedConnectorProvider;
     private final Provider<DashboardMainScreen> screenProvider;
     private final Provider<SnackBarWrapper> snackBarWrapperProvider;
+    private final Provider<SpotPriceService> spotPriceServiceProvider;
     private final Provider<StatusBarUpdater> statusBarUpdaterProvider;
 
-    public DashboardMainPresenter_Factory(Provider<LoginManager> loginManagerProvider, Provider<DashboardMainScreen> screenProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<DashboardVerificationConnector> dashboardVerificationConnectorProvider, Provider<DashboardBalanceUpdatedConnector> dashboardBalanceUpdatedConnectorProvider, Provider<DashboardPriceChartItemClickedConnector> priceChartItemClickedConnectorProvider, Provider<DashboardRefreshConnector> dashboardRefreshConnectorProvider, Provider<DashboardAlertsConnector> dashboardAlertsConnectorProvider, Provider<BuyRouter> buyRouterProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<AlertsUtils> alertsUtilsProvider, Provider<Application> appProvider, Provider<StatusBarUpdater> statusBarUpdaterProvider, Provider<ModalRouterAggregator> modalRouterAggregatorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+    public DashboardMainPresenter_Factory(Provider<LoginManager> loginManagerProvider, Provider<DashboardMainScreen> screenProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<DashboardVerificationConnector> dashboardVerificationConnectorProvider, Provider<DashboardBalanceUpdatedConnector> dashboardBalanceUpdatedConnectorProvider, Provider<DashboardPriceChartItemClickedConnector> priceChartItemClickedConnectorProvider, Provider<DashboardRefreshConnector> dashboardRefreshConnectorProvider, Provider<DashboardAlertsConnector> dashboardAlertsConnectorProvider, Provider<BuyRouter> buyRouterProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<AlertsUtils> alertsUtilsProvider, Provider<Application> appProvider, Provider<StatusBarUpdater> statusBarUpdaterProvider, Provider<ModalRouterAggregator> modalRouterAggregatorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<SpotPriceService> spotPriceServiceProvider) {
         this.loginManagerProvider = loginManagerProvider;
         this.screenProvider = screenProvider;
         this.snackBarWrapperProvider = snackBarWrapperProvider;
@@ -50,21 +51,22 @@ public final class DashboardMainPresenter_Factory implements Factory<DashboardMa
         this.modalRouterAggregatorProvider = modalRouterAggregatorProvider;
         this.mainSchedulerProvider = mainSchedulerProvider;
         this.backgroundSchedulerProvider = backgroundSchedulerProvider;
+        this.spotPriceServiceProvider = spotPriceServiceProvider;
     }
 
     public DashboardMainPresenter get() {
-        return provideInstance(this.loginManagerProvider, this.screenProvider, this.snackBarWrapperProvider, this.dashboardVerificationConnectorProvider, this.dashboardBalanceUpdatedConnectorProvider, this.priceChartItemClickedConnectorProvider, this.dashboardRefreshConnectorProvider, this.dashboardAlertsConnectorProvider, this.buyRouterProvider, this.mixpanelTrackingProvider, this.moneyFormatterUtilProvider, this.alertsUtilsProvider, this.appProvider, this.statusBarUpdaterProvider, this.modalRouterAggregatorProvider, this.mainSchedulerProvider, this.backgroundSchedulerProvider);
+        return provideInstance(this.loginManagerProvider, this.screenProvider, this.snackBarWrapperProvider, this.dashboardVerificationConnectorProvider, this.dashboardBalanceUpdatedConnectorProvider, this.priceChartItemClickedConnectorProvider, this.dashboardRefreshConnectorProvider, this.dashboardAlertsConnectorProvider, this.buyRouterProvider, this.mixpanelTrackingProvider, this.moneyFormatterUtilProvider, this.alertsUtilsProvider, this.appProvider, this.statusBarUpdaterProvider, this.modalRouterAggregatorProvider, this.mainSchedulerProvider, this.backgroundSchedulerProvider, this.spotPriceServiceProvider);
     }
 
-    public static DashboardMainPresenter provideInstance(Provider<LoginManager> loginManagerProvider, Provider<DashboardMainScreen> screenProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<DashboardVerificationConnector> dashboardVerificationConnectorProvider, Provider<DashboardBalanceUpdatedConnector> dashboardBalanceUpdatedConnectorProvider, Provider<DashboardPriceChartItemClickedConnector> priceChartItemClickedConnectorProvider, Provider<DashboardRefreshConnector> dashboardRefreshConnectorProvider, Provider<DashboardAlertsConnector> dashboardAlertsConnectorProvider, Provider<BuyRouter> buyRouterProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<AlertsUtils> alertsUtilsProvider, Provider<Application> appProvider, Provider<StatusBarUpdater> statusBarUpdaterProvider, Provider<ModalRouterAggregator> modalRouterAggregatorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
-        return new DashboardMainPresenter((LoginManager) loginManagerProvider.get(), (DashboardMainScreen) screenProvider.get(), (SnackBarWrapper) snackBarWrapperProvider.get(), (DashboardVerificationConnector) dashboardVerificationConnectorProvider.get(), (DashboardBalanceUpdatedConnector) dashboardBalanceUpdatedConnectorProvider.get(), (DashboardPriceChartItemClickedConnector) priceChartItemClickedConnectorProvider.get(), (DashboardRefreshConnector) dashboardRefreshConnectorProvider.get(), (DashboardAlertsConnector) dashboardAlertsConnectorProvider.get(), (BuyRouter) buyRouterProvider.get(), (MixpanelTracking) mixpanelTrackingProvider.get(), (MoneyFormatterUtil) moneyFormatterUtilProvider.get(), (AlertsUtils) alertsUtilsProvider.get(), (Application) appProvider.get(), (StatusBarUpdater) statusBarUpdaterProvider.get(), (ModalRouterAggregator) modalRouterAggregatorProvider.get(), (Scheduler) mainSchedulerProvider.get(), (Scheduler) backgroundSchedulerProvider.get());
+    public static DashboardMainPresenter provideInstance(Provider<LoginManager> loginManagerProvider, Provider<DashboardMainScreen> screenProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<DashboardVerificationConnector> dashboardVerificationConnectorProvider, Provider<DashboardBalanceUpdatedConnector> dashboardBalanceUpdatedConnectorProvider, Provider<DashboardPriceChartItemClickedConnector> priceChartItemClickedConnectorProvider, Provider<DashboardRefreshConnector> dashboardRefreshConnectorProvider, Provider<DashboardAlertsConnector> dashboardAlertsConnectorProvider, Provider<BuyRouter> buyRouterProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<AlertsUtils> alertsUtilsProvider, Provider<Application> appProvider, Provider<StatusBarUpdater> statusBarUpdaterProvider, Provider<ModalRouterAggregator> modalRouterAggregatorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<SpotPriceService> spotPriceServiceProvider) {
+        return new DashboardMainPresenter((LoginManager) loginManagerProvider.get(), (DashboardMainScreen) screenProvider.get(), (SnackBarWrapper) snackBarWrapperProvider.get(), (DashboardVerificationConnector) dashboardVerificationConnectorProvider.get(), (DashboardBalanceUpdatedConnector) dashboardBalanceUpdatedConnectorProvider.get(), (DashboardPriceChartItemClickedConnector) priceChartItemClickedConnectorProvider.get(), (DashboardRefreshConnector) dashboardRefreshConnectorProvider.get(), (DashboardAlertsConnector) dashboardAlertsConnectorProvider.get(), (BuyRouter) buyRouterProvider.get(), (MixpanelTracking) mixpanelTrackingProvider.get(), (MoneyFormatterUtil) moneyFormatterUtilProvider.get(), (AlertsUtils) alertsUtilsProvider.get(), (Application) appProvider.get(), (StatusBarUpdater) statusBarUpdaterProvider.get(), (ModalRouterAggregator) modalRouterAggregatorProvider.get(), (Scheduler) mainSchedulerProvider.get(), (Scheduler) backgroundSchedulerProvider.get(), (SpotPriceService) spotPriceServiceProvider.get());
     }
 
-    public static DashboardMainPresenter_Factory create(Provider<LoginManager> loginManagerProvider, Provider<DashboardMainScreen> screenProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<DashboardVerificationConnector> dashboardVerificationConnectorProvider, Provider<DashboardBalanceUpdatedConnector> dashboardBalanceUpdatedConnectorProvider, Provider<DashboardPriceChartItemClickedConnector> priceChartItemClickedConnectorProvider, Provider<DashboardRefreshConnector> dashboardRefreshConnectorProvider, Provider<DashboardAlertsConnector> dashboardAlertsConnectorProvider, Provider<BuyRouter> buyRouterProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<AlertsUtils> alertsUtilsProvider, Provider<Application> appProvider, Provider<StatusBarUpdater> statusBarUpdaterProvider, Provider<ModalRouterAggregator> modalRouterAggregatorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
-        return new DashboardMainPresenter_Factory(loginManagerProvider, screenProvider, snackBarWrapperProvider, dashboardVerificationConnectorProvider, dashboardBalanceUpdatedConnectorProvider, priceChartItemClickedConnectorProvider, dashboardRefreshConnectorProvider, dashboardAlertsConnectorProvider, buyRouterProvider, mixpanelTrackingProvider, moneyFormatterUtilProvider, alertsUtilsProvider, appProvider, statusBarUpdaterProvider, modalRouterAggregatorProvider, mainSchedulerProvider, backgroundSchedulerProvider);
+    public static DashboardMainPresenter_Factory create(Provider<LoginManager> loginManagerProvider, Provider<DashboardMainScreen> screenProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<DashboardVerificationConnector> dashboardVerificationConnectorProvider, Provider<DashboardBalanceUpdatedConnector> dashboardBalanceUpdatedConnectorProvider, Provider<DashboardPriceChartItemClickedConnector> priceChartItemClickedConnectorProvider, Provider<DashboardRefreshConnector> dashboardRefreshConnectorProvider, Provider<DashboardAlertsConnector> dashboardAlertsConnectorProvider, Provider<BuyRouter> buyRouterProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<AlertsUtils> alertsUtilsProvider, Provider<Application> appProvider, Provider<StatusBarUpdater> statusBarUpdaterProvider, Provider<ModalRouterAggregator> modalRouterAggregatorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<SpotPriceService> spotPriceServiceProvider) {
+        return new DashboardMainPresenter_Factory(loginManagerProvider, screenProvider, snackBarWrapperProvider, dashboardVerificationConnectorProvider, dashboardBalanceUpdatedConnectorProvider, priceChartItemClickedConnectorProvider, dashboardRefreshConnectorProvider, dashboardAlertsConnectorProvider, buyRouterProvider, mixpanelTrackingProvider, moneyFormatterUtilProvider, alertsUtilsProvider, appProvider, statusBarUpdaterProvider, modalRouterAggregatorProvider, mainSchedulerProvider, backgroundSchedulerProvider, spotPriceServiceProvider);
     }
 
-    public static DashboardMainPresenter newDashboardMainPresenter(LoginManager loginManager, DashboardMainScreen screen, SnackBarWrapper snackBarWrapper, DashboardVerificationConnector dashboardVerificationConnector, DashboardBalanceUpdatedConnector dashboardBalanceUpdatedConnector, DashboardPriceChartItemClickedConnector priceChartItemClickedConnector, DashboardRefreshConnector dashboardRefreshConnector, DashboardAlertsConnector dashboardAlertsConnector, BuyRouter buyRouter, MixpanelTracking mixpanelTracking, MoneyFormatterUtil moneyFormatterUtil, AlertsUtils alertsUtils, Application app, StatusBarUpdater statusBarUpdater, ModalRouterAggregator modalRouterAggregator, Scheduler mainScheduler, Scheduler backgroundScheduler) {
-        return new DashboardMainPresenter(loginManager, screen, snackBarWrapper, dashboardVerificationConnector, dashboardBalanceUpdatedConnector, priceChartItemClickedConnector, dashboardRefreshConnector, dashboardAlertsConnector, buyRouter, mixpanelTracking, moneyFormatterUtil, alertsUtils, app, statusBarUpdater, modalRouterAggregator, mainScheduler, backgroundScheduler);
+    public static DashboardMainPresenter newDashboardMainPresenter(LoginManager loginManager, DashboardMainScreen screen, SnackBarWrapper snackBarWrapper, DashboardVerificationConnector dashboardVerificationConnector, DashboardBalanceUpdatedConnector dashboardBalanceUpdatedConnector, DashboardPriceChartItemClickedConnector priceChartItemClickedConnector, DashboardRefreshConnector dashboardRefreshConnector, DashboardAlertsConnector dashboardAlertsConnector, BuyRouter buyRouter, MixpanelTracking mixpanelTracking, MoneyFormatterUtil moneyFormatterUtil, AlertsUtils alertsUtils, Application app, StatusBarUpdater statusBarUpdater, ModalRouterAggregator modalRouterAggregator, Scheduler mainScheduler, Scheduler backgroundScheduler, SpotPriceService spotPriceService) {
+        return new DashboardMainPresenter(loginManager, screen, snackBarWrapper, dashboardVerificationConnector, dashboardBalanceUpdatedConnector, priceChartItemClickedConnector, dashboardRefreshConnector, dashboardAlertsConnector, buyRouter, mixpanelTracking, moneyFormatterUtil, alertsUtils, app, statusBarUpdater, modalRouterAggregator, mainScheduler, backgroundScheduler, spotPriceService);
     }
 }
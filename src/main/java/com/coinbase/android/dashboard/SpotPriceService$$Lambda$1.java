@@ -0,0 +1,19 @@
+package com.coinbase.android.dashboard;
+
+import com.coinbase.android.dashboard.SpotPriceService.Snapshot;
+import rx.functions.Func1;
+
+final /* synthetic */ class SpotPriceService$$Lambda$1 implements Func1 {
+    private static final SpotPriceService$$Lambda$1 instance = new SpotPriceService$$Lambda$1();
+
+    private SpotPriceService$$Lambda$1() {
+    }
+
+    public static Func1 lambdaFactory$() {
+        return instance;
+    }
+
+    public Object call(Object obj) {
+        return SpotPriceService.lambda$getSpotPrices$0((Snapshot) obj);
+    }
+}
@@ -0,0 +1,24 @@
+package com.coinbase.android.dashboard;
+
+import com.coinbase.android.dashboard.SpotPriceService.Snapshot;
+import rx.functions.Func1;
+
+final /* synthetic */ class SpotPriceService$$Lambda$2 implements Func1 {
+    private final SpotPriceService arg$1;
+    private final String arg$2;
+    private final String arg$3;
+
+    private SpotPriceService$$Lambda$2(SpotPriceService spotPriceService, String currencyCode, String currencyUnitCode) {
+        this.arg$1 = spotPriceService;
+        this.arg$2 = currencyCode;
+        this.arg$3 = currencyUnitCode;
+    }
+
+    public static Func1 lambdaFactory$(SpotPriceService spotPriceService, String currencyCode, String currencyUnitCode) {
+        return new SpotPriceService$$Lambda$2(spotPriceService, currencyCode, currencyUnitCode);
+    }
+
+    public Object call(Object obj) {
+        return SpotPriceService.lambda$getSpotPrice$1(this.arg$1, this.arg$2, this.arg$3, (Snapshot) obj);
+    }
+}
@@ -0,0 +1,21 @@
+package com.coinbase.android.dashboard;
+
+import rx.functions.Action0;
+
+final /* synthetic */ class SpotPriceService$$Lambda$3 implements Action0 {
+    private final SpotPriceService arg$1;
+    private final String arg$2;
+
+    private SpotPriceService$$Lambda$3(SpotPriceService spotPriceService, String key) {
+        this.arg$1 = spotPriceService;
+        this.arg$2 = key;
+    }
+
+    public static Action0 lambdaFactory$(SpotPriceService spotPriceService, String key) {
+        return new SpotPriceService$$Lambda$3(spotPriceService, key);
+    }
+
+    public void call() {
+        SpotPriceService.lambda$startPolling$2(this.arg$1, this.arg$2);
+    }
+}
@@ -0,0 +1,25 @@
+package com.coinbase.android.dashboard;
+
+import android.util.Pair;
+import rx.functions.Action1;
+import rx.subjects.BehaviorSubject;
+
+final /* synthetic */ class SpotPriceService$$Lambda$4 implements Action1 {
+    private final SpotPriceService arg$1;
+    private final String arg$2;
+    private final BehaviorSubject arg$3;
+
+    private SpotPriceService$$Lambda$4(SpotPriceService spotPriceService, String key, BehaviorSubject refresh) {
+        this.arg$1 = spotPriceService;
+        this.arg$2 = key;
+        this.arg$3 = refresh;
+    }
+
+    public static Action1 lambdaFactory$(SpotPriceService spotPriceService, String key, BehaviorSubject refresh) {
+        return new SpotPriceService$$Lambda$4(spotPriceService, key, refresh);
+    }
+
+    public void call(Object obj) {
+        SpotPriceService.lambda$refresh$3(this.arg$1, this.arg$2, this.arg$3, (Pair) obj);
+    }
+}
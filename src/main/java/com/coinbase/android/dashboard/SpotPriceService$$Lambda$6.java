@@ -0,0 +1,19 @@
+package com.coinbase.android.dashboard;
+
+import rx.functions.Action1;
+
+final /* synthetic */ class SpotPriceService$$Lambda$6 implements Action1 {
+    private final SpotPriceService arg$1;
+
+    private SpotPriceService$$Lambda$6(SpotPriceService spotPriceService) {
+        this.arg$1 = spotPriceService;
+    }
+
+    public static Action1 lambdaFactory$(SpotPriceService spotPriceService) {
+        return new SpotPriceService$$Lambda$6(spotPriceService);
+    }
+
+    public void call(Object obj) {
+        SpotPriceService.lambda$schedulePoll$7(this.arg$1, (Long) obj);
+    }
+}
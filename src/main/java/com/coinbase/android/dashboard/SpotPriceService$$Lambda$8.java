@@ -0,0 +1,22 @@
+package com.coinbase.android.dashboard;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import rx.functions.Action1;
+
+final /* synthetic */ class SpotPriceService$$Lambda$8 implements Action1 {
+    private final SpotPriceService arg$1;
+    private final AtomicInteger arg$2;
+
+    private SpotPriceService$$Lambda$8(SpotPriceService spotPriceService, AtomicInteger atomicInteger) {
+        this.arg$1 = spotPriceService;
+        this.arg$2 = atomicInteger;
+    }
+
+    public static Action1 lambdaFactory$(SpotPriceService spotPriceService, AtomicInteger atomicInteger) {
+        return new SpotPriceService$$Lambda$8(spotPriceService, atomicInteger);
+    }
+
+    public void call(Object obj) {
+        SpotPriceService.lambda$null$6(this.arg$1, this.arg$2, (Throwable) obj);
+    }
+}
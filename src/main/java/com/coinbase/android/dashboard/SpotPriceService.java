@@ -0,0 +1,351 @@
+package com.coinbase.android.dashboard;
+
+import android.app.Activity;
+import android.app.Application;
+import android.app.Application.ActivityLifecycleCallbacks;
+import android.os.Bundle;
+import android.os.SystemClock;
+import android.text.TextUtils;
+import android.util.Pair;
+import com.coinbase.android.ApplicationScope;
+import com.coinbase.android.ApplicationSignOutListener;
+import com.coinbase.android.BackgroundScheduler;
+import com.coinbase.android.CoinbaseApplication;
+import com.coinbase.api.LoginManager;
+import com.coinbase.v2.models.price.Data;
+import com.coinbase.v2.models.price.Price;
+import com.coinbase.v2.models.price.Prices;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Inject;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import rx.Observable;
+import rx.Scheduler;
+import rx.Subscription;
+import rx.subjects.BehaviorSubject;
+import rx.subscriptions.SerialSubscription;
+import rx.subscriptions.Subscriptions;
+
+/**
+ * Single source of spot prices. Every pair for a native currency comes from one getSpotPricesRx
+ * call whose result is fanned out to per-pair subjects, concurrent refreshes of the same native
+ * currency share one request, and single-pair lookups are answered from the batch while it is
+ * fresh. One poller serves every screen that wants live prices, refreshing every native currency
+ * some screen is watching; its cadence depends on how many screens are watching and whether the app
+ * is visible, and it is rescheduled as soon as the app goes to or comes back from the background.
+ */
+@ApplicationScope
+public final class SpotPriceService implements ApplicationSignOutListener {
+    static final long POLL_INTERVAL_BACKGROUND_MILLIS = 300000;
+    static final long POLL_INTERVAL_BUSY_MILLIS = 15000;
+    static final long POLL_INTERVAL_MILLIS = 30000;
+    static final long SNAPSHOT_MAX_AGE_MILLIS = 15000;
+    private final Scheduler mBackgroundScheduler;
+    private final Map<String, BehaviorSubject<Snapshot>> mInFlightRefreshes = new HashMap();
+    private final LoginManager mLoginManager;
+    private final Map<String, Integer> mPollCurrencies = new HashMap();
+    private final SerialSubscription mPollSubscription = new SerialSubscription();
+    private int mPollerCount;
+    private boolean mPolling;
+    private final Map<String, Snapshot> mSnapshots = new HashMap();
+    private final Map<String, BehaviorSubject<Pair<Response<Price>, Retrofit>>> mSubjectMap;
+    private int mStartedActivities;
+
+    static final class Snapshot {
+        private final long mFetchedAt = SystemClock.elapsedRealtime();
+        private final Map<String, Data> mPricesByBase = new HashMap();
+        private final Pair<Response<Prices>, Retrofit> mResponse;
+
+        Snapshot(Pair<Response<Prices>, Retrofit> response) {
+            this.mResponse = response;
+            if (((Response) response.first).isSuccessful() && ((Response) response.first).body() != null) {
+                for (Data data : ((Prices) ((Response) response.first).body()).getData()) {
+                    if (!TextUtils.isEmpty(data.getBase())) {
+                        this.mPricesByBase.put(data.getBase().toLowerCase(), data);
+                    }
+                }
+            }
+        }
+
+        boolean isFresh() {
+            return SystemClock.elapsedRealtime() - this.mFetchedAt <= SpotPriceService.SNAPSHOT_MAX_AGE_MILLIS;
+        }
+
+        Pair<Response<Price>, Retrofit> getSpotPrice(String currencyCode) {
+            Data data = (Data) this.mPricesByBase.get(currencyCode.toLowerCase());
+            if (data == null) {
+                return null;
+            }
+            Price price = new Price();
+            price.setData(data);
+            return new Pair(Response.success(price), this.mResponse.second);
+        }
+    }
+
+    @Inject
+    public SpotPriceService(Application application, LoginManager loginManager, @BackgroundScheduler Scheduler backgroundScheduler) {
+        this(application, new HashMap(), loginManager, backgroundScheduler);
+    }
+
+    public SpotPriceService(Application application, Map<String, BehaviorSubject<Pair<Response<Price>, Retrofit>>> subjectMap, LoginManager loginManager, Scheduler backgroundScheduler) {
+        this.mSubjectMap = subjectMap;
+        this.mLoginManager = loginManager;
+        this.mBackgroundScheduler = backgroundScheduler;
+        // The service may be created before CoinbaseApplication registers its own lifecycle
+        // callbacks, so it can't rely on isApplicationVisible() from inside its callbacks and counts
+        // started activities itself.
+        this.mStartedActivities = CoinbaseApplication.isApplicationVisible() ? 1 : 0;
+        application.registerActivityLifecycleCallbacks(new ActivityLifecycleCallbacks() {
+            public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+            }
+
+            public void onActivityStarted(Activity activity) {
+                SpotPriceService.this.onActivityStarted();
+            }
+
+            public void onActivityResumed(Activity activity) {
+            }
+
+            public void onActivityPaused(Activity activity) {
+            }
+
+            public void onActivityStopped(Activity activity) {
+                SpotPriceService.this.onActivityStopped();
+            }
+
+            public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+            }
+
+            public void onActivityDestroyed(Activity activity) {
+            }
+        });
+    }
+
+    public Observable<Pair<Response<Prices>, Retrofit>> getSpotPrices(String currencyUnitCode) {
+        return getSnapshot(currencyUnitCode).map(SpotPriceService$$Lambda$1.lambdaFactory$());
+    }
+
+    static /* synthetic */ Pair lambda$getSpotPrices$0(Snapshot snapshot) {
+        return snapshot.mResponse;
+    }
+
+    public Observable<Pair<Response<Price>, Retrofit>> getSpotPrice(String currencyCode, String currencyUnitCode) {
+        return getSnapshot(currencyUnitCode).flatMap(SpotPriceService$$Lambda$2.lambdaFactory$(this, currencyCode, currencyUnitCode));
+    }
+
+    static /* synthetic */ Observable lambda$getSpotPrice$1(SpotPriceService this_, String currencyCode, String currencyUnitCode, Snapshot snapshot) {
+        Pair<Response<Price>, Retrofit> spotPrice = snapshot.getSpotPrice(currencyCode);
+        if (spotPrice != null) {
+            return Observable.just(spotPrice);
+        }
+        return this_.mLoginManager.getClient().getSpotPriceRx(currencyCode, currencyUnitCode, new HashMap()).first();
+    }
+
+    public String getKey(String currencyCode, String currencyUnitCode) {
+        if (TextUtils.isEmpty(currencyCode) || TextUtils.isEmpty(currencyUnitCode)) {
+            return null;
+        }
+        return currencyCode.toLowerCase() + "-" + currencyUnitCode.toLowerCase();
+    }
+
+    public BehaviorSubject<Pair<Response<Price>, Retrofit>> get(String currencyCode, String currencyUnitCode) {
+        BehaviorSubject<Pair<Response<Price>, Retrofit>> create;
+        synchronized (this) {
+            String key = getKey(currencyCode, currencyUnitCode);
+            if (TextUtils.isEmpty(key)) {
+                create = BehaviorSubject.create();
+            } else {
+                if (!this.mSubjectMap.containsKey(key)) {
+                    Snapshot snapshot = (Snapshot) this.mSnapshots.get(currencyUnitCode.toLowerCase());
+                    Pair<Response<Price>, Retrofit> spotPrice = snapshot == null ? null : snapshot.getSpotPrice(currencyCode);
+                    this.mSubjectMap.put(key, spotPrice == null ? BehaviorSubject.create() : BehaviorSubject.create(spotPrice));
+                }
+                create = (BehaviorSubject) this.mSubjectMap.get(key);
+            }
+        }
+        return create;
+    }
+
+    /**
+     * Polls the prices in the given native currency until the returned subscription is
+     * unsubscribed. Every currency with at least one poller is refreshed on each poll.
+     */
+    public Subscription startPolling(String currencyUnitCode) {
+        String key = currencyUnitCode.toLowerCase();
+        synchronized (this) {
+            Integer count = (Integer) this.mPollCurrencies.get(key);
+            this.mPollCurrencies.put(key, Integer.valueOf(count == null ? 1 : count.intValue() + 1));
+            this.mPollerCount++;
+            if (this.mPollerCount == 1) {
+                schedulePoll();
+            }
+        }
+        return Subscriptions.create(SpotPriceService$$Lambda$3.lambdaFactory$(this, key));
+    }
+
+    static /* synthetic */ void lambda$startPolling$2(SpotPriceService this_, String key) {
+        synchronized (this_) {
+            Integer count = (Integer) this_.mPollCurrencies.get(key);
+            if (count != null) {
+                if (count.intValue() > 1) {
+                    this_.mPollCurrencies.put(key, Integer.valueOf(count.intValue() - 1));
+                } else {
+                    this_.mPollCurrencies.remove(key);
+                }
+                this_.mPollerCount--;
+            }
+            if (this_.mPollerCount == 0) {
+                this_.mPollSubscription.set(Subscriptions.unsubscribed());
+            }
+        }
+    }
+
+    public void onApplicationSignOut() {
+        synchronized (this) {
+            this.mSubjectMap.clear();
+            this.mSnapshots.clear();
+            this.mInFlightRefreshes.clear();
+            this.mPollCurrencies.clear();
+            this.mPollerCount = 0;
+            this.mPollSubscription.set(Subscriptions.unsubscribed());
+        }
+    }
+
+    private Observable<Snapshot> getSnapshot(String currencyUnitCode) {
+        synchronized (this) {
+            Snapshot snapshot = (Snapshot) this.mSnapshots.get(currencyUnitCode.toLowerCase());
+            if (snapshot != null && snapshot.isFresh()) {
+                return Observable.just(snapshot);
+            }
+        }
+        return refresh(currencyUnitCode);
+    }
+
+    private Observable<Snapshot> refresh(String currencyUnitCode) {
+        BehaviorSubject<Snapshot> refresh;
+        boolean startRefresh = false;
+        String key = currencyUnitCode.toLowerCase();
+        synchronized (this) {
+            refresh = (BehaviorSubject) this.mInFlightRefreshes.get(key);
+            if (refresh == null) {
+                refresh = BehaviorSubject.create();
+                this.mInFlightRefreshes.put(key, refresh);
+                startRefresh = true;
+            }
+        }
+        if (startRefresh) {
+            this.mLoginManager.getClient().getSpotPricesRx(currencyUnitCode, new HashMap()).first().subscribeOn(this.mBackgroundScheduler).subscribe(SpotPriceService$$Lambda$4.lambdaFactory$(this, key, refresh), SpotPriceService$$Lambda$5.lambdaFactory$(this, key, refresh));
+        }
+        return refresh.first();
+    }
+
+    static /* synthetic */ void lambda$refresh$3(SpotPriceService this_, String key, BehaviorSubject refresh, Pair pair) {
+        Snapshot snapshot = new Snapshot(pair);
+        List<Pair<BehaviorSubject<Pair<Response<Price>, Retrofit>>, Pair<Response<Price>, Retrofit>>> updates = new ArrayList();
+        synchronized (this_) {
+            this_.mInFlightRefreshes.remove(key);
+            if (((Response) pair.first).isSuccessful()) {
+                this_.mSnapshots.put(key, snapshot);
+                for (Entry<String, Data> entry : snapshot.mPricesByBase.entrySet()) {
+                    BehaviorSubject<Pair<Response<Price>, Retrofit>> subject = (BehaviorSubject) this_.mSubjectMap.get(this_.getKey((String) entry.getKey(), key));
+                    if (subject != null) {
+                        updates.add(new Pair(subject, snapshot.getSpotPrice((String) entry.getKey())));
+                    }
+                }
+            }
+        }
+        refresh.onNext(snapshot);
+        for (Pair<BehaviorSubject<Pair<Response<Price>, Retrofit>>, Pair<Response<Price>, Retrofit>> update : updates) {
+            ((BehaviorSubject) update.first).onNext(update.second);
+        }
+    }
+
+    static /* synthetic */ void lambda$refresh$4(SpotPriceService this_, String key, BehaviorSubject refresh, Throwable t) {
+        synchronized (this_) {
+            this_.mInFlightRefreshes.remove(key);
+        }
+        refresh.onError(t);
+    }
+
+    private void schedulePoll() {
+        schedulePoll(getPollIntervalMillis());
+    }
+
+    private void schedulePoll(long delayMillis) {
+        this.mPollSubscription.set(Observable.timer(delayMillis, TimeUnit.MILLISECONDS, this.mBackgroundScheduler).subscribe(SpotPriceService$$Lambda$6.lambdaFactory$(this)));
+    }
+
+    static /* synthetic */ void lambda$schedulePoll$7(SpotPriceService this_, Long v) {
+        List<String> currencyUnitCodes;
+        synchronized (this_) {
+            if (this_.mPollerCount == 0 || this_.mPolling) {
+                return;
+            }
+            this_.mPolling = true;
+            currencyUnitCodes = new ArrayList(this_.mPollCurrencies.keySet());
+        }
+        AtomicInteger remaining = new AtomicInteger(currencyUnitCodes.size());
+        for (String currencyUnitCode : currencyUnitCodes) {
+            this_.refresh(currencyUnitCode).subscribe(SpotPriceService$$Lambda$7.lambdaFactory$(this_, remaining), SpotPriceService$$Lambda$8.lambdaFactory$(this_, remaining));
+        }
+    }
+
+    static /* synthetic */ void lambda$null$5(SpotPriceService this_, AtomicInteger remaining, Snapshot snapshot) {
+        this_.onPollFinished(remaining);
+    }
+
+    static /* synthetic */ void lambda$null$6(SpotPriceService this_, AtomicInteger remaining, Throwable t) {
+        this_.onPollFinished(remaining);
+    }
+
+    private void onPollFinished(AtomicInteger remaining) {
+        if (remaining.decrementAndGet() <= 0) {
+            synchronized (this) {
+                this.mPolling = false;
+                if (this.mPollerCount > 0) {
+                    schedulePoll();
+                }
+            }
+        }
+    }
+
+    synchronized void onActivityStarted() {
+        this.mStartedActivities++;
+        if (this.mStartedActivities == 1) {
+            onVisibilityChanged(true);
+        }
+    }
+
+    synchronized void onActivityStopped() {
+        if (this.mStartedActivities > 0) {
+            this.mStartedActivities--;
+            if (this.mStartedActivities == 0) {
+                onVisibilityChanged(false);
+            }
+        }
+    }
+
+    /**
+     * Coming back to the foreground polls right away rather than when the background interval
+     * runs out, and going to the background stretches the pending poll to the background
+     * interval. A poll in progress schedules the next one itself when it finishes.
+     */
+    private void onVisibilityChanged(boolean visible) {
+        if (this.mPollerCount > 0 && !this.mPolling) {
+            schedulePoll(visible ? 0 : getPollIntervalMillis());
+        }
+    }
+
+    synchronized long getPollIntervalMillis() {
+        if (this.mStartedActivities == 0) {
+            return POLL_INTERVAL_BACKGROUND_MILLIS;
+        }
+        return this.mPollerCount > 1 ? POLL_INTERVAL_BUSY_MILLIS : POLL_INTERVAL_MILLIS;
+    }
+}
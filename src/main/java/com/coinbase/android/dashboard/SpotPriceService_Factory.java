@@ -0,0 +1,35 @@
+package com.coinbase.android.dashboard;
+
+import android.app.Application;
+import com.coinbase.api.LoginManager;
+import dagger.internal.Factory;
+import javax.inject.Provider;
+import rx.Scheduler;
+
+public final class SpotPriceService_Factory implements Factory<SpotPriceService> {
+    private final Provider<Application> applicationProvider;
+    private final Provider<Scheduler> backgroundSchedulerProvider;
+    private final Provider<LoginManager> loginManagerProvider;
+
+    public SpotPriceService_Factory(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        this.applicationProvider = applicationProvider;
+        this.loginManagerProvider = loginManagerProvider;
+        this.backgroundSchedulerProvider = backgroundSchedulerProvider;
+    }
+
+    public SpotPriceService get() {
+        return provideInstance(this.applicationProvider, this.loginManagerProvider, this.backgroundSchedulerProvider);
+    }
+
+    public static SpotPriceService provideInstance(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        return new SpotPriceService((Application) applicationProvider.get(), (LoginManager) loginManagerProvider.get(), (Scheduler) backgroundSchedulerProvider.get());
+    }
+
+    public static SpotPriceService_Factory create(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        return new SpotPriceService_Factory(applicationProvider, loginManagerProvider, backgroundSchedulerProvider);
+    }
+
+    public static SpotPriceService newSpotPriceService(Application application, LoginManager loginManager, Scheduler backgroundScheduler) {
+        return new SpotPriceService(application, loginManager, backgroundScheduler);
+    }
+}
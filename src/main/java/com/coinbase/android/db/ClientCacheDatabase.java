@@ -6,24 +6,31 @@ import android.database.sqlite.SQLiteOpenHelper;
 
 public class ClientCacheDatabase extends SQLiteOpenHelper {
     public static final String DATABASE_NAME = "coinbase_client_cache";
-    public static final int DATABASE_VERSION = 26;
+    public static final int DATABASE_VERSION = 27;
 
     public ClientCacheDatabase(Context context) {
-        super(context, DATABASE_NAME, null, 26);
+        super(context, DATABASE_NAME, null, 27);
     }
 
     public void onCreate(SQLiteDatabase db) {
         db.execSQL(TransactionORM.SQL_CREATE_TABLE);
+        db.execSQL(TransactionORM.SQL_CREATE_TRANSACTION_ID_INDEX);
+        db.execSQL(TransactionORM.SQL_CREATE_ACCOUNT_INDEX);
         db.execSQL(AccountORM.SQL_CREATE_TABLE);
     }
 
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        if (oldVersion == 26 && newVersion == 27) {
+            db.execSQL(TransactionORM.SQL_DELETE_DUPLICATES);
+            db.execSQL(TransactionORM.SQL_CREATE_TRANSACTION_ID_INDEX);
+            db.execSQL(TransactionORM.SQL_CREATE_ACCOUNT_INDEX);
+            return;
+        }
         db.execSQL(TransactionORM.SQL_DROP_TABLE);
         db.execSQL(AccountORM.SQL_DROP_TABLE);
         db.execSQL("DROP TABLE IF EXISTS AccountChanges");
         db.execSQL("DROP TABLE IF EXISTS DelayedTransactions");
-        db.execSQL(TransactionORM.SQL_CREATE_TABLE);
-        db.execSQL(AccountORM.SQL_CREATE_TABLE);
+        onCreate(db);
     }
 
     public void onDowngrade(SQLiteDatabase db, int oldVersion, int newVersion) {
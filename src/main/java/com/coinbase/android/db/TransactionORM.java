@@ -3,6 +3,7 @@ package com.coinbase.android.db;
 import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
 import android.provider.BaseColumns;
 import com.coinbase.api.internal.ApiConstants;
 import com.coinbase.v2.models.transactions.Amount;
@@ -13,6 +14,8 @@ import com.coinbase.v2.models.transactions.NativeAmount;
 import com.coinbase.v2.models.transactions.PaymentMethod;
 import com.coinbase.v2.models.transactions.Trade;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 public class TransactionORM implements BaseColumns {
@@ -43,10 +46,82 @@ public class TransactionORM implements BaseColumns {
     public static final String COLUMN_TYPE = "type";
     private static final String COMMA_SEP = ", ";
     public static final String INTEGER_TYPE = " INTEGER";
+    static final int MAX_DELETE_CHUNK = 998;
     public static final String SQL_CREATE_TABLE = "CREATE TABLE Transactions (_id INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, account_id TEXT, transaction_id TEXT, delayed_send_date TEXT, amount TEXT, amount_currency TEXT, native_amount TEXT, native_amount_currency TEXT, resource_type TEXT, resource_id TEXT, resource_name TEXT, resource_email TEXT, resource_address TEXT, resource_resource TEXT, payment_method_id TEXT, type TEXT, resource TEXT, confirmations INTEGER, status TEXT, notes TEXT, delayed INTEGER, details_title INTEGER, details_subtitle INTEGER, deatils_payment_method_name INTEGER, avatar_url TEXT, created_at TEXT)";
+    public static final String SQL_CREATE_ACCOUNT_INDEX = "CREATE INDEX IF NOT EXISTS transactions_account_delayed_created_at ON Transactions (account_id, delayed, created_at)";
+    public static final String SQL_CREATE_TRANSACTION_ID_INDEX = "CREATE UNIQUE INDEX IF NOT EXISTS transactions_transaction_id ON Transactions (transaction_id)";
+    public static final String SQL_DELETE_DUPLICATES = "DELETE FROM Transactions WHERE transaction_id IS NOT NULL AND _id NOT IN (SELECT MAX(_id) FROM Transactions WHERE transaction_id IS NOT NULL GROUP BY transaction_id)";
     public static final String SQL_DROP_TABLE = "DROP TABLE IF EXISTS Transactions";
+    private static final String SQL_UPSERT;
     private static final String TABLE_NAME = "Transactions";
     public static final String TEXT_TYPE = " TEXT";
+    private static final String[] UPSERT_COLUMNS = new String[]{"account_id", COLUMN_TRANSACTION_ID, COLUMN_DELAYED_SEND_DATE, "amount", COLUMN_AMOUNT_CURRENCY, COLUMN_NATIVE_AMOUNT_STRING, COLUMN_NATIVE_AMOUNT_CURRENCY, COLUMN_RESOURCE_TYPE, COLUMN_RESOURCE_ID, COLUMN_RESOURCE_NAME, COLUMN_RESOURCE_EMAIL, COLUMN_RESOURCE_ADDRESS, COLUMN_RESOURCE_RESOURCE, COLUMN_PAYMENT_METHOD_ID, "type", COLUMN_RESOURCE, "status", COLUMN_NOTES, COLUMN_DELAYED, COLUMN_DETAILS_TITLE, COLUMN_DETAILS_SUBTITLE, COLUMN_DETAILS_PAYMENT_METHOD_NAME, COLUMN_AVATAR_URL, COLUMN_CREATED_AT};
+
+    static {
+        StringBuilder columns = new StringBuilder();
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < UPSERT_COLUMNS.length; i++) {
+            if (i > 0) {
+                columns.append(COMMA_SEP);
+                placeholders.append(COMMA_SEP);
+            }
+            columns.append(UPSERT_COLUMNS[i]);
+            placeholders.append("?");
+        }
+        SQL_UPSERT = "INSERT OR REPLACE INTO Transactions (" + columns + ") VALUES (" + placeholders + ")";
+    }
+
+    public static final class ColumnIndexes {
+        final int amount;
+        final int amountCurrency;
+        final int avatarUrl;
+        final int createdAt;
+        final int delayed;
+        final int delayedSendDate;
+        final int detailsPaymentMethodName;
+        final int detailsSubtitle;
+        final int detailsTitle;
+        final int nativeAmount;
+        final int nativeAmountCurrency;
+        final int notes;
+        final int paymentMethodId;
+        final int resource;
+        final int resourceAddress;
+        final int resourceEmail;
+        final int resourceId;
+        final int resourceName;
+        final int resourceResource;
+        final int resourceType;
+        final int status;
+        final int transactionId;
+        final int type;
+
+        public ColumnIndexes(Cursor c) {
+            this.amount = c.getColumnIndex("amount");
+            this.amountCurrency = c.getColumnIndex(COLUMN_AMOUNT_CURRENCY);
+            this.avatarUrl = c.getColumnIndex(COLUMN_AVATAR_URL);
+            this.createdAt = c.getColumnIndex(COLUMN_CREATED_AT);
+            this.delayed = c.getColumnIndex(COLUMN_DELAYED);
+            this.delayedSendDate = c.getColumnIndex(COLUMN_DELAYED_SEND_DATE);
+            this.detailsPaymentMethodName = c.getColumnIndex(COLUMN_DETAILS_PAYMENT_METHOD_NAME);
+            this.detailsSubtitle = c.getColumnIndex(COLUMN_DETAILS_SUBTITLE);
+            this.detailsTitle = c.getColumnIndex(COLUMN_DETAILS_TITLE);
+            this.nativeAmount = c.getColumnIndex(COLUMN_NATIVE_AMOUNT_STRING);
+            this.nativeAmountCurrency = c.getColumnIndex(COLUMN_NATIVE_AMOUNT_CURRENCY);
+            this.notes = c.getColumnIndex(COLUMN_NOTES);
+            this.paymentMethodId = c.getColumnIndex(COLUMN_PAYMENT_METHOD_ID);
+            this.resource = c.getColumnIndex(COLUMN_RESOURCE);
+            this.resourceAddress = c.getColumnIndex(COLUMN_RESOURCE_ADDRESS);
+            this.resourceEmail = c.getColumnIndex(COLUMN_RESOURCE_EMAIL);
+            this.resourceId = c.getColumnIndex(COLUMN_RESOURCE_ID);
+            this.resourceName = c.getColumnIndex(COLUMN_RESOURCE_NAME);
+            this.resourceResource = c.getColumnIndex(COLUMN_RESOURCE_RESOURCE);
+            this.resourceType = c.getColumnIndex(COLUMN_RESOURCE_TYPE);
+            this.status = c.getColumnIndex("status");
+            this.transactionId = c.getColumnIndex(COLUMN_TRANSACTION_ID);
+            this.type = c.getColumnIndex("type");
+        }
+    }
 
     public static ContentValues toContentValues(String accountId, Data tx) {
         ContentValues values = new ContentValues();
@@ -144,17 +219,21 @@ public class TransactionORM implements BaseColumns {
     }
 
     public static Data fromCursor(Cursor c) {
+        return fromCursor(c, new ColumnIndexes(c));
+    }
+
+    public static Data fromCursor(Cursor c, ColumnIndexes columns) {
         Data result = new Data();
-        result.setId(c.getString(c.getColumnIndex(COLUMN_TRANSACTION_ID)));
-        String resourceType = c.getString(c.getColumnIndex(COLUMN_RESOURCE_TYPE));
+        result.setId(c.getString(columns.transactionId));
+        String resourceType = c.getString(columns.resourceType);
         if (resourceType != null) {
             if (!resourceType.equals("to") && !resourceType.equals("from")) {
                 if (resourceType.equals("buy") || resourceType.equals("sell") || resourceType.equals("request") || resourceType.equals("send") || resourceType.equals("transfer") || resourceType.equals(ApiConstants.FIAT_DEPOSIT) || resourceType.equals(ApiConstants.FIAT_WITHDRAWAL) || resourceType.equals(ApiConstants.EXCHANGE_DEPOSIT) || resourceType.equals(ApiConstants.EXCHANGE_WITHDRAWAL) || resourceType.equals(ApiConstants.VAULT_WITHDRAWAL)) {
                     Trade trade = new Trade();
-                    trade.setId(c.getString(c.getColumnIndex(COLUMN_RESOURCE_ID)));
-                    trade.setResource(c.getString(c.getColumnIndex(COLUMN_RESOURCE_RESOURCE)));
+                    trade.setId(c.getString(columns.resourceId));
+                    trade.setResource(c.getString(columns.resourceResource));
                     PaymentMethod paymentMethod = new PaymentMethod();
-                    paymentMethod.setId(c.getString(c.getColumnIndex(COLUMN_PAYMENT_METHOD_ID)));
+                    paymentMethod.setId(c.getString(columns.paymentMethodId));
                     trade.setPaymentMethod(paymentMethod);
                     Object obj = -1;
                     switch (resourceType.hashCode()) {
@@ -256,64 +335,91 @@ public class TransactionORM implements BaseColumns {
                 }
             }
             Entity entity = new Entity();
-            entity.setId(c.getString(c.getColumnIndex(COLUMN_RESOURCE_ID)));
-            entity.setName(c.getString(c.getColumnIndex(COLUMN_RESOURCE_NAME)));
-            entity.setEmail(c.getString(c.getColumnIndex(COLUMN_RESOURCE_EMAIL)));
-            entity.setAddress(c.getString(c.getColumnIndex(COLUMN_RESOURCE_ADDRESS)));
-            entity.setResource(c.getString(c.getColumnIndex(COLUMN_RESOURCE_RESOURCE)));
-            entity.setAvatarUrl(c.getString(c.getColumnIndex(COLUMN_AVATAR_URL)));
+            entity.setId(c.getString(columns.resourceId));
+            entity.setName(c.getString(columns.resourceName));
+            entity.setEmail(c.getString(columns.resourceEmail));
+            entity.setAddress(c.getString(columns.resourceAddress));
+            entity.setResource(c.getString(columns.resourceResource));
+            entity.setAvatarUrl(c.getString(columns.avatarUrl));
             if (resourceType.equals("to")) {
                 result.setTo(entity);
             } else {
                 result.setFrom(entity);
             }
         }
-        result.setCreatedAt(c.getString(c.getColumnIndex(COLUMN_CREATED_AT)));
-        String currencyCode = c.getString(c.getColumnIndex(COLUMN_AMOUNT_CURRENCY));
-        String amountString = c.getString(c.getColumnIndex("amount"));
+        result.setCreatedAt(c.getString(columns.createdAt));
+        String currencyCode = c.getString(columns.amountCurrency);
+        String amountString = c.getString(columns.amount);
         if (!(currencyCode == null || amountString == null)) {
             Amount amount = new Amount();
             amount.setAmount(amountString);
             amount.setCurrency(currencyCode);
             result.setAmount(amount);
         }
-        String delayedDate = c.getString(c.getColumnIndex(COLUMN_DELAYED_SEND_DATE));
+        String delayedDate = c.getString(columns.delayedSendDate);
         if (delayedDate != null) {
             result.setDelayedSendDate(delayedDate);
         }
-        String NativeCurrencyCode = c.getString(c.getColumnIndex(COLUMN_NATIVE_AMOUNT_CURRENCY));
-        String NativeAmountString = c.getString(c.getColumnIndex(COLUMN_NATIVE_AMOUNT_STRING));
+        String NativeCurrencyCode = c.getString(columns.nativeAmountCurrency);
+        String NativeAmountString = c.getString(columns.nativeAmount);
         if (!(NativeCurrencyCode == null || NativeAmountString == null)) {
             NativeAmount nativeAmount = new NativeAmount();
             nativeAmount.setAmount(NativeAmountString);
             nativeAmount.setCurrency(NativeCurrencyCode);
             result.setNativeAmount(nativeAmount);
         }
-        result.setResource(c.getString(c.getColumnIndex(COLUMN_RESOURCE)));
-        result.setDescription(c.getString(c.getColumnIndex(COLUMN_NOTES)));
-        result.setType(c.getString(c.getColumnIndex("type")));
-        result.setStatus(c.getString(c.getColumnIndex("status")));
-        result.setDelayed(Boolean.valueOf(c.getInt(c.getColumnIndex(COLUMN_DELAYED)) != 0));
+        result.setResource(c.getString(columns.resource));
+        result.setDescription(c.getString(columns.notes));
+        result.setType(c.getString(columns.type));
+        result.setStatus(c.getString(columns.status));
+        result.setDelayed(Boolean.valueOf(c.getInt(columns.delayed) != 0));
         Details details = new Details();
-        details.setTitle(c.getString(c.getColumnIndex(COLUMN_DETAILS_TITLE)));
-        details.setSubtitle(c.getString(c.getColumnIndex(COLUMN_DETAILS_SUBTITLE)));
-        details.setPaymentMethodName(c.getString(c.getColumnIndex(COLUMN_DETAILS_PAYMENT_METHOD_NAME)));
+        details.setTitle(c.getString(columns.detailsTitle));
+        details.setSubtitle(c.getString(columns.detailsSubtitle));
+        details.setPaymentMethodName(c.getString(columns.detailsPaymentMethodName));
         result.setDetails(details);
         return result;
     }
 
     public static void insertOrUpdate(SQLiteDatabase db, String accountId, Data tx) {
-        db.delete(TABLE_NAME, "transaction_id = ?", new String[]{tx.getId()});
-        long result = db.insert(TABLE_NAME, "_id", toContentValues(accountId, tx));
+        insertOrUpdate(db, accountId, Collections.singletonList(tx));
+    }
+
+    public static void insertOrUpdate(SQLiteDatabase db, String accountId, List<Data> transactions) {
+        SQLiteStatement statement = db.compileStatement(SQL_UPSERT);
+        try {
+            for (Data tx : transactions) {
+                ContentValues values = toContentValues(accountId, tx);
+                statement.clearBindings();
+                for (int i = 0; i < UPSERT_COLUMNS.length; i++) {
+                    Object value = values.get(UPSERT_COLUMNS[i]);
+                    if (value == null) {
+                        statement.bindNull(i + 1);
+                    } else if (value instanceof Boolean) {
+                        statement.bindLong(i + 1, ((Boolean) value).booleanValue() ? 1 : 0);
+                    } else if (value instanceof Number) {
+                        statement.bindLong(i + 1, ((Number) value).longValue());
+                    } else {
+                        statement.bindString(i + 1, value.toString());
+                    }
+                }
+                statement.executeInsert();
+            }
+        } finally {
+            statement.close();
+        }
     }
 
     public static Data find(SQLiteDatabase db, String id) {
-        SQLiteDatabase sQLiteDatabase = db;
-        Cursor c = sQLiteDatabase.query(TABLE_NAME, null, "transaction_id = ?", new String[]{id}, null, null, "created_at DESC");
-        if (c.moveToFirst()) {
-            return fromCursor(c);
+        Cursor c = db.query(TABLE_NAME, null, "transaction_id = ?", new String[]{id}, null, null, null, "1");
+        try {
+            if (c.moveToFirst()) {
+                return fromCursor(c);
+            }
+            return null;
+        } finally {
+            c.close();
         }
-        return null;
     }
 
     public static long delete(SQLiteDatabase db, Data tx) {
@@ -325,26 +431,108 @@ public class TransactionORM implements BaseColumns {
     }
 
     public static List<Data> getDelayedTransactions(SQLiteDatabase db, String accountId) {
-        SQLiteDatabase sQLiteDatabase = db;
-        Cursor c = sQLiteDatabase.query(TABLE_NAME, null, "account_id = ? AND delayed = ?", new String[]{accountId, "1"}, null, null, "created_at DESC");
-        ArrayList<Data> result = new ArrayList();
-        c.moveToFirst();
-        while (!c.isAfterLast()) {
-            result.add(fromCursor(c));
-            c.moveToNext();
-        }
-        return result;
+        return readAll(db.query(TABLE_NAME, null, "account_id = ? AND delayed = ?", new String[]{accountId, "1"}, null, null, "created_at DESC"));
     }
 
     public static List<Data> getTransactions(SQLiteDatabase db, String accountId) {
-        SQLiteDatabase sQLiteDatabase = db;
-        Cursor c = sQLiteDatabase.query(TABLE_NAME, null, "account_id = ? AND delayed = ?", new String[]{accountId, "0"}, null, null, "created_at DESC");
-        ArrayList<Data> result = new ArrayList();
-        c.moveToFirst();
-        while (!c.isAfterLast()) {
-            result.add(fromCursor(c));
-            c.moveToNext();
+        return readAll(db.query(TABLE_NAME, null, "account_id = ? AND delayed = ?", new String[]{accountId, "0"}, null, null, "created_at DESC, transaction_id DESC"));
+    }
+
+    public static List<Data> getTransactions(SQLiteDatabase db, String accountId, String beforeCreatedAt, int limit) {
+        return getTransactions(db, accountId, beforeCreatedAt, null, limit);
+    }
+
+    public static List<Data> getTransactions(SQLiteDatabase db, String accountId, String beforeCreatedAt, String beforeTransactionId, int limit) {
+        String limitString = String.valueOf(limit);
+        if (beforeCreatedAt == null) {
+            return readAll(db.query(TABLE_NAME, null, "account_id = ? AND delayed = ?", new String[]{accountId, "0"}, null, null, "created_at DESC, transaction_id DESC", limitString));
+        }
+        if (beforeTransactionId == null) {
+            return readAll(db.query(TABLE_NAME, null, "account_id = ? AND delayed = ? AND created_at < ?", new String[]{accountId, "0", beforeCreatedAt}, null, null, "created_at DESC, transaction_id DESC", limitString));
+        }
+        return readAll(db.query(TABLE_NAME, null, "account_id = ? AND delayed = ? AND (created_at < ? OR (created_at = ? AND transaction_id < ?))", new String[]{accountId, "0", beforeCreatedAt, beforeCreatedAt, beforeTransactionId}, null, null, "created_at DESC, transaction_id DESC", limitString));
+    }
+
+    public static Data getOldestTransaction(SQLiteDatabase db, String accountId) {
+        List<Data> result = readAll(db.query(TABLE_NAME, null, "account_id = ? AND delayed = ?", new String[]{accountId, "0"}, null, null, "created_at ASC, transaction_id ASC", "1"));
+        return result.isEmpty() ? null : (Data) result.get(0);
+    }
+
+    public static List<String> getTransactionIds(SQLiteDatabase db, String accountId, String status, String beforeCreatedAt, int limit) {
+        Cursor c = db.query(TABLE_NAME, new String[]{COLUMN_TRANSACTION_ID}, "account_id = ? AND delayed = ? AND status = ? AND created_at < ?", new String[]{accountId, "0", status, beforeCreatedAt}, null, null, "created_at DESC", String.valueOf(limit));
+        try {
+            ArrayList<String> ids = new ArrayList(c.getCount());
+            while (c.moveToNext()) {
+                ids.add(c.getString(0));
+            }
+            return ids;
+        } finally {
+            c.close();
+        }
+    }
+
+    public static String getStatus(SQLiteDatabase db, String accountId, String id) {
+        Cursor c = db.query(TABLE_NAME, new String[]{"status"}, "transaction_id = ? AND account_id = ?", new String[]{id, accountId}, null, null, null, "1");
+        try {
+            if (!c.moveToFirst()) {
+                return null;
+            }
+            return c.isNull(0) ? "" : c.getString(0);
+        } finally {
+            c.close();
+        }
+    }
+
+    /**
+     * Deletes the account's rows newer than the given time that aren't among the kept ids. The
+     * ids are compared in memory and the rows deleted by id in chunks, since a NOT IN over every
+     * kept id would exceed SQLite's limit of 999 bound variables; each chunk leaves room for the
+     * account id.
+     */
+    public static long deleteMissing(SQLiteDatabase db, String accountId, String newerThanCreatedAt, List<String> keepIds) {
+        HashSet<String> keep = new HashSet(keepIds);
+        ArrayList<String> missingIds = new ArrayList();
+        Cursor c = db.query(TABLE_NAME, new String[]{COLUMN_TRANSACTION_ID}, "account_id = ? AND delayed = ? AND created_at > ?", new String[]{accountId, "0", newerThanCreatedAt}, null, null, null);
+        try {
+            while (c.moveToNext()) {
+                String id = c.getString(0);
+                if (!keep.contains(id)) {
+                    missingIds.add(id);
+                }
+            }
+        } finally {
+            c.close();
+        }
+        long deleted = 0;
+        for (int start = 0; start < missingIds.size(); start += MAX_DELETE_CHUNK) {
+            List<String> chunk = missingIds.subList(start, Math.min(missingIds.size(), start + MAX_DELETE_CHUNK));
+            StringBuilder selection = new StringBuilder("account_id = ? AND transaction_id IN (");
+            String[] args = new String[chunk.size() + 1];
+            args[0] = accountId;
+            for (int i = 0; i < chunk.size(); i++) {
+                selection.append(i == 0 ? "?" : ",?");
+                args[i + 1] = (String) chunk.get(i);
+            }
+            selection.append(")");
+            deleted += (long) db.delete(TABLE_NAME, selection.toString(), args);
+        }
+        return deleted;
+    }
+
+    public static long deleteOlderThan(SQLiteDatabase db, String accountId, String createdAt) {
+        return (long) db.delete(TABLE_NAME, "account_id = ? AND delayed = ? AND created_at < ?", new String[]{accountId, "0", createdAt});
+    }
+
+    private static List<Data> readAll(Cursor c) {
+        ArrayList<Data> result = new ArrayList(c.getCount());
+        try {
+            ColumnIndexes columns = new ColumnIndexes(c);
+            while (c.moveToNext()) {
+                result.add(fromCursor(c, columns));
+            }
+            return result;
+        } finally {
+            c.close();
         }
-        return result;
     }
 }
@@ -6,6 +6,7 @@ import com.coinbase.android.ApplicationScope;
 import com.coinbase.android.ApplicationSignOutListener;
 import com.coinbase.android.BackgroundScheduler;
 import com.coinbase.android.settings.UserUpdatedConnector;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.v2.models.user.Data;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
@@ -27,7 +28,7 @@ import rx.subscriptions.CompositeSubscription;
 public class FeatureFlags implements ApplicationOnCreateListener, ApplicationSignOutListener {
     public static final String FF_SHORTCUT_TO_PLAID_SCREEN = "2018.april.mobile.android.shortcut_to_plaid_screen";
     public static final String FF_WORLDPAY = "tEsTdIsAbLeD";
-    private static final Gson GSON = new Gson();
+    private static final Gson GSON = Serializers.getGson();
     static final String KEY_FEATURE_FLAGS = "feature_flags";
     private final Scheduler mBackgroundScheduler;
     private final Logger mLogger = LoggerFactory.getLogger(FeatureFlags.class);
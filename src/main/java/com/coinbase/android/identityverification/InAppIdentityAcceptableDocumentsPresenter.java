@@ -9,13 +9,12 @@ import com.coinbase.android.ui.BackNavigationConnector;
 import com.coinbase.android.ui.SnackBarWrapper;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.api.LoginManager;
-import com.coinbase.api.internal.ModelGsonAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.jumio.JumioProfiles;
 import com.coinbase.api.internal.models.jumio.JumioProfiles.Type;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.Data;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.SupportedDocument;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.SupportedIdType;
-import com.google.gson.GsonBuilder;
 import java.util.ArrayList;
 import java.util.List;
 import javax.inject.Inject;
@@ -53,7 +52,7 @@ public class InAppIdentityAcceptableDocumentsPresenter {
 
     public void onItemClick(int position) {
         this.mIdentityVerificationBitmapConnector.get().onNext(null);
-        this.mRouter.routeToNext(new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create().toJson(this.mJumioDoc), position);
+        this.mRouter.routeToNext(Serializers.getGson().toJson(this.mJumioDoc), position);
         SupportedIdType idType = (SupportedIdType) this.mJumioDoc.getSupportedIdTypes().get(position);
         if (idType != null && idType.getType() != null) {
             MixpanelTracking.getInstance().trackEvent(MixpanelTracking.EVENT_JUMIO_DOC_TYPE_SELECT, "id_type", idType.getType().toString());
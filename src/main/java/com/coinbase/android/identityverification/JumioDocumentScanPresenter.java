@@ -3,9 +3,10 @@ package com.coinbase.android.identityverification;
 import android.app.Application;
 import android.content.Context;
 import android.graphics.Bitmap;
-import android.graphics.Bitmap.CompressFormat;
 import android.os.AsyncTask;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import com.coinbase.CallbackWithRetrofit;
 import com.coinbase.android.BackgroundScheduler;
 import com.coinbase.android.ControllerScope;
@@ -18,13 +19,12 @@ import com.coinbase.android.utils.FaceDetectionUtils;
 import com.coinbase.android.utils.Utils;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.api.LoginManager;
-import com.coinbase.api.internal.ModelGsonAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.jumio.JumioProfile;
 import com.coinbase.api.internal.models.jumio.JumioProfiles.Type;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.Data;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.SupportedIdType;
-import com.google.gson.GsonBuilder;
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import javax.inject.Inject;
 import org.apache.commons.lang3.mutable.MutableBoolean;
 import retrofit2.Call;
@@ -58,11 +58,6 @@ public class JumioDocumentScanPresenter {
     boolean mTakingBack = false;
     boolean mTakingFaceMatch = false;
 
-    private enum ImageType {
-        PNG,
-        JPEG
-    }
-
     @Inject
     public JumioDocumentScanPresenter(JumioDocumentScanScreen screen, InAppIdentityDocumentScanRouter router, RetakeAndContinueConnector retakeAndContinueConnector, PhotoTakenConnector photoTakenConnector, IdentityVerificationBitmapConnector identityVerificationBitmapConnector, @MainScheduler Scheduler mainScheduler, @BackgroundScheduler Scheduler backgroundScheduler, LoginManager loginManager, SnackBarWrapper snackBarWrapper, FaceDetectionUtils faceDetectionUtils, Application app, SplitTesting splitTesting) {
         this.mScreen = screen;
@@ -81,7 +76,7 @@ public class JumioDocumentScanPresenter {
 
     public void onCreate(Bundle args) {
         this.mArgs = args;
-        this.mJumioDoc = (Data) new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create().fromJson(args.getString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY), Data.class);
+        this.mJumioDoc = (Data) Serializers.getGson().fromJson(args.getString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY), Data.class);
         if (this.mJumioDoc == null) {
             this.mScreen.finish();
             return;
@@ -174,7 +169,7 @@ public class JumioDocumentScanPresenter {
 
     public void takePhoto() {
         Bundle extras = new Bundle();
-        extras.putString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY, new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create().toJson(this.mJumioDoc));
+        extras.putString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY, Serializers.getGson().toJson(this.mJumioDoc));
         extras.putInt(IdentityVerificationConstants.JUMIO_DOCUMENT_INDEX_KEY, this.mJumioDoc.getSupportedIdTypes().indexOf(this.mJumioType));
         extras.putBoolean(IdentityVerificationConstants.EXTRA_TAKING_BACK, this.mTakingBack);
         extras.putBoolean(IdentityVerificationConstants.EXTRA_TAKING_FACE_MATCH, this.mTakingFaceMatch);
@@ -292,7 +287,7 @@ public class JumioDocumentScanPresenter {
 
     private Bundle createScanDocumentExtras(boolean isTakingBack, boolean isTakingFaceMatch) {
         Bundle extras = new Bundle();
-        extras.putString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY, new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create().toJson(this.mJumioDoc));
+        extras.putString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY, Serializers.getGson().toJson(this.mJumioDoc));
         extras.putInt(IdentityVerificationConstants.JUMIO_DOCUMENT_INDEX_KEY, this.mJumioTypeIndex);
         extras.putBoolean(IdentityVerificationConstants.EXTRA_TAKING_BACK, isTakingBack);
         extras.putBoolean(IdentityVerificationConstants.EXTRA_TAKING_FACE_MATCH, isTakingFaceMatch);
@@ -300,18 +295,6 @@ public class JumioDocumentScanPresenter {
         return extras;
     }
 
-    private byte[] createImageByteArray(Bitmap bmp, ImageType imageType) {
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
-        try {
-            bmp.compress(imageType == ImageType.PNG ? CompressFormat.PNG : CompressFormat.JPEG, 100, stream);
-            byte[] byteArray = stream.toByteArray();
-            stream.close();
-            return byteArray;
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
     private void createJumioProfile(String countryCode, String idType, Bitmap frontImage, Bitmap backImage, Bitmap faceMatchImage) {
         MixpanelTracking.getInstance().trackEvent(MixpanelTracking.EVENT_JUMIO_SUBMIT, new String[0]);
         this.mScreen.showJumioUploadingProgress();
@@ -322,18 +305,10 @@ public class JumioDocumentScanPresenter {
         final String str2 = idType;
         AsyncTask.execute(new Runnable() {
             public void run() {
-                ImageType imageType = ImageType.JPEG;
-                byte[] frontData = JumioDocumentScanPresenter.this.createImageByteArray(bitmap, imageType);
-                byte[] backData = null;
-                byte[] faceMatchData = null;
-                if (bitmap2 != null) {
-                    backData = JumioDocumentScanPresenter.this.createImageByteArray(bitmap2, imageType);
-                }
-                if (bitmap3 != null) {
-                    faceMatchData = JumioDocumentScanPresenter.this.createImageByteArray(bitmap3, imageType);
-                }
-                JumioDocumentScanPresenter.this.mLoginManager.getClient().createJumioProfile(str, str2, frontData, backData, faceMatchData, new CallbackWithRetrofit<JumioProfile>() {
+                final JumioImageSpool spool = new JumioImageSpool(JumioDocumentScanPresenter.this.mContext);
+                final CallbackWithRetrofit<JumioProfile> callback = new CallbackWithRetrofit<JumioProfile>() {
                     public void onResponse(Call<JumioProfile> call, Response<JumioProfile> response, Retrofit retrofit) {
+                        spool.release();
                         JumioDocumentScanPresenter.this.mScreen.hideProgressDialog();
                         if (!JumioDocumentScanPresenter.this.mScreen.isShown()) {
                             return;
@@ -354,6 +329,7 @@ public class JumioDocumentScanPresenter {
                     }
 
                     public void onFailure(Call<JumioProfile> call, Throwable t) {
+                        spool.release();
                         JumioDocumentScanPresenter.this.mScreen.hideProgressDialog();
                         if (JumioDocumentScanPresenter.this.mScreen.isShown()) {
                             JumioDocumentScanPresenter.this.mScreen.finish();
@@ -361,7 +337,16 @@ public class JumioDocumentScanPresenter {
                             JumioDocumentScanPresenter.this.mScreen.showException(t);
                         }
                     }
-                });
+                };
+                try {
+                    JumioDocumentScanPresenter.this.mLoginManager.getClient().createJumioProfile(str, str2, spool.spool(bitmap, "front"), spool.spool(bitmap2, "back"), spool.spool(bitmap3, "face"), spool.getBytesSent(), callback);
+                } catch (final IOException e) {
+                    new Handler(Looper.getMainLooper()).post(new Runnable() {
+                        public void run() {
+                            callback.onFailure(null, e);
+                        }
+                    });
+                }
             }
         });
     }
@@ -0,0 +1,128 @@
+package com.coinbase.android.identityverification;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Bitmap.CompressFormat;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.internal.Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Temp files holding the images of one identity document upload. Each bitmap is scaled down to the
+ * resolution Jumio works with and encoded as a JPEG straight to disk, lowering the quality until it
+ * fits the upload size limit, so no encoded copy of the image is ever held in heap. The files are
+ * streamed by the upload and reused as is when it is retried; {@link #release()} deletes them.
+ */
+public final class JumioImageSpool {
+    private static final String DIRECTORY = "jumio";
+    static final int INITIAL_QUALITY = 90;
+    static final int MAX_IMAGE_BYTES = 4194304;
+    static final int MAX_IMAGE_DIMENSION = 2048;
+    static final int MIN_QUALITY = 50;
+    static final int QUALITY_STEP = 10;
+    private final AtomicLong mBytesSent = new AtomicLong();
+    private final File mDirectory;
+    private final List<File> mFiles = new ArrayList();
+    private final Logger mLogger = LoggerFactory.getLogger(JumioImageSpool.class);
+    private long mPeakHeapBytes;
+    private boolean mReleased;
+
+    public JumioImageSpool(Context context) {
+        this.mDirectory = new File(context.getCacheDir(), DIRECTORY);
+    }
+
+    /**
+     * Encodes the bitmap to a new temp file. Returns null for a null bitmap.
+     */
+    public synchronized File spool(Bitmap bitmap, String name) throws IOException {
+        if (bitmap == null) {
+            return null;
+        }
+        if (!this.mDirectory.isDirectory() && !this.mDirectory.mkdirs()) {
+            throw new IOException("Unable to create " + this.mDirectory);
+        }
+        File file = File.createTempFile(name, ".jpg", this.mDirectory);
+        this.mFiles.add(file);
+        sampleHeap();
+        Bitmap scaled = scale(bitmap);
+        try {
+            int quality = INITIAL_QUALITY;
+            while (true) {
+                write(scaled, quality, file);
+                sampleHeap();
+                if (file.length() <= MAX_IMAGE_BYTES || quality <= MIN_QUALITY) {
+                    return file;
+                }
+                quality -= QUALITY_STEP;
+            }
+        } finally {
+            if (scaled != bitmap) {
+                scaled.recycle();
+            }
+        }
+    }
+
+    /**
+     * Counter the upload adds the bytes it writes to.
+     */
+    public AtomicLong getBytesSent() {
+        return this.mBytesSent;
+    }
+
+    public synchronized long getPeakHeapBytes() {
+        return this.mPeakHeapBytes;
+    }
+
+    /**
+     * Reports the upload stats and deletes the temp files. Only the first call has any effect.
+     */
+    public synchronized void release() {
+        if (this.mReleased) {
+            return;
+        }
+        this.mReleased = true;
+        long spooledBytes = 0;
+        for (File file : this.mFiles) {
+            spooledBytes += file.length();
+            file.delete();
+        }
+        this.mFiles.clear();
+        this.mLogger.info("Jumio upload spooled {} bytes, sent {} bytes, peak heap {} bytes", Long.valueOf(spooledBytes), Long.valueOf(this.mBytesSent.get()), Long.valueOf(this.mPeakHeapBytes));
+    }
+
+    private static Bitmap scale(Bitmap bitmap) {
+        int width = bitmap.getWidth();
+        int height = bitmap.getHeight();
+        int longEdge = Math.max(width, height);
+        if (longEdge <= MAX_IMAGE_DIMENSION) {
+            return bitmap;
+        }
+        float ratio = ((float) MAX_IMAGE_DIMENSION) / ((float) longEdge);
+        return Bitmap.createScaledBitmap(bitmap, Math.max(1, Math.round(((float) width) * ratio)), Math.max(1, Math.round(((float) height) * ratio)), true);
+    }
+
+    private static void write(Bitmap bitmap, int quality, File file) throws IOException {
+        OutputStream stream = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            if (!bitmap.compress(CompressFormat.JPEG, quality, stream)) {
+                throw new IOException("Unable to encode " + file);
+            }
+            stream.flush();
+        } finally {
+            Util.closeQuietly(stream);
+        }
+    }
+
+    private void sampleHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        this.mPeakHeapBytes = Math.max(this.mPeakHeapBytes, runtime.totalMemory() - runtime.freeMemory());
+    }
+}
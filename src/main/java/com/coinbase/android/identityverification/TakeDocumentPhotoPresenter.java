@@ -23,11 +23,10 @@ import com.coinbase.android.R;
 import com.coinbase.android.identityverification.IdentityVerificationBitmapContainer.Builder;
 import com.coinbase.android.ui.SnackBarWrapper;
 import com.coinbase.android.utils.Utils;
-import com.coinbase.api.internal.ModelGsonAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.jumio.JumioProfiles.Type;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.Data;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.SupportedIdType;
-import com.google.gson.GsonBuilder;
 import javax.inject.Inject;
 import org.apache.commons.lang3.mutable.MutableBoolean;
 
@@ -60,7 +59,7 @@ public class TakeDocumentPhotoPresenter {
     }
 
     public void onCreate(Bundle args) {
-        this.mJumioDoc = (Data) new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create().fromJson(args.getString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY), Data.class);
+        this.mJumioDoc = (Data) Serializers.getGson().fromJson(args.getString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY), Data.class);
         if (this.mJumioDoc == null) {
             this.mScreen.popBackstack();
             return;
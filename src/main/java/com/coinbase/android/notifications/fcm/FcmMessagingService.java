@@ -1,9 +1,10 @@
 package com.coinbase.android.notifications.fcm;
 
+import android.content.Context;
 import android.os.Bundle;
 import android.text.TextUtils;
+import com.coinbase.android.ComponentProvider;
 import com.coinbase.android.notifications.priceAlerts.LocalPriceAlert;
-import com.coinbase.android.notifications.priceAlerts.LocalPriceAlerts;
 import com.coinbase.android.utils.PriceAlertUtils;
 import com.firebase.jobdispatcher.FirebaseJobDispatcher;
 import com.firebase.jobdispatcher.GooglePlayDriver;
@@ -13,9 +14,14 @@ import com.google.firebase.messaging.RemoteMessage;
 import org.json.JSONObject;
 
 public class FcmMessagingService extends FirebaseMessagingService {
+    static final String PRICE_ALERT_ID = "alert_id";
+
     public void onMessageReceived(RemoteMessage remoteMessage) {
+        ((ComponentProvider) getApplicationContext()).applicationComponent().statusPoller().pollNow();
         String message = "";
+        String alertId = null;
         if (remoteMessage.getData() != null) {
+            alertId = (String) remoteMessage.getData().get(PRICE_ALERT_ID);
             try {
                 message = new JSONObject(remoteMessage.getData()).getString("body");
             } catch (Exception e) {
@@ -24,27 +30,21 @@ public class FcmMessagingService extends FirebaseMessagingService {
         if (remoteMessage.getNotification() != null) {
             message = remoteMessage.getNotification().getBody();
         }
-        LocalPriceAlerts localPriceAlerts = PriceAlertUtils.getSavedPriceAlerts(this);
-        if (localPriceAlerts != null && localPriceAlerts.getPriceAlerts() != null && !TextUtils.isEmpty(message)) {
-            LocalPriceAlert localPriceAlert = null;
-            for (LocalPriceAlert alert : localPriceAlerts.getPriceAlerts()) {
-                if (message.toLowerCase().contains(alert.getNotificationMessage().toLowerCase())) {
-                    localPriceAlert = LocalPriceAlert.builder().setAmount(alert.getAmount()).setCreatedOn(alert.getCreatedOn()).setCurrency(alert.getCurrency()).setCurrencyUnit(alert.getCurrencyUnit()).setId(alert.getId()).setIsAbove(alert.getIsAbove()).setDisplayText(alert.getDisplayText()).setNotificationTitle(alert.getNotificationTitle()).setNotificationMessage(alert.getNotificationMessage()).setTriggeredOn(System.currentTimeMillis()).setEnabled(false).build();
-                    PriceAlertUtils.savePriceAlert(this, localPriceAlert);
-                    break;
-                }
-            }
-            if (localPriceAlert != null) {
-                scheduleJob(localPriceAlert);
-            }
+        if (TextUtils.isEmpty(alertId)) {
+            LocalPriceAlert alert = PriceAlertUtils.findPriceAlertByMessage(this, message);
+            alertId = alert == null ? null : alert.getId();
+        }
+        LocalPriceAlert localPriceAlert = PriceAlertUtils.triggerPriceAlert(this, alertId);
+        if (localPriceAlert != null) {
+            scheduleJob(this, localPriceAlert);
         }
     }
 
-    private void scheduleJob(LocalPriceAlert localPriceAlert) {
+    public static void scheduleJob(Context context, LocalPriceAlert localPriceAlert) {
         Bundle bundle = new Bundle();
         bundle.putString("title", localPriceAlert.getNotificationTitle());
         bundle.putString("message", localPriceAlert.getNotificationMessage());
-        FirebaseJobDispatcher dispatcher = new FirebaseJobDispatcher(new GooglePlayDriver(this));
+        FirebaseJobDispatcher dispatcher = new FirebaseJobDispatcher(new GooglePlayDriver(context));
         dispatcher.schedule(dispatcher.newJobBuilder().setService(MessageJobService.class).setRecurring(false).setTrigger(Trigger.executionWindow(0, 0)).setTag("messageJob").setExtras(bundle).build());
     }
 }
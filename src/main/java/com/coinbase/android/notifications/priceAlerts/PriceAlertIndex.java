@@ -0,0 +1,182 @@
+package com.coinbase.android.notifications.priceAlerts;
+
+import android.text.TextUtils;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-memory view of the saved price alerts. Armed alerts (enabled and not yet triggered) are
+ * indexed per (currency, fiat) pair in two threshold-sorted maps, one for "above" and one for
+ * "below", so the alerts fired by a price tick are found with one range lookup instead of a scan.
+ * Not thread safe; callers synchronize.
+ */
+public final class PriceAlertIndex {
+    private static final Comparator<LocalPriceAlert> NEWEST_FIRST = new Comparator<LocalPriceAlert>() {
+        public int compare(LocalPriceAlert alert1, LocalPriceAlert alert2) {
+            if (alert1.getCreatedOn() < alert2.getCreatedOn()) {
+                return 1;
+            }
+            return alert1.getCreatedOn() == alert2.getCreatedOn() ? 0 : -1;
+        }
+    };
+    private final Map<String, LocalPriceAlert> mAlertsById = new HashMap();
+    private final Map<String, Thresholds> mThresholds = new HashMap();
+
+    private static final class Thresholds {
+        private final TreeMap<BigDecimal, Map<String, LocalPriceAlert>> mAbove = new TreeMap();
+        private final TreeMap<BigDecimal, Map<String, LocalPriceAlert>> mBelow = new TreeMap();
+
+        private Thresholds() {
+        }
+
+        private TreeMap<BigDecimal, Map<String, LocalPriceAlert>> get(boolean above) {
+            return above ? this.mAbove : this.mBelow;
+        }
+
+        private boolean isEmpty() {
+            return this.mAbove.isEmpty() && this.mBelow.isEmpty();
+        }
+    }
+
+    public LocalPriceAlert get(String id) {
+        return id == null ? null : (LocalPriceAlert) this.mAlertsById.get(id);
+    }
+
+    public int size() {
+        return this.mAlertsById.size();
+    }
+
+    public Collection<LocalPriceAlert> values() {
+        return this.mAlertsById.values();
+    }
+
+    public List<LocalPriceAlert> getPriceAlerts() {
+        List<LocalPriceAlert> alerts = new ArrayList(this.mAlertsById.values());
+        Collections.sort(alerts, NEWEST_FIRST);
+        return alerts;
+    }
+
+    public void put(LocalPriceAlert alert) {
+        if (alert != null && alert.getId() != null) {
+            remove(alert.getId());
+            this.mAlertsById.put(alert.getId(), alert);
+            BigDecimal threshold = getThreshold(alert);
+            String key = getKey(alert);
+            if (threshold != null && key != null) {
+                Thresholds thresholds = (Thresholds) this.mThresholds.get(key);
+                if (thresholds == null) {
+                    thresholds = new Thresholds();
+                    this.mThresholds.put(key, thresholds);
+                }
+                TreeMap<BigDecimal, Map<String, LocalPriceAlert>> side = thresholds.get(alert.getIsAbove());
+                Map<String, LocalPriceAlert> alerts = (Map) side.get(threshold);
+                if (alerts == null) {
+                    alerts = new LinkedHashMap();
+                    side.put(threshold, alerts);
+                }
+                alerts.put(alert.getId(), alert);
+            }
+        }
+    }
+
+    public LocalPriceAlert remove(String id) {
+        LocalPriceAlert alert = id == null ? null : (LocalPriceAlert) this.mAlertsById.remove(id);
+        if (alert == null) {
+            return null;
+        }
+        BigDecimal threshold = getThreshold(alert);
+        String key = getKey(alert);
+        Thresholds thresholds = key == null ? null : (Thresholds) this.mThresholds.get(key);
+        if (threshold == null || thresholds == null) {
+            return alert;
+        }
+        TreeMap<BigDecimal, Map<String, LocalPriceAlert>> side = thresholds.get(alert.getIsAbove());
+        Map<String, LocalPriceAlert> alerts = (Map) side.get(threshold);
+        if (alerts != null) {
+            alerts.remove(id);
+            if (alerts.isEmpty()) {
+                side.remove(threshold);
+            }
+        }
+        if (thresholds.isEmpty()) {
+            this.mThresholds.remove(key);
+        }
+        return alert;
+    }
+
+    /**
+     * Armed alerts for the pair that the given price satisfies: "above" alerts at or below it and
+     * "below" alerts at or above it.
+     */
+    public List<LocalPriceAlert> getFiredPriceAlerts(String currencyCode, String currencyUnitCode, BigDecimal price) {
+        List<LocalPriceAlert> fired = new ArrayList();
+        String key = getKey(currencyCode, currencyUnitCode);
+        Thresholds thresholds = key == null ? null : (Thresholds) this.mThresholds.get(key);
+        if (thresholds == null || price == null) {
+            return fired;
+        }
+        collect(thresholds.mAbove.headMap(price, true), fired);
+        collect(thresholds.mBelow.tailMap(price, true), fired);
+        return fired;
+    }
+
+    /**
+     * Currencies that have at least one armed alert quoted in the given fiat currency.
+     */
+    public Set<String> getArmedCurrencies(String currencyUnitCode) {
+        Set<String> currencies = new HashSet();
+        if (TextUtils.isEmpty(currencyUnitCode)) {
+            return currencies;
+        }
+        String suffix = "|" + currencyUnitCode.toLowerCase();
+        for (String key : this.mThresholds.keySet()) {
+            if (key.endsWith(suffix)) {
+                currencies.add(key.substring(0, key.length() - suffix.length()));
+            }
+        }
+        return currencies;
+    }
+
+    private static void collect(NavigableMap<BigDecimal, Map<String, LocalPriceAlert>> range, List<LocalPriceAlert> fired) {
+        for (Entry<BigDecimal, Map<String, LocalPriceAlert>> entry : range.entrySet()) {
+            fired.addAll(((Map) entry.getValue()).values());
+        }
+    }
+
+    private static BigDecimal getThreshold(LocalPriceAlert alert) {
+        if (!alert.getEnabled() || alert.getTriggeredOn() != -1 || TextUtils.isEmpty(alert.getAmount())) {
+            return null;
+        }
+        try {
+            return new BigDecimal(alert.getAmount());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String getKey(LocalPriceAlert alert) {
+        if (alert.getCurrency() == null || alert.getCurrencyUnit() == null) {
+            return null;
+        }
+        return getKey(alert.getCurrency().getCode(), alert.getCurrencyUnit().getCurrencyCode());
+    }
+
+    private static String getKey(String currencyCode, String currencyUnitCode) {
+        if (TextUtils.isEmpty(currencyCode) || TextUtils.isEmpty(currencyUnitCode)) {
+            return null;
+        }
+        return currencyCode.toLowerCase() + "|" + currencyUnitCode.toLowerCase();
+    }
+}
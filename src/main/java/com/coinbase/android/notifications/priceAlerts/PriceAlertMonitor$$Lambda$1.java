@@ -0,0 +1,19 @@
+package com.coinbase.android.notifications.priceAlerts;
+
+import rx.functions.Action1;
+
+final /* synthetic */ class PriceAlertMonitor$$Lambda$1 implements Action1 {
+    private final PriceAlertMonitor arg$1;
+
+    private PriceAlertMonitor$$Lambda$1(PriceAlertMonitor priceAlertMonitor) {
+        this.arg$1 = priceAlertMonitor;
+    }
+
+    public static Action1 lambdaFactory$(PriceAlertMonitor priceAlertMonitor) {
+        return new PriceAlertMonitor$$Lambda$1(priceAlertMonitor);
+    }
+
+    public void call(Object obj) {
+        PriceAlertMonitor.lambda$onCreate$0(this.arg$1, (LocalPriceAlert) obj);
+    }
+}
@@ -0,0 +1,24 @@
+package com.coinbase.android.notifications.priceAlerts;
+
+import android.util.Pair;
+import rx.functions.Action1;
+
+final /* synthetic */ class PriceAlertMonitor$$Lambda$2 implements Action1 {
+    private final PriceAlertMonitor arg$1;
+    private final String arg$2;
+    private final String arg$3;
+
+    private PriceAlertMonitor$$Lambda$2(PriceAlertMonitor priceAlertMonitor, String str, String str2) {
+        this.arg$1 = priceAlertMonitor;
+        this.arg$2 = str;
+        this.arg$3 = str2;
+    }
+
+    public static Action1 lambdaFactory$(PriceAlertMonitor priceAlertMonitor, String str, String str2) {
+        return new PriceAlertMonitor$$Lambda$2(priceAlertMonitor, str, str2);
+    }
+
+    public void call(Object obj) {
+        PriceAlertMonitor.lambda$startMonitoring$1(this.arg$1, this.arg$2, this.arg$3, (Pair) obj);
+    }
+}
@@ -0,0 +1,18 @@
+package com.coinbase.android.notifications.priceAlerts;
+
+import rx.functions.Action1;
+
+final /* synthetic */ class PriceAlertMonitor$$Lambda$3 implements Action1 {
+    private static final PriceAlertMonitor$$Lambda$3 instance = new PriceAlertMonitor$$Lambda$3();
+
+    private PriceAlertMonitor$$Lambda$3() {
+    }
+
+    public static Action1 lambdaFactory$() {
+        return instance;
+    }
+
+    public void call(Object obj) {
+        PriceAlertMonitor.lambda$startMonitoring$2((Throwable) obj);
+    }
+}
@@ -0,0 +1,132 @@
+package com.coinbase.android.notifications.priceAlerts;
+
+import android.app.Activity;
+import android.app.Application;
+import android.app.Application.ActivityLifecycleCallbacks;
+import android.os.Bundle;
+import android.util.Pair;
+import com.coinbase.android.ApplicationOnCreateListener;
+import com.coinbase.android.ApplicationScope;
+import com.coinbase.android.CoinbaseApplication;
+import com.coinbase.android.dashboard.SpotPriceService;
+import com.coinbase.android.notifications.fcm.FcmMessagingService;
+import com.coinbase.android.utils.PriceAlertUtils;
+import com.coinbase.api.LoginManager;
+import com.coinbase.v2.models.price.Price;
+import java.math.BigDecimal;
+import java.util.Set;
+import javax.inject.Inject;
+import org.joda.money.CurrencyUnit;
+import retrofit2.Response;
+import rx.subscriptions.CompositeSubscription;
+
+/**
+ * Evaluates armed price alerts against the spot price poller while the app is in the foreground,
+ * so an alert fires as soon as the app sees the price instead of waiting for the push. Alerts
+ * triggered here are disabled, which makes the later push for the same alert a no-op.
+ */
+@ApplicationScope
+public class PriceAlertMonitor implements ApplicationOnCreateListener {
+    private final Application mApplication;
+    private final LoginManager mLoginManager;
+    private boolean mMonitoring;
+    private final PriceAlertsConnector mPriceAlertsConnector;
+    private final SpotPriceService mSpotPriceService;
+    private final CompositeSubscription mSubscription = new CompositeSubscription();
+
+    private class ForegroundCallbacks implements ActivityLifecycleCallbacks {
+        private ForegroundCallbacks() {
+        }
+
+        public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+        }
+
+        public void onActivityStarted(Activity activity) {
+            PriceAlertMonitor.this.onVisibilityChanged();
+        }
+
+        public void onActivityResumed(Activity activity) {
+        }
+
+        public void onActivityPaused(Activity activity) {
+        }
+
+        public void onActivityStopped(Activity activity) {
+            PriceAlertMonitor.this.onVisibilityChanged();
+        }
+
+        public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+        }
+
+        public void onActivityDestroyed(Activity activity) {
+        }
+    }
+
+    @Inject
+    public PriceAlertMonitor(Application application, LoginManager loginManager, SpotPriceService spotPriceService, PriceAlertsConnector priceAlertsConnector) {
+        this.mApplication = application;
+        this.mLoginManager = loginManager;
+        this.mSpotPriceService = spotPriceService;
+        this.mPriceAlertsConnector = priceAlertsConnector;
+    }
+
+    public void onCreate() {
+        this.mApplication.registerActivityLifecycleCallbacks(new ForegroundCallbacks());
+        this.mPriceAlertsConnector.get().subscribe(PriceAlertMonitor$$Lambda$1.lambdaFactory$(this));
+    }
+
+    static /* synthetic */ void lambda$onCreate$0(PriceAlertMonitor this_, LocalPriceAlert localPriceAlert) {
+        synchronized (this_) {
+            if (this_.mMonitoring && localPriceAlert.getTriggeredOn() == -1) {
+                this_.stopMonitoring();
+                this_.startMonitoring();
+            }
+        }
+    }
+
+    synchronized void onVisibilityChanged() {
+        boolean shouldMonitor = CoinbaseApplication.isApplicationVisible() && this.mLoginManager.isSignedIn();
+        if (shouldMonitor && !this.mMonitoring) {
+            startMonitoring();
+        } else if (!shouldMonitor && this.mMonitoring) {
+            stopMonitoring();
+        }
+    }
+
+    private void startMonitoring() {
+        this.mMonitoring = true;
+        CurrencyUnit currencyUnit = this.mLoginManager.getCurrencyUnit();
+        if (currencyUnit != null) {
+            String currencyUnitCode = currencyUnit.getCurrencyCode();
+            Set<String> currencies = PriceAlertUtils.getArmedCurrencies(this.mApplication, currencyUnitCode);
+            if (!currencies.isEmpty()) {
+                this.mSubscription.add(this.mSpotPriceService.startPolling(currencyUnitCode));
+                for (String currencyCode : currencies) {
+                    this.mSubscription.add(this.mSpotPriceService.get(currencyCode, currencyUnitCode).subscribe(PriceAlertMonitor$$Lambda$2.lambdaFactory$(this, currencyCode, currencyUnitCode), PriceAlertMonitor$$Lambda$3.lambdaFactory$()));
+                }
+            }
+        }
+    }
+
+    static /* synthetic */ void lambda$startMonitoring$1(PriceAlertMonitor this_, String currencyCode, String currencyUnitCode, Pair pair) {
+        Response<Price> response = (Response) pair.first;
+        if (response.isSuccessful() && response.body() != null && ((Price) response.body()).getData() != null && ((Price) response.body()).getData().getAmount() != null) {
+            try {
+                BigDecimal price = new BigDecimal(((Price) response.body()).getData().getAmount());
+                for (LocalPriceAlert localPriceAlert : PriceAlertUtils.triggerFiredPriceAlerts(this_.mApplication, currencyCode, currencyUnitCode, price)) {
+                    FcmMessagingService.scheduleJob(this_.mApplication, localPriceAlert);
+                    this_.mPriceAlertsConnector.get().onNext(localPriceAlert);
+                }
+            } catch (NumberFormatException e) {
+            }
+        }
+    }
+
+    static /* synthetic */ void lambda$startMonitoring$2(Throwable t) {
+    }
+
+    private void stopMonitoring() {
+        this.mMonitoring = false;
+        this.mSubscription.clear();
+    }
+}
@@ -0,0 +1,37 @@
+package com.coinbase.android.notifications.priceAlerts;
+
+import android.app.Application;
+import com.coinbase.android.dashboard.SpotPriceService;
+import com.coinbase.api.LoginManager;
+import dagger.internal.Factory;
+import javax.inject.Provider;
+
+public final class PriceAlertMonitor_Factory implements Factory<PriceAlertMonitor> {
+    private final Provider<Application> applicationProvider;
+    private final Provider<LoginManager> loginManagerProvider;
+    private final Provider<PriceAlertsConnector> priceAlertsConnectorProvider;
+    private final Provider<SpotPriceService> spotPriceServiceProvider;
+
+    public PriceAlertMonitor_Factory(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<SpotPriceService> spotPriceServiceProvider, Provider<PriceAlertsConnector> priceAlertsConnectorProvider) {
+        this.applicationProvider = applicationProvider;
+        this.loginManagerProvider = loginManagerProvider;
+        this.spotPriceServiceProvider = spotPriceServiceProvider;
+        this.priceAlertsConnectorProvider = priceAlertsConnectorProvider;
+    }
+
+    public PriceAlertMonitor get() {
+        return provideInstance(this.applicationProvider, this.loginManagerProvider, this.spotPriceServiceProvider, this.priceAlertsConnectorProvider);
+    }
+
+    public static PriceAlertMonitor provideInstance(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<SpotPriceService> spotPriceServiceProvider, Provider<PriceAlertsConnector> priceAlertsConnectorProvider) {
+        return new PriceAlertMonitor((Application) applicationProvider.get(), (LoginManager) loginManagerProvider.get(), (SpotPriceService) spotPriceServiceProvider.get(), (PriceAlertsConnector) priceAlertsConnectorProvider.get());
+    }
+
+    public static PriceAlertMonitor_Factory create(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<SpotPriceService> spotPriceServiceProvider, Provider<PriceAlertsConnector> priceAlertsConnectorProvider) {
+        return new PriceAlertMonitor_Factory(applicationProvider, loginManagerProvider, spotPriceServiceProvider, priceAlertsConnectorProvider);
+    }
+
+    public static PriceAlertMonitor newPriceAlertMonitor(Application application, LoginManager loginManager, SpotPriceService spotPriceService, PriceAlertsConnector priceAlertsConnector) {
+        return new PriceAlertMonitor(application, loginManager, spotPriceService, priceAlertsConnector);
+    }
+}
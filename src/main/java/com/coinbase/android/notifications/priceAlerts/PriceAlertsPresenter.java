@@ -6,7 +6,7 @@ import android.util.Pair;
 import com.coinbase.android.BackgroundScheduler;
 import com.coinbase.android.ControllerScope;
 import com.coinbase.android.R;
-import com.coinbase.android.dashboard.SpotPriceUpdatedConnector;
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.notifications.priceAlerts.LocalPriceAlert.Builder;
 import com.coinbase.android.ui.CurrencyTabFilter;
 import com.coinbase.android.ui.CurrencyTabSelectorConnector;
@@ -51,7 +51,7 @@ public class PriceAlertsPresenter {
     private final PriceAlertsRouter mPriceAlertsRouter;
     private final PriceAlertsScreen mScreen;
     private Data mSelectedCurrency;
-    private final SpotPriceUpdatedConnector mSpotPriceUpdatedConnector;
+    private final SpotPriceService mSpotPriceService;
     private final CompositeSubscription mSubscription = new CompositeSubscription();
 
     static class PriceAlertsCurrencyTabFilter implements CurrencyTabFilter {
@@ -74,7 +74,7 @@ public class PriceAlertsPresenter {
     }
 
     @Inject
-    public PriceAlertsPresenter(PriceAlertsScreen screen, Application app, CurrencyTabSelectorConnector currencySelectorConnector, PriceAlertsConnector priceAlertsConnector, PriceAlertsRouter priceAlertsRouter, LoginManager loginManager, MixpanelTracking mixpanelTracking, MoneyFormatterUtil moneyFormatterUtil, SpotPriceUpdatedConnector spotPriceUpdatedConnector, @MainScheduler Scheduler mainScheduler, @BackgroundScheduler Scheduler backgroundScheduler) {
+    public PriceAlertsPresenter(PriceAlertsScreen screen, Application app, CurrencyTabSelectorConnector currencySelectorConnector, PriceAlertsConnector priceAlertsConnector, PriceAlertsRouter priceAlertsRouter, LoginManager loginManager, MixpanelTracking mixpanelTracking, MoneyFormatterUtil moneyFormatterUtil, SpotPriceService spotPriceService, @MainScheduler Scheduler mainScheduler, @BackgroundScheduler Scheduler backgroundScheduler) {
         this.mScreen = screen;
         this.mContext = app;
         this.mCurrencyTabSelectorConnector = currencySelectorConnector;
@@ -83,7 +83,7 @@ public class PriceAlertsPresenter {
         this.mLoginManager = loginManager;
         this.mMixpanelTracking = mixpanelTracking;
         this.mMoneyFormatterUtil = moneyFormatterUtil;
-        this.mSpotPriceUpdatedConnector = spotPriceUpdatedConnector;
+        this.mSpotPriceService = spotPriceService;
         this.mMainScheduler = mainScheduler;
         this.mBackgroundScheduler = backgroundScheduler;
     }
@@ -255,7 +255,7 @@ public class PriceAlertsPresenter {
         if (this.mCurrencyUnit == null || this.mSelectedCurrency == null) {
             handleGetSpotPriceFailure();
         } else {
-            this.mSubscription.add(this.mSpotPriceUpdatedConnector.fetch(this.mSelectedCurrency.getCode(), this.mCurrencyUnit.getCode()).observeOn(this.mMainScheduler).subscribe(PriceAlertsPresenter$$Lambda$7.lambdaFactory$(this), PriceAlertsPresenter$$Lambda$8.lambdaFactory$(this)));
+            this.mSubscription.add(this.mSpotPriceService.getSpotPrice(this.mSelectedCurrency.getCode(), this.mCurrencyUnit.getCode()).observeOn(this.mMainScheduler).subscribe(PriceAlertsPresenter$$Lambda$7.lambdaFactory$(this), PriceAlertsPresenter$$Lambda$8.lambdaFactory$(this)));
         }
     }
 
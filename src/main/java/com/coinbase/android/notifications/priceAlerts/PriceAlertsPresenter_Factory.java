@@ -1,7 +1,7 @@
 package com.coinbase.android.notifications.priceAlerts;
 
 import android.app.Application;
-import com.coinbase.android.dashboard.SpotPriceUpdatedConnector;
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.ui.CurrencyTabSelectorConnector;
 import com.coinbase.android.utils.MoneyFormatterUtil;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
@@ -21,9 +21,9 @@ public final class PriceAlertsPresenter_Factory implements Factory<PriceAlertsPr
     private final Provider<PriceAlertsConnector> priceAlertsConnectorProvider;
     private final Provider<PriceAlertsRouter> priceAlertsRouterProvider;
     private final Provider<PriceAlertsScreen> screenProvider;
-    private final Provider<SpotPriceUpdatedConnector> spotPriceUpdatedConnectorProvider;
+    private final Provider<SpotPriceService> spotPriceServiceProvider;
 
-    public PriceAlertsPresenter_Factory(Provider<PriceAlertsScreen> screenProvider, Provider<Application> appProvider, Provider<CurrencyTabSelectorConnector> currencySelectorConnectorProvider, Provider<PriceAlertsConnector> priceAlertsConnectorProvider, Provider<PriceAlertsRouter> priceAlertsRouterProvider, Provider<LoginManager> loginManagerProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<SpotPriceUpdatedConnector> spotPriceUpdatedConnectorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+    public PriceAlertsPresenter_Factory(Provider<PriceAlertsScreen> screenProvider, Provider<Application> appProvider, Provider<CurrencyTabSelectorConnector> currencySelectorConnectorProvider, Provider<PriceAlertsConnector> priceAlertsConnectorProvider, Provider<PriceAlertsRouter> priceAlertsRouterProvider, Provider<LoginManager> loginManagerProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<SpotPriceService> spotPriceServiceProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
         this.screenProvider = screenProvider;
         this.appProvider = appProvider;
         this.currencySelectorConnectorProvider = currencySelectorConnectorProvider;
@@ -32,24 +32,24 @@ public final class PriceAlertsPresenter_Factory implements Factory<PriceAlertsPr
         this.loginManagerProvider = loginManagerProvider;
         this.mixpanelTrackingProvider = mixpanelTrackingProvider;
         this.moneyFormatterUtilProvider = moneyFormatterUtilProvider;
-        this.spotPriceUpdatedConnectorProvider = spotPriceUpdatedConnectorProvider;
+        this.spotPriceServiceProvider = spotPriceServiceProvider;
         this.mainSchedulerProvider = mainSchedulerProvider;
         this.backgroundSchedulerProvider = backgroundSchedulerProvider;
     }
 
     public PriceAlertsPresenter get() {
-        return provideInstance(this.screenProvider, this.appProvider, this.currencySelectorConnectorProvider, this.priceAlertsConnectorProvider, this.priceAlertsRouterProvider, this.loginManagerProvider, this.mixpanelTrackingProvider, this.moneyFormatterUtilProvider, this.spotPriceUpdatedConnectorProvider, this.mainSchedulerProvider, this.backgroundSchedulerProvider);
+        return provideInstance(this.screenProvider, this.appProvider, this.currencySelectorConnectorProvider, this.priceAlertsConnectorProvider, this.priceAlertsRouterProvider, this.loginManagerProvider, this.mixpanelTrackingProvider, this.moneyFormatterUtilProvider, this.spotPriceServiceProvider, this.mainSchedulerProvider, this.backgroundSchedulerProvider);
     }
 
-    public static PriceAlertsPresenter provideInstance(Provider<PriceAlertsScreen> screenProvider, Provider<Application> appProvider, Provider<CurrencyTabSelectorConnector> currencySelectorConnectorProvider, Provider<PriceAlertsConnector> priceAlertsConnectorProvider, Provider<PriceAlertsRouter> priceAlertsRouterProvider, Provider<LoginManager> loginManagerProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<SpotPriceUpdatedConnector> spotPriceUpdatedConnectorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
-        return new PriceAlertsPresenter((PriceAlertsScreen) screenProvider.get(), (Application) appProvider.get(), (CurrencyTabSelectorConnector) currencySelectorConnectorProvider.get(), (PriceAlertsConnector) priceAlertsConnectorProvider.get(), (PriceAlertsRouter) priceAlertsRouterProvider.get(), (LoginManager) loginManagerProvider.get(), (MixpanelTracking) mixpanelTrackingProvider.get(), (MoneyFormatterUtil) moneyFormatterUtilProvider.get(), (SpotPriceUpdatedConnector) spotPriceUpdatedConnectorProvider.get(), (Scheduler) mainSchedulerProvider.get(), (Scheduler) backgroundSchedulerProvider.get());
+    public static PriceAlertsPresenter provideInstance(Provider<PriceAlertsScreen> screenProvider, Provider<Application> appProvider, Provider<CurrencyTabSelectorConnector> currencySelectorConnectorProvider, Provider<PriceAlertsConnector> priceAlertsConnectorProvider, Provider<PriceAlertsRouter> priceAlertsRouterProvider, Provider<LoginManager> loginManagerProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<SpotPriceService> spotPriceServiceProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        return new PriceAlertsPresenter((PriceAlertsScreen) screenProvider.get(), (Application) appProvider.get(), (CurrencyTabSelectorConnector) currencySelectorConnectorProvider.get(), (PriceAlertsConnector) priceAlertsConnectorProvider.get(), (PriceAlertsRouter) priceAlertsRouterProvider.get(), (LoginManager) loginManagerProvider.get(), (MixpanelTracking) mixpanelTrackingProvider.get(), (MoneyFormatterUtil) moneyFormatterUtilProvider.get(), (SpotPriceService) spotPriceServiceProvider.get(), (Scheduler) mainSchedulerProvider.get(), (Scheduler) backgroundSchedulerProvider.get());
     }
 
-    public static PriceAlertsPresenter_Factory create(Provider<PriceAlertsScreen> screenProvider, Provider<Application> appProvider, Provider<CurrencyTabSelectorConnector> currencySelectorConnectorProvider, Provider<PriceAlertsConnector> priceAlertsConnectorProvider, Provider<PriceAlertsRouter> priceAlertsRouterProvider, Provider<LoginManager> loginManagerProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<SpotPriceUpdatedConnector> spotPriceUpdatedConnectorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
-        return new PriceAlertsPresenter_Factory(screenProvider, appProvider, currencySelectorConnectorProvider, priceAlertsConnectorProvider, priceAlertsRouterProvider, loginManagerProvider, mixpanelTrackingProvider, moneyFormatterUtilProvider, spotPriceUpdatedConnectorProvider, mainSchedulerProvider, backgroundSchedulerProvider);
+    public static PriceAlertsPresenter_Factory create(Provider<PriceAlertsScreen> screenProvider, Provider<Application> appProvider, Provider<CurrencyTabSelectorConnector> currencySelectorConnectorProvider, Provider<PriceAlertsConnector> priceAlertsConnectorProvider, Provider<PriceAlertsRouter> priceAlertsRouterProvider, Provider<LoginManager> loginManagerProvider, Provider<MixpanelTracking> mixpanelTrackingProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<SpotPriceService> spotPriceServiceProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        return new PriceAlertsPresenter_Factory(screenProvider, appProvider, currencySelectorConnectorProvider, priceAlertsConnectorProvider, priceAlertsRouterProvider, loginManagerProvider, mixpanelTrackingProvider, moneyFormatterUtilProvider, spotPriceServiceProvider, mainSchedulerProvider, backgroundSchedulerProvider);
     }
 
-    public static PriceAlertsPresenter newPriceAlertsPresenter(Object screen, Application app, CurrencyTabSelectorConnector currencySelectorConnector, PriceAlertsConnector priceAlertsConnector, PriceAlertsRouter priceAlertsRouter, LoginManager loginManager, MixpanelTracking mixpanelTracking, MoneyFormatterUtil moneyFormatterUtil, SpotPriceUpdatedConnector spotPriceUpdatedConnector, Scheduler mainScheduler, Scheduler backgroundScheduler) {
-        return new PriceAlertsPresenter((PriceAlertsScreen) screen, app, currencySelectorConnector, priceAlertsConnector, priceAlertsRouter, loginManager, mixpanelTracking, moneyFormatterUtil, spotPriceUpdatedConnector, mainScheduler, backgroundScheduler);
+    public static PriceAlertsPresenter newPriceAlertsPresenter(Object screen, Application app, CurrencyTabSelectorConnector currencySelectorConnector, PriceAlertsConnector priceAlertsConnector, PriceAlertsRouter priceAlertsRouter, LoginManager loginManager, MixpanelTracking mixpanelTracking, MoneyFormatterUtil moneyFormatterUtil, SpotPriceService spotPriceService, Scheduler mainScheduler, Scheduler backgroundScheduler) {
+        return new PriceAlertsPresenter((PriceAlertsScreen) screen, app, currencySelectorConnector, priceAlertsConnector, priceAlertsRouter, loginManager, mixpanelTracking, moneyFormatterUtil, spotPriceService, mainScheduler, backgroundScheduler);
     }
 }
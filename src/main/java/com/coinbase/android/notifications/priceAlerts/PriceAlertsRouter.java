@@ -5,9 +5,8 @@ import android.support.v7.app.AppCompatActivity;
 import com.coinbase.android.ControllerScope;
 import com.coinbase.android.accounts.AccountTransactionsPresenter;
 import com.coinbase.android.notifications.priceAlerts.create.CreatePriceAlertActivity;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.currency.Data;
-import com.google.gson.GsonBuilder;
 import javax.inject.Inject;
 
 @ControllerScope
@@ -21,7 +20,7 @@ public class PriceAlertsRouter {
     }
 
     void routeCreatePriceAlert(Data currency) {
-        String currencyData = new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().toJson((Object) currency);
+        String currencyData = Serializers.getGson().toJson((Object) currency);
         Intent intent = new Intent(this.mActivity, CreatePriceAlertActivity.class);
         intent.putExtra(CURRENCY_DATA, currencyData);
         this.mActivity.startActivity(intent);
@@ -0,0 +1,21 @@
+package com.coinbase.android.notifications.priceAlerts;
+
+import android.app.Application;
+import com.coinbase.android.ApplicationScope;
+import com.coinbase.android.ApplicationSignOutListener;
+import com.coinbase.android.utils.PriceAlertUtils;
+import javax.inject.Inject;
+
+@ApplicationScope
+public class PriceAlertsSignOutListener implements ApplicationSignOutListener {
+    private final Application mApplication;
+
+    @Inject
+    public PriceAlertsSignOutListener(Application application) {
+        this.mApplication = application;
+    }
+
+    public void onApplicationSignOut() {
+        PriceAlertUtils.clearPriceAlerts(this.mApplication);
+    }
+}
@@ -0,0 +1,29 @@
+package com.coinbase.android.notifications.priceAlerts;
+
+import android.app.Application;
+import dagger.internal.Factory;
+import javax.inject.Provider;
+
+public final class PriceAlertsSignOutListener_Factory implements Factory<PriceAlertsSignOutListener> {
+    private final Provider<Application> applicationProvider;
+
+    public PriceAlertsSignOutListener_Factory(Provider<Application> applicationProvider) {
+        this.applicationProvider = applicationProvider;
+    }
+
+    public PriceAlertsSignOutListener get() {
+        return provideInstance(this.applicationProvider);
+    }
+
+    public static PriceAlertsSignOutListener provideInstance(Provider<Application> applicationProvider) {
+        return new PriceAlertsSignOutListener((Application) applicationProvider.get());
+    }
+
+    public static PriceAlertsSignOutListener_Factory create(Provider<Application> applicationProvider) {
+        return new PriceAlertsSignOutListener_Factory(applicationProvider);
+    }
+
+    public static PriceAlertsSignOutListener newPriceAlertsSignOutListener(Application application) {
+        return new PriceAlertsSignOutListener(application);
+    }
+}
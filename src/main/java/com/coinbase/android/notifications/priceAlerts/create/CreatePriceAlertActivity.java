@@ -33,11 +33,10 @@ import com.coinbase.android.utils.PriceAlertUtils;
 import com.coinbase.android.utils.Utils;
 import com.coinbase.api.LoginManager;
 import com.coinbase.api.internal.ApiConstants;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.currency.Data;
 import com.coinbase.v2.models.price.Price;
 import com.coinbase.v2.models.supportedCurrencies.SupportedCurrencies;
-import com.google.gson.GsonBuilder;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -93,7 +92,7 @@ public class CreatePriceAlertActivity extends Activity {
             errorOccurred();
             return;
         }
-        this.mSelectedCurrency = (Data) new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().fromJson(currencyJson, Data.class);
+        this.mSelectedCurrency = (Data) Serializers.getGson().fromJson(currencyJson, Data.class);
         if (this.mSelectedCurrency == null) {
             errorOccurred();
             return;
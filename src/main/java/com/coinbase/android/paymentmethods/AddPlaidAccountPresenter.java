@@ -17,10 +17,9 @@ import com.coinbase.android.ui.SnackBarWrapper;
 import com.coinbase.android.ui.SuccessRouter;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.api.LoginManager;
-import com.coinbase.api.internal.ModelGsonAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.institutions.Data;
 import com.coinbase.api.internal.models.institutions.Institution;
-import com.google.gson.GsonBuilder;
 import com.hannesdorfmann.adapterdelegates3.AdapterDelegatesManager;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -90,7 +89,7 @@ class AddPlaidAccountPresenter {
 
     void onBankClicked(Data institution) {
         Intent intent = new Intent(this.mScreen.getActivity(), PlaidAccountLoginActivity.class);
-        intent.putExtra(PlaidAccountLoginActivity.INSTITUTION, new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create().toJson((Object) institution));
+        intent.putExtra(PlaidAccountLoginActivity.INSTITUTION, Serializers.getGson().toJson((Object) institution));
         intent.putExtra(Constants.PARENT_SUCCESS_ROUTER, this.mSuccessRouter.shouldRouteSuccess());
         this.mScreen.startActivityForResult(intent, 10001);
         String property = MixpanelTracking.PROPERTY_BANK_NAME + institution.getName();
@@ -0,0 +1,20 @@
+package com.coinbase.android.paymentmethods;
+
+import com.coinbase.android.event.ClassConsumableEvent;
+import rx.functions.Action1;
+
+final /* synthetic */ class PaymentMethodsRepository$$Lambda$1 implements Action1 {
+    private final PaymentMethodsRepository arg$1;
+
+    private PaymentMethodsRepository$$Lambda$1(PaymentMethodsRepository paymentMethodsRepository) {
+        this.arg$1 = paymentMethodsRepository;
+    }
+
+    public static Action1 lambdaFactory$(PaymentMethodsRepository paymentMethodsRepository) {
+        return new PaymentMethodsRepository$$Lambda$1(paymentMethodsRepository);
+    }
+
+    public void call(Object obj) {
+        PaymentMethodsRepository.lambda$new$0(this.arg$1, (ClassConsumableEvent) obj);
+    }
+}
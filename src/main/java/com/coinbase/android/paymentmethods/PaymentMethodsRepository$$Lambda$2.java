@@ -0,0 +1,19 @@
+package com.coinbase.android.paymentmethods;
+
+import rx.functions.Func1;
+
+final /* synthetic */ class PaymentMethodsRepository$$Lambda$2 implements Func1 {
+    private final PaymentMethodsRepository arg$1;
+
+    private PaymentMethodsRepository$$Lambda$2(PaymentMethodsRepository paymentMethodsRepository) {
+        this.arg$1 = paymentMethodsRepository;
+    }
+
+    public static Func1 lambdaFactory$(PaymentMethodsRepository paymentMethodsRepository) {
+        return new PaymentMethodsRepository$$Lambda$2(paymentMethodsRepository);
+    }
+
+    public Object call(Object obj) {
+        return PaymentMethodsRepository.lambda$get$1(this.arg$1, (Boolean) obj);
+    }
+}
@@ -0,0 +1,22 @@
+package com.coinbase.android.paymentmethods;
+
+import android.util.Pair;
+import rx.functions.Action1;
+
+final /* synthetic */ class PaymentMethodsRepository$$Lambda$3 implements Action1 {
+    private final PaymentMethodsRepository arg$1;
+    private final String arg$2;
+
+    private PaymentMethodsRepository$$Lambda$3(PaymentMethodsRepository paymentMethodsRepository, String key) {
+        this.arg$1 = paymentMethodsRepository;
+        this.arg$2 = key;
+    }
+
+    public static Action1 lambdaFactory$(PaymentMethodsRepository paymentMethodsRepository, String key) {
+        return new PaymentMethodsRepository$$Lambda$3(paymentMethodsRepository, key);
+    }
+
+    public void call(Object obj) {
+        PaymentMethodsRepository.lambda$refresh$2(this.arg$1, this.arg$2, (Pair) obj);
+    }
+}
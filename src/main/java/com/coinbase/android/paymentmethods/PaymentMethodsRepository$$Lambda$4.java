@@ -0,0 +1,21 @@
+package com.coinbase.android.paymentmethods;
+
+import rx.functions.Action1;
+
+final /* synthetic */ class PaymentMethodsRepository$$Lambda$4 implements Action1 {
+    private final PaymentMethodsRepository arg$1;
+    private final String arg$2;
+
+    private PaymentMethodsRepository$$Lambda$4(PaymentMethodsRepository paymentMethodsRepository, String key) {
+        this.arg$1 = paymentMethodsRepository;
+        this.arg$2 = key;
+    }
+
+    public static Action1 lambdaFactory$(PaymentMethodsRepository paymentMethodsRepository, String key) {
+        return new PaymentMethodsRepository$$Lambda$4(paymentMethodsRepository, key);
+    }
+
+    public void call(Object obj) {
+        PaymentMethodsRepository.lambda$refresh$3(this.arg$1, this.arg$2, (Throwable) obj);
+    }
+}
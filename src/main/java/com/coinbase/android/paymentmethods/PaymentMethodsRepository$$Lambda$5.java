@@ -0,0 +1,24 @@
+package com.coinbase.android.paymentmethods;
+
+import android.util.Pair;
+import rx.functions.Func1;
+
+final /* synthetic */ class PaymentMethodsRepository$$Lambda$5 implements Func1 {
+    private final PaymentMethodsRepository arg$1;
+    private final String arg$2;
+    private final int arg$3;
+
+    private PaymentMethodsRepository$$Lambda$5(PaymentMethodsRepository paymentMethodsRepository, String key, int version) {
+        this.arg$1 = paymentMethodsRepository;
+        this.arg$2 = key;
+        this.arg$3 = version;
+    }
+
+    public static Func1 lambdaFactory$(PaymentMethodsRepository paymentMethodsRepository, String key, int version) {
+        return new PaymentMethodsRepository$$Lambda$5(paymentMethodsRepository, key, version);
+    }
+
+    public Object call(Object obj) {
+        return PaymentMethodsRepository.lambda$fetch$4(this.arg$1, this.arg$2, this.arg$3, (Pair) obj);
+    }
+}
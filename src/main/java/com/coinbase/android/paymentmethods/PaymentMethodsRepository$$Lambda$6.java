@@ -0,0 +1,27 @@
+package com.coinbase.android.paymentmethods;
+
+import android.util.Pair;
+import java.util.List;
+import rx.functions.Func1;
+
+final /* synthetic */ class PaymentMethodsRepository$$Lambda$6 implements Func1 {
+    private final PaymentMethodsRepository arg$1;
+    private final boolean arg$2;
+    private final List arg$3;
+    private final int arg$4;
+
+    private PaymentMethodsRepository$$Lambda$6(PaymentMethodsRepository paymentMethodsRepository, boolean excludeLimits, List paymentMethods, int pageCount) {
+        this.arg$1 = paymentMethodsRepository;
+        this.arg$2 = excludeLimits;
+        this.arg$3 = paymentMethods;
+        this.arg$4 = pageCount;
+    }
+
+    public static Func1 lambdaFactory$(PaymentMethodsRepository paymentMethodsRepository, boolean excludeLimits, List paymentMethods, int pageCount) {
+        return new PaymentMethodsRepository$$Lambda$6(paymentMethodsRepository, excludeLimits, paymentMethods, pageCount);
+    }
+
+    public Object call(Object obj) {
+        return PaymentMethodsRepository.lambda$fetchPages$5(this.arg$1, this.arg$2, this.arg$3, this.arg$4, (Pair) obj);
+    }
+}
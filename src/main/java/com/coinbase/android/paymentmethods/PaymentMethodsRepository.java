@@ -0,0 +1,369 @@
+package com.coinbase.android.paymentmethods;
+
+import android.app.Application;
+import android.text.TextUtils;
+import android.util.Pair;
+import com.coinbase.MutationInterceptor;
+import com.coinbase.android.ApplicationScope;
+import com.coinbase.android.ApplicationSignOutListener;
+import com.coinbase.android.BackgroundScheduler;
+import com.coinbase.android.event.ClassConsumableEvent;
+import com.coinbase.api.LoginManager;
+import com.coinbase.api.internal.ApiConstants;
+import com.coinbase.api.internal.Serializers;
+import com.coinbase.v2.models.paymentMethods.Data;
+import com.coinbase.v2.models.paymentMethods.PaymentMethods;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import okhttp3.internal.Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import rx.Observable;
+import rx.Scheduler;
+
+/**
+ * The signed in user's payment methods, shared by the buy, sell, deposit and withdraw flows. The
+ * last list fetched is kept in memory and on disk. Within the TTL it is served without a request;
+ * after that a list without limits is still served, once, while a refresh runs in the background.
+ * Any request that changes a payment method drops the lists, so the next read waits for the
+ * server, and any buy, sell, deposit or withdrawal drops the lists with limits, whose remaining
+ * limits it used up.
+ */
+@ApplicationScope
+public class PaymentMethodsRepository implements ApplicationSignOutListener, MutationInterceptor.Listener {
+    static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final String DIRECTORY = "payment_methods";
+    private static final String EXCLUDE_LIMITS_SUFFIX = "_exclude_limits";
+    private static final int FORMAT_VERSION = 1;
+    private static final long MAX_STALENESS_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final int MAX_PAGES = 10;
+    private static final int PAGE_SIZE = 100;
+    private static final String ACCOUNTS_PATH = "/accounts/";
+    private static final String[] LIMIT_PATHS = new String[]{"/buys", "/sells", "/deposits", "/withdrawals"};
+    private static final String[] PAYMENT_METHODS_PATHS = new String[]{"/payment-methods", "/ach-setup-sessions"};
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private final Application mApplication;
+    private final Scheduler mBackgroundScheduler;
+    private final Gson mGson = Serializers.getGson();
+    private final Logger mLogger = LoggerFactory.getLogger(PaymentMethodsRepository.class);
+    private final LoginManager mLoginManager;
+    private Retrofit mRetrofit;
+    private final Set<String> mRefreshing = new HashSet();
+    private final Map<String, Snapshot> mSnapshots = new HashMap();
+    private long mTtlMillis = DEFAULT_TTL_MILLIS;
+    private int mVersion;
+
+    static final class Snapshot {
+        private final long mFetchedAt;
+        private final String mJson;
+
+        Snapshot(String json, long fetchedAt) {
+            this.mJson = json;
+            this.mFetchedAt = fetchedAt;
+        }
+    }
+
+    @Inject
+    public PaymentMethodsRepository(Application application, LoginManager loginManager, @BackgroundScheduler Scheduler backgroundScheduler, PaymentMethodsUpdatedConnector paymentMethodsUpdatedConnector) {
+        this.mApplication = application;
+        this.mLoginManager = loginManager;
+        this.mBackgroundScheduler = backgroundScheduler;
+        loginManager.getClient().addMutationListener(this);
+        paymentMethodsUpdatedConnector.get().subscribe(PaymentMethodsRepository$$Lambda$1.lambdaFactory$(this));
+    }
+
+    static /* synthetic */ void lambda$new$0(PaymentMethodsRepository this_, ClassConsumableEvent event) {
+        this_.invalidate();
+    }
+
+    public synchronized void setTtl(long ttlMillis) {
+        this.mTtlMillis = ttlMillis;
+    }
+
+    /**
+     * Emits every payment method of the user, all pages of them, and completes. Cached lists are
+     * emitted as successful responses whose Retrofit is the one of the last fetch, or null when
+     * the list was only read from disk so far.
+     */
+    public Observable<Pair<Response<PaymentMethods>, Retrofit>> get(boolean excludeLimits) {
+        return Observable.just(Boolean.valueOf(excludeLimits)).subscribeOn(this.mBackgroundScheduler).concatMap(PaymentMethodsRepository$$Lambda$2.lambdaFactory$(this));
+    }
+
+    static /* synthetic */ Observable lambda$get$1(PaymentMethodsRepository this_, Boolean excludeLimits) {
+        String userId = this_.mLoginManager.getActiveUserId();
+        if (TextUtils.isEmpty(userId)) {
+            return this_.fetchPages(excludeLimits.booleanValue(), null, new ArrayList(), 0);
+        }
+        String key = getKey(userId, excludeLimits.booleanValue());
+        long now = System.currentTimeMillis();
+        Snapshot snapshot = this_.getSnapshot(key);
+        if (snapshot == null || now - snapshot.mFetchedAt >= MAX_STALENESS_MILLIS) {
+            return this_.fetch(key, excludeLimits.booleanValue());
+        }
+        Pair<Response<PaymentMethods>, Retrofit> pair = this_.toPair(snapshot);
+        if (pair == null) {
+            return this_.fetch(key, excludeLimits.booleanValue());
+        }
+        if (now - snapshot.mFetchedAt >= this_.getTtl()) {
+            if (!excludeLimits.booleanValue()) {
+                return this_.fetch(key, false);
+            }
+            this_.refresh(key, true);
+        }
+        return Observable.just(pair);
+    }
+
+    /**
+     * Drops the cached lists, e.g. after a payment method was added, verified or removed.
+     */
+    public void invalidate() {
+        synchronized (this) {
+            this.mVersion++;
+            this.mSnapshots.clear();
+            deleteFiles(true);
+        }
+    }
+
+    /**
+     * Drops the cached lists with limits, e.g. after a buy used some of them up.
+     */
+    public void invalidateLimits() {
+        synchronized (this) {
+            this.mVersion++;
+            Iterator<String> keys = this.mSnapshots.keySet().iterator();
+            while (keys.hasNext()) {
+                if (!isExcludeLimitsKey((String) keys.next())) {
+                    keys.remove();
+                }
+            }
+            deleteFiles(false);
+        }
+    }
+
+    public void onMutation(String method, String encodedPath, int code) {
+        if (containsAny(encodedPath, PAYMENT_METHODS_PATHS)) {
+            invalidate();
+        } else if (encodedPath.contains(ACCOUNTS_PATH) && containsAny(encodedPath, LIMIT_PATHS)) {
+            invalidateLimits();
+        }
+    }
+
+    public void onApplicationSignOut() {
+        invalidate();
+    }
+
+    private void refresh(String key, boolean excludeLimits) {
+        synchronized (this) {
+            if (!this.mRefreshing.add(key)) {
+                return;
+            }
+        }
+        fetch(key, excludeLimits).subscribeOn(this.mBackgroundScheduler).subscribe(PaymentMethodsRepository$$Lambda$3.lambdaFactory$(this, key), PaymentMethodsRepository$$Lambda$4.lambdaFactory$(this, key));
+    }
+
+    static /* synthetic */ void lambda$refresh$2(PaymentMethodsRepository this_, String key, Pair pair) {
+        synchronized (this_) {
+            this_.mRefreshing.remove(key);
+        }
+    }
+
+    static /* synthetic */ void lambda$refresh$3(PaymentMethodsRepository this_, String key, Throwable t) {
+        synchronized (this_) {
+            this_.mRefreshing.remove(key);
+        }
+        this_.mLogger.error("Couldn't refresh payment methods", t);
+    }
+
+    private Observable<Pair<Response<PaymentMethods>, Retrofit>> fetch(String key, boolean excludeLimits) {
+        int version;
+        synchronized (this) {
+            version = this.mVersion;
+        }
+        return fetchPages(excludeLimits, null, new ArrayList(), 0).map(PaymentMethodsRepository$$Lambda$5.lambdaFactory$(this, key, version));
+    }
+
+    static /* synthetic */ Pair lambda$fetch$4(PaymentMethodsRepository this_, String key, int version, Pair pair) {
+        Response<PaymentMethods> response = (Response) pair.first;
+        if (response.isSuccessful() && response.body() != null) {
+            this_.store(key, version, new Snapshot(this_.mGson.toJson(response.body()), System.currentTimeMillis()), (Retrofit) pair.second);
+        }
+        return pair;
+    }
+
+    private Observable<Pair<Response<PaymentMethods>, Retrofit>> fetchPages(boolean excludeLimits, String startingAfter, List<Data> paymentMethods, int pageCount) {
+        HashMap<String, Object> options = new HashMap();
+        options.put(ApiConstants.LIMIT, Integer.valueOf(PAGE_SIZE));
+        options.put(ApiConstants.STARTING_AFTER, startingAfter);
+        if (excludeLimits) {
+            options.put(ApiConstants.EXCLUDE_LIMITS, Boolean.valueOf(true));
+        }
+        return this.mLoginManager.getClient().getPaymentMethodsRx(options).flatMap(PaymentMethodsRepository$$Lambda$6.lambdaFactory$(this, excludeLimits, paymentMethods, pageCount));
+    }
+
+    static /* synthetic */ Observable lambda$fetchPages$5(PaymentMethodsRepository this_, boolean excludeLimits, List paymentMethods, int pageCount, Pair pair) {
+        Response<PaymentMethods> response = (Response) pair.first;
+        if (!response.isSuccessful() || response.body() == null) {
+            return Observable.just(pair);
+        }
+        PaymentMethods page = (PaymentMethods) response.body();
+        List<Data> pagePaymentMethods = page.getData();
+        if (pagePaymentMethods != null) {
+            paymentMethods.addAll(pagePaymentMethods);
+        }
+        if (pagePaymentMethods == null || pagePaymentMethods.isEmpty() || page.getPagination() == null || page.getPagination().getNextUri() == null || pageCount + 1 >= MAX_PAGES) {
+            page.setData(paymentMethods);
+            return Observable.just(pair);
+        }
+        return this_.fetchPages(excludeLimits, ((Data) pagePaymentMethods.get(pagePaymentMethods.size() - 1)).getId(), paymentMethods, pageCount + 1);
+    }
+
+    private synchronized long getTtl() {
+        return this.mTtlMillis;
+    }
+
+    private synchronized Snapshot getSnapshot(String key) {
+        Snapshot snapshot = (Snapshot) this.mSnapshots.get(key);
+        if (snapshot == null) {
+            snapshot = read(key);
+            if (snapshot != null) {
+                this.mSnapshots.put(key, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    private Pair<Response<PaymentMethods>, Retrofit> toPair(Snapshot snapshot) {
+        try {
+            PaymentMethods paymentMethods = (PaymentMethods) this.mGson.fromJson(snapshot.mJson, PaymentMethods.class);
+            if (paymentMethods == null) {
+                return null;
+            }
+            Retrofit retrofit;
+            synchronized (this) {
+                retrofit = this.mRetrofit;
+            }
+            return new Pair(Response.success(paymentMethods), retrofit);
+        } catch (JsonParseException e) {
+            this.mLogger.error("Couldn't parse cached payment methods", e);
+            return null;
+        }
+    }
+
+    /**
+     * Keeps a fetched list unless the cache was invalidated since the fetch started.
+     */
+    private synchronized void store(String key, int version, Snapshot snapshot, Retrofit retrofit) {
+        if (version == this.mVersion) {
+            this.mSnapshots.put(key, snapshot);
+            this.mRetrofit = retrofit;
+            write(key, snapshot);
+        }
+    }
+
+    private Snapshot read(String key) {
+        File file = getFile(key);
+        if (!file.isFile()) {
+            return null;
+        }
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unknown payment methods version");
+            }
+            long fetchedAt = in.readLong();
+            int length = in.readInt();
+            if (length < 0) {
+                throw new IOException("Invalid payment methods length " + length);
+            }
+            byte[] json = new byte[length];
+            in.readFully(json);
+            return new Snapshot(new String(json, UTF_8), fetchedAt);
+        } catch (IOException e) {
+            this.mLogger.error("Couldn't read payment methods", e);
+            file.delete();
+            return null;
+        } finally {
+            Util.closeQuietly(in);
+        }
+    }
+
+    private void write(String key, Snapshot snapshot) {
+        File file = getFile(key);
+        File directory = file.getParentFile();
+        if (directory.isDirectory() || directory.mkdirs()) {
+            File temp = new File(directory, key + ".tmp");
+            DataOutputStream out = null;
+            try {
+                byte[] json = snapshot.mJson.getBytes(UTF_8);
+                out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(snapshot.mFetchedAt);
+                out.writeInt(json.length);
+                out.write(json);
+                out.close();
+                out = null;
+                if (!temp.renameTo(file)) {
+                    temp.delete();
+                }
+            } catch (IOException e) {
+                this.mLogger.error("Couldn't write payment methods", e);
+                temp.delete();
+            } finally {
+                Util.closeQuietly(out);
+            }
+        }
+    }
+
+    private void deleteFiles(boolean excludeLimits) {
+        File[] files = new File(this.mApplication.getFilesDir(), DIRECTORY).listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (excludeLimits || !isExcludeLimitsKey(file.getName())) {
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    private File getFile(String key) {
+        return new File(new File(this.mApplication.getFilesDir(), DIRECTORY), key);
+    }
+
+    private static String getKey(String userId, boolean excludeLimits) {
+        return userId + (excludeLimits ? EXCLUDE_LIMITS_SUFFIX : "_with_limits");
+    }
+
+    private static boolean isExcludeLimitsKey(String key) {
+        return key.endsWith(EXCLUDE_LIMITS_SUFFIX);
+    }
+
+    private static boolean containsAny(String path, String[] parts) {
+        for (String part : parts) {
+            if (path.contains(part)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
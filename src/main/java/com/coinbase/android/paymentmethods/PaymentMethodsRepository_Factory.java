@@ -0,0 +1,37 @@
+package com.coinbase.android.paymentmethods;
+
+import android.app.Application;
+import com.coinbase.api.LoginManager;
+import dagger.internal.Factory;
+import javax.inject.Provider;
+import rx.Scheduler;
+
+public final class PaymentMethodsRepository_Factory implements Factory<PaymentMethodsRepository> {
+    private final Provider<Application> applicationProvider;
+    private final Provider<Scheduler> backgroundSchedulerProvider;
+    private final Provider<LoginManager> loginManagerProvider;
+    private final Provider<PaymentMethodsUpdatedConnector> paymentMethodsUpdatedConnectorProvider;
+
+    public PaymentMethodsRepository_Factory(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<PaymentMethodsUpdatedConnector> paymentMethodsUpdatedConnectorProvider) {
+        this.applicationProvider = applicationProvider;
+        this.loginManagerProvider = loginManagerProvider;
+        this.backgroundSchedulerProvider = backgroundSchedulerProvider;
+        this.paymentMethodsUpdatedConnectorProvider = paymentMethodsUpdatedConnectorProvider;
+    }
+
+    public PaymentMethodsRepository get() {
+        return provideInstance(this.applicationProvider, this.loginManagerProvider, this.backgroundSchedulerProvider, this.paymentMethodsUpdatedConnectorProvider);
+    }
+
+    public static PaymentMethodsRepository provideInstance(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<PaymentMethodsUpdatedConnector> paymentMethodsUpdatedConnectorProvider) {
+        return new PaymentMethodsRepository((Application) applicationProvider.get(), (LoginManager) loginManagerProvider.get(), (Scheduler) backgroundSchedulerProvider.get(), (PaymentMethodsUpdatedConnector) paymentMethodsUpdatedConnectorProvider.get());
+    }
+
+    public static PaymentMethodsRepository_Factory create(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<PaymentMethodsUpdatedConnector> paymentMethodsUpdatedConnectorProvider) {
+        return new PaymentMethodsRepository_Factory(applicationProvider, loginManagerProvider, backgroundSchedulerProvider, paymentMethodsUpdatedConnectorProvider);
+    }
+
+    public static PaymentMethodsRepository newPaymentMethodsRepository(Application application, LoginManager loginManager, Scheduler backgroundScheduler, PaymentMethodsUpdatedConnector paymentMethodsUpdatedConnector) {
+        return new PaymentMethodsRepository(application, loginManager, backgroundScheduler, paymentMethodsUpdatedConnector);
+    }
+}
@@ -5,10 +5,9 @@ import android.support.v4.app.Fragment;
 import com.coinbase.android.CoinbaseActivityMystique;
 import com.coinbase.android.Constants;
 import com.coinbase.android.R;
-import com.coinbase.api.internal.ModelGsonAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.institutions.Data;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 public class PlaidAccountLoginActivity extends CoinbaseActivityMystique {
     public static final String INSTITUTION = "PlaidAccountLoginActivity_Institution";
@@ -28,7 +27,7 @@ public class PlaidAccountLoginActivity extends CoinbaseActivityMystique {
         Bundle extras = getIntent().getExtras();
         if (extras != null) {
             if (extras.containsKey(INSTITUTION)) {
-                institution = (Data) new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create().fromJson(extras.getString(INSTITUTION), Data.class);
+                institution = (Data) Serializers.getGson().fromJson(extras.getString(INSTITUTION), Data.class);
             }
             if (extras.containsKey("payment_method")) {
                 method = (com.coinbase.v2.models.paymentMethods.Data) new Gson().fromJson(extras.getString("payment_method"), com.coinbase.v2.models.paymentMethods.Data.class);
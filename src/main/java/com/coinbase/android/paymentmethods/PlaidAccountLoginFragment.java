@@ -37,14 +37,13 @@ import com.coinbase.android.utils.Utils;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.api.LoginManager;
 import com.coinbase.api.internal.ApiConstants;
-import com.coinbase.api.internal.ModelGsonAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.achSetupSession.AchSetupSession;
 import com.coinbase.api.internal.models.achSetupSession.mfa.Mfa;
 import com.coinbase.api.internal.models.achSetupSession.mfa.Mfa.Type;
 import com.coinbase.api.internal.models.institutions.Data;
 import com.coinbase.v2.models.paymentMethods.PaymentMethod;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.squareup.picasso.Callback;
 import com.squareup.picasso.Picasso;
 import java.util.ArrayList;
@@ -110,7 +109,7 @@ public class PlaidAccountLoginFragment extends Fragment implements OnClickListen
     public static PlaidAccountLoginFragment newInstance(Data institution, boolean parentSuccessRouter) {
         PlaidAccountLoginFragment f = new PlaidAccountLoginFragment();
         Bundle args = new Bundle();
-        args.putString(PlaidAccountLoginActivity.INSTITUTION, new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create().toJson((Object) institution));
+        args.putString(PlaidAccountLoginActivity.INSTITUTION, Serializers.getGson().toJson((Object) institution));
         args.putBoolean(Constants.PARENT_SUCCESS_ROUTER, parentSuccessRouter);
         f.setArguments(args);
         return f;
@@ -120,7 +119,7 @@ public class PlaidAccountLoginFragment extends Fragment implements OnClickListen
         super.onCreate(savedInstanceState);
         ((ComponentProvider) getActivity().getApplicationContext()).applicationComponent().fragmentSubcomponent().inject(this);
         Bundle args = getArguments();
-        Gson gson = new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create();
+        Gson gson = Serializers.getGson();
         this.mParentSuccessRouter = args.getBoolean(Constants.PARENT_SUCCESS_ROUTER, false);
         this.mInstitution = (Data) gson.fromJson(args.getString(PlaidAccountLoginActivity.INSTITUTION), Data.class);
     }
@@ -1,9 +1,9 @@
 package com.coinbase.android.paymentmethods.card;
 
 import com.coinbase.api.internal.models.paymentMethods.verify.Data;
-import rx.functions.Action1;
+import rx.functions.Func0;
 
-final /* synthetic */ class CardFormPresenter$$Lambda$22 implements Action1 {
+final /* synthetic */ class CardFormPresenter$$Lambda$22 implements Func0 {
     private final CardFormPresenter arg$1;
     private final Data arg$2;
 
@@ -12,11 +12,11 @@ final /* synthetic */ class CardFormPresenter$$Lambda$22 implements Action1 {
         this.arg$2 = data;
     }
 
-    public static Action1 lambdaFactory$(CardFormPresenter cardFormPresenter, Data data) {
+    public static Func0 lambdaFactory$(CardFormPresenter cardFormPresenter, Data data) {
         return new CardFormPresenter$$Lambda$22(cardFormPresenter, data);
     }
 
-    public void call(Object obj) {
-        this.arg$1.pollWorldPayAddCard(this.arg$2);
+    public Object call() {
+        return CardFormPresenter.lambda$pollWorldPayAddCard$19(this.arg$1, this.arg$2);
     }
 }
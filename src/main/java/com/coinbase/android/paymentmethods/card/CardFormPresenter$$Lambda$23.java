@@ -1,22 +1,19 @@
 package com.coinbase.android.paymentmethods.card;
 
-import com.coinbase.api.internal.models.paymentMethods.verify.Data;
-import rx.functions.Action1;
+import android.util.Pair;
+import rx.functions.Func1;
 
-final /* synthetic */ class CardFormPresenter$$Lambda$23 implements Action1 {
-    private final CardFormPresenter arg$1;
-    private final Data arg$2;
+final /* synthetic */ class CardFormPresenter$$Lambda$23 implements Func1 {
+    private static final CardFormPresenter$$Lambda$23 instance = new CardFormPresenter$$Lambda$23();
 
-    private CardFormPresenter$$Lambda$23(CardFormPresenter cardFormPresenter, Data data) {
-        this.arg$1 = cardFormPresenter;
-        this.arg$2 = data;
+    private CardFormPresenter$$Lambda$23() {
     }
 
-    public static Action1 lambdaFactory$(CardFormPresenter cardFormPresenter, Data data) {
-        return new CardFormPresenter$$Lambda$23(cardFormPresenter, data);
+    public static Func1 lambdaFactory$() {
+        return instance;
     }
 
-    public void call(Object obj) {
-        this.arg$1.pollWorldPayAddCard(this.arg$2);
+    public Object call(Object obj) {
+        return CardFormPresenter.lambda$pollWorldPayAddCard$20((Pair) obj);
     }
 }
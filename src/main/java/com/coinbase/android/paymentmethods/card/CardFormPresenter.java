@@ -13,6 +13,7 @@ import com.coinbase.android.Constants;
 import com.coinbase.android.ControllerScope;
 import com.coinbase.android.R;
 import com.coinbase.android.billing.BillingAddressDeletedConnector;
+import com.coinbase.android.polling.StatusPoller;
 import com.coinbase.android.ui.KeyboardListener;
 import com.coinbase.android.ui.MainScheduler;
 import com.coinbase.android.ui.MystiqueListButtonConnector;
@@ -44,7 +45,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.inject.Inject;
 import javax.inject.Qualifier;
 import org.apache.commons.validator.routines.CreditCardValidator;
@@ -92,7 +93,6 @@ public class CardFormPresenter {
     private final MystiqueListSelectorConnector mMystiqueListSelectorConnector;
     com.coinbase.v2.models.paymentMethods.Data mPaymentMethod;
     private final int mPaymentProcessingErrorRes;
-    private long mPollingStartTime = 0;
     private final SharedPreferences mPrefs;
     boolean mRequiresBillingAddress = false;
     boolean mRequiresCDV = false;
@@ -100,9 +100,9 @@ public class CardFormPresenter {
     private final CardFormRouter mRouter;
     private final CardFormScreen mScreen;
     private final SnackBarWrapper mSnackBarWrapper;
+    private final StatusPoller mStatusPoller;
     private final CompositeSubscription mSubscription = new CompositeSubscription();
     private final SuccessRouter mSuccessRouter;
-    private final WorldPayPollingWrapper mWorldPayPollingWrapper;
     private final WorldPayValidator mWorldPayValidator;
     public String mZip = "";
 
@@ -133,7 +133,7 @@ public class CardFormPresenter {
     }
 
     @Inject
-    CardFormPresenter(LoginManager loginManager, CardFormScreen screen, Application app, CardFormRouter router, SharedPreferences prefs, SnackBarWrapper snackBarWrapper, @CheckFieldsErrorMessage int checkFieldsErrorRes, @PaymentProcessingErrorMessage int paymentProcessingErrorRes, CreditCardValidator creditCardValidator, MystiqueListSelectorConnector mystiqueListSelectorConnector, MystiqueListButtonConnector mystiqueListButtonConnector, BillingAddressDeletedConnector billingAddressDeletedConnector, SuccessRouter successRouter, KeyboardListener keyboardListener, WorldPayValidator worldPayValidator, WorldPayPollingWrapper worldPayPollingWrapper, @MainScheduler Scheduler mainScheduler) {
+    CardFormPresenter(LoginManager loginManager, CardFormScreen screen, Application app, CardFormRouter router, SharedPreferences prefs, SnackBarWrapper snackBarWrapper, @CheckFieldsErrorMessage int checkFieldsErrorRes, @PaymentProcessingErrorMessage int paymentProcessingErrorRes, CreditCardValidator creditCardValidator, MystiqueListSelectorConnector mystiqueListSelectorConnector, MystiqueListButtonConnector mystiqueListButtonConnector, BillingAddressDeletedConnector billingAddressDeletedConnector, SuccessRouter successRouter, KeyboardListener keyboardListener, WorldPayValidator worldPayValidator, StatusPoller statusPoller, @MainScheduler Scheduler mainScheduler) {
         this.mLoginManager = loginManager;
         this.mScreen = screen;
         this.mContext = app;
@@ -150,7 +150,7 @@ public class CardFormPresenter {
         this.mKeyboardListener = keyboardListener;
         this.mAllFieldsValidContainer = new AllFieldsValidContainer();
         this.mWorldPayValidator = worldPayValidator;
-        this.mWorldPayPollingWrapper = worldPayPollingWrapper;
+        this.mStatusPoller = statusPoller;
         this.mMainScheduler = mainScheduler;
     }
 
@@ -888,7 +888,6 @@ public class CardFormPresenter {
     static /* synthetic */ void lambda$encryptDataAndStartWorldPayProcessing$17(CardFormPresenter this_, Pair pair) {
         Response<Verify> response = pair.first;
         if (response.isSuccessful()) {
-            this_.mPollingStartTime = System.currentTimeMillis();
             this_.pollWorldPayAddCard(((Verify) response.body()).getData());
             return;
         }
@@ -902,7 +901,23 @@ public class CardFormPresenter {
     }
 
     void pollWorldPayAddCard(com.coinbase.api.internal.models.paymentMethods.verify.Data createdPaymentMethod) {
-        this.mSubscription.add(this.mLoginManager.getClient().getPaymentMethodVerifiedRx(createdPaymentMethod.getId()).first().observeOn(this.mMainScheduler).subscribe(CardFormPresenter$$Lambda$20.lambdaFactory$(this, createdPaymentMethod), CardFormPresenter$$Lambda$21.lambdaFactory$(this)));
+        this.mSubscription.add(this.mStatusPoller.poll(StatusPoller.FLOW_WORLDPAY_CARD, createdPaymentMethod.getId(), CardFormPresenter$$Lambda$22.lambdaFactory$(this, createdPaymentMethod), CardFormPresenter$$Lambda$23.lambdaFactory$()).observeOn(this.mMainScheduler).subscribe(CardFormPresenter$$Lambda$20.lambdaFactory$(this, createdPaymentMethod), CardFormPresenter$$Lambda$21.lambdaFactory$(this)));
+    }
+
+    static /* synthetic */ Observable lambda$pollWorldPayAddCard$19(CardFormPresenter this_, com.coinbase.api.internal.models.paymentMethods.verify.Data createdPaymentMethod) {
+        return this_.mLoginManager.getClient().getPaymentMethodVerifiedRx(createdPaymentMethod.getId());
+    }
+
+    static /* synthetic */ Boolean lambda$pollWorldPayAddCard$20(Pair pair) {
+        Response<PaymentMethod> response = pair.first;
+        if (!response.isSuccessful() || response.body() == null) {
+            return Boolean.valueOf(true);
+        }
+        com.coinbase.v2.models.paymentMethods.Data paymentMethod = ((PaymentMethod) response.body()).getData();
+        if (paymentMethod == null || paymentMethod.getVerified() == null || paymentMethod.getVerified().booleanValue()) {
+            return Boolean.valueOf(true);
+        }
+        return Boolean.valueOf(paymentMethod.getVerificationMethod() == VerificationMethod.CDV);
     }
 
     static /* synthetic */ void lambda$pollWorldPayAddCard$23(CardFormPresenter this_, com.coinbase.api.internal.models.paymentMethods.verify.Data createdPaymentMethod, Pair pair) {
@@ -929,9 +944,6 @@ public class CardFormPresenter {
                     this_.mScreen.showContinueProgress();
                     this_.mSubscription.add(this_.mLoginManager.getClient().getPaymentMethodRx(createdPaymentMethod.getId()).first().observeOn(this_.mMainScheduler).subscribe(CardFormPresenter$$Lambda$24.lambdaFactory$(this_, response), CardFormPresenter$$Lambda$25.lambdaFactory$(this_)));
                     return;
-                } else if (System.currentTimeMillis() - this_.mPollingStartTime < this_.mWorldPayPollingWrapper.getPollMaxTime()) {
-                    this_.mSubscription.add(Observable.just(null).delay(this_.mWorldPayPollingWrapper.getPollDelay(), TimeUnit.SECONDS).subscribe(CardFormPresenter$$Lambda$22.lambdaFactory$(this_, createdPaymentMethod), CardFormPresenter$$Lambda$23.lambdaFactory$(this_, createdPaymentMethod)));
-                    return;
                 } else {
                     this_.mSnackBarWrapper.showGenericErrorTryAgain();
                     this_.mScreen.hideContinueProgress();
@@ -960,7 +972,11 @@ public class CardFormPresenter {
 
     static /* synthetic */ void lambda$pollWorldPayAddCard$24(CardFormPresenter this_, Throwable t) {
         this_.mScreen.hideContinueProgress();
-        this_.mSnackBarWrapper.showFailure(t);
+        if (t instanceof TimeoutException) {
+            this_.mSnackBarWrapper.showGenericErrorTryAgain();
+        } else {
+            this_.mSnackBarWrapper.showFailure(t);
+        }
     }
 
     private String getBin(String cardNumber) {
@@ -3,6 +3,7 @@ package com.coinbase.android.paymentmethods.card;
 import android.app.Application;
 import android.content.SharedPreferences;
 import com.coinbase.android.billing.BillingAddressDeletedConnector;
+import com.coinbase.android.polling.StatusPoller;
 import com.coinbase.android.ui.KeyboardListener;
 import com.coinbase.android.ui.MystiqueListButtonConnector;
 import com.coinbase.android.ui.MystiqueListSelectorConnector;
@@ -30,10 +31,10 @@ public final class CardFormPresenter_Factory implements Factory<CardFormPresente
     private final Provider<CardFormScreen> screenProvider;
     private final Provider<SnackBarWrapper> snackBarWrapperProvider;
     private final Provider<SuccessRouter> successRouterProvider;
-    private final Provider<WorldPayPollingWrapper> worldPayPollingWrapperProvider;
+    private final Provider<StatusPoller> statusPollerProvider;
     private final Provider<WorldPayValidator> worldPayValidatorProvider;
 
-    public CardFormPresenter_Factory(Provider<LoginManager> loginManagerProvider, Provider<CardFormScreen> screenProvider, Provider<Application> appProvider, Provider<CardFormRouter> routerProvider, Provider<SharedPreferences> prefsProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<Integer> checkFieldsErrorResProvider, Provider<Integer> paymentProcessingErrorResProvider, Provider<CreditCardValidator> creditCardValidatorProvider, Provider<MystiqueListSelectorConnector> mystiqueListSelectorConnectorProvider, Provider<MystiqueListButtonConnector> mystiqueListButtonConnectorProvider, Provider<BillingAddressDeletedConnector> billingAddressDeletedConnectorProvider, Provider<SuccessRouter> successRouterProvider, Provider<KeyboardListener> keyboardListenerProvider, Provider<WorldPayValidator> worldPayValidatorProvider, Provider<WorldPayPollingWrapper> worldPayPollingWrapperProvider, Provider<Scheduler> mainSchedulerProvider) {
+    public CardFormPresenter_Factory(Provider<LoginManager> loginManagerProvider, Provider<CardFormScreen> screenProvider, Provider<Application> appProvider, Provider<CardFormRouter> routerProvider, Provider<SharedPreferences> prefsProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<Integer> checkFieldsErrorResProvider, Provider<Integer> paymentProcessingErrorResProvider, Provider<CreditCardValidator> creditCardValidatorProvider, Provider<MystiqueListSelectorConnector> mystiqueListSelectorConnectorProvider, Provider<MystiqueListButtonConnector> mystiqueListButtonConnectorProvider, Provider<BillingAddressDeletedConnector> billingAddressDeletedConnectorProvider, Provider<SuccessRouter> successRouterProvider, Provider<KeyboardListener> keyboardListenerProvider, Provider<WorldPayValidator> worldPayValidatorProvider, Provider<StatusPoller> statusPollerProvider, Provider<Scheduler> mainSchedulerProvider) {
         this.loginManagerProvider = loginManagerProvider;
         this.screenProvider = screenProvider;
         this.appProvider = appProvider;
@@ -49,23 +50,23 @@ public final class CardFormPresenter_Factory implements Factory<CardFormPresente
         this.successRouterProvider = successRouterProvider;
         this.keyboardListenerProvider = keyboardListenerProvider;
         this.worldPayValidatorProvider = worldPayValidatorProvider;
-        this.worldPayPollingWrapperProvider = worldPayPollingWrapperProvider;
+        this.statusPollerProvider = statusPollerProvider;
         this.mainSchedulerProvider = mainSchedulerProvider;
     }
 
     public CardFormPresenter get() {
-        return provideInstance(this.loginManagerProvider, this.screenProvider, this.appProvider, this.routerProvider, this.prefsProvider, this.snackBarWrapperProvider, this.checkFieldsErrorResProvider, this.paymentProcessingErrorResProvider, this.creditCardValidatorProvider, this.mystiqueListSelectorConnectorProvider, this.mystiqueListButtonConnectorProvider, this.billingAddressDeletedConnectorProvider, this.successRouterProvider, this.keyboardListenerProvider, this.worldPayValidatorProvider, this.worldPayPollingWrapperProvider, this.mainSchedulerProvider);
+        return provideInstance(this.loginManagerProvider, this.screenProvider, this.appProvider, this.routerProvider, this.prefsProvider, this.snackBarWrapperProvider, this.checkFieldsErrorResProvider, this.paymentProcessingErrorResProvider, this.creditCardValidatorProvider, this.mystiqueListSelectorConnectorProvider, this.mystiqueListButtonConnectorProvider, this.billingAddressDeletedConnectorProvider, this.successRouterProvider, this.keyboardListenerProvider, this.worldPayValidatorProvider, this.statusPollerProvider, this.mainSchedulerProvider);
     }
 
-    public static CardFormPresenter provideInstance(Provider<LoginManager> loginManagerProvider, Provider<CardFormScreen> screenProvider, Provider<Application> appProvider, Provider<CardFormRouter> routerProvider, Provider<SharedPreferences> prefsProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<Integer> checkFieldsErrorResProvider, Provider<Integer> paymentProcessingErrorResProvider, Provider<CreditCardValidator> creditCardValidatorProvider, Provider<MystiqueListSelectorConnector> mystiqueListSelectorConnectorProvider, Provider<MystiqueListButtonConnector> mystiqueListButtonConnectorProvider, Provider<BillingAddressDeletedConnector> billingAddressDeletedConnectorProvider, Provider<SuccessRouter> successRouterProvider, Provider<KeyboardListener> keyboardListenerProvider, Provider<WorldPayValidator> worldPayValidatorProvider, Provider<WorldPayPollingWrapper> worldPayPollingWrapperProvider, Provider<Scheduler> mainSchedulerProvider) {
-        return new CardFormPresenter((LoginManager) loginManagerProvider.get(), (CardFormScreen) screenProvider.get(), (Application) appProvider.get(), (CardFormRouter) routerProvider.get(), (SharedPreferences) prefsProvider.get(), (SnackBarWrapper) snackBarWrapperProvider.get(), ((Integer) checkFieldsErrorResProvider.get()).intValue(), ((Integer) paymentProcessingErrorResProvider.get()).intValue(), (CreditCardValidator) creditCardValidatorProvider.get(), (MystiqueListSelectorConnector) mystiqueListSelectorConnectorProvider.get(), (MystiqueListButtonConnector) mystiqueListButtonConnectorProvider.get(), (BillingAddressDeletedConnector) billingAddressDeletedConnectorProvider.get(), (SuccessRouter) successRouterProvider.get(), (KeyboardListener) keyboardListenerProvider.get(), (WorldPayValidator) worldPayValidatorProvider.get(), (WorldPayPollingWrapper) worldPayPollingWrapperProvider.get(), (Scheduler) mainSchedulerProvider.get());
+    public static CardFormPresenter provideInstance(Provider<LoginManager> loginManagerProvider, Provider<CardFormScreen> screenProvider, Provider<Application> appProvider, Provider<CardFormRouter> routerProvider, Provider<SharedPreferences> prefsProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<Integer> checkFieldsErrorResProvider, Provider<Integer> paymentProcessingErrorResProvider, Provider<CreditCardValidator> creditCardValidatorProvider, Provider<MystiqueListSelectorConnector> mystiqueListSelectorConnectorProvider, Provider<MystiqueListButtonConnector> mystiqueListButtonConnectorProvider, Provider<BillingAddressDeletedConnector> billingAddressDeletedConnectorProvider, Provider<SuccessRouter> successRouterProvider, Provider<KeyboardListener> keyboardListenerProvider, Provider<WorldPayValidator> worldPayValidatorProvider, Provider<StatusPoller> statusPollerProvider, Provider<Scheduler> mainSchedulerProvider) {
+        return new CardFormPresenter((LoginManager) loginManagerProvider.get(), (CardFormScreen) screenProvider.get(), (Application) appProvider.get(), (CardFormRouter) routerProvider.get(), (SharedPreferences) prefsProvider.get(), (SnackBarWrapper) snackBarWrapperProvider.get(), ((Integer) checkFieldsErrorResProvider.get()).intValue(), ((Integer) paymentProcessingErrorResProvider.get()).intValue(), (CreditCardValidator) creditCardValidatorProvider.get(), (MystiqueListSelectorConnector) mystiqueListSelectorConnectorProvider.get(), (MystiqueListButtonConnector) mystiqueListButtonConnectorProvider.get(), (BillingAddressDeletedConnector) billingAddressDeletedConnectorProvider.get(), (SuccessRouter) successRouterProvider.get(), (KeyboardListener) keyboardListenerProvider.get(), (WorldPayValidator) worldPayValidatorProvider.get(), (StatusPoller) statusPollerProvider.get(), (Scheduler) mainSchedulerProvider.get());
     }
 
-    public static CardFormPresenter_Factory create(Provider<LoginManager> loginManagerProvider, Provider<CardFormScreen> screenProvider, Provider<Application> appProvider, Provider<CardFormRouter> routerProvider, Provider<SharedPreferences> prefsProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<Integer> checkFieldsErrorResProvider, Provider<Integer> paymentProcessingErrorResProvider, Provider<CreditCardValidator> creditCardValidatorProvider, Provider<MystiqueListSelectorConnector> mystiqueListSelectorConnectorProvider, Provider<MystiqueListButtonConnector> mystiqueListButtonConnectorProvider, Provider<BillingAddressDeletedConnector> billingAddressDeletedConnectorProvider, Provider<SuccessRouter> successRouterProvider, Provider<KeyboardListener> keyboardListenerProvider, Provider<WorldPayValidator> worldPayValidatorProvider, Provider<WorldPayPollingWrapper> worldPayPollingWrapperProvider, Provider<Scheduler> mainSchedulerProvider) {
-        return new CardFormPresenter_Factory(loginManagerProvider, screenProvider, appProvider, routerProvider, prefsProvider, snackBarWrapperProvider, checkFieldsErrorResProvider, paymentProcessingErrorResProvider, creditCardValidatorProvider, mystiqueListSelectorConnectorProvider, mystiqueListButtonConnectorProvider, billingAddressDeletedConnectorProvider, successRouterProvider, keyboardListenerProvider, worldPayValidatorProvider, worldPayPollingWrapperProvider, mainSchedulerProvider);
+    public static CardFormPresenter_Factory create(Provider<LoginManager> loginManagerProvider, Provider<CardFormScreen> screenProvider, Provider<Application> appProvider, Provider<CardFormRouter> routerProvider, Provider<SharedPreferences> prefsProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<Integer> checkFieldsErrorResProvider, Provider<Integer> paymentProcessingErrorResProvider, Provider<CreditCardValidator> creditCardValidatorProvider, Provider<MystiqueListSelectorConnector> mystiqueListSelectorConnectorProvider, Provider<MystiqueListButtonConnector> mystiqueListButtonConnectorProvider, Provider<BillingAddressDeletedConnector> billingAddressDeletedConnectorProvider, Provider<SuccessRouter> successRouterProvider, Provider<KeyboardListener> keyboardListenerProvider, Provider<WorldPayValidator> worldPayValidatorProvider, Provider<StatusPoller> statusPollerProvider, Provider<Scheduler> mainSchedulerProvider) {
+        return new CardFormPresenter_Factory(loginManagerProvider, screenProvider, appProvider, routerProvider, prefsProvider, snackBarWrapperProvider, checkFieldsErrorResProvider, paymentProcessingErrorResProvider, creditCardValidatorProvider, mystiqueListSelectorConnectorProvider, mystiqueListButtonConnectorProvider, billingAddressDeletedConnectorProvider, successRouterProvider, keyboardListenerProvider, worldPayValidatorProvider, statusPollerProvider, mainSchedulerProvider);
     }
 
-    public static CardFormPresenter newCardFormPresenter(LoginManager loginManager, Object screen, Application app, CardFormRouter router, SharedPreferences prefs, SnackBarWrapper snackBarWrapper, int checkFieldsErrorRes, int paymentProcessingErrorRes, CreditCardValidator creditCardValidator, MystiqueListSelectorConnector mystiqueListSelectorConnector, MystiqueListButtonConnector mystiqueListButtonConnector, BillingAddressDeletedConnector billingAddressDeletedConnector, SuccessRouter successRouter, KeyboardListener keyboardListener, WorldPayValidator worldPayValidator, WorldPayPollingWrapper worldPayPollingWrapper, Scheduler mainScheduler) {
-        return new CardFormPresenter(loginManager, (CardFormScreen) screen, app, router, prefs, snackBarWrapper, checkFieldsErrorRes, paymentProcessingErrorRes, creditCardValidator, mystiqueListSelectorConnector, mystiqueListButtonConnector, billingAddressDeletedConnector, successRouter, keyboardListener, worldPayValidator, worldPayPollingWrapper, mainScheduler);
+    public static CardFormPresenter newCardFormPresenter(LoginManager loginManager, Object screen, Application app, CardFormRouter router, SharedPreferences prefs, SnackBarWrapper snackBarWrapper, int checkFieldsErrorRes, int paymentProcessingErrorRes, CreditCardValidator creditCardValidator, MystiqueListSelectorConnector mystiqueListSelectorConnector, MystiqueListButtonConnector mystiqueListButtonConnector, BillingAddressDeletedConnector billingAddressDeletedConnector, SuccessRouter successRouter, KeyboardListener keyboardListener, WorldPayValidator worldPayValidator, StatusPoller statusPoller, Scheduler mainScheduler) {
+        return new CardFormPresenter(loginManager, (CardFormScreen) screen, app, router, prefs, snackBarWrapper, checkFieldsErrorRes, paymentProcessingErrorRes, creditCardValidator, mystiqueListSelectorConnector, mystiqueListButtonConnector, billingAddressDeletedConnector, successRouter, keyboardListener, worldPayValidator, statusPoller, mainScheduler);
     }
 }
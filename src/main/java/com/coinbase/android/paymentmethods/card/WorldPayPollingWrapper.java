@@ -1,7 +0,0 @@
-package com.coinbase.android.paymentmethods.card;
-
-public interface WorldPayPollingWrapper {
-    long getPollDelay();
-
-    long getPollMaxTime();
-}
@@ -0,0 +1,84 @@
+package com.coinbase.android.polling;
+
+/**
+ * Counters for one polling flow: how its polls ended, how many requests they took and how long it
+ * took to reach a terminal state.
+ */
+public final class PollingMetrics {
+    private long mAbandonedFlows;
+    private long mFailedFlows;
+    private long mPolls;
+    private long mTerminalFlows;
+    private long mTimeToTerminalMillis;
+    private long mTimedOutFlows;
+
+    PollingMetrics() {
+    }
+
+    PollingMetrics(PollingMetrics metrics) {
+        this.mAbandonedFlows = metrics.mAbandonedFlows;
+        this.mFailedFlows = metrics.mFailedFlows;
+        this.mPolls = metrics.mPolls;
+        this.mTerminalFlows = metrics.mTerminalFlows;
+        this.mTimeToTerminalMillis = metrics.mTimeToTerminalMillis;
+        this.mTimedOutFlows = metrics.mTimedOutFlows;
+    }
+
+    void onTerminal(int polls, long timeToTerminalMillis) {
+        this.mTerminalFlows++;
+        this.mPolls += (long) polls;
+        this.mTimeToTerminalMillis += timeToTerminalMillis;
+    }
+
+    void onTimedOut(int polls) {
+        this.mTimedOutFlows++;
+        this.mPolls += (long) polls;
+    }
+
+    void onFailed(int polls) {
+        this.mFailedFlows++;
+        this.mPolls += (long) polls;
+    }
+
+    void onAbandoned(int polls) {
+        this.mAbandonedFlows++;
+        this.mPolls += (long) polls;
+    }
+
+    public long getFlows() {
+        return ((this.mTerminalFlows + this.mTimedOutFlows) + this.mFailedFlows) + this.mAbandonedFlows;
+    }
+
+    public long getTerminalFlows() {
+        return this.mTerminalFlows;
+    }
+
+    public long getTimedOutFlows() {
+        return this.mTimedOutFlows;
+    }
+
+    public long getFailedFlows() {
+        return this.mFailedFlows;
+    }
+
+    public long getAbandonedFlows() {
+        return this.mAbandonedFlows;
+    }
+
+    public long getPolls() {
+        return this.mPolls;
+    }
+
+    public double getPollsPerFlow() {
+        long flows = getFlows();
+        return flows == 0 ? 0.0d : ((double) this.mPolls) / ((double) flows);
+    }
+
+    public long getAverageTimeToTerminalMillis() {
+        return this.mTerminalFlows == 0 ? 0 : this.mTimeToTerminalMillis / this.mTerminalFlows;
+    }
+
+    public String toString() {
+        return "PollingMetrics{flows=" + getFlows() + ", terminal=" + this.mTerminalFlows + ", timedOut=" + this.mTimedOutFlows + ", failed=" + this.mFailedFlows + ", abandoned=" + this.mAbandonedFlows + ", pollsPerFlow=" + getPollsPerFlow() + ", averageTimeToTerminalMillis=" + getAverageTimeToTerminalMillis() + "}";
+    }
+}
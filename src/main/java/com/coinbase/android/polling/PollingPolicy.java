@@ -0,0 +1,9 @@
+package com.coinbase.android.polling;
+
+public interface PollingPolicy {
+    long getInitialPollDelay();
+
+    long getMaxPollDelay();
+
+    long getPollMaxTime();
+}
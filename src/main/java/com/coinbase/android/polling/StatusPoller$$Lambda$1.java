@@ -0,0 +1,30 @@
+package com.coinbase.android.polling;
+
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.functions.Func0;
+import rx.functions.Func1;
+
+final /* synthetic */ class StatusPoller$$Lambda$1 implements OnSubscribe {
+    private final StatusPoller arg$1;
+    private final String arg$2;
+    private final String arg$3;
+    private final Func0 arg$4;
+    private final Func1 arg$5;
+
+    private StatusPoller$$Lambda$1(StatusPoller statusPoller, String str, String str2, Func0 func0, Func1 func1) {
+        this.arg$1 = statusPoller;
+        this.arg$2 = str;
+        this.arg$3 = str2;
+        this.arg$4 = func0;
+        this.arg$5 = func1;
+    }
+
+    public static OnSubscribe lambdaFactory$(StatusPoller statusPoller, String str, String str2, Func0 func0, Func1 func1) {
+        return new StatusPoller$$Lambda$1(statusPoller, str, str2, func0, func1);
+    }
+
+    public void call(Object obj) {
+        StatusPoller.lambda$poll$0(this.arg$1, this.arg$2, this.arg$3, this.arg$4, this.arg$5, (Subscriber) obj);
+    }
+}
@@ -0,0 +1,25 @@
+package com.coinbase.android.polling;
+
+import com.coinbase.android.polling.StatusPoller.Poll;
+import rx.Subscriber;
+import rx.functions.Action0;
+
+final /* synthetic */ class StatusPoller$$Lambda$2 implements Action0 {
+    private final StatusPoller arg$1;
+    private final Poll arg$2;
+    private final Subscriber arg$3;
+
+    private StatusPoller$$Lambda$2(StatusPoller statusPoller, Poll poll, Subscriber subscriber) {
+        this.arg$1 = statusPoller;
+        this.arg$2 = poll;
+        this.arg$3 = subscriber;
+    }
+
+    public static Action0 lambdaFactory$(StatusPoller statusPoller, Poll poll, Subscriber subscriber) {
+        return new StatusPoller$$Lambda$2(statusPoller, poll, subscriber);
+    }
+
+    public void call() {
+        StatusPoller.lambda$null$1(this.arg$1, this.arg$2, this.arg$3);
+    }
+}
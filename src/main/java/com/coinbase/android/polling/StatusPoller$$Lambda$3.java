@@ -0,0 +1,23 @@
+package com.coinbase.android.polling;
+
+import android.util.Pair;
+import com.coinbase.android.polling.StatusPoller.Poll;
+import rx.functions.Action1;
+
+final /* synthetic */ class StatusPoller$$Lambda$3 implements Action1 {
+    private final StatusPoller arg$1;
+    private final Poll arg$2;
+
+    private StatusPoller$$Lambda$3(StatusPoller statusPoller, Poll poll) {
+        this.arg$1 = statusPoller;
+        this.arg$2 = poll;
+    }
+
+    public static Action1 lambdaFactory$(StatusPoller statusPoller, Poll poll) {
+        return new StatusPoller$$Lambda$3(statusPoller, poll);
+    }
+
+    public void call(Object obj) {
+        StatusPoller.lambda$execute$2(this.arg$1, this.arg$2, (Pair) obj);
+    }
+}
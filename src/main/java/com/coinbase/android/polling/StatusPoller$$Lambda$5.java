@@ -0,0 +1,22 @@
+package com.coinbase.android.polling;
+
+import com.coinbase.android.polling.StatusPoller.Poll;
+import rx.functions.Action1;
+
+final /* synthetic */ class StatusPoller$$Lambda$5 implements Action1 {
+    private final StatusPoller arg$1;
+    private final Poll arg$2;
+
+    private StatusPoller$$Lambda$5(StatusPoller statusPoller, Poll poll) {
+        this.arg$1 = statusPoller;
+        this.arg$2 = poll;
+    }
+
+    public static Action1 lambdaFactory$(StatusPoller statusPoller, Poll poll) {
+        return new StatusPoller$$Lambda$5(statusPoller, poll);
+    }
+
+    public void call(Object obj) {
+        StatusPoller.lambda$onResult$4(this.arg$1, this.arg$2, (Long) obj);
+    }
+}
@@ -0,0 +1,251 @@
+package com.coinbase.android.polling;
+
+import android.os.SystemClock;
+import android.text.TextUtils;
+import android.util.Pair;
+import com.coinbase.android.ApplicationScope;
+import com.coinbase.android.BackgroundScheduler;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.inject.Inject;
+import okhttp3.internal.http.HttpDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import rx.Observable;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.functions.Func0;
+import rx.functions.Func1;
+import rx.subscriptions.SerialSubscription;
+import rx.subscriptions.Subscriptions;
+
+/**
+ * Polls the status of a server side resource (a 3DS/WorldPay payment, a Jumio profile, ...) until
+ * it reaches a terminal state. The first poll is repeated quickly and later ones back off
+ * exponentially with jitter, never sooner than the server's Retry-After. Screens polling the same
+ * resource share one poll, which ends for all of them as soon as any response is terminal, and
+ * {@link #pollNow()} lets a push cut the wait short. A poll that does not reach a terminal state
+ * within the policy's maximum time fails with a {@link TimeoutException}.
+ */
+@ApplicationScope
+public class StatusPoller {
+    public static final String FLOW_JUMIO_PROFILE = "jumio_profile";
+    public static final String FLOW_WORLDPAY_BUY = "worldpay_buy";
+    public static final String FLOW_WORLDPAY_CARD = "worldpay_card";
+    private static final int HTTP_SERVICE_UNAVAILABLE = 503;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int MAX_BACKOFF_SHIFT = 16;
+    private static final String RETRY_AFTER = "Retry-After";
+    private final Logger mLogger = LoggerFactory.getLogger(StatusPoller.class);
+    private final Map<String, PollingMetrics> mMetrics = new HashMap();
+    private final PollingPolicy mPollingPolicy;
+    private final Map<String, Poll> mPolls = new HashMap();
+    private final Random mRandom = new Random();
+    private final Scheduler mScheduler;
+
+    static final class Poll {
+        private boolean mFinished;
+        private final String mFlow;
+        private boolean mInFlight;
+        private final Func1 mIsTerminal;
+        private final String mKey;
+        private int mPolls;
+        private final Func0 mRequest;
+        private final SerialSubscription mRequestSubscription = new SerialSubscription();
+        private final long mStartTime = SystemClock.elapsedRealtime();
+        private final List<Subscriber> mSubscribers = new ArrayList();
+        private final SerialSubscription mTimerSubscription = new SerialSubscription();
+
+        Poll(String key, String flow, Func0 request, Func1 isTerminal) {
+            this.mKey = key;
+            this.mFlow = flow;
+            this.mRequest = request;
+            this.mIsTerminal = isTerminal;
+        }
+    }
+
+    @Inject
+    public StatusPoller(PollingPolicy pollingPolicy, @BackgroundScheduler Scheduler backgroundScheduler) {
+        this.mPollingPolicy = pollingPolicy;
+        this.mScheduler = backgroundScheduler;
+    }
+
+    /**
+     * Emits the first terminal response for the resource and completes. Polling starts with the
+     * first subscriber and stops when the last one unsubscribes. Throttling responses (429, 503)
+     * are never terminal; every other response is passed to isTerminal.
+     */
+    public <T> Observable<Pair<Response<T>, Retrofit>> poll(String flow, String resourceId, Func0<Observable<Pair<Response<T>, Retrofit>>> request, Func1<Pair<Response<T>, Retrofit>, Boolean> isTerminal) {
+        return Observable.create(StatusPoller$$Lambda$1.lambdaFactory$(this, flow + ":" + resourceId, flow, request, isTerminal));
+    }
+
+    static /* synthetic */ void lambda$poll$0(StatusPoller this_, String key, String flow, Func0 request, Func1 isTerminal, Subscriber subscriber) {
+        Poll poll;
+        boolean start = false;
+        synchronized (this_) {
+            poll = (Poll) this_.mPolls.get(key);
+            if (poll == null) {
+                poll = new Poll(key, flow, request, isTerminal);
+                this_.mPolls.put(key, poll);
+                start = true;
+            }
+            poll.mSubscribers.add(subscriber);
+        }
+        subscriber.add(Subscriptions.create(StatusPoller$$Lambda$2.lambdaFactory$(this_, poll, subscriber)));
+        if (start) {
+            this_.execute(poll);
+        }
+    }
+
+    static /* synthetic */ void lambda$null$1(StatusPoller this_, Poll poll, Subscriber subscriber) {
+        synchronized (this_) {
+            poll.mSubscribers.remove(subscriber);
+            if (poll.mSubscribers.isEmpty() && !poll.mFinished) {
+                poll.mFinished = true;
+                this_.mPolls.remove(poll.mKey);
+                poll.mRequestSubscription.unsubscribe();
+                poll.mTimerSubscription.unsubscribe();
+                this_.getMutableMetrics(poll.mFlow).onAbandoned(poll.mPolls);
+            }
+        }
+    }
+
+    /**
+     * Polls every active resource right away instead of waiting for its next scheduled poll, e.g.
+     * when a push says something changed server side.
+     */
+    public void pollNow() {
+        List<Poll> polls;
+        synchronized (this) {
+            polls = new ArrayList(this.mPolls.values());
+        }
+        for (Poll poll : polls) {
+            execute(poll);
+        }
+    }
+
+    public synchronized PollingMetrics getMetrics(String flow) {
+        return new PollingMetrics(getMutableMetrics(flow));
+    }
+
+    private PollingMetrics getMutableMetrics(String flow) {
+        PollingMetrics metrics = (PollingMetrics) this.mMetrics.get(flow);
+        if (metrics != null) {
+            return metrics;
+        }
+        metrics = new PollingMetrics();
+        this.mMetrics.put(flow, metrics);
+        return metrics;
+    }
+
+    private void execute(Poll poll) {
+        synchronized (this) {
+            if (poll.mFinished || poll.mInFlight) {
+                return;
+            }
+            poll.mInFlight = true;
+            poll.mPolls++;
+            poll.mTimerSubscription.set(Subscriptions.unsubscribed());
+        }
+        poll.mRequestSubscription.set(((Observable) poll.mRequest.call()).first().subscribeOn(this.mScheduler).subscribe(StatusPoller$$Lambda$3.lambdaFactory$(this, poll), StatusPoller$$Lambda$4.lambdaFactory$(this, poll)));
+    }
+
+    static /* synthetic */ void lambda$execute$2(StatusPoller this_, Poll poll, Pair pair) {
+        this_.onResult(poll, pair);
+    }
+
+    static /* synthetic */ void lambda$execute$3(StatusPoller this_, Poll poll, Throwable t) {
+        this_.finish(poll, null, t);
+    }
+
+    private void onResult(Poll poll, Pair pair) {
+        Response response = (Response) pair.first;
+        boolean throttled = response.code() == HTTP_TOO_MANY_REQUESTS || response.code() == HTTP_SERVICE_UNAVAILABLE;
+        if (throttled || !((Boolean) poll.mIsTerminal.call(pair)).booleanValue()) {
+            long remaining = this.mPollingPolicy.getPollMaxTime() - (SystemClock.elapsedRealtime() - poll.mStartTime);
+            if (remaining <= 0) {
+                finish(poll, null, new TimeoutException("Polling " + poll.mKey + " timed out after " + poll.mPolls + " polls"));
+                return;
+            }
+            synchronized (this) {
+                if (!poll.mFinished) {
+                    poll.mInFlight = false;
+                    poll.mTimerSubscription.set(Observable.timer(Math.min(getPollDelay(poll.mPolls, getRetryAfter(response)), remaining), TimeUnit.MILLISECONDS, this.mScheduler).subscribe(StatusPoller$$Lambda$5.lambdaFactory$(this, poll)));
+                }
+            }
+            return;
+        }
+        finish(poll, pair, null);
+    }
+
+    static /* synthetic */ void lambda$onResult$4(StatusPoller this_, Poll poll, Long tick) {
+        this_.execute(poll);
+    }
+
+    /**
+     * Backoff after the given number of polls: the initial delay doubled per poll up to the maximum,
+     * with "equal jitter" (a random point in the upper half) so clients do not poll in lockstep.
+     */
+    long getPollDelay(int polls, long retryAfter) {
+        long backoff = Math.min(this.mPollingPolicy.getInitialPollDelay() << Math.min(Math.max(polls - 1, 0), MAX_BACKOFF_SHIFT), this.mPollingPolicy.getMaxPollDelay());
+        return Math.max((backoff / 2) + ((long) (this.mRandom.nextDouble() * ((double) (backoff / 2)))), retryAfter);
+    }
+
+    static long getRetryAfter(Response response) {
+        String retryAfter = response.headers().get(RETRY_AFTER);
+        if (TextUtils.isEmpty(retryAfter)) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            Date date = HttpDate.parse(retryAfter);
+            if (date == null) {
+                return 0;
+            }
+            return Math.max(0, date.getTime() - System.currentTimeMillis());
+        }
+    }
+
+    private void finish(Poll poll, Pair pair, Throwable error) {
+        List<Subscriber> subscribers;
+        synchronized (this) {
+            if (poll.mFinished) {
+                return;
+            }
+            poll.mFinished = true;
+            this.mPolls.remove(poll.mKey);
+            poll.mTimerSubscription.unsubscribe();
+            subscribers = new ArrayList(poll.mSubscribers);
+            long elapsed = SystemClock.elapsedRealtime() - poll.mStartTime;
+            PollingMetrics metrics = getMutableMetrics(poll.mFlow);
+            if (pair != null) {
+                metrics.onTerminal(poll.mPolls, elapsed);
+            } else if (error instanceof TimeoutException) {
+                metrics.onTimedOut(poll.mPolls);
+            } else {
+                metrics.onFailed(poll.mPolls);
+            }
+            this.mLogger.info("Polling {} ended after {} polls in {} ms: {}", poll.mKey, Integer.valueOf(poll.mPolls), Long.valueOf(elapsed), metrics);
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.isUnsubscribed()) {
+                if (pair != null) {
+                    subscriber.onNext(pair);
+                    subscriber.onCompleted();
+                } else {
+                    subscriber.onError(error);
+                }
+            }
+        }
+        poll.mRequestSubscription.unsubscribe();
+    }
+}
@@ -0,0 +1,31 @@
+package com.coinbase.android.polling;
+
+import dagger.internal.Factory;
+import javax.inject.Provider;
+import rx.Scheduler;
+
+public final class StatusPoller_Factory implements Factory<StatusPoller> {
+    private final Provider<Scheduler> backgroundSchedulerProvider;
+    private final Provider<PollingPolicy> pollingPolicyProvider;
+
+    public StatusPoller_Factory(Provider<PollingPolicy> pollingPolicyProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        this.pollingPolicyProvider = pollingPolicyProvider;
+        this.backgroundSchedulerProvider = backgroundSchedulerProvider;
+    }
+
+    public StatusPoller get() {
+        return provideInstance(this.pollingPolicyProvider, this.backgroundSchedulerProvider);
+    }
+
+    public static StatusPoller provideInstance(Provider<PollingPolicy> pollingPolicyProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        return new StatusPoller((PollingPolicy) pollingPolicyProvider.get(), (Scheduler) backgroundSchedulerProvider.get());
+    }
+
+    public static StatusPoller_Factory create(Provider<PollingPolicy> pollingPolicyProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        return new StatusPoller_Factory(pollingPolicyProvider, backgroundSchedulerProvider);
+    }
+
+    public static StatusPoller newStatusPoller(PollingPolicy pollingPolicy, Scheduler backgroundScheduler) {
+        return new StatusPoller(pollingPolicy, backgroundScheduler);
+    }
+}
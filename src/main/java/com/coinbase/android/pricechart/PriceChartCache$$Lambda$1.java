@@ -0,0 +1,26 @@
+package com.coinbase.android.pricechart;
+
+import com.coinbase.android.pricechart.PriceChartPresenter.Period;
+import rx.functions.Func1;
+
+final /* synthetic */ class PriceChartCache$$Lambda$1 implements Func1 {
+    private final PriceChartCache arg$1;
+    private final String arg$2;
+    private final String arg$3;
+    private final Period arg$4;
+
+    private PriceChartCache$$Lambda$1(PriceChartCache priceChartCache, String baseCurrencyCode, String currencyCode, Period period) {
+        this.arg$1 = priceChartCache;
+        this.arg$2 = baseCurrencyCode;
+        this.arg$3 = currencyCode;
+        this.arg$4 = period;
+    }
+
+    public static Func1 lambdaFactory$(PriceChartCache priceChartCache, String baseCurrencyCode, String currencyCode, Period period) {
+        return new PriceChartCache$$Lambda$1(priceChartCache, baseCurrencyCode, currencyCode, period);
+    }
+
+    public Object call(Object obj) {
+        return PriceChartCache.lambda$get$1(this.arg$1, this.arg$2, this.arg$3, this.arg$4, (String) obj);
+    }
+}
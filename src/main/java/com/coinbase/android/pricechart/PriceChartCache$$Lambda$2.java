@@ -0,0 +1,22 @@
+package com.coinbase.android.pricechart;
+
+import android.util.Pair;
+import rx.functions.Func1;
+
+final /* synthetic */ class PriceChartCache$$Lambda$2 implements Func1 {
+    private final PriceChartCache arg$1;
+    private final String arg$2;
+
+    private PriceChartCache$$Lambda$2(PriceChartCache priceChartCache, String key) {
+        this.arg$1 = priceChartCache;
+        this.arg$2 = key;
+    }
+
+    public static Func1 lambdaFactory$(PriceChartCache priceChartCache, String key) {
+        return new PriceChartCache$$Lambda$2(priceChartCache, key);
+    }
+
+    public Object call(Object obj) {
+        return PriceChartCache.lambda$null$0(this.arg$1, this.arg$2, (Pair) obj);
+    }
+}
@@ -0,0 +1,24 @@
+package com.coinbase.android.pricechart;
+
+import android.util.Pair;
+import rx.functions.Action1;
+
+final /* synthetic */ class PriceChartCache$$Lambda$3 implements Action1 {
+    private final PriceChartCache arg$1;
+    private final String arg$2;
+    private final String arg$3;
+
+    private PriceChartCache$$Lambda$3(PriceChartCache priceChartCache, String baseCurrencyCode, String currencyCode) {
+        this.arg$1 = priceChartCache;
+        this.arg$2 = baseCurrencyCode;
+        this.arg$3 = currencyCode;
+    }
+
+    public static Action1 lambdaFactory$(PriceChartCache priceChartCache, String baseCurrencyCode, String currencyCode) {
+        return new PriceChartCache$$Lambda$3(priceChartCache, baseCurrencyCode, currencyCode);
+    }
+
+    public void call(Object obj) {
+        PriceChartCache.lambda$listenForSpotPrices$2(this.arg$1, this.arg$2, this.arg$3, (Pair) obj);
+    }
+}
@@ -0,0 +1,19 @@
+package com.coinbase.android.pricechart;
+
+import rx.functions.Action1;
+
+final /* synthetic */ class PriceChartCache$$Lambda$4 implements Action1 {
+    private final PriceChartCache arg$1;
+
+    private PriceChartCache$$Lambda$4(PriceChartCache priceChartCache) {
+        this.arg$1 = priceChartCache;
+    }
+
+    public static Action1 lambdaFactory$(PriceChartCache priceChartCache) {
+        return new PriceChartCache$$Lambda$4(priceChartCache);
+    }
+
+    public void call(Object obj) {
+        PriceChartCache.lambda$listenForSpotPrices$3(this.arg$1, (Throwable) obj);
+    }
+}
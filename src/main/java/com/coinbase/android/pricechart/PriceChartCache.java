@@ -0,0 +1,222 @@
+package com.coinbase.android.pricechart;
+
+import android.app.Application;
+import android.text.TextUtils;
+import android.util.Pair;
+import com.coinbase.android.ApplicationScope;
+import com.coinbase.android.ApplicationSignOutListener;
+import com.coinbase.android.BackgroundScheduler;
+import com.coinbase.android.dashboard.SpotPriceService;
+import com.coinbase.android.pricechart.PriceChartPresenter.Period;
+import com.coinbase.api.LoginManager;
+import com.coinbase.api.internal.ApiConstants;
+import com.coinbase.api.internal.models.priceCharts.PriceChart;
+import com.coinbase.v2.models.price.Price;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+import okhttp3.internal.Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Response;
+import rx.Observable;
+import rx.Scheduler;
+import rx.subscriptions.CompositeSubscription;
+
+/**
+ * Price chart series per base currency, fiat currency and period, shared by every chart in the
+ * app and persisted to disk. Once a series is fetched its tail is extended with the spot prices
+ * SpotPriceService polls, one point per bucket, and it is only fetched again when a bucket went by
+ * without a spot price.
+ */
+@ApplicationScope
+public class PriceChartCache implements ApplicationSignOutListener {
+    private static final String DIRECTORY = "price_charts";
+    private final Application mApplication;
+    private final Scheduler mBackgroundScheduler;
+    private final Logger mLogger = LoggerFactory.getLogger(PriceChartCache.class);
+    private final LoginManager mLoginManager;
+    private final Map<String, PriceChartSeries> mSeries = new HashMap();
+    private final SpotPriceService mSpotPriceService;
+    private final Set<String> mTickedPairs = new HashSet();
+    private final CompositeSubscription mTickSubscription = new CompositeSubscription();
+
+    @Inject
+    public PriceChartCache(Application application, LoginManager loginManager, SpotPriceService spotPriceService, @BackgroundScheduler Scheduler backgroundScheduler) {
+        this.mApplication = application;
+        this.mLoginManager = loginManager;
+        this.mSpotPriceService = spotPriceService;
+        this.mBackgroundScheduler = backgroundScheduler;
+    }
+
+    /**
+     * Emits a copy of the series, fetching it when it is not cached or has a gap. Emits null when
+     * the fetch is not successful. Reads the disk, so it must be subscribed to off the main thread.
+     */
+    Observable<PriceChartSeries> get(String baseCurrencyCode, String currencyCode, Period period) {
+        String key = getKey(baseCurrencyCode, currencyCode, period);
+        return Observable.just(key).concatMap(PriceChartCache$$Lambda$1.lambdaFactory$(this, baseCurrencyCode, currencyCode, period));
+    }
+
+    static /* synthetic */ Observable lambda$get$1(PriceChartCache this_, String baseCurrencyCode, String currencyCode, Period period, String key) {
+        if (key == null) {
+            return Observable.just(null);
+        }
+        this_.listenForSpotPrices(baseCurrencyCode, currencyCode);
+        PriceChartSeries series = this_.getCached(key);
+        if (series != null) {
+            return Observable.just(series);
+        }
+        HashMap<String, Object> params = new HashMap();
+        params.put(ApiConstants.PERIOD, period.getValue());
+        return this_.mLoginManager.getClient().getPriceChartRx(params, baseCurrencyCode, currencyCode).map(PriceChartCache$$Lambda$2.lambdaFactory$(this_, key));
+    }
+
+    static /* synthetic */ PriceChartSeries lambda$null$0(PriceChartCache this_, String key, Pair pair) {
+        Response<PriceChart> response = (Response) pair.first;
+        if (!response.isSuccessful() || response.body() == null || ((PriceChart) response.body()).getData() == null || ((PriceChart) response.body()).getData().getPrices() == null) {
+            return null;
+        }
+        PriceChartSeries series = PriceChartSeries.parse(((PriceChart) response.body()).getData().getPrices());
+        PriceChartSeries snapshot;
+        synchronized (this_) {
+            this_.mSeries.put(key, series);
+            snapshot = new PriceChartSeries(series);
+        }
+        this_.write(key, snapshot);
+        return snapshot;
+    }
+
+    public void onApplicationSignOut() {
+        synchronized (this) {
+            this.mTickedPairs.clear();
+            this.mTickSubscription.clear();
+        }
+    }
+
+    private synchronized PriceChartSeries getCached(String key) {
+        PriceChartSeries series = (PriceChartSeries) this.mSeries.get(key);
+        if (series == null) {
+            series = read(key);
+            if (series == null) {
+                return null;
+            }
+            this.mSeries.put(key, series);
+        }
+        if (series.isContiguous(System.currentTimeMillis())) {
+            return new PriceChartSeries(series);
+        }
+        this.mSeries.remove(key);
+        return null;
+    }
+
+    private void listenForSpotPrices(String baseCurrencyCode, String currencyCode) {
+        synchronized (this) {
+            if (!this.mTickedPairs.add(baseCurrencyCode.toLowerCase() + "_" + currencyCode.toLowerCase())) {
+                return;
+            }
+            this.mTickSubscription.add(this.mSpotPriceService.get(baseCurrencyCode, currencyCode).onBackpressureLatest().observeOn(this.mBackgroundScheduler).subscribe(PriceChartCache$$Lambda$3.lambdaFactory$(this, baseCurrencyCode, currencyCode), PriceChartCache$$Lambda$4.lambdaFactory$(this)));
+        }
+    }
+
+    static /* synthetic */ void lambda$listenForSpotPrices$2(PriceChartCache this_, String baseCurrencyCode, String currencyCode, Pair pair) {
+        Response<Price> response = (Response) pair.first;
+        if (response.isSuccessful() && response.body() != null && ((Price) response.body()).getData() != null && ((Price) response.body()).getData().getAmount() != null) {
+            try {
+                this_.onSpotPrice(baseCurrencyCode, currencyCode, Float.parseFloat(((Price) response.body()).getData().getAmount()));
+            } catch (NumberFormatException e) {
+            }
+        }
+    }
+
+    static /* synthetic */ void lambda$listenForSpotPrices$3(PriceChartCache this_, Throwable t) {
+        this_.mLogger.error("Spot prices for price charts failed", t);
+    }
+
+    /**
+     * Extends every cached period of the pair with the spot price. A period the price no longer
+     * reaches without a gap is dropped, so the next get fetches it again.
+     */
+    private void onSpotPrice(String baseCurrencyCode, String currencyCode, float price) {
+        long now = System.currentTimeMillis();
+        for (Period period : Period.values()) {
+            String key = getKey(baseCurrencyCode, currencyCode, period);
+            PriceChartSeries snapshot = null;
+            synchronized (this) {
+                PriceChartSeries series = (PriceChartSeries) this.mSeries.get(key);
+                if (series != null) {
+                    if (series.extend(now, price)) {
+                        snapshot = new PriceChartSeries(series);
+                    } else if (!series.isContiguous(now)) {
+                        this.mSeries.remove(key);
+                    }
+                }
+            }
+            if (snapshot != null) {
+                write(key, snapshot);
+            }
+        }
+    }
+
+    private PriceChartSeries read(String key) {
+        File file = getFile(key);
+        if (!file.isFile()) {
+            return null;
+        }
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            return PriceChartSeries.readFrom(in);
+        } catch (IOException e) {
+            this.mLogger.error("Couldn't read price chart " + key, e);
+            file.delete();
+            return null;
+        } finally {
+            Util.closeQuietly(in);
+        }
+    }
+
+    private synchronized void write(String key, PriceChartSeries series) {
+        File file = getFile(key);
+        File directory = file.getParentFile();
+        if (directory.isDirectory() || directory.mkdirs()) {
+            File temp = new File(directory, key + ".tmp");
+            DataOutputStream out = null;
+            try {
+                out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+                series.writeTo(out);
+                out.close();
+                out = null;
+                if (!temp.renameTo(file)) {
+                    temp.delete();
+                }
+            } catch (IOException e) {
+                this.mLogger.error("Couldn't write price chart " + key, e);
+                temp.delete();
+            } finally {
+                Util.closeQuietly(out);
+            }
+        }
+    }
+
+    private File getFile(String key) {
+        return new File(new File(this.mApplication.getFilesDir(), DIRECTORY), key);
+    }
+
+    private static String getKey(String baseCurrencyCode, String currencyCode, Period period) {
+        if (TextUtils.isEmpty(baseCurrencyCode) || TextUtils.isEmpty(currencyCode) || period == null) {
+            return null;
+        }
+        return baseCurrencyCode.toLowerCase() + "_" + currencyCode.toLowerCase() + "_" + period.getValue();
+    }
+}
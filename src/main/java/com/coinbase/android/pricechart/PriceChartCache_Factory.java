@@ -0,0 +1,38 @@
+package com.coinbase.android.pricechart;
+
+import android.app.Application;
+import com.coinbase.android.dashboard.SpotPriceService;
+import com.coinbase.api.LoginManager;
+import dagger.internal.Factory;
+import javax.inject.Provider;
+import rx.Scheduler;
+
+public final class PriceChartCache_Factory implements Factory<PriceChartCache> {
+    private final Provider<Application> applicationProvider;
+    private final Provider<Scheduler> backgroundSchedulerProvider;
+    private final Provider<LoginManager> loginManagerProvider;
+    private final Provider<SpotPriceService> spotPriceServiceProvider;
+
+    public PriceChartCache_Factory(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<SpotPriceService> spotPriceServiceProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        this.applicationProvider = applicationProvider;
+        this.loginManagerProvider = loginManagerProvider;
+        this.spotPriceServiceProvider = spotPriceServiceProvider;
+        this.backgroundSchedulerProvider = backgroundSchedulerProvider;
+    }
+
+    public PriceChartCache get() {
+        return provideInstance(this.applicationProvider, this.loginManagerProvider, this.spotPriceServiceProvider, this.backgroundSchedulerProvider);
+    }
+
+    public static PriceChartCache provideInstance(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<SpotPriceService> spotPriceServiceProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        return new PriceChartCache((Application) applicationProvider.get(), (LoginManager) loginManagerProvider.get(), (SpotPriceService) spotPriceServiceProvider.get(), (Scheduler) backgroundSchedulerProvider.get());
+    }
+
+    public static PriceChartCache_Factory create(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<SpotPriceService> spotPriceServiceProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        return new PriceChartCache_Factory(applicationProvider, loginManagerProvider, spotPriceServiceProvider, backgroundSchedulerProvider);
+    }
+
+    public static PriceChartCache newPriceChartCache(Application application, LoginManager loginManager, SpotPriceService spotPriceService, Scheduler backgroundScheduler) {
+        return new PriceChartCache(application, loginManager, spotPriceService, backgroundScheduler);
+    }
+}
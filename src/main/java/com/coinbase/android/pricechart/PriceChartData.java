@@ -1,22 +1,19 @@
 package com.coinbase.android.pricechart;
 
 import com.coinbase.android.pricechart.PriceChartPresenter.Period;
-import com.coinbase.android.utils.Utils;
-import com.coinbase.api.internal.models.priceCharts.Price;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
-import java.util.List;
 import org.joda.money.BigMoney;
 import org.joda.money.BigMoneyProvider;
 import org.joda.money.Money;
-import org.joda.time.DateTime;
 
 public class PriceChartData {
-    private DateTime[] mDates;
+    static final int MIN_DOWNSAMPLED_POINTS = 4;
     private int mMaxPriceIndex;
     private int mMinPriceIndex;
-    private List<Float> mPriceList;
+    private float[] mPrices;
     private SpotPrice mSpotPrice;
+    private long[] mTimes;
 
     public static class HighlightedPrice {
         private Date mDate;
@@ -72,41 +69,102 @@ public class PriceChartData {
         }
     }
 
-    public static PriceChartData newInstance(List<Price> priceList) {
-        if (priceList == null) {
+    /**
+     * Chart data for the oldest size points of the series, downsampled to at most maxPoints points.
+     */
+    static PriceChartData newInstance(PriceChartSeries series, int size, int maxPoints) {
+        if (series == null) {
             return null;
         }
-        List<Float> priceFloatList = new ArrayList();
-        DateTime[] dates = new DateTime[priceList.size()];
-        int minIndex = -1;
-        int maxIndex = -1;
-        float minValue = Float.MAX_VALUE;
-        float maxValue = Float.MIN_VALUE;
-        for (int i = 0; i < priceList.size(); i++) {
-            Price price = (Price) priceList.get((priceList.size() - i) - 1);
-            if (!(price == null || price.getPrice() == null || price.getTime() == null)) {
-                try {
-                    float priceFloat = Float.parseFloat(price.getPrice());
-                    priceFloatList.add(Float.valueOf(priceFloat));
-                    if (priceFloat < minValue) {
-                        minValue = priceFloat;
-                        minIndex = i;
+        float[] prices = new float[series.size()];
+        long[] times = new long[series.size()];
+        series.copyTo(prices, times);
+        return downsample(prices, times, Math.max(0, Math.min(size, series.size())), maxPoints);
+    }
+
+    /**
+     * Reduces the first size points to at most maxPoints, finding the min and max in the same pass.
+     * The first and last points are kept and the ones in between are split into buckets, each
+     * contributing its lowest and highest point in time order, so spikes and the overall extremes
+     * survive however coarse the buckets are.
+     */
+    static PriceChartData downsample(float[] prices, long[] times, int size, int maxPoints) {
+        if (size <= maxPoints || maxPoints < MIN_DOWNSAMPLED_POINTS) {
+            int minIndex = -1;
+            int maxIndex = -1;
+            for (int i = 0; i < size; i++) {
+                if (minIndex == -1 || prices[i] < prices[minIndex]) {
+                    minIndex = i;
+                }
+                if (maxIndex == -1 || prices[i] > prices[maxIndex]) {
+                    maxIndex = i;
+                }
+            }
+            return new PriceChartData(trim(prices, size), trim(times, size), minIndex, maxIndex);
+        }
+        float[] sampledPrices = new float[maxPoints];
+        long[] sampledTimes = new long[maxPoints];
+        int buckets = (maxPoints - 2) / 2;
+        int count = 0;
+        int minIndex = 0;
+        int maxIndex = 0;
+        sampledPrices[count] = prices[0];
+        sampledTimes[count] = times[0];
+        count++;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            int from = ((int) ((((long) bucket) * ((long) (size - 2))) / ((long) buckets))) + 1;
+            int to = ((int) ((((long) (bucket + 1)) * ((long) (size - 2))) / ((long) buckets))) + 1;
+            if (from < to) {
+                int low = from;
+                int high = from;
+                for (int i = from + 1; i < to; i++) {
+                    if (prices[i] < prices[low]) {
+                        low = i;
                     }
-                    if (priceFloat > maxValue) {
-                        maxValue = priceFloat;
-                        maxIndex = i;
+                    if (prices[i] > prices[high]) {
+                        high = i;
                     }
-                    dates[i] = Utils.getDateTimeFrom(((Price) priceList.get(i)).getTime());
-                } catch (NumberFormatException e) {
+                }
+                int first = Math.min(low, high);
+                int second = Math.max(low, high);
+                int points = first == second ? 1 : 2;
+                for (int j = 0; j < points; j++) {
+                    int index = j == 0 ? first : second;
+                    sampledPrices[count] = prices[index];
+                    sampledTimes[count] = times[index];
+                    if (prices[index] < sampledPrices[minIndex]) {
+                        minIndex = count;
+                    }
+                    if (prices[index] > sampledPrices[maxIndex]) {
+                        maxIndex = count;
+                    }
+                    count++;
                 }
             }
         }
-        return new PriceChartData(priceFloatList, dates, minIndex, maxIndex);
+        sampledPrices[count] = prices[size - 1];
+        sampledTimes[count] = times[size - 1];
+        if (sampledPrices[count] < sampledPrices[minIndex]) {
+            minIndex = count;
+        }
+        if (sampledPrices[count] > sampledPrices[maxIndex]) {
+            maxIndex = count;
+        }
+        count++;
+        return new PriceChartData(trim(sampledPrices, count), trim(sampledTimes, count), minIndex, maxIndex);
+    }
+
+    private static float[] trim(float[] values, int size) {
+        return values.length == size ? values : Arrays.copyOf(values, size);
+    }
+
+    private static long[] trim(long[] values, int size) {
+        return values.length == size ? values : Arrays.copyOf(values, size);
     }
 
-    private PriceChartData(List<Float> priceList, DateTime[] dates, int minPriceIndex, int maxPriceIndex) {
-        this.mPriceList = priceList;
-        this.mDates = dates;
+    private PriceChartData(float[] prices, long[] times, int minPriceIndex, int maxPriceIndex) {
+        this.mPrices = prices;
+        this.mTimes = times;
         this.mMinPriceIndex = minPriceIndex;
         this.mMaxPriceIndex = maxPriceIndex;
     }
@@ -114,12 +172,18 @@ public class PriceChartData {
     PriceChartData() {
     }
 
-    public List<Float> getPriceList() {
-        return this.mPriceList;
+    /**
+     * Prices in chronological order.
+     */
+    public float[] getPrices() {
+        return this.mPrices;
     }
 
-    public DateTime[] getDates() {
-        return this.mDates;
+    /**
+     * Times of {@link #getPrices()} in epoch millis.
+     */
+    public long[] getTimes() {
+        return this.mTimes;
     }
 
     public int getMinPriceIndex() {
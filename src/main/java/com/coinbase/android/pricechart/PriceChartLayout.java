@@ -47,11 +47,9 @@ import com.github.mikephil.charting.listener.OnChartGestureListener;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
 import javax.inject.Inject;
 import org.joda.money.CurrencyUnit;
 import org.joda.money.Money;
-import org.joda.time.DateTime;
 import rx.subjects.PublishSubject;
 
 @ControllerScope
@@ -96,7 +94,7 @@ public class PriceChartLayout extends RelativeLayout implements PriceChartScreen
     private PublishSubject<SpotPrice> mSpotPriceUpdatedSubject;
     private boolean mStepLinesVisible;
     private WindowManager mWindowManager;
-    private DateTime[] mXAxisDates;
+    private long[] mXAxisTimes;
     private int mXAxisLabelColor;
     private boolean mXAxisLabelVisible;
 
@@ -281,19 +279,16 @@ public class PriceChartLayout extends RelativeLayout implements PriceChartScreen
     }
 
     public void loadChartData(PriceChartData priceData) {
-        if (priceData != null && priceData.getDates() != null && priceData.getPriceList() != null) {
-            int i;
-            prepareXAxis(this.mBinding.cvPriceChart, priceData.getDates());
+        if (priceData != null && priceData.getTimes() != null && priceData.getPrices() != null) {
+            prepareXAxis(this.mBinding.cvPriceChart, priceData.getTimes());
             prepareYAxis(this.mBinding.cvPriceChart);
-            this.mXAxisDates = priceData.getDates();
-            ArrayList<String> xVals = new ArrayList();
-            for (i = 0; i < this.mXAxisDates.length; i++) {
+            this.mXAxisTimes = priceData.getTimes();
+            float[] prices = priceData.getPrices();
+            ArrayList<String> xVals = new ArrayList(prices.length);
+            ArrayList<Entry> yVals = new ArrayList(prices.length);
+            for (int i = 0; i < prices.length; i++) {
                 xVals.add("lol");
-            }
-            List<Float> priceList = priceData.getPriceList();
-            ArrayList<Entry> yVals = new ArrayList();
-            for (i = 0; i < priceList.size(); i++) {
-                yVals.add(new Entry(((Float) priceList.get(i)).floatValue(), i));
+                yVals.add(new Entry(prices[i], i));
             }
             LineDataSet set1 = new LineDataSet(yVals, null);
             set1.setColor(this.mChartColor);
@@ -349,6 +344,16 @@ public class PriceChartLayout extends RelativeLayout implements PriceChartScreen
         }
     }
 
+    public int getChartWidth() {
+        int width = this.mBinding.cvPriceChart.getWidth();
+        if (width > 0) {
+            return width;
+        }
+        Point size = new Point();
+        this.mWindowManager.getDefaultDisplay().getSize(size);
+        return size.x;
+    }
+
     public void updateSpotPrice(SpotPrice spotPrice) {
         if (this.mSpotPriceUpdatedSubject != null) {
             this.mSpotPriceUpdatedSubject.onNext(spotPrice);
@@ -402,7 +407,7 @@ public class PriceChartLayout extends RelativeLayout implements PriceChartScreen
         leftAxis.enableGridDashedLine((float) lineLength, (float) gapSize, (float) lineLength);
     }
 
-    private void prepareXAxis(ZeroMarginLineChart chart, DateTime[] dates) {
+    private void prepareXAxis(ZeroMarginLineChart chart, long[] times) {
         XAxis xAxis = chart.getXAxis();
         xAxis.setEnabled(true);
         xAxis.setDrawLabels(this.mXAxisLabelVisible);
@@ -415,7 +420,7 @@ public class PriceChartLayout extends RelativeLayout implements PriceChartScreen
         xAxis.setTextColor(this.mXAxisLabelColor);
         xAxis.setTextSize(CHART_TEXT_SIZE);
         xAxis.setTypeface(CHART_TYPEFACE);
-        xAxis.setValueFormatter(this.mPresenter.getDateFormatter(dates));
+        xAxis.setValueFormatter(this.mPresenter.getDateFormatter(times));
         Paint paint = new Paint();
         Rect bounds = new Rect();
         paint.setTypeface(CHART_TYPEFACE);
@@ -475,7 +480,7 @@ public class PriceChartLayout extends RelativeLayout implements PriceChartScreen
 
     private void updatePriceSections(Entry e) {
         Money highlightedPrice = this.mPresenter.getMoney(e.getVal());
-        Date date = this.mXAxisDates[(this.mXAxisDates.length - 1) - e.getXIndex()].toDate();
+        Date date = new Date(this.mXAxisTimes[e.getXIndex()]);
         if (this.mHighlightedPriceSubject != null) {
             this.mHighlightedPriceSubject.onNext(new HighlightedPrice(highlightedPrice, date));
         }
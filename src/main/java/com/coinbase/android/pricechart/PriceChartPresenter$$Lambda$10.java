@@ -3,19 +3,16 @@ package com.coinbase.android.pricechart;
 import rx.functions.Action1;
 
 final /* synthetic */ class PriceChartPresenter$$Lambda$10 implements Action1 {
-    private final PriceChartPresenter arg$1;
-    private final String arg$2;
+    private static final PriceChartPresenter$$Lambda$10 instance = new PriceChartPresenter$$Lambda$10();
 
-    private PriceChartPresenter$$Lambda$10(PriceChartPresenter priceChartPresenter, String str) {
-        this.arg$1 = priceChartPresenter;
-        this.arg$2 = str;
+    private PriceChartPresenter$$Lambda$10() {
     }
 
-    public static Action1 lambdaFactory$(PriceChartPresenter priceChartPresenter, String str) {
-        return new PriceChartPresenter$$Lambda$10(priceChartPresenter, str);
+    public static Action1 lambdaFactory$() {
+        return instance;
     }
 
     public void call(Object obj) {
-        PriceChartPresenter.lambda$null$7(this.arg$1, this.arg$2, (Throwable) obj);
+        PriceChartPresenter.lambda$startPeriodicSpotPricePoll$7((Throwable) obj);
     }
 }
@@ -14,6 +14,6 @@ final /* synthetic */ class PriceChartPresenter$$Lambda$3 implements Func2 {
     }
 
     public Object call(Object obj, Object obj2) {
-        return new Pair((Pair) obj, (Pair) obj2);
+        return new Pair((PriceChartSeries) obj, (Pair) obj2);
     }
 }
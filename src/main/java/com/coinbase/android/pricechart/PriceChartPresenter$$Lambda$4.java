@@ -5,16 +5,18 @@ import rx.functions.Func1;
 
 final /* synthetic */ class PriceChartPresenter$$Lambda$4 implements Func1 {
     private final PriceChartPresenter arg$1;
+    private final int arg$2;
 
-    private PriceChartPresenter$$Lambda$4(PriceChartPresenter priceChartPresenter) {
+    private PriceChartPresenter$$Lambda$4(PriceChartPresenter priceChartPresenter, int i) {
         this.arg$1 = priceChartPresenter;
+        this.arg$2 = i;
     }
 
-    public static Func1 lambdaFactory$(PriceChartPresenter priceChartPresenter) {
-        return new PriceChartPresenter$$Lambda$4(priceChartPresenter);
+    public static Func1 lambdaFactory$(PriceChartPresenter priceChartPresenter, int i) {
+        return new PriceChartPresenter$$Lambda$4(priceChartPresenter, i);
     }
 
     public Object call(Object obj) {
-        return PriceChartPresenter.lambda$fetchPriceChartData$3(this.arg$1, (Pair) obj);
+        return PriceChartPresenter.lambda$fetchPriceChartData$3(this.arg$1, this.arg$2, (Pair) obj);
     }
 }
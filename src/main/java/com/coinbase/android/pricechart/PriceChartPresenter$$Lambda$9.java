@@ -17,6 +17,6 @@ final /* synthetic */ class PriceChartPresenter$$Lambda$9 implements Action1 {
     }
 
     public void call(Object obj) {
-        PriceChartPresenter.lambda$null$6(this.arg$1, this.arg$2, (Pair) obj);
+        PriceChartPresenter.lambda$startPeriodicSpotPricePoll$6(this.arg$1, this.arg$2, (Pair) obj);
     }
 }
@@ -5,44 +5,34 @@ import android.content.Context;
 import android.util.Pair;
 import com.coinbase.android.BackgroundScheduler;
 import com.coinbase.android.ControllerScope;
-import com.coinbase.android.Log;
 import com.coinbase.android.R;
-import com.coinbase.android.dashboard.SpotPriceUpdatedConnector;
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.pricechart.PriceChartData.SpotPrice;
 import com.coinbase.android.ui.MainScheduler;
 import com.coinbase.android.utils.MoneyFormatterUtil;
 import com.coinbase.android.utils.MoneyFormatterUtil.Options;
 import com.coinbase.api.LoginManager;
-import com.coinbase.api.internal.ApiConstants;
-import com.coinbase.api.internal.models.priceCharts.PriceChart;
 import com.coinbase.v2.models.price.Data;
 import com.coinbase.v2.models.price.Price;
 import com.github.mikephil.charting.formatter.XAxisValueFormatter;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 import java.math.RoundingMode;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
+import java.util.Date;
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import org.joda.money.BigMoney;
 import org.joda.money.BigMoneyProvider;
 import org.joda.money.CurrencyUnit;
 import org.joda.money.Money;
-import org.joda.time.DateTime;
 import retrofit2.Response;
 import rx.Observable;
 import rx.Scheduler;
-import rx.Subscription;
 import rx.subscriptions.CompositeSubscription;
 
 @ControllerScope
 public class PriceChartPresenter {
-    private static final long SPOT_PRICE_UPDATE_PERIOD = 30000;
-    private static final String TAG = PriceChartPresenter.class.getSimpleName();
     private final Scheduler mBackgroundScheduler;
     private String mBaseCurrencyCode;
     private final Context mContext;
@@ -51,6 +41,7 @@ public class PriceChartPresenter {
     private final Scheduler mMainScheduler;
     private final MoneyFormatterUtil mMoneyFormatterUtil;
     private Period mPeriod;
+    private final PriceChartCache mPriceChartCache;
     private final CompositeSubscription mPeriodSubscription = new CompositeSubscription();
     private final PriceChartDataUpdatedConnector mPriceChartDataUpdatedConnector;
     private final PriceChartPeriodUpdatedConnector mPriceChartPeriodUpdatedConnector;
@@ -58,42 +49,42 @@ public class PriceChartPresenter {
     private final CompositeSubscription mPriceChartSubscription = new CompositeSubscription();
     private boolean mShouldPollSpotPrice = false;
     private final CompositeSubscription mSpotPriceTimerSubscription = new CompositeSubscription();
-    private final SpotPriceUpdatedConnector mSpotPriceUpdatedConnector;
+    private final SpotPriceService mSpotPriceService;
     private final CompositeSubscription mSubscription = new CompositeSubscription();
 
     private class DateValueFormatter implements XAxisValueFormatter {
-        private DateTime[] mDates;
-        private Period mPeriod;
+        private final SimpleDateFormat mDateFormat;
+        private final Date mDate = new Date();
+        private final long[] mTimes;
 
-        DateValueFormatter(Period period, DateTime[] dates) {
-            this.mPeriod = period;
-            this.mDates = dates;
-        }
-
-        public String getXValue(String original, int index, ViewPortHandler viewPortHandler) {
-            SimpleDateFormat dateFormat = null;
+        DateValueFormatter(Period period, long[] times) {
+            this.mTimes = times;
             Locale current = PriceChartPresenter.this.mContext.getResources().getConfiguration().locale;
-            switch (this.mPeriod) {
+            switch (period) {
                 case DAY:
-                    dateFormat = new SimpleDateFormat("HH:mm", current);
-                    break;
+                    this.mDateFormat = new SimpleDateFormat("HH:mm", current);
+                    return;
                 case HOUR:
-                    dateFormat = new SimpleDateFormat("HH:mm", current);
-                    break;
+                    this.mDateFormat = new SimpleDateFormat("HH:mm", current);
+                    return;
                 case WEEK:
-                    dateFormat = new SimpleDateFormat("EEE", current);
-                    break;
+                    this.mDateFormat = new SimpleDateFormat("EEE", current);
+                    return;
                 case MONTH:
-                    dateFormat = new SimpleDateFormat("M/d", current);
-                    break;
+                    this.mDateFormat = new SimpleDateFormat("M/d", current);
+                    return;
                 case YEAR:
-                    dateFormat = new SimpleDateFormat("MMM", current);
-                    break;
-                case ALL:
-                    dateFormat = new SimpleDateFormat("M/yy", current);
-                    break;
+                    this.mDateFormat = new SimpleDateFormat("MMM", current);
+                    return;
+                default:
+                    this.mDateFormat = new SimpleDateFormat("M/yy", current);
+                    return;
             }
-            return dateFormat.format(this.mDates[(this.mDates.length - 1) - index].toDate()).replace("AM", "am").replace("PM", "pm");
+        }
+
+        public String getXValue(String original, int index, ViewPortHandler viewPortHandler) {
+            this.mDate.setTime(this.mTimes[index]);
+            return this.mDateFormat.format(this.mDate).replace("AM", "am").replace("PM", "pm");
         }
     }
 
@@ -117,16 +108,17 @@ public class PriceChartPresenter {
     }
 
     @Inject
-    public PriceChartPresenter(LoginManager loginManager, Application application, PriceChartScreen screen, PriceChartDataUpdatedConnector priceChartDataUpdatedConnector, PriceChartPeriodUpdatedConnector priceChartPeriodUpdatedConnector, MoneyFormatterUtil moneyFormatterUtil, SpotPriceUpdatedConnector spotPriceUpdatedConnector, @MainScheduler Scheduler mainScheduler, @BackgroundScheduler Scheduler backgroundScheduler) {
+    public PriceChartPresenter(LoginManager loginManager, Application application, PriceChartScreen screen, PriceChartDataUpdatedConnector priceChartDataUpdatedConnector, PriceChartPeriodUpdatedConnector priceChartPeriodUpdatedConnector, MoneyFormatterUtil moneyFormatterUtil, SpotPriceService spotPriceService, @MainScheduler Scheduler mainScheduler, @BackgroundScheduler Scheduler backgroundScheduler, PriceChartCache priceChartCache) {
         this.mLoginManager = loginManager;
         this.mContext = application;
         this.mPriceChartScreen = screen;
         this.mPriceChartDataUpdatedConnector = priceChartDataUpdatedConnector;
         this.mPriceChartPeriodUpdatedConnector = priceChartPeriodUpdatedConnector;
         this.mMoneyFormatterUtil = moneyFormatterUtil;
-        this.mSpotPriceUpdatedConnector = spotPriceUpdatedConnector;
+        this.mSpotPriceService = spotPriceService;
         this.mMainScheduler = mainScheduler;
         this.mBackgroundScheduler = backgroundScheduler;
+        this.mPriceChartCache = priceChartCache;
     }
 
     void setCurrencyCode(String baseCurrencyCode, Period period) {
@@ -155,8 +147,8 @@ public class PriceChartPresenter {
         return Money.of(this.mCurrency, (double) amount, RoundingMode.HALF_EVEN);
     }
 
-    DateValueFormatter getDateFormatter(DateTime[] dates) {
-        return new DateValueFormatter(this.mPeriod, dates);
+    DateValueFormatter getDateFormatter(long[] times) {
+        return new DateValueFormatter(this.mPeriod, times);
     }
 
     String getFormattedPriceMarkerText(float amount) {
@@ -184,12 +176,9 @@ public class PriceChartPresenter {
         this_.mPriceChartScreen.hidePriceChartProgress();
         this_.mPriceChartScreen.loadChartData(priceChartData);
         if (this_.mShouldPollSpotPrice) {
-            List<Float> prices = priceChartData.getPriceList();
-            if (prices != null && !prices.isEmpty()) {
-                Float first = (Float) prices.get(0);
-                if (first != null) {
-                    this_.startPeriodicSpotPricePoll(first + "");
-                }
+            float[] prices = priceChartData.getPrices();
+            if (prices != null && prices.length > 0) {
+                this_.startPeriodicSpotPricePoll(prices[0] + "");
             }
         }
     }
@@ -199,28 +188,23 @@ public class PriceChartPresenter {
             handleGetPricesFailure();
             return;
         }
-        HashMap<String, Object> params = new HashMap();
-        params.put(ApiConstants.PERIOD, this.mPeriod.getValue());
-        this.mSubscription.add(Observable.combineLatest(this.mLoginManager.getClient().getPriceChartRx(params, this.mBaseCurrencyCode, this.mCurrency.getCurrencyCode()), this.mSpotPriceUpdatedConnector.fetch(this.mBaseCurrencyCode, this.mCurrency.getCurrencyCode()), PriceChartPresenter$$Lambda$3.lambdaFactory$()).map(PriceChartPresenter$$Lambda$4.lambdaFactory$(this)).subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).first().subscribe(PriceChartPresenter$$Lambda$5.lambdaFactory$(this), PriceChartPresenter$$Lambda$6.lambdaFactory$(this)));
+        int maxPoints = this.mPriceChartScreen.getChartWidth();
+        this.mSubscription.add(Observable.combineLatest(this.mPriceChartCache.get(this.mBaseCurrencyCode, this.mCurrency.getCurrencyCode(), this.mPeriod), this.mSpotPriceService.getSpotPrice(this.mBaseCurrencyCode, this.mCurrency.getCurrencyCode()), PriceChartPresenter$$Lambda$3.lambdaFactory$()).map(PriceChartPresenter$$Lambda$4.lambdaFactory$(this, maxPoints)).subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).first().subscribe(PriceChartPresenter$$Lambda$5.lambdaFactory$(this), PriceChartPresenter$$Lambda$6.lambdaFactory$(this)));
     }
 
-    static /* synthetic */ Response lambda$fetchPriceChartData$3(PriceChartPresenter this_, Pair response) {
-        Response<PriceChart> priceChartResponse = response.first.first;
-        if (!priceChartResponse.isSuccessful()) {
-            return priceChartResponse;
-        }
+    static /* synthetic */ Response lambda$fetchPriceChartData$3(PriceChartPresenter this_, int maxPoints, Pair response) {
         Response<Price> spotPriceResponse = response.second.first;
         if (!spotPriceResponse.isSuccessful()) {
             return spotPriceResponse;
         }
-        List<com.coinbase.api.internal.models.priceCharts.Price> prices = ((PriceChart) priceChartResponse.body()).getData().getPrices();
-        PriceChartData priceChartData = this_.buildPriceChartData(prices);
+        PriceChartData priceChartData = this_.buildPriceChartData((PriceChartSeries) response.first, maxPoints);
         if (priceChartData == null) {
             return Response.success(null);
         }
         SpotPrice spotPrice = null;
-        if (!(prices == null || prices.isEmpty())) {
-            spotPrice = this_.getSpotPrice(((Price) spotPriceResponse.body()).getData(), ((com.coinbase.api.internal.models.priceCharts.Price) prices.get(prices.size() - 1)).getPrice());
+        float[] prices = priceChartData.getPrices();
+        if (prices.length > 0) {
+            spotPrice = this_.getSpotPrice(((Price) spotPriceResponse.body()).getData(), String.valueOf(prices[0]));
         }
         if (spotPrice == null) {
             return Response.success(null);
@@ -248,57 +232,14 @@ public class PriceChartPresenter {
         this.mPriceChartScreen.setCurrency(this.mCurrency);
     }
 
-    List<com.coinbase.api.internal.models.priceCharts.Price> getSampledPriceList(List<com.coinbase.api.internal.models.priceCharts.Price> prices) {
-        if (prices == null) {
-            return null;
-        }
-        List<com.coinbase.api.internal.models.priceCharts.Price> updatedPriceList = new ArrayList();
-        switch (this.mPeriod) {
-            case DAY:
-                try {
-                    updatedPriceList.addAll(prices.subList(1, prices.size()));
-                    return updatedPriceList;
-                } catch (NullPointerException e) {
-                    Log.e(TAG, "Stopped race condition on activity", e);
-                    return updatedPriceList;
-                }
-            case HOUR:
-                updatedPriceList.addAll(sample(prices, 60));
-                return updatedPriceList;
-            default:
-                updatedPriceList.addAll(prices);
-                return updatedPriceList;
-        }
-    }
-
-    PriceChartData buildPriceChartData(List<com.coinbase.api.internal.models.priceCharts.Price> priceList) {
-        if (priceList == null) {
+    /**
+     * Chart data for the current period, downsampled to one point per pixel of the chart.
+     */
+    PriceChartData buildPriceChartData(PriceChartSeries series, int maxPoints) {
+        if (series == null) {
             return null;
         }
-        List<com.coinbase.api.internal.models.priceCharts.Price> updatedPriceList = getSampledPriceList(priceList);
-        if (updatedPriceList != null) {
-            return PriceChartData.newInstance(updatedPriceList);
-        }
-        return null;
-    }
-
-    List<com.coinbase.api.internal.models.priceCharts.Price> sample(List<com.coinbase.api.internal.models.priceCharts.Price> data, int resultSize) {
-        int dataSize = data.size();
-        int stride = dataSize / resultSize;
-        if (stride < 1) {
-            stride = 1;
-        }
-        List<com.coinbase.api.internal.models.priceCharts.Price> result = new ArrayList();
-        for (int i = 0; i < dataSize; i += stride) {
-            result.add(data.get(i));
-        }
-        if (!result.isEmpty()) {
-            com.coinbase.api.internal.models.priceCharts.Price first = (com.coinbase.api.internal.models.priceCharts.Price) data.get(data.size() - 1);
-            if (!((com.coinbase.api.internal.models.priceCharts.Price) result.get(result.size() - 1)).equals(first)) {
-                result.add(first);
-            }
-        }
-        return result;
+        return PriceChartData.newInstance(series, this.mPeriod == Period.DAY ? series.size() - 1 : series.size(), maxPoints);
     }
 
     SpotPrice getSpotPrice(Data spotPriceData, String firstPriceStr) {
@@ -370,30 +311,15 @@ public class PriceChartPresenter {
 
     private void startPeriodicSpotPricePoll(String firstPriceStr) {
         this.mSpotPriceTimerSubscription.clear();
-        this.mSpotPriceTimerSubscription.add(getPeriodicSpotPriceSubscription(firstPriceStr));
-    }
-
-    private Subscription getPeriodicSpotPriceSubscription(String firstPriceStr) {
-        return Observable.timer(SPOT_PRICE_UPDATE_PERIOD, TimeUnit.MILLISECONDS).subscribe(PriceChartPresenter$$Lambda$7.lambdaFactory$(this, firstPriceStr), PriceChartPresenter$$Lambda$8.lambdaFactory$());
+        this.mSpotPriceTimerSubscription.add(this.mSpotPriceService.startPolling(this.mCurrency.getCurrencyCode()));
+        this.mSpotPriceTimerSubscription.add(this.mSpotPriceService.get(this.mBaseCurrencyCode, this.mCurrency.getCurrencyCode()).observeOn(this.mMainScheduler).subscribe(PriceChartPresenter$$Lambda$9.lambdaFactory$(this, firstPriceStr), PriceChartPresenter$$Lambda$10.lambdaFactory$()));
     }
 
-    static /* synthetic */ void lambda$getPeriodicSpotPriceSubscription$8(PriceChartPresenter this_, String firstPriceStr, Long v) {
-        this_.mSpotPriceTimerSubscription.clear();
-        this_.mSpotPriceTimerSubscription.add(this_.mSpotPriceUpdatedConnector.fetch(this_.mBaseCurrencyCode, this_.mCurrency.getCurrencyCode()).observeOn(this_.mMainScheduler).subscribe(PriceChartPresenter$$Lambda$9.lambdaFactory$(this_, firstPriceStr), PriceChartPresenter$$Lambda$10.lambdaFactory$(this_, firstPriceStr)));
-    }
-
-    static /* synthetic */ void lambda$null$6(PriceChartPresenter this_, String firstPriceStr, Pair pair) {
-        this_.mSpotPriceTimerSubscription.clear();
-        this_.mSpotPriceTimerSubscription.add(this_.getPeriodicSpotPriceSubscription(firstPriceStr));
+    static /* synthetic */ void lambda$startPeriodicSpotPricePoll$6(PriceChartPresenter this_, String firstPriceStr, Pair pair) {
         this_.mPriceChartScreen.updateSpotPrice(this_.getSpotPrice(((Price) ((Response) pair.first).body()).getData(), firstPriceStr));
     }
 
-    static /* synthetic */ void lambda$null$7(PriceChartPresenter this_, String firstPriceStr, Throwable t) {
+    static /* synthetic */ void lambda$startPeriodicSpotPricePoll$7(Throwable t) {
         android.util.Log.i("Coinbase", "Error", t);
-        this_.mSpotPriceTimerSubscription.clear();
-        this_.mSpotPriceTimerSubscription.add(this_.getPeriodicSpotPriceSubscription(firstPriceStr));
-    }
-
-    static /* synthetic */ void lambda$getPeriodicSpotPriceSubscription$9(Throwable t) {
     }
 }
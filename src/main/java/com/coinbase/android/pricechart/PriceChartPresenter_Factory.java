@@ -1,7 +1,7 @@
 package com.coinbase.android.pricechart;
 
 import android.app.Application;
-import com.coinbase.android.dashboard.SpotPriceUpdatedConnector;
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.utils.MoneyFormatterUtil;
 import com.coinbase.api.LoginManager;
 import dagger.internal.Factory;
@@ -14,36 +14,38 @@ public final class PriceChartPresenter_Factory implements Factory<PriceChartPres
     private final Provider<LoginManager> loginManagerProvider;
     private final Provider<Scheduler> mainSchedulerProvider;
     private final Provider<MoneyFormatterUtil> moneyFormatterUtilProvider;
+    private final Provider<PriceChartCache> priceChartCacheProvider;
     private final Provider<PriceChartDataUpdatedConnector> priceChartDataUpdatedConnectorProvider;
     private final Provider<PriceChartPeriodUpdatedConnector> priceChartPeriodUpdatedConnectorProvider;
     private final Provider<PriceChartScreen> screenProvider;
-    private final Provider<SpotPriceUpdatedConnector> spotPriceUpdatedConnectorProvider;
+    private final Provider<SpotPriceService> spotPriceServiceProvider;
 
-    public PriceChartPresenter_Factory(Provider<LoginManager> loginManagerProvider, Provider<Application> applicationProvider, Provider<PriceChartScreen> screenProvider, Provider<PriceChartDataUpdatedConnector> priceChartDataUpdatedConnectorProvider, Provider<PriceChartPeriodUpdatedConnector> priceChartPeriodUpdatedConnectorProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<SpotPriceUpdatedConnector> spotPriceUpdatedConnectorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+    public PriceChartPresenter_Factory(Provider<LoginManager> loginManagerProvider, Provider<Application> applicationProvider, Provider<PriceChartScreen> screenProvider, Provider<PriceChartDataUpdatedConnector> priceChartDataUpdatedConnectorProvider, Provider<PriceChartPeriodUpdatedConnector> priceChartPeriodUpdatedConnectorProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<SpotPriceService> spotPriceServiceProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<PriceChartCache> priceChartCacheProvider) {
         this.loginManagerProvider = loginManagerProvider;
         this.applicationProvider = applicationProvider;
         this.screenProvider = screenProvider;
         this.priceChartDataUpdatedConnectorProvider = priceChartDataUpdatedConnectorProvider;
         this.priceChartPeriodUpdatedConnectorProvider = priceChartPeriodUpdatedConnectorProvider;
         this.moneyFormatterUtilProvider = moneyFormatterUtilProvider;
-        this.spotPriceUpdatedConnectorProvider = spotPriceUpdatedConnectorProvider;
+        this.spotPriceServiceProvider = spotPriceServiceProvider;
         this.mainSchedulerProvider = mainSchedulerProvider;
         this.backgroundSchedulerProvider = backgroundSchedulerProvider;
+        this.priceChartCacheProvider = priceChartCacheProvider;
     }
 
     public PriceChartPresenter get() {
-        return provideInstance(this.loginManagerProvider, this.applicationProvider, this.screenProvider, this.priceChartDataUpdatedConnectorProvider, this.priceChartPeriodUpdatedConnectorProvider, this.moneyFormatterUtilProvider, this.spotPriceUpdatedConnectorProvider, this.mainSchedulerProvider, this.backgroundSchedulerProvider);
+        return provideInstance(this.loginManagerProvider, this.applicationProvider, this.screenProvider, this.priceChartDataUpdatedConnectorProvider, this.priceChartPeriodUpdatedConnectorProvider, this.moneyFormatterUtilProvider, this.spotPriceServiceProvider, this.mainSchedulerProvider, this.backgroundSchedulerProvider, this.priceChartCacheProvider);
     }
 
-    public static PriceChartPresenter provideInstance(Provider<LoginManager> loginManagerProvider, Provider<Application> applicationProvider, Provider<PriceChartScreen> screenProvider, Provider<PriceChartDataUpdatedConnector> priceChartDataUpdatedConnectorProvider, Provider<PriceChartPeriodUpdatedConnector> priceChartPeriodUpdatedConnectorProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<SpotPriceUpdatedConnector> spotPriceUpdatedConnectorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
-        return new PriceChartPresenter((LoginManager) loginManagerProvider.get(), (Application) applicationProvider.get(), (PriceChartScreen) screenProvider.get(), (PriceChartDataUpdatedConnector) priceChartDataUpdatedConnectorProvider.get(), (PriceChartPeriodUpdatedConnector) priceChartPeriodUpdatedConnectorProvider.get(), (MoneyFormatterUtil) moneyFormatterUtilProvider.get(), (SpotPriceUpdatedConnector) spotPriceUpdatedConnectorProvider.get(), (Scheduler) mainSchedulerProvider.get(), (Scheduler) backgroundSchedulerProvider.get());
+    public static PriceChartPresenter provideInstance(Provider<LoginManager> loginManagerProvider, Provider<Application> applicationProvider, Provider<PriceChartScreen> screenProvider, Provider<PriceChartDataUpdatedConnector> priceChartDataUpdatedConnectorProvider, Provider<PriceChartPeriodUpdatedConnector> priceChartPeriodUpdatedConnectorProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<SpotPriceService> spotPriceServiceProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<PriceChartCache> priceChartCacheProvider) {
+        return new PriceChartPresenter((LoginManager) loginManagerProvider.get(), (Application) applicationProvider.get(), (PriceChartScreen) screenProvider.get(), (PriceChartDataUpdatedConnector) priceChartDataUpdatedConnectorProvider.get(), (PriceChartPeriodUpdatedConnector) priceChartPeriodUpdatedConnectorProvider.get(), (MoneyFormatterUtil) moneyFormatterUtilProvider.get(), (SpotPriceService) spotPriceServiceProvider.get(), (Scheduler) mainSchedulerProvider.get(), (Scheduler) backgroundSchedulerProvider.get(), (PriceChartCache) priceChartCacheProvider.get());
     }
 
-    public static PriceChartPresenter_Factory create(Provider<LoginManager> loginManagerProvider, Provider<Application> applicationProvider, Provider<PriceChartScreen> screenProvider, Provider<PriceChartDataUpdatedConnector> priceChartDataUpdatedConnectorProvider, Provider<PriceChartPeriodUpdatedConnector> priceChartPeriodUpdatedConnectorProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<SpotPriceUpdatedConnector> spotPriceUpdatedConnectorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
-        return new PriceChartPresenter_Factory(loginManagerProvider, applicationProvider, screenProvider, priceChartDataUpdatedConnectorProvider, priceChartPeriodUpdatedConnectorProvider, moneyFormatterUtilProvider, spotPriceUpdatedConnectorProvider, mainSchedulerProvider, backgroundSchedulerProvider);
+    public static PriceChartPresenter_Factory create(Provider<LoginManager> loginManagerProvider, Provider<Application> applicationProvider, Provider<PriceChartScreen> screenProvider, Provider<PriceChartDataUpdatedConnector> priceChartDataUpdatedConnectorProvider, Provider<PriceChartPeriodUpdatedConnector> priceChartPeriodUpdatedConnectorProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<SpotPriceService> spotPriceServiceProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<PriceChartCache> priceChartCacheProvider) {
+        return new PriceChartPresenter_Factory(loginManagerProvider, applicationProvider, screenProvider, priceChartDataUpdatedConnectorProvider, priceChartPeriodUpdatedConnectorProvider, moneyFormatterUtilProvider, spotPriceServiceProvider, mainSchedulerProvider, backgroundSchedulerProvider, priceChartCacheProvider);
     }
 
-    public static PriceChartPresenter newPriceChartPresenter(LoginManager loginManager, Application application, PriceChartScreen screen, PriceChartDataUpdatedConnector priceChartDataUpdatedConnector, PriceChartPeriodUpdatedConnector priceChartPeriodUpdatedConnector, MoneyFormatterUtil moneyFormatterUtil, SpotPriceUpdatedConnector spotPriceUpdatedConnector, Scheduler mainScheduler, Scheduler backgroundScheduler) {
-        return new PriceChartPresenter(loginManager, application, screen, priceChartDataUpdatedConnector, priceChartPeriodUpdatedConnector, moneyFormatterUtil, spotPriceUpdatedConnector, mainScheduler, backgroundScheduler);
+    public static PriceChartPresenter newPriceChartPresenter(LoginManager loginManager, Application application, PriceChartScreen screen, PriceChartDataUpdatedConnector priceChartDataUpdatedConnector, PriceChartPeriodUpdatedConnector priceChartPeriodUpdatedConnector, MoneyFormatterUtil moneyFormatterUtil, SpotPriceService spotPriceService, Scheduler mainScheduler, Scheduler backgroundScheduler, PriceChartCache priceChartCache) {
+        return new PriceChartPresenter(loginManager, application, screen, priceChartDataUpdatedConnector, priceChartPeriodUpdatedConnector, moneyFormatterUtil, spotPriceService, mainScheduler, backgroundScheduler, priceChartCache);
     }
 }
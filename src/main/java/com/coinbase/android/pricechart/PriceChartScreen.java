@@ -4,6 +4,8 @@ import com.coinbase.android.pricechart.PriceChartData.SpotPrice;
 import org.joda.money.CurrencyUnit;
 
 public interface PriceChartScreen {
+    int getChartWidth();
+
     void handleFailureError();
 
     void hidePriceChartProgress();
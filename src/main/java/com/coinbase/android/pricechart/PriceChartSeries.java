@@ -0,0 +1,151 @@
+package com.coinbase.android.pricechart;
+
+import com.coinbase.api.internal.models.priceCharts.Price;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+
+/**
+ * The points of one price chart, one per time bucket, kept in a fixed size ring buffer so the tail
+ * can be extended a bucket at a time by dropping the oldest point. The bucket width is the spacing
+ * of the series the server returned.
+ */
+final class PriceChartSeries {
+    private static final DateTimeFormatter TIME_PARSER = ISODateTimeFormat.dateTimeParser().withZoneUTC();
+    private static final int VERSION = 1;
+    private final long mBucketMillis;
+    private int mHead;
+    private final float[] mPrices;
+    private int mSize;
+    private final long[] mTimes;
+
+    private PriceChartSeries(float[] prices, long[] times, int size, long bucketMillis) {
+        this.mPrices = prices;
+        this.mTimes = times;
+        this.mSize = size;
+        this.mBucketMillis = bucketMillis;
+    }
+
+    PriceChartSeries(PriceChartSeries series) {
+        this.mPrices = new float[series.mSize];
+        this.mTimes = new long[series.mSize];
+        this.mSize = series.mSize;
+        this.mBucketMillis = series.mBucketMillis;
+        series.copyTo(this.mPrices, this.mTimes);
+    }
+
+    /**
+     * Parses the prices as returned by the API (newest first) into a chronological series. Unparseable
+     * prices are skipped.
+     */
+    static PriceChartSeries parse(List<Price> priceList) {
+        int size = priceList.size();
+        float[] prices = new float[size];
+        long[] times = new long[size];
+        int count = 0;
+        for (int i = size - 1; i >= 0; i--) {
+            Price price = (Price) priceList.get(i);
+            if (!(price == null || price.getPrice() == null || price.getTime() == null)) {
+                try {
+                    prices[count] = Float.parseFloat(price.getPrice());
+                    times[count] = TIME_PARSER.parseMillis(price.getTime());
+                    count++;
+                } catch (IllegalArgumentException e) {
+                }
+            }
+        }
+        long bucketMillis = count < 2 ? 0 : (times[count - 1] - times[0]) / ((long) (count - 1));
+        return new PriceChartSeries(prices, times, count, bucketMillis);
+    }
+
+    int size() {
+        return this.mSize;
+    }
+
+    float getPrice(int index) {
+        return this.mPrices[(this.mHead + index) % this.mPrices.length];
+    }
+
+    long getTime(int index) {
+        return this.mTimes[(this.mHead + index) % this.mTimes.length];
+    }
+
+    /**
+     * Whether the series still reaches the bucket before the one now falls in, i.e. a spot price
+     * taken now can extend it without leaving a gap.
+     */
+    boolean isContiguous(long now) {
+        return this.mBucketMillis > 0 && this.mSize > 0 && now < getTime(this.mSize - 1) + (this.mBucketMillis * 2);
+    }
+
+    /**
+     * Appends the price as the next bucket when now has reached it, dropping the oldest point.
+     * Returns whether the series changed.
+     */
+    boolean extend(long now, float price) {
+        if (!isContiguous(now)) {
+            return false;
+        }
+        long next = getTime(this.mSize - 1) + this.mBucketMillis;
+        if (now < next) {
+            return false;
+        }
+        int tail = (this.mHead + this.mSize) % this.mPrices.length;
+        if (this.mSize == this.mPrices.length) {
+            this.mHead = (this.mHead + 1) % this.mPrices.length;
+        } else {
+            this.mSize++;
+        }
+        this.mPrices[tail] = price;
+        this.mTimes[tail] = next;
+        return true;
+    }
+
+    /**
+     * Copies the points into chronological columns of at least {@link #size()} elements.
+     */
+    void copyTo(float[] prices, long[] times) {
+        for (int i = 0; i < this.mSize; i++) {
+            prices[i] = getPrice(i);
+            times[i] = getTime(i);
+        }
+    }
+
+    /**
+     * Writes the series as times in seconds relative to the oldest point and float prices, eight
+     * bytes a point.
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        long first = this.mSize == 0 ? 0 : getTime(0);
+        out.writeInt(VERSION);
+        out.writeLong(this.mBucketMillis);
+        out.writeLong(first);
+        out.writeInt(this.mSize);
+        for (int i = 0; i < this.mSize; i++) {
+            out.writeInt((int) ((getTime(i) - first) / 1000));
+            out.writeFloat(getPrice(i));
+        }
+    }
+
+    static PriceChartSeries readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != VERSION) {
+            throw new IOException("Unknown price chart version");
+        }
+        long bucketMillis = in.readLong();
+        long first = in.readLong();
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid price chart size " + size);
+        }
+        float[] prices = new float[size];
+        long[] times = new long[size];
+        for (int i = 0; i < size; i++) {
+            times[i] = first + (((long) in.readInt()) * 1000);
+            prices[i] = in.readFloat();
+        }
+        return new PriceChartSeries(prices, times, size, bucketMillis);
+    }
+}
@@ -0,0 +1,39 @@
+package com.coinbase.android.settings;
+
+import com.coinbase.v2.models.account.Data;
+import java.util.Collections;
+import java.util.List;
+
+public final class AccountsDiff {
+    private final List<Data> mAdded;
+    private final List<Data> mChanged;
+    private final Data mPrimaryAccount;
+    private final List<Data> mRemoved;
+
+    public AccountsDiff(List<Data> added, List<Data> removed, List<Data> changed, Data primaryAccount) {
+        this.mAdded = Collections.unmodifiableList(added);
+        this.mRemoved = Collections.unmodifiableList(removed);
+        this.mChanged = Collections.unmodifiableList(changed);
+        this.mPrimaryAccount = primaryAccount;
+    }
+
+    public List<Data> getAdded() {
+        return this.mAdded;
+    }
+
+    public List<Data> getRemoved() {
+        return this.mRemoved;
+    }
+
+    public List<Data> getChanged() {
+        return this.mChanged;
+    }
+
+    public Data getPrimaryAccount() {
+        return this.mPrimaryAccount;
+    }
+
+    public boolean isEmpty() {
+        return this.mAdded.isEmpty() && this.mRemoved.isEmpty() && this.mChanged.isEmpty();
+    }
+}
@@ -1,20 +1,19 @@
 package com.coinbase.android.settings;
 
-import com.coinbase.v2.models.account.Data;
 import rx.subjects.PublishSubject;
 
 public class AccountsUpdatedConnector {
-    private final PublishSubject<Data> mSubject;
+    private final PublishSubject<AccountsDiff> mSubject;
 
     public AccountsUpdatedConnector() {
         this(PublishSubject.create());
     }
 
-    public AccountsUpdatedConnector(PublishSubject<Data> subject) {
+    public AccountsUpdatedConnector(PublishSubject<AccountsDiff> subject) {
         this.mSubject = subject;
     }
 
-    public PublishSubject<Data> get() {
+    public PublishSubject<AccountsDiff> get() {
         return this.mSubject;
     }
 }
@@ -4,10 +4,9 @@ import android.os.Bundle;
 import android.text.TextUtils;
 import com.coinbase.android.ControllerScope;
 import com.coinbase.android.ui.ActionBarController;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.idology.Data;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import javax.inject.Inject;
 
 @ControllerScope
@@ -26,7 +25,7 @@ public class IdologyArgsBuilder {
         if (this.mController == null) {
             return args;
         }
-        Gson gson = new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create();
+        Gson gson = Serializers.getGson();
         if (idology != null) {
             args.putString(IDOLOGY_DATA, gson.toJson((Object) idology));
         }
@@ -37,7 +36,7 @@ public class IdologyArgsBuilder {
         if (this.mController == null) {
             return null;
         }
-        Gson gson = new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create();
+        Gson gson = Serializers.getGson();
         String previousIdologyStr = this.mController.getArgs().getString(BUILDING_IDOLOGY_DATA);
         if (!TextUtils.isEmpty(previousIdologyStr)) {
             buildingIdology = update((Data) gson.fromJson(previousIdologyStr, Data.class), buildingIdology);
@@ -51,7 +50,7 @@ public class IdologyArgsBuilder {
             return args;
         }
         Object buildingIdology2 = getBuildingIdologyData(buildingIdology);
-        Gson gson = new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create();
+        Gson gson = Serializers.getGson();
         if (buildingIdology2 != null) {
             args.putString(BUILDING_IDOLOGY_DATA, gson.toJson(buildingIdology2));
         }
@@ -7,9 +7,8 @@ import com.coinbase.android.idology.IdologyFormValidConnector;
 import com.coinbase.android.idology.IdologyRetryConnector;
 import com.coinbase.android.idology.IdologyVerificationConnector;
 import com.coinbase.android.ui.MainScheduler;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.idology.Data;
-import com.google.gson.GsonBuilder;
 import javax.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,7 +46,7 @@ public class IdologySettingsPresenter {
         if (this.mArgs != null) {
             String idologyJson = args.getString(IdologyArgsBuilder.IDOLOGY_DATA);
             if (idologyJson != null) {
-                Data idologyData = (Data) new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().fromJson(idologyJson, Data.class);
+                Data idologyData = (Data) Serializers.getGson().fromJson(idologyJson, Data.class);
                 if (idologyData != null) {
                     this.mScreen.setIdologyData(idologyData);
                 }
@@ -102,7 +101,7 @@ public class IdologySettingsPresenter {
 
     private void saveArgs(Data idology) {
         if (this.mArgs != null && idology != null) {
-            String idologyStr = new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().toJson((Object) idology);
+            String idologyStr = Serializers.getGson().toJson((Object) idology);
             if (idologyStr != null) {
                 this.mArgs.putString(IdologyArgsBuilder.IDOLOGY_DATA, idologyStr);
             }
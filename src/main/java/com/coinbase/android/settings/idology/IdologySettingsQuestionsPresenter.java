@@ -7,9 +7,8 @@ import com.coinbase.android.idology.IdologyFailureRouter;
 import com.coinbase.android.idology.IdologyRetryConnector;
 import com.coinbase.android.idology.IdologyVerificationConnector;
 import com.coinbase.android.ui.MainScheduler;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.idology.Data;
-import com.google.gson.GsonBuilder;
 import javax.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,7 +81,7 @@ public class IdologySettingsQuestionsPresenter {
         if (args == null) {
             return null;
         }
-        return (Data) new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().fromJson(args.getString(IdologyArgsBuilder.IDOLOGY_DATA), Data.class);
+        return (Data) Serializers.getGson().fromJson(args.getString(IdologyArgsBuilder.IDOLOGY_DATA), Data.class);
     }
 
     private void setContinueMenuEnabled(Boolean isValid) {
@@ -10,13 +10,12 @@ import com.coinbase.android.ControllerScope;
 import com.coinbase.android.ui.MainScheduler;
 import com.coinbase.android.ui.SnackBarWrapper;
 import com.coinbase.api.LoginManager;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.tiers.Data;
 import com.coinbase.api.internal.models.tiers.Level;
 import com.coinbase.api.internal.models.tiers.Requirement;
 import com.coinbase.api.internal.models.tiers.Requirement.Status;
 import com.coinbase.api.internal.models.tiers.Tiers;
-import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import com.hannesdorfmann.adapterdelegates3.AdapterDelegatesManager;
 import java.util.Collection;
@@ -135,7 +134,7 @@ public class InvestmentTiersRequirementsPresenter {
     void loadRequirementsFromArgs(Bundle args) {
         String requirementsStr = args.getString(REQUIREMENTS);
         if (!TextUtils.isEmpty(requirementsStr)) {
-            Collection<Requirement> requirements = (Collection) new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().fromJson(requirementsStr, new TypeToken<Collection<Requirement>>() {
+            Collection<Requirement> requirements = (Collection) Serializers.getGson().fromJson(requirementsStr, new TypeToken<Collection<Requirement>>() {
             }.getType());
             if (requirements != null && !requirements.isEmpty()) {
                 this.mRequirements.addAll(requirements);
@@ -144,7 +143,7 @@ public class InvestmentTiersRequirementsPresenter {
     }
 
     void saveRequirementsInArgs(Bundle args) {
-        args.putString(REQUIREMENTS, new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().toJson(this.mRequirements));
+        args.putString(REQUIREMENTS, Serializers.getGson().toJson(this.mRequirements));
     }
 
     void onHide() {
@@ -3,10 +3,9 @@ package com.coinbase.android.settings.tiers;
 import android.os.Bundle;
 import com.coinbase.android.ControllerScope;
 import com.coinbase.android.ui.ActionBarController;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.tiers.Requirement;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import java.util.List;
 import javax.inject.Inject;
 
@@ -21,7 +20,7 @@ public class InvestmentTiersSettingsRouter {
 
     void routeRequirements(List<Requirement> requirements, int nextTier) {
         Bundle args = new Bundle();
-        Gson gson = new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create();
+        Gson gson = Serializers.getGson();
         args.putInt(InvestmentTiersRequirementsPresenter.NEXT_TIER, nextTier);
         args.putString("requirements", gson.toJson((Object) requirements));
         this.mController.pushModalController(new InvestmentTiersRequirementsController(this.mController.appendModalArgs(args)));
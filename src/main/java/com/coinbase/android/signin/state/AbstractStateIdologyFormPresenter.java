@@ -7,9 +7,8 @@ import com.coinbase.android.idology.IdologyVerificationConnector;
 import com.coinbase.android.idology.ProgressConnector;
 import com.coinbase.android.settings.idology.IdologyArgsBuilder;
 import com.coinbase.android.ui.MainScheduler;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.idology.Data;
-import com.google.gson.GsonBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Scheduler;
@@ -92,7 +91,7 @@ public abstract class AbstractStateIdologyFormPresenter {
         if (idologyJson == null) {
             return null;
         }
-        return (Data) new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().fromJson(idologyJson, Data.class);
+        return (Data) Serializers.getGson().fromJson(idologyJson, Data.class);
     }
 
     private Data getFetchedIdologyData() {
@@ -100,6 +99,6 @@ public abstract class AbstractStateIdologyFormPresenter {
         if (idologyJson == null) {
             return null;
         }
-        return (Data) new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().fromJson(idologyJson, Data.class);
+        return (Data) Serializers.getGson().fromJson(idologyJson, Data.class);
     }
 }
@@ -13,9 +13,8 @@ import com.coinbase.android.signin.AuthRouter;
 import com.coinbase.android.signin.SignInRouter;
 import com.coinbase.android.ui.MainScheduler;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.idology.Data;
-import com.google.gson.GsonBuilder;
 import javax.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,7 +58,7 @@ public class StateIdologyRetryFormPresenter {
         if (this.mArgs != null) {
             String idologyJson = args.getString(IdologyArgsBuilder.IDOLOGY_DATA);
             if (idologyJson != null) {
-                Data idologyData = (Data) new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().fromJson(idologyJson, Data.class);
+                Data idologyData = (Data) Serializers.getGson().fromJson(idologyJson, Data.class);
                 if (idologyData != null) {
                     this.mScreen.setIdologyData(idologyData);
                 }
@@ -134,7 +133,7 @@ public class StateIdologyRetryFormPresenter {
 
     private void saveArgs(Data idology) {
         if (this.mArgs != null && idology != null) {
-            String idologyStr = new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().toJson((Object) idology);
+            String idologyStr = Serializers.getGson().toJson((Object) idology);
             if (idologyStr != null) {
                 this.mArgs.putString(IdologyArgsBuilder.IDOLOGY_DATA, idologyStr);
             }
@@ -12,9 +12,8 @@ import com.coinbase.android.settings.idology.IdologyRouter;
 import com.coinbase.android.signin.AuthRouter;
 import com.coinbase.android.ui.MainScheduler;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.idology.Data;
-import com.google.gson.GsonBuilder;
 import javax.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -94,7 +93,7 @@ public class StateIdologySourceOfFundsFormPresenter extends AbstractStateIdology
 
     private void saveArgs(Data idology) {
         if (this.mArgs != null && idology != null) {
-            String idologyStr = new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().toJson((Object) idology);
+            String idologyStr = Serializers.getGson().toJson((Object) idology);
             if (idologyStr != null) {
                 this.mArgs.putString(IdologyArgsBuilder.IDOLOGY_DATA, idologyStr);
             }
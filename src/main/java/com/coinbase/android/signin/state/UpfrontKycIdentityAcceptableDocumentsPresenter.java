@@ -12,13 +12,12 @@ import com.coinbase.android.ui.MainScheduler;
 import com.coinbase.android.ui.SnackBarWrapper;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.api.LoginManager;
-import com.coinbase.api.internal.ModelGsonAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.jumio.JumioProfiles;
 import com.coinbase.api.internal.models.jumio.JumioProfiles.Type;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.Data;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.SupportedDocument;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.SupportedIdType;
-import com.google.gson.GsonBuilder;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
@@ -98,7 +97,7 @@ public class UpfrontKycIdentityAcceptableDocumentsPresenter {
     void onItemClick(int position) {
         if (PermissionUtils.hasSelfPermissions(this.mAppCompatActivity, PERMISSION_SETUPCONTINUERETAKEBUTTON)) {
             this.mIdentityVerificationBitmapConnector.get().onNext(null);
-            this.mRouter.routeToNext(new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create().toJson(this.mIdentityDoc), position);
+            this.mRouter.routeToNext(Serializers.getGson().toJson(this.mIdentityDoc), position);
             SupportedIdType idType = (SupportedIdType) this.mIdentityDoc.getSupportedIdTypes().get(position);
             if (idType != null && idType.getType() != null) {
                 MixpanelTracking.getInstance().trackEvent(MixpanelTracking.EVENT_JUMIO_DOC_TYPE_SELECT, "id_type", idType.getType().toString());
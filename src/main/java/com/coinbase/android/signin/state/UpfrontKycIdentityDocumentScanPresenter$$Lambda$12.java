@@ -0,0 +1,20 @@
+package com.coinbase.android.signin.state;
+
+import com.coinbase.android.identityverification.JumioImageSpool;
+import rx.functions.Action0;
+
+final /* synthetic */ class UpfrontKycIdentityDocumentScanPresenter$$Lambda$12 implements Action0 {
+    private final JumioImageSpool arg$1;
+
+    private UpfrontKycIdentityDocumentScanPresenter$$Lambda$12(JumioImageSpool jumioImageSpool) {
+        this.arg$1 = jumioImageSpool;
+    }
+
+    public static Action0 lambdaFactory$(JumioImageSpool jumioImageSpool) {
+        return new UpfrontKycIdentityDocumentScanPresenter$$Lambda$12(jumioImageSpool);
+    }
+
+    public void call() {
+        this.arg$1.release();
+    }
+}
@@ -1,24 +1,25 @@
 package com.coinbase.android.signin.state;
 
 import android.graphics.Bitmap;
+import com.coinbase.android.identityverification.JumioImageSpool;
 import rx.Observable.OnSubscribe;
 import rx.Subscriber;
 
 final /* synthetic */ class UpfrontKycIdentityDocumentScanPresenter$$Lambda$4 implements OnSubscribe {
-    private final UpfrontKycIdentityDocumentScanPresenter arg$1;
+    private final JumioImageSpool arg$1;
     private final Bitmap arg$2;
     private final Bitmap arg$3;
     private final Bitmap arg$4;
 
-    private UpfrontKycIdentityDocumentScanPresenter$$Lambda$4(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter, Bitmap bitmap, Bitmap bitmap2, Bitmap bitmap3) {
-        this.arg$1 = upfrontKycIdentityDocumentScanPresenter;
+    private UpfrontKycIdentityDocumentScanPresenter$$Lambda$4(JumioImageSpool jumioImageSpool, Bitmap bitmap, Bitmap bitmap2, Bitmap bitmap3) {
+        this.arg$1 = jumioImageSpool;
         this.arg$2 = bitmap;
         this.arg$3 = bitmap2;
         this.arg$4 = bitmap3;
     }
 
-    public static OnSubscribe lambdaFactory$(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter, Bitmap bitmap, Bitmap bitmap2, Bitmap bitmap3) {
-        return new UpfrontKycIdentityDocumentScanPresenter$$Lambda$4(upfrontKycIdentityDocumentScanPresenter, bitmap, bitmap2, bitmap3);
+    public static OnSubscribe lambdaFactory$(JumioImageSpool jumioImageSpool, Bitmap bitmap, Bitmap bitmap2, Bitmap bitmap3) {
+        return new UpfrontKycIdentityDocumentScanPresenter$$Lambda$4(jumioImageSpool, bitmap, bitmap2, bitmap3);
     }
 
     public void call(Object obj) {
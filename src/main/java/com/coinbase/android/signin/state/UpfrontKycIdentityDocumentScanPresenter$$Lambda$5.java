@@ -1,5 +1,7 @@
 package com.coinbase.android.signin.state;
 
+import com.coinbase.android.identityverification.JumioImageSpool;
+import java.io.File;
 import java.util.List;
 import rx.functions.Func1;
 
@@ -7,18 +9,20 @@ final /* synthetic */ class UpfrontKycIdentityDocumentScanPresenter$$Lambda$5 im
     private final UpfrontKycIdentityDocumentScanPresenter arg$1;
     private final String arg$2;
     private final String arg$3;
+    private final JumioImageSpool arg$4;
 
-    private UpfrontKycIdentityDocumentScanPresenter$$Lambda$5(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter, String str, String str2) {
+    private UpfrontKycIdentityDocumentScanPresenter$$Lambda$5(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter, String str, String str2, JumioImageSpool jumioImageSpool) {
         this.arg$1 = upfrontKycIdentityDocumentScanPresenter;
         this.arg$2 = str;
         this.arg$3 = str2;
+        this.arg$4 = jumioImageSpool;
     }
 
-    public static Func1 lambdaFactory$(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter, String str, String str2) {
-        return new UpfrontKycIdentityDocumentScanPresenter$$Lambda$5(upfrontKycIdentityDocumentScanPresenter, str, str2);
+    public static Func1 lambdaFactory$(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter, String str, String str2, JumioImageSpool jumioImageSpool) {
+        return new UpfrontKycIdentityDocumentScanPresenter$$Lambda$5(upfrontKycIdentityDocumentScanPresenter, str, str2, jumioImageSpool);
     }
 
     public Object call(Object obj) {
-        return this.arg$1.mLoginManager.getClient().createJumioProfileRx(this.arg$2, this.arg$3, (byte[]) ((List) obj).get(0), (byte[]) ((List) obj).get(1), (byte[]) ((List) obj).get(2));
+        return this.arg$1.mLoginManager.getClient().createJumioProfileRx(this.arg$2, this.arg$3, (File) ((List) obj).get(0), (File) ((List) obj).get(1), (File) ((List) obj).get(2), this.arg$4.getBytesSent());
     }
 }
@@ -1,20 +1,23 @@
 package com.coinbase.android.signin.state;
 
 import android.util.Pair;
+import com.coinbase.android.identityverification.JumioImageSpool;
 import rx.functions.Action1;
 
 final /* synthetic */ class UpfrontKycIdentityDocumentScanPresenter$$Lambda$6 implements Action1 {
     private final UpfrontKycIdentityDocumentScanPresenter arg$1;
+    private final JumioImageSpool arg$2;
 
-    private UpfrontKycIdentityDocumentScanPresenter$$Lambda$6(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter) {
+    private UpfrontKycIdentityDocumentScanPresenter$$Lambda$6(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter, JumioImageSpool jumioImageSpool) {
         this.arg$1 = upfrontKycIdentityDocumentScanPresenter;
+        this.arg$2 = jumioImageSpool;
     }
 
-    public static Action1 lambdaFactory$(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter) {
-        return new UpfrontKycIdentityDocumentScanPresenter$$Lambda$6(upfrontKycIdentityDocumentScanPresenter);
+    public static Action1 lambdaFactory$(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter, JumioImageSpool jumioImageSpool) {
+        return new UpfrontKycIdentityDocumentScanPresenter$$Lambda$6(upfrontKycIdentityDocumentScanPresenter, jumioImageSpool);
     }
 
     public void call(Object obj) {
-        UpfrontKycIdentityDocumentScanPresenter.lambda$createJumioProfile$9(this.arg$1, (Pair) obj);
+        UpfrontKycIdentityDocumentScanPresenter.lambda$createJumioProfile$9(this.arg$1, this.arg$2, (Pair) obj);
     }
 }
@@ -1,19 +1,22 @@
 package com.coinbase.android.signin.state;
 
+import com.coinbase.android.identityverification.JumioImageSpool;
 import rx.functions.Action1;
 
 final /* synthetic */ class UpfrontKycIdentityDocumentScanPresenter$$Lambda$7 implements Action1 {
     private final UpfrontKycIdentityDocumentScanPresenter arg$1;
+    private final JumioImageSpool arg$2;
 
-    private UpfrontKycIdentityDocumentScanPresenter$$Lambda$7(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter) {
+    private UpfrontKycIdentityDocumentScanPresenter$$Lambda$7(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter, JumioImageSpool jumioImageSpool) {
         this.arg$1 = upfrontKycIdentityDocumentScanPresenter;
+        this.arg$2 = jumioImageSpool;
     }
 
-    public static Action1 lambdaFactory$(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter) {
-        return new UpfrontKycIdentityDocumentScanPresenter$$Lambda$7(upfrontKycIdentityDocumentScanPresenter);
+    public static Action1 lambdaFactory$(UpfrontKycIdentityDocumentScanPresenter upfrontKycIdentityDocumentScanPresenter, JumioImageSpool jumioImageSpool) {
+        return new UpfrontKycIdentityDocumentScanPresenter$$Lambda$7(upfrontKycIdentityDocumentScanPresenter, jumioImageSpool);
     }
 
     public void call(Object obj) {
-        UpfrontKycIdentityDocumentScanPresenter.lambda$createJumioProfile$10(this.arg$1, (Throwable) obj);
+        UpfrontKycIdentityDocumentScanPresenter.lambda$createJumioProfile$10(this.arg$1, this.arg$2, (Throwable) obj);
     }
 }
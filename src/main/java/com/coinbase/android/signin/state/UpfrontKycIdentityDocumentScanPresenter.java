@@ -3,7 +3,6 @@ package com.coinbase.android.signin.state;
 import android.app.Application;
 import android.content.Context;
 import android.graphics.Bitmap;
-import android.graphics.Bitmap.CompressFormat;
 import android.os.Bundle;
 import android.support.v7.widget.RecyclerView.ViewHolder;
 import android.util.Pair;
@@ -14,6 +13,7 @@ import com.coinbase.android.R;
 import com.coinbase.android.identityverification.IdentityVerificationBitmapConnector;
 import com.coinbase.android.identityverification.IdentityVerificationBitmapContainer;
 import com.coinbase.android.identityverification.IdentityVerificationConstants;
+import com.coinbase.android.identityverification.JumioImageSpool;
 import com.coinbase.android.identityverification.PhotoTakenConnector;
 import com.coinbase.android.identityverification.RetakeAndContinueConnector;
 import com.coinbase.android.task.GetUserTask.AdminFlags;
@@ -23,14 +23,14 @@ import com.coinbase.android.utils.FaceDetectionUtils;
 import com.coinbase.android.utils.Utils;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.api.LoginManager;
-import com.coinbase.api.internal.ModelGsonAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.jumio.JumioProfile;
 import com.coinbase.api.internal.models.jumio.JumioProfiles.Type;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.Data;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.SupportedIdType;
-import com.google.gson.GsonBuilder;
 import com.hannesdorfmann.adapterdelegates3.AdapterDelegatesManager;
-import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -41,6 +41,7 @@ import rx.Observable;
 import rx.Scheduler;
 import rx.Subscriber;
 import rx.subscriptions.CompositeSubscription;
+import rx.subscriptions.Subscriptions;
 
 @ControllerScope
 public class UpfrontKycIdentityDocumentScanPresenter {
@@ -83,7 +84,7 @@ public class UpfrontKycIdentityDocumentScanPresenter {
     }
 
     public void onCreate(Bundle args) {
-        this.mJumioDoc = (Data) new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create().fromJson(args.getString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY), Data.class);
+        this.mJumioDoc = (Data) Serializers.getGson().fromJson(args.getString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY), Data.class);
         if (this.mJumioDoc == null) {
             this.mScreen.finish();
             return;
@@ -148,7 +149,7 @@ public class UpfrontKycIdentityDocumentScanPresenter {
 
     public void takePhoto() {
         Bundle extras = new Bundle();
-        extras.putString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY, new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create().toJson(this.mJumioDoc));
+        extras.putString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY, Serializers.getGson().toJson(this.mJumioDoc));
         extras.putInt(IdentityVerificationConstants.JUMIO_DOCUMENT_INDEX_KEY, this.mJumioDoc.getSupportedIdTypes().indexOf(this.mJumioType));
         extras.putBoolean(IdentityVerificationConstants.EXTRA_TAKING_BACK, this.mTakingBack);
         extras.putBoolean(IdentityVerificationConstants.EXTRA_TAKING_FACE_MATCH, this.mTakingFaceMatch);
@@ -287,7 +288,7 @@ public class UpfrontKycIdentityDocumentScanPresenter {
 
     private Bundle createScanDocumentExtras(boolean isTakingBack, boolean isTakingFaceMatch) {
         Bundle extras = new Bundle();
-        extras.putString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY, new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create().toJson(this.mJumioDoc));
+        extras.putString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY, Serializers.getGson().toJson(this.mJumioDoc));
         extras.putInt(IdentityVerificationConstants.JUMIO_DOCUMENT_INDEX_KEY, this.mJumioTypeIndex);
         extras.putBoolean(IdentityVerificationConstants.EXTRA_TAKING_BACK, isTakingBack);
         extras.putBoolean(IdentityVerificationConstants.EXTRA_TAKING_FACE_MATCH, isTakingFaceMatch);
@@ -295,39 +296,25 @@ public class UpfrontKycIdentityDocumentScanPresenter {
         return extras;
     }
 
-    private byte[] createImageByteArray(Bitmap bmp) {
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
-        try {
-            bmp.compress(CompressFormat.JPEG, 95, stream);
-            byte[] byteArray = stream.toByteArray();
-            stream.close();
-            return byteArray;
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
     private void createJumioProfile(String countryCode, String idType, Bitmap frontImage, Bitmap backImage, Bitmap faceMatchImage) {
         MixpanelTracking.getInstance().trackEvent(MixpanelTracking.EVENT_JUMIO_SUBMIT, new String[0]);
         this.mScreen.showJumioUploadingProgress();
-        this.mSubscription.add(Observable.create(UpfrontKycIdentityDocumentScanPresenter$$Lambda$4.lambdaFactory$(this, frontImage, backImage, faceMatchImage)).subscribeOn(this.mBackgroundScheduler).flatMap(UpfrontKycIdentityDocumentScanPresenter$$Lambda$5.lambdaFactory$(this, countryCode, idType)).observeOn(this.mMainScheduler).onBackpressureLatest().subscribe(UpfrontKycIdentityDocumentScanPresenter$$Lambda$6.lambdaFactory$(this), UpfrontKycIdentityDocumentScanPresenter$$Lambda$7.lambdaFactory$(this)));
+        JumioImageSpool spool = new JumioImageSpool(this.mContext);
+        this.mSubscription.add(Subscriptions.create(UpfrontKycIdentityDocumentScanPresenter$$Lambda$12.lambdaFactory$(spool)));
+        this.mSubscription.add(Observable.create(UpfrontKycIdentityDocumentScanPresenter$$Lambda$4.lambdaFactory$(spool, frontImage, backImage, faceMatchImage)).subscribeOn(this.mBackgroundScheduler).flatMap(UpfrontKycIdentityDocumentScanPresenter$$Lambda$5.lambdaFactory$(this, countryCode, idType, spool)).observeOn(this.mMainScheduler).onBackpressureLatest().subscribe(UpfrontKycIdentityDocumentScanPresenter$$Lambda$6.lambdaFactory$(this, spool), UpfrontKycIdentityDocumentScanPresenter$$Lambda$7.lambdaFactory$(this, spool)));
     }
 
-    static /* synthetic */ void lambda$createJumioProfile$7(UpfrontKycIdentityDocumentScanPresenter this_, Bitmap frontImage, Bitmap backImage, Bitmap faceMatchImage, Subscriber subscriber) {
-        byte[] frontData = this_.createImageByteArray(frontImage);
-        byte[] backData = null;
-        byte[] faceMatchData = null;
-        if (backImage != null) {
-            backData = this_.createImageByteArray(backImage);
-        }
-        if (faceMatchImage != null) {
-            faceMatchData = this_.createImageByteArray(faceMatchImage);
+    static /* synthetic */ void lambda$createJumioProfile$7(JumioImageSpool spool, Bitmap frontImage, Bitmap backImage, Bitmap faceMatchImage, Subscriber subscriber) {
+        try {
+            subscriber.onNext(Arrays.asList(new File[]{spool.spool(frontImage, "front"), spool.spool(backImage, "back"), spool.spool(faceMatchImage, "face")}));
+            subscriber.onCompleted();
+        } catch (IOException e) {
+            subscriber.onError(e);
         }
-        subscriber.onNext(Arrays.asList(new byte[][]{frontData, backData, faceMatchData}));
-        subscriber.onCompleted();
     }
 
-    static /* synthetic */ void lambda$createJumioProfile$9(UpfrontKycIdentityDocumentScanPresenter this_, Pair pair) {
+    static /* synthetic */ void lambda$createJumioProfile$9(UpfrontKycIdentityDocumentScanPresenter this_, JumioImageSpool spool, Pair pair) {
+        spool.release();
         Response<JumioProfile> response = pair.first;
         this_.mScreen.hideProgressDialog();
         if (!this_.mScreen.isShown()) {
@@ -342,7 +329,8 @@ public class UpfrontKycIdentityDocumentScanPresenter {
         MixpanelTracking.getInstance().trackEvent(MixpanelTracking.EVENT_JUMIO_SUBMIT_FAILURE, new String[0]);
     }
 
-    static /* synthetic */ void lambda$createJumioProfile$10(UpfrontKycIdentityDocumentScanPresenter this_, Throwable t) {
+    static /* synthetic */ void lambda$createJumioProfile$10(UpfrontKycIdentityDocumentScanPresenter this_, JumioImageSpool spool, Throwable t) {
+        spool.release();
         this_.mScreen.hideProgressDialog();
         if (this_.mScreen.isShown()) {
             MixpanelTracking.getInstance().trackEvent(MixpanelTracking.EVENT_JUMIO_SUBMIT_FAILURE, new String[0]);
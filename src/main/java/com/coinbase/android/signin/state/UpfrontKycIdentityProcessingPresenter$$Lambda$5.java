@@ -0,0 +1,19 @@
+package com.coinbase.android.signin.state;
+
+import rx.functions.Action1;
+
+final /* synthetic */ class UpfrontKycIdentityProcessingPresenter$$Lambda$5 implements Action1 {
+    private final UpfrontKycIdentityProcessingPresenter arg$1;
+
+    private UpfrontKycIdentityProcessingPresenter$$Lambda$5(UpfrontKycIdentityProcessingPresenter upfrontKycIdentityProcessingPresenter) {
+        this.arg$1 = upfrontKycIdentityProcessingPresenter;
+    }
+
+    public static Action1 lambdaFactory$(UpfrontKycIdentityProcessingPresenter upfrontKycIdentityProcessingPresenter) {
+        return new UpfrontKycIdentityProcessingPresenter$$Lambda$5(upfrontKycIdentityProcessingPresenter);
+    }
+
+    public void call(Object obj) {
+        UpfrontKycIdentityProcessingPresenter.lambda$waitForIdv$4(this.arg$1, (Throwable) obj);
+    }
+}
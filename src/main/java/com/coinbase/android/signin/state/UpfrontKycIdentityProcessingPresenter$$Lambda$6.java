@@ -0,0 +1,19 @@
+package com.coinbase.android.signin.state;
+
+import rx.functions.Action1;
+
+final /* synthetic */ class UpfrontKycIdentityProcessingPresenter$$Lambda$6 implements Action1 {
+    private final UpfrontKycIdentityProcessingPresenter arg$1;
+
+    private UpfrontKycIdentityProcessingPresenter$$Lambda$6(UpfrontKycIdentityProcessingPresenter upfrontKycIdentityProcessingPresenter) {
+        this.arg$1 = upfrontKycIdentityProcessingPresenter;
+    }
+
+    public static Action1 lambdaFactory$(UpfrontKycIdentityProcessingPresenter upfrontKycIdentityProcessingPresenter) {
+        return new UpfrontKycIdentityProcessingPresenter$$Lambda$6(upfrontKycIdentityProcessingPresenter);
+    }
+
+    public void call(Object obj) {
+        UpfrontKycIdentityProcessingPresenter.lambda$null$5(this.arg$1, (Long) obj);
+    }
+}
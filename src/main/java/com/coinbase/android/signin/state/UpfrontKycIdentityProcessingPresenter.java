@@ -4,6 +4,7 @@ import android.os.Bundle;
 import android.text.TextUtils;
 import android.util.Pair;
 import com.coinbase.android.ControllerScope;
+import com.coinbase.android.polling.StatusPoller;
 import com.coinbase.android.signin.AuthRouter;
 import com.coinbase.android.signin.SignInRouter;
 import com.coinbase.android.ui.MainScheduler;
@@ -11,39 +12,43 @@ import com.coinbase.api.LoginManager;
 import com.coinbase.api.internal.models.jumio.Data;
 import com.coinbase.api.internal.models.jumio.FailureDescription;
 import com.coinbase.api.internal.models.jumio.JumioProfiles;
+import com.coinbase.api.internal.models.jumio.JumioProfiles.Status;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Response;
+import rx.Observable;
 import rx.Scheduler;
-import rx.Subscription;
 import rx.subscriptions.CompositeSubscription;
 
 @ControllerScope
 public class UpfrontKycIdentityProcessingPresenter {
     public static final String IS_INTERSTITIAL = "is_interstitial";
     private static final long SERVER_ERROR_TIMEOUT = 30;
-    private static final long WAITING_FOR_PROCESSING_TIMEOUT = 10;
     private Bundle mArgs;
     private final AuthRouter mAuthRouter;
     private final Logger mLogger = LoggerFactory.getLogger(UpfrontKycIdentityProcessingPresenter.class);
     private final LoginManager mLoginManager;
     private final Scheduler mMainScheduler;
+    private volatile boolean mPendingSeen;
     private final UpfrontKycIdentityProcessingRouter mRouter;
     private final UpfrontKycIdentityProcessingScreen mScreen;
     private final SignInRouter mSignInRouter;
+    private final StatusPoller mStatusPoller;
     private final CompositeSubscription mSubscription = new CompositeSubscription();
 
     @Inject
-    public UpfrontKycIdentityProcessingPresenter(UpfrontKycIdentityProcessingScreen screen, LoginManager loginManager, AuthRouter authRouter, SignInRouter signInRouter, UpfrontKycIdentityProcessingRouter router, @MainScheduler Scheduler mainScheduler) {
+    public UpfrontKycIdentityProcessingPresenter(UpfrontKycIdentityProcessingScreen screen, LoginManager loginManager, AuthRouter authRouter, SignInRouter signInRouter, UpfrontKycIdentityProcessingRouter router, @MainScheduler Scheduler mainScheduler, StatusPoller statusPoller) {
         this.mScreen = screen;
         this.mLoginManager = loginManager;
         this.mAuthRouter = authRouter;
         this.mSignInRouter = signInRouter;
         this.mRouter = router;
         this.mMainScheduler = mainScheduler;
+        this.mStatusPoller = statusPoller;
     }
 
     void onShow(Bundle args) {
@@ -70,40 +75,50 @@ public class UpfrontKycIdentityProcessingPresenter {
     }
 
     private void waitForIdv() {
-        this.mSubscription.add(getJumioProfilesDelayed(0));
+        this.mSubscription.add(this.mStatusPoller.poll(StatusPoller.FLOW_JUMIO_PROFILE, this.mLoginManager.getActiveUserId(), UpfrontKycIdentityProcessingPresenter$$Lambda$2.lambdaFactory$(this), UpfrontKycIdentityProcessingPresenter$$Lambda$3.lambdaFactory$(this)).observeOn(this.mMainScheduler).subscribe(UpfrontKycIdentityProcessingPresenter$$Lambda$4.lambdaFactory$(this), UpfrontKycIdentityProcessingPresenter$$Lambda$5.lambdaFactory$(this)));
     }
 
-    private Subscription getJumioProfilesDelayed(long delay) {
-        return this.mLoginManager.getClient().getJumioProfilesRx().delay(delay, TimeUnit.SECONDS).observeOn(this.mMainScheduler).first().subscribe(UpfrontKycIdentityProcessingPresenter$$Lambda$2.lambdaFactory$(this), UpfrontKycIdentityProcessingPresenter$$Lambda$3.lambdaFactory$(this));
+    static /* synthetic */ Observable lambda$waitForIdv$1(UpfrontKycIdentityProcessingPresenter this_) {
+        return this_.mLoginManager.getClient().getJumioProfilesRx();
     }
 
-    static /* synthetic */ void lambda$getJumioProfilesDelayed$1(UpfrontKycIdentityProcessingPresenter this_, Pair responseRetrofitPair) {
+    static /* synthetic */ Boolean lambda$waitForIdv$2(UpfrontKycIdentityProcessingPresenter this_, Pair responseRetrofitPair) {
+        Response<JumioProfiles> response = responseRetrofitPair.first;
+        if (!response.isSuccessful()) {
+            return Boolean.valueOf(false);
+        }
+        if (((JumioProfiles) response.body()).getJumioProfileStatus() != Status.PENDING) {
+            return Boolean.valueOf(true);
+        }
+        this_.mPendingSeen = true;
+        return Boolean.valueOf(false);
+    }
+
+    static /* synthetic */ void lambda$waitForIdv$3(UpfrontKycIdentityProcessingPresenter this_, Pair responseRetrofitPair) {
         this_.mScreen.hideProgress();
         this_.mSubscription.clear();
-        Response<JumioProfiles> response = responseRetrofitPair.first;
-        if (response.isSuccessful()) {
-            switch (((JumioProfiles) response.body()).getJumioProfileStatus()) {
-                case COMPLETED:
-                    this_.mSubscription.add(this_.mAuthRouter.routeToNext());
-                    return;
-                case PENDING:
-                    this_.mArgs.putBoolean(IS_INTERSTITIAL, false);
-                    this_.mSubscription.add(this_.getJumioProfilesDelayed(WAITING_FOR_PROCESSING_TIMEOUT));
-                    return;
-                default:
-                    if (this_.mArgs.getBoolean(IS_INTERSTITIAL, false)) {
-                        this_.mRouter.routeToDocumentSelector();
-                        return;
-                    } else if (((JumioProfiles) response.body()).getData() == null) {
-                        this_.mLogger.error("Jumio profiles empty in handle failure, shouldn't happen");
-                        return;
-                    } else {
-                        this_.handleFailure(((JumioProfiles) response.body()).getData());
-                        return;
-                    }
-            }
+        if (this_.mPendingSeen) {
+            this_.mArgs.putBoolean(IS_INTERSTITIAL, false);
         }
-        this_.mSubscription.add(this_.getJumioProfilesDelayed(SERVER_ERROR_TIMEOUT));
+        JumioProfiles jumioProfiles = (JumioProfiles) ((Response) responseRetrofitPair.first).body();
+        if (jumioProfiles.getJumioProfileStatus() == Status.COMPLETED) {
+            this_.mSubscription.add(this_.mAuthRouter.routeToNext());
+        } else if (this_.mArgs.getBoolean(IS_INTERSTITIAL, false)) {
+            this_.mRouter.routeToDocumentSelector();
+        } else if (jumioProfiles.getData() == null) {
+            this_.mLogger.error("Jumio profiles empty in handle failure, shouldn't happen");
+        } else {
+            this_.handleFailure(jumioProfiles.getData());
+        }
+    }
+
+    static /* synthetic */ void lambda$waitForIdv$4(UpfrontKycIdentityProcessingPresenter this_, Throwable t) {
+        this_.mSubscription.clear();
+        this_.mSubscription.add(Observable.timer(t instanceof TimeoutException ? 0 : SERVER_ERROR_TIMEOUT, TimeUnit.SECONDS, this_.mMainScheduler).subscribe(UpfrontKycIdentityProcessingPresenter$$Lambda$6.lambdaFactory$(this_)));
+    }
+
+    static /* synthetic */ void lambda$null$5(UpfrontKycIdentityProcessingPresenter this_, Long tick) {
+        this_.waitForIdv();
     }
 
     private void handleFailure(List<Data> jumioProfiles) {
@@ -1,5 +1,6 @@
 package com.coinbase.android.signin.state;
 
+import com.coinbase.android.polling.StatusPoller;
 import com.coinbase.android.signin.AuthRouter;
 import com.coinbase.android.signin.SignInRouter;
 import com.coinbase.api.LoginManager;
@@ -14,29 +15,31 @@ public final class UpfrontKycIdentityProcessingPresenter_Factory implements Fact
     private final Provider<UpfrontKycIdentityProcessingRouter> routerProvider;
     private final Provider<UpfrontKycIdentityProcessingScreen> screenProvider;
     private final Provider<SignInRouter> signInRouterProvider;
+    private final Provider<StatusPoller> statusPollerProvider;
 
-    public UpfrontKycIdentityProcessingPresenter_Factory(Provider<UpfrontKycIdentityProcessingScreen> screenProvider, Provider<LoginManager> loginManagerProvider, Provider<AuthRouter> authRouterProvider, Provider<SignInRouter> signInRouterProvider, Provider<UpfrontKycIdentityProcessingRouter> routerProvider, Provider<Scheduler> mainSchedulerProvider) {
+    public UpfrontKycIdentityProcessingPresenter_Factory(Provider<UpfrontKycIdentityProcessingScreen> screenProvider, Provider<LoginManager> loginManagerProvider, Provider<AuthRouter> authRouterProvider, Provider<SignInRouter> signInRouterProvider, Provider<UpfrontKycIdentityProcessingRouter> routerProvider, Provider<Scheduler> mainSchedulerProvider, Provider<StatusPoller> statusPollerProvider) {
         this.screenProvider = screenProvider;
         this.loginManagerProvider = loginManagerProvider;
         this.authRouterProvider = authRouterProvider;
         this.signInRouterProvider = signInRouterProvider;
         this.routerProvider = routerProvider;
         this.mainSchedulerProvider = mainSchedulerProvider;
+        this.statusPollerProvider = statusPollerProvider;
     }
 
     public UpfrontKycIdentityProcessingPresenter get() {
-        return provideInstance(this.screenProvider, this.loginManagerProvider, this.authRouterProvider, this.signInRouterProvider, this.routerProvider, this.mainSchedulerProvider);
+        return provideInstance(this.screenProvider, this.loginManagerProvider, this.authRouterProvider, this.signInRouterProvider, this.routerProvider, this.mainSchedulerProvider, this.statusPollerProvider);
     }
 
-    public static UpfrontKycIdentityProcessingPresenter provideInstance(Provider<UpfrontKycIdentityProcessingScreen> screenProvider, Provider<LoginManager> loginManagerProvider, Provider<AuthRouter> authRouterProvider, Provider<SignInRouter> signInRouterProvider, Provider<UpfrontKycIdentityProcessingRouter> routerProvider, Provider<Scheduler> mainSchedulerProvider) {
-        return new UpfrontKycIdentityProcessingPresenter((UpfrontKycIdentityProcessingScreen) screenProvider.get(), (LoginManager) loginManagerProvider.get(), (AuthRouter) authRouterProvider.get(), (SignInRouter) signInRouterProvider.get(), (UpfrontKycIdentityProcessingRouter) routerProvider.get(), (Scheduler) mainSchedulerProvider.get());
+    public static UpfrontKycIdentityProcessingPresenter provideInstance(Provider<UpfrontKycIdentityProcessingScreen> screenProvider, Provider<LoginManager> loginManagerProvider, Provider<AuthRouter> authRouterProvider, Provider<SignInRouter> signInRouterProvider, Provider<UpfrontKycIdentityProcessingRouter> routerProvider, Provider<Scheduler> mainSchedulerProvider, Provider<StatusPoller> statusPollerProvider) {
+        return new UpfrontKycIdentityProcessingPresenter((UpfrontKycIdentityProcessingScreen) screenProvider.get(), (LoginManager) loginManagerProvider.get(), (AuthRouter) authRouterProvider.get(), (SignInRouter) signInRouterProvider.get(), (UpfrontKycIdentityProcessingRouter) routerProvider.get(), (Scheduler) mainSchedulerProvider.get(), (StatusPoller) statusPollerProvider.get());
     }
 
-    public static UpfrontKycIdentityProcessingPresenter_Factory create(Provider<UpfrontKycIdentityProcessingScreen> screenProvider, Provider<LoginManager> loginManagerProvider, Provider<AuthRouter> authRouterProvider, Provider<SignInRouter> signInRouterProvider, Provider<UpfrontKycIdentityProcessingRouter> routerProvider, Provider<Scheduler> mainSchedulerProvider) {
-        return new UpfrontKycIdentityProcessingPresenter_Factory(screenProvider, loginManagerProvider, authRouterProvider, signInRouterProvider, routerProvider, mainSchedulerProvider);
+    public static UpfrontKycIdentityProcessingPresenter_Factory create(Provider<UpfrontKycIdentityProcessingScreen> screenProvider, Provider<LoginManager> loginManagerProvider, Provider<AuthRouter> authRouterProvider, Provider<SignInRouter> signInRouterProvider, Provider<UpfrontKycIdentityProcessingRouter> routerProvider, Provider<Scheduler> mainSchedulerProvider, Provider<StatusPoller> statusPollerProvider) {
+        return new UpfrontKycIdentityProcessingPresenter_Factory(screenProvider, loginManagerProvider, authRouterProvider, signInRouterProvider, routerProvider, mainSchedulerProvider, statusPollerProvider);
     }
 
-    public static UpfrontKycIdentityProcessingPresenter newUpfrontKycIdentityProcessingPresenter(UpfrontKycIdentityProcessingScreen screen, LoginManager loginManager, AuthRouter authRouter, SignInRouter signInRouter, UpfrontKycIdentityProcessingRouter router, Scheduler mainScheduler) {
-        return new UpfrontKycIdentityProcessingPresenter(screen, loginManager, authRouter, signInRouter, router, mainScheduler);
+    public static UpfrontKycIdentityProcessingPresenter newUpfrontKycIdentityProcessingPresenter(UpfrontKycIdentityProcessingScreen screen, LoginManager loginManager, AuthRouter authRouter, SignInRouter signInRouter, UpfrontKycIdentityProcessingRouter router, Scheduler mainScheduler, StatusPoller statusPoller) {
+        return new UpfrontKycIdentityProcessingPresenter(screen, loginManager, authRouter, signInRouter, router, mainScheduler, statusPoller);
     }
 }
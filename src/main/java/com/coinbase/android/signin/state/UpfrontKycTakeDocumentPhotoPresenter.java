@@ -25,11 +25,10 @@ import com.coinbase.android.identityverification.IdentityVerificationConstants;
 import com.coinbase.android.identityverification.PhotoTakenConnector;
 import com.coinbase.android.ui.SnackBarWrapper;
 import com.coinbase.android.utils.Utils;
-import com.coinbase.api.internal.ModelGsonAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.jumio.JumioProfiles.Type;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.Data;
 import com.coinbase.api.internal.models.jumio.supportedDocuments.SupportedIdType;
-import com.google.gson.GsonBuilder;
 import com.hannesdorfmann.adapterdelegates3.AdapterDelegatesManager;
 import java.util.Arrays;
 import java.util.LinkedList;
@@ -78,7 +77,7 @@ public class UpfrontKycTakeDocumentPhotoPresenter {
     }
 
     public void onCreate(Bundle args) {
-        this.mJumioDoc = (Data) new GsonBuilder().registerTypeAdapterFactory(ModelGsonAdapterFactory.create()).create().fromJson(args.getString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY), Data.class);
+        this.mJumioDoc = (Data) Serializers.getGson().fromJson(args.getString(IdentityVerificationConstants.JUMIO_DOCUMENT_KEY), Data.class);
         if (this.mJumioDoc == null) {
             this.mScreen.popBackstack();
             return;
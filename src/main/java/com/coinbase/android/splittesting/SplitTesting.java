@@ -8,6 +8,7 @@ import com.coinbase.android.ApplicationSignOutListener;
 import com.coinbase.android.BackgroundScheduler;
 import com.coinbase.android.settings.UserUpdatedConnector;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.v2.models.user.Data;
 import com.coinbase.v2.models.user.SplitTest;
 import com.google.gson.Gson;
@@ -28,7 +29,7 @@ import rx.subscriptions.CompositeSubscription;
 
 @ApplicationScope
 public class SplitTesting extends FlavorSplitTesting implements ApplicationOnCreateListener, ApplicationSignOutListener {
-    private static final Gson GSON = new Gson();
+    private static final Gson GSON = Serializers.getGson();
     static final String KEY_SPLIT_TESTS = "split_tests";
     private final Scheduler mBackgroundScheduler;
     private final Logger mLogger = LoggerFactory.getLogger(SplitTesting.class);
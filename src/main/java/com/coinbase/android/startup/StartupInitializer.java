@@ -0,0 +1,99 @@
+package com.coinbase.android.startup;
+
+import com.coinbase.android.ApplicationOnCreateListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One unit of application startup work: what it runs, which initializers must have finished
+ * before it, which thread it runs on and whether it can wait until the first frame is drawn.
+ */
+public final class StartupInitializer {
+    private final ThreadAffinity mAffinity;
+    private final boolean mDeferred;
+    private final List<String> mDependencies;
+    private final String mName;
+    private final ApplicationOnCreateListener mTask;
+
+    public enum ThreadAffinity {
+        MAIN,
+        BACKGROUND
+    }
+
+    public static final class Builder {
+        private ThreadAffinity mAffinity = ThreadAffinity.MAIN;
+        private boolean mDeferred;
+        private final List<String> mDependencies = new ArrayList();
+        private final String mName;
+        private final ApplicationOnCreateListener mTask;
+
+        Builder(String name, ApplicationOnCreateListener task) {
+            if (name == null || task == null) {
+                throw new IllegalArgumentException("Startup initializers need a name and a task");
+            }
+            this.mName = name;
+            this.mTask = task;
+        }
+
+        public Builder dependsOn(String... names) {
+            this.mDependencies.addAll(Arrays.asList(names));
+            return this;
+        }
+
+        public Builder onBackgroundThread() {
+            this.mAffinity = ThreadAffinity.BACKGROUND;
+            return this;
+        }
+
+        /**
+         * Not needed to show the first screen: runs once the first frame is drawn. Critical
+         * initializers can't depend on it.
+         */
+        public Builder afterFirstFrame() {
+            this.mDeferred = true;
+            return this;
+        }
+
+        public StartupInitializer build() {
+            return new StartupInitializer(this);
+        }
+    }
+
+    private StartupInitializer(Builder builder) {
+        this.mName = builder.mName;
+        this.mTask = builder.mTask;
+        this.mAffinity = builder.mAffinity;
+        this.mDeferred = builder.mDeferred;
+        this.mDependencies = Collections.unmodifiableList(new ArrayList(builder.mDependencies));
+    }
+
+    public static Builder builder(String name, ApplicationOnCreateListener task) {
+        return new Builder(name, task);
+    }
+
+    public String getName() {
+        return this.mName;
+    }
+
+    public ApplicationOnCreateListener getTask() {
+        return this.mTask;
+    }
+
+    public ThreadAffinity getAffinity() {
+        return this.mAffinity;
+    }
+
+    public boolean isDeferred() {
+        return this.mDeferred;
+    }
+
+    public List<String> getDependencies() {
+        return this.mDependencies;
+    }
+
+    public String toString() {
+        return this.mName;
+    }
+}
@@ -0,0 +1,271 @@
+package com.coinbase.android.startup;
+
+import android.os.Build.VERSION;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Trace;
+import com.coinbase.android.startup.StartupInitializer.ThreadAffinity;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import okhttp3.internal.Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the application's startup initializers as a dependency graph. Critical main thread
+ * initializers run in order on the calling thread, background ones on a small bounded pool as soon
+ * as their dependencies finished, and deferred ones only after {@link #onFirstFrame()}. Every
+ * initializer is timed into a {@link StartupTrace} and shows up as a systrace section.
+ *
+ * <p>Dependencies have to be run before (or in the same batch, ahead of) the initializers that
+ * depend on them, which keeps the graph acyclic. A failing initializer doesn't stop its
+ * dependents; failures of critical ones are rethrown by {@link #run(List)}.
+ */
+public class StartupOrchestrator {
+    private static final long KEEP_ALIVE_SECONDS = 10;
+    private static final int MAX_BACKGROUND_THREADS = 4;
+    private static final int MAX_SECTION_NAME_LENGTH = 127;
+    private final Executor mBackgroundExecutor;
+    private boolean mFirstFrameDrawn;
+    private final Logger mLogger = LoggerFactory.getLogger(StartupOrchestrator.class);
+    private final Executor mMainExecutor;
+    private final Map<String, Node> mNodes = new HashMap();
+    private int mRemaining;
+    private final StartupTrace mTrace = new StartupTrace(System.nanoTime());
+
+    static final class Node {
+        private final List<Node> mDependents = new ArrayList();
+        private final CountDownLatch mDone = new CountDownLatch(1);
+        private Throwable mError;
+        private boolean mFinished;
+        private final StartupInitializer mInitializer;
+        private int mPendingDependencies;
+        private long mReadyTime;
+
+        Node(StartupInitializer initializer) {
+            this.mInitializer = initializer;
+        }
+
+        boolean isCriticalMain() {
+            return !this.mInitializer.isDeferred() && this.mInitializer.getAffinity() == ThreadAffinity.MAIN;
+        }
+    }
+
+    static final class MainThreadExecutor implements Executor {
+        private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+        MainThreadExecutor() {
+        }
+
+        public void execute(Runnable runnable) {
+            this.mHandler.post(runnable);
+        }
+    }
+
+    public StartupOrchestrator(Executor backgroundExecutor, Executor mainExecutor) {
+        this.mBackgroundExecutor = backgroundExecutor;
+        this.mMainExecutor = mainExecutor;
+    }
+
+    /**
+     * An orchestrator whose background pool has one thread per spare core, at least two and at
+     * most four, which time out once startup is over.
+     */
+    public static StartupOrchestrator create() {
+        int threads = Math.max(2, Math.min(MAX_BACKGROUND_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue(), Util.threadFactory("Startup", false));
+        executor.allowCoreThreadTimeOut(true);
+        return new StartupOrchestrator(executor, new MainThreadExecutor());
+    }
+
+    /**
+     * Adds the initializers to the graph and returns once every critical one has finished, running
+     * the main thread ones on the calling thread. Must be called on the main thread.
+     */
+    public void run(List<StartupInitializer> initializers) {
+        List<Node> batch = new ArrayList();
+        List<Node> ready = new ArrayList();
+        synchronized (this) {
+            for (StartupInitializer initializer : initializers) {
+                Node node = add(initializer);
+                batch.add(node);
+                if (node.mPendingDependencies == 0 && isReleased(node)) {
+                    node.mReadyTime = System.nanoTime();
+                    ready.add(node);
+                }
+            }
+        }
+        dispatch(ready);
+        for (Node node : batch) {
+            if (node.isCriticalMain()) {
+                await(node.mInitializer.getDependencies());
+                execute(node);
+            }
+        }
+        Throwable error = null;
+        for (Node node : batch) {
+            if (!node.mInitializer.isDeferred()) {
+                awaitUninterruptibly(node);
+                if (error == null) {
+                    error = node.mError;
+                }
+            }
+        }
+        this.mTrace.setCriticalPathEnd(System.nanoTime());
+        this.mLogger.info("Critical startup initializers finished after {} ms", Long.valueOf(this.mTrace.getCriticalPath(TimeUnit.MILLISECONDS)));
+        if (error instanceof RuntimeException) {
+            throw ((RuntimeException) error);
+        } else if (error instanceof Error) {
+            throw ((Error) error);
+        } else if (error != null) {
+            throw new RuntimeException(error);
+        }
+    }
+
+    /**
+     * Releases the deferred initializers. Only the first call has an effect.
+     */
+    public void onFirstFrame() {
+        List<Node> ready = new ArrayList();
+        boolean finished;
+        synchronized (this) {
+            if (this.mFirstFrameDrawn) {
+                return;
+            }
+            this.mFirstFrameDrawn = true;
+            long now = System.nanoTime();
+            for (Node node : this.mNodes.values()) {
+                if (node.mInitializer.isDeferred() && !node.mFinished && node.mPendingDependencies == 0) {
+                    node.mReadyTime = now;
+                    ready.add(node);
+                }
+            }
+            finished = this.mRemaining == 0;
+        }
+        dispatch(ready);
+        if (finished) {
+            this.mLogger.info("Startup finished. {}", this.mTrace);
+        }
+    }
+
+    public StartupTrace getTrace() {
+        return this.mTrace;
+    }
+
+    private Node add(StartupInitializer initializer) {
+        String name = initializer.getName();
+        if (this.mNodes.containsKey(name)) {
+            throw new IllegalArgumentException("Startup initializer " + name + " was added twice");
+        }
+        Node node = new Node(initializer);
+        for (String dependencyName : initializer.getDependencies()) {
+            Node dependency = (Node) this.mNodes.get(dependencyName);
+            if (dependency == null) {
+                throw new IllegalArgumentException("Startup initializer " + name + " depends on " + dependencyName + ", which has to be added before it");
+            } else if (dependency.mInitializer.isDeferred() && !initializer.isDeferred()) {
+                throw new IllegalArgumentException("Critical startup initializer " + name + " can't depend on deferred " + dependencyName);
+            } else if (!dependency.mFinished) {
+                node.mPendingDependencies++;
+                dependency.mDependents.add(node);
+            }
+        }
+        this.mNodes.put(name, node);
+        this.mRemaining++;
+        return node;
+    }
+
+    private boolean isReleased(Node node) {
+        return !node.mInitializer.isDeferred() || this.mFirstFrameDrawn;
+    }
+
+    private void dispatch(List<Node> nodes) {
+        for (Node node : nodes) {
+            if (!node.isCriticalMain()) {
+                (node.mInitializer.getAffinity() == ThreadAffinity.BACKGROUND ? this.mBackgroundExecutor : this.mMainExecutor).execute(new Runnable() {
+                    public void run() {
+                        StartupOrchestrator.this.execute(node);
+                    }
+                });
+            }
+        }
+    }
+
+    private void await(List<String> names) {
+        for (String name : names) {
+            Node dependency;
+            synchronized (this) {
+                dependency = (Node) this.mNodes.get(name);
+            }
+            awaitUninterruptibly(dependency);
+        }
+    }
+
+    private static void awaitUninterruptibly(Node node) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                node.mDone.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void execute(Node node) {
+        String name = node.mInitializer.getName();
+        Throwable error = null;
+        long start = System.nanoTime();
+        if (VERSION.SDK_INT >= 18) {
+            Trace.beginSection(name.length() > MAX_SECTION_NAME_LENGTH ? name.substring(0, MAX_SECTION_NAME_LENGTH) : name);
+        }
+        try {
+            node.mInitializer.getTask().onCreate();
+        } catch (Throwable t) {
+            error = t;
+        } finally {
+            if (VERSION.SDK_INT >= 18) {
+                Trace.endSection();
+            }
+        }
+        long end = System.nanoTime();
+        StartupTrace.Entry entry = this.mTrace.add(name, Thread.currentThread().getName(), start, node.mReadyTime == 0 ? 0 : Math.max(0, start - node.mReadyTime), end - start, error);
+        if (error != null) {
+            this.mLogger.error("Startup initializer " + name + " failed", error);
+        } else {
+            this.mLogger.debug("Startup initializer {}", entry);
+        }
+        List<Node> ready = new ArrayList();
+        boolean finished;
+        synchronized (this) {
+            node.mError = error;
+            node.mFinished = true;
+            for (Node dependent : node.mDependents) {
+                dependent.mPendingDependencies--;
+                if (dependent.mPendingDependencies == 0) {
+                    dependent.mReadyTime = end;
+                    if (isReleased(dependent)) {
+                        ready.add(dependent);
+                    }
+                }
+            }
+            this.mRemaining--;
+            finished = this.mRemaining == 0 && this.mFirstFrameDrawn;
+        }
+        node.mDone.countDown();
+        dispatch(ready);
+        if (finished) {
+            this.mLogger.info("Startup finished. {}", this.mTrace);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.coinbase.android.startup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * When each startup initializer ran, relative to the start of the application, and on which
+ * thread. Entries are in completion order.
+ */
+public final class StartupTrace {
+    private final List<Entry> mEntries = new ArrayList();
+    private long mCriticalPathNanos = -1;
+    private final long mStartNanos;
+
+    public static final class Entry {
+        private final long mDurationNanos;
+        private final Throwable mError;
+        private final String mName;
+        private final long mStartOffsetNanos;
+        private final String mThreadName;
+        private final long mWaitNanos;
+
+        Entry(String name, String threadName, long startOffsetNanos, long waitNanos, long durationNanos, Throwable error) {
+            this.mName = name;
+            this.mThreadName = threadName;
+            this.mStartOffsetNanos = startOffsetNanos;
+            this.mWaitNanos = waitNanos;
+            this.mDurationNanos = durationNanos;
+            this.mError = error;
+        }
+
+        public String getName() {
+            return this.mName;
+        }
+
+        public String getThreadName() {
+            return this.mThreadName;
+        }
+
+        public long getStartOffset(TimeUnit unit) {
+            return unit.convert(this.mStartOffsetNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * How long the initializer was ready to run but waited for a thread.
+         */
+        public long getWait(TimeUnit unit) {
+            return unit.convert(this.mWaitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public long getDuration(TimeUnit unit) {
+            return unit.convert(this.mDurationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public Throwable getError() {
+            return this.mError;
+        }
+
+        public String toString() {
+            return this.mName + " on " + this.mThreadName + " at " + getStartOffset(TimeUnit.MILLISECONDS) + " ms took " + getDuration(TimeUnit.MILLISECONDS) + " ms" + (this.mWaitNanos > 0 ? " after waiting " + getWait(TimeUnit.MILLISECONDS) + " ms" : "") + (this.mError != null ? " and failed" : "");
+        }
+    }
+
+    StartupTrace(long startNanos) {
+        this.mStartNanos = startNanos;
+    }
+
+    synchronized Entry add(String name, String threadName, long startNanos, long waitNanos, long durationNanos, Throwable error) {
+        Entry entry = new Entry(name, threadName, startNanos - this.mStartNanos, waitNanos, durationNanos, error);
+        this.mEntries.add(entry);
+        return entry;
+    }
+
+    synchronized void setCriticalPathEnd(long endNanos) {
+        this.mCriticalPathNanos = endNanos - this.mStartNanos;
+    }
+
+    public synchronized List<Entry> getEntries() {
+        return Collections.unmodifiableList(new ArrayList(this.mEntries));
+    }
+
+    public synchronized Entry getEntry(String name) {
+        for (Entry entry : this.mEntries) {
+            if (entry.mName.equals(name)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Time from the start of the application until every critical initializer finished, or -1
+     * while startup is still running.
+     */
+    public synchronized long getCriticalPath(TimeUnit unit) {
+        if (this.mCriticalPathNanos < 0) {
+            return -1;
+        }
+        return unit.convert(this.mCriticalPathNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder("Critical path ").append(getCriticalPath(TimeUnit.MILLISECONDS)).append(" ms");
+        for (Entry entry : this.mEntries) {
+            builder.append("\n  ").append(entry);
+        }
+        return builder.toString();
+    }
+}
@@ -6,6 +6,7 @@ import com.coinbase.android.ActivityScope;
 import com.coinbase.android.BackgroundScheduler;
 import com.coinbase.android.ComponentProvider;
 import com.coinbase.android.accounts.AccountUpdatedConnector;
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.db.AccountORM;
 import com.coinbase.android.db.DatabaseManager;
 import com.coinbase.android.ui.MainScheduler;
@@ -15,7 +16,6 @@ import com.coinbase.api.LoginManager;
 import com.coinbase.v2.models.account.Account;
 import com.coinbase.v2.models.account.Data;
 import com.coinbase.v2.models.price.Price;
-import java.util.HashMap;
 import javax.inject.Inject;
 import org.joda.money.CurrencyUnit;
 import retrofit2.Response;
@@ -38,6 +38,8 @@ public class FetchAccountTask {
     Scheduler mMainScheduler;
     @Inject
     MoneyFormatterUtil mMoneyFormatterUtil;
+    @Inject
+    SpotPriceService mSpotPriceService;
 
     public FetchAccountTask(Context context) {
         ((ComponentProvider) context.getApplicationContext()).applicationComponent().tasksSubcomponent().inject(this);
@@ -80,7 +82,7 @@ public class FetchAccountTask {
     private void fetchCryptoAccount(Data mSelectedAccount) {
         CurrencyUnit currencyUnit = this.mLoginManager.getCurrencyUnit();
         if (currencyUnit != null) {
-            Observable.combineLatest(this.mLoginManager.getClient().getAccountRx(mSelectedAccount.getId()), this.mLoginManager.getClient().getSpotPriceRx(mSelectedAccount.getCurrency().getCode(), currencyUnit.getCurrencyCode(), new HashMap()), FetchAccountTask$$Lambda$4.lambdaFactory$()).map(FetchAccountTask$$Lambda$5.lambdaFactory$(this)).subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).subscribe(FetchAccountTask$$Lambda$6.lambdaFactory$(this), FetchAccountTask$$Lambda$7.lambdaFactory$(this));
+            Observable.combineLatest(this.mLoginManager.getClient().getAccountRx(mSelectedAccount.getId()), this.mSpotPriceService.getSpotPrice(mSelectedAccount.getCurrency().getCode(), currencyUnit.getCurrencyCode()), FetchAccountTask$$Lambda$4.lambdaFactory$()).map(FetchAccountTask$$Lambda$5.lambdaFactory$(this)).subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).subscribe(FetchAccountTask$$Lambda$6.lambdaFactory$(this), FetchAccountTask$$Lambda$7.lambdaFactory$(this));
         }
     }
 
@@ -106,5 +108,6 @@ public class FetchAccountTask {
         } finally {
             this.mDbManager.closeDatabase();
         }
+        this.mLoginManager.onAccountUpdated(account);
     }
 }
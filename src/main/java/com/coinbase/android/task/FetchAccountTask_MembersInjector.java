@@ -1,6 +1,7 @@
 package com.coinbase.android.task;
 
 import com.coinbase.android.accounts.AccountUpdatedConnector;
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.db.DatabaseManager;
 import com.coinbase.android.utils.MoneyFormatterUtil;
 import com.coinbase.api.LoginManager;
@@ -15,18 +16,20 @@ public final class FetchAccountTask_MembersInjector implements MembersInjector<F
     private final Provider<LoginManager> mLoginManagerProvider;
     private final Provider<Scheduler> mMainSchedulerProvider;
     private final Provider<MoneyFormatterUtil> mMoneyFormatterUtilProvider;
+    private final Provider<SpotPriceService> mSpotPriceServiceProvider;
 
-    public FetchAccountTask_MembersInjector(Provider<DatabaseManager> mDbManagerProvider, Provider<LoginManager> mLoginManagerProvider, Provider<MoneyFormatterUtil> mMoneyFormatterUtilProvider, Provider<Scheduler> mMainSchedulerProvider, Provider<Scheduler> mBackgroundSchedulerProvider, Provider<AccountUpdatedConnector> mAccountUpdatedConnectorProvider) {
+    public FetchAccountTask_MembersInjector(Provider<DatabaseManager> mDbManagerProvider, Provider<LoginManager> mLoginManagerProvider, Provider<MoneyFormatterUtil> mMoneyFormatterUtilProvider, Provider<Scheduler> mMainSchedulerProvider, Provider<Scheduler> mBackgroundSchedulerProvider, Provider<AccountUpdatedConnector> mAccountUpdatedConnectorProvider, Provider<SpotPriceService> mSpotPriceServiceProvider) {
         this.mDbManagerProvider = mDbManagerProvider;
         this.mLoginManagerProvider = mLoginManagerProvider;
         this.mMoneyFormatterUtilProvider = mMoneyFormatterUtilProvider;
         this.mMainSchedulerProvider = mMainSchedulerProvider;
         this.mBackgroundSchedulerProvider = mBackgroundSchedulerProvider;
         this.mAccountUpdatedConnectorProvider = mAccountUpdatedConnectorProvider;
+        this.mSpotPriceServiceProvider = mSpotPriceServiceProvider;
     }
 
-    public static MembersInjector<FetchAccountTask> create(Provider<DatabaseManager> mDbManagerProvider, Provider<LoginManager> mLoginManagerProvider, Provider<MoneyFormatterUtil> mMoneyFormatterUtilProvider, Provider<Scheduler> mMainSchedulerProvider, Provider<Scheduler> mBackgroundSchedulerProvider, Provider<AccountUpdatedConnector> mAccountUpdatedConnectorProvider) {
-        return new FetchAccountTask_MembersInjector(mDbManagerProvider, mLoginManagerProvider, mMoneyFormatterUtilProvider, mMainSchedulerProvider, mBackgroundSchedulerProvider, mAccountUpdatedConnectorProvider);
+    public static MembersInjector<FetchAccountTask> create(Provider<DatabaseManager> mDbManagerProvider, Provider<LoginManager> mLoginManagerProvider, Provider<MoneyFormatterUtil> mMoneyFormatterUtilProvider, Provider<Scheduler> mMainSchedulerProvider, Provider<Scheduler> mBackgroundSchedulerProvider, Provider<AccountUpdatedConnector> mAccountUpdatedConnectorProvider, Provider<SpotPriceService> mSpotPriceServiceProvider) {
+        return new FetchAccountTask_MembersInjector(mDbManagerProvider, mLoginManagerProvider, mMoneyFormatterUtilProvider, mMainSchedulerProvider, mBackgroundSchedulerProvider, mAccountUpdatedConnectorProvider, mSpotPriceServiceProvider);
     }
 
     public void injectMembers(FetchAccountTask instance) {
@@ -36,6 +39,7 @@ public final class FetchAccountTask_MembersInjector implements MembersInjector<F
         injectMMainScheduler(instance, (Scheduler) this.mMainSchedulerProvider.get());
         injectMBackgroundScheduler(instance, (Scheduler) this.mBackgroundSchedulerProvider.get());
         injectMAccountUpdatedConnector(instance, (AccountUpdatedConnector) this.mAccountUpdatedConnectorProvider.get());
+        injectMSpotPriceService(instance, (SpotPriceService) this.mSpotPriceServiceProvider.get());
     }
 
     public static void injectMDbManager(FetchAccountTask instance, DatabaseManager mDbManager) {
@@ -61,4 +65,8 @@ public final class FetchAccountTask_MembersInjector implements MembersInjector<F
     public static void injectMAccountUpdatedConnector(FetchAccountTask instance, AccountUpdatedConnector mAccountUpdatedConnector) {
         instance.mAccountUpdatedConnector = mAccountUpdatedConnector;
     }
+
+    public static void injectMSpotPriceService(FetchAccountTask instance, SpotPriceService mSpotPriceService) {
+        instance.mSpotPriceService = mSpotPriceService;
+    }
 }
@@ -0,0 +1,25 @@
+package com.coinbase.android.task;
+
+import android.util.Pair;
+import java.util.List;
+import rx.functions.Func1;
+
+final /* synthetic */ class SyncAccountsTask$$Lambda$5 implements Func1 {
+    private final SyncAccountsTask arg$1;
+    private final List arg$2;
+    private final int arg$3;
+
+    private SyncAccountsTask$$Lambda$5(SyncAccountsTask syncAccountsTask, List list, int i) {
+        this.arg$1 = syncAccountsTask;
+        this.arg$2 = list;
+        this.arg$3 = i;
+    }
+
+    public static Func1 lambdaFactory$(SyncAccountsTask syncAccountsTask, List list, int i) {
+        return new SyncAccountsTask$$Lambda$5(syncAccountsTask, list, i);
+    }
+
+    public Object call(Object obj) {
+        return SyncAccountsTask.lambda$fetchAccountPages$4(this.arg$1, this.arg$2, this.arg$3, (Pair) obj);
+    }
+}
@@ -1,18 +1,20 @@
 package com.coinbase.android.task;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 import android.content.SharedPreferences.Editor;
 import android.database.sqlite.SQLiteDatabase;
 import android.preference.PreferenceManager;
+import android.text.TextUtils;
 import android.util.Pair;
 import com.coinbase.android.ActivityScope;
 import com.coinbase.android.BackgroundScheduler;
 import com.coinbase.android.ComponentProvider;
 import com.coinbase.android.Constants;
 import com.coinbase.android.Log;
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.db.AccountORM;
 import com.coinbase.android.db.DatabaseManager;
+import com.coinbase.android.settings.AccountsDiff;
 import com.coinbase.android.settings.AccountsUpdatedConnector;
 import com.coinbase.android.ui.MainScheduler;
 import com.coinbase.android.utils.AccountUtils;
@@ -20,13 +22,18 @@ import com.coinbase.android.utils.MoneyFormatterUtil;
 import com.coinbase.api.LoginManager;
 import com.coinbase.api.internal.ApiConstants;
 import com.coinbase.v2.models.account.Accounts;
+import com.coinbase.v2.models.account.Balance;
+import com.coinbase.v2.models.account.Currency;
 import com.coinbase.v2.models.account.Data;
+import com.coinbase.v2.models.account.NativeBalance;
 import com.coinbase.v2.models.price.Prices;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
 import retrofit2.Response;
+import retrofit2.Retrofit;
 import rx.Observable;
 import rx.Scheduler;
 
@@ -48,6 +55,8 @@ public class SyncAccountsTask {
     Scheduler mMainScheduler;
     @Inject
     MoneyFormatterUtil mMoneyFormatterUtil;
+    @Inject
+    SpotPriceService mSpotPriceService;
 
     public interface SyncAccountsListener {
         void onException();
@@ -79,9 +88,7 @@ public class SyncAccountsTask {
             if (this.mListener != null) {
                 this.mListener.onPreExecute();
             }
-            HashMap<String, Object> options = new HashMap();
-            options.put(ApiConstants.LIMIT, Integer.valueOf(100));
-            Observable.combineLatest(this.loginManager.getClient().getAccountsRx(options), this.loginManager.getClient().getSpotPricesRx(this.loginManager.getCurrencyUnit().getCurrencyCode(), new HashMap()), SyncAccountsTask$$Lambda$1.lambdaFactory$()).map(SyncAccountsTask$$Lambda$2.lambdaFactory$(this)).subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).subscribe(SyncAccountsTask$$Lambda$3.lambdaFactory$(this), SyncAccountsTask$$Lambda$4.lambdaFactory$(this));
+            Observable.combineLatest(fetchAccountPages(null, new ArrayList(), 0), this.mSpotPriceService.getSpotPrices(this.loginManager.getCurrencyUnit().getCurrencyCode()), SyncAccountsTask$$Lambda$1.lambdaFactory$()).map(SyncAccountsTask$$Lambda$2.lambdaFactory$(this)).subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).subscribe(SyncAccountsTask$$Lambda$3.lambdaFactory$(this), SyncAccountsTask$$Lambda$4.lambdaFactory$(this));
         }
     }
 
@@ -102,6 +109,30 @@ public class SyncAccountsTask {
         }
     }
 
+    private Observable<Pair<Response<Accounts>, Retrofit>> fetchAccountPages(String startingAfter, List<Data> accounts, int pageCount) {
+        HashMap<String, Object> options = new HashMap();
+        options.put(ApiConstants.LIMIT, Integer.valueOf(100));
+        options.put(ApiConstants.STARTING_AFTER, startingAfter);
+        return this.loginManager.getClient().getAccountsRx(options).flatMap(SyncAccountsTask$$Lambda$5.lambdaFactory$(this, accounts, pageCount));
+    }
+
+    static /* synthetic */ Observable lambda$fetchAccountPages$4(SyncAccountsTask this_, List accounts, int pageCount, Pair pair) {
+        Response<Accounts> response = pair.first;
+        if (!response.isSuccessful() || response.body() == null) {
+            return Observable.just(pair);
+        }
+        Accounts page = (Accounts) response.body();
+        List<Data> pageAccounts = page.getData();
+        if (pageAccounts != null) {
+            accounts.addAll(pageAccounts);
+        }
+        if (pageAccounts == null || pageAccounts.isEmpty() || page.getPagination() == null || page.getPagination().getNextUri() == null || pageCount + 1 >= 50) {
+            page.setData(accounts);
+            return Observable.just(pair);
+        }
+        return this_.fetchAccountPages(((Data) pageAccounts.get(pageAccounts.size() - 1)).getId(), accounts, pageCount + 1);
+    }
+
     void reconcileAccountNativeBalance(Response<Accounts> accountResponse, Response<Prices> spotPricesResponse) {
         if (accountResponse != null && spotPricesResponse != null) {
             List<Data> accountList = ((Accounts) accountResponse.body()).getData();
@@ -123,69 +154,106 @@ public class SyncAccountsTask {
     }
 
     private void updateDataBase(Response<Accounts> response) {
-        SharedPreferences prefs = PreferenceManager.getDefaultSharedPreferences(this.context);
-        Editor e = prefs.edit();
         List<Data> responseAccounts = ((Accounts) response.body()).getData();
-        List<Data> savedAccounts = this.loginManager.getAccounts();
-        SQLiteDatabase db = this.dbManager.openDatabase();
+        if (responseAccounts == null) {
+            responseAccounts = new ArrayList();
+        }
+        Map<String, Data> savedAccounts = new HashMap();
+        for (Data account : this.loginManager.getAccounts()) {
+            savedAccounts.put(account.getId(), account);
+        }
+        List<Data> added = new ArrayList();
+        List<Data> changed = new ArrayList();
         Data activeAccount = null;
-        AccountUtils.setIfEthAccountsExists(responseAccounts, prefs);
-        boolean foundPrimaryAccount = false;
-        try {
-            for (Data account : savedAccounts) {
-                Data remoteAccount = popAccountInList(responseAccounts, account.getId());
-                if (remoteAccount != null) {
-                    AccountORM.update(db, remoteAccount);
-                    if (remoteAccount.getPrimary().booleanValue()) {
-                        activeAccount = remoteAccount;
-                        e.putString(Constants.KEY_ACTIVE_ACCOUNT_ID, remoteAccount.getId());
-                        if (account.getNativeBalance() != null) {
-                            e.putString(Constants.KEY_ACCOUNT_NATIVE_CURRENCY, remoteAccount.getNativeBalance().getCurrency());
-                        }
-                        e.putBoolean(Constants.KEY_ACCOUNT_VALID, true);
-                        e.apply();
-                        foundPrimaryAccount = true;
-                    }
-                } else {
-                    AccountORM.delete(db, account);
+        for (Data remoteAccount : responseAccounts) {
+            Data savedAccount = (Data) savedAccounts.remove(remoteAccount.getId());
+            if (savedAccount != null) {
+                if (isAccountChanged(savedAccount, remoteAccount)) {
+                    changed.add(remoteAccount);
                 }
+            } else if (remoteAccount.getActive().booleanValue()) {
+                added.add(remoteAccount);
             }
-            if (responseAccounts != null) {
-                for (Data account2 : responseAccounts) {
-                    if (account2.getActive().booleanValue()) {
-                        AccountORM.insert(db, account2);
-                        if (account2.getPrimary().booleanValue()) {
-                            activeAccount = account2;
-                            e.putString(Constants.KEY_ACTIVE_ACCOUNT_ID, account2.getId());
-                            if (account2.getNativeBalance() != null) {
-                                e.putString(Constants.KEY_ACCOUNT_NATIVE_CURRENCY, account2.getNativeBalance().getCurrency());
-                            }
-                            foundPrimaryAccount = true;
-                        }
-                        e.apply();
-                    }
-                }
-                if (!foundPrimaryAccount) {
-                    Log.e("SyncAccountsTask", "Could not find primary account");
-                }
-                this.dbManager.closeDatabase();
-                this.mAccountsUpdatedConnector.get().onNext(activeAccount);
+            if ((savedAccount != null || remoteAccount.getActive().booleanValue()) && remoteAccount.getPrimary().booleanValue()) {
+                activeAccount = remoteAccount;
+            }
+        }
+        List<Data> removed = new ArrayList(savedAccounts.values());
+        SQLiteDatabase db = this.dbManager.openDatabase();
+        try {
+            db.beginTransaction();
+            for (Data removedAccount : removed) {
+                AccountORM.delete(db, removedAccount);
             }
+            for (Data changedAccount : changed) {
+                AccountORM.update(db, changedAccount);
+            }
+            for (Data addedAccount : added) {
+                AccountORM.insert(db, addedAccount);
+            }
+            db.setTransactionSuccessful();
         } finally {
+            db.endTransaction();
             this.dbManager.closeDatabase();
-            this.mAccountsUpdatedConnector.get().onNext(activeAccount);
         }
+        this.loginManager.onAccountsSynced(added, changed, removed);
+        Editor e = PreferenceManager.getDefaultSharedPreferences(this.context).edit();
+        AccountUtils.setIfEthAccountsExists(responseAccounts, e);
+        if (activeAccount != null) {
+            this.loginManager.setActiveAccountId(activeAccount.getId());
+            if (activeAccount.getNativeBalance() != null) {
+                e.putString(Constants.KEY_ACCOUNT_NATIVE_CURRENCY, activeAccount.getNativeBalance().getCurrency());
+            }
+            e.putBoolean(Constants.KEY_ACCOUNT_VALID, true);
+        } else {
+            Log.e("SyncAccountsTask", "Could not find primary account");
+        }
+        e.apply();
+        this.mAccountsUpdatedConnector.get().onNext(new AccountsDiff(added, removed, changed, activeAccount));
     }
 
-    private Data popAccountInList(List<Data> accounts, String accountId) {
-        if (accounts != null) {
-            for (Data account : accounts) {
-                if (account.getId().equals(accountId)) {
-                    accounts.remove(account);
-                    return account;
-                }
-            }
+    private boolean isAccountChanged(Data savedAccount, Data remoteAccount) {
+        if (!TextUtils.equals(savedAccount.getName(), remoteAccount.getName()) || savedAccount.getType() != remoteAccount.getType()) {
+            return true;
+        }
+        if (isBalanceChanged(savedAccount.getBalance(), remoteAccount.getBalance())) {
+            return true;
+        }
+        if (isNativeBalanceChanged(savedAccount.getNativeBalance(), remoteAccount.getNativeBalance())) {
+            return true;
+        }
+        return isCurrencyChanged(savedAccount.getCurrency(), remoteAccount.getCurrency());
+    }
+
+    private static boolean isBalanceChanged(Balance saved, Balance remote) {
+        if (saved == null || remote == null) {
+            return saved != remote;
+        }
+        return !(TextUtils.equals(saved.getAmount(), remote.getAmount()) && TextUtils.equals(saved.getCurrency(), remote.getCurrency()));
+    }
+
+    private static boolean isNativeBalanceChanged(NativeBalance saved, NativeBalance remote) {
+        if (saved == null || remote == null) {
+            return saved != remote;
+        }
+        return !(TextUtils.equals(saved.getAmount(), remote.getAmount()) && TextUtils.equals(saved.getCurrency(), remote.getCurrency()));
+    }
+
+    private static boolean isCurrencyChanged(Currency saved, Currency remote) {
+        if (saved == null || remote == null) {
+            return saved != remote;
+        }
+        String savedImage = saved.getImage() == null ? null : saved.getImage().getUrl();
+        String remoteImage = remote.getImage() == null ? null : remote.getImage().getUrl();
+        // AccountORM reads a missing exponent back as 0.
+        int savedExponent = saved.getExponent() == null ? 0 : saved.getExponent().intValue();
+        int remoteExponent = remote.getExponent() == null ? 0 : remote.getExponent().intValue();
+        if (savedExponent != remoteExponent) {
+            return true;
+        }
+        if (TextUtils.equals(saved.getCode(), remote.getCode()) && TextUtils.equals(saved.getName(), remote.getName()) && TextUtils.equals(saved.getColor(), remote.getColor()) && TextUtils.equals(savedImage, remoteImage)) {
+            return false;
         }
-        return null;
+        return true;
     }
 }
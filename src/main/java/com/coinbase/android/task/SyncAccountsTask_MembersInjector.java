@@ -1,5 +1,6 @@
 package com.coinbase.android.task;
 
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.db.DatabaseManager;
 import com.coinbase.android.settings.AccountsUpdatedConnector;
 import com.coinbase.android.utils.MoneyFormatterUtil;
@@ -15,18 +16,20 @@ public final class SyncAccountsTask_MembersInjector implements MembersInjector<S
     private final Provider<Scheduler> mBackgroundSchedulerProvider;
     private final Provider<Scheduler> mMainSchedulerProvider;
     private final Provider<MoneyFormatterUtil> mMoneyFormatterUtilProvider;
+    private final Provider<SpotPriceService> mSpotPriceServiceProvider;
 
-    public SyncAccountsTask_MembersInjector(Provider<DatabaseManager> dbManagerProvider, Provider<AccountsUpdatedConnector> mAccountsUpdatedConnectorProvider, Provider<LoginManager> loginManagerProvider, Provider<MoneyFormatterUtil> mMoneyFormatterUtilProvider, Provider<Scheduler> mMainSchedulerProvider, Provider<Scheduler> mBackgroundSchedulerProvider) {
+    public SyncAccountsTask_MembersInjector(Provider<DatabaseManager> dbManagerProvider, Provider<AccountsUpdatedConnector> mAccountsUpdatedConnectorProvider, Provider<LoginManager> loginManagerProvider, Provider<MoneyFormatterUtil> mMoneyFormatterUtilProvider, Provider<Scheduler> mMainSchedulerProvider, Provider<Scheduler> mBackgroundSchedulerProvider, Provider<SpotPriceService> mSpotPriceServiceProvider) {
         this.dbManagerProvider = dbManagerProvider;
         this.mAccountsUpdatedConnectorProvider = mAccountsUpdatedConnectorProvider;
         this.loginManagerProvider = loginManagerProvider;
         this.mMoneyFormatterUtilProvider = mMoneyFormatterUtilProvider;
         this.mMainSchedulerProvider = mMainSchedulerProvider;
         this.mBackgroundSchedulerProvider = mBackgroundSchedulerProvider;
+        this.mSpotPriceServiceProvider = mSpotPriceServiceProvider;
     }
 
-    public static MembersInjector<SyncAccountsTask> create(Provider<DatabaseManager> dbManagerProvider, Provider<AccountsUpdatedConnector> mAccountsUpdatedConnectorProvider, Provider<LoginManager> loginManagerProvider, Provider<MoneyFormatterUtil> mMoneyFormatterUtilProvider, Provider<Scheduler> mMainSchedulerProvider, Provider<Scheduler> mBackgroundSchedulerProvider) {
-        return new SyncAccountsTask_MembersInjector(dbManagerProvider, mAccountsUpdatedConnectorProvider, loginManagerProvider, mMoneyFormatterUtilProvider, mMainSchedulerProvider, mBackgroundSchedulerProvider);
+    public static MembersInjector<SyncAccountsTask> create(Provider<DatabaseManager> dbManagerProvider, Provider<AccountsUpdatedConnector> mAccountsUpdatedConnectorProvider, Provider<LoginManager> loginManagerProvider, Provider<MoneyFormatterUtil> mMoneyFormatterUtilProvider, Provider<Scheduler> mMainSchedulerProvider, Provider<Scheduler> mBackgroundSchedulerProvider, Provider<SpotPriceService> mSpotPriceServiceProvider) {
+        return new SyncAccountsTask_MembersInjector(dbManagerProvider, mAccountsUpdatedConnectorProvider, loginManagerProvider, mMoneyFormatterUtilProvider, mMainSchedulerProvider, mBackgroundSchedulerProvider, mSpotPriceServiceProvider);
     }
 
     public void injectMembers(SyncAccountsTask instance) {
@@ -36,6 +39,7 @@ public final class SyncAccountsTask_MembersInjector implements MembersInjector<S
         injectMMoneyFormatterUtil(instance, (MoneyFormatterUtil) this.mMoneyFormatterUtilProvider.get());
         injectMMainScheduler(instance, (Scheduler) this.mMainSchedulerProvider.get());
         injectMBackgroundScheduler(instance, (Scheduler) this.mBackgroundSchedulerProvider.get());
+        injectMSpotPriceService(instance, (SpotPriceService) this.mSpotPriceServiceProvider.get());
     }
 
     public static void injectDbManager(SyncAccountsTask instance, DatabaseManager dbManager) {
@@ -61,4 +65,8 @@ public final class SyncAccountsTask_MembersInjector implements MembersInjector<S
     public static void injectMBackgroundScheduler(SyncAccountsTask instance, Scheduler mBackgroundScheduler) {
         instance.mBackgroundScheduler = mBackgroundScheduler;
     }
+
+    public static void injectMSpotPriceService(SyncAccountsTask instance, SpotPriceService mSpotPriceService) {
+        instance.mSpotPriceService = mSpotPriceService;
+    }
 }
@@ -1,20 +1,22 @@
 package com.coinbase.android.transactions;
 
-import android.util.Pair;
+import java.util.List;
 import rx.functions.Action1;
 
 final /* synthetic */ class TransactionListPresenter$$Lambda$5 implements Action1 {
     private final TransactionListPresenter arg$1;
+    private final int arg$2;
 
-    private TransactionListPresenter$$Lambda$5(TransactionListPresenter transactionListPresenter) {
+    private TransactionListPresenter$$Lambda$5(TransactionListPresenter transactionListPresenter, int i) {
         this.arg$1 = transactionListPresenter;
+        this.arg$2 = i;
     }
 
-    public static Action1 lambdaFactory$(TransactionListPresenter transactionListPresenter) {
-        return new TransactionListPresenter$$Lambda$5(transactionListPresenter);
+    public static Action1 lambdaFactory$(TransactionListPresenter transactionListPresenter, int i) {
+        return new TransactionListPresenter$$Lambda$5(transactionListPresenter, i);
     }
 
     public void call(Object obj) {
-        TransactionListPresenter.lambda$fetchTransactions$4(this.arg$1, (Pair) obj);
+        TransactionListPresenter.lambda$fetchTransactions$4(this.arg$1, this.arg$2, (List) obj);
     }
 }
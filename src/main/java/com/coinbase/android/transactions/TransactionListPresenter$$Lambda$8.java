@@ -1,6 +1,6 @@
 package com.coinbase.android.transactions;
 
-import android.util.Pair;
+import java.util.List;
 import rx.functions.Action1;
 
 final /* synthetic */ class TransactionListPresenter$$Lambda$8 implements Action1 {
@@ -15,6 +15,6 @@ final /* synthetic */ class TransactionListPresenter$$Lambda$8 implements Action
     }
 
     public void call(Object obj) {
-        this.arg$1.handleResponse(((Pair) obj).first);
+        TransactionListPresenter.lambda$fetchNextTransactions$7(this.arg$1, (List) obj);
     }
 }
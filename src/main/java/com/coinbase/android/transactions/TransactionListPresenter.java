@@ -2,29 +2,25 @@ package com.coinbase.android.transactions;
 
 import android.app.Application;
 import android.content.Context;
-import android.database.sqlite.SQLiteDatabase;
-import android.util.Pair;
 import com.coinbase.android.BackgroundScheduler;
 import com.coinbase.android.ControllerScope;
 import com.coinbase.android.R;
 import com.coinbase.android.db.DatabaseManager;
-import com.coinbase.android.db.TransactionORM;
 import com.coinbase.android.ui.MainScheduler;
 import com.coinbase.android.ui.RefreshRequestedConnector;
 import com.coinbase.android.ui.SnackBarWrapper;
 import com.coinbase.android.utils.Utils;
 import com.coinbase.api.LoginManager;
-import com.coinbase.api.internal.ApiConstants;
 import com.coinbase.v2.models.account.Data;
-import com.coinbase.v2.models.transactions.Transactions;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
-import retrofit2.Response;
+import retrofit2.adapter.rxjava.HttpException;
 import rx.Observable;
 import rx.Scheduler;
+import rx.exceptions.Exceptions;
 import rx.subscriptions.CompositeSubscription;
 
 @ControllerScope
@@ -33,20 +29,22 @@ public class TransactionListPresenter {
     private final Scheduler mBackgroundScheduler;
     private final Context mContext;
     private final DatabaseManager mDbManager;
+    private boolean mHasMoreTransactions = false;
     private final LoginManager mLoginManager;
     private final Scheduler mMainScheduler;
-    private String mNextUri = null;
     private final RefreshRequestedConnector mRefreshRequestedConnector;
+    private boolean mRetryLoadMore = false;
     private final TransactionListScreen mScreen;
     private Data mSelectedAccount;
     private final SnackBarWrapper mSnackBarWrapper;
     private final CompositeSubscription mSubscription = new CompositeSubscription();
     private final TransactionDetailButtonConnector mTransactionDetailButtonConnector;
     private List<com.coinbase.v2.models.transactions.Data> mTransactionList = new ArrayList();
+    private final TransactionSyncEngine mTransactionSyncEngine;
     private int retryCount;
 
     @Inject
-    public TransactionListPresenter(LoginManager loginManager, DatabaseManager dbManager, TransactionListScreen screen, Application application, SnackBarWrapper snackBarWrapper, RefreshRequestedConnector refreshRequestedConnector, TransactionDetailButtonConnector transactionDetailButtonConector, @MainScheduler Scheduler mainScheduler, @BackgroundScheduler Scheduler backgroundScheduler) {
+    public TransactionListPresenter(LoginManager loginManager, DatabaseManager dbManager, TransactionListScreen screen, Application application, SnackBarWrapper snackBarWrapper, RefreshRequestedConnector refreshRequestedConnector, TransactionDetailButtonConnector transactionDetailButtonConector, @MainScheduler Scheduler mainScheduler, @BackgroundScheduler Scheduler backgroundScheduler, TransactionSyncEngine transactionSyncEngine) {
         this.mLoginManager = loginManager;
         this.mDbManager = dbManager;
         this.mScreen = screen;
@@ -56,6 +54,7 @@ public class TransactionListPresenter {
         this.mTransactionDetailButtonConnector = transactionDetailButtonConector;
         this.mMainScheduler = mainScheduler;
         this.mBackgroundScheduler = backgroundScheduler;
+        this.mTransactionSyncEngine = transactionSyncEngine;
     }
 
     void onInit() {
@@ -87,20 +86,19 @@ public class TransactionListPresenter {
     void loadTransactions() {
         if (this.mSelectedAccount != null && !this.isFetching) {
             startFetchingTransactions();
-            this.mNextUri = null;
             fetchTransactions();
         }
     }
 
     void loadMoreTransactions() {
-        if (this.mSelectedAccount != null && !this.isFetching && this.mNextUri != null) {
+        if (this.mSelectedAccount != null && !this.isFetching && this.mHasMoreTransactions && !this.mTransactionList.isEmpty()) {
             startFetchingTransactions();
             fetchNextTransactions();
         }
     }
 
     boolean canLoadMoreTransactions() {
-        return this.mNextUri != null;
+        return this.mHasMoreTransactions;
     }
 
     void onRefreshClicked() {
@@ -112,10 +110,10 @@ public class TransactionListPresenter {
     }
 
     private void retryTransactions() {
-        if (this.mNextUri == null) {
-            fetchTransactions();
-        } else {
+        if (this.mRetryLoadMore) {
             fetchNextTransactions();
+        } else {
+            fetchTransactions();
         }
     }
 
@@ -130,81 +128,49 @@ public class TransactionListPresenter {
     }
 
     private void fetchTransactions() {
-        this.mSubscription.add(this.mLoginManager.getClient().getTransactionsRx(this.mSelectedAccount.getId(), null, Arrays.asList(new String[]{"from", "to", "buy", "sell", "request", "send", "transfer", ApiConstants.FIAT_DEPOSIT, ApiConstants.FIAT_WITHDRAWAL, ApiConstants.EXCHANGE_DEPOSIT, ApiConstants.EXCHANGE_WITHDRAWAL, ApiConstants.VAULT_WITHDRAWAL})).map(TransactionListPresenter$$Lambda$4.lambdaFactory$(this)).subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).subscribe(TransactionListPresenter$$Lambda$5.lambdaFactory$(this), TransactionListPresenter$$Lambda$6.lambdaFactory$(this)));
+        Observable<List<com.coinbase.v2.models.transactions.Data>> localTransactions;
+        this.mRetryLoadMore = false;
+        String accountId = this.mSelectedAccount.getId();
+        int limit = Math.max(this.mTransactionList.size(), TransactionSyncEngine.PAGE_SIZE);
+        if (this.mTransactionList.isEmpty()) {
+            localTransactions = this.mTransactionSyncEngine.getLocalTransactions(accountId, null, null, limit).filter(TransactionListPresenter$$Lambda$4.lambdaFactory$());
+        } else {
+            localTransactions = Observable.empty();
+        }
+        this.mSubscription.add(Observable.concat(Arrays.asList(new Observable[]{localTransactions, this.mTransactionSyncEngine.refresh(accountId, limit)})).subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).subscribe(TransactionListPresenter$$Lambda$5.lambdaFactory$(this, limit), TransactionListPresenter$$Lambda$6.lambdaFactory$(this), TransactionListPresenter$$Lambda$7.lambdaFactory$(this)));
     }
 
-    static /* synthetic */ Pair lambda$fetchTransactions$3(TransactionListPresenter this_, Pair pair) {
-        Response<Transactions> response = pair.first;
-        if (response.isSuccessful()) {
-            this_.clearTransactionsORM();
-            this_.updateTransactionsORM(((Transactions) response.body()).getData());
-        }
-        return pair;
+    static /* synthetic */ Boolean lambda$fetchTransactions$3(List transactions) {
+        return Boolean.valueOf(!transactions.isEmpty());
     }
 
-    static /* synthetic */ void lambda$fetchTransactions$4(TransactionListPresenter this_, Pair pair) {
-        Response<Transactions> response = pair.first;
-        if (response.isSuccessful()) {
-            this_.mTransactionList.clear();
-        }
-        this_.handleResponse(response);
+    static /* synthetic */ void lambda$fetchTransactions$4(TransactionListPresenter this_, int limit, List transactions) {
+        this_.retryCount = 0;
+        this_.mTransactionList.clear();
+        this_.mTransactionList.addAll(transactions);
+        this_.mHasMoreTransactions = transactions.size() >= limit || !this_.mTransactionSyncEngine.isHistoryComplete(this_.mSelectedAccount.getId());
+        this_.mScreen.notifyDataSetChanged();
     }
 
-    private void fetchNextTransactions() {
-        this.mSubscription.add(this.mLoginManager.getClient().getNextTransactionsRx(this.mNextUri).map(TransactionListPresenter$$Lambda$7.lambdaFactory$(this)).subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).subscribe(TransactionListPresenter$$Lambda$8.lambdaFactory$(this), TransactionListPresenter$$Lambda$9.lambdaFactory$(this)));
+    static /* synthetic */ void lambda$fetchTransactions$6(TransactionListPresenter this_) {
+        this_.fetchingTransactionsComplete();
+        this_.mTransactionSyncEngine.scheduleBackfill(this_.mSelectedAccount.getId());
     }
 
-    static /* synthetic */ Pair lambda$fetchNextTransactions$6(TransactionListPresenter this_, Pair pair) {
-        Response<Transactions> response = pair.first;
-        if (response.isSuccessful()) {
-            this_.updateTransactionsORM(((Transactions) response.body()).getData());
-        }
-        return pair;
-    }
-
-    private void updateTransactionsORM(List<com.coinbase.v2.models.transactions.Data> transactions) {
-        SQLiteDatabase db = this.mDbManager.openDatabase();
-        try {
-            db.beginTransaction();
-            if (transactions != null) {
-                for (com.coinbase.v2.models.transactions.Data transaction : transactions) {
-                    TransactionORM.insertOrUpdate(db, this.mSelectedAccount.getId(), transaction);
-                }
-            }
-            db.setTransactionSuccessful();
-        } finally {
-            db.endTransaction();
-            this.mDbManager.closeDatabase();
-        }
+    private void fetchNextTransactions() {
+        this.mRetryLoadMore = true;
+        com.coinbase.v2.models.transactions.Data oldest = (com.coinbase.v2.models.transactions.Data) this.mTransactionList.get(this.mTransactionList.size() - 1);
+        this.mSubscription.add(this.mTransactionSyncEngine.loadOlder(this.mSelectedAccount.getId(), oldest.getCreatedAt(), oldest.getId(), TransactionSyncEngine.PAGE_SIZE).subscribeOn(this.mBackgroundScheduler).observeOn(this.mMainScheduler).subscribe(TransactionListPresenter$$Lambda$8.lambdaFactory$(this), TransactionListPresenter$$Lambda$9.lambdaFactory$(this), TransactionListPresenter$$Lambda$10.lambdaFactory$(this)));
     }
 
-    private void clearTransactionsORM() {
-        SQLiteDatabase db = this.mDbManager.openDatabase();
-        db.beginTransaction();
-        TransactionORM.clear(db, this.mSelectedAccount.getId());
-        db.setTransactionSuccessful();
-        db.endTransaction();
-        this.mDbManager.closeDatabase();
-    }
-
-    private void handleResponse(Response<Transactions> response) {
-        if (response.isSuccessful()) {
-            this.retryCount = 0;
-            this.mTransactionList.addAll(((Transactions) response.body()).getData());
-            if (((Transactions) response.body()).getPagination() != null) {
-                this.mNextUri = ((Transactions) response.body()).getPagination().getNextUri();
-            } else {
-                this.mNextUri = null;
-            }
-            this.mScreen.notifyDataSetChanged();
-        } else {
-            this.mSubscription.add(Observable.timer(500, TimeUnit.MILLISECONDS).observeOn(this.mMainScheduler).subscribe(TransactionListPresenter$$Lambda$10.lambdaFactory$(this)));
-            showErrorMessage();
-        }
-        fetchingTransactionsComplete();
+    static /* synthetic */ void lambda$fetchNextTransactions$7(TransactionListPresenter this_, List transactions) {
+        this_.retryCount = 0;
+        this_.mTransactionList.addAll(transactions);
+        this_.mHasMoreTransactions = transactions.size() >= TransactionSyncEngine.PAGE_SIZE || !this_.mTransactionSyncEngine.isHistoryComplete(this_.mSelectedAccount.getId());
+        this_.mScreen.notifyDataSetChanged();
     }
 
-    static /* synthetic */ void lambda$handleResponse$9(TransactionListPresenter this_, Long t) {
+    static /* synthetic */ void lambda$handleErrorResponse$10(TransactionListPresenter this_, Long t) {
         if (this_.retryCount < 3) {
             this_.retryCount++;
             this_.retryTransactions();
@@ -212,7 +178,10 @@ public class TransactionListPresenter {
     }
 
     private void handleErrorResponse(Throwable throwable) {
-        if (!(throwable == null || throwable.getMessage().equalsIgnoreCase("Canceled"))) {
+        if (Exceptions.getFinalCause(throwable) instanceof HttpException) {
+            this.mSubscription.add(Observable.timer(500, TimeUnit.MILLISECONDS).observeOn(this.mMainScheduler).subscribe(TransactionListPresenter$$Lambda$11.lambdaFactory$(this)));
+            showErrorMessage();
+        } else if (!(throwable == null || throwable.getMessage().equalsIgnoreCase("Canceled"))) {
             showErrorMessage();
         }
         fetchingTransactionsComplete();
@@ -19,8 +19,9 @@ public final class TransactionListPresenter_Factory implements Factory<Transacti
     private final Provider<TransactionListScreen> screenProvider;
     private final Provider<SnackBarWrapper> snackBarWrapperProvider;
     private final Provider<TransactionDetailButtonConnector> transactionDetailButtonConectorProvider;
+    private final Provider<TransactionSyncEngine> transactionSyncEngineProvider;
 
-    public TransactionListPresenter_Factory(Provider<LoginManager> loginManagerProvider, Provider<DatabaseManager> dbManagerProvider, Provider<TransactionListScreen> screenProvider, Provider<Application> applicationProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<RefreshRequestedConnector> refreshRequestedConnectorProvider, Provider<TransactionDetailButtonConnector> transactionDetailButtonConectorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+    public TransactionListPresenter_Factory(Provider<LoginManager> loginManagerProvider, Provider<DatabaseManager> dbManagerProvider, Provider<TransactionListScreen> screenProvider, Provider<Application> applicationProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<RefreshRequestedConnector> refreshRequestedConnectorProvider, Provider<TransactionDetailButtonConnector> transactionDetailButtonConectorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<TransactionSyncEngine> transactionSyncEngineProvider) {
         this.loginManagerProvider = loginManagerProvider;
         this.dbManagerProvider = dbManagerProvider;
         this.screenProvider = screenProvider;
@@ -30,21 +31,22 @@ public final class TransactionListPresenter_Factory implements Factory<Transacti
         this.transactionDetailButtonConectorProvider = transactionDetailButtonConectorProvider;
         this.mainSchedulerProvider = mainSchedulerProvider;
         this.backgroundSchedulerProvider = backgroundSchedulerProvider;
+        this.transactionSyncEngineProvider = transactionSyncEngineProvider;
     }
 
     public TransactionListPresenter get() {
-        return provideInstance(this.loginManagerProvider, this.dbManagerProvider, this.screenProvider, this.applicationProvider, this.snackBarWrapperProvider, this.refreshRequestedConnectorProvider, this.transactionDetailButtonConectorProvider, this.mainSchedulerProvider, this.backgroundSchedulerProvider);
+        return provideInstance(this.loginManagerProvider, this.dbManagerProvider, this.screenProvider, this.applicationProvider, this.snackBarWrapperProvider, this.refreshRequestedConnectorProvider, this.transactionDetailButtonConectorProvider, this.mainSchedulerProvider, this.backgroundSchedulerProvider, this.transactionSyncEngineProvider);
     }
 
-    public static TransactionListPresenter provideInstance(Provider<LoginManager> loginManagerProvider, Provider<DatabaseManager> dbManagerProvider, Provider<TransactionListScreen> screenProvider, Provider<Application> applicationProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<RefreshRequestedConnector> refreshRequestedConnectorProvider, Provider<TransactionDetailButtonConnector> transactionDetailButtonConectorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
-        return new TransactionListPresenter((LoginManager) loginManagerProvider.get(), (DatabaseManager) dbManagerProvider.get(), (TransactionListScreen) screenProvider.get(), (Application) applicationProvider.get(), (SnackBarWrapper) snackBarWrapperProvider.get(), (RefreshRequestedConnector) refreshRequestedConnectorProvider.get(), (TransactionDetailButtonConnector) transactionDetailButtonConectorProvider.get(), (Scheduler) mainSchedulerProvider.get(), (Scheduler) backgroundSchedulerProvider.get());
+    public static TransactionListPresenter provideInstance(Provider<LoginManager> loginManagerProvider, Provider<DatabaseManager> dbManagerProvider, Provider<TransactionListScreen> screenProvider, Provider<Application> applicationProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<RefreshRequestedConnector> refreshRequestedConnectorProvider, Provider<TransactionDetailButtonConnector> transactionDetailButtonConectorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<TransactionSyncEngine> transactionSyncEngineProvider) {
+        return new TransactionListPresenter((LoginManager) loginManagerProvider.get(), (DatabaseManager) dbManagerProvider.get(), (TransactionListScreen) screenProvider.get(), (Application) applicationProvider.get(), (SnackBarWrapper) snackBarWrapperProvider.get(), (RefreshRequestedConnector) refreshRequestedConnectorProvider.get(), (TransactionDetailButtonConnector) transactionDetailButtonConectorProvider.get(), (Scheduler) mainSchedulerProvider.get(), (Scheduler) backgroundSchedulerProvider.get(), (TransactionSyncEngine) transactionSyncEngineProvider.get());
     }
 
-    public static TransactionListPresenter_Factory create(Provider<LoginManager> loginManagerProvider, Provider<DatabaseManager> dbManagerProvider, Provider<TransactionListScreen> screenProvider, Provider<Application> applicationProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<RefreshRequestedConnector> refreshRequestedConnectorProvider, Provider<TransactionDetailButtonConnector> transactionDetailButtonConectorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
-        return new TransactionListPresenter_Factory(loginManagerProvider, dbManagerProvider, screenProvider, applicationProvider, snackBarWrapperProvider, refreshRequestedConnectorProvider, transactionDetailButtonConectorProvider, mainSchedulerProvider, backgroundSchedulerProvider);
+    public static TransactionListPresenter_Factory create(Provider<LoginManager> loginManagerProvider, Provider<DatabaseManager> dbManagerProvider, Provider<TransactionListScreen> screenProvider, Provider<Application> applicationProvider, Provider<SnackBarWrapper> snackBarWrapperProvider, Provider<RefreshRequestedConnector> refreshRequestedConnectorProvider, Provider<TransactionDetailButtonConnector> transactionDetailButtonConectorProvider, Provider<Scheduler> mainSchedulerProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<TransactionSyncEngine> transactionSyncEngineProvider) {
+        return new TransactionListPresenter_Factory(loginManagerProvider, dbManagerProvider, screenProvider, applicationProvider, snackBarWrapperProvider, refreshRequestedConnectorProvider, transactionDetailButtonConectorProvider, mainSchedulerProvider, backgroundSchedulerProvider, transactionSyncEngineProvider);
     }
 
-    public static TransactionListPresenter newTransactionListPresenter(LoginManager loginManager, DatabaseManager dbManager, TransactionListScreen screen, Application application, SnackBarWrapper snackBarWrapper, RefreshRequestedConnector refreshRequestedConnector, TransactionDetailButtonConnector transactionDetailButtonConector, Scheduler mainScheduler, Scheduler backgroundScheduler) {
-        return new TransactionListPresenter(loginManager, dbManager, screen, application, snackBarWrapper, refreshRequestedConnector, transactionDetailButtonConector, mainScheduler, backgroundScheduler);
+    public static TransactionListPresenter newTransactionListPresenter(LoginManager loginManager, DatabaseManager dbManager, TransactionListScreen screen, Application application, SnackBarWrapper snackBarWrapper, RefreshRequestedConnector refreshRequestedConnector, TransactionDetailButtonConnector transactionDetailButtonConector, Scheduler mainScheduler, Scheduler backgroundScheduler, TransactionSyncEngine transactionSyncEngine) {
+        return new TransactionListPresenter(loginManager, dbManager, screen, application, snackBarWrapper, refreshRequestedConnector, transactionDetailButtonConector, mainScheduler, backgroundScheduler, transactionSyncEngine);
     }
 }
@@ -0,0 +1,25 @@
+package com.coinbase.android.transactions;
+
+import rx.functions.Func1;
+
+final /* synthetic */ class TransactionSyncEngine$$Lambda$1 implements Func1 {
+    private final TransactionSyncEngine arg$1;
+    private final String arg$2;
+    private final String arg$3;
+    private final int arg$4;
+
+    private TransactionSyncEngine$$Lambda$1(TransactionSyncEngine transactionSyncEngine, String str, String str2, int i) {
+        this.arg$1 = transactionSyncEngine;
+        this.arg$2 = str;
+        this.arg$3 = str2;
+        this.arg$4 = i;
+    }
+
+    public static Func1 lambdaFactory$(TransactionSyncEngine transactionSyncEngine, String str, String str2, int i) {
+        return new TransactionSyncEngine$$Lambda$1(transactionSyncEngine, str, str2, i);
+    }
+
+    public Object call(Object obj) {
+        return TransactionSyncEngine.lambda$getLocalTransactions$0(this.arg$1, this.arg$2, this.arg$3, this.arg$4, (String) obj);
+    }
+}
@@ -0,0 +1,18 @@
+package com.coinbase.android.transactions;
+
+import rx.functions.Func1;
+
+final /* synthetic */ class TransactionSyncEngine$$Lambda$10 implements Func1 {
+    private static final TransactionSyncEngine$$Lambda$10 instance = new TransactionSyncEngine$$Lambda$10();
+
+    private TransactionSyncEngine$$Lambda$10() {
+    }
+
+    public static Func1 lambdaFactory$() {
+        return instance;
+    }
+
+    public Object call(Object obj) {
+        return TransactionSyncEngine.lambda$recheckPending$9((Throwable) obj);
+    }
+}
@@ -0,0 +1,27 @@
+package com.coinbase.android.transactions;
+
+import com.coinbase.android.transactions.TransactionSyncEngine.RefreshState;
+import java.util.List;
+import rx.functions.Func1;
+
+final /* synthetic */ class TransactionSyncEngine$$Lambda$11 implements Func1 {
+    private final TransactionSyncEngine arg$1;
+    private final RefreshState arg$2;
+    private final List arg$3;
+    private final int arg$4;
+
+    private TransactionSyncEngine$$Lambda$11(TransactionSyncEngine transactionSyncEngine, RefreshState refreshState, List list, int i) {
+        this.arg$1 = transactionSyncEngine;
+        this.arg$2 = refreshState;
+        this.arg$3 = list;
+        this.arg$4 = i;
+    }
+
+    public static Func1 lambdaFactory$(TransactionSyncEngine transactionSyncEngine, RefreshState refreshState, List list, int i) {
+        return new TransactionSyncEngine$$Lambda$11(transactionSyncEngine, refreshState, list, i);
+    }
+
+    public Object call(Object obj) {
+        return TransactionSyncEngine.lambda$recheckPending$10(this.arg$1, this.arg$2, this.arg$3, this.arg$4, (Boolean) obj);
+    }
+}
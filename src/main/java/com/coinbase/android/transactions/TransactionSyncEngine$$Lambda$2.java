@@ -0,0 +1,21 @@
+package com.coinbase.android.transactions;
+
+import rx.functions.Func1;
+
+final /* synthetic */ class TransactionSyncEngine$$Lambda$2 implements Func1 {
+    private final TransactionSyncEngine arg$1;
+    private final int arg$2;
+
+    private TransactionSyncEngine$$Lambda$2(TransactionSyncEngine transactionSyncEngine, int i) {
+        this.arg$1 = transactionSyncEngine;
+        this.arg$2 = i;
+    }
+
+    public static Func1 lambdaFactory$(TransactionSyncEngine transactionSyncEngine, int i) {
+        return new TransactionSyncEngine$$Lambda$2(transactionSyncEngine, i);
+    }
+
+    public Object call(Object obj) {
+        return TransactionSyncEngine.lambda$refresh$1(this.arg$1, this.arg$2, (String) obj);
+    }
+}
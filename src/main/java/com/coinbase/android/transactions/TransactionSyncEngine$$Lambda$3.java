@@ -0,0 +1,23 @@
+package com.coinbase.android.transactions;
+
+import android.util.Pair;
+import com.coinbase.android.transactions.TransactionSyncEngine.RefreshState;
+import rx.functions.Func1;
+
+final /* synthetic */ class TransactionSyncEngine$$Lambda$3 implements Func1 {
+    private final TransactionSyncEngine arg$1;
+    private final RefreshState arg$2;
+
+    private TransactionSyncEngine$$Lambda$3(TransactionSyncEngine transactionSyncEngine, RefreshState refreshState) {
+        this.arg$1 = transactionSyncEngine;
+        this.arg$2 = refreshState;
+    }
+
+    public static Func1 lambdaFactory$(TransactionSyncEngine transactionSyncEngine, RefreshState refreshState) {
+        return new TransactionSyncEngine$$Lambda$3(transactionSyncEngine, refreshState);
+    }
+
+    public Object call(Object obj) {
+        return TransactionSyncEngine.lambda$fetchRefreshPage$2(this.arg$1, this.arg$2, (Pair) obj);
+    }
+}
@@ -0,0 +1,27 @@
+package com.coinbase.android.transactions;
+
+import rx.functions.Func1;
+
+final /* synthetic */ class TransactionSyncEngine$$Lambda$5 implements Func1 {
+    private final TransactionSyncEngine arg$1;
+    private final String arg$2;
+    private final String arg$3;
+    private final String arg$4;
+    private final int arg$5;
+
+    private TransactionSyncEngine$$Lambda$5(TransactionSyncEngine transactionSyncEngine, String str, String str2, String str3, int i) {
+        this.arg$1 = transactionSyncEngine;
+        this.arg$2 = str;
+        this.arg$3 = str2;
+        this.arg$4 = str3;
+        this.arg$5 = i;
+    }
+
+    public static Func1 lambdaFactory$(TransactionSyncEngine transactionSyncEngine, String str, String str2, String str3, int i) {
+        return new TransactionSyncEngine$$Lambda$5(transactionSyncEngine, str, str2, str3, i);
+    }
+
+    public Object call(Object obj) {
+        return TransactionSyncEngine.lambda$loadOlder$4(this.arg$1, this.arg$2, this.arg$3, this.arg$4, this.arg$5, (Boolean) obj);
+    }
+}
@@ -0,0 +1,24 @@
+package com.coinbase.android.transactions;
+
+import android.util.Pair;
+import rx.functions.Func1;
+
+final /* synthetic */ class TransactionSyncEngine$$Lambda$7 implements Func1 {
+    private final TransactionSyncEngine arg$1;
+    private final String arg$2;
+    private final int arg$3;
+
+    private TransactionSyncEngine$$Lambda$7(TransactionSyncEngine transactionSyncEngine, String str, int i) {
+        this.arg$1 = transactionSyncEngine;
+        this.arg$2 = str;
+        this.arg$3 = i;
+    }
+
+    public static Func1 lambdaFactory$(TransactionSyncEngine transactionSyncEngine, String str, int i) {
+        return new TransactionSyncEngine$$Lambda$7(transactionSyncEngine, str, i);
+    }
+
+    public Object call(Object obj) {
+        return TransactionSyncEngine.lambda$backfill$6(this.arg$1, this.arg$2, this.arg$3, (Pair) obj);
+    }
+}
@@ -0,0 +1,21 @@
+package com.coinbase.android.transactions;
+
+import rx.functions.Action1;
+
+final /* synthetic */ class TransactionSyncEngine$$Lambda$8 implements Action1 {
+    private final TransactionSyncEngine arg$1;
+    private final String arg$2;
+
+    private TransactionSyncEngine$$Lambda$8(TransactionSyncEngine transactionSyncEngine, String str) {
+        this.arg$1 = transactionSyncEngine;
+        this.arg$2 = str;
+    }
+
+    public static Action1 lambdaFactory$(TransactionSyncEngine transactionSyncEngine, String str) {
+        return new TransactionSyncEngine$$Lambda$8(transactionSyncEngine, str);
+    }
+
+    public void call(Object obj) {
+        TransactionSyncEngine.lambda$scheduleBackfill$7(this.arg$1, this.arg$2, (Throwable) obj);
+    }
+}
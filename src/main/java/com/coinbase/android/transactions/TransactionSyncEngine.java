@@ -0,0 +1,295 @@
+package com.coinbase.android.transactions;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Pair;
+import com.coinbase.android.ApplicationScope;
+import com.coinbase.android.BackgroundScheduler;
+import com.coinbase.android.db.DatabaseManager;
+import com.coinbase.android.db.TransactionORM;
+import com.coinbase.api.LoginManager;
+import com.coinbase.api.internal.ApiConstants;
+import com.coinbase.v2.models.transactions.Data;
+import com.coinbase.v2.models.transactions.Transaction;
+import com.coinbase.v2.models.transactions.Transactions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.inject.Inject;
+import retrofit2.Response;
+import retrofit2.adapter.rxjava.HttpException;
+import rx.Observable;
+import rx.Scheduler;
+import rx.exceptions.Exceptions;
+import rx.functions.Actions;
+
+@ApplicationScope
+public class TransactionSyncEngine {
+    static final int BACKFILL_PAGE_BUDGET = 3;
+    static final int PAGE_SIZE = 25;
+    static final int PENDING_RECHECK_BUDGET = 5;
+    static final int PROBE_PAGE_SIZE = 10;
+    static final int REFRESH_PAGE_BUDGET = 4;
+    private static final List<String> EXPAND_OPTIONS = Collections.unmodifiableList(Arrays.asList(new String[]{"from", "to", "buy", "sell", "request", "send", "transfer", ApiConstants.FIAT_DEPOSIT, ApiConstants.FIAT_WITHDRAWAL, ApiConstants.EXCHANGE_DEPOSIT, ApiConstants.EXCHANGE_WITHDRAWAL, ApiConstants.VAULT_WITHDRAWAL}));
+    private final Scheduler mBackgroundScheduler;
+    private final Set<String> mBackfillScheduled = Collections.newSetFromMap(new ConcurrentHashMap());
+    private final DatabaseManager mDbManager;
+    private final Set<String> mHistoryComplete = Collections.newSetFromMap(new ConcurrentHashMap());
+    private final LoginManager mLoginManager;
+
+    static class RefreshState {
+        final String accountId;
+        final ArrayList<String> fetchedIds = new ArrayList();
+        final boolean hasLocalTransactions;
+        final int limit;
+        String oldestFetchedCreatedAt;
+        int pages;
+
+        RefreshState(String accountId, int limit, boolean hasLocalTransactions) {
+            this.accountId = accountId;
+            this.limit = limit;
+            this.hasLocalTransactions = hasLocalTransactions;
+        }
+    }
+
+    @Inject
+    public TransactionSyncEngine(LoginManager loginManager, DatabaseManager dbManager, @BackgroundScheduler Scheduler backgroundScheduler) {
+        this.mLoginManager = loginManager;
+        this.mDbManager = dbManager;
+        this.mBackgroundScheduler = backgroundScheduler;
+    }
+
+    public boolean isHistoryComplete(String accountId) {
+        return this.mHistoryComplete.contains(accountId);
+    }
+
+    public Observable<List<Data>> getLocalTransactions(String accountId, String beforeCreatedAt, String beforeTransactionId, int limit) {
+        return Observable.just(accountId).map(TransactionSyncEngine$$Lambda$1.lambdaFactory$(this, beforeCreatedAt, beforeTransactionId, limit));
+    }
+
+    static /* synthetic */ List lambda$getLocalTransactions$0(TransactionSyncEngine this_, String beforeCreatedAt, String beforeTransactionId, int limit, String accountId) {
+        return this_.readLocal(accountId, beforeCreatedAt, beforeTransactionId, limit);
+    }
+
+    public Observable<List<Data>> refresh(String accountId, int limit) {
+        return Observable.just(accountId).flatMap(TransactionSyncEngine$$Lambda$2.lambdaFactory$(this, limit));
+    }
+
+    static /* synthetic */ Observable lambda$refresh$1(TransactionSyncEngine this_, int limit, String accountId) {
+        SQLiteDatabase db = this_.mDbManager.openDatabase();
+        try {
+            return this_.fetchRefreshPage(new RefreshState(accountId, limit, TransactionORM.getOldestTransaction(db, accountId) != null), null);
+        } finally {
+            this_.mDbManager.closeDatabase();
+        }
+    }
+
+    private Observable<List<Data>> fetchRefreshPage(RefreshState state, String startingAfter) {
+        int pageSize = (state.pages != 0 || !state.hasLocalTransactions) ? PAGE_SIZE : PROBE_PAGE_SIZE;
+        return fetchPage(state.accountId, startingAfter, pageSize).flatMap(TransactionSyncEngine$$Lambda$3.lambdaFactory$(this, state));
+    }
+
+    static /* synthetic */ Observable lambda$fetchRefreshPage$2(TransactionSyncEngine this_, RefreshState state, Pair pair) {
+        Transactions transactions = checkResponse((Response) pair.first);
+        List<Data> page = transactions.getData() == null ? new ArrayList() : transactions.getData();
+        boolean reachedKnownTransaction = this_.persistRefreshPage(state, page);
+        state.pages++;
+        if (reachedKnownTransaction) {
+            return this_.recheckPending(state, this_.getStalePendingIds(state), 0);
+        }
+        if (page.isEmpty() || getNextUri(transactions) == null) {
+            this_.mHistoryComplete.add(state.accountId);
+            return Observable.just(this_.readLocal(state.accountId, null, null, state.limit));
+        }
+        if (state.pages >= REFRESH_PAGE_BUDGET) {
+            this_.dropOlderThan(state.accountId, state.oldestFetchedCreatedAt);
+            this_.mHistoryComplete.remove(state.accountId);
+            this_.mBackfillScheduled.remove(state.accountId);
+            this_.scheduleBackfill(state.accountId);
+            return Observable.just(this_.readLocal(state.accountId, null, null, state.limit));
+        }
+        return this_.fetchRefreshPage(state, ((Data) page.get(page.size() - 1)).getId());
+    }
+
+    /**
+     * Pending transactions older than the pages just refreshed are fetched one by one, at most
+     * {@link #PENDING_RECHECK_BUDGET} of them, rather than paging back to them: an old pending
+     * transaction would otherwise make every refresh use its whole page budget.
+     */
+    private Observable<List<Data>> recheckPending(RefreshState state, List<String> ids, int index) {
+        if (index >= ids.size()) {
+            return Observable.just(readLocal(state.accountId, null, null, state.limit));
+        }
+        return this.mLoginManager.getClient().getTransactionRx(state.accountId, (String) ids.get(index)).first().map(TransactionSyncEngine$$Lambda$9.lambdaFactory$(this, state)).onErrorReturn(TransactionSyncEngine$$Lambda$10.lambdaFactory$()).flatMap(TransactionSyncEngine$$Lambda$11.lambdaFactory$(this, state, ids, index));
+    }
+
+    static /* synthetic */ Boolean lambda$recheckPending$8(TransactionSyncEngine this_, RefreshState state, Pair pair) {
+        Response<Transaction> response = (Response) pair.first;
+        if (!response.isSuccessful() || response.body() == null || ((Transaction) response.body()).getData() == null) {
+            return Boolean.FALSE;
+        }
+        this_.persistPage(state.accountId, Collections.singletonList(((Transaction) response.body()).getData()));
+        return Boolean.TRUE;
+    }
+
+    static /* synthetic */ Boolean lambda$recheckPending$9(Throwable t) {
+        // Checked again on the next refresh.
+        return Boolean.FALSE;
+    }
+
+    static /* synthetic */ Observable lambda$recheckPending$10(TransactionSyncEngine this_, RefreshState state, List ids, int index, Boolean rechecked) {
+        return this_.recheckPending(state, ids, index + 1);
+    }
+
+    private List<String> getStalePendingIds(RefreshState state) {
+        if (state.oldestFetchedCreatedAt == null) {
+            return Collections.emptyList();
+        }
+        SQLiteDatabase db = this.mDbManager.openDatabase();
+        try {
+            return TransactionORM.getTransactionIds(db, state.accountId, ApiConstants.PENDING, state.oldestFetchedCreatedAt, PENDING_RECHECK_BUDGET);
+        } finally {
+            this.mDbManager.closeDatabase();
+        }
+    }
+
+    public Observable<List<Data>> loadOlder(String accountId, String beforeCreatedAt, String beforeTransactionId, int limit) {
+        return getLocalTransactions(accountId, beforeCreatedAt, beforeTransactionId, limit).flatMap(TransactionSyncEngine$$Lambda$4.lambdaFactory$(this, accountId, beforeCreatedAt, beforeTransactionId, limit));
+    }
+
+    static /* synthetic */ Observable lambda$loadOlder$3(TransactionSyncEngine this_, String accountId, String beforeCreatedAt, String beforeTransactionId, int limit, List localTransactions) {
+        if (localTransactions.size() >= limit || this_.isHistoryComplete(accountId)) {
+            return Observable.just(localTransactions);
+        }
+        return this_.backfill(accountId, 1).map(TransactionSyncEngine$$Lambda$5.lambdaFactory$(this_, accountId, beforeCreatedAt, beforeTransactionId, limit));
+    }
+
+    static /* synthetic */ List lambda$loadOlder$4(TransactionSyncEngine this_, String accountId, String beforeCreatedAt, String beforeTransactionId, int limit, Boolean fetched) {
+        return this_.readLocal(accountId, beforeCreatedAt, beforeTransactionId, limit);
+    }
+
+    public void scheduleBackfill(String accountId) {
+        if (!isHistoryComplete(accountId) && this.mBackfillScheduled.add(accountId)) {
+            backfill(accountId, BACKFILL_PAGE_BUDGET).subscribeOn(this.mBackgroundScheduler).subscribe(Actions.empty(), TransactionSyncEngine$$Lambda$8.lambdaFactory$(this, accountId));
+        }
+    }
+
+    static /* synthetic */ void lambda$scheduleBackfill$7(TransactionSyncEngine this_, String accountId, Throwable t) {
+        this_.mBackfillScheduled.remove(accountId);
+    }
+
+    private Observable<Boolean> backfill(String accountId, int pageBudget) {
+        return Observable.just(accountId).flatMap(TransactionSyncEngine$$Lambda$6.lambdaFactory$(this, pageBudget));
+    }
+
+    static /* synthetic */ Observable lambda$backfill$5(TransactionSyncEngine this_, int pageBudget, String accountId) {
+        SQLiteDatabase db = this_.mDbManager.openDatabase();
+        try {
+            Data oldest = TransactionORM.getOldestTransaction(db, accountId);
+            if (oldest == null || this_.isHistoryComplete(accountId)) {
+                return Observable.just(Boolean.FALSE);
+            }
+            return this_.fetchPage(accountId, oldest.getId(), PAGE_SIZE).flatMap(TransactionSyncEngine$$Lambda$7.lambdaFactory$(this_, accountId, pageBudget));
+        } finally {
+            this_.mDbManager.closeDatabase();
+        }
+    }
+
+    static /* synthetic */ Observable lambda$backfill$6(TransactionSyncEngine this_, String accountId, int pageBudget, Pair pair) {
+        Transactions transactions = checkResponse((Response) pair.first);
+        List<Data> page = transactions.getData() == null ? new ArrayList() : transactions.getData();
+        this_.persistPage(accountId, page);
+        if (page.isEmpty() || getNextUri(transactions) == null) {
+            this_.mHistoryComplete.add(accountId);
+            return Observable.just(Boolean.TRUE);
+        }
+        if (pageBudget > 1) {
+            return this_.backfill(accountId, pageBudget - 1);
+        }
+        return Observable.just(Boolean.TRUE);
+    }
+
+    private Observable<Pair<Response<Transactions>, retrofit2.Retrofit>> fetchPage(String accountId, String startingAfter, int limit) {
+        HashMap<String, Object> options = new HashMap();
+        options.put(ApiConstants.LIMIT, Integer.valueOf(limit));
+        options.put(ApiConstants.STARTING_AFTER, startingAfter);
+        return this.mLoginManager.getClient().getTransactionsRx(accountId, options, EXPAND_OPTIONS);
+    }
+
+    private synchronized boolean persistRefreshPage(RefreshState state, List<Data> page) {
+        boolean reachedKnownTransaction = false;
+        SQLiteDatabase db = this.mDbManager.openDatabase();
+        try {
+            db.beginTransaction();
+            for (Data tx : page) {
+                String localStatus = TransactionORM.getStatus(db, state.accountId, tx.getId());
+                if (localStatus != null && localStatus.equals(tx.getStatus() == null ? "" : tx.getStatus())) {
+                    reachedKnownTransaction = true;
+                }
+                state.fetchedIds.add(tx.getId());
+            }
+            if (!page.isEmpty()) {
+                state.oldestFetchedCreatedAt = ((Data) page.get(page.size() - 1)).getCreatedAt();
+                TransactionORM.insertOrUpdate(db, state.accountId, (List) page);
+            }
+            if (state.oldestFetchedCreatedAt != null) {
+                TransactionORM.deleteMissing(db, state.accountId, state.oldestFetchedCreatedAt, state.fetchedIds);
+            }
+            db.setTransactionSuccessful();
+            return reachedKnownTransaction;
+        } finally {
+            db.endTransaction();
+            this.mDbManager.closeDatabase();
+        }
+    }
+
+    private synchronized void persistPage(String accountId, List<Data> page) {
+        SQLiteDatabase db = this.mDbManager.openDatabase();
+        try {
+            db.beginTransaction();
+            TransactionORM.insertOrUpdate(db, accountId, (List) page);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+            this.mDbManager.closeDatabase();
+        }
+    }
+
+    private synchronized void dropOlderThan(String accountId, String createdAt) {
+        SQLiteDatabase db = this.mDbManager.openDatabase();
+        try {
+            db.beginTransaction();
+            TransactionORM.deleteOlderThan(db, accountId, createdAt);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+            this.mDbManager.closeDatabase();
+        }
+    }
+
+    private List<Data> readLocal(String accountId, String beforeCreatedAt, String beforeTransactionId, int limit) {
+        SQLiteDatabase db = this.mDbManager.openDatabase();
+        try {
+            return TransactionORM.getTransactions(db, accountId, beforeCreatedAt, beforeTransactionId, limit);
+        } finally {
+            this.mDbManager.closeDatabase();
+        }
+    }
+
+    private static Transactions checkResponse(Response<Transactions> response) {
+        if (response.isSuccessful() && response.body() != null) {
+            return (Transactions) response.body();
+        }
+        throw Exceptions.propagate(new HttpException(response));
+    }
+
+    private static String getNextUri(Transactions transactions) {
+        if (transactions.getPagination() == null) {
+            return null;
+        }
+        return transactions.getPagination().getNextUri();
+    }
+}
@@ -0,0 +1,35 @@
+package com.coinbase.android.transactions;
+
+import com.coinbase.android.db.DatabaseManager;
+import com.coinbase.api.LoginManager;
+import dagger.internal.Factory;
+import javax.inject.Provider;
+import rx.Scheduler;
+
+public final class TransactionSyncEngine_Factory implements Factory<TransactionSyncEngine> {
+    private final Provider<Scheduler> backgroundSchedulerProvider;
+    private final Provider<DatabaseManager> dbManagerProvider;
+    private final Provider<LoginManager> loginManagerProvider;
+
+    public TransactionSyncEngine_Factory(Provider<LoginManager> loginManagerProvider, Provider<DatabaseManager> dbManagerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        this.loginManagerProvider = loginManagerProvider;
+        this.dbManagerProvider = dbManagerProvider;
+        this.backgroundSchedulerProvider = backgroundSchedulerProvider;
+    }
+
+    public TransactionSyncEngine get() {
+        return provideInstance(this.loginManagerProvider, this.dbManagerProvider, this.backgroundSchedulerProvider);
+    }
+
+    public static TransactionSyncEngine provideInstance(Provider<LoginManager> loginManagerProvider, Provider<DatabaseManager> dbManagerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        return new TransactionSyncEngine((LoginManager) loginManagerProvider.get(), (DatabaseManager) dbManagerProvider.get(), (Scheduler) backgroundSchedulerProvider.get());
+    }
+
+    public static TransactionSyncEngine_Factory create(Provider<LoginManager> loginManagerProvider, Provider<DatabaseManager> dbManagerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        return new TransactionSyncEngine_Factory(loginManagerProvider, dbManagerProvider, backgroundSchedulerProvider);
+    }
+
+    public static TransactionSyncEngine newTransactionSyncEngine(LoginManager loginManager, DatabaseManager dbManager, Scheduler backgroundScheduler) {
+        return new TransactionSyncEngine(loginManager, dbManager, backgroundScheduler);
+    }
+}
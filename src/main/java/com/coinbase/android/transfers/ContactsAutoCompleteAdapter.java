@@ -15,8 +15,6 @@ import com.coinbase.android.R;
 import com.coinbase.android.databinding.DropdownItemContactSuggestionBinding;
 import com.coinbase.android.utils.RoundedTransformation;
 import com.coinbase.android.utils.Utils;
-import com.coinbase.api.LoginManager;
-import com.coinbase.v1.entity.Contact;
 import com.squareup.picasso.Picasso;
 import java.util.ArrayList;
 import javax.inject.Inject;
@@ -24,13 +22,14 @@ import javax.inject.Inject;
 @ActivityScope
 public class ContactsAutoCompleteAdapter extends ArrayAdapter<String> implements Filterable {
     @Inject
-    LoginManager mLoginManager;
+    ContactsCache mContactsCache;
     int radius = 60;
     private ArrayList<String> resultList;
 
     public ContactsAutoCompleteAdapter(Context context, int textViewResourceId) {
         super(context, textViewResourceId);
         ((ComponentProvider) context.getApplicationContext()).applicationComponent().adapterSubcomponent().inject(this);
+        this.mContactsCache.preload();
     }
 
     public int getCount() {
@@ -79,14 +78,6 @@ public class ContactsAutoCompleteAdapter extends ArrayAdapter<String> implements
     }
 
     private ArrayList<String> fetchContacts(String filter) {
-        ArrayList<String> result = new ArrayList();
-        try {
-            for (Contact contact : this.mLoginManager.getClient().getContacts(filter).getContacts()) {
-                result.add(contact.getEmail());
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return result;
+        return new ArrayList(this.mContactsCache.search(filter));
     }
 }
@@ -1,25 +1,24 @@
 package com.coinbase.android.transfers;
 
-import com.coinbase.api.LoginManager;
 import dagger.MembersInjector;
 import javax.inject.Provider;
 
 public final class ContactsAutoCompleteAdapter_MembersInjector implements MembersInjector<ContactsAutoCompleteAdapter> {
-    private final Provider<LoginManager> mLoginManagerProvider;
+    private final Provider<ContactsCache> mContactsCacheProvider;
 
-    public ContactsAutoCompleteAdapter_MembersInjector(Provider<LoginManager> mLoginManagerProvider) {
-        this.mLoginManagerProvider = mLoginManagerProvider;
+    public ContactsAutoCompleteAdapter_MembersInjector(Provider<ContactsCache> mContactsCacheProvider) {
+        this.mContactsCacheProvider = mContactsCacheProvider;
     }
 
-    public static MembersInjector<ContactsAutoCompleteAdapter> create(Provider<LoginManager> mLoginManagerProvider) {
-        return new ContactsAutoCompleteAdapter_MembersInjector(mLoginManagerProvider);
+    public static MembersInjector<ContactsAutoCompleteAdapter> create(Provider<ContactsCache> mContactsCacheProvider) {
+        return new ContactsAutoCompleteAdapter_MembersInjector(mContactsCacheProvider);
     }
 
     public void injectMembers(ContactsAutoCompleteAdapter instance) {
-        injectMLoginManager(instance, (LoginManager) this.mLoginManagerProvider.get());
+        injectMContactsCache(instance, (ContactsCache) this.mContactsCacheProvider.get());
     }
 
-    public static void injectMLoginManager(ContactsAutoCompleteAdapter instance, LoginManager mLoginManager) {
-        instance.mLoginManager = mLoginManager;
+    public static void injectMContactsCache(ContactsAutoCompleteAdapter instance, ContactsCache mContactsCache) {
+        instance.mContactsCache = mContactsCache;
     }
 }
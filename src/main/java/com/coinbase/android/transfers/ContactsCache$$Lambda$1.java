@@ -0,0 +1,27 @@
+package com.coinbase.android.transfers;
+
+import android.util.Pair;
+import java.util.concurrent.CountDownLatch;
+import rx.functions.Action1;
+
+final /* synthetic */ class ContactsCache$$Lambda$1 implements Action1 {
+    private final ContactsCache arg$1;
+    private final String arg$2;
+    private final String arg$3;
+    private final CountDownLatch arg$4;
+
+    private ContactsCache$$Lambda$1(ContactsCache contactsCache, String str, String str2, CountDownLatch countDownLatch) {
+        this.arg$1 = contactsCache;
+        this.arg$2 = str;
+        this.arg$3 = str2;
+        this.arg$4 = countDownLatch;
+    }
+
+    public static Action1 lambdaFactory$(ContactsCache contactsCache, String str, String str2, CountDownLatch countDownLatch) {
+        return new ContactsCache$$Lambda$1(contactsCache, str, str2, countDownLatch);
+    }
+
+    public void call(Object obj) {
+        ContactsCache.lambda$fetch$0(this.arg$1, this.arg$2, this.arg$3, this.arg$4, (Pair) obj);
+    }
+}
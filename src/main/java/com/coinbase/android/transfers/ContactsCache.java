@@ -0,0 +1,182 @@
+package com.coinbase.android.transfers;
+
+import android.app.Application;
+import android.content.SharedPreferences;
+import android.text.TextUtils;
+import android.util.Pair;
+import com.coinbase.android.ApplicationScope;
+import com.coinbase.android.ApplicationSignOutListener;
+import com.coinbase.android.BackgroundScheduler;
+import com.coinbase.api.LoginManager;
+import com.coinbase.api.internal.models.contacts.Contacts;
+import com.coinbase.api.internal.models.contacts.Data;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import retrofit2.Response;
+import rx.Scheduler;
+
+/**
+ * Per-user contact suggestions for the send autocomplete. The contact list is loaded once in the
+ * background and kept in a {@link ContactsIndex}, so keystrokes are answered locally. The server is
+ * only asked about a prefix when no shorter prefix has already returned a complete (less than a
+ * full page) result. Everything learned is persisted per user and merged into on later sessions.
+ */
+@ApplicationScope
+public class ContactsCache implements ApplicationSignOutListener {
+    static final int CONTACTS_PAGE_SIZE = 25;
+    static final long FETCH_TIMEOUT_SECONDS = 10;
+    private static final String KEY_COMPLETE_PREFIXES = "complete_prefixes";
+    private static final String KEY_EMAILS = "emails";
+    static final int MAX_SUGGESTIONS = 25;
+    private static final String PREFERENCES_PREFIX = "contacts_";
+    private final Application mApplication;
+    private final Scheduler mBackgroundScheduler;
+    private final Set<String> mCompletePrefixes = new HashSet();
+    private ContactsIndex mIndex;
+    private final LoginManager mLoginManager;
+    private final Set<String> mQueriedPrefixes = new HashSet();
+    private String mUserId;
+
+    @Inject
+    public ContactsCache(Application application, LoginManager loginManager, @BackgroundScheduler Scheduler backgroundScheduler) {
+        this.mApplication = application;
+        this.mLoginManager = loginManager;
+        this.mBackgroundScheduler = backgroundScheduler;
+    }
+
+    /**
+     * Loads the persisted contacts of the signed in user and refreshes them from the server in the
+     * background. Cheap to call repeatedly; the server is asked once per session.
+     */
+    public void preload() {
+        String userId = this.mLoginManager.getActiveUserId();
+        if (!TextUtils.isEmpty(userId)) {
+            boolean refresh;
+            synchronized (this) {
+                load(userId);
+                refresh = this.mQueriedPrefixes.add("");
+            }
+            if (refresh) {
+                fetch(userId, "", null);
+            }
+        }
+    }
+
+    /**
+     * Contact emails matching the prefix. Blocks on the server only for prefixes the index cannot
+     * answer yet, so it must not be called on the main thread.
+     */
+    public List<String> search(String query) {
+        String userId = this.mLoginManager.getActiveUserId();
+        if (TextUtils.isEmpty(userId) || query == null) {
+            return new ArrayList();
+        }
+        String prefix = query.trim().toLowerCase();
+        boolean covered;
+        synchronized (this) {
+            load(userId);
+            covered = isCovered(prefix) || !this.mQueriedPrefixes.add(prefix);
+        }
+        if (!covered) {
+            CountDownLatch latch = new CountDownLatch(1);
+            fetch(userId, prefix, latch);
+            try {
+                latch.await(FETCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (!userId.equals(this.mUserId)) {
+                return new ArrayList();
+            }
+            return this.mIndex.search(prefix, MAX_SUGGESTIONS);
+        }
+    }
+
+    public void onApplicationSignOut() {
+        synchronized (this) {
+            if (this.mUserId != null) {
+                getPreferences(this.mUserId).edit().clear().apply();
+            }
+            this.mUserId = null;
+            this.mIndex = null;
+            this.mCompletePrefixes.clear();
+            this.mQueriedPrefixes.clear();
+        }
+    }
+
+    private void load(String userId) {
+        if (this.mIndex == null || !userId.equals(this.mUserId)) {
+            this.mUserId = userId;
+            this.mIndex = new ContactsIndex();
+            this.mCompletePrefixes.clear();
+            this.mQueriedPrefixes.clear();
+            SharedPreferences preferences = getPreferences(userId);
+            this.mIndex.addAll(preferences.getStringSet(KEY_EMAILS, new HashSet()));
+            this.mCompletePrefixes.addAll(preferences.getStringSet(KEY_COMPLETE_PREFIXES, new HashSet()));
+        }
+    }
+
+    private boolean isCovered(String prefix) {
+        for (int i = 0; i <= prefix.length(); i++) {
+            if (this.mCompletePrefixes.contains(prefix.substring(0, i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void fetch(String userId, String prefix, CountDownLatch latch) {
+        this.mLoginManager.getClient().getContactsListRx(prefix.isEmpty() ? null : prefix).subscribeOn(this.mBackgroundScheduler).subscribe(ContactsCache$$Lambda$1.lambdaFactory$(this, userId, prefix, latch), ContactsCache$$Lambda$2.lambdaFactory$(this, userId, prefix, latch));
+    }
+
+    static /* synthetic */ void lambda$fetch$0(ContactsCache this_, String userId, String prefix, CountDownLatch latch, Pair pair) {
+        Response<Contacts> response = (Response) pair.first;
+        if (response.isSuccessful() && response.body() != null && ((Contacts) response.body()).getData() != null) {
+            List<Data> contacts = ((Contacts) response.body()).getData();
+            List<String> emails = new ArrayList(contacts.size());
+            for (Data contact : contacts) {
+                emails.add(contact.getEmail());
+            }
+            synchronized (this_) {
+                if (userId.equals(this_.mUserId)) {
+                    boolean changed = this_.mIndex.addAll(emails);
+                    if (contacts.size() < CONTACTS_PAGE_SIZE && this_.mCompletePrefixes.add(prefix)) {
+                        changed = true;
+                    }
+                    if (changed) {
+                        this_.getPreferences(userId).edit().putStringSet(KEY_EMAILS, new HashSet(this_.mIndex.getEmails())).putStringSet(KEY_COMPLETE_PREFIXES, new HashSet(this_.mCompletePrefixes)).apply();
+                    }
+                }
+            }
+        } else {
+            this_.onFetchFailed(userId, prefix);
+        }
+        if (latch != null) {
+            latch.countDown();
+        }
+    }
+
+    static /* synthetic */ void lambda$fetch$1(ContactsCache this_, String userId, String prefix, CountDownLatch latch, Throwable t) {
+        this_.onFetchFailed(userId, prefix);
+        if (latch != null) {
+            latch.countDown();
+        }
+    }
+
+    private synchronized void onFetchFailed(String userId, String prefix) {
+        if (userId.equals(this.mUserId)) {
+            this.mQueriedPrefixes.remove(prefix);
+        }
+    }
+
+    private SharedPreferences getPreferences(String userId) {
+        return this.mApplication.getSharedPreferences(PREFERENCES_PREFIX + userId, 0);
+    }
+}
@@ -0,0 +1,35 @@
+package com.coinbase.android.transfers;
+
+import android.app.Application;
+import com.coinbase.api.LoginManager;
+import dagger.internal.Factory;
+import javax.inject.Provider;
+import rx.Scheduler;
+
+public final class ContactsCache_Factory implements Factory<ContactsCache> {
+    private final Provider<Application> applicationProvider;
+    private final Provider<Scheduler> backgroundSchedulerProvider;
+    private final Provider<LoginManager> loginManagerProvider;
+
+    public ContactsCache_Factory(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        this.applicationProvider = applicationProvider;
+        this.loginManagerProvider = loginManagerProvider;
+        this.backgroundSchedulerProvider = backgroundSchedulerProvider;
+    }
+
+    public ContactsCache get() {
+        return provideInstance(this.applicationProvider, this.loginManagerProvider, this.backgroundSchedulerProvider);
+    }
+
+    public static ContactsCache provideInstance(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        return new ContactsCache((Application) applicationProvider.get(), (LoginManager) loginManagerProvider.get(), (Scheduler) backgroundSchedulerProvider.get());
+    }
+
+    public static ContactsCache_Factory create(Provider<Application> applicationProvider, Provider<LoginManager> loginManagerProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+        return new ContactsCache_Factory(applicationProvider, loginManagerProvider, backgroundSchedulerProvider);
+    }
+
+    public static ContactsCache newContactsCache(Application application, LoginManager loginManager, Scheduler backgroundScheduler) {
+        return new ContactsCache(application, loginManager, backgroundScheduler);
+    }
+}
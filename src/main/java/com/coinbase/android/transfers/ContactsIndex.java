@@ -0,0 +1,106 @@
+package com.coinbase.android.transfers;
+
+import android.text.TextUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Prefix index over contact emails. Every email is indexed by its full lowercase form and by each
+ * word of its local part ("jane.doe@..." is also found by "doe"), kept in one sorted key array with
+ * a parallel array pointing back at the email, so a lookup is a binary search plus a scan over the
+ * matching range. Not thread safe; callers synchronize.
+ */
+final class ContactsIndex {
+    private static final String WORD_SEPARATORS = "._-+";
+    private String[] mEmails = new String[0];
+    private final Set<String> mEmailSet = new LinkedHashSet();
+    private String[] mKeys = new String[0];
+    private int[] mOwners = new int[0];
+
+    private static final class Entry {
+        private final String mKey;
+        private final int mOwner;
+
+        Entry(String key, int owner) {
+            this.mKey = key;
+            this.mOwner = owner;
+        }
+    }
+
+    Set<String> getEmails() {
+        return this.mEmailSet;
+    }
+
+    int size() {
+        return this.mEmails.length;
+    }
+
+    boolean addAll(Collection<String> emails) {
+        boolean changed = false;
+        for (String email : emails) {
+            if (!TextUtils.isEmpty(email) && this.mEmailSet.add(email)) {
+                changed = true;
+            }
+        }
+        if (changed) {
+            rebuild();
+        }
+        return changed;
+    }
+
+    List<String> search(String prefix, int limit) {
+        Set<String> results = new LinkedHashSet();
+        String key = prefix.toLowerCase();
+        for (int i = lowerBound(key); i < this.mKeys.length && results.size() < limit && this.mKeys[i].startsWith(key); i++) {
+            results.add(this.mEmails[this.mOwners[i]]);
+        }
+        return new ArrayList(results);
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = this.mKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.mKeys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void rebuild() {
+        this.mEmails = (String[]) this.mEmailSet.toArray(new String[this.mEmailSet.size()]);
+        List<Entry> entries = new ArrayList(this.mEmails.length * 2);
+        for (int owner = 0; owner < this.mEmails.length; owner++) {
+            String email = this.mEmails[owner].toLowerCase();
+            entries.add(new Entry(email, owner));
+            int at = email.indexOf(64);
+            int end = at < 0 ? email.length() : at;
+            for (int i = 1; i < end; i++) {
+                if (WORD_SEPARATORS.indexOf(email.charAt(i - 1)) >= 0 && WORD_SEPARATORS.indexOf(email.charAt(i)) < 0) {
+                    entries.add(new Entry(email.substring(i), owner));
+                }
+            }
+        }
+        Entry[] sorted = (Entry[]) entries.toArray(new Entry[entries.size()]);
+        Arrays.sort(sorted, new Comparator<Entry>() {
+            public int compare(Entry entry1, Entry entry2) {
+                return entry1.mKey.compareTo(entry2.mKey);
+            }
+        });
+        this.mKeys = new String[sorted.length];
+        this.mOwners = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            this.mKeys[i] = sorted[i].mKey;
+            this.mOwners[i] = sorted[i].mOwner;
+        }
+    }
+}
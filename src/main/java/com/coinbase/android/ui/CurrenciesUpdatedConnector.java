@@ -5,10 +5,9 @@ import android.content.Context;
 import android.text.TextUtils;
 import com.coinbase.android.Log;
 import com.coinbase.android.R;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.currency.Currencies;
 import com.coinbase.api.internal.models.currency.Data;
-import com.google.gson.GsonBuilder;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -18,9 +17,13 @@ import org.joda.money.CurrencyUnit;
 import rx.subjects.BehaviorSubject;
 
 public class CurrenciesUpdatedConnector {
+    private static final int CODE_RADIX = 27;
+    private static final int MAX_BITMAP_CODE_LENGTH = 4;
+    private static final int VALID_CURRENCY_BITMAP_SIZE = 531441;
     private final Context mContext;
     private BehaviorSubject<List<Data>> mCurrenciesUpdatedSubject;
     private Map<String, Data> mCurrencyDataMap = new HashMap();
+    private volatile long[] mValidCurrencyBitmap = new long[0];
 
     public CurrenciesUpdatedConnector(Application application) {
         this.mContext = application;
@@ -46,6 +49,14 @@ public class CurrenciesUpdatedConnector {
             } catch (Exception e) {
                 Log.e("RegisterCurrency", "Exception registering currency: ", e);
             }
+            long[] bitmap = new long[(VALID_CURRENCY_BITMAP_SIZE + 63) / 64];
+            for (String code : this.mCurrencyDataMap.keySet()) {
+                int index = getBitmapIndex(code);
+                if (index >= 0) {
+                    bitmap[index >>> 6] |= 1L << index;
+                }
+            }
+            this.mValidCurrencyBitmap = bitmap;
         }
     }
 
@@ -60,7 +71,36 @@ public class CurrenciesUpdatedConnector {
     }
 
     public boolean isValidCurrency(String code) {
-        return getCurrencyByCode(code) != null;
+        int index = getBitmapIndex(code);
+        if (index < 0) {
+            return getCurrencyByCode(code) != null;
+        }
+        long[] bitmap = this.mValidCurrencyBitmap;
+        int word = index >>> 6;
+        return word < bitmap.length && (bitmap[word] & (1L << index)) != 0;
+    }
+
+    /**
+     * Packs a currency code of up to four ASCII letters into a base-27 index, ignoring case, so
+     * isValidCurrency can answer from the bitmap without locking or allocating. Returns -1 for codes
+     * that do not fit; those fall back to the map.
+     */
+    private static int getBitmapIndex(String code) {
+        if (code == null || code.isEmpty() || code.length() > MAX_BITMAP_CODE_LENGTH) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                c = (char) (c - 32);
+            }
+            if (c < 'A' || c > 'Z') {
+                return -1;
+            }
+            index = (index * CODE_RADIX) + ((c - 'A') + 1);
+        }
+        return index;
     }
 
     private List<Data> fetchCurrenciesLocally() {
@@ -68,7 +108,7 @@ public class CurrenciesUpdatedConnector {
         try {
             String jsonString = IOUtils.toString(this.mContext.getResources().openRawResource(R.raw.currencies), "UTF-8");
             if (jsonString != null) {
-                Currencies currencies = (Currencies) new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().fromJson(jsonString, Currencies.class);
+                Currencies currencies = (Currencies) Serializers.getGson().fromJson(jsonString, Currencies.class);
                 if (!(currencies == null || currencies.getData() == null)) {
                     currencyList.addAll(currencies.getData());
                 }
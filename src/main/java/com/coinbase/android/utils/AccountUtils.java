@@ -95,12 +95,19 @@ public class AccountUtils {
     public static void setIfEthAccountsExists(List<Data> accounts, SharedPreferences prefs) {
         if (accounts != null) {
             Editor e = prefs.edit();
+            setIfEthAccountsExists(accounts, e);
+            e.apply();
+        }
+    }
+
+    public static void setIfEthAccountsExists(List<Data> accounts, Editor e) {
+        if (accounts != null) {
             for (Data account : accounts) {
                 if (account.getCurrency().getCode().equalsIgnoreCase(Currency.ETH.toString())) {
                     e.putBoolean(Constants.KEY_ACCOUNT_HAS_ETH_ACCOUNT, true);
+                    return;
                 }
             }
-            e.apply();
         }
     }
 
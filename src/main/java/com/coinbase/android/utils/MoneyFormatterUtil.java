@@ -4,6 +4,7 @@ import com.coinbase.android.ApplicationScope;
 import com.coinbase.android.ui.CurrenciesUpdatedConnector;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.EnumSet;
@@ -24,7 +25,13 @@ import org.slf4j.LoggerFactory;
 @ApplicationScope
 public class MoneyFormatterUtil {
     private static final String ERROR_MESSAGE = "MoneyFormatterUtil:%1$s; currency=%2$s; amount=%3$s; locale=%4$s";
+    private static final int FORMAT_CRYPTO_CURRENCY = 8;
+    private static final int FORMAT_EXCLUDE_CURRENCY_SYMBOL = 4;
+    private static final int FORMAT_INCLUDE_PARENTHESIS = 1;
+    private static final int FORMAT_KEY_COUNT = 16;
+    private static final int FORMAT_NEGATIVE_PREFIX = 2;
     private final CurrenciesUpdatedConnector mCurrenciesUpdatedConnector;
+    private volatile FormatterCache mFormatterCache;
     private final Logger mLogger = LoggerFactory.getLogger(MoneyFormatterUtil.class);
 
     public enum Options {
@@ -39,6 +46,23 @@ public class MoneyFormatterUtil {
         STRIP_TRAILING_ZEROS
     }
 
+    /**
+     * Formatters built for one locale. A formatter only depends on the currency through whether it
+     * is a crypto currency, so each locale needs at most FORMAT_KEY_COUNT of them. MoneyFormatter is
+     * immutable, so racing writers at worst build the same formatter twice.
+     */
+    private static final class FormatterCache {
+        private final MoneyFormatter[] mFormatters = new MoneyFormatter[MoneyFormatterUtil.FORMAT_KEY_COUNT];
+        private final boolean mGroupingEnabled;
+        private final Locale mLocale;
+
+        FormatterCache(Locale locale) {
+            this.mLocale = locale;
+            NumberFormat format = NumberFormat.getCurrencyInstance(locale);
+            this.mGroupingEnabled = format == null || format.isGroupingUsed();
+        }
+    }
+
     @Inject
     public MoneyFormatterUtil(CurrenciesUpdatedConnector currenciesUpdatedConnector) {
         this.mCurrenciesUpdatedConnector = currenciesUpdatedConnector;
@@ -53,7 +77,8 @@ public class MoneyFormatterUtil {
             this.mLogger.error(createErrorMessage("generateMoney=money is NULL", "", ""));
             return null;
         }
-        int scale = money.toBigMoney().getScale();
+        BigMoney bigMoney = money.toBigMoney();
+        int scale = bigMoney.getScale();
         if (options.contains(Options.ROUND_0_DIGITS)) {
             scale = 0;
         } else if (options.contains(Options.ROUND_2_DIGITS)) {
@@ -63,7 +88,7 @@ public class MoneyFormatterUtil {
         } else if (options.contains(Options.ROUND_8_DIGITS)) {
             scale = 8;
         }
-        if (!isValidCurrency(money.toBigMoney().getCurrencyUnit().getCurrencyCode().toUpperCase())) {
+        if (!isValidCurrency(bigMoney.getCurrencyUnit().getCurrencyCode())) {
             if (scale < 2 && !options.contains(Options.ROUND_0_DIGITS)) {
                 scale = 2;
             }
@@ -73,45 +98,77 @@ public class MoneyFormatterUtil {
         } else if (scale < 4 && !options.contains(Options.ROUND_0_DIGITS)) {
             scale = 4;
         }
-        BigDecimal displayAmount = money.toBigMoney().getAmount().setScale(scale, RoundingMode.HALF_EVEN);
+        BigDecimal displayAmount = bigMoney.getAmount().setScale(scale, RoundingMode.HALF_EVEN);
         if (options.contains(Options.STRIP_TRAILING_ZEROS)) {
             displayAmount = displayAmount.stripTrailingZeros();
         }
         if (options.contains(Options.PREFIX_SIGNED)) {
             displayAmount = displayAmount.abs();
         }
-        return BigMoney.of(money.toBigMoney().getCurrencyUnit(), displayAmount);
+        if (displayAmount == bigMoney.getAmount()) {
+            return bigMoney;
+        }
+        return BigMoney.of(bigMoney.getCurrencyUnit(), displayAmount);
     }
 
     private MoneyFormatter generateFormatter(BigMoneyProvider money, Set<Options> options) {
-        String currencyCode = money.toBigMoney().getCurrencyUnit().getCurrencyCode();
-        MoneyFormatterBuilder builder = new MoneyFormatterBuilder();
+        BigMoney bigMoney = money.toBigMoney();
+        int key = 0;
         if (options.contains(Options.INCLUDE_PARENTHESIS)) {
+            key |= FORMAT_INCLUDE_PARENTHESIS;
+        }
+        if (options.contains(Options.PREFIX_SIGNED) && bigMoney.isNegative()) {
+            key |= FORMAT_NEGATIVE_PREFIX;
+        }
+        if (options.contains(Options.EXCLUDE_CURRENCY_SYMBOL)) {
+            key |= FORMAT_EXCLUDE_CURRENCY_SYMBOL;
+        }
+        if (isValidCurrency(bigMoney.getCurrencyUnit().getCurrencyCode())) {
+            key |= FORMAT_CRYPTO_CURRENCY;
+        }
+        FormatterCache cache = getFormatterCache();
+        MoneyFormatter formatter = cache.mFormatters[key];
+        if (formatter == null) {
+            formatter = buildFormatter(key, cache);
+            cache.mFormatters[key] = formatter;
+        }
+        return formatter;
+    }
+
+    private MoneyFormatter buildFormatter(int key, FormatterCache cache) {
+        boolean ungrouped = (key & FORMAT_CRYPTO_CURRENCY) != 0 || !cache.mGroupingEnabled;
+        MoneyFormatterBuilder builder = new MoneyFormatterBuilder();
+        if ((key & FORMAT_INCLUDE_PARENTHESIS) != 0) {
             builder.appendLiteral("(");
         }
-        if (options.contains(Options.PREFIX_SIGNED) && money.toBigMoney().isNegative()) {
+        if ((key & FORMAT_NEGATIVE_PREFIX) != 0) {
             builder.appendLiteral("-");
         }
-        if (options.contains(Options.EXCLUDE_CURRENCY_SYMBOL)) {
-            if (isValidCurrency(currencyCode) || !isGroupingEnabled()) {
+        if ((key & FORMAT_EXCLUDE_CURRENCY_SYMBOL) != 0) {
+            if (ungrouped) {
                 builder.appendAmount(MoneyAmountStyle.LOCALIZED_NO_GROUPING);
             } else {
                 builder.appendAmountLocalized();
             }
-        } else if (isValidCurrency(currencyCode) || !isGroupingEnabled()) {
+        } else if (ungrouped) {
             builder.appendAmount(MoneyAmountStyle.LOCALIZED_NO_GROUPING).appendLiteral(" ").appendCurrencyCode();
         } else {
             builder.appendCurrencySymbolLocalized().appendAmountLocalized();
         }
-        if (options.contains(Options.INCLUDE_PARENTHESIS)) {
+        if ((key & FORMAT_INCLUDE_PARENTHESIS) != 0) {
             builder.appendLiteral(")");
         }
-        return builder.toFormatter();
+        return builder.toFormatter(cache.mLocale);
     }
 
-    private boolean isGroupingEnabled() {
-        NumberFormat format = NumberFormat.getCurrencyInstance();
-        return format == null || format.isGroupingUsed();
+    private FormatterCache getFormatterCache() {
+        Locale locale = Locale.getDefault();
+        FormatterCache cache = this.mFormatterCache;
+        if (cache == null || !cache.mLocale.equals(locale)) {
+            cache = new FormatterCache(locale);
+            this.mFormatterCache = cache;
+        }
+        return cache;
     }
 
     public String formatMoney(BigMoneyProvider money) {
@@ -168,12 +225,12 @@ public class MoneyFormatterUtil {
         } else {
             try {
                 CurrencyUnit unit = CurrencyUnit.of(currency);
-                Double amountFormatted = Double.valueOf(Double.parseDouble(amount));
+                BigDecimal amountFormatted = new BigDecimal(amount.trim());
                 try {
-                    return Money.of(unit, amountFormatted.doubleValue(), RoundingMode.HALF_DOWN);
+                    return Money.of(unit, amountFormatted, RoundingMode.HALF_DOWN);
                 } catch (ArithmeticException e) {
                     this.mLogger.error(createErrorMessage("moneyFromValue: ArithmeticException", currency, amount), e);
-                    return BigMoney.of(unit, amountFormatted.doubleValue()).rounded(unit.getDecimalPlaces(), RoundingMode.HALF_DOWN).toMoney();
+                    return BigMoney.of(unit, amountFormatted).rounded(unit.getDecimalPlaces(), RoundingMode.HALF_DOWN).toMoney();
                 }
             } catch (IllegalCurrencyException c) {
                 this.mLogger.error(createErrorMessage("moneyFromValue: IllegalCurrencyException", currency, amount), c);
@@ -190,11 +247,16 @@ public class MoneyFormatterUtil {
         if (!(currency == null || amount == null)) {
             try {
                 CurrencyUnit unit = CurrencyUnit.of(currency);
-                Double amountFormatted = Double.valueOf(NumberFormat.getInstance(locale).parse(amount).doubleValue());
+                NumberFormat format = NumberFormat.getInstance(locale);
+                if (format instanceof DecimalFormat) {
+                    ((DecimalFormat) format).setParseBigDecimal(true);
+                }
+                Number parsed = format.parse(amount);
+                BigDecimal amountFormatted = parsed instanceof BigDecimal ? (BigDecimal) parsed : new BigDecimal(parsed.toString());
                 try {
-                    money = Money.of(unit, amountFormatted.doubleValue());
+                    money = Money.of(unit, amountFormatted);
                 } catch (ArithmeticException e) {
-                    money = BigMoney.of(unit, amountFormatted.doubleValue()).rounded(unit.getDecimalPlaces(), RoundingMode.HALF_DOWN).toMoney();
+                    money = BigMoney.of(unit, amountFormatted).rounded(unit.getDecimalPlaces(), RoundingMode.HALF_DOWN).toMoney();
                 }
             } catch (IllegalCurrencyException e2) {
             } catch (ParseException p) {
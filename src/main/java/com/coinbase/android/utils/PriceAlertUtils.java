@@ -4,24 +4,77 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.content.SharedPreferences.Editor;
 import android.preference.PreferenceManager;
+import android.text.TextUtils;
 import com.coinbase.android.ComponentProvider;
 import com.coinbase.android.Constants;
 import com.coinbase.android.notifications.priceAlerts.LocalPriceAlert;
 import com.coinbase.android.notifications.priceAlerts.LocalPriceAlerts;
+import com.coinbase.android.notifications.priceAlerts.PriceAlertIndex;
 import com.coinbase.android.ui.CurrenciesUpdatedConnector;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.coinbase.api.internal.Serializers;
+import com.google.gson.JsonParseException;
+import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class PriceAlertUtils {
     private static final String HAD_PRICE_ALERT = "had_price_alert";
+    private static final String PRICE_ALERTS_PREFERENCES = "price_alerts";
+    private static PriceAlertIndex sPriceAlertIndex;
 
-    private static Gson getGson() {
-        return new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create();
+    private static PriceAlertIndex getPriceAlertIndex(Context context) {
+        return getPriceAlertIndex(context, ((ComponentProvider) context.getApplicationContext()).applicationComponent().currenciesUpdatedConnector());
+    }
+
+    private static synchronized PriceAlertIndex getPriceAlertIndex(Context context, CurrenciesUpdatedConnector currenciesUpdatedConnector) {
+        SharedPreferences store = context.getApplicationContext().getSharedPreferences(PRICE_ALERTS_PREFERENCES, 0);
+        if (sPriceAlertIndex == null) {
+            sPriceAlertIndex = new PriceAlertIndex();
+            migrateSavedPriceAlerts(PreferenceManager.getDefaultSharedPreferences(context), store);
+            for (Object json : store.getAll().values()) {
+                if (json instanceof String) {
+                    try {
+                        sPriceAlertIndex.put((LocalPriceAlert) Serializers.getGson().fromJson((String) json, LocalPriceAlert.class));
+                    } catch (JsonParseException e) {
+                    }
+                }
+            }
+        }
+        LocalPriceAlerts legacyPriceAlerts = LocalPriceAlerts.builder().setPriceAlerts(new ArrayList()).build();
+        if (com.coinbase.android.utils.legacy.PriceAlertUtils.upgradeFromLegacyPriceAlerts(legacyPriceAlerts, currenciesUpdatedConnector, context)) {
+            Editor editor = store.edit();
+            for (LocalPriceAlert localPriceAlert : legacyPriceAlerts.getPriceAlerts()) {
+                if (localPriceAlert.getId() != null) {
+                    sPriceAlertIndex.put(localPriceAlert);
+                    editor.putString(localPriceAlert.getId(), Serializers.getGson().toJson((Object) localPriceAlert));
+                }
+            }
+            editor.apply();
+        }
+        return sPriceAlertIndex;
+    }
+
+    private static void migrateSavedPriceAlerts(SharedPreferences prefs, SharedPreferences store) {
+        String json = prefs.getString(Constants.NOTIFICATION_SET, null);
+        if (json != null) {
+            LocalPriceAlerts localPriceAlerts = null;
+            try {
+                localPriceAlerts = (LocalPriceAlerts) Serializers.getGson().fromJson(json, LocalPriceAlerts.class);
+            } catch (JsonParseException e) {
+            }
+            if (!(localPriceAlerts == null || localPriceAlerts.getPriceAlerts() == null)) {
+                Editor editor = store.edit();
+                for (LocalPriceAlert localPriceAlert : localPriceAlerts.getPriceAlerts()) {
+                    if (localPriceAlert.getId() != null) {
+                        editor.putString(localPriceAlert.getId(), Serializers.getGson().toJson((Object) localPriceAlert));
+                    }
+                }
+                editor.apply();
+            }
+            prefs.edit().remove(Constants.NOTIFICATION_SET).apply();
+        }
     }
 
     public static LocalPriceAlerts getSavedPriceAlerts(Context context) {
@@ -35,74 +88,118 @@ public class PriceAlertUtils {
         if (context == null) {
             return null;
         }
-        LocalPriceAlerts localPriceAlerts = LocalPriceAlerts.builder().setPriceAlerts(new ArrayList()).build();
-        if (com.coinbase.android.utils.legacy.PriceAlertUtils.upgradeFromLegacyPriceAlerts(localPriceAlerts, currenciesUpdatedConnector, context)) {
-            Collections.sort(localPriceAlerts.getPriceAlerts(), new Comparator<LocalPriceAlert>() {
-                public int compare(LocalPriceAlert alert1, LocalPriceAlert alert2) {
-                    if (alert1.getCreatedOn() < alert2.getCreatedOn()) {
-                        return 1;
-                    }
-                    return alert1.getCreatedOn() == alert2.getCreatedOn() ? 0 : -1;
-                }
-            });
-            savePriceAlerts(localPriceAlerts, PreferenceManager.getDefaultSharedPreferences(context));
-            return localPriceAlerts;
+        synchronized (PriceAlertUtils.class) {
+            return LocalPriceAlerts.builder().setPriceAlerts(getPriceAlertIndex(context, currenciesUpdatedConnector).getPriceAlerts()).build();
         }
-        String json = PreferenceManager.getDefaultSharedPreferences(context).getString(Constants.NOTIFICATION_SET, null);
-        if (json == null) {
-            return localPriceAlerts;
+    }
+
+    public static LocalPriceAlert getPriceAlert(Context context, String id) {
+        if (context == null) {
+            return null;
         }
-        localPriceAlerts = (LocalPriceAlerts) getGson().fromJson(json, LocalPriceAlerts.class);
-        if (localPriceAlerts == null) {
-            return localPriceAlerts;
+        synchronized (PriceAlertUtils.class) {
+            return getPriceAlertIndex(context).get(id);
         }
-        Collections.sort(localPriceAlerts.getPriceAlerts(), /* anonymous class already generated */);
-        return localPriceAlerts;
     }
 
-    public static void savePriceAlert(Context context, LocalPriceAlert localPriceAlert) {
-        if (context != null && localPriceAlert != null) {
-            SharedPreferences prefs = PreferenceManager.getDefaultSharedPreferences(context);
-            LocalPriceAlerts localPriceAlerts = getSavedPriceAlerts(context);
-            if (localPriceAlerts != null && localPriceAlerts.getPriceAlerts() != null) {
-                int index = -1;
-                List<LocalPriceAlert> priceAlertList = localPriceAlerts.getPriceAlerts();
-                for (int i = 0; i < priceAlertList.size(); i++) {
-                    LocalPriceAlert aLocalPriceAlert = (LocalPriceAlert) priceAlertList.get(i);
-                    if (aLocalPriceAlert.getId() != null && aLocalPriceAlert.getId().equals(localPriceAlert.getId())) {
-                        index = i;
-                        break;
+    /**
+     * Fallback for pushes that do not carry an alert id: the newest armed alert whose notification
+     * message appears in the push text, or the newest triggered one if no armed alert matches.
+     */
+    public static LocalPriceAlert findPriceAlertByMessage(Context context, String message) {
+        if (context == null || TextUtils.isEmpty(message)) {
+            return null;
+        }
+        String lowerCaseMessage = message.toLowerCase();
+        synchronized (PriceAlertUtils.class) {
+            LocalPriceAlert triggeredMatch = null;
+            for (LocalPriceAlert alert : getPriceAlertIndex(context).getPriceAlerts()) {
+                if (alert.getNotificationMessage() != null && lowerCaseMessage.contains(alert.getNotificationMessage().toLowerCase())) {
+                    if (alert.getEnabled() && alert.getTriggeredOn() == -1) {
+                        return alert;
+                    }
+                    if (triggeredMatch == null) {
+                        triggeredMatch = alert;
                     }
                 }
-                if (index <= -1) {
-                    priceAlertList.add(localPriceAlert);
-                } else {
-                    priceAlertList.set(index, localPriceAlert);
-                }
-                savePriceAlerts(localPriceAlerts, prefs);
             }
+            return triggeredMatch;
         }
     }
 
-    private static void savePriceAlerts(LocalPriceAlerts localPriceAlerts, SharedPreferences prefs) {
-        Editor editor = prefs.edit();
-        editor.putString(Constants.NOTIFICATION_SET, getGson().toJson((Object) localPriceAlerts));
-        editor.apply();
+    public static void savePriceAlert(Context context, LocalPriceAlert localPriceAlert) {
+        if (context != null && localPriceAlert != null && localPriceAlert.getId() != null) {
+            synchronized (PriceAlertUtils.class) {
+                getPriceAlertIndex(context).put(localPriceAlert);
+                context.getApplicationContext().getSharedPreferences(PRICE_ALERTS_PREFERENCES, 0).edit().putString(localPriceAlert.getId(), Serializers.getGson().toJson((Object) localPriceAlert)).apply();
+            }
+        }
     }
 
     public static void deletePriceAlert(Context context, LocalPriceAlert localPriceAlert) {
-        Object localPriceAlerts = getSavedPriceAlerts(context);
-        if (localPriceAlerts != null && localPriceAlerts.getPriceAlerts() != null) {
-            List<LocalPriceAlert> priceAlertList = localPriceAlerts.getPriceAlerts();
-            for (LocalPriceAlert aLocalPriceAlert : priceAlertList) {
-                if (aLocalPriceAlert.getId() != null && aLocalPriceAlert.getId().equals(localPriceAlert.getId())) {
-                    priceAlertList.remove(aLocalPriceAlert);
-                    break;
+        if (context != null && localPriceAlert != null && localPriceAlert.getId() != null) {
+            synchronized (PriceAlertUtils.class) {
+                if (getPriceAlertIndex(context).remove(localPriceAlert.getId()) != null) {
+                    context.getApplicationContext().getSharedPreferences(PRICE_ALERTS_PREFERENCES, 0).edit().remove(localPriceAlert.getId()).apply();
                 }
             }
-            Editor editor = PreferenceManager.getDefaultSharedPreferences(context).edit();
-            editor.putString(Constants.NOTIFICATION_SET, getGson().toJson(localPriceAlerts));
-            editor.apply();
+        }
+    }
+
+    /**
+     * Forgets every saved alert, so the next user signing in on this device neither sees nor gets
+     * notified for them.
+     */
+    public static void clearPriceAlerts(Context context) {
+        if (context != null) {
+            synchronized (PriceAlertUtils.class) {
+                context.getApplicationContext().getSharedPreferences(PRICE_ALERTS_PREFERENCES, 0).edit().clear().apply();
+                sPriceAlertIndex = null;
+            }
+        }
+    }
+
+    /**
+     * Marks the alert as triggered now and disables it. Returns null if the alert is unknown or was
+     * already triggered, so a push and a local price check never notify twice for the same alert.
+     */
+    public static LocalPriceAlert triggerPriceAlert(Context context, String id) {
+        if (context == null) {
+            return null;
+        }
+        synchronized (PriceAlertUtils.class) {
+            LocalPriceAlert alert = getPriceAlertIndex(context).get(id);
+            if (alert == null || !alert.getEnabled() || alert.getTriggeredOn() != -1) {
+                return null;
+            }
+            LocalPriceAlert localPriceAlert = LocalPriceAlert.builder().setAmount(alert.getAmount()).setCreatedOn(alert.getCreatedOn()).setCurrency(alert.getCurrency()).setCurrencyUnit(alert.getCurrencyUnit()).setId(alert.getId()).setIsAbove(alert.getIsAbove()).setDisplayText(alert.getDisplayText()).setNotificationTitle(alert.getNotificationTitle()).setNotificationMessage(alert.getNotificationMessage()).setTriggeredOn(System.currentTimeMillis()).setEnabled(false).build();
+            savePriceAlert(context, localPriceAlert);
+            return localPriceAlert;
+        }
+    }
+
+    public static List<LocalPriceAlert> triggerFiredPriceAlerts(Context context, String currencyCode, String currencyUnitCode, BigDecimal price) {
+        List<LocalPriceAlert> triggered = new ArrayList();
+        if (context == null) {
+            return triggered;
+        }
+        synchronized (PriceAlertUtils.class) {
+            for (LocalPriceAlert alert : getPriceAlertIndex(context).getFiredPriceAlerts(currencyCode, currencyUnitCode, price)) {
+                LocalPriceAlert localPriceAlert = triggerPriceAlert(context, alert.getId());
+                if (localPriceAlert != null) {
+                    triggered.add(localPriceAlert);
+                }
+            }
+        }
+        return triggered;
+    }
+
+    public static Set<String> getArmedCurrencies(Context context, String currencyUnitCode) {
+        if (context == null) {
+            return new HashSet();
+        }
+        synchronized (PriceAlertUtils.class) {
+            return getPriceAlertIndex(context).getArmedCurrencies(currencyUnitCode);
         }
     }
 
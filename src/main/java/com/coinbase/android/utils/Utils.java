@@ -37,7 +37,6 @@ import android.view.inputmethod.InputMethodManager;
 import android.widget.ImageView;
 import android.widget.TextView;
 import android.widget.Toast;
-import com.coinbase.ObjectMapperProvider;
 import com.coinbase.android.Constants;
 import com.coinbase.android.Log;
 import com.coinbase.android.R;
@@ -48,6 +47,7 @@ import com.coinbase.android.ui.AvatarDrawable;
 import com.coinbase.android.utils.MoneyUtils.Currency;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.api.internal.ApiConstants;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.auth.Error;
 import com.coinbase.api.internal.models.auth.Error.Builder;
 import com.coinbase.api.internal.models.phoneNumber.Data;
@@ -241,7 +241,7 @@ public class Utils {
 
     public static String curry(List<String> list) {
         try {
-            return ObjectMapperProvider.createDefaultMapper().writeValueAsString(list);
+            return Serializers.getObjectMapper().writeValueAsString(list);
         } catch (JsonProcessingException e) {
             return "";
         }
@@ -251,7 +251,7 @@ public class Utils {
         if (TextUtils.isEmpty(string)) {
             return null;
         }
-        ObjectMapper mapper = ObjectMapperProvider.createDefaultMapper();
+        ObjectMapper mapper = Serializers.getObjectMapper();
         try {
             return (List) mapper.readValue(string, mapper.getTypeFactory().constructType((Type) List.class, String.class));
         } catch (IOException e) {
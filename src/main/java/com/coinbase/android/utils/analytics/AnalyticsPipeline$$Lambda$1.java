@@ -0,0 +1,17 @@
+package com.coinbase.android.utils.analytics;
+
+final /* synthetic */ class AnalyticsPipeline$$Lambda$1 implements Runnable {
+    private final AnalyticsPipeline arg$1;
+
+    private AnalyticsPipeline$$Lambda$1(AnalyticsPipeline analyticsPipeline) {
+        this.arg$1 = analyticsPipeline;
+    }
+
+    public static Runnable lambdaFactory$(AnalyticsPipeline analyticsPipeline) {
+        return new AnalyticsPipeline$$Lambda$1(analyticsPipeline);
+    }
+
+    public void run() {
+        AnalyticsPipeline.lambda$enqueue$0(this.arg$1);
+    }
+}
@@ -0,0 +1,17 @@
+package com.coinbase.android.utils.analytics;
+
+final /* synthetic */ class AnalyticsPipeline$$Lambda$2 implements Runnable {
+    private final AnalyticsPipeline arg$1;
+
+    private AnalyticsPipeline$$Lambda$2(AnalyticsPipeline analyticsPipeline) {
+        this.arg$1 = analyticsPipeline;
+    }
+
+    public static Runnable lambdaFactory$(AnalyticsPipeline analyticsPipeline) {
+        return new AnalyticsPipeline$$Lambda$2(analyticsPipeline);
+    }
+
+    public void run() {
+        AnalyticsPipeline.lambda$null$1(this.arg$1);
+    }
+}
@@ -0,0 +1,96 @@
+package com.coinbase.android.utils.analytics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import okhttp3.internal.Util;
+
+/**
+ * Moves event tracking off the calling thread. Events are appended to a buffer and handed to the
+ * SDKs in batches on a single background thread; uploads are triggered only once enough events have
+ * been delivered or the oldest undelivered upload has waited long enough, instead of once per event.
+ * The thresholds match the Amplitude client's own batching so both SDKs upload on the same cadence.
+ */
+final class AnalyticsPipeline {
+    static final int FLUSH_EVENT_COUNT = 30;
+    static final long FLUSH_INTERVAL_MILLIS = 30000;
+    private List<PendingEvent> mBuffer = new ArrayList();
+    private boolean mDrainScheduled;
+    private final ScheduledExecutorService mExecutor = Executors.newSingleThreadScheduledExecutor(Util.threadFactory("AnalyticsPipeline", true));
+    private ScheduledFuture<?> mScheduledFlush;
+    private final Sink mSink;
+    private int mUnflushedCount;
+
+    interface Sink {
+        void deliver(String str, Map<String, ?> map);
+
+        void flush();
+    }
+
+    private static final class PendingEvent {
+        private final String mEventName;
+        private final Map<String, ?> mProperties;
+
+        PendingEvent(String eventName, Map<String, ?> properties) {
+            this.mEventName = eventName;
+            this.mProperties = properties;
+        }
+    }
+
+    AnalyticsPipeline(Sink sink) {
+        this.mSink = sink;
+    }
+
+    void enqueue(String eventName, Map<String, ?> properties) {
+        synchronized (this) {
+            this.mBuffer.add(new PendingEvent(eventName, properties));
+            if (this.mDrainScheduled) {
+                return;
+            }
+            this.mDrainScheduled = true;
+            this.mExecutor.execute(AnalyticsPipeline$$Lambda$1.lambdaFactory$(this));
+        }
+    }
+
+    void execute(Runnable runnable) {
+        this.mExecutor.execute(runnable);
+    }
+
+    static /* synthetic */ void lambda$enqueue$0(AnalyticsPipeline this_) {
+        List<PendingEvent> events;
+        synchronized (this_) {
+            events = this_.mBuffer;
+            this_.mBuffer = new ArrayList();
+            this_.mDrainScheduled = false;
+        }
+        for (PendingEvent event : events) {
+            this_.mSink.deliver(event.mEventName, event.mProperties);
+        }
+        this_.mUnflushedCount += events.size();
+        if (this_.mUnflushedCount >= FLUSH_EVENT_COUNT) {
+            this_.flush();
+        } else if (this_.mScheduledFlush == null) {
+            this_.mScheduledFlush = this_.mExecutor.schedule(AnalyticsPipeline$$Lambda$2.lambdaFactory$(this_), FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    static /* synthetic */ void lambda$null$1(AnalyticsPipeline this_) {
+        this_.mScheduledFlush = null;
+        this_.flush();
+    }
+
+    private void flush() {
+        if (this.mScheduledFlush != null) {
+            this.mScheduledFlush.cancel(false);
+            this.mScheduledFlush = null;
+        }
+        if (this.mUnflushedCount != 0) {
+            this.mUnflushedCount = 0;
+            this.mSink.flush();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.coinbase.android.utils.analytics;
+
+import java.util.Set;
+
+final /* synthetic */ class MixpanelTracking$$Lambda$1 implements Runnable {
+    private final MixpanelTracking arg$1;
+    private final Set arg$2;
+
+    private MixpanelTracking$$Lambda$1(MixpanelTracking mixpanelTracking, Set set) {
+        this.arg$1 = mixpanelTracking;
+        this.arg$2 = set;
+    }
+
+    public static Runnable lambdaFactory$(MixpanelTracking mixpanelTracking, Set set) {
+        return new MixpanelTracking$$Lambda$1(mixpanelTracking, set);
+    }
+
+    public void run() {
+        MixpanelTracking.lambda$trackEventOnce$0(this.arg$1, this.arg$2);
+    }
+}
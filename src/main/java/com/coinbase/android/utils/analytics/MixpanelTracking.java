@@ -9,6 +9,7 @@ import com.amplitude.api.Amplitude;
 import com.coinbase.android.AnalyticsUtils;
 import com.coinbase.android.BuildConfig;
 import com.coinbase.android.quickstart.QuickstartItem;
+import com.coinbase.android.utils.analytics.AnalyticsPipeline.Sink;
 import com.coinbase.android.utils.CryptoUri;
 import com.coinbase.v2.models.user.SplitTest;
 import com.mixpanel.android.mpmetrics.MixpanelAPI;
@@ -307,6 +308,7 @@ public class MixpanelTracking {
     public static final String PROPERTY_BANK_NAME = "Property: Bank Name: ";
     public static final String PROPERTY_BUYSELL_ERROR = "error";
     public static final String PROPERTY_BUYSELL_PREVIOUS_SCREEN = "previous_screen";
+    public static final String PROPERTY_BUYSELL_QUOTE_CALLS = "quote_calls";
     public static final String PROPERTY_BUYSELL_TYPE = "type";
     public static final String PROPERTY_CURRENCY = "currency";
     public static final String PROPERTY_INSTALL_SOURCE = "Property - Source";
@@ -345,9 +347,41 @@ public class MixpanelTracking {
     private AnalyticsUtils mAnalyticsUtils;
     private final Map<String, Long> mExposureMap = new HashMap();
     private final Logger mLogger = LoggerFactory.getLogger(MixpanelTracking.class);
+    private AnalyticsPipeline mPipeline;
+    private Set<String> mPreviouslyTrackedEvents;
+    private int mSentUserPropertiesVersion = -1;
     private JSONArray mTrackedSplitTests = new JSONArray();
+    private int mUserPropertiesVersion;
     private SharedPreferences sharedPrefs;
 
+    private class SdkSink implements Sink {
+        private SdkSink() {
+        }
+
+        public void deliver(String eventName, Map<String, ?> properties) {
+            JSONObject prop = new JSONObject();
+            if (properties != null) {
+                for (Entry<String, ?> entry : properties.entrySet()) {
+                    try {
+                        if (!(((String) entry.getKey()).isEmpty() || (((entry.getValue() instanceof String) && TextUtils.isEmpty((String) entry.getValue())) || entry.getValue() == null))) {
+                            prop.put((String) entry.getKey(), entry.getValue());
+                        }
+                    } catch (JSONException e) {
+                    }
+                }
+            }
+            MixpanelTracking.this.mAnalyticsUtils.logEvent(eventName, prop);
+            prop = MixpanelTracking.this.addSplitTestTracking(MixpanelTracking.this.addVersionCode(prop));
+            MixpanelTracking.this.sendUserPropertiesIfChanged();
+            Amplitude.getInstance().logEvent(eventName, prop);
+            MixpanelTracking.mixpanel.track(eventName, prop);
+        }
+
+        public void flush() {
+            MixpanelTracking.mixpanel.flush();
+        }
+    }
+
     private MixpanelTracking() {
     }
 
@@ -383,6 +417,7 @@ public class MixpanelTracking {
         this.sharedPrefs = PreferenceManager.getDefaultSharedPreferences(app);
         this.mAnalyticsUtils = new AnalyticsUtils(app, this.sharedPrefs);
         Amplitude.getInstance().initialize(app, AMPLITUDE_TOKEN).enableForegroundTracking(app);
+        this.mPipeline = new AnalyticsPipeline(new SdkSink());
     }
 
     public void setId(String id) {
@@ -396,6 +431,7 @@ public class MixpanelTracking {
             for (String key : trackedSplitTests.keySet()) {
                 this.mTrackedSplitTests.put(key + " - " + ((String) trackedSplitTests.get(key)));
             }
+            this.mUserPropertiesVersion++;
         }
     }
 
@@ -415,27 +451,11 @@ public class MixpanelTracking {
 
     @Deprecated
     public void trackEvent(String eventName, Map<String, ?> properties) {
-        JSONObject prop = new JSONObject();
         if (eventName.isEmpty()) {
             Log.e(MIXPANEL_LOGTAG, "Empty Event");
-            return;
+        } else {
+            this.mPipeline.enqueue(eventName, properties == null ? null : new HashMap(properties));
         }
-        if (properties != null) {
-            for (Entry<String, ?> entry : properties.entrySet()) {
-                try {
-                    if (!(((String) entry.getKey()).isEmpty() || (((entry.getValue() instanceof String) && TextUtils.isEmpty((String) entry.getValue())) || entry.getValue() == null))) {
-                        prop.put((String) entry.getKey(), entry.getValue());
-                    }
-                } catch (JSONException e) {
-                }
-            }
-        }
-        this.mAnalyticsUtils.logEvent(eventName, prop);
-        prop = addSplitTestTracking(addVersionCode(prop));
-        Amplitude.getInstance().setUserProperties(addSplitTestTracking(addVersionCode(new JSONObject())));
-        Amplitude.getInstance().logEvent(eventName, prop);
-        mixpanel.track(eventName, prop);
-        mixpanel.flush();
     }
 
     @Deprecated
@@ -463,7 +483,9 @@ public class MixpanelTracking {
             long sessionId = Amplitude.getInstance().getSessionId();
             if (!this.mExposureMap.containsKey(key) || sessionId != ((Long) this.mExposureMap.get(key)).longValue()) {
                 this.mExposureMap.put(key, Long.valueOf(sessionId));
-                Amplitude.getInstance().setUserProperties(addSplitTestTracking(new JSONObject()));
+                synchronized (this) {
+                    this.mUserPropertiesVersion++;
+                }
                 trackEvent(EVENT_SPLIT_TEST_EXPOSED, PROPERTY_SPLIT_TEST_EXPOSED_TEST, splitTest.getTest(), PROPERTY_SPLIT_TEST_EXPOSED_GROUP, splitTest.getGroup());
             }
         }
@@ -482,17 +504,35 @@ public class MixpanelTracking {
     }
 
     public void trackEventOnce(String eventName, Map<String, ?> properties) {
-        Set<String> previouslyTrackedEvents = this.sharedPrefs.getStringSet(PREVIOUSLY_TRACKED_EVENTS, new HashSet());
-        if (eventName.equals(EVENT_BALANCE_WIDGET_ENABLED) || eventName.equals(EVENT_PRICE_WIDGET_ENABLED)) {
-            if (this.sharedPrefs.contains(eventName)) {
-                return;
+        if (!eventName.equals(EVENT_BALANCE_WIDGET_ENABLED) && !eventName.equals(EVENT_PRICE_WIDGET_ENABLED)) {
+            synchronized (this) {
+                if (this.mPreviouslyTrackedEvents == null) {
+                    this.mPreviouslyTrackedEvents = new HashSet(this.sharedPrefs.getStringSet(PREVIOUSLY_TRACKED_EVENTS, new HashSet()));
+                }
+                if (!this.mPreviouslyTrackedEvents.add(eventName)) {
+                    return;
+                }
+                this.mPipeline.execute(MixpanelTracking$$Lambda$1.lambdaFactory$(this, new HashSet(this.mPreviouslyTrackedEvents)));
             }
-        } else if (previouslyTrackedEvents.contains(eventName)) {
+        } else if (this.sharedPrefs.contains(eventName)) {
             return;
         }
         trackEvent(eventName, (Map) properties);
-        previouslyTrackedEvents.add(eventName);
-        this.sharedPrefs.edit().putStringSet(PREVIOUSLY_TRACKED_EVENTS, previouslyTrackedEvents).apply();
+    }
+
+    static /* synthetic */ void lambda$trackEventOnce$0(MixpanelTracking this_, Set previouslyTrackedEvents) {
+        this_.sharedPrefs.edit().putStringSet(PREVIOUSLY_TRACKED_EVENTS, previouslyTrackedEvents).apply();
+    }
+
+    private void sendUserPropertiesIfChanged() {
+        int version;
+        synchronized (this) {
+            version = this.mUserPropertiesVersion;
+        }
+        if (version != this.mSentUserPropertiesVersion) {
+            this.mSentUserPropertiesVersion = version;
+            Amplitude.getInstance().setUserProperties(addSplitTestTracking(addVersionCode(new JSONObject())));
+        }
     }
 
     private JSONObject addVersionCode(JSONObject prop) {
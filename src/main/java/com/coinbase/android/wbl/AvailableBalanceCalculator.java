@@ -5,19 +5,19 @@ import android.text.TextUtils;
 import android.util.Pair;
 import com.coinbase.android.BackgroundScheduler;
 import com.coinbase.android.ControllerScope;
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.settings.AccountsUpdatedConnector;
 import com.coinbase.android.task.SyncAccountsTask;
 import com.coinbase.android.utils.AccountUtils;
 import com.coinbase.android.utils.MoneyFormatterUtil;
 import com.coinbase.android.wbl.AvailableBalance.Builder;
 import com.coinbase.api.LoginManager;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.wbl.PendingHold;
 import com.coinbase.api.internal.models.wbl.PendingHolds;
 import com.coinbase.v2.models.account.Data;
 import com.coinbase.v2.models.account.Data.Type;
 import com.coinbase.v2.models.price.Prices;
-import com.google.gson.GsonBuilder;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -45,20 +45,22 @@ public class AvailableBalanceCalculator {
     private final LoginManager mLoginManager;
     private final MoneyFormatterUtil mMoneyFormatterUtil;
     private final HashMap<String, Money> mSpotPriceMap = new HashMap();
+    private final SpotPriceService mSpotPriceService;
     private final SyncAccountsTask mSyncAccountsTask;
 
     @Inject
-    public AvailableBalanceCalculator(SyncAccountsTask syncAccountsTask, LoginManager loginManager, AccountsUpdatedConnector accountsUpdatedConnector, MoneyFormatterUtil moneyFormatterUtil, Func0<List<PendingHold>> additionalPendingHolds, @BackgroundScheduler Scheduler backgroundScheduler) {
+    public AvailableBalanceCalculator(SyncAccountsTask syncAccountsTask, LoginManager loginManager, AccountsUpdatedConnector accountsUpdatedConnector, MoneyFormatterUtil moneyFormatterUtil, Func0<List<PendingHold>> additionalPendingHolds, @BackgroundScheduler Scheduler backgroundScheduler, SpotPriceService spotPriceService) {
         this.mSyncAccountsTask = syncAccountsTask;
         this.mLoginManager = loginManager;
         this.mAccountsUpdatedConnector = accountsUpdatedConnector;
         this.mMoneyFormatterUtil = moneyFormatterUtil;
         this.mAdditionalPendingHolds.addAll((Collection) additionalPendingHolds.call());
         this.mBackgroundScheduler = backgroundScheduler;
+        this.mSpotPriceService = spotPriceService;
     }
 
     public Observable<AvailableBalance> get() {
-        return Observable.combineLatest(this.mLoginManager.getClient().getHoldBalancesRx().onBackpressureLatest(), this.mAccountsUpdatedConnector.get().onBackpressureLatest(), this.mLoginManager.getClient().getSpotPricesRx(this.mLoginManager.getCurrencyUnit().getCurrencyCode(), new HashMap()), AvailableBalanceCalculator$$Lambda$1.lambdaFactory$()).map(AvailableBalanceCalculator$$Lambda$2.lambdaFactory$(this)).onBackpressureLatest().subscribeOn(this.mBackgroundScheduler).doOnSubscribe(AvailableBalanceCalculator$$Lambda$3.lambdaFactory$(this));
+        return Observable.combineLatest(this.mLoginManager.getClient().getHoldBalancesRx().onBackpressureLatest(), this.mAccountsUpdatedConnector.get().onBackpressureLatest(), this.mSpotPriceService.getSpotPrices(this.mLoginManager.getCurrencyUnit().getCurrencyCode()), AvailableBalanceCalculator$$Lambda$1.lambdaFactory$()).map(AvailableBalanceCalculator$$Lambda$2.lambdaFactory$(this)).onBackpressureLatest().subscribeOn(this.mBackgroundScheduler).doOnSubscribe(AvailableBalanceCalculator$$Lambda$3.lambdaFactory$(this));
     }
 
     static /* synthetic */ AvailableBalance lambda$get$1(AvailableBalanceCalculator this_, Pair pair) {
@@ -120,7 +122,7 @@ public class AvailableBalanceCalculator {
     }
 
     public void cache(Bundle args, AvailableBalance data) {
-        args.putString(AVAILABLE_BALANCE, new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().toJson((Object) data));
+        args.putString(AVAILABLE_BALANCE, Serializers.getGson().toJson((Object) data));
     }
 
     private Money getAccountNativeBalance(Data account, Map<String, Money> spotPriceMap, Money zero) {
@@ -156,7 +158,7 @@ public class AvailableBalanceCalculator {
     }
 
     private AvailableBalance loadAvailableBalanceFromString(String availableBalanceStr) {
-        return (AvailableBalance) new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create().fromJson(availableBalanceStr, AvailableBalance.class);
+        return (AvailableBalance) Serializers.getGson().fromJson(availableBalanceStr, AvailableBalance.class);
     }
 
     public Money getNativeAvailableBalance(AvailableBalance availableBalance, Data account) {
@@ -1,5 +1,6 @@
 package com.coinbase.android.wbl;
 
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.settings.AccountsUpdatedConnector;
 import com.coinbase.android.task.SyncAccountsTask;
 import com.coinbase.android.utils.MoneyFormatterUtil;
@@ -17,30 +18,32 @@ public final class AvailableBalanceCalculator_Factory implements Factory<Availab
     private final Provider<Scheduler> backgroundSchedulerProvider;
     private final Provider<LoginManager> loginManagerProvider;
     private final Provider<MoneyFormatterUtil> moneyFormatterUtilProvider;
+    private final Provider<SpotPriceService> spotPriceServiceProvider;
     private final Provider<SyncAccountsTask> syncAccountsTaskProvider;
 
-    public AvailableBalanceCalculator_Factory(Provider<SyncAccountsTask> syncAccountsTaskProvider, Provider<LoginManager> loginManagerProvider, Provider<AccountsUpdatedConnector> accountsUpdatedConnectorProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<Func0<List<PendingHold>>> additionalPendingHoldsProvider, Provider<Scheduler> backgroundSchedulerProvider) {
+    public AvailableBalanceCalculator_Factory(Provider<SyncAccountsTask> syncAccountsTaskProvider, Provider<LoginManager> loginManagerProvider, Provider<AccountsUpdatedConnector> accountsUpdatedConnectorProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<Func0<List<PendingHold>>> additionalPendingHoldsProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<SpotPriceService> spotPriceServiceProvider) {
         this.syncAccountsTaskProvider = syncAccountsTaskProvider;
         this.loginManagerProvider = loginManagerProvider;
         this.accountsUpdatedConnectorProvider = accountsUpdatedConnectorProvider;
         this.moneyFormatterUtilProvider = moneyFormatterUtilProvider;
         this.additionalPendingHoldsProvider = additionalPendingHoldsProvider;
         this.backgroundSchedulerProvider = backgroundSchedulerProvider;
+        this.spotPriceServiceProvider = spotPriceServiceProvider;
     }
 
     public AvailableBalanceCalculator get() {
-        return provideInstance(this.syncAccountsTaskProvider, this.loginManagerProvider, this.accountsUpdatedConnectorProvider, this.moneyFormatterUtilProvider, this.additionalPendingHoldsProvider, this.backgroundSchedulerProvider);
+        return provideInstance(this.syncAccountsTaskProvider, this.loginManagerProvider, this.accountsUpdatedConnectorProvider, this.moneyFormatterUtilProvider, this.additionalPendingHoldsProvider, this.backgroundSchedulerProvider, this.spotPriceServiceProvider);
     }
 
-    public static AvailableBalanceCalculator provideInstance(Provider<SyncAccountsTask> syncAccountsTaskProvider, Provider<LoginManager> loginManagerProvider, Provider<AccountsUpdatedConnector> accountsUpdatedConnectorProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<Func0<List<PendingHold>>> additionalPendingHoldsProvider, Provider<Scheduler> backgroundSchedulerProvider) {
-        return new AvailableBalanceCalculator((SyncAccountsTask) syncAccountsTaskProvider.get(), (LoginManager) loginManagerProvider.get(), (AccountsUpdatedConnector) accountsUpdatedConnectorProvider.get(), (MoneyFormatterUtil) moneyFormatterUtilProvider.get(), (Func0) additionalPendingHoldsProvider.get(), (Scheduler) backgroundSchedulerProvider.get());
+    public static AvailableBalanceCalculator provideInstance(Provider<SyncAccountsTask> syncAccountsTaskProvider, Provider<LoginManager> loginManagerProvider, Provider<AccountsUpdatedConnector> accountsUpdatedConnectorProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<Func0<List<PendingHold>>> additionalPendingHoldsProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<SpotPriceService> spotPriceServiceProvider) {
+        return new AvailableBalanceCalculator((SyncAccountsTask) syncAccountsTaskProvider.get(), (LoginManager) loginManagerProvider.get(), (AccountsUpdatedConnector) accountsUpdatedConnectorProvider.get(), (MoneyFormatterUtil) moneyFormatterUtilProvider.get(), (Func0) additionalPendingHoldsProvider.get(), (Scheduler) backgroundSchedulerProvider.get(), (SpotPriceService) spotPriceServiceProvider.get());
     }
 
-    public static AvailableBalanceCalculator_Factory create(Provider<SyncAccountsTask> syncAccountsTaskProvider, Provider<LoginManager> loginManagerProvider, Provider<AccountsUpdatedConnector> accountsUpdatedConnectorProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<Func0<List<PendingHold>>> additionalPendingHoldsProvider, Provider<Scheduler> backgroundSchedulerProvider) {
-        return new AvailableBalanceCalculator_Factory(syncAccountsTaskProvider, loginManagerProvider, accountsUpdatedConnectorProvider, moneyFormatterUtilProvider, additionalPendingHoldsProvider, backgroundSchedulerProvider);
+    public static AvailableBalanceCalculator_Factory create(Provider<SyncAccountsTask> syncAccountsTaskProvider, Provider<LoginManager> loginManagerProvider, Provider<AccountsUpdatedConnector> accountsUpdatedConnectorProvider, Provider<MoneyFormatterUtil> moneyFormatterUtilProvider, Provider<Func0<List<PendingHold>>> additionalPendingHoldsProvider, Provider<Scheduler> backgroundSchedulerProvider, Provider<SpotPriceService> spotPriceServiceProvider) {
+        return new AvailableBalanceCalculator_Factory(syncAccountsTaskProvider, loginManagerProvider, accountsUpdatedConnectorProvider, moneyFormatterUtilProvider, additionalPendingHoldsProvider, backgroundSchedulerProvider, spotPriceServiceProvider);
     }
 
-    public static AvailableBalanceCalculator newAvailableBalanceCalculator(SyncAccountsTask syncAccountsTask, LoginManager loginManager, AccountsUpdatedConnector accountsUpdatedConnector, MoneyFormatterUtil moneyFormatterUtil, Func0<List<PendingHold>> additionalPendingHolds, Scheduler backgroundScheduler) {
-        return new AvailableBalanceCalculator(syncAccountsTask, loginManager, accountsUpdatedConnector, moneyFormatterUtil, additionalPendingHolds, backgroundScheduler);
+    public static AvailableBalanceCalculator newAvailableBalanceCalculator(SyncAccountsTask syncAccountsTask, LoginManager loginManager, AccountsUpdatedConnector accountsUpdatedConnector, MoneyFormatterUtil moneyFormatterUtil, Func0<List<PendingHold>> additionalPendingHolds, Scheduler backgroundScheduler, SpotPriceService spotPriceService) {
+        return new AvailableBalanceCalculator(syncAccountsTask, loginManager, accountsUpdatedConnector, moneyFormatterUtil, additionalPendingHolds, backgroundScheduler, spotPriceService);
     }
 }
@@ -3,18 +3,17 @@ package com.coinbase.android.wbl;
 import android.os.Bundle;
 import com.coinbase.android.ControllerScope;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.coinbase.api.internal.models.tiers.Level;
 import com.coinbase.api.internal.models.tiers.Tiers;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import java.util.List;
 import javax.inject.Inject;
 
 @ControllerScope
 public class ExistingUserDialogPresenter {
     public static final String ACCOUNT_LEVELS = "account_levels";
-    private final Gson mGson = new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create();
+    private final Gson mGson = Serializers.getGson();
     private final MixpanelTracking mMixpanelTracking;
     private final ExistingUserDialogRouter mRouter;
     private final ExistingUserDialogScreen mScreen;
@@ -4,9 +4,8 @@ import android.text.TextUtils;
 import com.coinbase.ApiConstants;
 import com.coinbase.android.ControllerScope;
 import com.coinbase.android.utils.ApiErrorHandler;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 import java.util.HashSet;
 import java.util.Set;
@@ -36,7 +35,7 @@ public class WithdrawalBasedLimitsApiErrorHandler implements ApiErrorHandler {
         if (TextUtils.isEmpty(errorMessage) || !HANDLED_APIS.contains(apiEndpoint)) {
             return false;
         }
-        Gson gson = new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create();
+        Gson gson = Serializers.getGson();
         try {
             JSONArray array = new JSONObject(errorMessage).getJSONArray(ERRORS);
             if (array == null || array.length() == 0) {
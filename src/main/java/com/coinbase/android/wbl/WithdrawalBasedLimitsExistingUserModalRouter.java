@@ -12,9 +12,8 @@ import com.coinbase.android.splittesting.SplitTestConstants;
 import com.coinbase.android.splittesting.SplitTesting;
 import com.coinbase.android.ui.ActionBarController;
 import com.coinbase.api.LoginManager;
-import com.coinbase.api.internal.CoinbaseAdapterFactory;
+import com.coinbase.api.internal.Serializers;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import javax.inject.Inject;
 import retrofit2.Response;
 import rx.Observable;
@@ -24,7 +23,7 @@ import rx.functions.Action0;
 public class WithdrawalBasedLimitsExistingUserModalRouter implements ModalRouter {
     public static final String VIEWED_WBL_EXISTING_USER_MESSAGE = "viewed_wbl_existing_user_message";
     private final ActionBarController mController;
-    private final Gson mGson = new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create();
+    private final Gson mGson = Serializers.getGson();
     private final LoginManager mLoginManager;
     private final SharedPreferences mSharedPrefs;
     private final SplitTesting mSplitTesting;
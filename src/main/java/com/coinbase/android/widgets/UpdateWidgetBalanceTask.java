@@ -49,7 +49,7 @@ public class UpdateWidgetBalanceTask {
         }
         if (accountId == null || accountType == null) {
             accountId = this.mLoginManager.getActiveAccountId();
-            Data account = AccountUtils.getAccount(this.mLoginManager.getAccounts(), accountId);
+            Data account = this.mLoginManager.getAccount(accountId);
             if (account != null) {
                 accountType = account.getType();
             }
@@ -5,6 +5,7 @@ import android.content.Intent;
 import android.os.IBinder;
 import com.coinbase.android.ComponentProvider;
 import com.coinbase.android.ServiceScope;
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.android.widgets.UpdateWidgetPriceTask.WidgetUpdater;
 import com.coinbase.api.LoginManager;
@@ -18,6 +19,8 @@ public class UpdateWidgetPriceService extends Service {
     LoginManager mLoginManager;
     @Inject
     MixpanelTracking mMixpanelTracking;
+    @Inject
+    SpotPriceService mSpotPriceService;
 
     public void onCreate() {
         super.onCreate();
@@ -29,7 +32,7 @@ public class UpdateWidgetPriceService extends Service {
             return 1;
         }
         try {
-            if (new UpdateWidgetPriceTask(this.mLoginManager, this.mMixpanelTracking).run(intent.getIntExtra(EXTRA_WIDGET_ID, -1), (WidgetUpdater) ((Class) intent.getSerializableExtra(EXTRA_UPDATER_CLASS)).newInstance(), this, UpdateWidgetPriceService$$Lambda$1.lambdaFactory$(this, startId))) {
+            if (new UpdateWidgetPriceTask(this.mLoginManager, this.mMixpanelTracking, this.mSpotPriceService).run(intent.getIntExtra(EXTRA_WIDGET_ID, -1), (WidgetUpdater) ((Class) intent.getSerializableExtra(EXTRA_UPDATER_CLASS)).newInstance(), this, UpdateWidgetPriceService$$Lambda$1.lambdaFactory$(this, startId))) {
                 return 3;
             }
             return 0;
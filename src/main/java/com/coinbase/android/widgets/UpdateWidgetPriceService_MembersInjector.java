@@ -1,5 +1,6 @@
 package com.coinbase.android.widgets;
 
+import com.coinbase.android.dashboard.SpotPriceService;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.api.LoginManager;
 import dagger.MembersInjector;
@@ -8,19 +9,22 @@ import javax.inject.Provider;
 public final class UpdateWidgetPriceService_MembersInjector implements MembersInjector<UpdateWidgetPriceService> {
     private final Provider<LoginManager> mLoginManagerProvider;
     private final Provider<MixpanelTracking> mMixpanelTrackingProvider;
+    private final Provider<SpotPriceService> mSpotPriceServiceProvider;
 
-    public UpdateWidgetPriceService_MembersInjector(Provider<LoginManager> mLoginManagerProvider, Provider<MixpanelTracking> mMixpanelTrackingProvider) {
+    public UpdateWidgetPriceService_MembersInjector(Provider<LoginManager> mLoginManagerProvider, Provider<MixpanelTracking> mMixpanelTrackingProvider, Provider<SpotPriceService> mSpotPriceServiceProvider) {
         this.mLoginManagerProvider = mLoginManagerProvider;
         this.mMixpanelTrackingProvider = mMixpanelTrackingProvider;
+        this.mSpotPriceServiceProvider = mSpotPriceServiceProvider;
     }
 
-    public static MembersInjector<UpdateWidgetPriceService> create(Provider<LoginManager> mLoginManagerProvider, Provider<MixpanelTracking> mMixpanelTrackingProvider) {
-        return new UpdateWidgetPriceService_MembersInjector(mLoginManagerProvider, mMixpanelTrackingProvider);
+    public static MembersInjector<UpdateWidgetPriceService> create(Provider<LoginManager> mLoginManagerProvider, Provider<MixpanelTracking> mMixpanelTrackingProvider, Provider<SpotPriceService> mSpotPriceServiceProvider) {
+        return new UpdateWidgetPriceService_MembersInjector(mLoginManagerProvider, mMixpanelTrackingProvider, mSpotPriceServiceProvider);
     }
 
     public void injectMembers(UpdateWidgetPriceService instance) {
         injectMLoginManager(instance, (LoginManager) this.mLoginManagerProvider.get());
         injectMMixpanelTracking(instance, (MixpanelTracking) this.mMixpanelTrackingProvider.get());
+        injectMSpotPriceService(instance, (SpotPriceService) this.mSpotPriceServiceProvider.get());
     }
 
     public static void injectMLoginManager(UpdateWidgetPriceService instance, LoginManager mLoginManager) {
@@ -30,4 +34,8 @@ public final class UpdateWidgetPriceService_MembersInjector implements MembersIn
     public static void injectMMixpanelTracking(UpdateWidgetPriceService instance, MixpanelTracking mMixpanelTracking) {
         instance.mMixpanelTracking = mMixpanelTracking;
     }
+
+    public static void injectMSpotPriceService(UpdateWidgetPriceService instance, SpotPriceService mSpotPriceService) {
+        instance.mSpotPriceService = mSpotPriceService;
+    }
 }
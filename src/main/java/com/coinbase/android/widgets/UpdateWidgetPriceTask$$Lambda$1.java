@@ -0,0 +1,31 @@
+package com.coinbase.android.widgets;
+
+import android.appwidget.AppWidgetManager;
+import android.content.Context;
+import android.util.Pair;
+import com.coinbase.android.widgets.UpdateWidgetPriceTask.WidgetUpdater;
+import rx.functions.Action1;
+
+final /* synthetic */ class UpdateWidgetPriceTask$$Lambda$1 implements Action1 {
+    private final WidgetUpdater arg$1;
+    private final Context arg$2;
+    private final AppWidgetManager arg$3;
+    private final int arg$4;
+    private final Runnable arg$5;
+
+    private UpdateWidgetPriceTask$$Lambda$1(WidgetUpdater widgetUpdater, Context context, AppWidgetManager appWidgetManager, int i, Runnable runnable) {
+        this.arg$1 = widgetUpdater;
+        this.arg$2 = context;
+        this.arg$3 = appWidgetManager;
+        this.arg$4 = i;
+        this.arg$5 = runnable;
+    }
+
+    public static Action1 lambdaFactory$(WidgetUpdater widgetUpdater, Context context, AppWidgetManager appWidgetManager, int i, Runnable runnable) {
+        return new UpdateWidgetPriceTask$$Lambda$1(widgetUpdater, context, appWidgetManager, i, runnable);
+    }
+
+    public void call(Object obj) {
+        UpdateWidgetPriceTask.lambda$run$0(this.arg$1, this.arg$2, this.arg$3, this.arg$4, this.arg$5, (Pair) obj);
+    }
+}
@@ -0,0 +1,19 @@
+package com.coinbase.android.widgets;
+
+import rx.functions.Action1;
+
+final /* synthetic */ class UpdateWidgetPriceTask$$Lambda$2 implements Action1 {
+    private final Runnable arg$1;
+
+    private UpdateWidgetPriceTask$$Lambda$2(Runnable runnable) {
+        this.arg$1 = runnable;
+    }
+
+    public static Action1 lambdaFactory$(Runnable runnable) {
+        return new UpdateWidgetPriceTask$$Lambda$2(runnable);
+    }
+
+    public void call(Object obj) {
+        UpdateWidgetPriceTask.lambda$run$1(this.arg$1, (Throwable) obj);
+    }
+}
@@ -8,7 +8,6 @@ import android.os.Handler;
 import android.preference.PreferenceManager;
 import android.text.TextUtils;
 import android.util.Pair;
-import com.coinbase.CallbackWithRetrofit;
 import com.coinbase.android.BuildConfig;
 import com.coinbase.android.Constants;
 import com.coinbase.android.Log;
@@ -25,6 +24,8 @@ import com.coinbase.android.utils.Utils;
 import com.coinbase.android.utils.analytics.MixpanelTracking;
 import com.coinbase.api.internal.ApiConstants;
 import com.coinbase.api.internal.CoinbaseInternal;
+import com.coinbase.api.internal.TokenRefreshCoordinator;
+import com.coinbase.api.internal.TokenRefreshCoordinator.TokenStore;
 import com.coinbase.auth.AccessToken;
 import com.coinbase.v1.entity.OAuthTokensResponse;
 import com.coinbase.v1.exception.CoinbaseException;
@@ -37,30 +38,67 @@ import com.crashlytics.android.answers.Answers;
 import com.crashlytics.android.answers.CustomEvent;
 import java.io.IOException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import org.joda.money.CurrencyUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import retrofit2.Call;
-import retrofit2.Callback;
 import retrofit2.Response;
-import retrofit2.Retrofit;
 import rx.Scheduler;
 import rx.android.schedulers.AndroidSchedulers;
+import rx.schedulers.Schedulers;
 
-public class LoginManager {
+public class LoginManager implements TokenStore {
+    private static final Comparator<Data> ACCOUNT_ID_DESCENDING = new Comparator<Data>() {
+        public int compare(Data lhs, Data rhs) {
+            return rhs.getId().compareTo(lhs.getId());
+        }
+    };
     private final DatabaseManager dbManager;
+    private volatile AccountSnapshot mAccountSnapshot;
+    private final AtomicLong mAccountsVersion = new AtomicLong();
     private CoinbaseInternal mClient;
     private final Application mContext;
     private final Logger mLogger;
     private final Scheduler mMainScheduler;
     private final SharedPreferences mSharedPrefs;
     private final SignOutConnector mSignOutConnector;
+    private final TokenRefreshCoordinator mTokenRefreshCoordinator;
     private final UserUpdatedConnector mUserUpdatedConnector;
     private int retryCount;
 
+    static final class AccountSnapshot {
+        final List<Data> accounts;
+        final Map<String, Data> accountsById;
+        final List<Data> accountsByIdDescending;
+        final String activeAccountId;
+        final long version;
+
+        AccountSnapshot(long version, List<Data> accountsByIdDescending, String activeAccountId) {
+            ArrayList<Data> accounts = new ArrayList(accountsByIdDescending.size());
+            HashMap<String, Data> accountsById = new HashMap();
+            for (Data account : accountsByIdDescending) {
+                if (account.getId().equals(activeAccountId)) {
+                    accounts.add(0, account);
+                } else {
+                    accounts.add(account);
+                }
+                accountsById.put(account.getId(), account);
+            }
+            this.version = version;
+            this.accounts = Collections.unmodifiableList(accounts);
+            this.accountsById = Collections.unmodifiableMap(accountsById);
+            this.accountsByIdDescending = Collections.unmodifiableList(new ArrayList(accountsByIdDescending));
+            this.activeAccountId = activeAccountId;
+        }
+    }
+
     public interface TokenResponse {
         void onResponseNeededRefresh(boolean z);
     }
@@ -83,6 +121,12 @@ public class LoginManager {
         this.mUserUpdatedConnector = userUpdatedConnector;
         this.mSignOutConnector = signOutConnector;
         this.mSharedPrefs = sharedPreferences;
+        this.mTokenRefreshCoordinator = new TokenRefreshCoordinator(this, Schedulers.io(), mainScheduler);
+        client.setTokenRefreshCoordinator(this.mTokenRefreshCoordinator);
+        client.setDiskCacheUserId(sharedPreferences.getString(Constants.KEY_USER_ID, null));
+        if (isSignedIn()) {
+            this.mTokenRefreshCoordinator.scheduleRefresh(sharedPreferences.getLong(Constants.KEY_ACCOUNT_TOKEN_EXPIRES_AT, 0));
+        }
     }
 
     public String getClientId() {
@@ -97,20 +141,92 @@ public class LoginManager {
         return getAccessToken() != null;
     }
 
-    public synchronized List<Data> getAccounts() {
+    public List<Data> getAccounts() {
+        return new ArrayList(getAccountSnapshot().accounts);
+    }
+
+    public Data getAccount(String accountId) {
+        if (accountId == null) {
+            return null;
+        }
+        return (Data) getAccountSnapshot().accountsById.get(accountId);
+    }
+
+    public long getAccountsVersion() {
+        return this.mAccountsVersion.get();
+    }
+
+    public void invalidateAccounts() {
+        this.mAccountsVersion.incrementAndGet();
+    }
+
+    public void onAccountsSynced(List<Data> added, List<Data> changed, List<Data> removed) {
+        ArrayList<Data> upserted = new ArrayList(added.size() + changed.size());
+        upserted.addAll(added);
+        upserted.addAll(changed);
+        applyAccountChanges(upserted, removed, true);
+    }
+
+    public void onAccountUpdated(Data account) {
+        applyAccountChanges(Collections.singletonList(account), Collections.emptyList(), false);
+    }
+
+    /**
+     * Writes the active account id and moves that account to the front of the snapshot. This is
+     * the only writer of the id, so reading accounts never goes back to SharedPreferences for it.
+     */
+    public synchronized void setActiveAccountId(String accountId) {
+        this.mSharedPrefs.edit().putString(Constants.KEY_ACTIVE_ACCOUNT_ID, accountId).apply();
+        AccountSnapshot snapshot = this.mAccountSnapshot;
+        if (snapshot != null && !TextUtils.equals(snapshot.activeAccountId, accountId)) {
+            this.mAccountSnapshot = new AccountSnapshot(snapshot.version, snapshot.accountsByIdDescending, accountId);
+        }
+    }
+
+    private AccountSnapshot getAccountSnapshot() {
+        AccountSnapshot snapshot = this.mAccountSnapshot;
+        if (snapshot == null || snapshot.version != this.mAccountsVersion.get()) {
+            return loadAccountSnapshot();
+        }
+        return snapshot;
+    }
+
+    private synchronized AccountSnapshot loadAccountSnapshot() {
+        AccountSnapshot snapshot = this.mAccountSnapshot;
+        long version = this.mAccountsVersion.get();
+        if (snapshot != null && snapshot.version == version) {
+            return snapshot;
+        }
         List<Data> accounts;
-        accounts = AccountORM.list(this.dbManager.openDatabase());
-        this.dbManager.closeDatabase();
-        String keyAccountId = this.mSharedPrefs.getString(Constants.KEY_ACTIVE_ACCOUNT_ID, null);
-        for (Data account : accounts) {
-            if (account.getId().equals(keyAccountId)) {
-                accounts.remove(account);
-                accounts.add(0, account);
-                break;
-            }
+        try {
+            accounts = AccountORM.list(this.dbManager.openDatabase());
+        } finally {
+            this.dbManager.closeDatabase();
         }
         AccountUtils.setIfEthAccountsExists(accounts, this.mSharedPrefs);
-        return accounts;
+        snapshot = new AccountSnapshot(version, accounts, snapshot != null ? snapshot.activeAccountId : this.mSharedPrefs.getString(Constants.KEY_ACTIVE_ACCOUNT_ID, null));
+        this.mAccountSnapshot = snapshot;
+        return snapshot;
+    }
+
+    private synchronized void applyAccountChanges(List<Data> upserted, List<Data> removed, boolean insertMissing) {
+        AccountSnapshot snapshot = this.mAccountSnapshot;
+        if (snapshot == null || snapshot.version != this.mAccountsVersion.get()) {
+            invalidateAccounts();
+            return;
+        }
+        HashMap<String, Data> accountsById = new HashMap(snapshot.accountsById);
+        for (Data account : removed) {
+            accountsById.remove(account.getId());
+        }
+        for (Data account2 : upserted) {
+            if (insertMissing || accountsById.containsKey(account2.getId())) {
+                accountsById.put(account2.getId(), account2);
+            }
+        }
+        ArrayList<Data> accounts = new ArrayList(accountsById.values());
+        Collections.sort(accounts, ACCOUNT_ID_DESCENDING);
+        this.mAccountSnapshot = new AccountSnapshot(this.mAccountsVersion.incrementAndGet(), accounts, snapshot.activeAccountId);
     }
 
     public void checkTokenValidityAndRefreshUser(final TokenAndUserResponse tokenResponse) {
@@ -122,7 +238,7 @@ public class LoginManager {
                 public void onException(boolean unauthorized) {
                     if (unauthorized) {
                         LoginManager.this.logRefresh("refresh_access_token_checkTokenValidityAndRefreshUser");
-                        LoginManager.this.refreshAccessToken(tokenResponse);
+                        LoginManager.this.onUnauthorized(tokenResponse);
                     }
                     LoginManager.this.onRefreshException();
                 }
@@ -145,7 +261,7 @@ public class LoginManager {
         Response<User> response = pair.first;
         if (response.code() == 401) {
             this_.logRefresh("refresh_access_token_checkTokenValidity");
-            this_.refreshAccessToken((TokenResponse) tokenResponse);
+            this_.onUnauthorized((TokenResponse) tokenResponse);
             return;
         }
         if (response.isSuccessful()) {
@@ -154,45 +270,53 @@ public class LoginManager {
         tokenResponse.onResponse(response);
     }
 
-    private void refreshAccessToken(final TokenResponse tokenResponse) {
-        refreshAccessToken(new Callback<AccessToken>() {
-            public void onResponse(Call<AccessToken> call, Response<AccessToken> response) {
-                tokenResponse.onResponseNeededRefresh(response.code() == 401);
-            }
+    /**
+     * A request still failed with 401 after the OAuth interceptor had the coordinator refresh the
+     * token and replayed it, so there is nothing left to refresh here: the coordinator alone decides
+     * whether the refresh token was rejected and signs out.
+     */
+    private void onUnauthorized(TokenResponse tokenResponse) {
+        String accessToken = getAccessToken();
+        tokenResponse.onResponseNeededRefresh(accessToken == null || this.mTokenRefreshCoordinator.isRejected(accessToken));
+    }
 
-            public void onFailure(Call<AccessToken> call, Throwable t) {
-                tokenResponse.onResponseNeededRefresh(false);
-            }
-        });
+    /**
+     * Only called by the {@link TokenRefreshCoordinator}, which makes sure there's one call at a
+     * time.
+     */
+    public String refreshAccessToken(boolean ahead) throws IOException {
+        Response<AccessToken> response = getClient().executeRefreshTokens(getClientId(), getClientSecret(), this.mSharedPrefs.getString(Constants.KEY_ACCOUNT_REFRESH_TOKEN, null));
+        if (response.code() == 401) {
+            return null;
+        }
+        if (!response.isSuccessful() || response.body() == null) {
+            throw new IOException("Access token refresh failed [" + response.code() + "]");
+        }
+        AccessToken accessToken = (AccessToken) response.body();
+        if (!ahead) {
+            logRefresh("token_refreshed_refreshAccessToken");
+        }
+        storeRefreshedTokens(accessToken);
+        return accessToken.getAccessToken();
     }
 
-    private void refreshAccessToken(final Callback<AccessToken> callback) {
-        getClient().refreshTokens(getClientId(), getClientSecret(), this.mSharedPrefs.getString(Constants.KEY_ACCOUNT_REFRESH_TOKEN, null), new CallbackWithRetrofit<AccessToken>() {
-            public void onResponse(Call<AccessToken> call, Response<AccessToken> response, Retrofit retrofit) {
-                if (callback != null) {
-                    callback.onResponse(call, response);
-                }
-                if (response.code() == 401) {
-                    LoginManager.this.signout();
-                } else if (response.isSuccessful()) {
-                    AccessToken accessToken = (AccessToken) response.body();
-                    Editor e = LoginManager.this.mSharedPrefs.edit();
-                    LoginManager.this.logRefresh("token_refreshed_refreshAccessToken");
-                    e.putString(Constants.KEY_ACCOUNT_ACCESS_TOKEN, accessToken.getAccessToken());
-                    e.putString(Constants.KEY_ACCOUNT_REFRESH_TOKEN, accessToken.getRefreshToken());
-                    e.putLong(Constants.KEY_ACCOUNT_TOKEN_EXPIRES_AT, System.currentTimeMillis() + Constants.TOKEN_EXPIRY_PERIOD);
-                    e.apply();
-                    CoinbaseInternal.getInstance().init(LoginManager.this.mContext, accessToken.getAccessToken());
-                    Log.i(getClass().getSimpleName(), "Access token refreshed: " + accessToken.getAccessToken());
-                }
-            }
+    private synchronized void storeRefreshedTokens(AccessToken accessToken) throws IOException {
+        if (getAccessToken() == null) {
+            throw new IOException("Signed out during the access token refresh");
+        }
+        long expiresAt = System.currentTimeMillis() + Constants.TOKEN_EXPIRY_PERIOD;
+        Editor e = this.mSharedPrefs.edit();
+        e.putString(Constants.KEY_ACCOUNT_ACCESS_TOKEN, accessToken.getAccessToken());
+        e.putString(Constants.KEY_ACCOUNT_REFRESH_TOKEN, accessToken.getRefreshToken());
+        e.putLong(Constants.KEY_ACCOUNT_TOKEN_EXPIRES_AT, expiresAt);
+        e.apply();
+        CoinbaseInternal.getInstance().init(this.mContext, accessToken.getAccessToken());
+        this.mTokenRefreshCoordinator.scheduleRefresh(expiresAt);
+        Log.i(getClass().getSimpleName(), "Access token refreshed: " + accessToken.getAccessToken());
+    }
 
-            public void onFailure(Call<AccessToken> call, Throwable t) {
-                if (callback != null) {
-                    callback.onFailure(call, t);
-                }
-            }
-        });
+    public void onRefreshRejected() {
+        signout();
     }
 
     public synchronized void signin(Oauth tokens) {
@@ -200,9 +324,11 @@ public class LoginManager {
         CoinbaseInternal.getInstance().init(this.mContext, tokens.getAccessToken());
         e.putString(Constants.KEY_ACCOUNT_ACCESS_TOKEN, tokens.getAccessToken());
         e.putString(Constants.KEY_ACCOUNT_REFRESH_TOKEN, tokens.getRefreshToken());
-        e.putLong(Constants.KEY_ACCOUNT_TOKEN_EXPIRES_AT, System.currentTimeMillis() + Constants.TOKEN_EXPIRY_PERIOD);
+        long expiresAt = System.currentTimeMillis() + Constants.TOKEN_EXPIRY_PERIOD;
+        e.putLong(Constants.KEY_ACCOUNT_TOKEN_EXPIRES_AT, expiresAt);
         e.putBoolean(Constants.KEY_ACCOUNT_VALID, true);
         e.apply();
+        this.mTokenRefreshCoordinator.scheduleRefresh(expiresAt);
         updateAccounts();
         refreshUser();
     }
@@ -212,9 +338,11 @@ public class LoginManager {
         CoinbaseInternal.getInstance().init(this.mContext, tokens.getAccessToken());
         e.putString(Constants.KEY_ACCOUNT_ACCESS_TOKEN, tokens.getAccessToken());
         e.putString(Constants.KEY_ACCOUNT_REFRESH_TOKEN, tokens.getRefreshToken());
-        e.putLong(Constants.KEY_ACCOUNT_TOKEN_EXPIRES_AT, System.currentTimeMillis() + Constants.TOKEN_EXPIRY_PERIOD);
+        long expiresAt = System.currentTimeMillis() + Constants.TOKEN_EXPIRY_PERIOD;
+        e.putLong(Constants.KEY_ACCOUNT_TOKEN_EXPIRES_AT, expiresAt);
         e.putBoolean(Constants.KEY_ACCOUNT_VALID, true);
         e.apply();
+        this.mTokenRefreshCoordinator.scheduleRefresh(expiresAt);
         updateAccounts();
         refreshUser();
     }
@@ -264,6 +392,7 @@ public class LoginManager {
         putStringAndLogIfEmpty(e, Constants.KEY_ACCOUNT_TIME_ZONE, user.getTimeZone());
         e.putBoolean(Constants.KEY_ACCOUNT_NEEDS_USER_AGREEMENT, Utils.isUserAgreementRequired(user.getRestrictions()));
         e.apply();
+        getClient().setDiskCacheUserId(user.getId());
     }
 
     private void updateAccounts() {
@@ -286,7 +415,7 @@ public class LoginManager {
                         if (account.getActive().booleanValue()) {
                             AccountORM.insert(db, account);
                             if (account.getPrimary().booleanValue()) {
-                                e.putString(Constants.KEY_ACTIVE_ACCOUNT_ID, account.getId());
+                                this_.setActiveAccountId(account.getId());
                                 e.putString(Constants.KEY_ACTIVE_ACCOUNT_NAME, account.getName());
                                 e.apply();
                                 foundPrimaryAccount = true;
@@ -298,6 +427,7 @@ public class LoginManager {
                     }
                 } finally {
                     this_.dbManager.closeDatabase();
+                    this_.invalidateAccounts();
                 }
             }
             return;
@@ -398,8 +528,12 @@ public class LoginManager {
     }
 
     public synchronized boolean signout() {
+        this.mTokenRefreshCoordinator.cancelScheduledRefresh();
+        getClient().setDiskCacheUserId(null);
         getClient().revokeToken(null);
         this.mContext.deleteDatabase(ClientCacheDatabase.DATABASE_NAME);
+        this.mAccountSnapshot = null;
+        invalidateAccounts();
         SharedPreferences defaultPreferences = PreferenceManager.getDefaultSharedPreferences(this.mContext);
         defaultPreferences.edit().clear().putInt(Constants.LAUNCH_MESSAGE_HASHCODE, defaultPreferences.getInt(Constants.LAUNCH_MESSAGE_HASHCODE, 0)).apply();
         this.mSignOutConnector.get().onNext(null);
@@ -35,6 +35,7 @@ import com.coinbase.api.internal.models.status.Status;
 import com.coinbase.api.internal.models.tiers.Tiers;
 import com.coinbase.api.internal.models.transaction.TransactionFee;
 import com.coinbase.api.internal.models.wbl.PendingHolds;
+import com.coinbase.cache.OkHttpInMemoryLruCache;
 import com.coinbase.v2.models.paymentMethods.PaymentMethod;
 import com.coinbase.v2.models.transactions.Transactions;
 import com.coinbase.v2.models.transfers.Transfer;
@@ -47,6 +48,7 @@ import retrofit2.http.DELETE;
 import retrofit2.http.FieldMap;
 import retrofit2.http.FormUrlEncoded;
 import retrofit2.http.GET;
+import retrofit2.http.Headers;
 import retrofit2.http.Multipart;
 import retrofit2.http.POST;
 import retrofit2.http.PUT;
@@ -155,6 +157,7 @@ public interface ApiInterfaceRx {
     Observable<Response<Currencies>> getCryptoCurrencies();
 
     @GET("app/dashboard")
+    @Headers({OkHttpInMemoryLruCache.ACCEPT_DISK_TIER})
     Observable<Response<Dashboard>> getDashboard();
 
     @GET("user/email-preferences")
@@ -14,6 +14,6 @@ final /* synthetic */ class CacheFeatureFlagInitializer$$Lambda$1 implements Act
     }
 
     public void call(Object obj) {
-        this.arg$1.mClient.setForcedCacheEnabled(((Boolean) obj).booleanValue());
+        CacheFeatureFlagInitializer.lambda$onCreate$0(this.arg$1, (Boolean) obj);
     }
 }
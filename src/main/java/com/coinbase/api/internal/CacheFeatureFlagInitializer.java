@@ -29,7 +29,13 @@ public class CacheFeatureFlagInitializer implements ApplicationOnCreateListener,
         this.mSubscription.add(this.mFeatureFlags.get(REDUCE_API_CALLS).observeOn(this.mBackgroundScheduler).subscribe(CacheFeatureFlagInitializer$$Lambda$1.lambdaFactory$(this)));
     }
 
+    static /* synthetic */ void lambda$onCreate$0(CacheFeatureFlagInitializer this_, Boolean enabled) {
+        this_.mClient.setForcedCacheEnabled(enabled.booleanValue());
+        this_.mClient.setDiskCacheEnabled(enabled.booleanValue());
+    }
+
     public void onApplicationSignOut() {
         this.mClient.setForcedCacheEnabled(false);
+        this.mClient.setDiskCacheEnabled(false);
     }
 }
@@ -48,11 +48,12 @@ import com.coinbase.api.internal.models.status.Status;
 import com.coinbase.api.internal.models.tiers.Tiers;
 import com.coinbase.api.internal.models.transaction.TransactionFee;
 import com.coinbase.api.internal.models.wbl.PendingHolds;
+import com.coinbase.cache.OkHttpDiskCacheTier;
 import com.coinbase.v2.models.paymentMethods.PaymentMethod;
 import com.coinbase.v2.models.transactions.Transactions;
 import com.coinbase.v2.models.transfers.Transfer;
 import com.coinbase.v2.models.user.User;
-import com.google.gson.GsonBuilder;
+import java.io.File;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
@@ -62,11 +63,12 @@ import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
 import java.util.TimeZone;
-import okhttp3.Call.Factory;
+import java.util.concurrent.atomic.AtomicLong;
 import okhttp3.Interceptor;
 import okhttp3.Interceptor.Chain;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
 import okhttp3.Request.Builder;
 import okhttp3.RequestBody;
 import okhttp3.Response;
@@ -77,13 +79,17 @@ import retrofit2.CallAdapter;
 import retrofit2.Callback;
 import retrofit2.Retrofit;
 import retrofit2.adapter.rxjava.RxJavaCallAdapterFactory;
-import retrofit2.converter.gson.GsonConverterFactory;
 import rx.Observable;
 import rx.functions.Action1;
 
 public class CoinbaseInternal extends Coinbase {
+    private static final String DISK_CACHE_DIRECTORY = "api-cache";
+    private static final long DISK_CACHE_SIZE = 2097152;
     private static final long FORCED_CACHE_TIMEOUT = 30000;
+    private static final int JUMIO_UPLOAD_RETRIES = 2;
     private static final Set<String> FORCED_CACHE_URLS = new HashSet(Arrays.asList(new String[]{SLASH + ApiConstants.SERVER_VERSION + SLASH + ApiConstants.ALERTS, SLASH + ApiConstants.SERVER_VERSION + SLASH + "accounts", SLASH + ApiConstants.SERVER_VERSION + SLASH + ApiConstants.DASHBOARD, SLASH + ApiConstants.SERVER_VERSION + SLASH + "user"}));
+    private static final long SINGLE_FLIGHT_FRESHNESS = 2000;
+    private static final String[] SINGLE_FLIGHT_FRESH_PATHS = new String[]{SLASH + ApiConstants.SERVER_VERSION + SLASH + "accounts", SLASH + ApiConstants.SERVER_VERSION + SLASH + "hold-balances", SLASH + ApiConstants.SERVER_VERSION + SLASH + "payment-methods", SLASH + ApiConstants.SERVER_VERSION + "/prices/", SLASH + ApiConstants.SERVER_VERSION + SLASH + "user"};
     private static final String SLASH = "/";
     protected static CoinbaseInternal _instance = null;
     private volatile String mAdvertisingId;
@@ -91,13 +97,20 @@ public class CoinbaseInternal extends Coinbase {
     private final HashMap<String, Pair<ApiInterface, Retrofit>> mCustomApiServices = new HashMap();
     private final HashMap<String, Pair<ApiInterfaceRx, Retrofit>> mCustomApiServicesRx = new HashMap();
     private volatile Action1<Builder> mDebugRequestModifier = null;
+    private volatile boolean mDiskCacheEnabled = false;
+    private String mDiskCachePartition;
+    private String mDiskCacheUserId;
     private volatile boolean mHttpLoggingEnabled = false;
     private final HashMap<String, Pair<ApiInterface, Retrofit>> mInitializedInternalServices = new HashMap();
     private final HashMap<String, Pair<ApiInterfaceRx, Retrofit>> mInitializedInternalServicesRx = new HashMap();
     private final Logger mLogger = LoggerFactory.getLogger(CoinbaseInternal.class);
     private StethoWrapper mStethoWrapper;
+    private volatile TokenRefreshCoordinator mTokenRefreshCoordinator;
 
     protected CoinbaseInternal() {
+        for (String path : SINGLE_FLIGHT_FRESH_PATHS) {
+            this.mSingleFlight.setFreshnessWindow(path, SINGLE_FLIGHT_FRESHNESS);
+        }
     }
 
     public static CoinbaseInternal getInstance() {
@@ -123,11 +136,21 @@ public class CoinbaseInternal extends Coinbase {
             this.mInitializedInternalServicesRx.clear();
             this._cache.setForcedCache(FORCED_CACHE_URLS, FORCED_CACHE_TIMEOUT);
         }
+        updateDiskCacheTier();
         if (accessToken != null) {
             Log.d("ACCESS TOKEN", accessToken);
         }
     }
 
+    protected synchronized void clearServices() {
+        super.clearServices();
+        this.mInitializedInternalServices.clear();
+        this.mInitializedInternalServicesRx.clear();
+        this.mCustomApiServices.clear();
+        this.mCustomApiServicesRx.clear();
+        this.mAuthApiServicePairRx = null;
+    }
+
     public void startNetworkRecording() {
         this.mHttpLoggingEnabled = true;
     }
@@ -144,31 +167,37 @@ public class CoinbaseInternal extends Coinbase {
         this._cache.setForcedCacheEnabled(enabled);
     }
 
+    public void setDiskCacheEnabled(boolean enabled) {
+        this.mDiskCacheEnabled = enabled;
+        updateDiskCacheTier();
+    }
+
+    /**
+     * The disk tier is partitioned per user, so it survives token refreshes but not a change of
+     * user. Null drops it.
+     */
+    public synchronized void setDiskCacheUserId(String userId) {
+        this.mDiskCacheUserId = userId;
+        updateDiskCacheTier();
+    }
+
+    private synchronized void updateDiskCacheTier() {
+        String userId = this.mDiskCacheUserId;
+        if (!this.mDiskCacheEnabled || TextUtils.isEmpty(this._accessToken) || TextUtils.isEmpty(userId) || this._context == null) {
+            this.mDiskCachePartition = null;
+            this._cache.setDiskTier(null);
+        } else if (!TextUtils.equals(this.mDiskCachePartition, userId) || !this._cache.hasDiskTier()) {
+            this.mDiskCachePartition = userId;
+            this._cache.setDiskTier(OkHttpDiskCacheTier.open(new File(this._context.getCacheDir(), DISK_CACHE_DIRECTORY), userId, DISK_CACHE_SIZE));
+        }
+    }
+
     public void setAdvertisingId(String advertisingId) {
         this.mAdvertisingId = advertisingId;
     }
 
     public Set<OkHttpClient> getCurrentOkHttpClients() {
-        Set<OkHttpClient> okHttpClients = new HashSet();
-        for (Pair<ApiInterface, Retrofit> pair : this.mInitializedServices.values()) {
-            Factory factory = ((Retrofit) pair.second).callFactory();
-            if (factory instanceof OkHttpClient) {
-                okHttpClients.add((OkHttpClient) factory);
-            }
-        }
-        for (Pair<ApiInterface, Retrofit> pair2 : this.mInitializedInternalServices.values()) {
-            factory = ((Retrofit) pair2.second).callFactory();
-            if (factory instanceof OkHttpClient) {
-                okHttpClients.add((OkHttpClient) factory);
-            }
-        }
-        for (Pair<ApiInterfaceRx, Retrofit> pair3 : this.mInitializedInternalServicesRx.values()) {
-            factory = ((Retrofit) pair3.second).callFactory();
-            if (factory instanceof OkHttpClient) {
-                okHttpClients.add((OkHttpClient) factory);
-            }
-        }
-        return new HashSet(okHttpClients);
+        return getLiveOkHttpClients();
     }
 
     public boolean verifyCallback(String body, String signature) {
@@ -178,14 +207,44 @@ public class CoinbaseInternal extends Coinbase {
     protected Interceptor buildOAuthInterceptor() {
         return new Interceptor() {
             public Response intercept(Chain chain) throws IOException {
-                if (TextUtils.isEmpty(CoinbaseInternal.this._accessToken)) {
-                    CoinbaseInternal.this.mLogger.error("access_token_empty path [" + chain.request().url().encodedPath() + "]");
+                Request request = chain.request();
+                String accessToken = CoinbaseInternal.this._accessToken;
+                if (TextUtils.isEmpty(accessToken)) {
+                    CoinbaseInternal.this.mLogger.error("access_token_empty path [" + request.url().encodedPath() + "]");
+                }
+                Response response = chain.proceed(request.newBuilder().addHeader("Authorization", "Bearer " + accessToken).build());
+                TokenRefreshCoordinator coordinator = CoinbaseInternal.this.mTokenRefreshCoordinator;
+                if (response.code() != 401 || coordinator == null || TextUtils.isEmpty(accessToken) || request.url().toString().startsWith(CoinbaseInternal.this._baseOAuthUrl.toString())) {
+                    return response;
+                }
+                String refreshedToken;
+                try {
+                    refreshedToken = coordinator.awaitRefresh(accessToken);
+                } catch (IOException e) {
+                    return response;
+                }
+                if (refreshedToken == null) {
+                    return response;
                 }
-                return chain.proceed(chain.request().newBuilder().addHeader("Authorization", "Bearer " + CoinbaseInternal.this._accessToken).build());
+                response.close();
+                coordinator.onReplay();
+                return chain.proceed(request.newBuilder().addHeader("Authorization", "Bearer " + refreshedToken).build());
             }
         };
     }
 
+    /**
+     * Requests of this client that fail with 401 are held until the coordinator refreshed the
+     * access token and are then sent again with the new one.
+     */
+    public void setTokenRefreshCoordinator(TokenRefreshCoordinator coordinator) {
+        this.mTokenRefreshCoordinator = coordinator;
+    }
+
+    public TokenRefreshCoordinator getTokenRefreshCoordinator() {
+        return this.mTokenRefreshCoordinator;
+    }
+
     protected Interceptor build2FAInterceptor(final String token) {
         return new Interceptor() {
             public Response intercept(Chain chain) throws IOException {
@@ -247,7 +306,7 @@ public class CoinbaseInternal extends Coinbase {
         if (this.mInitializedInternalServices.containsKey(url)) {
             pair = (Pair) this.mInitializedInternalServices.get(url);
         } else {
-            OkHttpClient.Builder clientBuilder = generateClientBuilder(this._sslContext);
+            OkHttpClient.Builder clientBuilder = newClientBuilder();
             if (this._accessToken != null) {
                 clientBuilder.addInterceptor(buildOAuthInterceptor());
             }
@@ -255,9 +314,10 @@ public class CoinbaseInternal extends Coinbase {
             clientBuilder.addInterceptor(languageInterceptor());
             clientBuilder.addInterceptor(this._cache.createInterceptor());
             clientBuilder.addInterceptor(deviceInfoInterceptor());
+            clientBuilder.addInterceptor(this.mSingleFlight);
             clientBuilder.addInterceptor(loggingInterceptor());
             clientBuilder.addNetworkInterceptor(networkSniffingInterceptor());
-            Retrofit retrofit = new Retrofit.Builder().baseUrl(fixBaseUrl(url)).client(clientBuilder.build()).addConverterFactory(GsonConverterFactory.create(new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create())).build();
+            Retrofit retrofit = new Retrofit.Builder().baseUrl(fixBaseUrl(url)).client(buildClient(clientBuilder)).addConverterFactory(Serializers.getGsonConverterFactory()).build();
             Pair<ApiInterface, Retrofit> servicePair = new Pair((ApiInterface) retrofit.create(ApiInterface.class), retrofit);
             this.mInitializedInternalServices.put(url, servicePair);
             pair = servicePair;
@@ -271,7 +331,7 @@ public class CoinbaseInternal extends Coinbase {
 
     private synchronized Pair<ApiInterface, Retrofit> get2FAApiService(String token) {
         Retrofit retrofit;
-        OkHttpClient.Builder clientBuilder = generateClientBuilder(this._sslContext);
+        OkHttpClient.Builder clientBuilder = newClientBuilder();
         if (this._accessToken != null) {
             clientBuilder.addInterceptor(buildOAuthInterceptor());
         }
@@ -280,7 +340,7 @@ public class CoinbaseInternal extends Coinbase {
             token = "l";
         }
         clientBuilder.addInterceptor(build2FAInterceptor(token));
-        retrofit = new Retrofit.Builder().baseUrl(fixBaseUrl(this._baseV2ApiUrl.toString())).client(clientBuilder.build()).addConverterFactory(GsonConverterFactory.create(new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create())).build();
+        retrofit = new Retrofit.Builder().baseUrl(fixBaseUrl(this._baseV2ApiUrl.toString())).client(buildClient(clientBuilder)).addConverterFactory(Serializers.getGsonConverterFactory()).build();
         return new Pair((ApiInterface) retrofit.create(ApiInterface.class), retrofit);
     }
 
@@ -289,7 +349,7 @@ public class CoinbaseInternal extends Coinbase {
         if (this.mCustomApiServices.containsKey(url)) {
             pair = (Pair) this.mCustomApiServices.get(url);
         } else {
-            Retrofit retrofit = new Retrofit.Builder().baseUrl(fixBaseUrl(url)).addConverterFactory(GsonConverterFactory.create(new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create())).build();
+            Retrofit retrofit = new Retrofit.Builder().baseUrl(fixBaseUrl(url)).client(getThirdPartyClient()).addConverterFactory(Serializers.getGsonConverterFactory()).build();
             Pair<ApiInterface, Retrofit> customApiServicePair = new Pair((ApiInterface) retrofit.create(ApiInterface.class), retrofit);
             this.mCustomApiServices.put(url, customApiServicePair);
             pair = customApiServicePair;
@@ -303,7 +363,7 @@ public class CoinbaseInternal extends Coinbase {
             pair = (Pair) this.mInitializedInternalServicesRx.get(url);
         } else {
             CallAdapter.Factory create;
-            OkHttpClient.Builder clientBuilder = generateClientBuilder(this._sslContext);
+            OkHttpClient.Builder clientBuilder = newClientBuilder();
             if (this._accessToken != null) {
                 clientBuilder.addInterceptor(buildOAuthInterceptor());
             }
@@ -311,15 +371,16 @@ public class CoinbaseInternal extends Coinbase {
             clientBuilder.addInterceptor(languageInterceptor());
             clientBuilder.addInterceptor(this._cache.createInterceptor());
             clientBuilder.addInterceptor(deviceInfoInterceptor());
+            clientBuilder.addInterceptor(this.mSingleFlight);
             clientBuilder.addInterceptor(loggingInterceptor());
             clientBuilder.addNetworkInterceptor(networkSniffingInterceptor());
-            Retrofit.Builder client = new Retrofit.Builder().baseUrl(fixBaseUrl(url)).client(clientBuilder.build());
+            Retrofit.Builder client = new Retrofit.Builder().baseUrl(fixBaseUrl(url)).client(buildClient(clientBuilder));
             if (this._backgroundScheduler == null) {
                 create = RxJavaCallAdapterFactory.create();
             } else {
                 create = RxJavaCallAdapterFactory.createWithScheduler(this._backgroundScheduler);
             }
-            Retrofit retrofit = client.addCallAdapterFactory(create).addConverterFactory(GsonConverterFactory.create(new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create())).build();
+            Retrofit retrofit = client.addCallAdapterFactory(create).addConverterFactory(Serializers.getGsonConverterFactory()).build();
             Pair<ApiInterfaceRx, Retrofit> servicePairRx = new Pair((ApiInterfaceRx) retrofit.create(ApiInterfaceRx.class), retrofit);
             this.mInitializedInternalServicesRx.put(url, servicePairRx);
             pair = servicePairRx;
@@ -337,14 +398,13 @@ public class CoinbaseInternal extends Coinbase {
             pair = this.mAuthApiServicePairRx;
         } else {
             CallAdapter.Factory create;
-            OkHttpClient.Builder clientBuilder = generateClientBuilder(this._sslContext);
-            Retrofit.Builder client = new Retrofit.Builder().baseUrl(fixBaseUrl(this._baseApiUrl.toString())).client(clientBuilder.build());
+            Retrofit.Builder client = new Retrofit.Builder().baseUrl(fixBaseUrl(this._baseApiUrl.toString())).client(getRootClient());
             if (this._backgroundScheduler == null) {
                 create = RxJavaCallAdapterFactory.create();
             } else {
                 create = RxJavaCallAdapterFactory.createWithScheduler(this._backgroundScheduler);
             }
-            Retrofit retrofit = client.addCallAdapterFactory(create).addConverterFactory(GsonConverterFactory.create(new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create())).build();
+            Retrofit retrofit = client.addCallAdapterFactory(create).addConverterFactory(Serializers.getGsonConverterFactory()).build();
             this.mAuthApiServicePairRx = new Pair((ApiInterfaceRx) retrofit.create(ApiInterfaceRx.class), retrofit);
             pair = this.mAuthApiServicePairRx;
         }
@@ -354,7 +414,7 @@ public class CoinbaseInternal extends Coinbase {
     private synchronized Pair<ApiInterfaceRx, Retrofit> get2FAApiServiceRx(String token) {
         Retrofit retrofit;
         CallAdapter.Factory create;
-        OkHttpClient.Builder clientBuilder = generateClientBuilder(this._sslContext);
+        OkHttpClient.Builder clientBuilder = newClientBuilder();
         if (this._accessToken != null) {
             clientBuilder.addInterceptor(buildOAuthInterceptor());
         }
@@ -363,13 +423,13 @@ public class CoinbaseInternal extends Coinbase {
             token = "l";
         }
         clientBuilder.addInterceptor(build2FAInterceptor(token));
-        Retrofit.Builder client = new Retrofit.Builder().baseUrl(fixBaseUrl(this._baseV2ApiUrl.toString())).client(clientBuilder.build());
+        Retrofit.Builder client = new Retrofit.Builder().baseUrl(fixBaseUrl(this._baseV2ApiUrl.toString())).client(buildClient(clientBuilder));
         if (this._backgroundScheduler == null) {
             create = RxJavaCallAdapterFactory.create();
         } else {
             create = RxJavaCallAdapterFactory.createWithScheduler(this._backgroundScheduler);
         }
-        retrofit = client.addCallAdapterFactory(create).addConverterFactory(GsonConverterFactory.create(new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create())).build();
+        retrofit = client.addCallAdapterFactory(create).addConverterFactory(Serializers.getGsonConverterFactory()).build();
         return new Pair((ApiInterfaceRx) retrofit.create(ApiInterfaceRx.class), retrofit);
     }
 
@@ -379,13 +439,13 @@ public class CoinbaseInternal extends Coinbase {
             pair = (Pair) this.mCustomApiServicesRx.get(url);
         } else {
             CallAdapter.Factory create;
-            Retrofit.Builder baseUrl = new Retrofit.Builder().baseUrl(fixBaseUrl(url));
+            Retrofit.Builder baseUrl = new Retrofit.Builder().baseUrl(fixBaseUrl(url)).client(getThirdPartyClient());
             if (this._backgroundScheduler == null) {
                 create = RxJavaCallAdapterFactory.create();
             } else {
                 create = RxJavaCallAdapterFactory.createWithScheduler(this._backgroundScheduler);
             }
-            Retrofit retrofit = baseUrl.addCallAdapterFactory(create).addConverterFactory(GsonConverterFactory.create(new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create())).build();
+            Retrofit retrofit = baseUrl.addCallAdapterFactory(create).addConverterFactory(Serializers.getGsonConverterFactory()).build();
             Pair<ApiInterfaceRx, Retrofit> customApiServicePairRx = new Pair((ApiInterfaceRx) retrofit.create(ApiInterfaceRx.class), retrofit);
             this.mCustomApiServicesRx.put(url, customApiServicePairRx);
             pair = customApiServicePairRx;
@@ -883,6 +943,43 @@ public class CoinbaseInternal extends Coinbase {
         return Observable.combineLatest(((ApiInterfaceRx) apiRetrofitPair.first).createJumioProfile(bodies[0], bodies[1], bodies[2], bodies[3], bodies[4]), Observable.just(apiRetrofitPair.second), CoinbaseInternal$$Lambda$46.lambdaFactory$()).first();
     }
 
+    /**
+     * Uploads images spooled to disk. Each image is streamed from its file and its bytes added to
+     * bytesSent; a request failing to connect is retried from the same files.
+     */
+    public Call createJumioProfile(String countryCode, String idType, File frontImage, File backImage, File faceImage, AtomicLong bytesSent, final CallbackWithRetrofit<JumioProfile> callback) {
+        final Pair<ApiInterface, Retrofit> apiRetrofitPair = getInternalApiService();
+        RequestBody[] bodies = createJumioProfileRequestBodies(countryCode, idType, frontImage, backImage, faceImage, bytesSent);
+        Call call = ((ApiInterface) apiRetrofitPair.first).createJumioProfile(bodies[0], bodies[1], bodies[2], bodies[3], bodies[4]);
+        call.enqueue(new Callback<JumioProfile>() {
+            private int mRetries;
+
+            public void onResponse(Call<JumioProfile> call, retrofit2.Response<JumioProfile> response) {
+                if (callback != null) {
+                    callback.onResponse(call, response, (Retrofit) apiRetrofitPair.second);
+                }
+            }
+
+            public void onFailure(Call<JumioProfile> call, Throwable t) {
+                if (!RetryOnSubscribe.isConnectFailure(t) || call.isCanceled() || this.mRetries >= JUMIO_UPLOAD_RETRIES) {
+                    if (callback != null) {
+                        callback.onFailure(call, t);
+                    }
+                    return;
+                }
+                this.mRetries++;
+                call.clone().enqueue(this);
+            }
+        });
+        return call;
+    }
+
+    public Observable<Pair<retrofit2.Response<JumioProfile>, Retrofit>> createJumioProfileRx(String countryCode, String idType, File frontImage, File backImage, File faceImage, AtomicLong bytesSent) {
+        Pair<ApiInterfaceRx, Retrofit> apiRetrofitPair = getInternalApiServiceRx();
+        RequestBody[] bodies = createJumioProfileRequestBodies(countryCode, idType, frontImage, backImage, faceImage, bytesSent);
+        return Observable.combineLatest(Observable.create(new RetryOnSubscribe(((ApiInterfaceRx) apiRetrofitPair.first).createJumioProfile(bodies[0], bodies[1], bodies[2], bodies[3], bodies[4]), JUMIO_UPLOAD_RETRIES)), Observable.just(apiRetrofitPair.second), CoinbaseInternal$$Lambda$67.lambdaFactory$()).first();
+    }
+
     public Observable<Pair<retrofit2.Response<SupportedDocuments>, Retrofit>> getJumioSupportedDocumentsRx() {
         Pair<ApiInterfaceRx, Retrofit> apiRetrofitPair = getInternalApiServiceRx();
         return Observable.combineLatest(((ApiInterfaceRx) apiRetrofitPair.first).getJumioSupportedDocuments(), Observable.just(apiRetrofitPair.second), CoinbaseInternal$$Lambda$47.lambdaFactory$()).first();
@@ -1089,4 +1186,16 @@ public class CoinbaseInternal extends Coinbase {
         }
         return requestBodies;
     }
+
+    private RequestBody[] createJumioProfileRequestBodies(String countryCode, String idType, File frontImage, File backImage, File faceImage, AtomicLong bytesSent) {
+        MediaType mediaType = MediaType.parse("image/jpeg");
+        RequestBody[] requestBodies = new RequestBody[]{RequestBody.create(MediaType.parse("text/plain"), countryCode), RequestBody.create(MediaType.parse("text/plain"), idType), new FileRequestBody(mediaType, frontImage, bytesSent), null, null};
+        if (backImage != null) {
+            requestBodies[3] = new FileRequestBody(mediaType, backImage, bytesSent);
+        }
+        if (faceImage != null) {
+            requestBodies[4] = new FileRequestBody(mediaType, faceImage, bytesSent);
+        }
+        return requestBodies;
+    }
 }
@@ -0,0 +1,53 @@
+package com.coinbase.api.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.internal.Util;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+
+/**
+ * Request body streamed from a file one segment at a time, adding every byte written to a shared
+ * counter. The file is reopened on each write, so a retried request sends it again unchanged.
+ */
+final class FileRequestBody extends RequestBody {
+    private static final long SEGMENT_SIZE = 8192;
+    private final AtomicLong mBytesSent;
+    private final MediaType mContentType;
+    private final File mFile;
+
+    FileRequestBody(MediaType contentType, File file, AtomicLong bytesSent) {
+        this.mContentType = contentType;
+        this.mFile = file;
+        this.mBytesSent = bytesSent;
+    }
+
+    public MediaType contentType() {
+        return this.mContentType;
+    }
+
+    public long contentLength() {
+        return this.mFile.length();
+    }
+
+    public void writeTo(BufferedSink sink) throws IOException {
+        Source source = Okio.source(this.mFile);
+        try {
+            while (true) {
+                long read = source.read(sink.buffer(), SEGMENT_SIZE);
+                if (read != -1) {
+                    sink.emitCompleteSegments();
+                    this.mBytesSent.addAndGet(read);
+                } else {
+                    return;
+                }
+            }
+        } finally {
+            Util.closeQuietly(source);
+        }
+    }
+}
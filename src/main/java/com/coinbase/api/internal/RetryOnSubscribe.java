@@ -0,0 +1,60 @@
+package com.coinbase.api.internal;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+
+/**
+ * Resubscribes to the source when it fails to connect, up to a number of retries. Retrofit
+ * observables execute a fresh copy of the call on every subscription. Failures after the connection
+ * was made are not retried: the request may have reached the server, and sending a non-idempotent
+ * one again could apply it twice.
+ */
+final class RetryOnSubscribe<T> implements OnSubscribe<T> {
+    private final int mMaxRetries;
+    private final Observable<T> mSource;
+
+    RetryOnSubscribe(Observable<T> source, int maxRetries) {
+        this.mSource = source;
+        this.mMaxRetries = maxRetries;
+    }
+
+    public void call(Subscriber<? super T> child) {
+        subscribe(child, 0);
+    }
+
+    private void subscribe(final Subscriber<? super T> child, final int retries) {
+        if (!child.isUnsubscribed()) {
+            Subscriber<T> attempt = new Subscriber<T>() {
+                public void onNext(T t) {
+                    child.onNext(t);
+                }
+
+                public void onCompleted() {
+                    child.onCompleted();
+                }
+
+                public void onError(Throwable e) {
+                    if (!RetryOnSubscribe.isConnectFailure(e) || retries >= RetryOnSubscribe.this.mMaxRetries) {
+                        child.onError(e);
+                        return;
+                    }
+                    unsubscribe();
+                    RetryOnSubscribe.this.subscribe(child, retries + 1);
+                }
+            };
+            child.add(attempt);
+            this.mSource.unsafeSubscribe(attempt);
+        }
+    }
+
+    /**
+     * Whether the request failed before anything was sent, so sending it again can't apply it twice.
+     */
+    static boolean isConnectFailure(Throwable t) {
+        return (t instanceof ConnectException) || (t instanceof NoRouteToHostException) || (t instanceof UnknownHostException);
+    }
+}
@@ -0,0 +1,58 @@
+package com.coinbase.api.internal;
+
+import com.coinbase.ObjectMapperProvider;
+import com.coinbase.android.notifications.priceAlerts.LocalPriceAlert;
+import com.coinbase.android.notifications.priceAlerts.LocalPriceAlerts;
+import com.coinbase.api.internal.models.currency.Currencies;
+import com.coinbase.v2.models.account.Accounts;
+import com.coinbase.v2.models.paymentMethods.PaymentMethods;
+import com.coinbase.v2.models.price.Price;
+import com.coinbase.v2.models.price.Prices;
+import com.coinbase.v2.models.transactions.Transaction;
+import com.coinbase.v2.models.transactions.Transactions;
+import com.coinbase.v2.models.user.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+/**
+ * The process wide JSON serializers. Gson and Jackson cache the adapters they build for a type per
+ * instance, so creating them where they're used throws those caches away each time. Both are
+ * thread safe once built and must not be reconfigured by callers.
+ */
+public final class Serializers {
+    private static final Class<?>[] WARM_TYPES = new Class[]{Accounts.class, com.coinbase.v2.models.account.Data.class, Transactions.class, Transaction.class, com.coinbase.v2.models.transactions.Data.class, Price.class, Prices.class, PaymentMethods.class, com.coinbase.v2.models.paymentMethods.Data.class, User.class, Currencies.class, LocalPriceAlert.class, LocalPriceAlerts.class};
+    private static final Gson GSON = new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create();
+    private static final GsonConverterFactory GSON_CONVERTER_FACTORY = GsonConverterFactory.create(GSON);
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperProvider.createDefaultMapper();
+
+    private Serializers() {
+    }
+
+    /**
+     * Gson with every AutoValue type adapter registered. Types without one are handled
+     * reflectively, exactly like by a plain {@code new Gson()}.
+     */
+    public static Gson getGson() {
+        return GSON;
+    }
+
+    public static GsonConverterFactory getGsonConverterFactory() {
+        return GSON_CONVERTER_FACTORY;
+    }
+
+    public static ObjectMapper getObjectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Builds the Gson adapters of the models parsed on the first screens, so that the first
+     * responses don't pay for the reflection. Safe to call on any thread.
+     */
+    public static void warm() {
+        for (Class<?> type : WARM_TYPES) {
+            GSON.getAdapter((Class) type);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.coinbase.api.internal;
+
+import rx.functions.Action1;
+
+final /* synthetic */ class TokenRefreshCoordinator$$Lambda$1 implements Action1 {
+    private final TokenRefreshCoordinator arg$1;
+
+    private TokenRefreshCoordinator$$Lambda$1(TokenRefreshCoordinator tokenRefreshCoordinator) {
+        this.arg$1 = tokenRefreshCoordinator;
+    }
+
+    public static Action1 lambdaFactory$(TokenRefreshCoordinator tokenRefreshCoordinator) {
+        return new TokenRefreshCoordinator$$Lambda$1(tokenRefreshCoordinator);
+    }
+
+    public void call(Object obj) {
+        TokenRefreshCoordinator.lambda$scheduleRefresh$0(this.arg$1, (Long) obj);
+    }
+}
@@ -0,0 +1,19 @@
+package com.coinbase.api.internal;
+
+import com.coinbase.api.internal.TokenRefreshCoordinator.TokenStore;
+import rx.functions.Action1;
+
+final /* synthetic */ class TokenRefreshCoordinator$$Lambda$2 implements Action1 {
+    private static final TokenRefreshCoordinator$$Lambda$2 instance = new TokenRefreshCoordinator$$Lambda$2();
+
+    private TokenRefreshCoordinator$$Lambda$2() {
+    }
+
+    public static Action1 lambdaFactory$() {
+        return instance;
+    }
+
+    public void call(Object obj) {
+        ((TokenStore) obj).onRefreshRejected();
+    }
+}
@@ -0,0 +1,234 @@
+package com.coinbase.api.internal;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+import rx.Scheduler;
+import rx.Subscription;
+
+/**
+ * Makes sure at most one OAuth token refresh is in flight. Requests that fail with 401 wait for
+ * the refresh under way, or start it, and are replayed with the token it produced; the refresh
+ * token is therefore only ever spent once, even when many requests expire together. Tokens are
+ * also refreshed ahead of their expiry, at a random point of a window before it so that clients
+ * signed in at the same time don't refresh at the same time.
+ */
+public final class TokenRefreshCoordinator {
+    static final long REFRESH_AHEAD = 600000;
+    static final long REFRESH_JITTER = 300000;
+    private final Scheduler mBackgroundScheduler;
+    private int mFailures;
+    private Flight mFlight;
+    private int mJoinedRefreshes;
+    private final Logger mLogger = LoggerFactory.getLogger(TokenRefreshCoordinator.class);
+    private final Scheduler mMainScheduler;
+    private final Random mRandom = new Random();
+    private int mRefreshes;
+    private String mRejectedToken;
+    private int mReplays;
+    private Subscription mScheduledRefresh;
+    private final Object mScheduleLock = new Object();
+    private final TokenStore mStore;
+
+    public interface TokenStore {
+        /**
+         * The access token requests are currently sent with, or null when signed out. Read while
+         * holding the coordinator's lock, so it must not call back into the coordinator.
+         */
+        String getAccessToken();
+
+        /**
+         * Exchanges the refresh token for a new access token and stores both. Blocks until done
+         * and returns the new access token, or null when the refresh token was rejected.
+         */
+        String refreshAccessToken(boolean ahead) throws IOException;
+
+        /**
+         * Called on the main scheduler once after the refresh token was rejected.
+         */
+        void onRefreshRejected();
+    }
+
+    static final class Flight {
+        private final CountDownLatch mDone = new CountDownLatch(1);
+        private IOException mError;
+        private final Thread mLeader = Thread.currentThread();
+        private final String mStaleToken;
+        private String mToken;
+
+        Flight(String staleToken) {
+            this.mStaleToken = staleToken;
+        }
+    }
+
+    public TokenRefreshCoordinator(TokenStore store, Scheduler backgroundScheduler, Scheduler mainScheduler) {
+        this.mStore = store;
+        this.mBackgroundScheduler = backgroundScheduler;
+        this.mMainScheduler = mainScheduler;
+    }
+
+    /**
+     * Refreshes the token between {@link #REFRESH_AHEAD} and {@link #REFRESH_AHEAD} plus
+     * {@link #REFRESH_JITTER} before it expires, replacing any refresh scheduled before.
+     */
+    public void scheduleRefresh(long expiresAt) {
+        // A lock of its own: the store calls this while holding its lock, which the coordinator
+        // takes while holding its own in awaitRefresh.
+        synchronized (this.mScheduleLock) {
+            cancelScheduledRefresh();
+            long jitter = (long) (this.mRandom.nextDouble() * ((double) REFRESH_JITTER));
+            long delay = Math.max(0, ((expiresAt - REFRESH_AHEAD) - jitter) - System.currentTimeMillis());
+            this.mScheduledRefresh = Observable.timer(delay, TimeUnit.MILLISECONDS, this.mBackgroundScheduler).subscribe(TokenRefreshCoordinator$$Lambda$1.lambdaFactory$(this));
+        }
+    }
+
+    public void cancelScheduledRefresh() {
+        synchronized (this.mScheduleLock) {
+            if (this.mScheduledRefresh != null) {
+                this.mScheduledRefresh.unsubscribe();
+                this.mScheduledRefresh = null;
+            }
+        }
+    }
+
+    static /* synthetic */ void lambda$scheduleRefresh$0(TokenRefreshCoordinator this_, Long tick) {
+        this_.refreshAhead();
+    }
+
+    private void refreshAhead() {
+        Flight flight;
+        synchronized (this) {
+            String currentToken = this.mStore.getAccessToken();
+            if (currentToken == null || this.mFlight != null || currentToken.equals(this.mRejectedToken)) {
+                return;
+            }
+            flight = new Flight(currentToken);
+            this.mFlight = flight;
+            this.mRefreshes++;
+        }
+        try {
+            execute(flight, true);
+        } catch (Exception e) {
+            // A request failing with 401 will try again.
+            this.mLogger.warn("Refreshing the access token ahead of expiry failed", e);
+        }
+    }
+
+    /**
+     * Called with the token a request failed with 401 for, on the thread of that request. Returns
+     * the token to replay it with, which may come from a refresh that finished in the meantime, or
+     * null when it can't be replayed because the refresh token was rejected or the user signed
+     * out. A refresh token is only ever tried once: later calls for the token it was rejected for
+     * return null without another refresh.
+     */
+    public String awaitRefresh(String failedToken) throws IOException {
+        Flight flight;
+        boolean leader = false;
+        synchronized (this) {
+            String currentToken = this.mStore.getAccessToken();
+            if (currentToken == null || currentToken.equals(this.mRejectedToken)) {
+                return null;
+            }
+            flight = this.mFlight;
+            if (flight == null) {
+                if (!currentToken.equals(failedToken)) {
+                    return currentToken;
+                }
+                flight = new Flight(currentToken);
+                this.mFlight = flight;
+                this.mRefreshes++;
+                leader = true;
+            } else if (flight.mLeader == Thread.currentThread()) {
+                // A request made by the refresh itself; waiting for the refresh would never end.
+                return null;
+            } else {
+                this.mJoinedRefreshes++;
+            }
+        }
+        if (leader) {
+            return execute(flight, false);
+        }
+        try {
+            flight.mDone.await();
+            if (flight.mError == null) {
+                return flight.mToken;
+            }
+            throw new IOException(flight.mError.getMessage(), flight.mError);
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException("Interrupted waiting for the access token refresh");
+        }
+    }
+
+    private String execute(Flight flight, boolean ahead) throws IOException {
+        try {
+            flight.mToken = this.mStore.refreshAccessToken(ahead);
+            if (flight.mToken == null) {
+                Observable.just(this.mStore).observeOn(this.mMainScheduler).subscribe(TokenRefreshCoordinator$$Lambda$2.lambdaFactory$());
+            }
+            return flight.mToken;
+        } catch (IOException e) {
+            flight.mError = e;
+            throw e;
+        } catch (RuntimeException e2) {
+            flight.mError = new IOException(e2);
+            throw e2;
+        } finally {
+            synchronized (this) {
+                if (flight.mError != null || flight.mToken == null) {
+                    this.mFailures++;
+                }
+                if (flight.mError == null && flight.mToken == null) {
+                    this.mRejectedToken = flight.mStaleToken;
+                }
+                if (this.mFlight == flight) {
+                    this.mFlight = null;
+                }
+            }
+            flight.mDone.countDown();
+        }
+    }
+
+    /**
+     * Whether the refresh token was rejected when refreshing the given access token. Requests
+     * still failing with 401 after the coordinator had its go report this instead of refreshing
+     * again.
+     */
+    public synchronized boolean isRejected(String token) {
+        return token != null && token.equals(this.mRejectedToken);
+    }
+
+    /**
+     * Counts a request sent again with a refreshed token after it failed with 401.
+     */
+    public synchronized void onReplay() {
+        this.mReplays++;
+    }
+
+    public synchronized int getRefreshes() {
+        return this.mRefreshes;
+    }
+
+    /**
+     * Requests that waited for a refresh in flight instead of starting one.
+     */
+    public synchronized int getJoinedRefreshes() {
+        return this.mJoinedRefreshes;
+    }
+
+    public synchronized int getReplays() {
+        return this.mReplays;
+    }
+
+    public synchronized int getFailures() {
+        return this.mFailures;
+    }
+
+    public synchronized String toString() {
+        return "refreshes=" + this.mRefreshes + ", joined=" + this.mJoinedRefreshes + ", replays=" + this.mReplays + ", failures=" + this.mFailures;
+    }
+}
@@ -0,0 +1,140 @@
+package com.coinbase.cache;
+
+import com.coinbase.cache.OkHttpInMemoryLruCache.CachedResponseBody;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.internal.Util;
+import okhttp3.internal.cache.DiskLruCache;
+import okhttp3.internal.cache.DiskLruCache.Editor;
+import okhttp3.internal.cache.DiskLruCache.Snapshot;
+import okhttp3.internal.io.FileSystem;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.ByteString;
+import okio.Okio;
+
+public class OkHttpDiskCacheTier {
+    private static final int APP_VERSION = 3;
+    private static final int ENTRY_BODY = 1;
+    private static final int ENTRY_COUNT = 2;
+    private static final int ENTRY_METADATA = 0;
+    private static final Executor WRITE_EXECUTOR = Executors.newSingleThreadExecutor(Util.threadFactory("OkHttpDiskCacheTier", true));
+    private final DiskLruCache mDiskLruCache;
+    private final File mDirectory;
+
+    private OkHttpDiskCacheTier(File directory, long maxSize) {
+        this.mDirectory = directory;
+        this.mDiskLruCache = DiskLruCache.create(FileSystem.SYSTEM, directory, APP_VERSION, ENTRY_COUNT, maxSize);
+    }
+
+    public static OkHttpDiskCacheTier open(File rootDirectory, String partition, long maxSize) {
+        final File directory = new File(rootDirectory, Util.sha256(ByteString.encodeUtf8(partition)).hex());
+        final File[] stalePartitions = rootDirectory.listFiles();
+        WRITE_EXECUTOR.execute(new Runnable() {
+            public void run() {
+                if (stalePartitions != null) {
+                    for (File stalePartition : stalePartitions) {
+                        if (!stalePartition.equals(directory)) {
+                            try {
+                                FileSystem.SYSTEM.deleteContents(stalePartition);
+                                FileSystem.SYSTEM.delete(stalePartition);
+                            } catch (IOException e) {
+                            }
+                        }
+                    }
+                }
+            }
+        });
+        return new OkHttpDiskCacheTier(directory, maxSize);
+    }
+
+    private static String urlToKey(String url) {
+        return Util.md5Hex(url);
+    }
+
+    CachedResponseBody get(HttpUrl url) {
+        Snapshot snapshot = null;
+        try {
+            snapshot = this.mDiskLruCache.get(urlToKey(url.toString()));
+            if (snapshot == null) {
+                return null;
+            }
+            BufferedSource metadata = Okio.buffer(snapshot.getSource(ENTRY_METADATA));
+            String eTag = metadata.readUtf8LineStrict();
+            String contentType = metadata.readUtf8LineStrict();
+            int successCode = Integer.parseInt(metadata.readUtf8LineStrict());
+            long storedAtMillis = Long.parseLong(metadata.readUtf8LineStrict());
+            String message = metadata.readUtf8LineStrict();
+            byte[] body = Okio.buffer(snapshot.getSource(ENTRY_BODY)).readByteArray();
+            CachedResponseBody cachedResponseBody = new CachedResponseBody(url, contentType.isEmpty() ? null : MediaType.parse(contentType), body, successCode, message, eTag.isEmpty() ? null : eTag, 0, storedAtMillis);
+            cachedResponseBody.expire();
+            Util.closeQuietly(snapshot);
+            return cachedResponseBody;
+        } catch (Exception e) {
+            Util.closeQuietly(snapshot);
+            return null;
+        }
+    }
+
+    void put(final String url, final CachedResponseBody cachedResponseBody) {
+        WRITE_EXECUTOR.execute(new Runnable() {
+            public void run() {
+                OkHttpDiskCacheTier.this.write(url, cachedResponseBody);
+            }
+        });
+    }
+
+    private void write(String url, CachedResponseBody cachedResponseBody) {
+        Editor editor = null;
+        try {
+            editor = this.mDiskLruCache.edit(urlToKey(url));
+            if (editor != null) {
+                BufferedSink metadata = Okio.buffer(editor.newSink(ENTRY_METADATA));
+                metadata.writeUtf8(cachedResponseBody.eTag() == null ? "" : cachedResponseBody.eTag()).writeByte(10);
+                metadata.writeUtf8(cachedResponseBody.contentType() == null ? "" : cachedResponseBody.contentType().toString()).writeByte(10);
+                metadata.writeUtf8(String.valueOf(cachedResponseBody.successCode())).writeByte(10);
+                metadata.writeUtf8(String.valueOf(cachedResponseBody.storedAtMillis())).writeByte(10);
+                metadata.writeUtf8(cachedResponseBody.message()).writeByte(10);
+                metadata.close();
+                BufferedSink body = Okio.buffer(editor.newSink(ENTRY_BODY));
+                body.write(cachedResponseBody.body());
+                body.close();
+                editor.commit();
+            }
+        } catch (Exception e) {
+            if (editor != null) {
+                editor.abortUnlessCommitted();
+            }
+        }
+    }
+
+    void remove(final String url) {
+        WRITE_EXECUTOR.execute(new Runnable() {
+            public void run() {
+                try {
+                    OkHttpDiskCacheTier.this.mDiskLruCache.remove(urlToKey(url));
+                } catch (Exception e) {
+                }
+            }
+        });
+    }
+
+    void delete() {
+        WRITE_EXECUTOR.execute(new Runnable() {
+            public void run() {
+                try {
+                    OkHttpDiskCacheTier.this.mDiskLruCache.delete();
+                } catch (IOException e) {
+                }
+            }
+        });
+    }
+
+    public File getDirectory() {
+        return this.mDirectory;
+    }
+}
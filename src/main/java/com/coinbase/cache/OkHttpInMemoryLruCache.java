@@ -1,11 +1,15 @@
 package com.coinbase.cache;
 
-import android.util.LruCache;
-import android.util.Pair;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.CacheControl;
+import okhttp3.HttpUrl;
 import okhttp3.Interceptor;
 import okhttp3.Interceptor.Chain;
 import okhttp3.MediaType;
@@ -16,22 +20,59 @@ import okhttp3.Response.Builder;
 import okhttp3.ResponseBody;
 import org.apache.commons.lang3.StringUtils;
 
-public class OkHttpInMemoryLruCache extends LruCache<String, Pair<String, CachedResponseBody>> {
+public class OkHttpInMemoryLruCache {
+    public static final String CACHE_TIER_HEADER = "X-Cache-Tier";
+    private static final String CACHE_TIER_DISK = "disk";
+    /**
+     * Request header of callers that revalidate a response from the disk tier themselves. Only
+     * they get disk tier responses without going to the network.
+     */
+    public static final String ACCEPT_DISK_TIER = "X-Cache-Tier: disk";
+    /**
+     * Resources carrying balances or limits, which any mutation such as a buy, a send or a
+     * payment method change may alter whatever its path.
+     */
+    private static final String[] BALANCE_PATHS = new String[]{"/accounts", "/app/dashboard", "/user"};
+    private static final String ETAG = "ETag";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final long MAX_DISK_TIER_AGE = 86400000;
     private static final int NOT_MODIFIED = 304;
-    private String[] mEnabledForcedCachePathPrefixes;
+    private static final int SEGMENT_COUNT = 8;
+    private final AtomicLong mDiskHitCount = new AtomicLong();
+    private final Set<String> mDiskLookups = Collections.newSetFromMap(new ConcurrentHashMap());
+    private volatile OkHttpDiskCacheTier mDiskTier;
+    private volatile String[] mEnabledForcedCachePathPrefixes;
     private volatile boolean mForcedCacheEnabled = false;
-    private final Map<String, Long> mForcedCacheUrls = new HashMap();
+    private final AtomicLong mHitCount = new AtomicLong();
+    private final Segment mLargeEntries;
+    private final AtomicLong mMissCount = new AtomicLong();
+    private final AtomicLong mRevalidationCount = new AtomicLong();
+    private final int mSegmentSize;
+    private final Segment[] mSegments;
     private volatile long mTimeoutInMillis;
 
     static class CachedResponseBody {
         private final byte[] mBody;
         private final MediaType mContentType;
+        private final String mETag;
+        private volatile boolean mExpired;
+        private final String mHost;
+        private final long mMaxAgeMillis;
+        private final String mMessage;
+        private final String mPath;
+        private volatile long mStoredAtMillis;
         private final int mSuccessCode;
 
-        CachedResponseBody(MediaType contentType, byte[] body, int successCode) {
+        CachedResponseBody(HttpUrl url, MediaType contentType, byte[] body, int successCode, String message, String eTag, long maxAgeMillis, long storedAtMillis) {
+            this.mHost = url.host();
+            this.mPath = url.encodedPath();
             this.mContentType = contentType;
             this.mBody = body;
             this.mSuccessCode = successCode;
+            this.mMessage = message;
+            this.mETag = eTag;
+            this.mMaxAgeMillis = maxAgeMillis;
+            this.mStoredAtMillis = storedAtMillis;
         }
 
         public byte[] body() {
@@ -45,83 +86,389 @@ public class OkHttpInMemoryLruCache extends LruCache<String, Pair<String, Cached
         int successCode() {
             return this.mSuccessCode;
         }
+
+        String message() {
+            return this.mMessage;
+        }
+
+        String eTag() {
+            return this.mETag;
+        }
+
+        String host() {
+            return this.mHost;
+        }
+
+        String path() {
+            return this.mPath;
+        }
+
+        long storedAtMillis() {
+            return this.mStoredAtMillis;
+        }
+
+        long maxAgeMillis() {
+            return this.mMaxAgeMillis;
+        }
+
+        boolean isExpired() {
+            return this.mExpired;
+        }
+
+        void expire() {
+            this.mExpired = true;
+        }
+
+        void revalidated(long nowMillis) {
+            this.mStoredAtMillis = nowMillis;
+            this.mExpired = false;
+        }
+
+        int weight(String url) {
+            return (this.mBody.length + url.length()) + (this.mETag == null ? 0 : this.mETag.length());
+        }
+    }
+
+    static class Segment {
+        private final LinkedHashMap<String, CachedResponseBody> mEntries = new LinkedHashMap(16, 0.75f, true);
+        private final int mMaxSize;
+        private int mSize;
+
+        Segment(int maxSize) {
+            this.mMaxSize = maxSize;
+        }
+
+        synchronized CachedResponseBody get(String url) {
+            return (CachedResponseBody) this.mEntries.get(url);
+        }
+
+        synchronized void put(String url, CachedResponseBody entry) {
+            remove(url);
+            int weight = entry.weight(url);
+            if (weight <= this.mMaxSize) {
+                this.mEntries.put(url, entry);
+                this.mSize += weight;
+                Iterator<Entry<String, CachedResponseBody>> iterator = this.mEntries.entrySet().iterator();
+                while (this.mSize > this.mMaxSize && iterator.hasNext()) {
+                    Entry<String, CachedResponseBody> eldest = (Entry) iterator.next();
+                    this.mSize -= ((CachedResponseBody) eldest.getValue()).weight((String) eldest.getKey());
+                    iterator.remove();
+                }
+            }
+        }
+
+        synchronized void remove(String url) {
+            CachedResponseBody previous = (CachedResponseBody) this.mEntries.remove(url);
+            if (previous != null) {
+                this.mSize -= previous.weight(url);
+            }
+        }
+
+        synchronized void expireRelated(String host, String path) {
+            for (CachedResponseBody entry : this.mEntries.values()) {
+                if (entry.host().equals(host) && (isSameOrParentPath(entry.path(), path) || isSameOrParentPath(path, entry.path()) || isBalancePath(entry.path()))) {
+                    entry.expire();
+                }
+            }
+        }
+
+        synchronized void expireAll() {
+            for (CachedResponseBody entry : this.mEntries.values()) {
+                entry.expire();
+            }
+        }
+
+        synchronized void evictAll() {
+            this.mEntries.clear();
+            this.mSize = 0;
+        }
+
+        synchronized int size() {
+            return this.mSize;
+        }
     }
 
     public OkHttpInMemoryLruCache(int maxSize) {
-        super(maxSize);
+        this(maxSize, maxSize / 2);
+    }
+
+    /**
+     * Splits maxSize between {@link #SEGMENT_COUNT} segments, each with a lock of its own, and one
+     * segment of up to maxEntrySize for responses too large for the others. Responses larger than
+     * that are not kept in memory.
+     */
+    public OkHttpInMemoryLruCache(int maxSize, int maxEntrySize) {
+        int largeEntriesSize = Math.max(0, Math.min(maxEntrySize, maxSize / 2));
+        this.mSegmentSize = (maxSize - largeEntriesSize) / SEGMENT_COUNT;
+        this.mSegments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            this.mSegments[i] = new Segment(this.mSegmentSize);
+        }
+        this.mLargeEntries = new Segment(largeEntriesSize);
+    }
+
+    private Segment segmentFor(String url) {
+        int hash = url.hashCode();
+        return this.mSegments[(((hash >>> 16) ^ hash) & Integer.MAX_VALUE) % this.mSegments.length];
+    }
+
+    private CachedResponseBody get(String url) {
+        CachedResponseBody cached = segmentFor(url).get(url);
+        return cached != null ? cached : this.mLargeEntries.get(url);
     }
 
-    protected synchronized int sizeOf(String key, Pair<String, CachedResponseBody> value) {
-        return ((CachedResponseBody) value.second).body().length + (key.length() + ((String) value.first).length());
+    private void put(String url, CachedResponseBody entry) {
+        Segment segment = segmentFor(url);
+        if (entry.weight(url) > this.mSegmentSize) {
+            segment.remove(url);
+            this.mLargeEntries.put(url, entry);
+            return;
+        }
+        this.mLargeEntries.remove(url);
+        segment.put(url, entry);
+    }
+
+    private void remove(String url) {
+        segmentFor(url).remove(url);
+        this.mLargeEntries.remove(url);
+    }
+
+    static boolean isSameOrParentPath(String parent, String path) {
+        if (!path.startsWith(parent)) {
+            return false;
+        }
+        if (path.length() == parent.length() || parent.endsWith("/") || path.charAt(parent.length()) == '/') {
+            return true;
+        }
+        return false;
+    }
+
+    static boolean isBalancePath(String path) {
+        for (String balancePath : BALANCE_PATHS) {
+            int index = path.indexOf(balancePath);
+            while (index >= 0) {
+                int end = index + balancePath.length();
+                if (end == path.length() || path.charAt(end) == '/') {
+                    return true;
+                }
+                index = path.indexOf(balancePath, index + 1);
+            }
+        }
+        return false;
     }
 
     public Interceptor createInterceptor() {
         return OkHttpInMemoryLruCache$$Lambda$1.lambdaFactory$(this);
     }
 
-    /* JADX WARNING: inconsistent code. */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
     static /* synthetic */ Response lambda$createInterceptor$0(OkHttpInMemoryLruCache this_, Chain chain) throws IOException {
+        return this_.intercept(chain);
+    }
+
+    private Response intercept(Chain chain) throws IOException {
         Request request = chain.request();
-        if (request.method().equalsIgnoreCase("GET")) {
-            Pair<String, CachedResponseBody> responseBodyPair;
-            String url = request.url().toString();
-            synchronized (this_) {
-                responseBodyPair = (Pair) this_.get(url);
-            }
-            if (responseBodyPair != null) {
-                synchronized (this_) {
-                    request = request.newBuilder().header("If-None-Match", (String) ((Pair) this_.get(url)).first).build();
-                }
-            }
-            synchronized (this_) {
-                Response cachedResponse = this_.handleForcedCacheResponseIfEnabled(request, responseBodyPair, chain);
-                if (cachedResponse != null) {
-                    return cachedResponse;
-                }
+        if (!request.method().equalsIgnoreCase("GET")) {
+            Response response = chain.proceed(request);
+            expireRelated(request.url());
+            return response;
+        }
+        boolean acceptsDiskTier = CACHE_TIER_DISK.equals(request.header(CACHE_TIER_HEADER));
+        if (acceptsDiskTier) {
+            request = request.newBuilder().removeHeader(CACHE_TIER_HEADER).build();
+        }
+        if (request.header(IF_NONE_MATCH) != null) {
+            return chain.proceed(request);
+        }
+        String url = request.url().toString();
+        CachedResponseBody cached = get(url);
+        if (cached != null && isFresh(cached, System.currentTimeMillis())) {
+            this.mHitCount.incrementAndGet();
+            return buildCachedResponse(request, cached);
+        }
+        if (cached == null) {
+            cached = loadFromDiskTier(request.url(), url);
+            // Otherwise the disk tier entry only saves the body through a conditional GET.
+            if (cached != null && acceptsDiskTier && isForcedCachePath(cached.path()) && System.currentTimeMillis() - cached.storedAtMillis() < MAX_DISK_TIER_AGE) {
+                this.mDiskHitCount.incrementAndGet();
+                return buildCachedResponse(request, cached).newBuilder().header(CACHE_TIER_HEADER, CACHE_TIER_DISK).build();
             }
-        } else {
-            synchronized (this_) {
-                this_.mForcedCacheUrls.clear();
+        }
+        // Identical requests in flight at the same time are shared by the SingleFlightInterceptor
+        // further down the chain.
+        Request networkRequest = request;
+        if (!(cached == null || cached.eTag() == null)) {
+            networkRequest = request.newBuilder().header(IF_NONE_MATCH, cached.eTag()).build();
+        }
+        Response response = chain.proceed(networkRequest);
+        if (response.code() == NOT_MODIFIED && cached != null) {
+            this.mRevalidationCount.incrementAndGet();
+            response.body().close();
+            cached.revalidated(System.currentTimeMillis());
+            writeToDiskTier(url, cached);
+            return response.newBuilder().code(cached.successCode()).message(cached.message()).body(ResponseBody.create(cached.contentType(), cached.body())).build();
+        }
+        this.mMissCount.incrementAndGet();
+        if (response.isSuccessful() && isCacheable(request, response)) {
+            byte[] body = response.body().bytes();
+            MediaType contentType = response.body().contentType();
+            CachedResponseBody result = new CachedResponseBody(request.url(), contentType, body, response.code(), response.message(), response.header(ETAG), maxAgeMillis(response), System.currentTimeMillis());
+            put(url, result);
+            writeToDiskTier(url, result);
+            return response.newBuilder().body(ResponseBody.create(contentType, body)).build();
+        }
+        if (cached != null) {
+            remove(url);
+            OkHttpDiskCacheTier diskTier = this.mDiskTier;
+            if (diskTier != null) {
+                diskTier.remove(url);
             }
-            return chain.proceed(request);
         }
+        return response;
     }
 
-    public void setForcedCache(Set<String> paths, long timeoutInMillis) {
-        synchronized (this) {
-            this.mForcedCacheUrls.clear();
-            this.mEnabledForcedCachePathPrefixes = (String[]) paths.toArray(new String[paths.size()]);
-            this.mTimeoutInMillis = timeoutInMillis;
+    private boolean isCacheable(Request request, Response response) {
+        if (response.cacheControl().noStore() || request.cacheControl().noStore()) {
+            return false;
         }
+        if (response.header(ETAG) != null || maxAgeMillis(response) > 0 || isForcedCachePath(request.url().encodedPath())) {
+            return true;
+        }
+        return false;
     }
 
-    public void clearForcedCache() {
-        synchronized (this) {
-            this.mForcedCacheUrls.clear();
-            this.mEnabledForcedCachePathPrefixes = null;
+    private static long maxAgeMillis(Response response) {
+        CacheControl cacheControl = response.cacheControl();
+        if (cacheControl.noCache() || cacheControl.maxAgeSeconds() <= 0) {
+            return 0;
         }
+        return ((long) cacheControl.maxAgeSeconds()) * 1000;
     }
 
-    public void setForcedCacheEnabled(boolean enabled) {
-        synchronized (this) {
-            this.mForcedCacheEnabled = enabled;
-        }
+    private boolean matchesForcedCachePath(String path) {
+        String[] prefixes = this.mEnabledForcedCachePathPrefixes;
+        return prefixes != null && StringUtils.startsWithAny(path, prefixes);
     }
 
-    public Response handleForcedCacheResponseIfEnabled(Request request, Pair<String, CachedResponseBody> responseBodyPair, Chain chain) {
-        if (!this.mForcedCacheEnabled) {
+    private boolean isForcedCachePath(String path) {
+        return this.mForcedCacheEnabled && matchesForcedCachePath(path);
+    }
+
+    private CachedResponseBody loadFromDiskTier(HttpUrl httpUrl, String url) {
+        OkHttpDiskCacheTier diskTier = this.mDiskTier;
+        if (diskTier == null || !matchesForcedCachePath(httpUrl.encodedPath()) || !this.mDiskLookups.add(url)) {
             return null;
         }
-        String url = request.url().toString();
-        String path = request.url().encodedPath();
-        if (this.mEnabledForcedCachePathPrefixes != null && StringUtils.startsWithAny(path, this.mEnabledForcedCachePathPrefixes)) {
-            long currentTimeMillis = System.currentTimeMillis();
-            if (responseBodyPair != null && this.mForcedCacheUrls.containsKey(url) && currentTimeMillis - ((Long) this.mForcedCacheUrls.get(url)).longValue() < this.mTimeoutInMillis) {
-                return new Builder().request(chain.request()).protocol(Protocol.HTTP_1_1).body(ResponseBody.create(((CachedResponseBody) responseBodyPair.second).contentType(), ((CachedResponseBody) responseBodyPair.second).body())).code(((CachedResponseBody) responseBodyPair.second).successCode()).build();
-            }
-            this.mForcedCacheUrls.put(url, Long.valueOf(currentTimeMillis));
+        CachedResponseBody cached = diskTier.get(httpUrl);
+        if (cached != null) {
+            put(url, cached);
+        }
+        return cached;
+    }
+
+    private void writeToDiskTier(String url, CachedResponseBody cached) {
+        OkHttpDiskCacheTier diskTier = this.mDiskTier;
+        if (diskTier != null && matchesForcedCachePath(cached.path())) {
+            diskTier.put(url, cached);
+        }
+    }
+
+    public static boolean isFromDiskTier(Response response) {
+        return CACHE_TIER_DISK.equals(response.header(CACHE_TIER_HEADER));
+    }
+
+    public void setDiskTier(OkHttpDiskCacheTier diskTier) {
+        OkHttpDiskCacheTier previous = this.mDiskTier;
+        this.mDiskTier = diskTier;
+        this.mDiskLookups.clear();
+        if (previous != null && previous != diskTier) {
+            previous.delete();
+        }
+    }
+
+    public boolean hasDiskTier() {
+        return this.mDiskTier != null;
+    }
+
+    private boolean isFresh(CachedResponseBody cached, long nowMillis) {
+        if (cached.isExpired()) {
+            return false;
         }
-        return null;
+        long age = nowMillis - cached.storedAtMillis();
+        if (age < cached.maxAgeMillis()) {
+            return true;
+        }
+        if (age >= this.mTimeoutInMillis || !isForcedCachePath(cached.path())) {
+            return false;
+        }
+        return true;
+    }
+
+    private static Response buildCachedResponse(Request request, CachedResponseBody cached) {
+        Builder builder = new Builder().request(request).protocol(Protocol.HTTP_1_1).code(cached.successCode()).message(cached.message()).body(ResponseBody.create(cached.contentType(), cached.body()));
+        if (cached.eTag() != null) {
+            builder.header(ETAG, cached.eTag());
+        }
+        return builder.build();
+    }
+
+    private void expireRelated(HttpUrl url) {
+        for (Segment segment : this.mSegments) {
+            segment.expireRelated(url.host(), url.encodedPath());
+        }
+        this.mLargeEntries.expireRelated(url.host(), url.encodedPath());
+    }
+
+    private void expireAll() {
+        for (Segment segment : this.mSegments) {
+            segment.expireAll();
+        }
+        this.mLargeEntries.expireAll();
+    }
+
+    public void evictAll() {
+        for (Segment segment : this.mSegments) {
+            segment.evictAll();
+        }
+        this.mLargeEntries.evictAll();
+        this.mDiskLookups.clear();
+    }
+
+    public int size() {
+        int size = this.mLargeEntries.size();
+        for (Segment segment : this.mSegments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public void setForcedCache(Set<String> paths, long timeoutInMillis) {
+        this.mEnabledForcedCachePathPrefixes = (String[]) paths.toArray(new String[paths.size()]);
+        this.mTimeoutInMillis = timeoutInMillis;
+        expireAll();
+    }
+
+    public void clearForcedCache() {
+        this.mEnabledForcedCachePathPrefixes = null;
+        expireAll();
+    }
+
+    public void setForcedCacheEnabled(boolean enabled) {
+        this.mForcedCacheEnabled = enabled;
+    }
+
+    public long getHitCount() {
+        return this.mHitCount.get();
+    }
+
+    public long getMissCount() {
+        return this.mMissCount.get();
+    }
+
+    public long getRevalidationCount() {
+        return this.mRevalidationCount.get();
+    }
+
+    public long getDiskHitCount() {
+        return this.mDiskHitCount.get();
     }
 }
@@ -49,6 +49,7 @@ import com.fasterxml.jackson.databind.util.RootNameLookup;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Serializable;
 import java.lang.reflect.Type;
 import java.util.HashMap;
@@ -289,6 +290,14 @@ public class ObjectMapper extends ObjectCodec implements Serializable {
         return _readMapAndClose(this._jsonFactory.createParser(content), valueType);
     }
 
+    public <T> T readValue(Reader src, Class<T> valueType) throws IOException, JsonParseException, JsonMappingException {
+        return _readMapAndClose(this._jsonFactory.createParser(src), this._typeFactory.constructType((Type) valueType));
+    }
+
+    public <T> T readValue(Reader src, TypeReference valueTypeRef) throws IOException, JsonParseException, JsonMappingException {
+        return _readMapAndClose(this._jsonFactory.createParser(src), this._typeFactory.constructType(valueTypeRef));
+    }
+
     public String writeValueAsString(Object value) throws JsonProcessingException {
         SegmentedStringWriter sw = new SegmentedStringWriter(this._jsonFactory._getBufferRecycler());
         try {
@@ -1,6 +1,7 @@
 package retrofit2;
 
 import android.support.v7.widget.helper.ItemTouchHelper.Callback;
+import okhttp3.Headers;
 import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response.Builder;
@@ -51,6 +52,10 @@ public final class Response<T> {
         return this.rawResponse.message();
     }
 
+    public Headers headers() {
+        return this.rawResponse.headers();
+    }
+
     public boolean isSuccessful() {
         return this.rawResponse.isSuccessful();
     }
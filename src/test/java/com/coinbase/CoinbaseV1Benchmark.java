@@ -0,0 +1,112 @@
+package com.coinbase;
+
+import com.coinbase.android.BuildConfig;
+import com.coinbase.v1.entity.ContactsResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Fetches v1 contact pages of growing size from a local server, through
+ * {@link Coinbase#getContacts(int)} and through the connection based path it replaced, which read
+ * the whole body into a String before parsing it. Prints the mean latency and the bytes the
+ * calling thread allocated per request; the old path's extra String and buffer copies grow with the
+ * payload. Coinbase uses the Android framework, so this runs under Robolectric rather than JMH.
+ *
+ * <p>Run with {@code gradle test --tests com.coinbase.CoinbaseV1Benchmark}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class CoinbaseV1Benchmark {
+    private static final int[] CONTACT_COUNTS = new int[]{1000, 10000, 50000};
+    private static final int MEASURED_REQUESTS = 20;
+    private static final int WARMUP_REQUESTS = 10;
+    private Coinbase mClient;
+    private volatile String mPage;
+    private final MockWebServer mServer = new MockWebServer();
+
+    @Before
+    public void setUp() throws IOException {
+        this.mServer.setDispatcher(new Dispatcher() {
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setHeader("Content-Type", "application/json; charset=utf-8").setBody(CoinbaseV1Benchmark.this.mPage);
+            }
+        });
+        this.mServer.start();
+        this.mClient = new Coinbase();
+        this.mClient._baseV1ApiUrl = this.mServer.url("/api/v1/").url();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        this.mServer.shutdown();
+    }
+
+    @Test
+    public void fetchLargeContactPages() throws Exception {
+        for (int contacts : CONTACT_COUNTS) {
+            this.mPage = contactsPage(contacts);
+            for (int i = 0; i < WARMUP_REQUESTS; i++) {
+                assertEquals(contacts, this.mClient.getContacts(1).getContacts().size());
+                assertEquals(contacts, legacyGetContacts(1).getContacts().size());
+            }
+            measure("streaming", contacts, false);
+            measure("legacy", contacts, true);
+        }
+    }
+
+    private void measure(String variant, int contacts, boolean legacy) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocated = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            ContactsResponse response = legacy ? legacyGetContacts(1) : this.mClient.getContacts(1);
+            assertEquals(contacts, response.getContacts().size());
+        }
+        long elapsed = System.nanoTime() - start;
+        allocated = threads.getThreadAllocatedBytes(threadId) - allocated;
+        System.out.println(String.format("%-10s %6d contacts %8d us %8d KB", variant, Integer.valueOf(contacts), Long.valueOf(elapsed / 1000 / MEASURED_REQUESTS), Long.valueOf(allocated / 1024 / MEASURED_REQUESTS)));
+    }
+
+    /**
+     * getContacts as it was before the v1 requests moved to OkHttp: a connection of its own, the
+     * body read into a String, and a second pass to parse it.
+     */
+    private ContactsResponse legacyGetContacts(int page) throws Exception {
+        HttpURLConnection conn = (HttpURLConnection) new URL(this.mClient._baseV1ApiUrl, "contacts?page=" + page).openConnection();
+        conn.setRequestMethod("GET");
+        InputStream is = conn.getInputStream();
+        try {
+            return (ContactsResponse) Coinbase.handleErrors((ContactsResponse) Coinbase.deserialize(IOUtils.toString(is, "UTF-8"), ContactsResponse.class));
+        } finally {
+            is.close();
+        }
+    }
+
+    private static String contactsPage(int count) {
+        StringBuilder json = new StringBuilder("{\"contacts\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"contact\":{\"email\":\"contact").append(i).append("@example.com\"}}");
+        }
+        return json.append("],\"total_count\":").append(count).append(",\"num_pages\":1,\"current_page\":1}").toString();
+    }
+}
@@ -0,0 +1,80 @@
+package com.coinbase;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Signatures per millisecond for a typical v2 request. The legacy variant copies the body to a
+ * String and creates and initializes a new Mac for every request, as the interceptor did before
+ * HmacSigner.
+ *
+ * <p>Run from the test classpath with {@code org.openjdk.jmh.Main HmacSignerBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HmacSignerBenchmark {
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+    private static final String PATH = "/v2/accounts/2bbf394c/transactions";
+    private static final String SECRET = "api-secret";
+    private static final String TIMESTAMP = "1500000000";
+    private Request mRequest;
+    private HmacSigner mSigner;
+
+    @Setup
+    public void setUp() {
+        this.mSigner = new HmacSigner(SECRET.getBytes(Charset.forName("UTF-8")));
+        String body = "{\"type\":\"send\",\"to\":\"1BvBMSEYstWetqTFn5Au4m4GFg7xJaNVN2\",\"amount\":\"0.1\",\"currency\":\"BTC\",\"idem\":\"9316dd16-0c05-4f5d-8a3a-c1b2e1d7f9d4\"}";
+        this.mRequest = new Request.Builder().url("https://api.coinbase.com" + PATH).post(RequestBody.create(JSON, body)).build();
+    }
+
+    private String signWithSigner() throws Exception {
+        return this.mSigner.sign(TIMESTAMP, this.mRequest.method(), PATH, this.mRequest.body());
+    }
+
+    private String signLegacy() throws Exception {
+        Buffer buffer = new Buffer();
+        this.mRequest.newBuilder().build().body().writeTo(buffer);
+        return HmacSignerTest.legacySign(SECRET, TIMESTAMP + this.mRequest.method() + PATH + buffer.readUtf8());
+    }
+
+    @Benchmark
+    public String signer1() throws Exception {
+        return signWithSigner();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String signer8() throws Exception {
+        return signWithSigner();
+    }
+
+    @Benchmark
+    public String legacy1() throws Exception {
+        return signLegacy();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String legacy8() throws Exception {
+        return signLegacy();
+    }
+}
@@ -0,0 +1,114 @@
+package com.coinbase;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class HmacSignerTest {
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+    private static final String SECRET = "api-secret";
+    private static final String TIMESTAMP = "1500000000";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * How every request was signed before HmacSigner: a new Mac per call over the concatenated
+     * message.
+     */
+    static String legacySign(String secret, String message) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(UTF_8), "HmacSHA256"));
+        return new String(Hex.encodeHex(mac.doFinal(message.getBytes(UTF_8))));
+    }
+
+    @Test
+    public void matchesRfc4231TestCase2() throws Exception {
+        HmacSigner signer = new HmacSigner("Jefe".getBytes(UTF_8));
+        assertEquals("5bdcc146bf60754e6a042426089575c75a003f089d2739839dec58b964ec3843", signer.sign("what do ya ", "want for nothing?"));
+        assertEquals(legacySign("Jefe", "what do ya want for nothing?"), signer.sign("what do ya want for nothing?"));
+    }
+
+    @Test
+    public void signsV2RequestWithBody() throws Exception {
+        String path = "/v2/accounts/2bbf394c/transactions";
+        String body = "{\"type\":\"send\",\"to\":\"1BvBMSEYstWetqTFn5Au4m4GFg7xJaNVN2\",\"amount\":\"0.1\",\"currency\":\"BTC\"}";
+        String signature = signer().sign(TIMESTAMP, "POST", path, RequestBody.create(JSON, body));
+        assertEquals("d2fdd9eaba2f0af5abaf124dea11a89a69bd478516c0735363a69b45a7e6e63a", signature);
+        assertEquals(legacySign(SECRET, TIMESTAMP + "POST" + path + body), signature);
+    }
+
+    @Test
+    public void signsV2RequestWithoutBody() throws Exception {
+        String signature = signer().sign(TIMESTAMP, "GET", "/v2/accounts", null);
+        assertEquals("f0c2f3a2435dfc718a85fd644f9298dc04da30fef12d05a5ab0aab26a645a08a", signature);
+        assertEquals(legacySign(SECRET, TIMESTAMP + "GET/v2/accounts"), signature);
+    }
+
+    @Test
+    public void signsNonAsciiBodyAsUtf8() throws Exception {
+        String body = "{\"name\":\"Zoë Café €\"}";
+        String signature = signer().sign(TIMESTAMP, "POST", "/v2/users/self", RequestBody.create(JSON, body));
+        assertEquals("86d75db46b655ca56fa389db379b28b9c8cdc28a8815a4501b8bd5cb2be67857", signature);
+        assertEquals(legacySign(SECRET, TIMESTAMP + "POST/v2/users/self" + body), signature);
+    }
+
+    @Test
+    public void signsV1RequestWithNullBody() throws Exception {
+        String url = "https://coinbase.com/api/v1/account/balance";
+        String signature = signer().sign(TIMESTAMP, url, null);
+        assertEquals("b3dbd96a4bca4e95b5681a57d4c20bbdb885c3f4203d877c03b22cd6194a692f", signature);
+        assertEquals(legacySign(SECRET, TIMESTAMP + url), signature);
+    }
+
+    @Test
+    public void streamsLargeBody() throws Exception {
+        StringBuilder body = new StringBuilder();
+        while (body.length() < 256 * 1024) {
+            body.append("{\"id\":\"").append(body.length()).append("\",\"note\":\"ü\"},");
+        }
+        String signature = signer().sign(TIMESTAMP, "POST", "/v2/batch", RequestBody.create(JSON, body.toString()));
+        assertEquals(legacySign(SECRET, TIMESTAMP + "POST/v2/batch" + body), signature);
+    }
+
+    @Test
+    public void matchesLegacyAcrossThreads() throws Exception {
+        final HmacSigner signer = signer();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Void>> futures = new ArrayList();
+            for (int t = 0; t < 8; t++) {
+                final int thread = t;
+                futures.add(executor.submit(new Callable<Void>() {
+                    public Void call() throws Exception {
+                        for (int i = 0; i < 500; i++) {
+                            String path = "/v2/accounts/" + thread + "/transactions/" + i;
+                            String body = "{\"amount\":\"" + i + "\"}";
+                            assertEquals(legacySign(SECRET, TIMESTAMP + "POST" + path + body), signer.sign(TIMESTAMP, "POST", path, RequestBody.create(HmacSignerTest.JSON, body)));
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static HmacSigner signer() {
+        return new HmacSigner(SECRET.getBytes(UTF_8));
+    }
+}
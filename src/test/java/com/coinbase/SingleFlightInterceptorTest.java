@@ -0,0 +1,128 @@
+package com.coinbase;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SingleFlightInterceptorTest {
+    private static final String ETAG = "\"v1\"";
+    private final CountDownLatch mArrived = new CountDownLatch(1);
+    private OkHttpClient mClient;
+    private final ExecutorService mExecutor = Executors.newFixedThreadPool(4);
+    private final SingleFlightInterceptor mInterceptor = new SingleFlightInterceptor();
+    private final CountDownLatch mRelease = new CountDownLatch(1);
+    private final MockWebServer mServer = new MockWebServer();
+
+    @Before
+    public void setUp() throws IOException {
+        this.mServer.start();
+        this.mClient = new OkHttpClient.Builder().addInterceptor(this.mInterceptor).build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        this.mRelease.countDown();
+        this.mExecutor.shutdownNow();
+        this.mServer.shutdown();
+    }
+
+    @Test
+    public void identicalCallsInFlightShareOneNetworkCall() throws Exception {
+        this.mServer.setDispatcher(blockingDispatcher(true));
+        Future<String> first = this.mExecutor.submit(get(null));
+        assertTrue(this.mArrived.await(5, TimeUnit.SECONDS));
+        Future<String> second = this.mExecutor.submit(get(null));
+        awaitCollapsedCalls(1);
+        this.mRelease.countDown();
+
+        assertEquals("200 accounts", first.get(5, TimeUnit.SECONDS));
+        assertEquals("200 accounts", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, this.mServer.getRequestCount());
+        assertEquals(1, this.mInterceptor.getNetworkCalls());
+    }
+
+    @Test
+    public void unconditionalCallDoesNotJoinConditionalCall() throws Exception {
+        this.mServer.setDispatcher(blockingDispatcher(false));
+        Future<String> conditional = this.mExecutor.submit(get(ETAG));
+        assertTrue(this.mArrived.await(5, TimeUnit.SECONDS));
+
+        assertEquals("200 accounts", this.mExecutor.submit(get(null)).get(5, TimeUnit.SECONDS));
+        this.mRelease.countDown();
+        assertEquals("304 ", conditional.get(5, TimeUnit.SECONDS));
+        assertEquals(0, this.mInterceptor.getCollapsedCalls());
+        assertEquals(2, this.mServer.getRequestCount());
+    }
+
+    @Test
+    public void notModifiedIsNotKeptFresh() throws Exception {
+        this.mInterceptor.setFreshnessWindow("/accounts", TimeUnit.MINUTES.toMillis(1));
+        this.mRelease.countDown();
+        this.mServer.setDispatcher(blockingDispatcher(false));
+
+        assertEquals("304 ", get(ETAG).call());
+        assertEquals("304 ", get(ETAG).call());
+        assertEquals("200 accounts", get(null).call());
+        assertEquals("200 accounts", get(null).call());
+        assertEquals(3, this.mServer.getRequestCount());
+        assertEquals(1, this.mInterceptor.getFreshResponses());
+    }
+
+    private Callable<String> get(final String etag) {
+        return new Callable<String>() {
+            public String call() throws IOException {
+                Request.Builder builder = new Request.Builder().url(SingleFlightInterceptorTest.this.mServer.url("/accounts")).header("Authorization", "Bearer token");
+                if (etag != null) {
+                    builder.header("If-None-Match", etag);
+                }
+                Response response = SingleFlightInterceptorTest.this.mClient.newCall(builder.build()).execute();
+                return response.code() + " " + response.body().string();
+            }
+        };
+    }
+
+    /**
+     * Answers conditional calls with 304 and the rest with 200. Conditional calls, or every call if
+     * blockAll is set, wait for mRelease so that other callers can overlap them.
+     */
+    private Dispatcher blockingDispatcher(final boolean blockAll) {
+        return new Dispatcher() {
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                boolean conditional = request.getHeader("If-None-Match") != null;
+                if (blockAll || conditional) {
+                    SingleFlightInterceptorTest.this.mArrived.countDown();
+                    SingleFlightInterceptorTest.this.mRelease.await(5, TimeUnit.SECONDS);
+                }
+                if (conditional) {
+                    return new MockResponse().setResponseCode(304);
+                }
+                return new MockResponse().setBody("accounts");
+            }
+        };
+    }
+
+    private void awaitCollapsedCalls(int calls) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (this.mInterceptor.getCollapsedCalls() < calls && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(calls, this.mInterceptor.getCollapsedCalls());
+    }
+}
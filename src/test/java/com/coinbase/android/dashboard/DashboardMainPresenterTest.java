@@ -0,0 +1,137 @@
+package com.coinbase.android.dashboard;
+
+import android.app.Application;
+import android.util.Pair;
+import com.coinbase.android.BuildConfig;
+import com.coinbase.android.alerts.AlertsUtils;
+import com.coinbase.android.buysell.BuyRouter;
+import com.coinbase.android.modalAlerts.ModalRouterAggregator;
+import com.coinbase.android.ui.SnackBarWrapper;
+import com.coinbase.android.ui.StatusBarUpdater;
+import com.coinbase.android.utils.MoneyFormatterUtil;
+import com.coinbase.android.utils.analytics.MixpanelTracking;
+import com.coinbase.api.LoginManager;
+import com.coinbase.api.internal.CoinbaseInternal;
+import com.coinbase.api.internal.models.alerts.Alerts;
+import com.coinbase.api.internal.models.dashboard.Balance;
+import com.coinbase.api.internal.models.dashboard.Dashboard;
+import com.coinbase.cache.OkHttpInMemoryLruCache;
+import com.coinbase.v2.models.price.Prices;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import org.joda.money.CurrencyUnit;
+import org.joda.money.Money;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import rx.Observable;
+import rx.schedulers.Schedulers;
+import rx.subjects.PublishSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class DashboardMainPresenterTest {
+    private static final String DASHBOARD_URL = "https://api.coinbase.com/v2/app/dashboard";
+    private static final String FIRST_BUY_STATUS = "completed";
+    private final DashboardBalanceUpdatedConnector mBalanceConnector = new DashboardBalanceUpdatedConnector();
+    private CoinbaseInternal mClient;
+    private MoneyFormatterUtil mMoneyFormatterUtil;
+    private DashboardMainPresenter mPresenter;
+    private SpotPriceService mSpotPriceService;
+    private final DashboardVerificationConnector mVerificationConnector = new DashboardVerificationConnector();
+
+    @Before
+    public void setUp() {
+        LoginManager loginManager = mock(LoginManager.class);
+        this.mClient = mock(CoinbaseInternal.class);
+        when(loginManager.getClient()).thenReturn(this.mClient);
+        when(loginManager.getCurrencyUnit()).thenReturn(CurrencyUnit.USD);
+        this.mSpotPriceService = mock(SpotPriceService.class);
+        this.mMoneyFormatterUtil = mock(MoneyFormatterUtil.class);
+        when(this.mClient.getAlertsRx()).thenReturn(Observable.<Pair<Response<Alerts>, Retrofit>>never());
+        this.mPresenter = new DashboardMainPresenter(loginManager, mock(DashboardMainScreen.class), mock(SnackBarWrapper.class), this.mVerificationConnector, this.mBalanceConnector, new DashboardPriceChartItemClickedConnector(), new DashboardRefreshConnector(), new DashboardAlertsConnector(), mock(BuyRouter.class), mock(MixpanelTracking.class), this.mMoneyFormatterUtil, mock(AlertsUtils.class), mock(Application.class), mock(StatusBarUpdater.class), mock(ModalRouterAggregator.class), Schedulers.immediate(), Schedulers.immediate(), this.mSpotPriceService);
+    }
+
+    @Test
+    public void diskTierDashboardRendersBeforePricesAndAlertsAndIsRevalidatedAlone() {
+        when(this.mSpotPriceService.getSpotPrices("USD")).thenReturn(Observable.<Pair<Response<Prices>, Retrofit>>never());
+        when(this.mClient.getDashboardRx()).thenReturn(Observable.just(dashboardResponse(true)), Observable.just(dashboardResponse(false)));
+
+        this.mPresenter.fetchDashboardData();
+
+        assertEquals(FIRST_BUY_STATUS, this.mVerificationConnector.get().getValue());
+        // The balance header keeps its placeholder while spot prices are outstanding.
+        assertEquals("", this.mBalanceConnector.get().getValue());
+        verify(this.mClient, times(2)).getDashboardRx();
+        verify(this.mSpotPriceService, times(1)).getSpotPrices("USD");
+        verify(this.mClient, times(1)).getAlertsRx();
+    }
+
+    @Test
+    public void networkDashboardIsNotFetchedAgain() {
+        when(this.mSpotPriceService.getSpotPrices("USD")).thenReturn(Observable.<Pair<Response<Prices>, Retrofit>>never());
+        when(this.mClient.getDashboardRx()).thenReturn(Observable.just(dashboardResponse(false)));
+
+        this.mPresenter.fetchDashboardData();
+
+        assertEquals(FIRST_BUY_STATUS, this.mVerificationConnector.get().getValue());
+        verify(this.mClient, times(1)).getDashboardRx();
+    }
+
+    @Test
+    public void balanceFillsInWhenSpotPricesArrive() {
+        PublishSubject<Pair<Response<Prices>, Retrofit>> spotPrices = PublishSubject.create();
+        when(this.mSpotPriceService.getSpotPrices("USD")).thenReturn(spotPrices);
+        when(this.mClient.getDashboardRx()).thenReturn(Observable.just(dashboardResponse(false)));
+        when(this.mMoneyFormatterUtil.formatMoney(any(Money.class))).thenReturn("$200.00");
+
+        this.mPresenter.fetchDashboardData();
+        assertEquals("", this.mBalanceConnector.get().getValue());
+
+        spotPrices.onNext(new Pair(Response.success(prices("BTC", "100")), null));
+        assertEquals("$200.00", this.mBalanceConnector.get().getValue());
+        verify(this.mMoneyFormatterUtil).formatMoney(Money.of(CurrencyUnit.USD, 200.0d));
+    }
+
+    private static Pair<Response<Dashboard>, Retrofit> dashboardResponse(boolean fromDiskTier) {
+        Balance balance = mock(Balance.class, RETURNS_DEEP_STUBS);
+        when(balance.getCurrency().getCode()).thenReturn("BTC");
+        when(balance.getAmount().getAmount()).thenReturn("2");
+        com.coinbase.api.internal.models.dashboard.Data data = mock(com.coinbase.api.internal.models.dashboard.Data.class);
+        when(data.getFirstBuyStatus()).thenReturn(FIRST_BUY_STATUS);
+        when(data.getBalance()).thenReturn(Collections.singletonList(balance));
+        Dashboard dashboard = mock(Dashboard.class);
+        when(dashboard.getData()).thenReturn(data);
+        okhttp3.Response.Builder raw = new okhttp3.Response.Builder().request(new Request.Builder().url(DASHBOARD_URL).build()).protocol(Protocol.HTTP_1_1).code(200).message("OK");
+        if (fromDiskTier) {
+            raw.header(OkHttpInMemoryLruCache.CACHE_TIER_HEADER, "disk");
+        }
+        return new Pair(Response.success(dashboard, raw.build()), null);
+    }
+
+    private static Prices prices(String base, String amount) {
+        com.coinbase.v2.models.price.Data price = new com.coinbase.v2.models.price.Data();
+        price.setBase(base);
+        price.setAmount(amount);
+        List<com.coinbase.v2.models.price.Data> data = new ArrayList();
+        data.add(price);
+        Prices prices = new Prices();
+        prices.setData(data);
+        return prices;
+    }
+}
@@ -0,0 +1,118 @@
+package com.coinbase.android.dashboard;
+
+import android.app.Activity;
+import android.app.Application;
+import android.app.Application.ActivityLifecycleCallbacks;
+import android.util.Pair;
+import com.coinbase.android.BuildConfig;
+import com.coinbase.api.LoginManager;
+import com.coinbase.api.internal.CoinbaseInternal;
+import com.coinbase.v2.models.price.Data;
+import com.coinbase.v2.models.price.Prices;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import rx.Observable;
+import rx.schedulers.TestScheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class SpotPriceServiceTest {
+    private final Activity mActivity = mock(Activity.class);
+    private ActivityLifecycleCallbacks mCallbacks;
+    private CoinbaseInternal mClient;
+    private final TestScheduler mScheduler = new TestScheduler();
+    private SpotPriceService mService;
+
+    @Before
+    public void setUp() {
+        Application application = mock(Application.class);
+        LoginManager loginManager = mock(LoginManager.class);
+        this.mClient = mock(CoinbaseInternal.class);
+        when(loginManager.getClient()).thenReturn(this.mClient);
+        Prices prices = new Prices();
+        prices.setData(new ArrayList<Data>());
+        Pair<Response<Prices>, Retrofit> response = new Pair(Response.success(prices), null);
+        when(this.mClient.getSpotPricesRx(any(String.class), any(HashMap.class))).thenReturn(Observable.just(response));
+        this.mService = new SpotPriceService(application, loginManager, this.mScheduler);
+        ArgumentCaptor<ActivityLifecycleCallbacks> callbacks = ArgumentCaptor.forClass(ActivityLifecycleCallbacks.class);
+        verify(application).registerActivityLifecycleCallbacks(callbacks.capture());
+        this.mCallbacks = (ActivityLifecycleCallbacks) callbacks.getValue();
+    }
+
+    @Test
+    public void startedActivityPollsRightAwayAtForegroundInterval() {
+        this.mService.startPolling("USD");
+        assertEquals(SpotPriceService.POLL_INTERVAL_BACKGROUND_MILLIS, this.mService.getPollIntervalMillis());
+
+        this.mCallbacks.onActivityStarted(this.mActivity);
+        assertEquals(SpotPriceService.POLL_INTERVAL_MILLIS, this.mService.getPollIntervalMillis());
+        this.mScheduler.triggerActions();
+        verifyPolls(1);
+
+        this.mScheduler.advanceTimeBy(SpotPriceService.POLL_INTERVAL_MILLIS - 1, TimeUnit.MILLISECONDS);
+        verifyPolls(1);
+        this.mScheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        verifyPolls(2);
+    }
+
+    @Test
+    public void lastStoppedActivityStretchesPollToBackgroundInterval() {
+        this.mService.startPolling("USD");
+        this.mCallbacks.onActivityStarted(this.mActivity);
+        this.mScheduler.triggerActions();
+        verifyPolls(1);
+
+        this.mCallbacks.onActivityStopped(this.mActivity);
+        assertEquals(SpotPriceService.POLL_INTERVAL_BACKGROUND_MILLIS, this.mService.getPollIntervalMillis());
+        this.mScheduler.advanceTimeBy(SpotPriceService.POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        verifyPolls(1);
+        this.mScheduler.advanceTimeBy(SpotPriceService.POLL_INTERVAL_BACKGROUND_MILLIS - SpotPriceService.POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        verifyPolls(2);
+    }
+
+    @Test
+    public void switchingActivitiesStaysInForeground() {
+        Activity next = mock(Activity.class);
+        this.mService.startPolling("USD");
+        this.mCallbacks.onActivityStarted(this.mActivity);
+        this.mScheduler.triggerActions();
+
+        this.mCallbacks.onActivityStarted(next);
+        this.mCallbacks.onActivityStopped(this.mActivity);
+        assertEquals(SpotPriceService.POLL_INTERVAL_MILLIS, this.mService.getPollIntervalMillis());
+        this.mScheduler.advanceTimeBy(SpotPriceService.POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        verifyPolls(2);
+    }
+
+    @Test
+    public void pollsEveryWatchedCurrency() {
+        this.mService.startPolling("USD");
+        this.mService.startPolling("EUR");
+        this.mCallbacks.onActivityStarted(this.mActivity);
+        this.mScheduler.triggerActions();
+
+        verify(this.mClient, times(1)).getSpotPricesRx(eq("usd"), any(HashMap.class));
+        verify(this.mClient, times(1)).getSpotPricesRx(eq("eur"), any(HashMap.class));
+    }
+
+    private void verifyPolls(int polls) {
+        verify(this.mClient, times(polls)).getSpotPricesRx(eq("usd"), any(HashMap.class));
+    }
+}
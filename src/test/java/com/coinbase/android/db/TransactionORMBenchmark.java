@@ -0,0 +1,156 @@
+package com.coinbase.android.db;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import com.coinbase.android.BuildConfig;
+import com.coinbase.v2.models.transactions.Data;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Ingests 10k transactions into the old table layout and the current one, then ingests them again
+ * as a refresh would, reads them back and prunes them. The old layout has no indexes, deletes and
+ * inserts each row, and looks up every column index per row read. SQLite needs the Android
+ * framework, so this runs under Robolectric rather than JMH, and the timings it prints are only
+ * comparable with each other.
+ *
+ * <p>Run with {@code gradle test --tests com.coinbase.android.db.TransactionORMBenchmark}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class TransactionORMBenchmark {
+    private static final String ACCOUNT_ID = "account";
+    private static final int ROWS = 10000;
+    private static final String TABLE_NAME = "Transactions";
+    private static final int WARMUP_ROWS = 1000;
+
+    interface Layout {
+        void create(SQLiteDatabase db);
+
+        void ingest(SQLiteDatabase db, List<Data> transactions);
+
+        List<Data> read(SQLiteDatabase db);
+    }
+
+    static final class LegacyLayout implements Layout {
+        public void create(SQLiteDatabase db) {
+            db.execSQL(TransactionORM.SQL_CREATE_TABLE);
+        }
+
+        public void ingest(SQLiteDatabase db, List<Data> transactions) {
+            for (Data tx : transactions) {
+                db.delete(TABLE_NAME, "transaction_id = ?", new String[]{tx.getId()});
+                db.insert(TABLE_NAME, "_id", TransactionORM.toContentValues(ACCOUNT_ID, tx));
+            }
+        }
+
+        public List<Data> read(SQLiteDatabase db) {
+            Cursor c = db.query(TABLE_NAME, null, "account_id = ? AND delayed = ?", new String[]{ACCOUNT_ID, "0"}, null, null, "created_at DESC");
+            try {
+                List<Data> result = new ArrayList(c.getCount());
+                while (c.moveToNext()) {
+                    result.add(TransactionORM.fromCursor(c));
+                }
+                return result;
+            } finally {
+                c.close();
+            }
+        }
+    }
+
+    static final class CurrentLayout implements Layout {
+        public void create(SQLiteDatabase db) {
+            db.execSQL(TransactionORM.SQL_CREATE_TABLE);
+            db.execSQL(TransactionORM.SQL_CREATE_ACCOUNT_INDEX);
+            db.execSQL(TransactionORM.SQL_CREATE_TRANSACTION_ID_INDEX);
+        }
+
+        public void ingest(SQLiteDatabase db, List<Data> transactions) {
+            TransactionORM.insertOrUpdate(db, ACCOUNT_ID, transactions);
+        }
+
+        public List<Data> read(SQLiteDatabase db) {
+            return TransactionORM.getTransactions(db, ACCOUNT_ID);
+        }
+    }
+
+    @Test
+    public void ingestTenThousandTransactions() {
+        run("legacy", new LegacyLayout(), TransactionORMTest.transactions(WARMUP_ROWS), false);
+        run("current", new CurrentLayout(), TransactionORMTest.transactions(WARMUP_ROWS), false);
+        List<Data> transactions = TransactionORMTest.transactions(ROWS);
+        run("legacy", new LegacyLayout(), transactions, true);
+        run("current", new CurrentLayout(), transactions, true);
+    }
+
+    @Test
+    public void pruneTenThousandTransactions() {
+        SQLiteDatabase db = SQLiteDatabase.create(null);
+        try {
+            new CurrentLayout().create(db);
+            List<Data> transactions = TransactionORMTest.transactions(ROWS);
+            TransactionORM.insertOrUpdate(db, ACCOUNT_ID, transactions);
+            List<String> keepIds = new ArrayList();
+            for (int i = 0; i < ROWS; i += 10) {
+                for (int j = i; j < i + 9; j++) {
+                    keepIds.add(((Data) transactions.get(j)).getId());
+                }
+            }
+            long start = System.nanoTime();
+            db.beginTransaction();
+            try {
+                assertEquals(ROWS / 10, TransactionORM.deleteMissing(db, ACCOUNT_ID, TransactionORMTest.createdAt(-1), keepIds));
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+            report("current", "prune keeping " + keepIds.size(), start);
+        } finally {
+            db.close();
+        }
+    }
+
+    private static void run(String name, Layout layout, List<Data> transactions, boolean report) {
+        SQLiteDatabase db = SQLiteDatabase.create(null);
+        try {
+            layout.create(db);
+            long start = System.nanoTime();
+            inTransaction(db, layout, transactions);
+            if (report) {
+                report(name, "ingest " + transactions.size(), start);
+            }
+            start = System.nanoTime();
+            inTransaction(db, layout, transactions);
+            if (report) {
+                report(name, "refresh " + transactions.size(), start);
+            }
+            start = System.nanoTime();
+            assertEquals(transactions.size(), layout.read(db).size());
+            if (report) {
+                report(name, "read " + transactions.size(), start);
+            }
+        } finally {
+            db.close();
+        }
+    }
+
+    private static void inTransaction(SQLiteDatabase db, Layout layout, List<Data> transactions) {
+        db.beginTransaction();
+        try {
+            layout.ingest(db, transactions);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    private static void report(String layout, String operation, long startNanos) {
+        System.out.println(String.format("%-8s %-20s %6d ms", layout, operation, Long.valueOf((System.nanoTime() - startNanos) / 1000000)));
+    }
+}
@@ -0,0 +1,100 @@
+package com.coinbase.android.db;
+
+import android.database.sqlite.SQLiteDatabase;
+import com.coinbase.android.BuildConfig;
+import com.coinbase.v2.models.transactions.Amount;
+import com.coinbase.v2.models.transactions.Data;
+import com.coinbase.v2.models.transactions.NativeAmount;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class TransactionORMTest {
+    private static final String ACCOUNT_ID = "account";
+    private SQLiteDatabase mDb;
+
+    @Before
+    public void setUp() {
+        this.mDb = SQLiteDatabase.create(null);
+        this.mDb.execSQL(TransactionORM.SQL_CREATE_TABLE);
+        this.mDb.execSQL(TransactionORM.SQL_CREATE_ACCOUNT_INDEX);
+        this.mDb.execSQL(TransactionORM.SQL_CREATE_TRANSACTION_ID_INDEX);
+    }
+
+    @After
+    public void tearDown() {
+        this.mDb.close();
+    }
+
+    @Test
+    public void deleteMissingKeepsMoreIdsThanSqliteCanBind() {
+        List<Data> transactions = transactions(3000);
+        TransactionORM.insertOrUpdate(this.mDb, ACCOUNT_ID, transactions);
+        List<String> keepIds = new ArrayList();
+        for (int i = 0; i < 2000; i++) {
+            keepIds.add(((Data) transactions.get(i)).getId());
+        }
+
+        assertEquals(1000, TransactionORM.deleteMissing(this.mDb, ACCOUNT_ID, createdAt(-1), keepIds));
+        assertEquals(2000, TransactionORM.getTransactions(this.mDb, ACCOUNT_ID).size());
+        assertNotNull(TransactionORM.find(this.mDb, "tx-1999"));
+        assertNull(TransactionORM.find(this.mDb, "tx-2000"));
+    }
+
+    @Test
+    public void deleteMissingSparesOlderDelayedAndOtherAccountRows() {
+        List<Data> transactions = transactions(1200);
+        ((Data) transactions.get(500)).setDelayed(Boolean.TRUE);
+        TransactionORM.insertOrUpdate(this.mDb, ACCOUNT_ID, transactions.subList(0, 1100));
+        TransactionORM.insertOrUpdate(this.mDb, "other", transactions.subList(1100, 1200));
+
+        assertEquals(999, TransactionORM.deleteMissing(this.mDb, ACCOUNT_ID, createdAt(99), new ArrayList<String>()));
+        assertNotNull(TransactionORM.find(this.mDb, "tx-99"));
+        assertNull(TransactionORM.find(this.mDb, "tx-100"));
+        assertNotNull(TransactionORM.find(this.mDb, "tx-500"));
+        assertEquals(100, TransactionORM.getTransactions(this.mDb, "other").size());
+    }
+
+    static List<Data> transactions(int count) {
+        List<Data> transactions = new ArrayList(count);
+        for (int i = 0; i < count; i++) {
+            Data tx = new Data();
+            tx.setId("tx-" + i);
+            tx.setCreatedAt(createdAt(i));
+            tx.setStatus("completed");
+            tx.setType("send");
+            tx.setDelayed(Boolean.FALSE);
+            tx.setDescription("Payment " + i);
+            Amount amount = new Amount();
+            amount.setAmount("-0.0" + i);
+            amount.setCurrency("BTC");
+            tx.setAmount(amount);
+            NativeAmount nativeAmount = new NativeAmount();
+            nativeAmount.setAmount("-" + i + ".00");
+            nativeAmount.setCurrency("USD");
+            tx.setNativeAmount(nativeAmount);
+            transactions.add(tx);
+        }
+        return transactions;
+    }
+
+    /**
+     * One second apart from the start of 2017, so index order and creation order agree for up to a
+     * day of transactions.
+     */
+    static String createdAt(int second) {
+        int s = second + 1;
+        return String.format("2017-01-01T%02d:%02d:%02dZ", Integer.valueOf(s / 3600), Integer.valueOf((s / 60) % 60), Integer.valueOf(s % 60));
+    }
+}
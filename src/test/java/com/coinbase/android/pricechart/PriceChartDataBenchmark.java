@@ -0,0 +1,221 @@
+package com.coinbase.android.pricechart;
+
+import com.coinbase.android.pricechart.PriceChartPresenter.Period;
+import com.coinbase.api.internal.models.priceCharts.Price;
+import com.github.mikephil.charting.data.Entry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Time per period switch, from the prices the API returned to the chart entries the layout plots.
+ * The legacy variant thins HOUR charts by stride, boxes every price into a List&lt;Float&gt; and
+ * creates a DateTime per point, as PriceChartPresenter and PriceChartData did before the price
+ * columns. The current variant parses into a series and downsamples it to the chart width; the
+ * cached variant starts from a series PriceChartCache already holds.
+ *
+ * <p>Run from the test classpath with {@code org.openjdk.jmh.Main PriceChartDataBenchmark}; add
+ * {@code -prof gc} to compare allocations per switch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceChartDataBenchmark {
+    private static final int CHART_WIDTH = 1000;
+    private static final int HOUR_SAMPLE_SIZE = 60;
+    private static final long START_MILLIS = 1483228800000L;
+    @Param({"HOUR", "DAY", "WEEK", "MONTH", "YEAR", "ALL"})
+    public String period;
+    private Period mPeriod;
+    private List<Price> mPrices;
+    private PriceChartSeries mSeries;
+
+    private static final class LegacyChartData {
+        private final DateTime[] mDates;
+        private final int mMaxPriceIndex;
+        private final int mMinPriceIndex;
+        private final List<Float> mPriceList;
+
+        LegacyChartData(List<Float> priceList, DateTime[] dates, int minPriceIndex, int maxPriceIndex) {
+            this.mPriceList = priceList;
+            this.mDates = dates;
+            this.mMinPriceIndex = minPriceIndex;
+            this.mMaxPriceIndex = maxPriceIndex;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        this.mPeriod = Period.valueOf(this.period);
+        int points = points(this.mPeriod);
+        long stepMillis = TimeUnit.DAYS.toMillis(365) * 5 / ((long) points);
+        Random random = new Random(42);
+        this.mPrices = new ArrayList(points);
+        float price = 1000.0f;
+        for (int i = 0; i < points; i++) {
+            price = Math.max(1.0f, price + ((random.nextFloat() - 0.5f) * 20.0f));
+            // Newest first, as the API returns them.
+            this.mPrices.add(price(String.valueOf(price), new DateTime(START_MILLIS + (((long) ((points - 1) - i)) * stepMillis), DateTimeZone.UTC).toString()));
+        }
+        this.mSeries = PriceChartSeries.parse(this.mPrices);
+    }
+
+    @Benchmark
+    public void current(Blackhole blackhole) {
+        PriceChartSeries series = PriceChartSeries.parse(this.mPrices);
+        blackhole.consume(series);
+        blackhole.consume(entries(newInstance(series)));
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) {
+        blackhole.consume(entries(newInstance(this.mSeries)));
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        LegacyChartData data = legacyNewInstance(legacySampledPriceList(this.mPrices));
+        ArrayList<String> xVals = new ArrayList();
+        for (int i = 0; i < data.mDates.length; i++) {
+            xVals.add("lol");
+        }
+        ArrayList<Entry> yVals = new ArrayList();
+        for (int i = 0; i < data.mPriceList.size(); i++) {
+            yVals.add(new Entry(((Float) data.mPriceList.get(i)).floatValue(), i));
+        }
+        blackhole.consume(data);
+        blackhole.consume(xVals);
+        blackhole.consume(yVals);
+    }
+
+    private PriceChartData newInstance(PriceChartSeries series) {
+        return PriceChartData.newInstance(series, this.mPeriod == Period.DAY ? series.size() - 1 : series.size(), CHART_WIDTH);
+    }
+
+    /**
+     * The entry lists PriceChartLayout.loadChartData builds.
+     */
+    private static ArrayList<Entry> entries(PriceChartData data) {
+        float[] prices = data.getPrices();
+        ArrayList<String> xVals = new ArrayList(prices.length);
+        ArrayList<Entry> yVals = new ArrayList(prices.length);
+        for (int i = 0; i < prices.length; i++) {
+            xVals.add("lol");
+            yVals.add(new Entry(prices[i], i));
+        }
+        return yVals;
+    }
+
+    private List<Price> legacySampledPriceList(List<Price> prices) {
+        List<Price> updatedPriceList = new ArrayList();
+        switch (this.mPeriod) {
+            case DAY:
+                updatedPriceList.addAll(prices.subList(1, prices.size()));
+                return updatedPriceList;
+            case HOUR:
+                updatedPriceList.addAll(legacySample(prices, HOUR_SAMPLE_SIZE));
+                return updatedPriceList;
+            default:
+                updatedPriceList.addAll(prices);
+                return updatedPriceList;
+        }
+    }
+
+    private static List<Price> legacySample(List<Price> data, int resultSize) {
+        int dataSize = data.size();
+        int stride = dataSize / resultSize;
+        if (stride < 1) {
+            stride = 1;
+        }
+        List<Price> result = new ArrayList();
+        for (int i = 0; i < dataSize; i += stride) {
+            result.add(data.get(i));
+        }
+        if (!result.isEmpty()) {
+            Price first = (Price) data.get(data.size() - 1);
+            if (!((Price) result.get(result.size() - 1)).equals(first)) {
+                result.add(first);
+            }
+        }
+        return result;
+    }
+
+    private static LegacyChartData legacyNewInstance(List<Price> priceList) {
+        List<Float> priceFloatList = new ArrayList();
+        DateTime[] dates = new DateTime[priceList.size()];
+        int minIndex = -1;
+        int maxIndex = -1;
+        float minValue = Float.MAX_VALUE;
+        float maxValue = Float.MIN_VALUE;
+        for (int i = 0; i < priceList.size(); i++) {
+            Price price = (Price) priceList.get((priceList.size() - i) - 1);
+            if (!(price == null || price.getPrice() == null || price.getTime() == null)) {
+                try {
+                    float priceFloat = Float.parseFloat(price.getPrice());
+                    priceFloatList.add(Float.valueOf(priceFloat));
+                    if (priceFloat < minValue) {
+                        minValue = priceFloat;
+                        minIndex = i;
+                    }
+                    if (priceFloat > maxValue) {
+                        maxValue = priceFloat;
+                        maxIndex = i;
+                    }
+                    dates[i] = new DateTime(((Price) priceList.get(i)).getTime(), DateTimeZone.UTC).withZone(DateTimeZone.getDefault());
+                } catch (NumberFormatException e) {
+                }
+            }
+        }
+        return new LegacyChartData(priceFloatList, dates, minIndex, maxIndex);
+    }
+
+    /**
+     * Prices per period, from a few hundred for HOUR to thousands for YEAR and ALL.
+     */
+    private static int points(Period period) {
+        switch (period) {
+            case HOUR:
+                return 360;
+            case DAY:
+                return 289;
+            case WEEK:
+                return 337;
+            case MONTH:
+                return 721;
+            case YEAR:
+                return 2190;
+            default:
+                return 4000;
+        }
+    }
+
+    private static Price price(final String price, final String time) {
+        return new Price() {
+            public String getPrice() {
+                return price;
+            }
+
+            public String getTime() {
+                return time;
+            }
+        };
+    }
+}
@@ -0,0 +1,264 @@
+package com.coinbase.android.task;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Pair;
+import com.coinbase.android.BuildConfig;
+import com.coinbase.android.dashboard.SpotPriceService;
+import com.coinbase.android.db.AccountORM;
+import com.coinbase.android.db.DatabaseManager;
+import com.coinbase.android.settings.AccountsDiff;
+import com.coinbase.android.settings.AccountsUpdatedConnector;
+import com.coinbase.android.utils.MoneyFormatterUtil;
+import com.coinbase.api.LoginManager;
+import com.coinbase.api.internal.ApiConstants;
+import com.coinbase.api.internal.CoinbaseInternal;
+import com.coinbase.v2.models.Pagination;
+import com.coinbase.v2.models.account.Accounts;
+import com.coinbase.v2.models.account.Balance;
+import com.coinbase.v2.models.account.Currency;
+import com.coinbase.v2.models.account.Data;
+import com.coinbase.v2.models.account.NativeBalance;
+import com.coinbase.v2.models.price.Prices;
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.joda.money.CurrencyUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import rx.Observable;
+import rx.functions.Action1;
+import rx.schedulers.Schedulers;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Syncs a large account list from a fake accounts endpoint that pages 100 accounts at a time, into
+ * a real database.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class SyncAccountsTaskTest {
+    private static final int MAX_PAGES = 50;
+    private static final int PAGE_SIZE = 100;
+    private DatabaseManager mDbManager;
+    private final List<AccountsDiff> mDiffs = new ArrayList();
+    private final Gson mGson = new Gson();
+    private final OkHttpClient mHttpClient = new OkHttpClient();
+    private volatile List<Data> mRemoteAccounts = new ArrayList();
+    private final MockWebServer mServer = new MockWebServer();
+    private SyncAccountsTask mTask;
+
+    @Before
+    public void setUp() throws IOException {
+        this.mServer.setDispatcher(new Dispatcher() {
+            public MockResponse dispatch(RecordedRequest request) {
+                return SyncAccountsTaskTest.this.servePage(HttpUrl.parse("http://localhost" + request.getPath()));
+            }
+        });
+        this.mServer.start();
+        this.mDbManager = new DatabaseManager(RuntimeEnvironment.application);
+        CoinbaseInternal client = mock(CoinbaseInternal.class);
+        when(client.getAccountsRx(any(HashMap.class))).thenAnswer(new Answer<Observable<Pair<Response<Accounts>, Retrofit>>>() {
+            public Observable<Pair<Response<Accounts>, Retrofit>> answer(InvocationOnMock invocation) throws IOException {
+                return Observable.just(new Pair(Response.success(SyncAccountsTaskTest.this.fetchPage((HashMap) invocation.getArguments()[0])), null));
+            }
+        });
+        LoginManager loginManager = mock(LoginManager.class);
+        when(loginManager.isSignedIn()).thenReturn(true);
+        when(loginManager.getClient()).thenReturn(client);
+        when(loginManager.getCurrencyUnit()).thenReturn(CurrencyUnit.USD);
+        when(loginManager.getAccounts()).thenAnswer(new Answer<List<Data>>() {
+            public List<Data> answer(InvocationOnMock invocation) {
+                return SyncAccountsTaskTest.this.localAccounts();
+            }
+        });
+        Prices prices = new Prices();
+        prices.setData(new ArrayList<com.coinbase.v2.models.price.Data>());
+        SpotPriceService spotPriceService = mock(SpotPriceService.class);
+        when(spotPriceService.getSpotPrices(anyString())).thenReturn(Observable.just(new Pair(Response.success(prices), null)));
+        AccountsUpdatedConnector accountsUpdatedConnector = new AccountsUpdatedConnector();
+        accountsUpdatedConnector.get().subscribe(new Action1<AccountsDiff>() {
+            public void call(AccountsDiff diff) {
+                SyncAccountsTaskTest.this.mDiffs.add(diff);
+            }
+        });
+        this.mTask = new SyncAccountsTask(mock(MoneyFormatterUtil.class));
+        this.mTask.context = RuntimeEnvironment.application;
+        this.mTask.dbManager = this.mDbManager;
+        this.mTask.loginManager = loginManager;
+        this.mTask.mAccountsUpdatedConnector = accountsUpdatedConnector;
+        this.mTask.mSpotPriceService = spotPriceService;
+        this.mTask.mBackgroundScheduler = Schedulers.immediate();
+        this.mTask.mMainScheduler = Schedulers.immediate();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try {
+            AccountORM.clear(this.mDbManager.openDatabase());
+        } finally {
+            this.mDbManager.closeDatabase();
+        }
+        this.mServer.shutdown();
+    }
+
+    @Test
+    public void syncsEveryPageAndAppliesOnlyTheDiff() {
+        List<Data> remote = new ArrayList();
+        for (int i = 0; i < 1000; i++) {
+            remote.add(account(i, "1.0"));
+        }
+        this.mRemoteAccounts = remote;
+
+        this.mTask.syncAccounts();
+        assertEquals(10, this.mServer.getRequestCount());
+        assertEquals(1000, localAccounts().size());
+        assertEquals(1000, lastDiff().getAdded().size());
+        assertEquals("account-0000", lastDiff().getPrimaryAccount().getId());
+
+        List<Data> updated = new ArrayList();
+        for (int i = 0; i < 1030; i++) {
+            if (i < 950 || i >= 970) {
+                updated.add(account(i, i < 50 ? "2.0" : "1.0"));
+            }
+        }
+        this.mRemoteAccounts = updated;
+
+        this.mTask.syncAccounts();
+        assertEquals(21, this.mServer.getRequestCount());
+        AccountsDiff diff = lastDiff();
+        assertEquals(30, diff.getAdded().size());
+        // Accounts read back from the database compare equal to the same accounts from the API.
+        assertEquals(50, diff.getChanged().size());
+        assertEquals(20, diff.getRemoved().size());
+        assertEquals(1010, localAccounts().size());
+        assertEquals("2.0", find("account-0049").getBalance().getAmount());
+        assertEquals("1.0", find("account-0050").getBalance().getAmount());
+        assertEquals(null, find("account-0955"));
+        assertEquals("account-1029", find("account-1029").getId());
+    }
+
+    @Test
+    public void stopsAfterFiftyPages() throws InterruptedException {
+        List<Data> remote = new ArrayList();
+        for (int i = 0; i < 6000; i++) {
+            remote.add(account(i, "1.0"));
+        }
+        this.mRemoteAccounts = remote;
+
+        this.mTask.syncAccounts();
+        assertEquals(MAX_PAGES, this.mServer.getRequestCount());
+        assertEquals(MAX_PAGES * PAGE_SIZE, localAccounts().size());
+        assertEquals(MAX_PAGES * PAGE_SIZE, lastDiff().getAdded().size());
+        RecordedRequest lastRequest = null;
+        for (int i = 0; i < MAX_PAGES; i++) {
+            lastRequest = this.mServer.takeRequest();
+        }
+        assertEquals("/v2/accounts?limit=100&starting_after=account-4899", lastRequest.getPath());
+    }
+
+    Accounts fetchPage(HashMap<String, Object> options) throws IOException {
+        HttpUrl.Builder url = this.mServer.url("/v2/accounts").newBuilder().addQueryParameter(ApiConstants.LIMIT, String.valueOf(options.get(ApiConstants.LIMIT)));
+        Object startingAfter = options.get(ApiConstants.STARTING_AFTER);
+        if (startingAfter != null) {
+            url.addQueryParameter(ApiConstants.STARTING_AFTER, startingAfter.toString());
+        }
+        okhttp3.Response response = this.mHttpClient.newCall(new Request.Builder().url(url.build()).build()).execute();
+        try {
+            return (Accounts) this.mGson.fromJson(response.body().charStream(), Accounts.class);
+        } finally {
+            response.close();
+        }
+    }
+
+    MockResponse servePage(HttpUrl url) {
+        List<Data> remote = this.mRemoteAccounts;
+        int limit = Integer.parseInt(url.queryParameter(ApiConstants.LIMIT));
+        String startingAfter = url.queryParameter(ApiConstants.STARTING_AFTER);
+        int start = 0;
+        if (startingAfter != null) {
+            while (start < remote.size() && !((Data) remote.get(start)).getId().equals(startingAfter)) {
+                start++;
+            }
+            start++;
+        }
+        int end = Math.min(remote.size(), start + limit);
+        Accounts page = new Accounts();
+        page.setData(new ArrayList(remote.subList(Math.min(start, end), end)));
+        Pagination pagination = new Pagination();
+        pagination.setLimit(Integer.valueOf(limit));
+        if (end < remote.size()) {
+            pagination.setNextUri("/v2/accounts?limit=" + limit + "&starting_after=" + ((Data) remote.get(end - 1)).getId());
+        }
+        page.setPagination(pagination);
+        return new MockResponse().setBody(this.mGson.toJson(page));
+    }
+
+    List<Data> localAccounts() {
+        SQLiteDatabase db = this.mDbManager.openDatabase();
+        try {
+            return AccountORM.list(db);
+        } finally {
+            this.mDbManager.closeDatabase();
+        }
+    }
+
+    private Data find(String accountId) {
+        SQLiteDatabase db = this.mDbManager.openDatabase();
+        try {
+            return AccountORM.find(db, accountId);
+        } finally {
+            this.mDbManager.closeDatabase();
+        }
+    }
+
+    private AccountsDiff lastDiff() {
+        return (AccountsDiff) this.mDiffs.get(this.mDiffs.size() - 1);
+    }
+
+    private static Data account(int index, String balanceAmount) {
+        Data account = new Data();
+        account.setId(String.format("account-%04d", Integer.valueOf(index)));
+        account.setName("Wallet " + index);
+        account.setPrimary(Boolean.valueOf(index == 0));
+        account.setActive(Boolean.TRUE);
+        account.setType(Data.Type.WALLET);
+        Currency currency = new Currency();
+        currency.setCode("BTC");
+        currency.setName("Bitcoin");
+        currency.setColor("#FFB119");
+        currency.setExponent(Integer.valueOf(8));
+        account.setCurrency(currency);
+        Balance balance = new Balance();
+        balance.setAmount(balanceAmount);
+        balance.setCurrency("BTC");
+        account.setBalance(balance);
+        NativeBalance nativeBalance = new NativeBalance();
+        nativeBalance.setAmount("100.00");
+        nativeBalance.setCurrency("USD");
+        account.setNativeBalance(nativeBalance);
+        return account;
+    }
+}
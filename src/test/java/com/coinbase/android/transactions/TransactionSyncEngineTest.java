@@ -0,0 +1,167 @@
+package com.coinbase.android.transactions;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Pair;
+import com.coinbase.android.BuildConfig;
+import com.coinbase.android.db.DatabaseManager;
+import com.coinbase.android.db.TransactionORM;
+import com.coinbase.api.LoginManager;
+import com.coinbase.api.internal.CoinbaseInternal;
+import com.coinbase.v2.models.Pagination;
+import com.coinbase.v2.models.transactions.Data;
+import com.coinbase.v2.models.transactions.Transaction;
+import com.coinbase.v2.models.transactions.Transactions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import retrofit2.Response;
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class TransactionSyncEngineTest {
+    private static final String ACCOUNT_ID = "account";
+    private static final String COMPLETED = "completed";
+    private static final String PENDING = "pending";
+    private CoinbaseInternal mClient;
+    private DatabaseManager mDbManager;
+    private TransactionSyncEngine mEngine;
+
+    @Before
+    public void setUp() {
+        this.mDbManager = new DatabaseManager(RuntimeEnvironment.application);
+        this.mClient = mock(CoinbaseInternal.class);
+        LoginManager loginManager = mock(LoginManager.class);
+        when(loginManager.getClient()).thenReturn(this.mClient);
+        this.mEngine = new TransactionSyncEngine(loginManager, this.mDbManager, Schedulers.immediate());
+    }
+
+    @After
+    public void tearDown() {
+        SQLiteDatabase db = this.mDbManager.openDatabase();
+        TransactionORM.clear(db, ACCOUNT_ID);
+        this.mDbManager.closeDatabase();
+    }
+
+    @Test
+    public void oldPendingTransactionIsRecheckedByIdInsteadOfPaging() {
+        List<Data> local = new ArrayList();
+        for (int i = 1; i <= 30; i++) {
+            local.add(transaction("t" + i, createdAt(100 - i), COMPLETED));
+        }
+        local.add(transaction("old-pending", createdAt(1), PENDING));
+        insert(local);
+        List<Data> page = new ArrayList();
+        page.add(transaction("new", createdAt(100), COMPLETED));
+        page.addAll(local.subList(0, TransactionSyncEngine.PROBE_PAGE_SIZE - 1));
+        serveTransactions(page);
+        serveTransaction(transaction("old-pending", createdAt(1), COMPLETED));
+
+        List<Data> refreshed = (List) this.mEngine.refresh(ACCOUNT_ID, 25).toBlocking().first();
+
+        assertEquals("new", ((Data) refreshed.get(0)).getId());
+        verify(this.mClient, times(1)).getTransactionsRx(eq(ACCOUNT_ID), any(HashMap.class), any(List.class));
+        verify(this.mClient, times(1)).getTransactionRx(ACCOUNT_ID, "old-pending");
+        assertEquals(COMPLETED, status("old-pending"));
+        // Nothing was dropped to make room for a backfill.
+        assertEquals(32, count());
+    }
+
+    @Test
+    public void recheckedPendingTransactionsAreCapped() {
+        List<Data> local = new ArrayList();
+        for (int i = 1; i <= 10; i++) {
+            local.add(transaction("t" + i, createdAt(100 - i), COMPLETED));
+        }
+        for (int i = 1; i <= 8; i++) {
+            local.add(transaction("pending" + i, createdAt(i), PENDING));
+        }
+        insert(local);
+        serveTransactions(new ArrayList(local.subList(0, TransactionSyncEngine.PROBE_PAGE_SIZE)));
+        when(this.mClient.getTransactionRx(eq(ACCOUNT_ID), anyString())).thenReturn(Observable.<Pair<Response<Transaction>, retrofit2.Retrofit>>error(new RuntimeException("offline")));
+
+        this.mEngine.refresh(ACCOUNT_ID, 25).toBlocking().first();
+
+        verify(this.mClient, times(TransactionSyncEngine.PENDING_RECHECK_BUDGET)).getTransactionRx(eq(ACCOUNT_ID), anyString());
+        // The newest stale ones come first.
+        verify(this.mClient).getTransactionRx(ACCOUNT_ID, "pending8");
+        verify(this.mClient, never()).getTransactionRx(ACCOUNT_ID, "pending1");
+        verify(this.mClient, times(1)).getTransactionsRx(eq(ACCOUNT_ID), any(HashMap.class), any(List.class));
+        assertEquals(PENDING, status("pending8"));
+    }
+
+    private void serveTransactions(List<Data> page) {
+        Transactions transactions = new Transactions();
+        transactions.setData(page);
+        Pagination pagination = new Pagination();
+        pagination.setNextUri("/v2/accounts/" + ACCOUNT_ID + "/transactions?starting_after=" + ((Data) page.get(page.size() - 1)).getId());
+        transactions.setPagination(pagination);
+        Pair<Response<Transactions>, retrofit2.Retrofit> response = new Pair(Response.success(transactions), null);
+        when(this.mClient.getTransactionsRx(eq(ACCOUNT_ID), any(HashMap.class), any(List.class))).thenReturn(Observable.just(response));
+    }
+
+    private void serveTransaction(Data tx) {
+        Transaction transaction = new Transaction();
+        transaction.setData(tx);
+        Pair<Response<Transaction>, retrofit2.Retrofit> response = new Pair(Response.success(transaction), null);
+        when(this.mClient.getTransactionRx(ACCOUNT_ID, tx.getId())).thenReturn(Observable.just(response));
+    }
+
+    private void insert(List<Data> transactions) {
+        SQLiteDatabase db = this.mDbManager.openDatabase();
+        try {
+            TransactionORM.insertOrUpdate(db, ACCOUNT_ID, transactions);
+        } finally {
+            this.mDbManager.closeDatabase();
+        }
+    }
+
+    private String status(String id) {
+        SQLiteDatabase db = this.mDbManager.openDatabase();
+        try {
+            return TransactionORM.getStatus(db, ACCOUNT_ID, id);
+        } finally {
+            this.mDbManager.closeDatabase();
+        }
+    }
+
+    private int count() {
+        SQLiteDatabase db = this.mDbManager.openDatabase();
+        try {
+            return TransactionORM.getTransactions(db, ACCOUNT_ID).size();
+        } finally {
+            this.mDbManager.closeDatabase();
+        }
+    }
+
+    static Data transaction(String id, String createdAt, String status) {
+        Data tx = new Data();
+        tx.setId(id);
+        tx.setCreatedAt(createdAt);
+        tx.setStatus(status);
+        tx.setDelayed(Boolean.FALSE);
+        return tx;
+    }
+
+    static String createdAt(int day) {
+        return String.format("2017-%02d-%02dT00:00:00Z", Integer.valueOf((day / 28) + 1), Integer.valueOf((day % 28) + 1));
+    }
+}
@@ -0,0 +1,180 @@
+package com.coinbase.android.transfers;
+
+import com.coinbase.android.BuildConfig;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Builds a ContactsIndex over 50k contacts and types prefixes of their names into it one keystroke
+ * at a time, printing the build time and the mean time per keystroke. For comparison it answers the
+ * same keystrokes with a linear scan over the emails, and with a blocking contacts request to a
+ * local server per keystroke as the adapter did before the index. TextUtils needs the Android
+ * framework, so this runs under Robolectric rather than JMH.
+ *
+ * <p>Run with {@code gradle test --tests com.coinbase.android.transfers.ContactsIndexBenchmark}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class ContactsIndexBenchmark {
+    private static final int CONTACTS = 50000;
+    private static final String[] DOMAINS = new String[]{"gmail.com", "yahoo.com", "outlook.com", "coinbase.com", "example.org"};
+    private static final String[] FIRST_NAMES = new String[]{"alice", "bob", "carol", "dave", "erin", "frank", "grace", "heidi", "ivan", "judy", "mallory", "niaj", "olivia", "peggy", "rupert", "sybil", "trent", "victor", "walter", "zoe"};
+    private static final String[] LAST_NAMES = new String[]{"anderson", "brown", "clark", "davis", "evans", "garcia", "harris", "jackson", "johnson", "lee", "lopez", "martin", "miller", "moore", "nguyen", "smith", "taylor", "thomas", "walker", "wilson"};
+    private static final int SERVER_KEYSTROKES = 200;
+    private static final int TYPED_CONTACTS = 500;
+    private static final int TYPED_LENGTH = 6;
+
+    @Test
+    public void searchFiftyThousandContacts() throws IOException {
+        List<String> emails = emails(CONTACTS);
+        List<String> keystrokes = keystrokes(emails);
+
+        for (int i = 0; i < 3; i++) {
+            search(index(emails), keystrokes);
+            scan(emails, keystrokes);
+        }
+        long start = System.nanoTime();
+        ContactsIndex index = index(emails);
+        report("index", "build " + CONTACTS, System.nanoTime() - start, 1);
+        assertEquals(CONTACTS, index.size());
+
+        start = System.nanoTime();
+        int found = search(index, keystrokes);
+        report("index", "keystroke", System.nanoTime() - start, keystrokes.size());
+        start = System.nanoTime();
+        int scanned = scan(emails, keystrokes);
+        report("scan", "keystroke", System.nanoTime() - start, keystrokes.size());
+        assertEquals(scanned, found);
+
+        MockWebServer server = new MockWebServer();
+        final String page = contactsPage(emails.subList(0, ContactsCache.CONTACTS_PAGE_SIZE));
+        server.setDispatcher(new Dispatcher() {
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setBody(page);
+            }
+        });
+        server.start();
+        try {
+            List<String> typed = keystrokes.subList(0, SERVER_KEYSTROKES);
+            start = System.nanoTime();
+            for (String prefix : typed) {
+                fetch(server, prefix);
+            }
+            report("server", "keystroke", System.nanoTime() - start, typed.size());
+            assertEquals(SERVER_KEYSTROKES, server.getRequestCount());
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    private static ContactsIndex index(List<String> emails) {
+        ContactsIndex index = new ContactsIndex();
+        assertTrue(index.addAll(emails));
+        return index;
+    }
+
+    private static int search(ContactsIndex index, List<String> keystrokes) {
+        int found = 0;
+        for (String prefix : keystrokes) {
+            found += index.search(prefix, ContactsCache.MAX_SUGGESTIONS).size();
+        }
+        return found;
+    }
+
+    /**
+     * The same matches as {@link ContactsIndex#search}: a prefix of the email or of a word of its
+     * local part, up to the suggestion limit, found by looking at every email.
+     */
+    private static int scan(List<String> emails, List<String> keystrokes) {
+        int found = 0;
+        for (String prefix : keystrokes) {
+            int matches = 0;
+            for (int i = 0; i < emails.size() && matches < ContactsCache.MAX_SUGGESTIONS; i++) {
+                String email = (String) emails.get(i);
+                int at = email.indexOf(64);
+                if (email.startsWith(prefix) || (email.indexOf("." + prefix) >= 0 && email.indexOf("." + prefix) < at)) {
+                    matches++;
+                }
+            }
+            found += matches;
+        }
+        return found;
+    }
+
+    private static void fetch(MockWebServer server, String prefix) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) server.url("/api/v1/contacts?query=" + prefix).url().openConnection();
+        try {
+            InputStream in = connection.getInputStream();
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+            }
+            in.close();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Distinct "first.last" style emails, with a number appended once the name combinations run
+     * out, in random order.
+     */
+    static List<String> emails(int count) {
+        Random random = new Random(42);
+        List<String> emails = new ArrayList(count);
+        for (int i = 0; i < count; i++) {
+            int name = i % (FIRST_NAMES.length * LAST_NAMES.length);
+            emails.add(FIRST_NAMES[name % FIRST_NAMES.length] + "." + LAST_NAMES[name / FIRST_NAMES.length] + (i / (FIRST_NAMES.length * LAST_NAMES.length)) + "@" + DOMAINS[random.nextInt(DOMAINS.length)]);
+        }
+        Collections.shuffle(emails, random);
+        return emails;
+    }
+
+    /**
+     * Every keystroke of typing the first and the last name of a sample of the contacts.
+     */
+    private static List<String> keystrokes(List<String> emails) {
+        Random random = new Random(7);
+        List<String> keystrokes = new ArrayList();
+        for (int i = 0; i < TYPED_CONTACTS; i++) {
+            String email = (String) emails.get(random.nextInt(emails.size()));
+            String first = email.substring(0, email.indexOf(46));
+            String last = email.substring(email.indexOf(46) + 1, email.indexOf(64));
+            for (int length = 1; length <= TYPED_LENGTH; length++) {
+                keystrokes.add(first.substring(0, Math.min(length, first.length())));
+                keystrokes.add(last.substring(0, Math.min(length, last.length())));
+            }
+        }
+        return keystrokes;
+    }
+
+    private static String contactsPage(List<String> emails) {
+        StringBuilder json = new StringBuilder("{\"contacts\":[");
+        for (int i = 0; i < emails.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"contact\":{\"email\":\"").append((String) emails.get(i)).append("\"}}");
+        }
+        return json.append("],\"total_count\":").append(emails.size()).append(",\"num_pages\":1,\"current_page\":1}").toString();
+    }
+
+    private static void report(String variant, String operation, long nanos, int count) {
+        System.out.println(String.format("%-8s %-20s %10d us", variant, operation, Long.valueOf(nanos / 1000 / count)));
+    }
+}
@@ -0,0 +1,130 @@
+package com.coinbase.android.utils;
+
+import android.app.Application;
+import com.coinbase.android.ui.CurrenciesUpdatedConnector;
+import com.coinbase.api.internal.models.currency.Data;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.joda.money.BigMoney;
+import org.joda.money.BigMoneyProvider;
+import org.joda.money.CurrencyUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Formats and parses 100k mixed fiat and crypto amounts per invocation, as a long transaction list
+ * or a price chart would. The legacy variant builds a MoneyFormatter and a NumberFormat for every
+ * amount, parses through a double, and checks crypto codes under a lock, as MoneyFormatterUtil did
+ * before its formatters were cached.
+ *
+ * <p>Run from the test classpath with {@code org.openjdk.jmh.Main MoneyFormatterUtilBenchmark};
+ * add {@code -prof gc} to compare allocations per amount.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyFormatterUtilBenchmark {
+    private static final int AMOUNTS = 100000;
+    private static final String[] CRYPTO_CODES = new String[]{"BTC", "ETH", "LTC", "BCH"};
+    private static final String[] FIAT_CODES = new String[]{"USD", "EUR", "GBP", "JPY", "CAD"};
+    private String[] mAmounts;
+    private String[] mCurrencies;
+    private LegacyMoneyFormatterUtil mLegacy;
+    private BigMoneyProvider[] mMoney;
+    private List<Set<MoneyFormatterUtil.Options>> mOptions;
+    private MoneyFormatterUtil mUtil;
+
+    @Setup
+    public void setUp() {
+        CurrenciesUpdatedConnector connector = new CurrenciesUpdatedConnector(mock(Application.class));
+        List<Data> currencies = new ArrayList();
+        Set<String> cryptoCodes = new HashSet();
+        for (String code : CRYPTO_CODES) {
+            Data currency = mock(Data.class);
+            when(currency.getCode()).thenReturn(code);
+            when(Integer.valueOf(currency.getExponent())).thenReturn(Integer.valueOf(8));
+            currencies.add(currency);
+            cryptoCodes.add(code);
+        }
+        connector.registerCurrencies(currencies);
+        this.mUtil = new MoneyFormatterUtil(connector);
+        this.mLegacy = new LegacyMoneyFormatterUtil(cryptoCodes);
+
+        this.mOptions = new ArrayList();
+        this.mOptions.add(EnumSet.of(MoneyFormatterUtil.Options.NONE));
+        this.mOptions.add(EnumSet.of(MoneyFormatterUtil.Options.ROUND_2_DIGITS));
+        this.mOptions.add(EnumSet.of(MoneyFormatterUtil.Options.EXCLUDE_CURRENCY_SYMBOL, MoneyFormatterUtil.Options.STRIP_TRAILING_ZEROS));
+        this.mOptions.add(EnumSet.of(MoneyFormatterUtil.Options.PREFIX_SIGNED, MoneyFormatterUtil.Options.INCLUDE_PARENTHESIS));
+        this.mOptions.add(EnumSet.of(MoneyFormatterUtil.Options.ROUND_8_DIGITS));
+
+        Random random = new Random(42);
+        this.mMoney = new BigMoneyProvider[AMOUNTS];
+        this.mAmounts = new String[AMOUNTS];
+        this.mCurrencies = new String[AMOUNTS];
+        for (int i = 0; i < AMOUNTS; i++) {
+            boolean crypto = random.nextInt(3) == 0;
+            String code = crypto ? CRYPTO_CODES[random.nextInt(CRYPTO_CODES.length)] : FIAT_CODES[random.nextInt(FIAT_CODES.length)];
+            int scale = crypto ? 8 : CurrencyUnit.of(code).getDecimalPlaces();
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong() % 100000000000L, scale);
+            this.mMoney[i] = BigMoney.of(CurrencyUnit.of(code), amount);
+            this.mAmounts[i] = amount.toPlainString();
+            this.mCurrencies[i] = code;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public void formatCurrent(Blackhole blackhole) {
+        int optionCount = this.mOptions.size();
+        for (int i = 0; i < AMOUNTS; i++) {
+            blackhole.consume(this.mUtil.formatMoney(this.mMoney[i], (Set) this.mOptions.get(i % optionCount)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public void formatLegacy(Blackhole blackhole) {
+        int optionCount = this.mOptions.size();
+        for (int i = 0; i < AMOUNTS; i++) {
+            blackhole.consume(this.mLegacy.formatMoney(this.mMoney[i], (Set) this.mOptions.get(i % optionCount)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public void parseCurrent(Blackhole blackhole) {
+        for (int i = 0; i < AMOUNTS; i++) {
+            blackhole.consume(this.mUtil.moneyFromValue(this.mCurrencies[i], this.mAmounts[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public void parseLegacy(Blackhole blackhole) {
+        for (int i = 0; i < AMOUNTS; i++) {
+            blackhole.consume(this.mLegacy.moneyFromValue(this.mCurrencies[i], this.mAmounts[i]));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.coinbase.android.utils.analytics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tracks 1,000 events the way MixpanelTracking used to, building the properties, sending user
+ * properties, tracking and flushing on the calling thread, and then through AnalyticsPipeline. It
+ * prints the calling thread's time and the number of uploads each way. The sink stands in for the
+ * SDKs: it serializes the properties as they would and counts every flush as one upload request.
+ *
+ * <p>Run with {@code gradle test --tests com.coinbase.android.utils.analytics.AnalyticsPipelineBenchmark}.
+ */
+public class AnalyticsPipelineBenchmark {
+    private static final int EVENTS = 1000;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int WARMUP_ROUNDS = 5;
+
+    static final class CountingSink implements AnalyticsPipeline.Sink {
+        final AtomicInteger mDelivered = new AtomicInteger();
+        final AtomicInteger mUploads = new AtomicInteger();
+        volatile int mSerializedLength;
+
+        public void deliver(String eventName, Map<String, ?> properties) {
+            this.mSerializedLength = serialize(eventName, properties).length();
+            this.mDelivered.incrementAndGet();
+        }
+
+        public void flush() {
+            this.mUploads.incrementAndGet();
+        }
+
+        void setUserProperties(Map<String, ?> properties) {
+            this.mSerializedLength = serialize("$identify", properties).length();
+        }
+    }
+
+    @Test
+    public void trackOneThousandEvents() throws InterruptedException {
+        Map<String, Object> properties = new HashMap();
+        properties.put("account_currency", "BTC");
+        properties.put("amount", "0.10000000");
+        properties.put("payment_method", "bank");
+        properties.put("source", "dashboard");
+        Map<String, Object> userProperties = new HashMap();
+        userProperties.put("version_code", Integer.valueOf(4150));
+        userProperties.put("split_test_groups", "[\"new_dashboard - enabled\"]");
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            legacy(properties, userProperties);
+            pipeline(properties);
+        }
+        long legacyNanos = 0;
+        long pipelineNanos = 0;
+        int legacyUploads = 0;
+        int pipelineUploads = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long[] legacy = legacy(properties, userProperties);
+            legacyNanos += legacy[0];
+            legacyUploads += (int) legacy[1];
+            long[] pipeline = pipeline(properties);
+            pipelineNanos += pipeline[0];
+            pipelineUploads += (int) pipeline[1];
+        }
+        report("legacy", legacyNanos, legacyUploads);
+        report("pipeline", pipelineNanos, pipelineUploads);
+        assertEquals(EVENTS * MEASURED_ROUNDS, legacyUploads);
+        // The pipeline only uploads by count here; the remainder of each round waits for the timer.
+        assertTrue(pipelineUploads <= (EVENTS / AnalyticsPipeline.FLUSH_EVENT_COUNT) * MEASURED_ROUNDS);
+    }
+
+    /**
+     * What trackEvent did on the calling thread before: build the properties, resend the user
+     * properties, track and flush.
+     */
+    private static long[] legacy(Map<String, ?> properties, Map<String, ?> userProperties) {
+        CountingSink sink = new CountingSink();
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            sink.setUserProperties(userProperties);
+            sink.deliver("buy_tapped_confirm", new HashMap(properties));
+            sink.flush();
+        }
+        return new long[]{System.nanoTime() - start, (long) sink.mUploads.get()};
+    }
+
+    private static long[] pipeline(Map<String, ?> properties) throws InterruptedException {
+        CountingSink sink = new CountingSink();
+        AnalyticsPipeline pipeline = new AnalyticsPipeline(sink);
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            pipeline.enqueue("buy_tapped_confirm", new HashMap(properties));
+        }
+        long elapsed = System.nanoTime() - start;
+        // The pipeline thread is serial, so this runs after every event has been delivered.
+        final CountDownLatch delivered = new CountDownLatch(1);
+        pipeline.execute(new Runnable() {
+            public void run() {
+                delivered.countDown();
+            }
+        });
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        assertEquals(EVENTS, sink.mDelivered.get());
+        return new long[]{elapsed, (long) sink.mUploads.get()};
+    }
+
+    static String serialize(String eventName, Map<String, ?> properties) {
+        StringBuilder json = new StringBuilder("{\"event\":\"").append(eventName).append("\",\"properties\":{");
+        boolean first = true;
+        for (Entry<String, ?> entry : properties.entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append('"').append((String) entry.getKey()).append("\":\"").append(entry.getValue()).append('"');
+        }
+        return json.append("}}").toString();
+    }
+
+    private static void report(String variant, long nanos, int uploads) {
+        System.out.println(String.format("%-8s %8d us caller time %6d uploads per %d events", variant, Long.valueOf(nanos / 1000 / MEASURED_ROUNDS), Integer.valueOf(uploads / MEASURED_ROUNDS), Integer.valueOf(EVENTS)));
+    }
+}
@@ -0,0 +1,238 @@
+package com.coinbase.api;
+
+import android.app.Application;
+import android.content.SharedPreferences;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import com.coinbase.android.Constants;
+import com.coinbase.android.db.DatabaseManager;
+import com.coinbase.android.settings.UserUpdatedConnector;
+import com.coinbase.android.ui.SignOutConnector;
+import com.coinbase.api.internal.CoinbaseInternal;
+import com.coinbase.v2.models.account.Data;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import rx.schedulers.Schedulers;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * getAccounts() calls per second from several threads. The legacy variant adds the
+ * SharedPreferences read and comparison every call used to make before the active account id was
+ * kept in the snapshot.
+ *
+ * <p>Run from the test classpath with {@code org.openjdk.jmh.Main LoginManagerAccountsBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoginManagerAccountsBenchmark {
+    private static final int ACCOUNT_COUNT = 50;
+    private LoginManager mLoginManager;
+    private SharedPreferences mSharedPrefs;
+
+    /**
+     * Takes one lock per read and write, as SharedPreferencesImpl does.
+     */
+    static final class LockedSharedPreferences implements SharedPreferences {
+        private final Object mLock = new Object();
+        private final Map<String, Object> mMap = new HashMap();
+
+        final class LockedEditor implements Editor {
+            private final Map<String, Object> mModified = new HashMap();
+
+            public Editor putString(String key, String value) {
+                this.mModified.put(key, value);
+                return this;
+            }
+
+            public Editor putStringSet(String key, Set<String> values) {
+                this.mModified.put(key, values);
+                return this;
+            }
+
+            public Editor putInt(String key, int value) {
+                this.mModified.put(key, Integer.valueOf(value));
+                return this;
+            }
+
+            public Editor putLong(String key, long value) {
+                this.mModified.put(key, Long.valueOf(value));
+                return this;
+            }
+
+            public Editor putFloat(String key, float value) {
+                this.mModified.put(key, Float.valueOf(value));
+                return this;
+            }
+
+            public Editor putBoolean(String key, boolean value) {
+                this.mModified.put(key, Boolean.valueOf(value));
+                return this;
+            }
+
+            public Editor remove(String key) {
+                this.mModified.put(key, null);
+                return this;
+            }
+
+            public Editor clear() {
+                synchronized (LockedSharedPreferences.this.mLock) {
+                    LockedSharedPreferences.this.mMap.clear();
+                }
+                return this;
+            }
+
+            public boolean commit() {
+                apply();
+                return true;
+            }
+
+            public void apply() {
+                synchronized (LockedSharedPreferences.this.mLock) {
+                    LockedSharedPreferences.this.mMap.putAll(this.mModified);
+                }
+            }
+        }
+
+        private Object get(String key) {
+            Object obj;
+            synchronized (this.mLock) {
+                obj = this.mMap.get(key);
+            }
+            return obj;
+        }
+
+        public Map<String, ?> getAll() {
+            Map hashMap;
+            synchronized (this.mLock) {
+                hashMap = new HashMap(this.mMap);
+            }
+            return hashMap;
+        }
+
+        public String getString(String key, String defValue) {
+            String value = (String) get(key);
+            return value != null ? value : defValue;
+        }
+
+        public Set<String> getStringSet(String key, Set<String> defValues) {
+            Set<String> values = (Set) get(key);
+            return values != null ? values : defValues;
+        }
+
+        public int getInt(String key, int defValue) {
+            Integer value = (Integer) get(key);
+            return value != null ? value.intValue() : defValue;
+        }
+
+        public long getLong(String key, long defValue) {
+            Long value = (Long) get(key);
+            return value != null ? value.longValue() : defValue;
+        }
+
+        public float getFloat(String key, float defValue) {
+            Float value = (Float) get(key);
+            return value != null ? value.floatValue() : defValue;
+        }
+
+        public boolean getBoolean(String key, boolean defValue) {
+            Boolean value = (Boolean) get(key);
+            return value != null ? value.booleanValue() : defValue;
+        }
+
+        public boolean contains(String key) {
+            boolean containsKey;
+            synchronized (this.mLock) {
+                containsKey = this.mMap.containsKey(key);
+            }
+            return containsKey;
+        }
+
+        public Editor edit() {
+            return new LockedEditor();
+        }
+
+        public void registerOnSharedPreferenceChangeListener(OnSharedPreferenceChangeListener listener) {
+        }
+
+        public void unregisterOnSharedPreferenceChangeListener(OnSharedPreferenceChangeListener listener) {
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        this.mSharedPrefs = new LockedSharedPreferences();
+        Cursor cursor = mock(Cursor.class);
+        when(cursor.isAfterLast()).thenReturn(true);
+        SQLiteDatabase db = mock(SQLiteDatabase.class);
+        when(db.query(anyString(), any(String[].class), anyString(), any(String[].class), anyString(), anyString(), anyString())).thenReturn(cursor);
+        DatabaseManager dbManager = mock(DatabaseManager.class);
+        when(dbManager.openDatabase()).thenReturn(db);
+        this.mLoginManager = new LoginManager(mock(Application.class), dbManager, mock(CoinbaseInternal.class), Schedulers.immediate(), new UserUpdatedConnector(), new SignOutConnector(), this.mSharedPrefs);
+        this.mLoginManager.getAccounts();
+        List<Data> accounts = new ArrayList(ACCOUNT_COUNT);
+        for (int i = 0; i < ACCOUNT_COUNT; i++) {
+            Data account = new Data();
+            account.setId("account-" + i);
+            accounts.add(account);
+        }
+        this.mLoginManager.onAccountsSynced(accounts, Collections.<Data>emptyList(), Collections.<Data>emptyList());
+        this.mLoginManager.setActiveAccountId("account-7");
+    }
+
+    private List<Data> getAccountsLegacy() {
+        List<Data> accounts = this.mLoginManager.getAccounts();
+        String activeAccountId = this.mSharedPrefs.getString(Constants.KEY_ACTIVE_ACCOUNT_ID, null);
+        if (activeAccountId == null || !activeAccountId.equals(((Data) accounts.get(0)).getId())) {
+            throw new IllegalStateException();
+        }
+        return accounts;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Data> snapshot4() {
+        return this.mLoginManager.getAccounts();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<Data> snapshot8() {
+        return this.mLoginManager.getAccounts();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Data> legacy4() {
+        return getAccountsLegacy();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<Data> legacy8() {
+        return getAccountsLegacy();
+    }
+}
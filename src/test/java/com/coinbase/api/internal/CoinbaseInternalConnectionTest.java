@@ -0,0 +1,124 @@
+package com.coinbase.api.internal;
+
+import android.util.Pair;
+import com.coinbase.android.BuildConfig;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import retrofit2.Retrofit;
+import rx.schedulers.Schedulers;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Requests through the public and the internal API services against a fake API, checking which
+ * client and connection they use.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class CoinbaseInternalConnectionTest {
+    private static final int REQUESTS = 6;
+    private TestClient mClient;
+    private final MockWebServer mServer = new MockWebServer();
+
+    static final class TestClient extends CoinbaseInternal {
+        TestClient(URL baseUrl) throws IOException {
+            this._baseApiUrl = baseUrl;
+            this._baseV2ApiUrl = new URL(baseUrl, "v2/");
+            this._backgroundScheduler = Schedulers.immediate();
+        }
+
+        protected Interceptor deviceInfoInterceptor() {
+            return passThrough();
+        }
+
+        protected Interceptor networkSniffingInterceptor() {
+            return passThrough();
+        }
+
+        private static Interceptor passThrough() {
+            return new Interceptor() {
+                public okhttp3.Response intercept(Chain chain) throws IOException {
+                    return chain.proceed(chain.request());
+                }
+            };
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        this.mServer.setDispatcher(new Dispatcher() {
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setResponseCode(204);
+            }
+        });
+        this.mServer.start();
+        this.mClient = new TestClient(this.mServer.url("/").url());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        this.mServer.shutdown();
+    }
+
+    @Test
+    public void servicesShareOneConnection() throws InterruptedException {
+        for (int i = 0; i < REQUESTS; i++) {
+            request(i);
+        }
+        for (int i = 0; i < REQUESTS; i++) {
+            assertEquals(i, this.mServer.takeRequest().getSequenceNumber());
+        }
+        assertEquals(1, this.mClient.getPooledConnectionCount());
+    }
+
+    @Test
+    public void disablingHttp2RebuildsCachedServices() throws InterruptedException {
+        request(0);
+        request(1);
+        this.mClient.setHttp2Enabled(false);
+
+        assertEquals(Collections.singletonList(Protocol.HTTP_1_1), protocols((Retrofit) ((Pair) this.mClient.getAccountsRx(new HashMap()).toBlocking().first()).second));
+        assertEquals(Collections.singletonList(Protocol.HTTP_1_1), protocols((Retrofit) ((Pair) this.mClient.getDashboardRx().toBlocking().first()).second));
+        for (int i = 2; i < REQUESTS; i++) {
+            request(i);
+        }
+        this.mServer.takeRequest();
+        this.mServer.takeRequest();
+        // The new root client has its own pool, and every service built on it shares it.
+        for (int i = 0; i < REQUESTS; i++) {
+            assertEquals(i, this.mServer.takeRequest().getSequenceNumber());
+        }
+        assertEquals(1, this.mClient.getPooledConnectionCount());
+    }
+
+    private void request(int i) {
+        if (i % 2 == 0) {
+            // A distinct URL each time, so the single flight window doesn't answer it.
+            HashMap<String, Object> options = new HashMap();
+            options.put(ApiConstants.STARTING_AFTER, "account-" + i);
+            this.mClient.getAccountsRx(options).toBlocking().first();
+        } else {
+            this.mClient.getDashboardRx().toBlocking().first();
+        }
+    }
+
+    private static List<Protocol> protocols(Retrofit retrofit) {
+        return ((OkHttpClient) retrofit.callFactory()).protocols();
+    }
+}
@@ -0,0 +1,132 @@
+package com.coinbase.api.internal;
+
+import com.coinbase.v2.models.account.Balance;
+import com.coinbase.v2.models.account.Currency;
+import com.coinbase.v2.models.account.NativeBalance;
+import com.coinbase.v2.models.price.Price;
+import com.coinbase.v2.models.transactions.Amount;
+import com.coinbase.v2.models.transactions.NativeAmount;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses and writes back one account, transaction or spot price payload. The cold variant builds
+ * its Gson first, as each service and call site did before {@link Serializers}, so every operation
+ * pays for the reflective adapter lookup; the warm variant uses the shared instance after
+ * {@link Serializers#warm()}.
+ *
+ * <p>Run from the test classpath with {@code org.openjdk.jmh.Main SerializersBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializersBenchmark {
+    @Param({"account", "transaction", "spotPrice"})
+    public String payload;
+    private String mJson;
+    private Class<?> mType;
+
+    @Setup
+    public void setUp() {
+        Object model;
+        if ("account".equals(this.payload)) {
+            model = account();
+        } else if ("transaction".equals(this.payload)) {
+            model = transaction();
+        } else {
+            model = spotPrice();
+        }
+        this.mType = model.getClass();
+        this.mJson = Serializers.getGson().toJson(model);
+        Serializers.warm();
+    }
+
+    @Benchmark
+    public String cold() {
+        return roundTrip(new GsonBuilder().registerTypeAdapterFactory(CoinbaseAdapterFactory.create()).create());
+    }
+
+    @Benchmark
+    public String warm() {
+        return roundTrip(Serializers.getGson());
+    }
+
+    private String roundTrip(Gson gson) {
+        return gson.toJson(gson.fromJson(this.mJson, this.mType));
+    }
+
+    private static com.coinbase.v2.models.account.Data account() {
+        com.coinbase.v2.models.account.Data account = new com.coinbase.v2.models.account.Data();
+        account.setId("2bbf394c-193b-5b2a-9155-3b4732659ede");
+        account.setName("BTC Wallet");
+        account.setPrimary(Boolean.TRUE);
+        account.setActive(Boolean.TRUE);
+        account.setType(com.coinbase.v2.models.account.Data.Type.WALLET);
+        Currency currency = new Currency();
+        currency.setCode("BTC");
+        currency.setName("Bitcoin");
+        currency.setColor("#FFB119");
+        currency.setExponent(Integer.valueOf(8));
+        account.setCurrency(currency);
+        Balance balance = new Balance();
+        balance.setAmount("39.59000000");
+        balance.setCurrency("BTC");
+        account.setBalance(balance);
+        NativeBalance nativeBalance = new NativeBalance();
+        nativeBalance.setAmount("395.90");
+        nativeBalance.setCurrency("USD");
+        account.setNativeBalance(nativeBalance);
+        account.setCreatedAt("2015-01-31T20:49:02Z");
+        account.setUpdatedAt("2015-01-31T20:49:02Z");
+        account.setResource("account");
+        account.setResourcePath("/v2/accounts/2bbf394c-193b-5b2a-9155-3b4732659ede");
+        return account;
+    }
+
+    private static com.coinbase.v2.models.transactions.Data transaction() {
+        com.coinbase.v2.models.transactions.Data transaction = new com.coinbase.v2.models.transactions.Data();
+        transaction.setId("57ffb4ae-0c59-5430-bcd3-3f98f797a66c");
+        transaction.setType("send");
+        transaction.setStatus("completed");
+        Amount amount = new Amount();
+        amount.setAmount("-0.00100000");
+        amount.setCurrency("BTC");
+        transaction.setAmount(amount);
+        NativeAmount nativeAmount = new NativeAmount();
+        nativeAmount.setAmount("-0.01");
+        nativeAmount.setCurrency("USD");
+        transaction.setNativeAmount(nativeAmount);
+        transaction.setDescription("Payment for coffee");
+        transaction.setCreatedAt("2015-03-11T13:13:35-07:00");
+        transaction.setUpdatedAt("2015-03-26T15:55:43-07:00");
+        transaction.setResource("transaction");
+        transaction.setResourcePath("/v2/accounts/2bbf394c-193b-5b2a-9155-3b4732659ede/transactions/57ffb4ae-0c59-5430-bcd3-3f98f797a66c");
+        transaction.setInstantExchange(Boolean.FALSE);
+        return transaction;
+    }
+
+    private static Price spotPrice() {
+        com.coinbase.v2.models.price.Data data = new com.coinbase.v2.models.price.Data();
+        data.setBase("BTC");
+        data.setAmount("1015.00");
+        data.setCurrency("USD");
+        Price price = new Price();
+        price.setData(data);
+        return price;
+    }
+}
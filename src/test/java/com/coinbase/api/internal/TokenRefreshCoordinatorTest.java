@@ -0,0 +1,177 @@
+package com.coinbase.api.internal;
+
+import com.coinbase.android.BuildConfig;
+import com.coinbase.api.internal.TokenRefreshCoordinator.TokenStore;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.FormBody;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import rx.schedulers.Schedulers;
+import rx.schedulers.TestScheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Sends many requests with an expired token at once through the OAuth interceptor, against a fake
+ * API and token endpoint.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class TokenRefreshCoordinatorTest {
+    private static final int CONCURRENT_REQUESTS = 50;
+    private static final String FRESH_TOKEN = "fresh";
+    private static final String STALE_TOKEN = "stale";
+    private OkHttpClient mApiClient;
+    private TestClient mClient;
+    private TokenRefreshCoordinator mCoordinator;
+    private final ExecutorService mExecutor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+    private final TestScheduler mMainScheduler = new TestScheduler();
+    private final AtomicInteger mRejections = new AtomicInteger();
+    private volatile boolean mRejectRefresh;
+    private final MockWebServer mServer = new MockWebServer();
+    private final AtomicInteger mTokenRequests = new AtomicInteger();
+    private volatile String mToken = STALE_TOKEN;
+
+    static final class TestClient extends CoinbaseInternal {
+        TestClient(URL oauthUrl, String accessToken) {
+            this._baseOAuthUrl = oauthUrl;
+            this._accessToken = accessToken;
+        }
+
+        synchronized void setAccessToken(String accessToken) {
+            this._accessToken = accessToken;
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        this.mServer.setDispatcher(new Dispatcher() {
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().startsWith("/oauth/token")) {
+                    TokenRefreshCoordinatorTest.this.mTokenRequests.incrementAndGet();
+                    // Long enough for the other requests to fail with the stale token meanwhile.
+                    Thread.sleep(200);
+                    if (TokenRefreshCoordinatorTest.this.mRejectRefresh) {
+                        return new MockResponse().setResponseCode(401);
+                    }
+                    return new MockResponse().setBody(FRESH_TOKEN);
+                }
+                if (("Bearer " + FRESH_TOKEN).equals(request.getHeader("Authorization"))) {
+                    return new MockResponse().setBody("user");
+                }
+                return new MockResponse().setResponseCode(401);
+            }
+        });
+        this.mServer.start();
+        this.mClient = new TestClient(this.mServer.url("/oauth/").url(), STALE_TOKEN);
+        this.mCoordinator = new TokenRefreshCoordinator(new FakeTokenStore(), Schedulers.io(), this.mMainScheduler);
+        this.mClient.setTokenRefreshCoordinator(this.mCoordinator);
+        this.mApiClient = new OkHttpClient.Builder().addInterceptor(this.mClient.buildOAuthInterceptor()).build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        this.mExecutor.shutdownNow();
+        this.mServer.shutdown();
+    }
+
+    @Test
+    public void concurrentUnauthorizedRequestsShareOneRefresh() throws Exception {
+        for (Integer code : sendConcurrently()) {
+            assertEquals(200, code.intValue());
+        }
+        assertEquals(1, this.mTokenRequests.get());
+        assertEquals(1, this.mCoordinator.getRefreshes());
+        assertEquals(CONCURRENT_REQUESTS, this.mCoordinator.getReplays());
+        assertEquals(0, this.mCoordinator.getFailures());
+    }
+
+    @Test
+    public void rejectedRefreshIsTriedAndReportedOnce() throws Exception {
+        this.mRejectRefresh = true;
+        for (Integer code : sendConcurrently()) {
+            assertEquals(401, code.intValue());
+        }
+        // What the app does once a request still fails after the interceptor: it must not refresh
+        // or sign out again.
+        assertNull(this.mCoordinator.awaitRefresh(STALE_TOKEN));
+        assertTrue(this.mCoordinator.isRejected(STALE_TOKEN));
+        this.mMainScheduler.triggerActions();
+
+        assertEquals(1, this.mTokenRequests.get());
+        assertEquals(1, this.mCoordinator.getRefreshes());
+        assertEquals(1, this.mRejections.get());
+        assertEquals(0, this.mCoordinator.getReplays());
+    }
+
+    private List<Integer> sendConcurrently() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures.add(this.mExecutor.submit(new Callable<Integer>() {
+                public Integer call() throws Exception {
+                    start.await();
+                    Response response = TokenRefreshCoordinatorTest.this.mApiClient.newCall(new Request.Builder().url(TokenRefreshCoordinatorTest.this.mServer.url("/v2/user")).build()).execute();
+                    response.body().close();
+                    return Integer.valueOf(response.code());
+                }
+            }));
+        }
+        start.countDown();
+        List<Integer> codes = new ArrayList();
+        for (Future<Integer> future : futures) {
+            codes.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return codes;
+    }
+
+    /**
+     * Stands in for LoginManager: exchanges the refresh token at the fake token endpoint.
+     */
+    final class FakeTokenStore implements TokenStore {
+        private final OkHttpClient mOAuthClient = new OkHttpClient();
+
+        public String getAccessToken() {
+            return TokenRefreshCoordinatorTest.this.mToken;
+        }
+
+        public String refreshAccessToken(boolean ahead) throws IOException {
+            Request request = new Request.Builder().url(TokenRefreshCoordinatorTest.this.mServer.url("/oauth/token")).post(new FormBody.Builder().add("grant_type", "refresh_token").build()).build();
+            Response response = this.mOAuthClient.newCall(request).execute();
+            String body = response.body().string();
+            if (response.code() == 401) {
+                return null;
+            }
+            TokenRefreshCoordinatorTest.this.mToken = body;
+            TokenRefreshCoordinatorTest.this.mClient.setAccessToken(body);
+            return body;
+        }
+
+        public void onRefreshRejected() {
+            TokenRefreshCoordinatorTest.this.mRejections.incrementAndGet();
+        }
+    }
+}
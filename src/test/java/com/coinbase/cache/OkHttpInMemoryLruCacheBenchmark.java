@@ -0,0 +1,124 @@
+package com.coinbase.cache;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Connection;
+import okhttp3.Interceptor;
+import okhttp3.Interceptor.Chain;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cache lookups from 8 to 32 callers at once, with the production cache size. The single lock
+ * variant serializes every lookup, as the cache did when it ended up with one segment.
+ *
+ * <p>Run from the test classpath with {@code org.openjdk.jmh.Main OkHttpInMemoryLruCacheBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OkHttpInMemoryLruCacheBenchmark {
+    private static final int CACHE_SIZE = 524288;
+    private static final MediaType JSON = MediaType.parse("application/json");
+    private static final int URL_COUNT = 64;
+    private Interceptor mInterceptor;
+    private final Object mLock = new Object();
+    private Request[] mRequests;
+
+    static final class NetworkChain implements Chain {
+        private final Request mRequest;
+
+        NetworkChain(Request request) {
+            this.mRequest = request;
+        }
+
+        public Connection connection() {
+            return null;
+        }
+
+        public Request request() {
+            return this.mRequest;
+        }
+
+        public Response proceed(Request request) {
+            return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(200).message("OK").header("Cache-Control", "max-age=3600").body(ResponseBody.create(JSON, "{\"data\":[]}")).build();
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        this.mInterceptor = new OkHttpInMemoryLruCache(CACHE_SIZE).createInterceptor();
+        this.mRequests = new Request[URL_COUNT];
+        for (int i = 0; i < URL_COUNT; i++) {
+            this.mRequests[i] = new Request.Builder().url("https://api.coinbase.com/v2/accounts/" + i).build();
+            this.mInterceptor.intercept(new NetworkChain(this.mRequests[i]));
+        }
+    }
+
+    private Response lookup() throws IOException {
+        Request request = this.mRequests[ThreadLocalRandom.current().nextInt(URL_COUNT)];
+        return this.mInterceptor.intercept(new NetworkChain(request));
+    }
+
+    private Response lookupWithSingleLock() throws IOException {
+        Response lookup;
+        synchronized (this.mLock) {
+            lookup = lookup();
+        }
+        return lookup;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Response segmented8() throws IOException {
+        return lookup();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Response segmented16() throws IOException {
+        return lookup();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Response segmented32() throws IOException {
+        return lookup();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Response singleLock8() throws IOException {
+        return lookupWithSingleLock();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Response singleLock16() throws IOException {
+        return lookupWithSingleLock();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Response singleLock32() throws IOException {
+        return lookupWithSingleLock();
+    }
+}
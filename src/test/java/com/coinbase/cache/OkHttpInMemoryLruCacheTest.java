@@ -0,0 +1,148 @@
+package com.coinbase.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class OkHttpInMemoryLruCacheTest {
+    private static final int CACHE_SIZE = 524288;
+    private static final String ETAG = "\"v1\"";
+    private OkHttpInMemoryLruCache mCache;
+    private OkHttpClient mClient;
+    private final MockWebServer mServer = new MockWebServer();
+    @Rule
+    public final TemporaryFolder mTemporaryFolder = new TemporaryFolder();
+
+    @Before
+    public void setUp() throws IOException {
+        this.mServer.start();
+        this.mCache = new OkHttpInMemoryLruCache(CACHE_SIZE);
+        this.mClient = new OkHttpClient.Builder().addInterceptor(this.mCache.createInterceptor()).build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        this.mServer.shutdown();
+    }
+
+    @Test
+    public void keepsSmallResponsesAcrossSegments() throws IOException {
+        for (int i = 0; i < 32; i++) {
+            this.mServer.enqueue(new MockResponse().setHeader("Cache-Control", "max-age=60").setBody("account " + i));
+        }
+        for (int i = 0; i < 32; i++) {
+            assertEquals("account " + i, get("/v2/accounts/" + i).body().string());
+        }
+        for (int i = 0; i < 32; i++) {
+            assertEquals("account " + i, get("/v2/accounts/" + i).body().string());
+        }
+        assertEquals(32, this.mServer.getRequestCount());
+        assertEquals(32, this.mCache.getHitCount());
+    }
+
+    @Test
+    public void keepsResponsesTooLargeForOneSegment() throws IOException {
+        String body = repeat('x', CACHE_SIZE / 4);
+        this.mServer.enqueue(new MockResponse().setHeader("Cache-Control", "max-age=60").setBody(body));
+
+        assertEquals(body, get("/v2/app/dashboard").body().string());
+        assertEquals(body, get("/v2/app/dashboard").body().string());
+        assertEquals(1, this.mServer.getRequestCount());
+        assertEquals(1, this.mCache.getHitCount());
+    }
+
+    @Test
+    public void skipsResponsesLargerThanMaxEntrySize() throws IOException {
+        String body = repeat('x', CACHE_SIZE);
+        this.mServer.enqueue(new MockResponse().setHeader("Cache-Control", "max-age=60").setBody(body));
+        this.mServer.enqueue(new MockResponse().setHeader("Cache-Control", "max-age=60").setBody(body));
+
+        get("/v2/app/dashboard").body().string();
+        get("/v2/app/dashboard").body().string();
+        assertEquals(2, this.mServer.getRequestCount());
+        assertEquals(0, this.mCache.size());
+    }
+
+    @Test
+    public void revalidatedResponseLooksLikeTheCachedOne() throws Exception {
+        this.mServer.enqueue(new MockResponse().setHeader("ETag", ETAG).setBody("accounts"));
+        this.mServer.enqueue(new MockResponse().setResponseCode(304).setHeader("ETag", ETAG));
+
+        get("/v2/accounts").body().string();
+        Response response = get("/v2/accounts");
+        assertEquals(200, response.code());
+        assertEquals("OK", response.message());
+        assertEquals("accounts", response.body().string());
+        this.mServer.takeRequest();
+        RecordedRequest revalidation = this.mServer.takeRequest();
+        assertEquals(ETAG, revalidation.getHeader("If-None-Match"));
+        assertEquals(1, this.mCache.getRevalidationCount());
+    }
+
+    @Test
+    public void revalidationUpdatesTheDiskTier() throws Exception {
+        File directory = this.mTemporaryFolder.newFolder();
+        OkHttpDiskCacheTier diskTier = OkHttpDiskCacheTier.open(directory, "user", 1048576);
+        this.mCache.setDiskTier(diskTier);
+        this.mCache.setForcedCache(Collections.singleton("/v2/accounts"), TimeUnit.MINUTES.toMillis(1));
+        this.mServer.enqueue(new MockResponse().setHeader("ETag", ETAG).setBody("accounts"));
+        this.mServer.enqueue(new MockResponse().setResponseCode(304).setHeader("ETag", ETAG));
+        HttpUrl url = this.mServer.url("/v2/accounts");
+
+        get("/v2/accounts").body().string();
+        long storedAt = awaitDiskTierEntry(diskTier, url, 0);
+        Thread.sleep(5);
+        get("/v2/accounts").body().string();
+
+        assertEquals(1, this.mCache.getRevalidationCount());
+        assertTrue(awaitDiskTierEntry(diskTier, url, storedAt) > storedAt);
+        assertEquals("OK", diskTier.get(url).message());
+    }
+
+    private Response get(String path) throws IOException {
+        return this.mClient.newCall(new Request.Builder().url(this.mServer.url(path)).build()).execute();
+    }
+
+    /**
+     * Disk tier writes are asynchronous: waits until the entry is stored later than the given
+     * time and returns when it was.
+     */
+    private static long awaitDiskTierEntry(OkHttpDiskCacheTier diskTier, HttpUrl url, long storedAfter) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            OkHttpInMemoryLruCache.CachedResponseBody cached = diskTier.get(url);
+            if (cached != null && cached.storedAtMillis() > storedAfter) {
+                return cached.storedAtMillis();
+            }
+            Thread.sleep(10);
+        }
+        OkHttpInMemoryLruCache.CachedResponseBody cached = diskTier.get(url);
+        assertNotNull(cached);
+        return cached.storedAtMillis();
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}